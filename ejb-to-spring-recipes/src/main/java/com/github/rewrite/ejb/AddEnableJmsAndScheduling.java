@@ -2,6 +2,8 @@
 
 import com.github.rewrite.ejb.config.ProjectConfiguration;
 import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
@@ -14,6 +16,8 @@
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 /**
  * Adds @EnableJms, @EnableScheduling, and @EnableAsync annotations to Spring configuration classes.
@@ -26,6 +30,7 @@
  * If no @Configuration class exists, a new configuration class is generated.
  * When no package is declared, the configuration is generated in the default package.
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class AddEnableJmsAndScheduling extends ScanningRecipe<AddEnableJmsAndScheduling.Accumulator> {
@@ -53,17 +58,21 @@ public String getDescription() {
     }
 
     static class Accumulator {
-        Map<Path, ModuleState> modules = new HashMap<>();
+        final Map<Path, ModuleState> modules = new ConcurrentSkipListMap<>();
     }
 
+    /**
+     * Filled by concurrent scanners. Flags only ever turn on; where several classes qualify, the one with the
+     * smallest source path wins, so the outcome does not depend on the order in which files are scanned.
+     */
     static class ModuleState {
         final Path moduleRoot;
-        boolean hasJmsListener = false;
-        boolean hasScheduled = false;
-        boolean hasAsync = false;
-        boolean hasEnableJms = false;
-        boolean hasEnableScheduling = false;
-        boolean hasEnableAsync = false;
+        volatile boolean hasJmsListener = false;
+        volatile boolean hasScheduled = false;
+        volatile boolean hasAsync = false;
+        volatile boolean hasEnableJms = false;
+        volatile boolean hasEnableScheduling = false;
+        volatile boolean hasEnableAsync = false;
         String configurationClassPath = null;
         String configurationClassName = null;
         String springBootApplicationPath = null;
@@ -71,13 +80,36 @@ static class ModuleState {
         String springBootApplicationClassName = null;
         String firstUsagePath = null;
         String mainSourceRoot = null;
-        Set<String> packages = new HashSet<>();
-        Set<String> usagePackages = new HashSet<>();
-        Set<String> classFqns = new HashSet<>();
+        final Set<String> packages = ConcurrentHashMap.newKeySet();
+        final Set<String> usagePackages = ConcurrentHashMap.newKeySet();
+        final Set<String> classFqns = ConcurrentHashMap.newKeySet();
 
         ModuleState(Path moduleRoot) {
             this.moduleRoot = moduleRoot;
         }
+
+        synchronized void recordConfigurationClass(String path, String className) {
+            if (configurationClassPath == null || path.compareTo(configurationClassPath) < 0) {
+                configurationClassPath = path;
+                configurationClassName = className;
+            }
+        }
+
+        synchronized void recordSpringBootApplication(String path, String pkg, String className) {
+            if (springBootApplicationPath == null || path.compareTo(springBootApplicationPath) < 0) {
+                springBootApplicationPath = path;
+                springBootApplicationPackage = pkg;
+                springBootApplicationClassName = className;
+            }
+        }
+
+        synchronized void recordUsage(String path, String pkg, String sourceRoot) {
+            usagePackages.add(pkg);
+            if (firstUsagePath == null || path.compareTo(firstUsagePath) < 0) {
+                firstUsagePath = path;
+                mainSourceRoot = sourceRoot;
+            }
+        }
     }
 
     static class EnableTargets {
@@ -157,10 +189,7 @@ public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionCon
                         .anyMatch(AddEnableJmsAndScheduling::isConfigurationAnnotation);
 
                     if (isConfig) {
-                        if (module.configurationClassPath == null) {
-                            module.configurationClassPath = sourcePath;
-                            module.configurationClassName = classDecl.getSimpleName();
-                        }
+                        module.recordConfigurationClass(sourcePath, classDecl.getSimpleName());
 
                         for (J.Annotation ann : classDecl.getLeadingAnnotations()) {
                             if (TypeUtils.isOfClassType(ann.getType(), ENABLE_JMS_FQN) ||
@@ -180,13 +209,12 @@ public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionCon
 
                     boolean isBootApp = classDecl.getLeadingAnnotations().stream()
                         .anyMatch(AddEnableJmsAndScheduling::isSpringBootApplicationAnnotation);
-                    if (isBootApp && module.springBootApplicationPath == null) {
-                        module.springBootApplicationPath = sourcePath;
-                        module.springBootApplicationPackage = pkg;
-                        module.springBootApplicationClassName = classDecl.getSimpleName();
+                    if (isBootApp) {
+                        module.recordSpringBootApplication(sourcePath, pkg, classDecl.getSimpleName());
                     }
                 }
 
+                String mainSourceRoot = isMainSource ? extractMainSourceRoot(normalizedPath, config) : null;
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
@@ -194,35 +222,17 @@ public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ct
                         if (TypeUtils.isOfClassType(ann.getType(), JMS_LISTENER_FQN) ||
                             "JmsListener".equals(ann.getSimpleName())) {
                             module.hasJmsListener = true;
-                            module.usagePackages.add(pkg);
-                            if (module.firstUsagePath == null) {
-                                module.firstUsagePath = sourcePath;
-                                if (module.mainSourceRoot == null && isMainSource) {
-                                    module.mainSourceRoot = extractMainSourceRoot(normalizedPath, config);
-                                }
-                            }
+                            module.recordUsage(sourcePath, pkg, mainSourceRoot);
                         }
                         if (TypeUtils.isOfClassType(ann.getType(), SCHEDULED_FQN) ||
                             "Scheduled".equals(ann.getSimpleName())) {
                             module.hasScheduled = true;
-                            module.usagePackages.add(pkg);
-                            if (module.firstUsagePath == null) {
-                                module.firstUsagePath = sourcePath;
-                                if (module.mainSourceRoot == null && isMainSource) {
-                                    module.mainSourceRoot = extractMainSourceRoot(normalizedPath, config);
-                                }
-                            }
+                            module.recordUsage(sourcePath, pkg, mainSourceRoot);
                         }
                         if (TypeUtils.isOfClassType(ann.getType(), ASYNC_FQN) ||
                             "Async".equals(ann.getSimpleName())) {
                             module.hasAsync = true;
-                            module.usagePackages.add(pkg);
-                            if (module.firstUsagePath == null) {
-                                module.firstUsagePath = sourcePath;
-                                if (module.mainSourceRoot == null && isMainSource) {
-                                    module.mainSourceRoot = extractMainSourceRoot(normalizedPath, config);
-                                }
-                            }
+                            module.recordUsage(sourcePath, pkg, mainSourceRoot);
                         }
                         return ann;
                     }
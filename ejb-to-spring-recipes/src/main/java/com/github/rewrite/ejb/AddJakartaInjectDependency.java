@@ -36,6 +36,7 @@
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Adds the jakarta.inject-api dependency when JSR-330 annotations are used
@@ -117,16 +118,19 @@ public String getDescription() {
                "This allows Spring to process JSR-330 annotations natively without migration.";
     }
 
+    /**
+     * Filled by concurrent scanners; the flags only ever turn on.
+     */
     static class Accumulator {
-        boolean needsJakartaInject = false;
-        boolean shouldKeepJsr330 = false;
-        Set<String> modulesNeedingDependency = new HashSet<>();
+        volatile boolean needsJakartaInject = false;
+        volatile boolean shouldKeepJsr330 = false;
+        final Set<String> modulesNeedingDependency = ConcurrentHashMap.newKeySet();
         // Track modules using jakarta.inject (needs jakarta.inject-api even if javax.inject exists)
-        Set<String> modulesUsingJakartaInject = new HashSet<>();
+        final Set<String> modulesUsingJakartaInject = ConcurrentHashMap.newKeySet();
         // WFQ-006: Track modules where jakarta.inject-api dependency already exists
-        Set<String> modulesWithExistingJakartaInject = new HashSet<>();
+        final Set<String> modulesWithExistingJakartaInject = ConcurrentHashMap.newKeySet();
         // Track modules where legacy javax.inject dependency exists
-        Set<String> modulesWithExistingJavaxInject = new HashSet<>();
+        final Set<String> modulesWithExistingJavaxInject = ConcurrentHashMap.newKeySet();
     }
 
     @Override
@@ -145,15 +149,12 @@ public Tree visit(Tree tree, ExecutionContext ctx) {
                     Path sourcePath = cu.getSourcePath();
                     String modulePath = getModulePath(sourcePath != null ? sourcePath.toString() : "");
 
-                    // Check if strategy is keep-jsr330
-                    if (!acc.shouldKeepJsr330) {
-                        acc.shouldKeepJsr330 = shouldKeepJsr330(sourcePath);
-                    }
-
-                    // Only proceed if we should keep JSR-330
-                    if (!acc.shouldKeepJsr330) {
+                    // Only proceed if the strategy of this source is keep-jsr330; deciding per source
+                    // keeps the result independent of the order in which sources are scanned
+                    if (!shouldKeepJsr330(sourcePath)) {
                         return tree;
                     }
+                    acc.shouldKeepJsr330 = true;
 
                     // Check imports for JSR-330 annotations AND @EJB annotations
                     // @EJB will be converted to @Inject when keep-jsr330 strategy is used,
@@ -18,6 +18,7 @@
 import org.openrewrite.xml.XPathMatcher;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Adds JoinFaces dependencies to enable JSF on Spring Boot.
@@ -101,8 +102,12 @@ public String getDescription() {
                "This allows keeping JSF as the UI technology without rewriting to Thymeleaf.";
     }
 
+    /**
+     * Filled by concurrent scanners. Each POM is scanned into an accumulator of its own and then merged, see
+     * {@link #mergePom(String, Accumulator)}.
+     */
     static class Accumulator {
-        boolean hasJsfImport = false;
+        volatile boolean hasJsfImport = false;
         boolean hasPrimeFaces = false;
         boolean hasMyFaces = false;
         boolean hasJoinFaces = false;
@@ -116,9 +121,9 @@ static class Accumulator {
         // P0.3 Codex-Fix 4: Track PrimeFaces 12.x-13.x versions that require review
         boolean primeFacesVersionRequiresReview = false;
         // P0.3: Track Java files that need @NeedsReview for PrimeFaces incompatibility
-        Set<String> jsfClassPaths = new LinkedHashSet<>();
+        final Set<String> jsfClassPaths = ConcurrentHashMap.newKeySet();
         // P0.3: Track pom.xml paths for property resolution
-        Map<String, Map<String, String>> pomProperties = new LinkedHashMap<>();
+        final Map<String, Map<String, String>> pomProperties = new ConcurrentHashMap<>();
         // P2.1: Track BOM positions in dependencyManagement for order validation
         // -1 means not found, otherwise the index position (0-based)
         int springBootBomPosition = -1;
@@ -129,6 +134,38 @@ static class Accumulator {
         String existingJoinfacesBomVersion = null;
         // P2.1 Codex-Fix 1: Track if existing JoinFaces BOM version is unresolved (property placeholder)
         boolean joinfacesBomVersionUnresolved = false;
+        // POMs the PrimeFaces version and the BOM positions were taken from
+        private String primeFacesPomPath = null;
+        private String bomPomPath = null;
+
+        /**
+         * Merges what was found in one POM. Where several POMs declare PrimeFaces or the BOMs, the POM with the
+         * greatest path wins, so the result does not depend on the order in which POMs are scanned.
+         */
+        synchronized void mergePom(String pomPath, Accumulator pom) {
+            pomProperties.putAll(pom.pomProperties);
+            hasMyFaces |= pom.hasMyFaces;
+            hasJoinFaces |= pom.hasJoinFaces;
+            hasSpringBootParent |= pom.hasSpringBootParent;
+            if (pom.hasPrimeFaces) {
+                hasPrimeFaces = true;
+                if (primeFacesPomPath == null || pomPath.compareTo(primeFacesPomPath) > 0) {
+                    primeFacesPomPath = pomPath;
+                    primeFacesVersion = pom.primeFacesVersion;
+                    primeFacesVersionIncompatible = pom.primeFacesVersionIncompatible;
+                    primeFacesVersionUnresolved = pom.primeFacesVersionUnresolved;
+                    primeFacesVersionRequiresReview = pom.primeFacesVersionRequiresReview;
+                }
+            }
+            if ((pom.springBootBomPosition >= 0 || pom.joinfacesBomPosition >= 0)
+                && (bomPomPath == null || pomPath.compareTo(bomPomPath) > 0)) {
+                bomPomPath = pomPath;
+                springBootBomPosition = pom.springBootBomPosition;
+                joinfacesBomPosition = pom.joinfacesBomPosition;
+                existingJoinfacesBomVersion = pom.existingJoinfacesBomVersion;
+                joinfacesBomVersionUnresolved = pom.joinfacesBomVersionUnresolved;
+            }
+        }
     }
 
     @Override
@@ -164,8 +201,9 @@ public Tree visit(Tree tree, ExecutionContext ctx) {
                     Xml.Document doc = (Xml.Document) tree;
                     String sourcePath = doc.getSourcePath().toString();
                     if (sourcePath.endsWith("pom.xml")) {
+                        Accumulator pom = new Accumulator();
                         // P0.3: Extract properties from POM for version resolution
-                        extractPomProperties(doc, sourcePath, acc);
+                        extractPomProperties(doc, sourcePath, pom);
 
                         new MavenIsoVisitor<ExecutionContext>() {
                             @Override
@@ -180,34 +218,34 @@ public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
                                         // Check for PrimeFaces
                                         if (PRIMEFACES_GROUP.equals(groupId) &&
                                             PRIMEFACES_ARTIFACT.equals(artifactId)) {
-                                            acc.hasPrimeFaces = true;
+                                            pom.hasPrimeFaces = true;
                                             // P0.3: Extract and check PrimeFaces version
                                             String version = dep.getVersion();
                                             if (version != null && !version.isEmpty()) {
-                                                acc.primeFacesVersion = version;
+                                                pom.primeFacesVersion = version;
                                                 // P0.3 Codex-Fix 2: Check for unresolved before checking incompatible
-                                                acc.primeFacesVersionUnresolved = isPrimeFacesVersionUnresolved(version);
-                                                if (!acc.primeFacesVersionUnresolved) {
-                                                    acc.primeFacesVersionIncompatible = isPrimeFacesVersionIncompatible(version);
+                                                pom.primeFacesVersionUnresolved = isPrimeFacesVersionUnresolved(version);
+                                                if (!pom.primeFacesVersionUnresolved) {
+                                                    pom.primeFacesVersionIncompatible = isPrimeFacesVersionIncompatible(version);
                                                     // P0.3 Codex-Fix 4: Check if 12.x-13.x requires review
-                                                    if (!acc.primeFacesVersionIncompatible) {
-                                                        acc.primeFacesVersionRequiresReview = isPrimeFacesVersionRequiresReview(version);
+                                                    if (!pom.primeFacesVersionIncompatible) {
+                                                        pom.primeFacesVersionRequiresReview = isPrimeFacesVersionRequiresReview(version);
                                                     }
                                                 }
                                             } else {
                                                 // No version found - treat as unresolved
-                                                acc.primeFacesVersionUnresolved = true;
+                                                pom.primeFacesVersionUnresolved = true;
                                             }
                                         }
 
                                         // Check for MyFaces
                                         if (groupId != null && groupId.startsWith(MYFACES_GROUP)) {
-                                            acc.hasMyFaces = true;
+                                            pom.hasMyFaces = true;
                                         }
 
                                         // Check if JoinFaces already present
                                         if ("org.joinfaces".equals(groupId)) {
-                                            acc.hasJoinFaces = true;
+                                            pom.hasJoinFaces = true;
                                         }
                                     }
                                 }
@@ -215,14 +253,20 @@ public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
                             }
                         }.visit(doc, ctx);
 
+                        // Fallback - POMs whose dependencies could not be resolved have no MavenResolutionResult
+                        if (!doc.getMarkers().findFirst(MavenResolutionResult.class).isPresent()) {
+                            extractDeclaredDependenciesFromXml(doc, pom);
+                        }
+
                         // P0.3: Fallback - scan XML directly for PrimeFaces version if not found via MavenResolutionResult
-                        if (acc.hasPrimeFaces && acc.primeFacesVersion == null) {
-                            extractPrimeFacesVersionFromXml(doc, sourcePath, acc);
+                        if (pom.hasPrimeFaces && pom.primeFacesVersion == null) {
+                            extractPrimeFacesVersionFromXml(doc, sourcePath, pom);
                         }
 
                         // P2.1: Extract BOM positions and check for Spring Boot Parent
-                        extractBomPositions(doc, acc);
-                        checkSpringBootParent(doc, acc);
+                        extractBomPositions(doc, pom);
+                        checkSpringBootParent(doc, pom);
+                        acc.mergePom(sourcePath, pom);
                     }
                 }
                 return tree;
@@ -307,14 +351,14 @@ public Tree visit(Tree tree, ExecutionContext ctx) {
 
                 // 1. Add JoinFaces BOM to dependency management
                 // AddManagedDependency params: groupId, artifactId, version, scope, type,
-                //   classifier, versionPattern, releasesOnly, onlyIfUsing, addToRootPom, because
+                //   classifier, versionPattern, releasesOnly, onlyIfUsing, addToRootPom
                 tree = new AddManagedDependency(
                     "org.joinfaces",
                     "joinfaces-dependencies",
                     JOINFACES_VERSION,
                     "import",
                     "pom",
-                    null, null, null, null, true, null
+                    null, null, null, null, true
                 ).getVisitor().visit(tree, ctx);
 
                 // 2. Add JSF Spring Boot Starter
@@ -431,6 +475,35 @@ public Xml.Tag visitTag(Xml.Tag tag, Map<String, String> props) {
      * P0.3: Extract PrimeFaces version directly from XML when MavenResolutionResult doesn't provide it.
      * This handles cases where the version is defined via a property.
      */
+    /**
+     * Detects PrimeFaces, MyFaces and JoinFaces among the dependencies declared in the POM itself.
+     */
+    private static void extractDeclaredDependenciesFromXml(Xml.Document doc, Accumulator acc) {
+        XPathMatcher dependencyMatcher = new XPathMatcher("/project/dependencies/dependency");
+
+        new org.openrewrite.xml.XmlIsoVisitor<Accumulator>() {
+            @Override
+            public Xml.Tag visitTag(Xml.Tag tag, Accumulator a) {
+                Xml.Tag t = super.visitTag(tag, a);
+                if (dependencyMatcher.matches(getCursor())) {
+                    String groupId = t.getChildValue("groupId").orElse(null);
+                    String artifactId = t.getChildValue("artifactId").orElse(null);
+
+                    if (PRIMEFACES_GROUP.equals(groupId) && PRIMEFACES_ARTIFACT.equals(artifactId)) {
+                        a.hasPrimeFaces = true;
+                    }
+                    if (groupId != null && groupId.startsWith(MYFACES_GROUP)) {
+                        a.hasMyFaces = true;
+                    }
+                    if ("org.joinfaces".equals(groupId)) {
+                        a.hasJoinFaces = true;
+                    }
+                }
+                return t;
+            }
+        }.visit(doc, acc);
+    }
+
     private static void extractPrimeFacesVersionFromXml(Xml.Document doc, String sourcePath, Accumulator acc) {
         XPathMatcher dependencyMatcher = new XPathMatcher("/project/dependencies/dependency");
         XPathMatcher depMgmtMatcher = new XPathMatcher("/project/dependencyManagement/dependencies/dependency");
@@ -612,15 +685,14 @@ public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Ex
                     String suggestedAction = "Upgrade PrimeFaces to version 14.x or higher for Jakarta Faces 4.0 compatibility. " +
                         "See: https://primefaces.github.io/primefaces/14_0_0/#/gettingstarted/whatsnew";
 
-                    JavaTemplate template = JavaTemplate.builder(
+                    JavaTemplate template = JavaTemplates.builder(
                         "@NeedsReview(\n" +
                         "    reason = \"" + reason + "\",\n" +
                         "    category = Category.CONFIGURATION,\n" +
                         "    originalCode = \"org.primefaces:primefaces:" + (primeFacesVersion != null ? primeFacesVersion : "<12.0") + "\",\n" +
                         "    suggestedAction = \"" + suggestedAction + "\"\n" +
                         ")"
-                    ).javaParser(org.openrewrite.java.JavaParser.fromJavaVersion()
-                        .classpath("ejb-to-spring-recipes"))
+                    ).dependsOn(JavaTemplates.NEEDS_REVIEW_STUB)
                     .imports("com.github.rewrite.ejb.annotations.NeedsReview",
                              "com.github.rewrite.ejb.annotations.NeedsReview.Category")
                     .build();
@@ -670,15 +742,14 @@ public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Ex
                         "2. Consider upgrading to PrimeFaces 14.x for guaranteed Faces 4.0 support. " +
                         "3. Test JSF pages thoroughly after JoinFaces migration.";
 
-                    JavaTemplate template = JavaTemplate.builder(
+                    JavaTemplate template = JavaTemplates.builder(
                         "@NeedsReview(\n" +
                         "    reason = \"" + reason + "\",\n" +
                         "    category = Category.CONFIGURATION,\n" +
                         "    originalCode = \"org.primefaces:primefaces:" + (primeFacesVersion != null ? primeFacesVersion : "12.x-13.x") + "\",\n" +
                         "    suggestedAction = \"" + suggestedAction + "\"\n" +
                         ")"
-                    ).javaParser(org.openrewrite.java.JavaParser.fromJavaVersion()
-                        .classpath("ejb-to-spring-recipes"))
+                    ).dependsOn(JavaTemplates.NEEDS_REVIEW_STUB)
                     .imports("com.github.rewrite.ejb.annotations.NeedsReview",
                              "com.github.rewrite.ejb.annotations.NeedsReview.Category")
                     .build();
@@ -728,15 +799,14 @@ public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Ex
                         "2. Verify PrimeFaces >= 12.0 for Jakarta Faces 4.0 compatibility. " +
                         "3. If PrimeFaces < 12.0, upgrade to 14.x before running this recipe again.";
 
-                    JavaTemplate template = JavaTemplate.builder(
+                    JavaTemplate template = JavaTemplates.builder(
                         "@NeedsReview(\n" +
                         "    reason = \"" + reason + "\",\n" +
                         "    category = Category.CONFIGURATION,\n" +
                         "    originalCode = \"org.primefaces:primefaces:" + versionInfo + "\",\n" +
                         "    suggestedAction = \"" + suggestedAction + "\"\n" +
                         ")"
-                    ).javaParser(org.openrewrite.java.JavaParser.fromJavaVersion()
-                        .classpath("ejb-to-spring-recipes"))
+                    ).dependsOn(JavaTemplates.NEEDS_REVIEW_STUB)
                     .imports("com.github.rewrite.ejb.annotations.NeedsReview",
                              "com.github.rewrite.ejb.annotations.NeedsReview.Category")
                     .build();
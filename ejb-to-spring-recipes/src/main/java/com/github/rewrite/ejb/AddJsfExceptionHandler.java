@@ -31,7 +31,8 @@
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 /**
  * Generates a JSF ErrorPageConfiguration for Spring Boot to handle ViewExpiredException.
@@ -148,9 +149,9 @@ private Tree visitJavaSource(J.CompilationUnit cu, Accumulator acc) {
                 for (J.ClassDeclaration classDecl : cu.getClasses()) {
                     for (J.Annotation ann : classDecl.getLeadingAnnotations()) {
                         if ("SpringBootApplication".equals(ann.getSimpleName())) {
-                            moduleState.springBootAppPackage = cu.getPackageDeclaration() != null
+                            moduleState.recordSpringBootApplication(sourcePath, cu.getPackageDeclaration() != null
                                 ? cu.getPackageDeclaration().getPackageName()
-                                : "";
+                                : "");
                         }
                     }
 
@@ -647,20 +648,29 @@ public ErrorPageRegistrar jsfErrorPageRegistrar() {
     }
 
     /**
-     * Tracks per-module state for multi-module support.
+     * Tracks per-module state for multi-module support. Filled by concurrent scanners: the flags only ever turn
+     * on, and of several @SpringBootApplication classes the one with the smallest source path wins.
      */
     static class ModuleState {
-        boolean hasJsfUsage = false;
-        boolean hasExistingHandler = false;
+        volatile boolean hasJsfUsage = false;
+        volatile boolean hasExistingHandler = false;
         String springBootAppPackage = null;
-        Set<String> packages = new LinkedHashSet<>();
+        final Set<String> packages = new ConcurrentSkipListSet<>();
+        private String springBootAppPath = null;
+
+        synchronized void recordSpringBootApplication(String path, String pkg) {
+            if (springBootAppPath == null || path.compareTo(springBootAppPath) <= 0) {
+                springBootAppPath = path;
+                springBootAppPackage = pkg;
+            }
+        }
     }
 
     /**
      * Accumulator that tracks state per source root for multi-module support.
      */
     static class Accumulator {
-        // Map from source root path to module state
-        final Map<String, ModuleState> modules = new ConcurrentHashMap<>();
+        // Map from source root path to module state, sorted so that modules are generated in a stable order
+        final Map<String, ModuleState> modules = new ConcurrentSkipListMap<>();
     }
 }
@@ -2,6 +2,8 @@
 
 import com.github.rewrite.ejb.config.ProjectConfiguration;
 import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
@@ -19,17 +21,23 @@
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 /**
  * Adds a Spring WebMvcConfigurer that enables matrix variables when @MatrixVariable is used.
+ * <p>
+ * The configuration relies on {@link org.springframework.web.util.pattern.PathPatternParser}, which keeps
+ * matrix variables available to the handlers that declare them without turning off semicolon removal in
+ * {@code UrlPathHelper} for every request. The controllers that need it are listed on the generated class.
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class AddMatrixVariableConfiguration extends ScanningRecipe<AddMatrixVariableConfiguration.Accumulator> {
 
     private static final String MATRIX_VARIABLE_FQN = "org.springframework.web.bind.annotation.MatrixVariable";
-    private static final String MATRIX_PARAM_JAVAX = "javax.ws.rs.MatrixParam";
-    private static final String MATRIX_PARAM_JAKARTA = "jakarta.ws.rs.MatrixParam";
     private static final String SPRING_BOOT_APP_FQN = "org.springframework.boot.autoconfigure.SpringBootApplication";
     private static final String MATRIX_CONFIG_METHOD = "setRemoveSemicolonContent";
     private static final String PATTERN_PARSER_METHOD = "setPatternParser";
@@ -37,24 +45,43 @@ public class AddMatrixVariableConfiguration extends ScanningRecipe<AddMatrixVari
     private static final String PATH_MATCH_CONFIGURER_FQN = "org.springframework.web.servlet.config.annotation.PathMatchConfigurer";
 
     static class Accumulator {
-        Map<Path, ModuleState> modules = new HashMap<>();
+        final Map<Path, ModuleState> modules = new ConcurrentSkipListMap<>();
     }
 
+    /**
+     * Filled by concurrent scanners. Flags only ever turn on; where several classes qualify, the one with the
+     * smallest source path wins, so the outcome does not depend on the order in which files are scanned.
+     */
     static class ModuleState {
         final Path moduleRoot;
-        boolean usesMatrixVariables = false;
-        boolean hasMatrixConfig = false;
+        volatile boolean usesMatrixVariables = false;
+        volatile boolean hasMatrixConfig = false;
         String firstMatrixUsagePath = null;
         String mainSourceRoot = null;
         String springBootApplicationPath = null;
         String springBootApplicationPackage = null;
-        Set<String> packages = new HashSet<>();
-        Set<String> usagePackages = new HashSet<>();
-        Set<String> classFqns = new HashSet<>();
+        final Set<String> packages = ConcurrentHashMap.newKeySet();
+        final Set<String> usagePackages = ConcurrentHashMap.newKeySet();
+        final Set<String> classFqns = ConcurrentHashMap.newKeySet();
+        final Set<String> matrixControllers = new ConcurrentSkipListSet<>();
 
         ModuleState(Path moduleRoot) {
             this.moduleRoot = moduleRoot;
         }
+
+        synchronized void recordSpringBootApplication(String path, String pkg) {
+            if (springBootApplicationPath == null || path.compareTo(springBootApplicationPath) < 0) {
+                springBootApplicationPath = path;
+                springBootApplicationPackage = pkg;
+            }
+        }
+
+        synchronized void recordMatrixUsage(String path, String sourceRoot) {
+            if (firstMatrixUsagePath == null || path.compareTo(firstMatrixUsagePath) < 0) {
+                firstMatrixUsagePath = path;
+                mainSourceRoot = sourceRoot;
+            }
+        }
     }
 
     @Override
@@ -107,30 +134,30 @@ public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionCon
 
                     boolean isBootApp = classDecl.getLeadingAnnotations().stream()
                         .anyMatch(AddMatrixVariableConfiguration::isSpringBootApplicationAnnotation);
-                    if (isBootApp && module.springBootApplicationPath == null) {
-                        module.springBootApplicationPath = sourcePath;
-                        module.springBootApplicationPackage = pkg;
+                    if (isBootApp) {
+                        module.recordSpringBootApplication(sourcePath, pkg);
                     }
                 }
 
+                String mainSourceRoot = isMainSource ? extractMainSourceRoot(normalizedPath, config) : null;
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
                         J.Annotation ann = super.visitAnnotation(annotation, ctx);
                         String simpleName = ann.getSimpleName();
                         if (TypeUtils.isOfClassType(ann.getType(), MATRIX_VARIABLE_FQN) ||
-                            TypeUtils.isOfClassType(ann.getType(), MATRIX_PARAM_JAVAX) ||
-                            TypeUtils.isOfClassType(ann.getType(), MATRIX_PARAM_JAKARTA) ||
+                            JavaEeAnnotation.MATRIX_PARAM.matches(ann) ||
                             "MatrixVariable".equals(simpleName) ||
                             "MatrixParam".equals(simpleName)) {
                             module.usesMatrixVariables = true;
                             module.usagePackages.add(pkg);
-                            if (module.firstMatrixUsagePath == null && sourcePath != null) {
-                                module.firstMatrixUsagePath = sourcePath;
-                                if (module.mainSourceRoot == null && isMainSource) {
-                                    module.mainSourceRoot = extractMainSourceRoot(normalizedPath, config);
-                                }
+                            J.ClassDeclaration controller = getCursor().firstEnclosing(J.ClassDeclaration.class);
+                            if (controller != null) {
+                                module.matrixControllers.add(pkg.isEmpty()
+                                    ? controller.getSimpleName()
+                                    : pkg + "." + controller.getSimpleName());
                             }
+                            module.recordMatrixUsage(sourcePath, mainSourceRoot);
                         }
                         return ann;
                     }
@@ -186,7 +213,7 @@ public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionConte
             }
 
             String className = deriveConfigurationClassName(basePackage, module.classFqns);
-            String source = generateConfigurationSource(basePackage, className);
+            String source = generateConfigurationSource(basePackage, className, module.matrixControllers);
 
             String mainSourceRoot = module.mainSourceRoot != null ? module.mainSourceRoot : "src/main/java";
             String relativePath = basePackage.isEmpty()
@@ -349,7 +376,7 @@ private static String deriveConfigurationClassName(String basePackage, Set<Strin
         return candidate;
     }
 
-    private static String generateConfigurationSource(String basePackage, String className) {
+    private static String generateConfigurationSource(String basePackage, String className, Set<String> controllers) {
         StringBuilder source = new StringBuilder();
         if (!basePackage.isEmpty()) {
             source.append("package ").append(basePackage).append(";\n\n");
@@ -358,8 +385,18 @@ private static String generateConfigurationSource(String basePackage, String cla
             .append("import org.springframework.http.server.PathContainer;\n")
             .append("import org.springframework.web.util.pattern.PathPatternParser;\n")
             .append("import org.springframework.web.servlet.config.annotation.PathMatchConfigurer;\n")
-            .append("import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;\n\n")
-            .append("@Configuration\n")
+            .append("import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;\n\n");
+        if (!controllers.isEmpty()) {
+            source.append("/**\n")
+                .append(" * Matrix variables are used by:\n")
+                .append(" * <ul>\n");
+            for (String controller : controllers) {
+                source.append(" *   <li>{@code ").append(controller).append("}</li>\n");
+            }
+            source.append(" * </ul>\n")
+                .append(" */\n");
+        }
+        source.append("@Configuration\n")
             .append("public class ").append(className).append(" implements WebMvcConfigurer {\n")
             .append("    @Override\n")
             .append("    public void configurePathMatch(PathMatchConfigurer configurer) {\n")
@@ -8,6 +8,7 @@
 import org.openrewrite.xml.tree.Xml;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Adds the migration-annotations dependency to Maven POM files when EJB code is detected.
@@ -130,9 +131,9 @@ public String getDescription() {
     }
 
     static class Accumulator {
-        boolean needsMigrationAnnotations = false;
+        volatile boolean needsMigrationAnnotations = false;
         // Track which modules need the dependency
-        Set<String> modulesNeedingDependency = new HashSet<>();
+        final Set<String> modulesNeedingDependency = ConcurrentHashMap.newKeySet();
     }
 
     @Override
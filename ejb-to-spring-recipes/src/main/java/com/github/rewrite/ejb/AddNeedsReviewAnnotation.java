@@ -17,6 +17,8 @@
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.stream.Collectors;
 
 /**
@@ -94,10 +96,14 @@ public String getDescription() {
         return "Creates the @NeedsReview annotation class in the target project for marking code that needs manual review after migration.";
     }
 
+    /**
+     * Scanners may run concurrently: what they collect is kept sorted by path, so generate() sees it in a fixed
+     * order. Everything else is only written by generate().
+     */
     static class Accumulator {
         // Codex P2.1h Round 56: Track ALL annotation files (multi-module support)
         // Key: source path, Value: not used (always patch, AST decides)
-        Map<String, Boolean> annotationFiles = new LinkedHashMap<>();
+        final Map<String, Boolean> annotationFiles = new ConcurrentSkipListMap<>();
         String sourceRoot = null;
         Set<String> detectedSourceRoots = new LinkedHashSet<>();
         // Codex P2.1h Round 58: Track which source roots have NeedsReview.java
@@ -111,9 +117,9 @@ static class Accumulator {
 
         // Codex P2.1h Round 91: Deferred YAML parsing for order-independence
         // Key: yamlPath, Value: yamlContent - parsed in generate() after all files scanned
-        Map<String, String> pendingYamlContents = new LinkedHashMap<>();
+        final Map<String, String> pendingYamlContents = new ConcurrentSkipListMap<>();
         // All Java/Kotlin source paths - detectedSourceRoots computed in generate()
-        Set<String> allSourcePaths = new LinkedHashSet<>();
+        final Set<String> allSourcePaths = new ConcurrentSkipListSet<>();
         // Flag to track if deferred processing has been done
         boolean deferredProcessingDone = false;
     }
@@ -226,7 +232,7 @@ public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Ex
                 List<Statement> statements = body.getStatements();
 
                 // Build the stableKey method declaration
-                JavaTemplate stableKeyTemplate = JavaTemplate.builder(
+                JavaTemplate stableKeyTemplate = JavaTemplates.builder(
                     "/**\n" +
                     " * Codex P2.1h Round 53: Stable key for deterministic matching across cycles.\n" +
                     " * Format: sourcePath#className#ds=N (for DataSource annotations)\n" +
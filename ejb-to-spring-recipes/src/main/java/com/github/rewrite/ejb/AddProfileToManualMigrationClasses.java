@@ -1,5 +1,7 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
@@ -28,6 +30,7 @@
  * This recipe should run AFTER MarkManualMigrations (Phase 2.5) to ensure all
  * MANUAL_MIGRATION classes are already marked.
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class AddProfileToManualMigrationClasses extends Recipe {
@@ -45,10 +45,6 @@ public TreeVisitor<?, ExecutionContext> getVisitor() {
 
     private class AddRemoteTodoVisitor extends JavaIsoVisitor<ExecutionContext> {
 
-        private static final AnnotationMatcher REMOTE_JAVAX_MATCHER =
-            new AnnotationMatcher("@javax.ejb.Remote");
-        private static final AnnotationMatcher REMOTE_JAKARTA_MATCHER =
-            new AnnotationMatcher("@jakarta.ejb.Remote");
         private static final String REMOTE_SIMPLE_NAME = "Remote";
 
         @Override
@@ -57,8 +53,7 @@ public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Ex
 
             // Check if this class has @Remote annotation (with simple-name fallback for unresolved types)
             boolean hasRemote = classDecl.getLeadingAnnotations().stream()
-                .anyMatch(a -> REMOTE_JAVAX_MATCHER.matches(a) || REMOTE_JAKARTA_MATCHER.matches(a)
-                              || isUnresolvedRemote(a));
+                .anyMatch(a -> JavaEeAnnotation.REMOTE.matches(a) || isUnresolvedRemote(a));
 
             if (hasRemote) {
                 // Check if already has @NeedsReview
@@ -244,12 +239,8 @@ private JRightPadded<Expression> createCategoryArg(String categoryName) {
         public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
             J.Annotation a = super.visitAnnotation(annotation, ctx);
 
-            if (REMOTE_JAVAX_MATCHER.matches(a)) {
+            if (JavaEeAnnotation.REMOTE.matches(a)) {
                 maybeRemoveImport("javax.ejb.Remote");
-                //noinspection DataFlowIssue
-                return null; // Remove the annotation
-            }
-            if (REMOTE_JAKARTA_MATCHER.matches(a)) {
                 maybeRemoveImport("jakarta.ejb.Remote");
                 //noinspection DataFlowIssue
                 return null; // Remove the annotation
@@ -7,6 +7,7 @@
 import org.openrewrite.*;
 import org.openrewrite.java.*;
 import org.openrewrite.java.tree.*;
+import org.openrewrite.maven.AddDependency;
 import org.openrewrite.xml.tree.Content;
 import org.openrewrite.xml.tree.Xml;
 
@@ -14,6 +15,10 @@
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import org.openrewrite.text.PlainText;
 
 /**
@@ -25,6 +30,18 @@
  * NOTE: This recipe ONLY generates @SpringBootApplication. Additional annotations like
  * @EnableJms, @EnableScheduling, @EnableAsync are added conditionally by the separate
  * AddEnableJmsAndScheduling recipe (which runs after this one and checks for actual usage).
+ * <p>
+ * With {@code narrowComponentScan}, component scanning is limited to the packages that declare
+ * beans (EJBs, CDI beans, JAX-RS/JAX-WS endpoints, producer and observer classes, Spring
+ * stereotypes): the class gets {@code @SpringBootApplication(scanBasePackages = {...})} and
+ * {@code spring-context-indexer} is added as optional dependency, so startup reads
+ * {@code META-INF/spring.components} instead of scanning the classpath. Once one index is on the
+ * classpath Spring skips jars without one, so the indexer goes into every module declaring beans,
+ * not only the one with the application class. Components generated
+ * directly in the application package by other recipes are registered through a generated
+ * {@code ApplicationPackageComponents} import selector, because scanning the application
+ * package would include all of its subpackages again. Projects that configure
+ * {@code annotationProcessorPaths} must list the indexer there as well.
  */
 @Value
 @EqualsAndHashCode(callSuper = false)
@@ -36,6 +53,37 @@ public class AddSpringBootApplication extends ScanningRecipe<AddSpringBootApplic
             required = false)
     String applicationClassName;
 
+    @Option(displayName = "Narrow component scan",
+            description = "Limit scanBasePackages to packages that declare beans and add spring-context-indexer " +
+                          "so startup uses META-INF/spring.components instead of classpath scanning. Defaults to false.",
+            required = false)
+    Boolean narrowComponentScan;
+
+    static final String SPRING_CONTEXT_INDEXER_VERSION = "6.2.7";
+    private static final String APPLICATION_PACKAGE_COMPONENTS = "ApplicationPackageComponents";
+
+    /**
+     * Class-level annotations (simple names) that make a class a Spring bean after migration.
+     */
+    private static final Set<String> BEAN_DEFINING_ANNOTATIONS = Set.of(
+        // EJB
+        "Stateless", "Stateful", "Singleton", "MessageDriven",
+        // CDI / JSR-330
+        "Named", "ApplicationScoped", "RequestScoped", "SessionScoped", "ConversationScoped", "Dependent",
+        "ViewScoped", "Interceptor", "Decorator",
+        // JAX-RS / JAX-WS / WebSocket endpoints
+        "Path", "Provider", "WebService", "ServerEndpoint",
+        // Spring stereotypes
+        "Component", "Service", "Repository", "Controller", "RestController", "Configuration",
+        "ControllerAdvice", "RestControllerAdvice"
+    );
+
+    /**
+     * Member annotations that make the declaring class a bean (producers become @Configuration,
+     * observers become listener beans).
+     */
+    private static final Set<String> BEAN_MEMBER_ANNOTATIONS = Set.of("Produces", "Bean", "Observes", "ObservesAsync");
+
     @Override
     public String getDisplayName() {
         return "Add Spring Boot Application class";
@@ -48,11 +96,20 @@ public String getDescription() {
     }
 
     public AddSpringBootApplication() {
-        this.applicationClassName = null;
+        this(null, null);
     }
 
     public AddSpringBootApplication(String applicationClassName) {
+        this(applicationClassName, null);
+    }
+
+    public AddSpringBootApplication(String applicationClassName, Boolean narrowComponentScan) {
         this.applicationClassName = applicationClassName;
+        this.narrowComponentScan = narrowComponentScan;
+    }
+
+    private boolean isNarrowComponentScan() {
+        return Boolean.TRUE.equals(narrowComponentScan);
     }
 
     @Override
@@ -140,31 +197,30 @@ public Tree visit(Tree tree, ExecutionContext ctx) {
                     // Collect package names per module (main sources only)
                     if (cu.getPackageDeclaration() != null) {
                         String pkg = cu.getPackageDeclaration().getPackageName();
-                        acc.packagesByModule.computeIfAbsent(moduleRoot, k -> new HashSet<>()).add(pkg);
+                        acc.packagesByModule.computeIfAbsent(moduleRoot, k -> ConcurrentHashMap.newKeySet()).add(pkg);
 
                         // Also collect globally for backward compatibility
                         acc.packages.add(pkg);
 
+                        if (isNarrowComponentScan() && declaresBean(cu)) {
+                            acc.beanPackagesByModule.computeIfAbsent(moduleRoot, k -> new ConcurrentSkipListSet<>()).add(pkg);
+                        }
+
                         // Track source path per module
-                        if (!acc.sourcePathByModule.containsKey(moduleRoot) && cu.getSourcePath() != null) {
-                            acc.sourcePathByModule.put(moduleRoot, cu.getSourcePath());
-
-                            // Detect main source root from the source path
-                            // MEDIUM fix: Load config for the specific module, not just root
-                            Path configRoot = extractProjectRootForModule(cu.getSourcePath(), moduleRoot);
-                            ProjectConfiguration config = ProjectConfigurationLoader.loadWithInheritance(configRoot);
-                            if (config.isMainSource(sourcePath)) {
-                                String mainSourceRoot = extractMainSourceRoot(sourcePath, config);
-                                acc.mainSourceRootByModule.put(moduleRoot, mainSourceRoot);
-                            } else {
+                        if (cu.getSourcePath() != null) {
+                            acc.recordSourcePath(moduleRoot, cu.getSourcePath(), path -> {
+                                // Detect main source root from the source path
+                                // MEDIUM fix: Load config for the specific module, not just root
+                                Path configRoot = extractProjectRootForModule(path, moduleRoot);
+                                ProjectConfiguration config = ProjectConfigurationLoader.loadWithInheritance(configRoot);
+                                if (config.isMainSource(sourcePath)) {
+                                    return extractMainSourceRoot(sourcePath, config);
+                                }
                                 // HIGH fix (Round 3): For non-standard paths not recognized by config,
                                 // detect the actual source root from the path (e.g., src/java)
                                 // MEDIUM fix (Round 4): Pass config to allow checking against configured roots
-                                String detectedSourceRoot = detectSourceRootFromPath(sourcePath, moduleRoot, config);
-                                if (detectedSourceRoot != null) {
-                                    acc.mainSourceRootByModule.put(moduleRoot, detectedSourceRoot);
-                                }
-                            }
+                                return detectSourceRootFromPath(sourcePath, moduleRoot, config);
+                            });
                         }
                     }
                 }
@@ -591,7 +647,15 @@ public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionConte
             // Create the source file (with or without @ComponentScan)
             // Add @NeedsReview when packages have disjoint roots to flag for manual review
             String source;
-            if (needsComponentScan) {
+            Set<String> beanPackages = acc.beanPackagesByModule.getOrDefault(moduleRoot, Collections.emptySet());
+            boolean importApplicationPackage = false;
+            if (isNarrowComponentScan() && !beanPackages.isEmpty()) {
+                Set<String> narrowedPackages = collapseNestedPackages(beanPackages);
+                importApplicationPackage = narrowedPackages.stream()
+                    .noneMatch(p -> basePackage.equals(p) || basePackage.startsWith(p + "."));
+                source = generateNarrowedApplicationSource(basePackage, className, narrowedPackages, importApplicationPackage);
+                acc.narrowedModules.add(moduleRoot);
+            } else if (needsComponentScan) {
                 source = generateApplicationSourceWithComponentScan(basePackage, className, scanPackages, disjointRoots);
             } else {
                 source = generateApplicationSource(basePackage, className);
@@ -613,11 +677,91 @@ public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionConte
                 SourceFile sf = parsed.get(0);
                 generatedFiles.add(sf.withSourcePath(filePath));
             }
+
+            if (importApplicationPackage) {
+                Path selectorPath = filePath.resolveSibling(APPLICATION_PACKAGE_COMPONENTS + ".java");
+                javaParser.parse(generateApplicationPackageComponentsSource(basePackage)).findFirst()
+                    .ifPresent(selector -> generatedFiles.add(selector.withSourcePath(selectorPath)));
+            }
         }
 
         return generatedFiles;
     }
 
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public Tree visit(Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof Xml.Document) || acc.narrowedModules.isEmpty()) {
+                    return tree;
+                }
+                String sourcePath = ((Xml.Document) tree).getSourcePath().toString().replace('\\', '/');
+                if (!sourcePath.endsWith("pom.xml")) {
+                    return tree;
+                }
+                String moduleRoot = extractModuleRootFromPom(sourcePath);
+                if (!acc.narrowedModules.contains(moduleRoot) && !acc.beanPackagesByModule.containsKey(moduleRoot)) {
+                    return tree;
+                }
+                // Annotation processor writing META-INF/spring.components; optional so it is not
+                // propagated to consumers of the module. With an index present Spring only finds
+                // components listed in an index, so every module declaring beans needs one.
+                return new AddDependency(
+                    "org.springframework",
+                    "spring-context-indexer",
+                    SPRING_CONTEXT_INDEXER_VERSION,
+                    null, null, null, null, null, null, true, null, null
+                ).getVisitor().visit(tree, ctx);
+            }
+        };
+    }
+
+    /**
+     * Checks whether the compilation unit declares a class that becomes a Spring bean.
+     */
+    private static boolean declaresBean(J.CompilationUnit cu) {
+        AtomicBoolean found = new AtomicBoolean(false);
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, AtomicBoolean f) {
+                if (classDecl.getLeadingAnnotations().stream()
+                        .anyMatch(a -> BEAN_DEFINING_ANNOTATIONS.contains(a.getSimpleName()))) {
+                    f.set(true);
+                    return classDecl;
+                }
+                return super.visitClassDeclaration(classDecl, f);
+            }
+
+            @Override
+            public J.Annotation visitAnnotation(J.Annotation annotation, AtomicBoolean f) {
+                // Producer/@Bean methods and observer parameters
+                if (BEAN_MEMBER_ANNOTATIONS.contains(annotation.getSimpleName())) {
+                    f.set(true);
+                }
+                return annotation;
+            }
+        }.visit(cu, found);
+        return found.get();
+    }
+
+    /**
+     * Removes packages that are covered by a parent package of the same set
+     * (scanBasePackages entries are recursive).
+     * <p>
+     * Example: [com.a.orders, com.a.orders.internal, com.a.billing] -> [com.a.billing, com.a.orders]
+     */
+    static Set<String> collapseNestedPackages(Set<String> packages) {
+        Set<String> result = new TreeSet<>();
+        for (String pkg : new TreeSet<>(packages)) {
+            boolean covered = result.stream().anyMatch(r -> pkg.equals(r) || pkg.startsWith(r + "."));
+            if (!covered) {
+                result.add(pkg);
+            }
+        }
+        return result;
+    }
+
     /**
      * Computes the minimal set of package roots that cover all given packages.
      * Groups packages by their top-level segment and finds the longest common prefix
@@ -851,27 +995,161 @@ public static void main(String[] args) {
             """, basePackage, packagesArray, className, className);
     }
 
+    /**
+     * Generates the application class for narrowComponentScan: scanning is limited to the bean
+     * packages, components directly in the application package are imported when those packages
+     * do not cover it.
+     */
+    private String generateNarrowedApplicationSource(String basePackage, String className,
+                                                     Set<String> scanPackages, boolean importApplicationPackage) {
+        String packagesArray = scanPackages.stream()
+            .map(p -> "\"" + p + "\"")
+            .reduce((a, b) -> a + ", " + b)
+            .orElse("");
+
+        if (!importApplicationPackage) {
+            return String.format("""
+                package %s;
+
+                import org.springframework.boot.SpringApplication;
+                import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+                @SpringBootApplication(scanBasePackages = {%s})
+                public class %s {
+
+                    public static void main(String[] args) {
+                        SpringApplication.run(%s.class, args);
+                    }
+                }
+                """, basePackage, packagesArray, className, className);
+        }
+
+        return String.format("""
+            package %s;
+
+            import org.springframework.boot.SpringApplication;
+            import org.springframework.boot.autoconfigure.SpringBootApplication;
+            import org.springframework.context.annotation.Import;
+
+            @SpringBootApplication(scanBasePackages = {%s})
+            @Import(%s.class)
+            public class %s {
+
+                public static void main(String[] args) {
+                    SpringApplication.run(%s.class, args);
+                }
+            }
+            """, basePackage, packagesArray, APPLICATION_PACKAGE_COMPONENTS, className, className);
+    }
+
+    private String generateApplicationPackageComponentsSource(String basePackage) {
+        return String.format("""
+            package %s;
+
+            import java.io.IOException;
+            import java.io.UncheckedIOException;
+            import java.util.ArrayList;
+            import java.util.List;
+            import org.springframework.context.ResourceLoaderAware;
+            import org.springframework.context.annotation.ImportSelector;
+            import org.springframework.core.io.Resource;
+            import org.springframework.core.io.ResourceLoader;
+            import org.springframework.core.io.support.ResourcePatternResolver;
+            import org.springframework.core.io.support.ResourcePatternUtils;
+            import org.springframework.core.type.AnnotationMetadata;
+            import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+            import org.springframework.core.type.classreading.MetadataReader;
+            import org.springframework.core.type.classreading.MetadataReaderFactory;
+            import org.springframework.stereotype.Component;
+            import org.springframework.util.ClassUtils;
+
+            /**
+             * Imports the components declared directly in the application package, e.g. configuration
+             * classes generated during the migration. scanBasePackages is limited to the bean packages;
+             * scanning the application package itself would include all of its subpackages.
+             */
+            public class %s implements ImportSelector, ResourceLoaderAware {
+
+                private ResourcePatternResolver resourcePatternResolver;
+                private MetadataReaderFactory metadataReaderFactory;
+
+                @Override
+                public void setResourceLoader(ResourceLoader resourceLoader) {
+                    this.resourcePatternResolver = ResourcePatternUtils.getResourcePatternResolver(resourceLoader);
+                    this.metadataReaderFactory = new CachingMetadataReaderFactory(resourceLoader);
+                }
+
+                @Override
+                public String[] selectImports(AnnotationMetadata importingClassMetadata) {
+                    String applicationClass = importingClassMetadata.getClassName();
+                    String pattern = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX +
+                        ClassUtils.convertClassNameToResourcePath(ClassUtils.getPackageName(applicationClass)) + "/*.class";
+                    List<String> components = new ArrayList<>();
+                    try {
+                        for (Resource resource : resourcePatternResolver.getResources(pattern)) {
+                            MetadataReader reader = metadataReaderFactory.getMetadataReader(resource);
+                            String className = reader.getClassMetadata().getClassName();
+                            if (!className.equals(applicationClass) &&
+                                reader.getClassMetadata().isIndependent() &&
+                                reader.getAnnotationMetadata().isAnnotated(Component.class.getName())) {
+                                components.add(className);
+                            }
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return components.toArray(new String[0]);
+                }
+            }
+            """, basePackage, APPLICATION_PACKAGE_COMPONENTS);
+    }
+
+    /**
+     * Filled by concurrent scanners. The source path of a module is the smallest one seen, so the main source root
+     * derived from it does not depend on the order in which files are scanned.
+     */
     static class Accumulator {
         // Legacy field for backward compatibility with single-module projects
         boolean hasSpringBootApplication = false;
-        Set<String> packages = new HashSet<>();
+        final Set<String> packages = ConcurrentHashMap.newKeySet();
         Path sourcePath = null;
         String mainSourceRoot = null;
 
         // Multi-module support: track modules and their packages separately
         // Module root = "" for root project, "module-name" for submodules
-        Set<String> aggregatorRoots = new HashSet<>();  // POMs with packaging=pom AND <modules>
-        Set<String> moduleRoots = new HashSet<>();       // POMs with jar/war packaging (actual code modules)
-        Set<String> gradleRoots = new HashSet<>();       // HIGH fix (Round 4): Gradle build file locations
-        Set<String> modulesWithApplication = new HashSet<>();  // Modules that already have @SpringBootApplication
-        Map<String, Set<String>> packagesByModule = new HashMap<>();
-        Map<String, Path> sourcePathByModule = new HashMap<>();
-        Map<String, String> mainSourceRootByModule = new HashMap<>();
+        final Set<String> aggregatorRoots = ConcurrentHashMap.newKeySet();  // POMs with packaging=pom AND <modules>
+        final Set<String> moduleRoots = ConcurrentHashMap.newKeySet();       // POMs with jar/war packaging (actual code modules)
+        final Set<String> gradleRoots = ConcurrentHashMap.newKeySet();       // HIGH fix (Round 4): Gradle build file locations
+        final Set<String> modulesWithApplication = ConcurrentHashMap.newKeySet();  // Modules that already have @SpringBootApplication
+        final Map<String, Set<String>> packagesByModule = new ConcurrentHashMap<>();
+        final Map<String, Path> sourcePathByModule = new HashMap<>();
+        final Map<String, String> mainSourceRootByModule = new HashMap<>();
         // Track if we saw POMs with module prefixes (like "ejb-demo/pom.xml")
         // If this is false but moduleRoots contains "", we might be running on a submodule with -pl
-        boolean sawSubmodulePoms = false;
+        volatile boolean sawSubmodulePoms = false;
         // Track if we detected we're running on a submodule (POM has parent with relativePath to parent dir)
-        boolean isSubmoduleRun = false;
+        volatile boolean isSubmoduleRun = false;
+        // narrowComponentScan: packages declaring beans per module, modules that got a narrowed application
+        final Map<String, Set<String>> beanPackagesByModule = new ConcurrentHashMap<>();
+        final Set<String> narrowedModules = new HashSet<>();
+
+        /**
+         * Records the source path of a module unless a smaller one was seen, together with the main source root
+         * derived from it ({@code null} if none could be detected).
+         */
+        synchronized void recordSourcePath(String moduleRoot, Path path, Function<Path, String> sourceRoot) {
+            Path seen = sourcePathByModule.get(moduleRoot);
+            if (seen != null && path.compareTo(seen) >= 0) {
+                return;
+            }
+            sourcePathByModule.put(moduleRoot, path);
+            String root = sourceRoot.apply(path);
+            if (root != null) {
+                mainSourceRootByModule.put(moduleRoot, root);
+            } else {
+                mainSourceRootByModule.remove(moduleRoot);
+            }
+        }
     }
 
     /**
@@ -2,6 +2,8 @@
 
 import com.github.rewrite.ejb.config.ProjectConfiguration;
 import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
@@ -19,6 +21,7 @@
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Adds Spring Boot dependencies to Maven POM files based on detected EJB features.
@@ -42,6 +45,7 @@
  *   <tr><td>Scopes</td><td>@RequestScoped, @SessionScoped</td><td>spring-web (NOT starter-web)</td></tr>
  * </table>
  */
+@RecipeIo(reads = {MigrationArtifact.JAVA, MigrationArtifact.BUILD}, generates = MigrationArtifact.BUILD)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class AddSpringBootDependencies extends ScanningRecipe<AddSpringBootDependencies.Accumulator> {
@@ -163,17 +167,17 @@ public String getDescription() {
     }
 
     static class Accumulator {
-        boolean needsSpringBoot = false;
-        boolean hasScheduling = false;
-        boolean hasJms = false;
-        boolean hasJpa = false;
-        boolean hasWeb = false;
-        boolean hasScopeAnnotations = false;  // Tracks RequestScoped/SessionScoped usage
-        boolean hasSpringBootBom = false;
+        volatile boolean needsSpringBoot = false;
+        volatile boolean hasScheduling = false;
+        volatile boolean hasJms = false;
+        volatile boolean hasJpa = false;
+        volatile boolean hasWeb = false;
+        volatile boolean hasScopeAnnotations = false;  // Tracks RequestScoped/SessionScoped usage
+        volatile boolean hasSpringBootBom = false;
 
         // Track which modules need which starters (path -> features)
-        Map<String, Set<String>> moduleFeatures = new HashMap<>();
-        Map<String, ProjectConfiguration.JmsProvider> moduleJmsProviders = new HashMap<>();
+        final Map<String, Set<String>> moduleFeatures = new ConcurrentHashMap<>();
+        final Map<String, ProjectConfiguration.JmsProvider> moduleJmsProviders = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -193,7 +197,7 @@ public Tree visit(Tree tree, ExecutionContext ctx) {
                     ProjectConfiguration config = ProjectConfigurationLoader.loadWithInheritance(extractProjectRoot(cu.getSourcePath()));
                     acc.moduleJmsProviders.putIfAbsent(modulePath, config.getJmsProvider());
 
-                    Set<String> features = acc.moduleFeatures.computeIfAbsent(modulePath, k -> new HashSet<>());
+                    Set<String> features = acc.moduleFeatures.computeIfAbsent(modulePath, k -> ConcurrentHashMap.newKeySet());
 
                     for (J.Import imp : cu.getImports()) {
                         String importPath = imp.getQualid().toString();
@@ -9,6 +9,7 @@
 import org.openrewrite.xml.tree.Xml;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Adds spring-boot-starter-test dependency when @SpringBootTest is used.
@@ -63,13 +64,13 @@ public String getDescription() {
 
     static class Accumulator {
         // Track if @SpringBootTest is used anywhere
-        boolean hasSpringBootTest = false;
+        volatile boolean hasSpringBootTest = false;
         // Track modules with @SpringBootTest usage
-        Set<String> modulesWithSpringBootTest = new HashSet<>();
+        final Set<String> modulesWithSpringBootTest = ConcurrentHashMap.newKeySet();
         // Track modules that already have spring-boot-starter-test
-        Set<String> modulesWithTestDependency = new HashSet<>();
+        final Set<String> modulesWithTestDependency = ConcurrentHashMap.newKeySet();
         // Track detected Spring Boot version from BOM or parent
-        Map<String, String> detectedSpringBootVersions = new HashMap<>();
+        final Map<String, String> detectedSpringBootVersions = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -23,12 +23,20 @@
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 /**
  * Generates a dev-time Spring Boot wrapper (test source set) that starts the app with Testcontainers.
  * <p>
  * The wrapper is generated in src/test/java and uses @ServiceConnection to auto-wire the container.
  * This enables "start the app and DB comes along" via the test runtime classpath.
+ * <p>
+ * The containers are declared once per module in the {@code DevContainers} interface: JVM-wide singletons,
+ * started in parallel with {@code Startables.deepStart} and marked {@code withReuse(true)}. The dev wrapper and
+ * every test importing {@code @ImportTestcontainers(DevContainers.class)} (or {@code DevContainersConfig}) share
+ * them instead of starting their own containers. When the module uses JMS, a broker container is started
+ * alongside the database.
  */
 @Value
 @EqualsAndHashCode(callSuper = false)
@@ -65,6 +73,8 @@ public class AddTestcontainersDevApplication extends ScanningRecipe<AddTestconta
     String containerImage;
 
     private static final String DEV_CONTAINERS_CONFIG = "DevContainersConfig";
+    private static final String DEV_CONTAINERS = "DevContainers";
+    private static final String TESTCONTAINERS_VERSION = "1.21.4";
 
     public AddTestcontainersDevApplication() {
         this.applicationClassName = null;
@@ -91,7 +101,8 @@ public String getDisplayName() {
     @Override
     public String getDescription() {
         return "Generates a dev-time Spring Boot wrapper (test source set) that starts the " +
-               "application via Testcontainers using @ServiceConnection.";
+               "application via Testcontainers using @ServiceConnection. The database (and JMS broker, if used) " +
+               "containers are shared JVM-wide singletons with reuse support.";
     }
 
     @Override
@@ -116,15 +127,22 @@ public Tree visit(Tree tree, ExecutionContext ctx) {
                     boolean isMainSource = isMainSource(sourcePath, config);
                     String modulePrefix = extractModulePrefix(sourcePath, config);
 
+                    if (isMainSource) {
+                        acc.jmsProvider = config.getJmsProvider();
+                        if (usesJms(cu)) {
+                            acc.jmsUsed = true;
+                        }
+                    }
+
                     if (cu.getPackageDeclaration() != null) {
                         String pkg = cu.getPackageDeclaration().getPackageName();
                         if (isMainSource) {
                             acc.mainPackagesByModule
-                                .computeIfAbsent(modulePrefix, key -> new HashSet<>())
+                                .computeIfAbsent(modulePrefix, key -> new ConcurrentSkipListSet<>())
                                 .add(pkg);
                         }
                         acc.allPackagesByModule
-                            .computeIfAbsent(modulePrefix, key -> new HashSet<>())
+                            .computeIfAbsent(modulePrefix, key -> new ConcurrentSkipListSet<>())
                             .add(pkg);
                     }
 
@@ -132,22 +150,18 @@ public Tree visit(Tree tree, ExecutionContext ctx) {
                         String simpleName = classDecl.getSimpleName();
                         if (isTestSource) {
                             acc.testClassNamesByModule
-                                .computeIfAbsent(modulePrefix, key -> new HashSet<>())
+                                .computeIfAbsent(modulePrefix, key -> ConcurrentHashMap.newKeySet())
                                 .add(simpleName);
-                            // Track the detected test source root for this module
-                            if (!acc.testSourceRootByModule.containsKey(modulePrefix)) {
-                                acc.testSourceRootByModule.put(modulePrefix,
-                                        extractTestSourceRoot(sourcePath, config));
-                            }
+                            // Track the detected test source root for this module, the smallest if it has several
+                            acc.testSourceRootByModule.merge(modulePrefix, extractTestSourceRoot(sourcePath, config),
+                                    (a, b) -> a.compareTo(b) <= 0 ? a : b);
                         }
 
                         for (J.Annotation ann : classDecl.getLeadingAnnotations()) {
                             if ("SpringBootApplication".equals(ann.getSimpleName())) {
-                                acc.springBootApplicationClassName = simpleName;
-                                acc.springBootApplicationModulePrefix = modulePrefix;
-                                if (cu.getPackageDeclaration() != null) {
-                                    acc.springBootApplicationPackage = cu.getPackageDeclaration().getPackageName();
-                                }
+                                acc.recordSpringBootApplication(sourcePath, simpleName, modulePrefix,
+                                        cu.getPackageDeclaration() != null
+                                                ? cu.getPackageDeclaration().getPackageName() : null);
                             }
                         }
                     }
@@ -181,6 +195,10 @@ public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
                                         } else if ("org.mariadb.jdbc".equals(groupId)) {
                                             acc.recordDatabaseType("mariadb");
                                         }
+                                        if ("spring-boot-starter-artemis".equals(dep.getArtifactId()) ||
+                                            "spring-boot-starter-activemq".equals(dep.getArtifactId())) {
+                                            acc.jmsUsed = true;
+                                        }
                                     }
                                 }
                                 return document;
@@ -195,9 +213,8 @@ public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
 
     @Override
     public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
-        String resolvedDbType = resolveDatabaseType(acc);
-        ContainerSpec spec = ContainerSpec.forType(resolvedDbType);
-        if (spec == null) {
+        List<ContainerSpec> containers = resolveContainers(acc);
+        if (containers.isEmpty()) {
             return Collections.emptyList();
         }
 
@@ -221,8 +238,18 @@ public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionConte
         String testSourceRoot = acc.testSourceRootByModule.getOrDefault(modulePrefix, "src/test/java");
 
         Set<String> testClassNames = acc.testClassNamesByModule.getOrDefault(modulePrefix, Collections.emptySet());
+        if (!testClassNames.contains(DEV_CONTAINERS)) {
+            String source = generateDevContainersSource(basePackage, containers);
+            Path filePath = Paths.get(modulePrefix + testSourceRoot + "/" + basePackage.replace('.', '/') + "/" +
+                                      DEV_CONTAINERS + ".java");
+            List<SourceFile> parsed = parser.parse(source).toList();
+            if (!parsed.isEmpty()) {
+                generated.add(parsed.get(0).withSourcePath(filePath));
+            }
+        }
+
         if (!testClassNames.contains(DEV_CONTAINERS_CONFIG)) {
-            String source = generateDevContainersConfigSource(basePackage, spec, resolveContainerImage(spec));
+            String source = generateDevContainersConfigSource(basePackage);
             Path filePath = Paths.get(modulePrefix + testSourceRoot + "/" + basePackage.replace('.', '/') + "/" +
                                       DEV_CONTAINERS_CONFIG + ".java");
             List<SourceFile> parsed = parser.parse(source).toList();
@@ -246,9 +273,8 @@ public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionConte
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
-        String resolvedDbType = resolveDatabaseType(acc);
-        ContainerSpec spec = ContainerSpec.forType(resolvedDbType);
-        if (spec == null) {
+        List<ContainerSpec> containers = resolveContainers(acc);
+        if (containers.isEmpty()) {
             return TreeVisitor.noop();
         }
 
@@ -290,20 +316,22 @@ public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
                     null
                 ).getVisitor().visit(doc, ctx);
 
-                doc = (Xml.Document) new AddDependency(
-                    "org.testcontainers",
-                    spec.artifactId,
-                    "1.21.4",
-                    "",
-                    "test",
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null,
-                    null
-                ).getVisitor().visit(doc, ctx);
+                for (ContainerSpec spec : containers) {
+                    doc = (Xml.Document) new AddDependency(
+                        "org.testcontainers",
+                        spec.artifactId,
+                        TESTCONTAINERS_VERSION,
+                        "",
+                        "test",
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null
+                    ).getVisitor().visit(doc, ctx);
+                }
 
                 return doc;
             }
@@ -353,6 +381,30 @@ private String resolveDatabaseType(Accumulator acc) {
         return null;
     }
 
+    private List<ContainerSpec> resolveContainers(Accumulator acc) {
+        List<ContainerSpec> containers = new ArrayList<>();
+        ContainerSpec database = ContainerSpec.forType(resolveDatabaseType(acc));
+        if (database != null) {
+            containers.add(database.withImage(resolveContainerImage(database)));
+        }
+        ContainerSpec broker = acc.jmsUsed ? ContainerSpec.forJmsProvider(acc.jmsProvider) : null;
+        if (broker != null) {
+            containers.add(broker);
+        }
+        return containers;
+    }
+
+    private static boolean usesJms(J.CompilationUnit cu) {
+        for (J.Import anImport : cu.getImports()) {
+            String typeName = anImport.getTypeName();
+            if (typeName.startsWith("jakarta.jms.") || typeName.startsWith("javax.jms.") ||
+                typeName.startsWith("org.springframework.jms.")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private String resolveModulePrefix(Accumulator acc) {
         if (acc.springBootApplicationModulePrefix != null) {
             return acc.springBootApplicationModulePrefix;
@@ -389,26 +441,69 @@ private String capitalize(String value) {
         return Character.toUpperCase(value.charAt(0)) + value.substring(1);
     }
 
-    private String generateDevContainersConfigSource(String basePackage, ContainerSpec spec, String image) {
+    private String generateDevContainersSource(String basePackage, List<ContainerSpec> containers) {
+        Set<String> imports = new TreeSet<>();
+        imports.add("org.springframework.boot.testcontainers.service.connection.ServiceConnection");
+        imports.add("org.testcontainers.lifecycle.Startables");
+        StringBuilder fields = new StringBuilder();
+        StringBuilder instances = new StringBuilder();
+        StringJoiner started = new StringJoiner(", ");
+        for (ContainerSpec spec : containers) {
+            imports.add(spec.containerImport);
+            String constant = spec.beanMethodName.toUpperCase(Locale.ROOT);
+            String declaredType = spec.containerClass + (spec.generic ? "<?>" : "");
+            fields.append(String.format("""
+
+                    @ServiceConnection
+                    %s %s = Shared.%s;
+                """, declaredType, spec.beanMethodName, constant));
+            instances.append(String.format("""
+                        static final %s %s = new %s%s("%s").withReuse(true);
+                """, declaredType, constant, spec.containerClass, spec.generic ? "<>" : "", spec.defaultImage));
+            started.add(constant);
+        }
+        StringBuilder importLines = new StringBuilder();
+        for (String anImport : imports) {
+            importLines.append("import ").append(anImport).append(";\n");
+        }
+        return String.format("""
+            package %s;
+
+            %s
+            /**
+             * Containers shared by the dev application and all tests of this module.
+             * <p>
+             * The containers are created once per JVM and started in parallel. Tests share them via
+             * {@code @ImportTestcontainers(%s.class)}. With {@code testcontainers.reuse.enable=true} in
+             * {@code ~/.testcontainers.properties} they also keep running between test runs.
+             */
+            public interface %s {
+            %s
+                final class Shared {
+            %s
+                    static {
+                        Startables.deepStart(%s).join();
+                    }
+
+                    private Shared() {
+                    }
+                }
+            }
+            """, basePackage, importLines, DEV_CONTAINERS, DEV_CONTAINERS, fields, instances, started);
+    }
+
+    private String generateDevContainersConfigSource(String basePackage) {
         return String.format("""
             package %s;
 
             import org.springframework.boot.test.context.TestConfiguration;
-            import org.springframework.context.annotation.Bean;
-            import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
-            import %s;
+            import org.springframework.boot.testcontainers.context.ImportTestcontainers;
 
             @TestConfiguration(proxyBeanMethods = false)
+            @ImportTestcontainers(%s.class)
             public class %s {
-
-                @Bean
-                @ServiceConnection
-                %s<?> %s() {
-                    return new %s<>("%s");
-                }
             }
-            """, basePackage, spec.containerImport, DEV_CONTAINERS_CONFIG,
-            spec.containerClass, spec.beanMethodName, spec.containerClass, image);
+            """, basePackage, DEV_CONTAINERS, DEV_CONTAINERS_CONFIG);
     }
 
     private String generateDevWrapperSource(String basePackage, String devClassName, String appClassName) {
@@ -549,17 +644,37 @@ private static String normalizeDbType(String value) {
         return lowered;
     }
 
+    /**
+     * Filled by concurrent scanners. Packages are kept sorted and, of several {@code @SpringBootApplication} classes,
+     * the one with the smallest source path wins, so the result does not depend on the order of scanning.
+     */
     static class Accumulator {
-        final Map<String, Set<String>> mainPackagesByModule = new HashMap<>();
-        final Map<String, Set<String>> allPackagesByModule = new HashMap<>();
-        final Map<String, Set<String>> testClassNamesByModule = new HashMap<>();
-        final Map<String, String> testSourceRootByModule = new HashMap<>();
-        String springBootApplicationClassName;
-        String springBootApplicationPackage;
-        String springBootApplicationModulePrefix;
-        String detectedDatabaseType;
-
-        void recordDatabaseType(String detected) {
+        final Map<String, Set<String>> mainPackagesByModule = new ConcurrentHashMap<>();
+        final Map<String, Set<String>> allPackagesByModule = new ConcurrentHashMap<>();
+        final Map<String, Set<String>> testClassNamesByModule = new ConcurrentHashMap<>();
+        final Map<String, String> testSourceRootByModule = new ConcurrentHashMap<>();
+        private String springBootApplicationPath;
+        volatile String springBootApplicationClassName;
+        volatile String springBootApplicationPackage;
+        volatile String springBootApplicationModulePrefix;
+        volatile String detectedDatabaseType;
+        volatile boolean jmsUsed;
+        volatile ProjectConfiguration.JmsProvider jmsProvider;
+
+        synchronized void recordSpringBootApplication(String path, String className, String modulePrefix,
+                                                      String pkg) {
+            if (springBootApplicationPath != null && path.compareTo(springBootApplicationPath) > 0) {
+                return;
+            }
+            springBootApplicationPath = path;
+            springBootApplicationClassName = className;
+            springBootApplicationModulePrefix = modulePrefix;
+            if (pkg != null) {
+                springBootApplicationPackage = pkg;
+            }
+        }
+
+        synchronized void recordDatabaseType(String detected) {
             if (detected == null) {
                 return;
             }
@@ -578,6 +693,7 @@ static class ContainerSpec {
         final String artifactId;
         final String defaultImage;
         final String beanMethodName;
+        final boolean generic;
 
         ContainerSpec(String type,
                       String containerClass,
@@ -585,12 +701,52 @@ static class ContainerSpec {
                       String artifactId,
                       String defaultImage,
                       String beanMethodName) {
+            this(type, containerClass, containerImport, artifactId, defaultImage, beanMethodName, true);
+        }
+
+        ContainerSpec(String type,
+                      String containerClass,
+                      String containerImport,
+                      String artifactId,
+                      String defaultImage,
+                      String beanMethodName,
+                      boolean generic) {
             this.type = type;
             this.containerClass = containerClass;
             this.containerImport = containerImport;
             this.artifactId = artifactId;
             this.defaultImage = defaultImage;
             this.beanMethodName = beanMethodName;
+            this.generic = generic;
+        }
+
+        ContainerSpec withImage(String image) {
+            return new ContainerSpec(type, containerClass, containerImport, artifactId, image, beanMethodName, generic);
+        }
+
+        static ContainerSpec forJmsProvider(ProjectConfiguration.JmsProvider provider) {
+            if (provider == ProjectConfiguration.JmsProvider.EMBEDDED) {
+                return null;
+            }
+            if (provider == ProjectConfiguration.JmsProvider.ACTIVEMQ) {
+                return new ContainerSpec(
+                    "activemq",
+                    "ActiveMQContainer",
+                    "org.testcontainers.activemq.ActiveMQContainer",
+                    "activemq",
+                    "apache/activemq-classic:5.18.3",
+                    "activemq",
+                    false);
+            }
+            // spring-boot-starter-artemis is the default JMS starter (see AddSpringBootDependencies)
+            return new ContainerSpec(
+                "artemis",
+                "ArtemisContainer",
+                "org.testcontainers.activemq.ArtemisContainer",
+                "activemq",
+                "apache/activemq-artemis:2.31.2-alpine",
+                "artemis",
+                false);
         }
 
         static ContainerSpec forType(String type) {
@@ -0,0 +1,147 @@
+package com.github.rewrite.ejb;
+
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.openrewrite.*;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.maven.AddDependency;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adds the migration-timer-runtime dependency to Maven modules with programmatic EJB timers.
+ * <p>
+ * The runtime implements the {@code com.github.migration.timer} API that {@link MigrateTimerApiToStubs} moves
+ * timer code onto, so the classes {@link EnableTimerRuntime} takes out of the manual-migration profile actually
+ * get a {@code TimerService}. A module needs it when a compilation unit outside the Quartz strategy imports the
+ * migration timer API, or still imports the EJB {@code TimerService}/{@code Timer}/{@code @Timeout} when the
+ * whole migration runs in one run.
+ */
+@RecipeIo(reads = {MigrationArtifact.JAVA, MigrationArtifact.BUILD}, generates = MigrationArtifact.BUILD)
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class AddTimerRuntimeDependency extends ScanningRecipe<AddTimerRuntimeDependency.Accumulator> {
+
+    private static final String TIMER_RUNTIME_GROUP_ID = "com.github.migration";
+    private static final String TIMER_RUNTIME_ARTIFACT_ID = "migration-timer-runtime";
+    private static final String DEFAULT_VERSION = "1.0.0-SNAPSHOT";
+
+    private static final Set<String> TIMER_IMPORTS = Set.of(
+        "com.github.migration.timer.TimerService",
+        "com.github.migration.timer.Timer",
+        "jakarta.ejb.TimerService",
+        "jakarta.ejb.Timer",
+        "jakarta.ejb.Timeout",
+        "javax.ejb.TimerService",
+        "javax.ejb.Timer",
+        "javax.ejb.Timeout"
+    );
+
+    @Override
+    public String getDisplayName() {
+        return "Add migration-timer-runtime dependency";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Adds the migration-timer-runtime Maven dependency to modules whose programmatic EJB timers " +
+               "run on the com.github.migration.timer API.";
+    }
+
+    static class Accumulator {
+        final Set<String> modulesNeedingDependency = ConcurrentHashMap.newKeySet();
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public Tree visit(Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof J.CompilationUnit)) {
+                    return tree;
+                }
+                J.CompilationUnit cu = (J.CompilationUnit) tree;
+                if (TimerStrategySupport.isQuartz(cu)) {
+                    return tree;
+                }
+                for (J.Import imp : cu.getImports()) {
+                    if (TIMER_IMPORTS.contains(imp.getTypeName())) {
+                        acc.modulesNeedingDependency.add(getModulePath(cu.getSourcePath().toString()));
+                        break;
+                    }
+                }
+                return tree;
+            }
+
+            private String getModulePath(String sourcePath) {
+                int srcIndex = sourcePath.indexOf("/src/");
+                if (srcIndex > 0) {
+                    return sourcePath.substring(0, srcIndex);
+                }
+                return "";
+            }
+        };
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        if (acc.modulesNeedingDependency.isEmpty()) {
+            return TreeVisitor.noop();
+        }
+
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public Tree visit(Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof Xml.Document)) {
+                    return tree;
+                }
+
+                Xml.Document doc = (Xml.Document) tree;
+                String sourcePath = doc.getSourcePath().toString();
+                if (!sourcePath.endsWith("pom.xml") || !acc.modulesNeedingDependency.contains(getModulePath(sourcePath))) {
+                    return tree;
+                }
+
+                // Compile scope: the runtime's auto-configuration has to be on the application's classpath
+                // AddDependency: groupId, artifactId, version, versionPattern, scope,
+                // releasesOnly, onlyIfUsing, type, classifier, optional, familyPattern, acceptTransitive
+                return new AddDependency(
+                    TIMER_RUNTIME_GROUP_ID,
+                    TIMER_RUNTIME_ARTIFACT_ID,
+                    DEFAULT_VERSION,
+                    null,        // versionPattern
+                    null,        // scope
+                    null,        // releasesOnly
+                    null,        // onlyIfUsing
+                    null,        // type
+                    null,        // classifier
+                    null,        // optional
+                    null,        // familyPattern
+                    null         // acceptTransitive
+                ).getVisitor().visit(tree, ctx);
+            }
+
+            private String getModulePath(String sourcePath) {
+                int pomIndex = sourcePath.indexOf("/pom.xml");
+                if (pomIndex > 0) {
+                    return sourcePath.substring(0, pomIndex);
+                }
+                return "";
+            }
+        };
+    }
+}
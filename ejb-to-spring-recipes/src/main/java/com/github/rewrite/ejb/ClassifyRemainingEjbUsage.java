@@ -32,6 +32,7 @@
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Classifies remaining EJB usages that haven't been migrated or marked yet.
@@ -110,7 +111,7 @@ public String getDescription() {
 
     static class Accumulator {
         /** Files that contain EJB imports/usages and need processing */
-        Set<String> filesWithEjbUsage = new LinkedHashSet<>();
+        final Set<String> filesWithEjbUsage = ConcurrentHashMap.newKeySet();
         /** Loaded configuration (cached) */
         ProjectConfiguration config = null;
     }
@@ -107,9 +107,12 @@ public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
                     String path = sourceFile.getSourcePath().toString();
 
                     if (path.endsWith("web.xml") && tree instanceof Xml.Document) {
-                        acc.foundWebXml = true;
-                        acc.webXmlPath = path;
-                        scanWebXml((Xml.Document) tree, acc);
+                        // scanners may run concurrently; a project has few web.xml files, so scan them one at a time
+                        synchronized (acc) {
+                            acc.foundWebXml = true;
+                            acc.webXmlPath = path;
+                            scanWebXml((Xml.Document) tree, acc);
+                        }
                     }
                 }
                 return tree;
@@ -40,6 +40,7 @@
 
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Conditionally removes jakarta.ejb-api and javax.ejb-api dependencies.
@@ -158,7 +159,7 @@ static class Accumulator {
         // Track timer usage per source file path (sourcePath -> type found)
         // This stores raw source paths, module resolution is done in visitor phase
         // when all pom.xml directories are known
-        Map<String, Set<String>> sourceFileTimerTypes = new HashMap<>();
+        final Map<String, Set<String>> sourceFileTimerTypes = new ConcurrentHashMap<>();
         // Track details for logging (will be populated in visitor phase)
         Map<String, Set<String>> moduleFoundTypes = new HashMap<>();
         Map<String, Set<String>> moduleFoundFiles = new HashMap<>();
@@ -166,7 +167,7 @@ static class Accumulator {
         List<String> effectiveMainRoots;
         List<String> effectiveTestRoots;
         // Track pom.xml locations discovered during scanning (for module path resolution)
-        Set<String> knownPomDirectories = new HashSet<>();
+        final Set<String> knownPomDirectories = ConcurrentHashMap.newKeySet();
     }
 
     /**
@@ -405,7 +406,7 @@ private void buildFqnRecursive(org.openrewrite.java.tree.Expression expr, String
      * Module resolution is deferred to the visitor phase.
      */
     private static void markSourceAsBlocking(Accumulator acc, String sourcePath, String type) {
-        acc.sourceFileTimerTypes.computeIfAbsent(sourcePath, k -> new HashSet<>()).add(type);
+        acc.sourceFileTimerTypes.computeIfAbsent(sourcePath, k -> ConcurrentHashMap.newKeySet()).add(type);
     }
 
     /**
@@ -101,10 +101,10 @@ public String getDescription() {
      */
     static class ModuleState {
         final Path moduleRoot;
-        boolean hasJsfViewScoped = false;
-        boolean hasApplicationProperties = false;
-        Set<String> existingPropertyKeys = new HashSet<>();
-        boolean alreadyHasMigrationMarker = false;
+        volatile boolean hasJsfViewScoped = false;
+        volatile boolean hasApplicationProperties = false;
+        final Set<String> existingPropertyKeys = ConcurrentHashMap.newKeySet();
+        volatile boolean alreadyHasMigrationMarker = false;
         Path applicationPropertiesPath = null;
 
         ModuleState(Path moduleRoot, Path applicationPropertiesPath) {
@@ -1,5 +1,7 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
@@ -8,14 +10,12 @@
 import org.openrewrite.Cursor;
 import org.openrewrite.Tree;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.Space;
 import org.openrewrite.java.tree.TypeTree;
-import org.openrewrite.java.tree.TypeUtils;
 import org.openrewrite.marker.Markers;
 
 import java.util.ArrayList;
@@ -25,6 +25,7 @@
 /**
  * Converts @EJB(beanInterface=...) to @Autowired and updates the field type to the interface.
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class ConvertEjbBeanInterfaceToAutowired extends Recipe {
@@ -33,11 +34,6 @@ public class ConvertEjbBeanInterfaceToAutowired extends Recipe {
     private static final String JAKARTA_EJB = "jakarta.ejb.EJB";
     private static final String SPRING_AUTOWIRED = "org.springframework.beans.factory.annotation.Autowired";
 
-    private static final AnnotationMatcher JAVAX_EJB_MATCHER =
-        new AnnotationMatcher("@" + JAVAX_EJB);
-    private static final AnnotationMatcher JAKARTA_EJB_MATCHER =
-        new AnnotationMatcher("@" + JAKARTA_EJB);
-
     @Override
     public String getDisplayName() {
         return "Convert @EJB(beanInterface=...) to @Autowired";
@@ -111,11 +107,7 @@ public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations v
 
         private J.Annotation findEjbAnnotation(List<J.Annotation> annotations) {
             for (J.Annotation ann : annotations) {
-                if (JAVAX_EJB_MATCHER.matches(ann) || JAKARTA_EJB_MATCHER.matches(ann)) {
-                    return ann;
-                }
-                if (TypeUtils.isOfClassType(ann.getType(), JAVAX_EJB) ||
-                    TypeUtils.isOfClassType(ann.getType(), JAKARTA_EJB)) {
+                if (JavaEeAnnotation.EJB.matches(ann)) {
                     return ann;
                 }
                 if (ann.getType() == null && "EJB".equals(ann.getSimpleName())) {
@@ -1,5 +1,7 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
@@ -8,7 +10,6 @@
 import org.openrewrite.Recipe;
 import org.openrewrite.Tree;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
@@ -27,6 +28,7 @@
 /**
  * Converts @EJB(beanName=...) to @Autowired + @Qualifier and updates beanInterface type if present.
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class ConvertEjbBeanNameToQualifier extends Recipe {
@@ -36,11 +38,6 @@ public class ConvertEjbBeanNameToQualifier extends Recipe {
     private static final String SPRING_AUTOWIRED = "org.springframework.beans.factory.annotation.Autowired";
     private static final String SPRING_QUALIFIER = "org.springframework.beans.factory.annotation.Qualifier";
 
-    private static final AnnotationMatcher JAVAX_EJB_MATCHER =
-        new AnnotationMatcher("@" + JAVAX_EJB);
-    private static final AnnotationMatcher JAKARTA_EJB_MATCHER =
-        new AnnotationMatcher("@" + JAKARTA_EJB);
-
     @Override
     public String getDisplayName() {
         return "Convert @EJB(beanName=...) to @Qualifier";
@@ -130,11 +127,7 @@ public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations v
 
         private J.Annotation findEjbAnnotation(List<J.Annotation> annotations) {
             for (J.Annotation ann : annotations) {
-                if (JAVAX_EJB_MATCHER.matches(ann) || JAKARTA_EJB_MATCHER.matches(ann)) {
-                    return ann;
-                }
-                if (TypeUtils.isOfClassType(ann.getType(), JAVAX_EJB) ||
-                    TypeUtils.isOfClassType(ann.getType(), JAKARTA_EJB)) {
+                if (JavaEeAnnotation.EJB.matches(ann)) {
                     return ann;
                 }
                 if (ann.getType() == null && "EJB".equals(ann.getSimpleName())) {
@@ -1,5 +1,7 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
@@ -27,6 +29,7 @@
 /**
  * Converts JBoss @TransactionTimeout to Spring @Transactional(timeout = ...seconds).
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class ConvertJBossTransactionTimeout extends Recipe {
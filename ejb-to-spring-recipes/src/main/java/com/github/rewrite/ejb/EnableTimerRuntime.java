@@ -0,0 +1,163 @@
+package com.github.rewrite.ejb;
+
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.openrewrite.*;
+import org.openrewrite.java.AnnotationMatcher;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.RemoveAnnotationVisitor;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.TypeUtils;
+
+/**
+ * Lets classes with programmatic EJB timers run on migration-timer-runtime instead of parking them.
+ * <p>
+ * {@link MarkEjbTimerServiceForReview} marks such classes {@code MANUAL_MIGRATION} and
+ * {@link AddProfileToManualMigrationClasses} puts them under {@code @Profile("manual-migration")}. Once
+ * {@link MigrateTimerApiToStubs} has moved a class onto the {@code com.github.migration.timer} API, the runtime
+ * implements that API, so this recipe turns the timer review into a {@code TIMER} review and drops the profile
+ * unless another {@code MANUAL_MIGRATION} review still needs it. Classes on the Quartz strategy and classes still
+ * using EJB timer types are left alone. {@link AddTimerRuntimeDependency} adds the runtime to the module.
+ */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class EnableTimerRuntime extends Recipe {
+
+    private static final String NEEDS_REVIEW_FQN = JavaTemplates.NEEDS_REVIEW_FQN;
+    private static final String PROFILE_FQN = "org.springframework.context.annotation.Profile";
+    private static final String TIMER_REVIEW_ORIGINAL_CODE = "@Timeout / TimerService";
+
+    private static final AnnotationMatcher MANUAL_MIGRATION_PROFILE =
+        new AnnotationMatcher("@" + PROFILE_FQN + "(\"manual-migration\")");
+
+    private static final String RUNTIME_REVIEW_TEMPLATE =
+        "@NeedsReview(reason = \"Programmatic EJB timers run on migration-timer-runtime\", " +
+        "category = NeedsReview.Category.TIMER, originalCode = \"" + TIMER_REVIEW_ORIGINAL_CODE + "\", " +
+        "suggestedAction = \"Check that the timer persistence and clustering of migration-timer-runtime are sufficient\")";
+
+    @Override
+    public String getDisplayName() {
+        return "Run programmatic EJB timers on migration-timer-runtime";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Removes @Profile(\"manual-migration\") from classes whose only manual migration is their programmatic " +
+               "EJB timer, once they use the com.github.migration.timer API, and marks the timer for a TIMER review.";
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        TreeVisitor<?, ExecutionContext> delegate = Preconditions.check(
+            Preconditions.and(
+                new UsesType<>(NEEDS_REVIEW_FQN, false),
+                Preconditions.not(Preconditions.or(
+                    new UsesType<>("jakarta.ejb.Timer*", false),
+                    new UsesType<>("javax.ejb.Timer*", false)
+                ))
+            ),
+            new TimerRuntimeVisitor()
+        );
+        return new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                if (TimerStrategySupport.isQuartz(cu)) {
+                    return cu;
+                }
+                return (J.CompilationUnit) delegate.visit(cu, ctx);
+            }
+        };
+    }
+
+    private static class TimerRuntimeVisitor extends JavaIsoVisitor<ExecutionContext> {
+
+        private final JavaTemplate runtimeReviewTemplate = JavaTemplates.builder(RUNTIME_REVIEW_TEMPLATE)
+            .dependsOn(JavaTemplates.NEEDS_REVIEW_STUB)
+            .imports(NEEDS_REVIEW_FQN)
+            .build();
+
+        @Override
+        public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+            boolean timerReview = classDecl.getLeadingAnnotations().stream().anyMatch(EnableTimerRuntime::isTimerReview);
+            J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+            if (!timerReview || hasManualMigrationReview(cd, ctx)) {
+                return cd;
+            }
+            cd = (J.ClassDeclaration) new RemoveAnnotationVisitor(MANUAL_MIGRATION_PROFILE)
+                .visitNonNull(cd, ctx, getCursor().getParentOrThrow());
+            maybeRemoveImport(PROFILE_FQN);
+            return cd;
+        }
+
+        @Override
+        public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
+            J.Annotation a = super.visitAnnotation(annotation, ctx);
+            if (isTimerReview(a) && getCursor().getParentTreeCursor().getValue() instanceof J.ClassDeclaration) {
+                return runtimeReviewTemplate.apply(getCursor(), a.getCoordinates().replace());
+            }
+            return a;
+        }
+
+        private boolean hasManualMigrationReview(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+            boolean[] found = new boolean[1];
+            new JavaIsoVisitor<ExecutionContext>() {
+                @Override
+                public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
+                    if (isNeedsReview(annotation) && "MANUAL_MIGRATION".equals(argument(annotation, "category"))) {
+                        found[0] = true;
+                    }
+                    return annotation;
+                }
+            }.visit(classDecl, ctx);
+            return found[0];
+        }
+    }
+
+    private static boolean isTimerReview(J.Annotation ann) {
+        return isNeedsReview(ann) &&
+               "MANUAL_MIGRATION".equals(argument(ann, "category")) &&
+               TIMER_REVIEW_ORIGINAL_CODE.equals(argument(ann, "originalCode"));
+    }
+
+    private static boolean isNeedsReview(J.Annotation ann) {
+        return "NeedsReview".equals(ann.getSimpleName()) ||
+               TypeUtils.isOfClassType(ann.getType(), NEEDS_REVIEW_FQN);
+    }
+
+    /**
+     * Returns the value of a literal argument, or the simple name of an enum constant argument.
+     */
+    private static String argument(J.Annotation ann, String name) {
+        if (ann.getArguments() == null) {
+            return null;
+        }
+        for (Expression arg : ann.getArguments()) {
+            if (!(arg instanceof J.Assignment)) {
+                continue;
+            }
+            J.Assignment assignment = (J.Assignment) arg;
+            if (!(assignment.getVariable() instanceof J.Identifier) ||
+                !name.equals(((J.Identifier) assignment.getVariable()).getSimpleName())) {
+                continue;
+            }
+            Expression value = assignment.getAssignment();
+            if (value instanceof J.Literal) {
+                Object literal = ((J.Literal) value).getValue();
+                return literal == null ? null : literal.toString();
+            }
+            if (value instanceof J.FieldAccess) {
+                return ((J.FieldAccess) value).getSimpleName();
+            }
+            if (value instanceof J.Identifier) {
+                return ((J.Identifier) value).getSimpleName();
+            }
+        }
+        return null;
+    }
+}
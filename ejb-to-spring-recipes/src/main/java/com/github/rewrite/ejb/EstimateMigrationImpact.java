@@ -0,0 +1,607 @@
+package com.github.rewrite.ejb;
+
+import com.github.rewrite.ejb.config.ClusterMode;
+import com.github.rewrite.ejb.config.ProjectConfiguration;
+import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.ScanningRecipe;
+import org.openrewrite.SourceFile;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.Statement;
+import org.openrewrite.text.PlainText;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Predicts what {@code MigrateEjbToSpring} will do to a project without rewriting anything.
+ * <p>
+ * Each source file is read once: only the annotations of classes, methods and fields are looked at, through
+ * {@link JavaEeAnnotation#of(J.Annotation)}, and method bodies are only searched for the use of a {@code Timer}
+ * parameter of a {@code @Schedule} method. The decisions that send a construct to a {@code @NeedsReview} or
+ * {@code Ejb*} marker instead of a rewrite are made the way the migration recipes make them:
+ * <ul>
+ *   <li>{@code @Schedule} uses {@link TimerScheduleUtils#allSchedulesSafeForMigration} and the Timer parameter
+ *   analysis of {@link ResolveTimerStrategy} to predict {@code @Scheduled}, TaskScheduler or Quartz</li>
+ *   <li>{@code @Singleton} locks follow {@link MigrateSingletonToService}: READ locks, unknown lock types and
+ *   {@code @ConcurrencyManagement(BEAN)} need review</li>
+ *   <li>{@code @Timeout} is migrated by {@link MigrateEjbProgrammaticTimers} only for a single no-arg callback</li>
+ *   <li>{@code @Remote} depends on {@code migration.remote.strategy} of project.yaml</li>
+ * </ul>
+ * One {@code migration-impact.json} and one {@code migration-impact.html} are generated per module. They list the
+ * EJB constructs found, the number of classes, methods and fields each recipe will rewrite, the files the migration
+ * will change and the items that will need manual review, grouped by {@code NeedsReview.Category}.
+ */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.OTHER)
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class EstimateMigrationImpact extends ScanningRecipe<EstimateMigrationImpact.Accumulator> {
+
+    static final String JSON_REPORT = "migration-impact.json";
+    static final String HTML_REPORT = "migration-impact.html";
+
+    @Override
+    public String getDisplayName() {
+        return "Estimate EJB migration impact";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Dry run of the EJB to Spring migration: counts the EJB constructs of each module, predicts which " +
+               "recipes will rewrite them and which will fall back to @NeedsReview or Ejb* markers, and writes " +
+               "the estimate to migration-impact.json and migration-impact.html. No source file is changed.";
+    }
+
+    /**
+     * Filled by concurrent scanners: modules are kept sorted, so the reports do not depend on the scan order.
+     */
+    static class Accumulator {
+        final Map<String, ModuleImpact> modules = new ConcurrentSkipListMap<>();
+    }
+
+    static class ModuleImpact {
+        final LongAdder scannedFiles = new LongAdder();
+        final Map<JavaEeAnnotation, LongAdder> constructs = new ConcurrentSkipListMap<>();
+        final Map<String, LongAdder> recipes = new ConcurrentSkipListMap<>();
+        final Set<String> changedFiles = new ConcurrentSkipListSet<>();
+        final Set<Review> reviews = new ConcurrentSkipListSet<>();
+        final LongAdder schedules = new LongAdder();
+        final NavigableSet<ProjectConfiguration.TimerStrategy> timerStrategies = new ConcurrentSkipListSet<>();
+        volatile ProjectConfiguration.@Nullable TimerStrategy timerPolicy;
+
+        void count(JavaEeAnnotation annotation) {
+            constructs.computeIfAbsent(annotation, k -> new LongAdder()).increment();
+        }
+
+        void rewrite(String recipe, String sourcePath) {
+            recipes.computeIfAbsent(recipe, k -> new LongAdder()).increment();
+            changedFiles.add(sourcePath);
+        }
+
+        void review(String category, String sourcePath, String location, String reason) {
+            reviews.add(new Review(category, location, reason));
+            changedFiles.add(sourcePath);
+        }
+
+        /**
+         * The strategy {@link ResolveTimerStrategy} will resolve: the configured one, raised to what the schedules
+         * of the module need.
+         */
+        ProjectConfiguration.@Nullable TimerStrategy timerStrategy() {
+            if (timerStrategies.isEmpty()) {
+                return null;
+            }
+            ProjectConfiguration.TimerStrategy required = timerStrategies.last();
+            return timerPolicy != null && timerPolicy.compareTo(required) > 0 ? timerPolicy : required;
+        }
+    }
+
+    /**
+     * An item the migration is predicted to mark with {@code @NeedsReview} or an {@code Ejb*} marker.
+     */
+    record Review(String category, String location, String reason) implements Comparable<Review> {
+
+        @Override
+        public int compareTo(Review other) {
+            int cmp = category.compareTo(other.category);
+            if (cmp != 0) return cmp;
+            cmp = location.compareTo(other.location);
+            if (cmp != 0) return cmp;
+            return reason.compareTo(other.reason);
+        }
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                // Classes and their members are walked directly, the rest of the tree is never visited
+                String sourcePath = cu.getSourcePath().toString().replace('\\', '/');
+                ModuleImpact module = acc.modules.computeIfAbsent(getModulePath(sourcePath), k -> new ModuleImpact());
+                module.scannedFiles.increment();
+                ProjectConfiguration config = null;
+                String packagePrefix = cu.getPackageDeclaration() == null
+                    ? ""
+                    : cu.getPackageDeclaration().getPackageName() + ".";
+                for (J.ClassDeclaration cd : cu.getClasses()) {
+                    if (config == null && declaresJavaEe(cd)) {
+                        config = ProjectConfigurationLoader.loadWithInheritance(extractProjectRoot(cu.getSourcePath()));
+                        module.timerPolicy = config.getClusterMode() == ClusterMode.QUARTZ_JDBC
+                            ? ProjectConfiguration.TimerStrategy.QUARTZ
+                            : config.getTimerStrategy();
+                    }
+                    if (config != null) {
+                        estimateClass(cd, packagePrefix + cd.getSimpleName(), sourcePath, module, config);
+                    }
+                }
+                return cu;
+            }
+        };
+    }
+
+    private static boolean declaresJavaEe(J.ClassDeclaration cd) {
+        for (J.Annotation ann : cd.getLeadingAnnotations()) {
+            if (JavaEeAnnotation.of(ann) != null) {
+                return true;
+            }
+        }
+        if (cd.getBody() == null) {
+            return false;
+        }
+        for (Statement stmt : cd.getBody().getStatements()) {
+            List<J.Annotation> annotations = memberAnnotations(stmt);
+            for (J.Annotation ann : annotations) {
+                if (JavaEeAnnotation.of(ann) != null) {
+                    return true;
+                }
+            }
+            if (stmt instanceof J.ClassDeclaration && declaresJavaEe((J.ClassDeclaration) stmt)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param className the fully qualified name of the class, which locates its review items in the reports
+     */
+    private static void estimateClass(J.ClassDeclaration cd, String className, String sourcePath, ModuleImpact module,
+                                      ProjectConfiguration config) {
+        boolean singleton = false;
+        boolean concurrencyManagementBean = false;
+        List<String> lockIssues = new ArrayList<>();
+
+        for (J.Annotation ann : cd.getLeadingAnnotations()) {
+            JavaEeAnnotation annotation = JavaEeAnnotation.of(ann);
+            if (annotation == null) {
+                continue;
+            }
+            module.count(annotation);
+            switch (annotation) {
+                case STATELESS:
+                    module.rewrite("MigrateStatelessToService", sourcePath);
+                    break;
+                case SINGLETON:
+                    singleton = true;
+                    module.rewrite("MigrateSingletonToService", sourcePath);
+                    break;
+                case STATEFUL:
+                    module.rewrite("MigrateStatefulBean", sourcePath);
+                    module.review("STATEFUL_BEAN", sourcePath, className,
+                        "Stateful bean state and lifecycle (@Remove, passivation) need a matching Spring scope");
+                    break;
+                case MESSAGE_DRIVEN:
+                    module.rewrite("MigrateMessageDrivenToJmsListener", sourcePath);
+                    break;
+                case REMOTE:
+                    if (config.isRestRemoteStrategy()) {
+                        module.rewrite("MigrateRemoteInterfaces", sourcePath);
+                    } else {
+                        module.review("REMOTE_ACCESS", sourcePath, className,
+                            "remote.strategy: manual leaves the remote interface for manual migration");
+                    }
+                    break;
+                case LOCK:
+                    addLockIssue(lockIssues, ann, "class-level");
+                    break;
+                case CONCURRENCY_MANAGEMENT:
+                    concurrencyManagementBean = "BEAN".equals(enumValue(ann));
+                    break;
+                case ACCESS_TIMEOUT:
+                    module.review("CONCURRENCY", sourcePath, className, "@AccessTimeout has no Spring equivalent");
+                    break;
+                case ASYNCHRONOUS:
+                    module.rewrite("MigrateAsynchronousToAsync", sourcePath);
+                    break;
+                case TRANSACTION_ATTRIBUTE:
+                    module.rewrite("MigrateTransactionAttributeJakarta", sourcePath);
+                    break;
+                case INTERCEPTORS:
+                    module.rewrite("MigrateEjbInterceptorsToAop", sourcePath);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        if (cd.getBody() == null) {
+            return;
+        }
+        boolean hasLocks = !lockIssues.isEmpty();
+        List<J.MethodDeclaration> timeouts = new ArrayList<>();
+        for (Statement stmt : cd.getBody().getStatements()) {
+            if (stmt instanceof J.ClassDeclaration) {
+                J.ClassDeclaration nested = (J.ClassDeclaration) stmt;
+                estimateClass(nested, className + "." + nested.getSimpleName(), sourcePath, module, config);
+                continue;
+            }
+            for (J.Annotation ann : memberAnnotations(stmt)) {
+                JavaEeAnnotation annotation = JavaEeAnnotation.of(ann);
+                if (annotation == null) {
+                    continue;
+                }
+                module.count(annotation);
+                String location = className + "." + memberName(stmt);
+                switch (annotation) {
+                    case EJB:
+                        module.rewrite("MigrateEjbToAutowired", sourcePath);
+                        break;
+                    case INJECT:
+                        module.rewrite("MigrateInjectToAutowired", sourcePath);
+                        break;
+                    case SCHEDULE:
+                    case SCHEDULES:
+                        if (stmt instanceof J.MethodDeclaration) {
+                            estimateSchedule((J.MethodDeclaration) stmt, sourcePath, module);
+                        }
+                        break;
+                    case TIMEOUT:
+                        if (stmt instanceof J.MethodDeclaration) {
+                            timeouts.add((J.MethodDeclaration) stmt);
+                        }
+                        break;
+                    case LOCK:
+                        hasLocks = true;
+                        // The issues are reported on the class, so its simple name is enough to name the member
+                        addLockIssue(lockIssues, ann, cd.getSimpleName() + "." + memberName(stmt));
+                        break;
+                    case ACCESS_TIMEOUT:
+                        module.review("CONCURRENCY", sourcePath, location, "@AccessTimeout has no Spring equivalent");
+                        break;
+                    case ASYNCHRONOUS:
+                        module.rewrite("MigrateAsynchronousToAsync", sourcePath);
+                        break;
+                    case TRANSACTION_ATTRIBUTE:
+                        module.rewrite("MigrateTransactionAttributeJakarta", sourcePath);
+                        break;
+                    case AROUND_INVOKE:
+                    case INTERCEPTORS:
+                        module.rewrite("MigrateEjbInterceptorsToAop", sourcePath);
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+
+        if (!timeouts.isEmpty()) {
+            if (timeouts.size() == 1 && timeouts.get(0).getParameters().stream().allMatch(J.Empty.class::isInstance)) {
+                module.rewrite("MigrateEjbProgrammaticTimers", sourcePath);
+            } else {
+                module.review("TIMER", sourcePath, className,
+                    "Only a single no-arg @Timeout callback is migrated to TaskScheduler");
+            }
+        }
+
+        if (singleton && hasLocks) {
+            if (concurrencyManagementBean) {
+                lockIssues.add("@ConcurrencyManagement(BEAN) present");
+            }
+            lockIssues.removeIf(String::isEmpty);
+            if (!lockIssues.isEmpty()) {
+                module.review("CONCURRENCY", sourcePath, className,
+                    "@Lock cannot be mapped to synchronized as is: " + String.join(", ", lockIssues));
+            }
+        }
+    }
+
+    /**
+     * Records the timer strategy a schedule needs. A schedule that only Quartz or the TaskScheduler can express
+     * raises the strategy {@link ResolveTimerStrategy} resolves for the whole module, so the recipe that rewrites
+     * the schedules is only known once all files are scanned.
+     */
+    private static void estimateSchedule(J.MethodDeclaration method, String sourcePath, ModuleImpact module) {
+        boolean safe = TimerScheduleUtils.allSchedulesSafeForMigration(method);
+        if (!safe) {
+            module.timerStrategies.add(ProjectConfiguration.TimerStrategy.QUARTZ);
+        } else if (TimerScheduleUtils.analyzeTimerParameter(method).hasTimerParameter()) {
+            module.timerStrategies.add(ProjectConfiguration.TimerStrategy.TASKSCHEDULER);
+        } else {
+            module.timerStrategies.add(ProjectConfiguration.TimerStrategy.SCHEDULED);
+        }
+        module.schedules.increment();
+        module.changedFiles.add(sourcePath);
+    }
+
+    private static String scheduleRecipe(ProjectConfiguration.TimerStrategy strategy) {
+        switch (strategy) {
+            case QUARTZ:
+                return "MigrateScheduleToQuartz";
+            case TASKSCHEDULER:
+                return "MigrateScheduleToTaskScheduler";
+            default:
+                return "MigrateScheduleToScheduled";
+        }
+    }
+
+    /**
+     * Records a READ or unsupported lock type, or an empty issue for a WRITE lock, which maps to synchronized.
+     */
+    private static void addLockIssue(List<String> issues, J.Annotation lock, String location) {
+        String value = enumValue(lock);
+        if (value == null || "WRITE".equals(value)) {
+            issues.add("");
+        } else if ("READ".equals(value)) {
+            issues.add("READ lock on " + location);
+        } else {
+            issues.add("unsupported @Lock value on " + location);
+        }
+    }
+
+    /**
+     * Returns the simple name of the enum constant given as the single argument of an annotation, null without
+     * argument and an empty string for anything else.
+     */
+    private static @Nullable String enumValue(J.Annotation annotation) {
+        if (annotation.getArguments() == null || annotation.getArguments().isEmpty()
+            || annotation.getArguments().get(0) instanceof J.Empty) {
+            return null;
+        }
+        Expression arg = annotation.getArguments().get(0);
+        if (arg instanceof J.Assignment) {
+            arg = ((J.Assignment) arg).getAssignment();
+        }
+        if (arg instanceof J.FieldAccess) {
+            return ((J.FieldAccess) arg).getSimpleName();
+        }
+        if (arg instanceof J.Identifier) {
+            return ((J.Identifier) arg).getSimpleName();
+        }
+        return "";
+    }
+
+    private static List<J.Annotation> memberAnnotations(Statement stmt) {
+        if (stmt instanceof J.MethodDeclaration) {
+            return ((J.MethodDeclaration) stmt).getLeadingAnnotations();
+        }
+        if (stmt instanceof J.VariableDeclarations) {
+            return ((J.VariableDeclarations) stmt).getLeadingAnnotations();
+        }
+        return List.of();
+    }
+
+    private static String memberName(Statement stmt) {
+        if (stmt instanceof J.MethodDeclaration) {
+            return ((J.MethodDeclaration) stmt).getSimpleName() + "()";
+        }
+        J.VariableDeclarations varDecls = (J.VariableDeclarations) stmt;
+        return varDecls.getVariables().isEmpty() ? "" : varDecls.getVariables().get(0).getSimpleName();
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        List<SourceFile> reports = new ArrayList<>();
+        for (Map.Entry<String, ModuleImpact> entry : acc.modules.entrySet()) {
+            ModuleImpact module = entry.getValue();
+            if (module.constructs.isEmpty()) {
+                continue;
+            }
+            ProjectConfiguration.TimerStrategy timerStrategy = module.timerStrategy();
+            if (timerStrategy != null) {
+                module.recipes.put(scheduleRecipe(timerStrategy), module.schedules);
+            }
+            String modulePath = entry.getKey();
+            reports.add(PlainText.builder()
+                .sourcePath(modulePath.isEmpty() ? Paths.get(JSON_REPORT) : Paths.get(modulePath, JSON_REPORT))
+                .text(toJson(modulePath, module))
+                .build());
+            reports.add(PlainText.builder()
+                .sourcePath(modulePath.isEmpty() ? Paths.get(HTML_REPORT) : Paths.get(modulePath, HTML_REPORT))
+                .text(toHtml(modulePath, module))
+                .build());
+        }
+        return reports;
+    }
+
+    private static Map<String, List<Review>> reviewsByCategory(ModuleImpact module) {
+        Map<String, List<Review>> byCategory = new TreeMap<>();
+        for (Review review : module.reviews) {
+            byCategory.computeIfAbsent(review.category(), k -> new ArrayList<>()).add(review);
+        }
+        return byCategory;
+    }
+
+    private static String toJson(String modulePath, ModuleImpact module) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n");
+        json.append("  \"module\": ").append(jsonString(modulePath)).append(",\n");
+        json.append("  \"scannedFiles\": ").append(module.scannedFiles.sum()).append(",\n");
+        json.append("  \"filesToChange\": ").append(module.changedFiles.size()).append(",\n");
+        ProjectConfiguration.TimerStrategy timerStrategy = module.timerStrategy();
+        json.append("  \"timerStrategy\": ")
+            .append(timerStrategy == null ? "null" : jsonString(timerStrategy.name().toLowerCase())).append(",\n");
+
+        json.append("  \"constructs\": {");
+        String separator = "\n";
+        for (Map.Entry<JavaEeAnnotation, LongAdder> construct : module.constructs.entrySet()) {
+            json.append(separator).append("    ").append(jsonString(construct.getKey().getJakartaName()))
+                .append(": ").append(construct.getValue().sum());
+            separator = ",\n";
+        }
+        json.append(module.constructs.isEmpty() ? "},\n" : "\n  },\n");
+
+        json.append("  \"recipes\": {");
+        separator = "\n";
+        for (Map.Entry<String, LongAdder> recipe : module.recipes.entrySet()) {
+            json.append(separator).append("    ").append(jsonString(recipe.getKey()))
+                .append(": ").append(recipe.getValue().sum());
+            separator = ",\n";
+        }
+        json.append(module.recipes.isEmpty() ? "},\n" : "\n  },\n");
+
+        json.append("  \"needsReview\": {");
+        separator = "\n";
+        for (Map.Entry<String, List<Review>> category : reviewsByCategory(module).entrySet()) {
+            json.append(separator).append("    ").append(jsonString(category.getKey())).append(": [");
+            String itemSeparator = "\n";
+            for (Review review : category.getValue()) {
+                json.append(itemSeparator).append("      {\"location\": ").append(jsonString(review.location()))
+                    .append(", \"reason\": ").append(jsonString(review.reason())).append("}");
+                itemSeparator = ",\n";
+            }
+            json.append("\n    ]");
+            separator = ",\n";
+        }
+        json.append(module.reviews.isEmpty() ? "}\n" : "\n  }\n");
+        json.append("}\n");
+        return json.toString();
+    }
+
+    private static String toHtml(String modulePath, ModuleImpact module) {
+        StringBuilder html = new StringBuilder();
+        String moduleDisplayName = modulePath.isEmpty() ? "Root Project" : modulePath;
+        html.append("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"UTF-8\">\n");
+        html.append("<title>Migration Impact: ").append(escapeHtml(moduleDisplayName)).append("</title>\n");
+        html.append("</head>\n<body>\n");
+        html.append("<h1>Migration Impact Estimate</h1>\n");
+        html.append("<p><strong>Module:</strong> <code>").append(escapeHtml(moduleDisplayName)).append("</code></p>\n");
+        html.append("<p>").append(module.changedFiles.size()).append(" of ").append(module.scannedFiles.sum())
+            .append(" Java files will be changed, ").append(module.reviews.size())
+            .append(" items will need manual review.");
+        ProjectConfiguration.TimerStrategy timerStrategy = module.timerStrategy();
+        if (timerStrategy != null) {
+            html.append(" Timer strategy: <code>").append(timerStrategy.name().toLowerCase()).append("</code>.");
+        }
+        html.append("</p>\n");
+
+        html.append("<h2>EJB Constructs</h2>\n<table>\n<tr><th>Annotation</th><th>Count</th></tr>\n");
+        for (Map.Entry<JavaEeAnnotation, LongAdder> construct : module.constructs.entrySet()) {
+            html.append("<tr><td><code>@").append(escapeHtml(construct.getKey().getJakartaName())).append("</code></td><td>")
+                .append(construct.getValue().sum()).append("</td></tr>\n");
+        }
+        html.append("</table>\n");
+
+        if (!module.recipes.isEmpty()) {
+            html.append("<h2>Automatic Rewrites</h2>\n<table>\n<tr><th>Recipe</th><th>Rewrites</th></tr>\n");
+            for (Map.Entry<String, LongAdder> recipe : module.recipes.entrySet()) {
+                html.append("<tr><td>").append(escapeHtml(recipe.getKey())).append("</td><td>")
+                    .append(recipe.getValue().sum()).append("</td></tr>\n");
+            }
+            html.append("</table>\n");
+        }
+
+        if (!module.reviews.isEmpty()) {
+            html.append("<h2>Manual Review</h2>\n");
+            for (Map.Entry<String, List<Review>> category : reviewsByCategory(module).entrySet()) {
+                html.append("<h3>").append(formatCategory(category.getKey())).append(" (")
+                    .append(category.getValue().size()).append(")</h3>\n<ul>\n");
+                for (Review review : category.getValue()) {
+                    html.append("<li><code>").append(escapeHtml(review.location())).append("</code>: ")
+                        .append(escapeHtml(review.reason())).append("</li>\n");
+                }
+                html.append("</ul>\n");
+            }
+        }
+
+        html.append("<p><em>Generated by EJB-to-Spring Migration Recipes</em></p>\n");
+        html.append("</body>\n</html>\n");
+        return html.toString();
+    }
+
+    private static String jsonString(String value) {
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            } else if (c < 0x20) {
+                quoted.append(String.format("\\u%04x", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    private static String escapeHtml(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    private static String formatCategory(String category) {
+        // Convert SNAKE_CASE to Title Case
+        StringBuilder title = new StringBuilder();
+        for (String word : category.split("_")) {
+            if (title.length() > 0) {
+                title.append(' ');
+            }
+            title.append(word.charAt(0)).append(word.substring(1).toLowerCase());
+        }
+        return title.toString();
+    }
+
+    /**
+     * Extracts the module path from a source path. For "module-a/src/main/java/..." returns "module-a",
+     * for root-level sources "".
+     */
+    private static String getModulePath(String sourcePath) {
+        int srcIndex = sourcePath.indexOf("/src/");
+        if (srcIndex > 0) {
+            return sourcePath.substring(0, srcIndex);
+        }
+        return "";
+    }
+
+    /**
+     * Extracts the project root directory from the given source path.
+     */
+    private static Path extractProjectRoot(Path sourcePath) {
+        if (sourcePath == null) {
+            return Paths.get(System.getProperty("user.dir"));
+        }
+        Path current = sourcePath.toAbsolutePath().getParent();
+        while (current != null) {
+            if (Files.exists(current.resolve("pom.xml")) ||
+                Files.exists(current.resolve("build.gradle")) ||
+                Files.exists(current.resolve("project.yaml"))) {
+                return current;
+            }
+            current = current.getParent();
+        }
+        return Paths.get(System.getProperty("user.dir"));
+    }
+}
@@ -49,6 +49,8 @@
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.regex.Pattern;
 import java.util.Comparator;
 
@@ -63,7 +65,13 @@
  * <ul>
  *   <li>jaxws.provider: cxf|manual (default: cxf)</li>
  *   <li>jaxws.basePath: servlet mapping base path (default: /services)</li>
+ *   <li>jaxws.executor.threads / queueSize: dedicated CXF work queue per endpoint (default: off)</li>
+ *   <li>jaxws.features: CXF features for every endpoint (gzip, fastinfoset)</li>
  * </ul>
+ * <p>
+ * Endpoint settings that WildFly applied at deployment time are carried over to
+ * the generated beans: {@code @MTOM}, {@code @BindingType}, {@code @SchemaValidation}
+ * and the global properties of {@code jboss-webservices.xml}.
  */
 @Value
 @EqualsAndHashCode(callSuper = false)
@@ -78,17 +86,27 @@ public class GenerateCxfJaxwsConfig extends ScanningRecipe<GenerateCxfJaxwsConfi
     private static final String CXF_GROUP_ID = "org.apache.cxf";
     private static final String CXF_ARTIFACT_ID = "cxf-spring-boot-starter-jaxws";
     private static final Pattern URL_SAFE_PATTERN = Pattern.compile("^[a-zA-Z0-9_-]+$");
+    private static final String JBOSS_WEBSERVICES_XML = "jboss-webservices.xml";
+    private static final String MTOM_ENABLED = "mtom-enabled";
+    private static final String MTOM_THRESHOLD = "mtom-threshold";
+    private static final String SCHEMA_VALIDATION_ENABLED = "schema-validation-enabled";
+    private static final Set<String> SOAP_BINDING_CONSTANTS = Set.of(
+        "SOAP11HTTP_BINDING", "SOAP11HTTP_MTOM_BINDING", "SOAP12HTTP_BINDING", "SOAP12HTTP_MTOM_BINDING");
 
     static class Accumulator {
-        Map<Path, ModuleState> modules = new HashMap<>();
+        final Map<Path, ModuleState> modules = new ConcurrentSkipListMap<>();
     }
 
+    /**
+     * Filled by concurrent scanners. Flags only ever turn on; where several files qualify, the one with the smallest
+     * source path wins, so the outcome does not depend on the order in which files are scanned.
+     */
     static class ModuleState {
         final Path moduleRoot;
-        List<WebServiceInfo> webServices = new ArrayList<>();
-        boolean hasExistingCxfConfig = false;
-        boolean hasExistingCxfDependency = false;
-        boolean hasSpringWsDependency = false;
+        final List<WebServiceInfo> webServices = Collections.synchronizedList(new ArrayList<>());
+        volatile boolean hasExistingCxfConfig = false;
+        volatile boolean hasExistingCxfDependency = false;
+        volatile boolean hasSpringWsDependency = false;
         boolean hasApplicationProperties = false;
         Path applicationPropertiesPath = null;
         boolean applicationPropertiesAppendable = false;  // true only if PlainText or Properties.File
@@ -97,12 +115,46 @@ static class ModuleState {
         boolean cxfPathConfigured = false;  // Set to true when visitor updates the file
         String mainSourceRoot = null;
         String springBootApplicationPackage = null;
-        Set<String> packages = new HashSet<>();
-        Set<String> classFqns = new HashSet<>();
+        final Set<String> packages = ConcurrentHashMap.newKeySet();
+        final Set<String> classFqns = ConcurrentHashMap.newKeySet();
+        final Map<String, String> jbossWebservicesProperties = new ConcurrentSkipListMap<>();
+        private Path cxfPathConfigPath;
+        private String springBootApplicationPath;
+        private String firstWebServicePath;
 
         ModuleState(Path moduleRoot) {
             this.moduleRoot = moduleRoot;
         }
+
+        synchronized void recordApplicationProperties(Path path, boolean appendable) {
+            if (applicationPropertiesPath == null || path.compareTo(applicationPropertiesPath) < 0) {
+                hasApplicationProperties = true;
+                applicationPropertiesPath = path;
+                applicationPropertiesAppendable = appendable;
+            }
+        }
+
+        synchronized void recordCxfPath(Path path, String configSource) {
+            if (cxfPathConfigPath == null || path.compareTo(cxfPathConfigPath) < 0) {
+                cxfPathAlreadyConfigured = true;
+                cxfPathConfigPath = path;
+                cxfPathConfigSource = configSource;
+            }
+        }
+
+        synchronized void recordSpringBootApplication(String path, String pkg) {
+            if (springBootApplicationPath == null || path.compareTo(springBootApplicationPath) < 0) {
+                springBootApplicationPath = path;
+                springBootApplicationPackage = pkg;
+            }
+        }
+
+        synchronized void recordWebServiceSource(String path, String sourceRoot) {
+            if (firstWebServicePath == null || path.compareTo(firstWebServicePath) < 0) {
+                firstWebServicePath = path;
+                mainSourceRoot = sourceRoot;
+            }
+        }
     }
 
     static class WebServiceInfo {
@@ -114,6 +166,11 @@ static class WebServiceInfo {
         String endpointPath;   // Derived endpoint path
         boolean needsReview = false;
         String reviewReason = null;
+        Boolean mtomEnabled;        // @MTOM(enabled=...) or MTOM binding
+        Integer mtomThreshold;      // @MTOM(threshold=...)
+        String bindingConstant;     // SOAPBinding constant name from @BindingType
+        String bindingUri;          // literal binding URI from @BindingType
+        String schemaValidation;    // CXF schema-validation type from @SchemaValidation
 
         WebServiceInfo(String className, String packageName) {
             this.className = className;
@@ -171,11 +228,9 @@ private Tree visitSourceFile(SourceFile sourceFile, ExecutionContext ctx) {
 
                 // Track main application.properties for visitor updates
                 if (isMainProperties) {
-                    module.hasApplicationProperties = true;
-                    module.applicationPropertiesPath = sourceFile.getSourcePath();
                     // Track if file type supports append (Properties.File or PlainText)
-                    module.applicationPropertiesAppendable =
-                        (sourceFile instanceof PlainText) || (sourceFile instanceof Properties.File);
+                    module.recordApplicationProperties(sourceFile.getSourcePath(),
+                        (sourceFile instanceof PlainText) || (sourceFile instanceof Properties.File));
                 }
 
                 // Check if cxf.path is already configured in any config file
@@ -189,13 +244,11 @@ private Tree visitSourceFile(SourceFile sourceFile, ExecutionContext ctx) {
                 // Both delimiters are valid in Java .properties files
                 if ((isMainProperties || isProfileProperties) &&
                     content.matches("(?s).*(?m)^\\s*cxf\\.path\\s*[:=].*")) {
-                    module.cxfPathAlreadyConfigured = true;
-                    module.cxfPathConfigSource = isMainProperties ? "properties" : "profile";
+                    module.recordCxfPath(sourceFile.getSourcePath(), isMainProperties ? "properties" : "profile");
                 }
                 // Pattern for YAML files: supports both flat style (cxf.path:) and nested style (cxf:\n  path:)
                 if (isYaml && hasCxfPathInYaml(content)) {
-                    module.cxfPathAlreadyConfigured = true;
-                    module.cxfPathConfigSource = "yaml";
+                    module.recordCxfPath(sourceFile.getSourcePath(), "yaml");
                 }
 
                 return sourceFile;
@@ -239,8 +292,8 @@ private Tree visitJavaSource(J.CompilationUnit cu, ExecutionContext ctx) {
                     // Check for @SpringBootApplication
                     boolean isBootApp = classDecl.getLeadingAnnotations().stream()
                         .anyMatch(GenerateCxfJaxwsConfig::isSpringBootApplicationAnnotation);
-                    if (isBootApp && module.springBootApplicationPackage == null) {
-                        module.springBootApplicationPackage = pkg;
+                    if (isBootApp) {
+                        module.recordSpringBootApplication(normalizedPath, pkg);
                     }
 
                     // Check for @WebService or @WebServiceProvider
@@ -248,12 +301,10 @@ private Tree visitJavaSource(J.CompilationUnit cu, ExecutionContext ctx) {
                         if (isWebServiceAnnotation(annotation)) {
                             WebServiceInfo wsInfo = new WebServiceInfo(classDecl.getSimpleName(), pkg);
                             extractWebServiceAttributes(annotation, wsInfo);
+                            extractEndpointSettings(classDecl, wsInfo);
                             deriveEndpointPath(wsInfo);
                             module.webServices.add(wsInfo);
-
-                            if (module.mainSourceRoot == null) {
-                                module.mainSourceRoot = extractMainSourceRoot(normalizedPath, config);
-                            }
+                            module.recordWebServiceSource(normalizedPath, extractMainSourceRoot(normalizedPath, config));
                         }
                     }
 
@@ -268,6 +319,9 @@ private Tree visitJavaSource(J.CompilationUnit cu, ExecutionContext ctx) {
 
             private Tree visitPom(Xml.Document doc, ExecutionContext ctx) {
                 String sourcePath = doc.getSourcePath().toString().replace('\\', '/');
+                if (sourcePath.endsWith(JBOSS_WEBSERVICES_XML)) {
+                    return visitJbossWebservicesXml(doc);
+                }
                 if (!sourcePath.endsWith("pom.xml")) {
                     return doc;
                 }
@@ -338,6 +392,29 @@ private void checkDependency(String groupId, String artifactId) {
 
                 return doc;
             }
+
+            /**
+             * Collects the global endpoint properties of jboss-webservices.xml, e.g.
+             * {@code <property><name>mtom-enabled</name><value>true</value></property>}.
+             * JBossWS-CXF hands them to every endpoint of the deployment, so they are
+             * applied to every generated EndpointImpl of the module.
+             */
+            private Tree visitJbossWebservicesXml(Xml.Document doc) {
+                Path moduleRoot = extractProjectRoot(doc.getSourcePath());
+                ModuleState module = acc.modules.computeIfAbsent(moduleRoot, ModuleState::new);
+                Xml.Tag root = doc.getRoot();
+                if (root == null) {
+                    return doc;
+                }
+                for (Xml.Tag property : root.getChildren("property")) {
+                    Optional<String> name = property.getChildValue("name");
+                    Optional<String> value = property.getChildValue("value");
+                    if (name.isPresent() && value.isPresent() && !name.get().isBlank()) {
+                        module.jbossWebservicesProperties.put(name.get().trim(), value.get().trim());
+                    }
+                }
+                return doc;
+            }
         };
     }
 
@@ -525,6 +602,9 @@ public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionConte
         List<SourceFile> generated = new ArrayList<>();
 
         for (ModuleState module : acc.modules.values()) {
+            // Sort web services by FQN for deterministic ordering, also of the Spring-WS conflict marker
+            module.webServices.sort(Comparator.comparing(ws -> ws.fqn));
+
             // Skip if no web services, existing config, existing dependency, or Spring-WS conflict
             // Spring-WS conflict marker is handled by the visitor (adding comment to POM)
             if (module.webServices.isEmpty() || module.hasExistingCxfConfig ||
@@ -532,9 +612,6 @@ public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionConte
                 continue;
             }
 
-            // Sort web services by FQN for deterministic ordering
-            module.webServices.sort(Comparator.comparing(ws -> ws.fqn));
-
             // Resolve path collisions (now deterministic due to sorting)
             resolvePathCollisions(module.webServices);
 
@@ -592,7 +669,7 @@ public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionConte
             String className = deriveConfigurationClassName(basePackage, module.classFqns);
             String configSource = module.cxfPathAlreadyConfigured ? module.cxfPathConfigSource : null;
             String source = generateConfigurationSource(basePackage, className, module.webServices, basePath,
-                needsManualReview, configSource);
+                needsManualReview, configSource, module.jbossWebservicesProperties, config);
 
             String mainSourceRoot = module.mainSourceRoot != null ? module.mainSourceRoot : "src/main/java";
             String relativePath = basePackage.isEmpty()
@@ -706,6 +783,129 @@ private static void extractWebServiceAttributes(J.Annotation annotation, WebServ
         }
     }
 
+    /**
+     * Reads the JAX-WS endpoint annotations that WildFly honoured at deployment time:
+     * {@code @MTOM}, {@code @BindingType} and {@code @SchemaValidation} (CXF or Metro flavour).
+     */
+    private static void extractEndpointSettings(J.ClassDeclaration classDecl, WebServiceInfo wsInfo) {
+        for (J.Annotation annotation : classDecl.getLeadingAnnotations()) {
+            String simpleName = annotation.getSimpleName();
+            if ("MTOM".equals(simpleName)) {
+                wsInfo.mtomEnabled = true;
+                Object enabled = annotationLiteral(annotation, "enabled");
+                if (enabled instanceof Boolean) {
+                    wsInfo.mtomEnabled = (Boolean) enabled;
+                }
+                Object threshold = annotationLiteral(annotation, "threshold");
+                if (threshold instanceof Integer) {
+                    wsInfo.mtomThreshold = (Integer) threshold;
+                }
+            } else if ("BindingType".equals(simpleName)) {
+                extractBindingType(annotation, wsInfo);
+            } else if ("SchemaValidation".equals(simpleName)) {
+                wsInfo.schemaValidation = schemaValidationType(annotation);
+            }
+        }
+    }
+
+    private static void extractBindingType(J.Annotation annotation, WebServiceInfo wsInfo) {
+        if (annotation.getArguments() == null) {
+            return;
+        }
+        for (org.openrewrite.java.tree.Expression arg : annotation.getArguments()) {
+            org.openrewrite.java.tree.Expression value = arg;
+            if (arg instanceof J.Assignment) {
+                J.Assignment assign = (J.Assignment) arg;
+                if (!"value".equals(((J.Identifier) assign.getVariable()).getSimpleName())) {
+                    continue;
+                }
+                value = assign.getAssignment();
+            }
+            String constant = null;
+            if (value instanceof J.FieldAccess) {
+                constant = ((J.FieldAccess) value).getSimpleName();
+            } else if (value instanceof J.Identifier) {
+                constant = ((J.Identifier) value).getSimpleName();
+            }
+            if (constant != null && SOAP_BINDING_CONSTANTS.contains(constant)) {
+                if (constant.endsWith("_MTOM_BINDING")) {
+                    // MTOM bindings are published as plain SOAP bindings with MTOM switched on
+                    constant = constant.replace("_MTOM_BINDING", "_BINDING");
+                    if (wsInfo.mtomEnabled == null) {
+                        wsInfo.mtomEnabled = true;
+                    }
+                }
+                wsInfo.bindingConstant = constant;
+            } else if (value instanceof J.Literal && ((J.Literal) value).getValue() instanceof String) {
+                String uri = (String) ((J.Literal) value).getValue();
+                if (uri.endsWith("?mtom=true")) {
+                    uri = uri.substring(0, uri.length() - "?mtom=true".length());
+                    if (wsInfo.mtomEnabled == null) {
+                        wsInfo.mtomEnabled = true;
+                    }
+                }
+                wsInfo.bindingUri = uri;
+            } else {
+                wsInfo.needsReview = true;
+                wsInfo.reviewReason = "@BindingType value could not be resolved: " + value.printTrimmed();
+            }
+        }
+    }
+
+    /**
+     * Maps {@code @SchemaValidation} to the CXF schema-validation type.
+     * CXF: {@code type = SchemaValidationType.X}; Metro: {@code inbound}/{@code outbound} flags.
+     */
+    private static String schemaValidationType(J.Annotation annotation) {
+        String type = "BOTH";
+        boolean inbound = true;
+        boolean outbound = true;
+        if (annotation.getArguments() != null) {
+            for (org.openrewrite.java.tree.Expression arg : annotation.getArguments()) {
+                if (!(arg instanceof J.Assignment)) {
+                    continue;
+                }
+                J.Assignment assign = (J.Assignment) arg;
+                String attrName = ((J.Identifier) assign.getVariable()).getSimpleName();
+                org.openrewrite.java.tree.Expression value = assign.getAssignment();
+                if ("type".equals(attrName)) {
+                    if (value instanceof J.FieldAccess) {
+                        type = ((J.FieldAccess) value).getSimpleName();
+                    } else if (value instanceof J.Identifier) {
+                        type = ((J.Identifier) value).getSimpleName();
+                    }
+                } else if ("inbound".equals(attrName) && value instanceof J.Literal) {
+                    inbound = !Boolean.FALSE.equals(((J.Literal) value).getValue());
+                } else if ("outbound".equals(attrName) && value instanceof J.Literal) {
+                    outbound = !Boolean.FALSE.equals(((J.Literal) value).getValue());
+                }
+            }
+        }
+        if (!inbound && !outbound) {
+            return "NONE";
+        }
+        if (inbound != outbound) {
+            return inbound ? "IN" : "OUT";
+        }
+        return type;
+    }
+
+    private static @Nullable Object annotationLiteral(J.Annotation annotation, String attribute) {
+        if (annotation.getArguments() == null) {
+            return null;
+        }
+        for (org.openrewrite.java.tree.Expression arg : annotation.getArguments()) {
+            if (arg instanceof J.Assignment) {
+                J.Assignment assign = (J.Assignment) arg;
+                if (attribute.equals(((J.Identifier) assign.getVariable()).getSimpleName())
+                    && assign.getAssignment() instanceof J.Literal) {
+                    return ((J.Literal) assign.getAssignment()).getValue();
+                }
+            }
+        }
+        return null;
+    }
+
     private static void deriveEndpointPath(WebServiceInfo wsInfo) {
         // Priority: name (if URL-safe) > className
         // Note: serviceName is typically used for WSDL service element, not endpoint path
@@ -807,11 +1007,15 @@ private static String deriveConfigurationClassName(String basePackage, Set<Strin
      * @param basePath the CXF servlet base path
      * @param needsManualConfig true if user needs to manually configure cxf.path
      * @param configSource where cxf.path is configured: "properties", "yaml", "profile", or null for generated
+     * @param jbossProperties global endpoint properties from jboss-webservices.xml
+     * @param config project configuration with jaxws executor and feature settings
      */
     private static String generateConfigurationSource(String basePackage, String className,
                                                        List<WebServiceInfo> webServices,
                                                        String basePath, boolean needsManualConfig,
-                                                       String configSource) {
+                                                       String configSource,
+                                                       Map<String, String> jbossProperties,
+                                                       ProjectConfiguration config) {
         StringBuilder source = new StringBuilder();
 
         // Package declaration
@@ -819,12 +1023,39 @@ private static String generateConfigurationSource(String basePackage, String cla
             source.append("package ").append(basePackage).append(";\n\n");
         }
 
+        boolean executor = config.getJaxwsExecutorThreads() > 0;
+        boolean gzip = config.getJaxwsFeatures().contains("gzip");
+        boolean fastInfoset = config.getJaxwsFeatures().contains("fastinfoset");
+
         // Imports
-        source.append("import jakarta.xml.ws.Endpoint;\n");
-        source.append("import org.apache.cxf.Bus;\n");
-        source.append("import org.apache.cxf.jaxws.EndpointImpl;\n");
-        source.append("import org.springframework.context.annotation.Bean;\n");
-        source.append("import org.springframework.context.annotation.Configuration;\n");
+        Set<String> frameworkImports = new TreeSet<>(List.of(
+            "jakarta.xml.ws.Endpoint",
+            "org.apache.cxf.Bus",
+            "org.apache.cxf.jaxws.EndpointImpl",
+            "org.springframework.context.annotation.Bean",
+            "org.springframework.context.annotation.Configuration"));
+        for (WebServiceInfo ws : webServices) {
+            if (ws.bindingConstant != null) {
+                frameworkImports.add("jakarta.xml.ws.soap.SOAPBinding");
+            }
+            if (!endpointProperties(ws, jbossProperties).isEmpty()) {
+                frameworkImports.add("java.util.HashMap");
+                frameworkImports.add("java.util.Map");
+            }
+        }
+        if (executor) {
+            frameworkImports.add("org.apache.cxf.workqueue.AutomaticWorkQueueImpl");
+            frameworkImports.add("org.apache.cxf.workqueue.WorkQueueManager");
+        }
+        if (gzip) {
+            frameworkImports.add("org.apache.cxf.transport.common.gzip.GZIPFeature");
+        }
+        if (fastInfoset) {
+            frameworkImports.add("com.github.rewrite.ejb.annotations.NeedsReview");
+        }
+        for (String imp : frameworkImports) {
+            source.append("import ").append(imp).append(";\n");
+        }
 
         // Import all WebService classes
         Set<String> imports = new TreeSet<>();
@@ -858,6 +1089,15 @@ private static String generateConfigurationSource(String basePackage, String cla
         }
 
         // Class declaration
+        if (fastInfoset) {
+            // FastInfosetFeature was removed in CXF 4; GZIP is the supported wire compression
+            source.append("@NeedsReview(reason = \"FastInfoset requested in project.yaml is not available in CXF 4.x\", ");
+            source.append("category = NeedsReview.Category.CONFIGURATION, ");
+            source.append("originalCode = \"jaxws.features: fastinfoset\", ");
+            source.append("suggestedAction = \"").append(gzip
+                ? "Remove fastinfoset from jaxws.features; GZIP is enabled"
+                : "Use jaxws.features: [gzip] for wire compression").append("\")\n");
+        }
         source.append("@Configuration\n");
         source.append("public class ").append(className).append(" {\n\n");
 
@@ -876,6 +1116,37 @@ private static String generateConfigurationSource(String basePackage, String cla
             source.append("    public Endpoint ").append(endpointBeanName).append("(Bus bus, ");
             source.append(ws.className).append(" service) {\n");
             source.append("        EndpointImpl endpoint = new EndpointImpl(bus, service);\n");
+            if (ws.bindingConstant != null) {
+                source.append("        endpoint.setBindingUri(SOAPBinding.").append(ws.bindingConstant).append(");\n");
+            } else if (ws.bindingUri != null) {
+                source.append("        endpoint.setBindingUri(\"").append(ws.bindingUri).append("\");\n");
+            }
+            Map<String, Object> properties = endpointProperties(ws, jbossProperties);
+            if (!properties.isEmpty()) {
+                source.append("        Map<String, Object> properties = new HashMap<>();\n");
+                for (Map.Entry<String, Object> property : properties.entrySet()) {
+                    source.append("        properties.put(\"").append(escapeJava(property.getKey())).append("\", ");
+                    source.append(propertyLiteral(property.getValue())).append(");\n");
+                }
+                source.append("        endpoint.setProperties(properties);\n");
+            }
+            if (executor) {
+                // Dedicated bounded work queue; registered with the bus so it is shut down with it
+                int maxThreads = config.getJaxwsExecutorThreads();
+                int coreThreads = Math.max(1, maxThreads / 4);
+                String queueName = beanName + "-ws";
+                source.append("        AutomaticWorkQueueImpl workQueue = new AutomaticWorkQueueImpl(")
+                    .append(config.getJaxwsExecutorQueueSize()).append(", ")
+                    .append(coreThreads).append(", ")
+                    .append(maxThreads).append(", ")
+                    .append(coreThreads).append(", 60000L, \"").append(queueName).append("\");\n");
+                source.append("        bus.getExtension(WorkQueueManager.class).addNamedWorkQueue(\"")
+                    .append(queueName).append("\", workQueue);\n");
+                source.append("        endpoint.setExecutor(workQueue);\n");
+            }
+            if (gzip) {
+                source.append("        endpoint.getFeatures().add(new GZIPFeature());\n");
+            }
             source.append("        endpoint.publish(\"").append(ws.endpointPath).append("\");\n");
             source.append("        return endpoint;\n");
             source.append("    }\n\n");
@@ -885,6 +1156,38 @@ private static String generateConfigurationSource(String basePackage, String cla
         return source.toString();
     }
 
+    /**
+     * Merges the jboss-webservices.xml properties with the endpoint annotations;
+     * annotation settings win because they are specific to the endpoint.
+     */
+    private static Map<String, Object> endpointProperties(WebServiceInfo ws, Map<String, String> jbossProperties) {
+        Map<String, Object> properties = new LinkedHashMap<>(jbossProperties);
+        if (ws.mtomEnabled != null) {
+            properties.put(MTOM_ENABLED, ws.mtomEnabled);
+        }
+        if (ws.mtomThreshold != null && !Boolean.FALSE.equals(ws.mtomEnabled)) {
+            properties.put(MTOM_THRESHOLD, ws.mtomThreshold);
+        }
+        if (ws.schemaValidation != null) {
+            properties.put(SCHEMA_VALIDATION_ENABLED, ws.schemaValidation);
+        }
+        return properties;
+    }
+
+    private static String propertyLiteral(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value ? "Boolean.TRUE" : "Boolean.FALSE";
+        }
+        if (value instanceof Integer) {
+            return value.toString();
+        }
+        return "\"" + escapeJava(value.toString()) + "\"";
+    }
+
+    private static String escapeJava(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
     private static String uncapitalize(String str) {
         if (str == null || str.isEmpty()) {
             return str;
@@ -6,7 +6,6 @@
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
-import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.text.PlainText;
@@ -15,6 +14,8 @@
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.stream.Collectors;
 
 /**
@@ -63,8 +64,9 @@ public String getDescription() {
     }
 
     static class Accumulator {
-        Map<String, RemoteInterfaceInfo> remoteInterfaces = new LinkedHashMap<>();
-        Set<Path> existingSourcePaths = new HashSet<>();
+        // filled by concurrent scanners, sorted by FQN so that clients are generated in a fixed order
+        final Map<String, RemoteInterfaceInfo> remoteInterfaces = new ConcurrentSkipListMap<>();
+        final Set<Path> existingSourcePaths = ConcurrentHashMap.newKeySet();
     }
 
     static class RemoteInterfaceInfo {
@@ -165,9 +167,6 @@ private static class MethodData {
         }
     }
 
-    private static final AnnotationMatcher REMOTE_JAVAX = new AnnotationMatcher("@javax.ejb.Remote");
-    private static final AnnotationMatcher REMOTE_JAKARTA = new AnnotationMatcher("@jakarta.ejb.Remote");
-
     @Override
     public Accumulator getInitialValue(ExecutionContext ctx) {
         return new Accumulator();
@@ -219,7 +218,7 @@ private void scanCompilationUnit(J.CompilationUnit cu, Accumulator acc) {
                 if (!acc.remoteInterfaces.containsKey(fqn)) {
                     String packageName = cu.getPackageDeclaration().getPackageName();
                     List<MethodInfo> methods = extractMethods(classDecl);
-                    acc.remoteInterfaces.put(fqn, new RemoteInterfaceInfo(
+                    acc.remoteInterfaces.putIfAbsent(fqn, new RemoteInterfaceInfo(
                             fqn, packageName, classDecl.getSimpleName(), mainSourceRoot, methods));
                 }
             }
@@ -228,7 +227,7 @@ private void scanCompilationUnit(J.CompilationUnit cu, Accumulator acc) {
 
     private boolean hasRemoteAnnotation(J.ClassDeclaration classDecl) {
         for (J.Annotation ann : classDecl.getLeadingAnnotations()) {
-            if (REMOTE_JAVAX.matches(ann) || REMOTE_JAKARTA.matches(ann)) {
+            if (JavaEeAnnotation.REMOTE.matches(ann)) {
                 return true;
             }
         }
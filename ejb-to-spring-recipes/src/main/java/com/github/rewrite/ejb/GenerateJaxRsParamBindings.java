@@ -0,0 +1,655 @@
+package com.github.rewrite.ejb;
+
+import com.github.rewrite.ejb.config.ProjectConfiguration;
+import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Generates allocation-light parameter bindings for migrated JAX-RS endpoints.
+ * <p>
+ * Runs after {@link MigrateJaxRsParameterAnnotations}:
+ * <ul>
+ *   <li>Former {@code @BeanParam} classes that only hold private fields (plus getters and an unused setter
+ *       per field) are rewritten to records, so Spring MVC binds {@code @ModelAttribute} through the canonical
+ *       constructor instead of setter-based data binding.</li>
+ *   <li>Parameter types exposing {@code fromString(String)} or {@code valueOf(String)} (the JAX-RS
+ *       conversion contract) get explicit {@code Converter} registrations in a generated
+ *       {@code WebMvcConfigurer}, instead of reflective factory-method lookup at conversion time.
+ *       Enums with a custom {@code fromString} keep their JAX-RS semantics this way.</li>
+ * </ul>
+ * Classes that are instantiated directly or subclassed, carry annotations, declare constructors, static
+ * members or methods mutating their fields are left untouched.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class GenerateJaxRsParamBindings extends ScanningRecipe<GenerateJaxRsParamBindings.Accumulator> {
+
+    private static final String CONFIGURATION_CLASS_NAME = "JaxRsParamConverterConfiguration";
+    private static final Set<String> SCALAR_BINDING_ANNOTATIONS = Set.of(
+        "RequestParam",
+        "PathVariable",
+        "RequestHeader",
+        "CookieValue",
+        "MatrixVariable",
+        "QueryParam",
+        "PathParam",
+        "HeaderParam",
+        "CookieParam",
+        "FormParam",
+        "MatrixParam"
+    );
+    private static final Set<String> BEAN_BINDING_ANNOTATIONS = Set.of(
+        "ModelAttribute",
+        "BeanParam"
+    );
+    private static final Set<String> CONTAINER_TYPES = Set.of(
+        "java.util.List",
+        "java.util.Set",
+        "java.util.SortedSet",
+        "java.util.Collection",
+        "java.util.Optional"
+    );
+    private static final List<String> FACTORY_METHODS = List.of("valueOf", "fromString");
+
+    @Option(displayName = "JAX-RS strategy override",
+            description = "Override project.yaml JAX-RS server strategy: keep-jaxrs or migrate-to-spring-mvc. " +
+                          "If not set, project.yaml (or defaults) are used.",
+            example = "migrate-to-spring-mvc",
+            required = false)
+    @Nullable
+    String strategy;
+
+    public GenerateJaxRsParamBindings() {
+        this.strategy = null;
+    }
+
+    public GenerateJaxRsParamBindings(@Nullable String strategy) {
+        this.strategy = strategy;
+    }
+
+    static class Accumulator {
+        final Map<Path, ModuleState> modules = new ConcurrentSkipListMap<>();
+        final Set<String> beanParamTypes = ConcurrentHashMap.newKeySet();
+        final Set<String> instantiatedTypes = ConcurrentHashMap.newKeySet();
+        final Set<String> extendedTypes = ConcurrentHashMap.newKeySet();
+        final Set<String> invokedMethods = ConcurrentHashMap.newKeySet();
+        final Map<String, List<String>> fieldTypesByClass = new ConcurrentHashMap<>();
+    }
+
+    static class ModuleState {
+        final Set<String> classFqns = ConcurrentHashMap.newKeySet();
+        final Map<String, String> factoryMethodByType = new ConcurrentHashMap<>();
+        final Set<String> boundTypes = ConcurrentHashMap.newKeySet();
+        String controllerPath = null;
+        String controllerPackage = null;
+
+        /**
+         * Records a source binding parameters; the converter configuration goes next to the one with the smallest
+         * path, whatever the order in which concurrent scanners see them.
+         */
+        synchronized void recordController(String path, String pkg) {
+            if (controllerPath == null || path.compareTo(controllerPath) < 0) {
+                controllerPath = path;
+                controllerPackage = pkg;
+            }
+        }
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "Generate constructor-bound JAX-RS parameter objects and converters";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Rewrites simple former @BeanParam classes to records bound through their canonical constructor " +
+               "and registers explicit String converters for parameter types with fromString/valueOf factories.";
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                Path sourcePath = cu.getSourcePath();
+                if (sourcePath == null || !shouldMigrate(sourcePath)) {
+                    return cu;
+                }
+                Path moduleRoot = extractProjectRoot(sourcePath);
+                String normalizedPath = sourcePath.toString().replace('\\', '/');
+                ProjectConfiguration config = ProjectConfigurationLoader.loadWithInheritance(moduleRoot);
+                boolean isTestSource = config.isTestSource(normalizedPath);
+
+                // Usage tracking spans test sources: a record conversion must not break test code either.
+                collectUsages(cu, acc, ctx);
+                if (isTestSource) {
+                    return cu;
+                }
+
+                ModuleState module = acc.modules.computeIfAbsent(moduleRoot, k -> new ModuleState());
+                String pkg = cu.getPackageDeclaration() != null
+                    ? cu.getPackageDeclaration().getPackageName()
+                    : "";
+                for (J.ClassDeclaration classDecl : cu.getClasses()) {
+                    String fqn = pkg.isEmpty() ? classDecl.getSimpleName() : pkg + "." + classDecl.getSimpleName();
+                    module.classFqns.add(fqn);
+                    String factory = findFactoryMethod(classDecl);
+                    if (factory != null) {
+                        module.factoryMethodByType.put(fqn, factory);
+                    }
+                    acc.fieldTypesByClass.put(fqn, collectFieldTypes(classDecl));
+                }
+                if (collectBoundTypes(cu, module, acc, ctx)) {
+                    module.recordController(normalizedPath, pkg);
+                }
+                return cu;
+            }
+        };
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        List<SourceFile> generated = new ArrayList<>();
+        JavaParser javaParser = JavaParser.fromJavaVersion().build();
+        for (ModuleState module : acc.modules.values()) {
+            if (module.controllerPath == null) {
+                continue;
+            }
+            Set<String> candidates = new HashSet<>(module.boundTypes);
+            for (String beanType : acc.beanParamTypes) {
+                List<String> fieldTypes = acc.fieldTypesByClass.get(beanType);
+                if (fieldTypes != null) {
+                    candidates.addAll(fieldTypes);
+                }
+            }
+            Map<String, String> converters = new TreeMap<>();
+            for (String candidate : candidates) {
+                String factory = module.factoryMethodByType.get(candidate);
+                if (factory != null) {
+                    converters.put(candidate, factory);
+                }
+            }
+            if (converters.isEmpty()) {
+                continue;
+            }
+            String pkg = module.controllerPackage != null ? module.controllerPackage : "";
+            String configFqn = pkg.isEmpty() ? CONFIGURATION_CLASS_NAME : pkg + "." + CONFIGURATION_CLASS_NAME;
+            if (module.classFqns.contains(configFqn)) {
+                continue;
+            }
+            String sourceRoot = extractSourceRoot(module.controllerPath, pkg);
+            String relativePath = pkg.isEmpty()
+                ? CONFIGURATION_CLASS_NAME + ".java"
+                : pkg.replace('.', '/') + "/" + CONFIGURATION_CLASS_NAME + ".java";
+            Path filePath = Paths.get(sourceRoot.isEmpty() ? relativePath : sourceRoot + "/" + relativePath);
+
+            List<SourceFile> parsed = javaParser.parse(generateConverterConfiguration(pkg, converters)).toList();
+            if (!parsed.isEmpty()) {
+                generated.add(parsed.get(0).withSourcePath(filePath));
+            }
+            javaParser.reset();
+        }
+        return generated;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                Path sourcePath = cu.getSourcePath();
+                if (sourcePath == null || !shouldMigrate(sourcePath) || cu.getClasses().size() != 1) {
+                    return cu;
+                }
+                ProjectConfiguration config = ProjectConfigurationLoader.loadWithInheritance(extractProjectRoot(sourcePath));
+                if (config.isTestSource(sourcePath.toString().replace('\\', '/'))) {
+                    return cu;
+                }
+                J.ClassDeclaration classDecl = cu.getClasses().get(0);
+                String pkg = cu.getPackageDeclaration() != null
+                    ? cu.getPackageDeclaration().getPackageName()
+                    : "";
+                String fqn = pkg.isEmpty() ? classDecl.getSimpleName() : pkg + "." + classDecl.getSimpleName();
+                if (!acc.beanParamTypes.contains(fqn) || acc.instantiatedTypes.contains(fqn) ||
+                    acc.extendedTypes.contains(fqn)) {
+                    return cu;
+                }
+                J.ClassDeclaration record = toRecord(classDecl, fqn, acc.invokedMethods);
+                if (record == null) {
+                    return cu;
+                }
+                return cu.withClasses(Collections.singletonList(autoFormat(record, ctx, getCursor())));
+            }
+        };
+    }
+
+    private static void collectUsages(J.CompilationUnit cu, Accumulator acc, ExecutionContext ctx) {
+        new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                if (classDecl.getExtends() != null) {
+                    JavaType.FullyQualified superType = TypeUtils.asFullyQualified(classDecl.getExtends().getType());
+                    if (superType != null) {
+                        acc.extendedTypes.add(superType.getFullyQualifiedName());
+                    }
+                }
+                return super.visitClassDeclaration(classDecl, ctx);
+            }
+
+            @Override
+            public J.NewClass visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+                J.NewClass nc = super.visitNewClass(newClass, ctx);
+                JavaType.FullyQualified type = TypeUtils.asFullyQualified(nc.getType());
+                if (type != null) {
+                    acc.instantiatedTypes.add(type.getFullyQualifiedName());
+                }
+                return nc;
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
+                JavaType.Method methodType = mi.getMethodType();
+                if (methodType != null) {
+                    acc.invokedMethods.add(methodType.getDeclaringType().getFullyQualifiedName() + "#" + mi.getSimpleName());
+                }
+                return mi;
+            }
+
+            @Override
+            public J.MemberReference visitMemberReference(J.MemberReference memberRef, ExecutionContext ctx) {
+                J.MemberReference mr = super.visitMemberReference(memberRef, ctx);
+                JavaType.Method methodType = mr.getMethodType();
+                if (methodType != null) {
+                    acc.invokedMethods.add(methodType.getDeclaringType().getFullyQualifiedName() + "#" +
+                                           mr.getReference().getSimpleName());
+                }
+                JavaType.FullyQualified containing = TypeUtils.asFullyQualified(mr.getContaining().getType());
+                if (containing != null && "new".equals(mr.getReference().getSimpleName())) {
+                    acc.instantiatedTypes.add(containing.getFullyQualifiedName());
+                }
+                return mr;
+            }
+        }.visit(cu, ctx);
+    }
+
+    private static boolean collectBoundTypes(J.CompilationUnit cu, ModuleState module, Accumulator acc, ExecutionContext ctx) {
+        boolean[] found = {false};
+        new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                for (Statement param : method.getParameters()) {
+                    if (!(param instanceof J.VariableDeclarations)) {
+                        continue;
+                    }
+                    J.VariableDeclarations varDecls = (J.VariableDeclarations) param;
+                    for (J.Annotation ann : varDecls.getLeadingAnnotations()) {
+                        String simpleName = ann.getSimpleName();
+                        String typeFqn = elementTypeFqn(varDecls.getType());
+                        if (typeFqn == null) {
+                            continue;
+                        }
+                        if (SCALAR_BINDING_ANNOTATIONS.contains(simpleName)) {
+                            module.boundTypes.add(typeFqn);
+                            found[0] = true;
+                        } else if (BEAN_BINDING_ANNOTATIONS.contains(simpleName)) {
+                            acc.beanParamTypes.add(typeFqn);
+                            found[0] = true;
+                        }
+                    }
+                }
+                return super.visitMethodDeclaration(method, ctx);
+            }
+        }.visit(cu, ctx);
+        return found[0];
+    }
+
+    @Nullable
+    private static String elementTypeFqn(@Nullable JavaType type) {
+        if (type instanceof JavaType.Parameterized) {
+            JavaType.Parameterized parameterized = (JavaType.Parameterized) type;
+            if (CONTAINER_TYPES.contains(parameterized.getFullyQualifiedName()) &&
+                parameterized.getTypeParameters().size() == 1) {
+                return elementTypeFqn(parameterized.getTypeParameters().get(0));
+            }
+            return parameterized.getFullyQualifiedName();
+        }
+        JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+        return fq != null ? fq.getFullyQualifiedName() : null;
+    }
+
+    private static List<String> collectFieldTypes(J.ClassDeclaration classDecl) {
+        List<String> fieldTypes = new ArrayList<>();
+        for (Statement stmt : classDecl.getBody().getStatements()) {
+            if (stmt instanceof J.VariableDeclarations) {
+                String fqn = elementTypeFqn(((J.VariableDeclarations) stmt).getType());
+                if (fqn != null) {
+                    fieldTypes.add(fqn);
+                }
+            }
+        }
+        return fieldTypes;
+    }
+
+    /**
+     * Finds a static {@code valueOf(String)} or {@code fromString(String)} factory returning the declaring
+     * type. When both exist, JAX-RS uses {@code valueOf}, except for enums, where it uses {@code fromString}.
+     */
+    @Nullable
+    private static String findFactoryMethod(J.ClassDeclaration classDecl) {
+        if (classDecl.getKind() != J.ClassDeclaration.Kind.Type.Class &&
+            classDecl.getKind() != J.ClassDeclaration.Kind.Type.Enum &&
+            classDecl.getKind() != J.ClassDeclaration.Kind.Type.Record) {
+            return null;
+        }
+        Set<String> found = new HashSet<>();
+        for (Statement stmt : classDecl.getBody().getStatements()) {
+            if (!(stmt instanceof J.MethodDeclaration)) {
+                continue;
+            }
+            J.MethodDeclaration method = (J.MethodDeclaration) stmt;
+            if (!FACTORY_METHODS.contains(method.getSimpleName()) ||
+                !method.hasModifier(J.Modifier.Type.Static) ||
+                method.hasModifier(J.Modifier.Type.Private) ||
+                method.getParameters().size() != 1 ||
+                !(method.getParameters().get(0) instanceof J.VariableDeclarations)) {
+                continue;
+            }
+            J.VariableDeclarations param = (J.VariableDeclarations) method.getParameters().get(0);
+            if (param.getTypeExpression() == null || !isStringTypeName(param.getTypeExpression().printTrimmed())) {
+                continue;
+            }
+            TypeTree returnType = method.getReturnTypeExpression();
+            if (returnType == null || !classDecl.getSimpleName().equals(returnType.printTrimmed())) {
+                continue;
+            }
+            found.add(method.getSimpleName());
+        }
+        List<String> lookupOrder = classDecl.getKind() == J.ClassDeclaration.Kind.Type.Enum
+            ? List.of("fromString", "valueOf")
+            : FACTORY_METHODS;
+        for (String factory : lookupOrder) {
+            if (found.contains(factory)) {
+                return factory;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isStringTypeName(String typeName) {
+        return "String".equals(typeName) || "java.lang.String".equals(typeName);
+    }
+
+    /**
+     * Builds the record equivalent of a simple parameter holder, or returns {@code null} if the class
+     * carries anything a record cannot express without changing behaviour. Every field must be private and
+     * have a setter nobody calls: a field without a setter was never bound, and would be as a component.
+     */
+    private static J.@Nullable ClassDeclaration toRecord(J.ClassDeclaration classDecl, String fqn,
+                                                         Set<String> invokedMethods) {
+        if (classDecl.getKind() != J.ClassDeclaration.Kind.Type.Class ||
+            !classDecl.getLeadingAnnotations().isEmpty() ||
+            (classDecl.getTypeParameters() != null && !classDecl.getTypeParameters().isEmpty()) ||
+            classDecl.getExtends() != null ||
+            classDecl.hasModifier(J.Modifier.Type.Abstract)) {
+            return null;
+        }
+
+        List<J.VariableDeclarations> fields = new ArrayList<>();
+        Set<String> fieldNames = new HashSet<>();
+        List<J.MethodDeclaration> methods = new ArrayList<>();
+        for (Statement stmt : classDecl.getBody().getStatements()) {
+            if (stmt instanceof J.VariableDeclarations) {
+                J.VariableDeclarations field = (J.VariableDeclarations) stmt;
+                if (!field.getLeadingAnnotations().isEmpty() ||
+                    !field.hasModifier(J.Modifier.Type.Private) ||
+                    field.hasModifier(J.Modifier.Type.Static) ||
+                    field.hasModifier(J.Modifier.Type.Final) ||
+                    field.hasModifier(J.Modifier.Type.Transient) ||
+                    field.hasModifier(J.Modifier.Type.Volatile) ||
+                    field.getTypeExpression() == null) {
+                    return null;
+                }
+                for (J.VariableDeclarations.NamedVariable var : field.getVariables()) {
+                    if (var.getInitializer() != null || !var.getDimensionsAfterName().isEmpty()) {
+                        return null;
+                    }
+                    fieldNames.add(var.getSimpleName());
+                }
+                fields.add(field);
+            } else if (stmt instanceof J.MethodDeclaration) {
+                J.MethodDeclaration method = (J.MethodDeclaration) stmt;
+                if (method.isConstructor() || method.hasModifier(J.Modifier.Type.Static) || method.getBody() == null) {
+                    return null;
+                }
+                methods.add(method);
+            } else {
+                return null;
+            }
+        }
+        if (fields.isEmpty()) {
+            return null;
+        }
+
+        Set<J.MethodDeclaration> setters = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<String> boundFields = new HashSet<>();
+        for (J.MethodDeclaration method : methods) {
+            if (mutatesFields(method, fieldNames)) {
+                // Setters are only dropped when nothing calls them; binding happens via the constructor.
+                String target = setterTarget(method, fieldNames);
+                if (target == null || invokedMethods.contains(fqn + "#" + method.getSimpleName())) {
+                    return null;
+                }
+                setters.add(method);
+                boundFields.add(target);
+            }
+        }
+        if (!boundFields.equals(fieldNames)) {
+            return null;
+        }
+
+        // Fields become components, keeping their comments; a commented component goes on its own line
+        boolean commented = false;
+        for (J.VariableDeclarations field : fields) {
+            commented |= !field.getPrefix().getComments().isEmpty();
+        }
+        String componentIndent = "\n" + classDecl.getPrefix().getIndent() + "        ";
+        List<JRightPadded<Statement>> components = new ArrayList<>();
+        for (J.VariableDeclarations field : fields) {
+            for (J.VariableDeclarations.NamedVariable var : field.getVariables()) {
+                Space prefix;
+                if (commented) {
+                    List<Comment> comments = var == field.getVariables().get(0)
+                        ? ListUtils.map(field.getPrefix().getComments(), c -> c.withSuffix(componentIndent))
+                        : Collections.emptyList();
+                    prefix = Space.build(componentIndent, comments);
+                } else {
+                    prefix = components.isEmpty() ? Space.EMPTY : Space.format(" ");
+                }
+                J.VariableDeclarations component = field
+                    .withId(Tree.randomId())
+                    .withPrefix(prefix)
+                    .withModifiers(Collections.emptyList())
+                    .withTypeExpression(field.getTypeExpression().withPrefix(Space.EMPTY))
+                    .withVariables(Collections.singletonList(var));
+                components.add(JRightPadded.build((Statement) component));
+            }
+        }
+        if (commented) {
+            components = ListUtils.mapLast(components, c -> c.withAfter(Space.format("\n" + classDecl.getPrefix().getIndent())));
+        }
+
+        List<Statement> body = new ArrayList<>();
+        for (Statement stmt : classDecl.getBody().getStatements()) {
+            if (stmt instanceof J.MethodDeclaration && !setters.contains(stmt)) {
+                // The members now follow the record header directly
+                body.add(body.isEmpty() ? stmt.withPrefix(stmt.getPrefix().withWhitespace(
+                    stmt.getPrefix().getWhitespace().replaceAll("^\\n+", "\n"))) : stmt);
+            }
+        }
+
+        J.ClassDeclaration record = classDecl
+            .withModifiers(ListUtils.map(classDecl.getModifiers(),
+                m -> m.getType() == J.Modifier.Type.Final ? null : m))
+            .withBody(classDecl.getBody().withStatements(body));
+        if (classDecl.getType() instanceof JavaType.Class) {
+            record = record.withType(((JavaType.Class) classDecl.getType()).withKind(JavaType.FullyQualified.Kind.Record));
+        }
+        record = record.getPadding().withKind(record.getPadding().getKind().withType(J.ClassDeclaration.Kind.Type.Record));
+        return record.getPadding().withPrimaryConstructor(JContainer.build(Space.EMPTY, components, Markers.EMPTY));
+    }
+
+    private static boolean mutatesFields(J.MethodDeclaration method, Set<String> fieldNames) {
+        boolean[] mutates = {false};
+        new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.Assignment visitAssignment(J.Assignment assignment, Integer p) {
+                if (isFieldReference(assignment.getVariable(), fieldNames)) {
+                    mutates[0] = true;
+                }
+                return super.visitAssignment(assignment, p);
+            }
+
+            @Override
+            public J.AssignmentOperation visitAssignmentOperation(J.AssignmentOperation assignOp, Integer p) {
+                if (isFieldReference(assignOp.getVariable(), fieldNames)) {
+                    mutates[0] = true;
+                }
+                return super.visitAssignmentOperation(assignOp, p);
+            }
+
+            @Override
+            public J.Unary visitUnary(J.Unary unary, Integer p) {
+                if (unary.getOperator().isModifying() && isFieldReference(unary.getExpression(), fieldNames)) {
+                    mutates[0] = true;
+                }
+                return super.visitUnary(unary, p);
+            }
+        }.visit(method.getBody(), 0);
+        return mutates[0];
+    }
+
+    private static boolean isFieldReference(Expression expression, Set<String> fieldNames) {
+        if (expression instanceof J.Identifier) {
+            return fieldNames.contains(((J.Identifier) expression).getSimpleName());
+        }
+        if (expression instanceof J.FieldAccess) {
+            J.FieldAccess fieldAccess = (J.FieldAccess) expression;
+            return fieldAccess.getTarget() instanceof J.Identifier &&
+                   "this".equals(((J.Identifier) fieldAccess.getTarget()).getSimpleName()) &&
+                   fieldNames.contains(fieldAccess.getSimpleName());
+        }
+        return false;
+    }
+
+    /**
+     * Returns the field a simple setter ({@code setX(value) { this.x = value; }}) assigns, or {@code null}.
+     */
+    private static @Nullable String setterTarget(J.MethodDeclaration method, Set<String> fieldNames) {
+        if (!method.getSimpleName().startsWith("set") ||
+            method.getParameters().size() != 1 ||
+            method.getBody() == null ||
+            method.getBody().getStatements().size() != 1) {
+            return null;
+        }
+        Statement statement = method.getBody().getStatements().get(0);
+        if (!(statement instanceof J.Assignment)) {
+            return null;
+        }
+        Expression variable = ((J.Assignment) statement).getVariable();
+        if (!isFieldReference(variable, fieldNames)) {
+            return null;
+        }
+        return variable instanceof J.FieldAccess
+            ? ((J.FieldAccess) variable).getSimpleName()
+            : ((J.Identifier) variable).getSimpleName();
+    }
+
+    private static String generateConverterConfiguration(String pkg, Map<String, String> converters) {
+        StringBuilder source = new StringBuilder();
+        if (!pkg.isEmpty()) {
+            source.append("package ").append(pkg).append(";\n\n");
+        }
+        source.append("import org.springframework.context.annotation.Configuration;\n")
+            .append("import org.springframework.format.FormatterRegistry;\n")
+            .append("import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;\n\n")
+            .append("/**\n")
+            .append(" * Registers String converters for parameter types that JAX-RS converted through\n")
+            .append(" * fromString/valueOf, so request binding does not resolve factory methods reflectively.\n")
+            .append(" */\n")
+            .append("@Configuration\n")
+            .append("public class ").append(CONFIGURATION_CLASS_NAME).append(" implements WebMvcConfigurer {\n\n")
+            .append("    @Override\n")
+            .append("    public void addFormatters(FormatterRegistry registry) {\n");
+        for (Map.Entry<String, String> entry : converters.entrySet()) {
+            String type = entry.getKey();
+            source.append("        registry.addConverter(String.class, ").append(type).append(".class, ")
+                .append(type).append("::").append(entry.getValue()).append(");\n");
+        }
+        source.append("    }\n")
+            .append("}\n");
+        return source.toString();
+    }
+
+    private static String extractSourceRoot(String sourcePath, String pkg) {
+        int lastSlash = sourcePath.lastIndexOf('/');
+        String dir = lastSlash >= 0 ? sourcePath.substring(0, lastSlash) : "";
+        String pkgPath = pkg.replace('.', '/');
+        if (!pkgPath.isEmpty() && dir.endsWith(pkgPath)) {
+            dir = dir.substring(0, dir.length() - pkgPath.length());
+            if (dir.endsWith("/")) {
+                dir = dir.substring(0, dir.length() - 1);
+            }
+        }
+        return dir;
+    }
+
+    private boolean shouldMigrate(@Nullable Path sourcePath) {
+        ProjectConfiguration.JaxRsStrategy override = ProjectConfiguration.JaxRsStrategy.fromString(strategy);
+        if (override != null) {
+            return override == ProjectConfiguration.JaxRsStrategy.MIGRATE_TO_SPRING_MVC;
+        }
+        if (sourcePath == null) {
+            return ProjectConfiguration.mavenDefaults().getJaxRsStrategy()
+                    == ProjectConfiguration.JaxRsStrategy.MIGRATE_TO_SPRING_MVC;
+        }
+        ProjectConfiguration config = ProjectConfigurationLoader.loadWithInheritance(extractProjectRoot(sourcePath));
+        return config.getJaxRsStrategy() == ProjectConfiguration.JaxRsStrategy.MIGRATE_TO_SPRING_MVC;
+    }
+
+    private static Path extractProjectRoot(Path sourcePath) {
+        if (sourcePath == null) {
+            return Paths.get(System.getProperty("user.dir"));
+        }
+        Path current = sourcePath.toAbsolutePath().getParent();
+        while (current != null) {
+            if (Files.exists(current.resolve("pom.xml")) ||
+                Files.exists(current.resolve("build.gradle")) ||
+                Files.exists(current.resolve("project.yaml"))) {
+                return current;
+            }
+            current = current.getParent();
+        }
+        return Paths.get(System.getProperty("user.dir"));
+    }
+}
@@ -43,6 +43,8 @@
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 /**
  * Generates JAX-RS server configuration for Spring Boot.
@@ -77,23 +79,43 @@ public class GenerateJaxRsServerConfig extends ScanningRecipe<GenerateJaxRsServe
     private static final String CXF_VERSION = "4.1.4";
 
     static class Accumulator {
-        Map<Path, ModuleState> modules = new HashMap<>();
+        final Map<Path, ModuleState> modules = new ConcurrentSkipListMap<>();
     }
 
+    /**
+     * Filled by concurrent scanners. Where several classes qualify, the one with the smallest source path wins, so
+     * the outcome does not depend on the order in which files are scanned.
+     */
     static class ModuleState {
         final Path moduleRoot;
-        List<ResourceInfo> resources = new ArrayList<>();
-        boolean hasExistingConfig = false;
-        Set<String> detectedProviders = new HashSet<>();  // all auto-detected providers
+        final List<ResourceInfo> resources = Collections.synchronizedList(new ArrayList<>());
+        volatile boolean hasExistingConfig = false;
+        final Set<String> detectedProviders = ConcurrentHashMap.newKeySet();  // all auto-detected providers
         String mainSourceRoot = null;
         String springBootApplicationPackage = null;
-        Set<String> packages = new HashSet<>();
-        Set<String> classFqns = new HashSet<>();
+        final Set<String> packages = ConcurrentHashMap.newKeySet();
+        final Set<String> classFqns = ConcurrentHashMap.newKeySet();
+        private String springBootApplicationPath;
+        private String firstSourcePath;
 
         ModuleState(Path moduleRoot) {
             this.moduleRoot = moduleRoot;
         }
 
+        synchronized void recordSpringBootApplication(String path, String pkg) {
+            if (springBootApplicationPath == null || path.compareTo(springBootApplicationPath) <= 0) {
+                springBootApplicationPath = path;
+                springBootApplicationPackage = pkg;
+            }
+        }
+
+        synchronized void recordSource(String path, String sourceRoot) {
+            if (firstSourcePath == null || path.compareTo(firstSourcePath) < 0) {
+                firstSourcePath = path;
+                mainSourceRoot = sourceRoot;
+            }
+        }
+
         /**
          * Returns the single detected provider if exactly one, otherwise null.
          * Use this when no explicit provider is configured.
@@ -190,10 +212,8 @@ private Tree visitJavaFile(J.CompilationUnit cu, ExecutionContext ctx) {
                     boolean isSpringBootApp = classDecl.getLeadingAnnotations().stream()
                         .anyMatch(GenerateJaxRsServerConfig::isSpringBootApplicationAnnotation);
                     if (isSpringBootApp) {
-                        module.springBootApplicationPackage = pkg;
-                        if (module.mainSourceRoot == null) {
-                            module.mainSourceRoot = extractSourceRoot(normalizedPath);
-                        }
+                        module.recordSpringBootApplication(normalizedPath, pkg);
+                        module.recordSource(normalizedPath, extractSourceRoot(normalizedPath));
                     }
 
                     // Check for @Path annotation
@@ -201,10 +221,7 @@ private Tree visitJavaFile(J.CompilationUnit cu, ExecutionContext ctx) {
                         ResourceInfo resource = new ResourceInfo(classDecl.getSimpleName(), pkg);
                         resource.pathValue = extractPathValue(classDecl);
                         module.resources.add(resource);
-
-                        if (module.mainSourceRoot == null) {
-                            module.mainSourceRoot = extractSourceRoot(normalizedPath);
-                        }
+                        module.recordSource(normalizedPath, extractSourceRoot(normalizedPath));
                     }
 
                     // Check for existing config
@@ -2,6 +2,8 @@
 
 import com.github.rewrite.ejb.config.ProjectConfiguration;
 import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
@@ -15,6 +17,8 @@
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.stream.Collectors;
 
 /**
@@ -23,12 +27,16 @@
  * This recipe should be run after all migration recipes to generate a summary
  * of items requiring manual review, grouped by category.
  */
+@RecipeIo(
+    reads = {MigrationArtifact.JAVA, MigrationArtifact.BUILD, MigrationArtifact.OTHER},
+    generates = MigrationArtifact.OTHER)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class GenerateMigrationReport extends ScanningRecipe<GenerateMigrationReport.Accumulator> {
 
     private static final String NEEDS_REVIEW_FQN = "com.github.rewrite.ejb.annotations.NeedsReview";
     private static final String EJB_MARKER_PACKAGE = "com.github.migration.annotations";
+    private static final String EJB_MARKER_PREFIX = EJB_MARKER_PACKAGE + ".Ejb";
 
     // All Ejb* marker annotations indicating non-migrated EJB constructs
     private static final Set<String> EJB_MARKER_ANNOTATIONS = new LinkedHashSet<>(Arrays.asList(
@@ -174,10 +182,11 @@ public String toString() {
 
     static class Accumulator {
         // WFQ-007: Per-module tracking for multi-module projects
-        Map<String, List<ReviewItem>> itemsByModule = new LinkedHashMap<>();
-        Map<String, List<EjbMarkerItem>> markersByModule = new LinkedHashMap<>();
+        // Filled by concurrent scanners: modules and source roots are kept sorted, items are sorted in generate()
+        final Map<String, List<ReviewItem>> itemsByModule = new ConcurrentSkipListMap<>();
+        final Map<String, List<EjbMarkerItem>> markersByModule = new ConcurrentSkipListMap<>();
         String projectRoot = null;
-        Set<String> detectedSourceRoots = new LinkedHashSet<>();
+        final Set<String> detectedSourceRoots = new ConcurrentSkipListSet<>();
     }
 
     @Override
@@ -234,13 +243,13 @@ public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Ex
                 // Check class-level @NeedsReview
                 for (J.Annotation ann : classDecl.getLeadingAnnotations()) {
                     if (isNeedsReviewAnnotation(ann, cu)) {
-                        acc.itemsByModule.computeIfAbsent(modulePath, k -> new ArrayList<>())
+                        acc.itemsByModule.computeIfAbsent(modulePath, k -> Collections.synchronizedList(new ArrayList<>()))
                             .add(extractReviewItem(ann, sourcePath, className, null));
                     }
                     // Check class-level Ejb* marker annotations
                     String ejbMarkerType = getEjbMarkerType(ann, cu);
                     if (ejbMarkerType != null) {
-                        acc.markersByModule.computeIfAbsent(modulePath, k -> new ArrayList<>())
+                        acc.markersByModule.computeIfAbsent(modulePath, k -> Collections.synchronizedList(new ArrayList<>()))
                             .add(extractEjbMarkerItem(ann, sourcePath, className, null, ejbMarkerType));
                     }
                 }
@@ -303,13 +312,13 @@ public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, Ex
                 // Check method-level @NeedsReview
                 for (J.Annotation ann : method.getLeadingAnnotations()) {
                     if (isNeedsReviewAnnotation(ann, cu)) {
-                        acc.itemsByModule.computeIfAbsent(modulePath, k -> new ArrayList<>())
+                        acc.itemsByModule.computeIfAbsent(modulePath, k -> Collections.synchronizedList(new ArrayList<>()))
                             .add(extractReviewItem(ann, sourcePath, className, method.getSimpleName() + "()"));
                     }
                     // Check method-level Ejb* marker annotations
                     String ejbMarkerType = getEjbMarkerType(ann, cu);
                     if (ejbMarkerType != null) {
-                        acc.markersByModule.computeIfAbsent(modulePath, k -> new ArrayList<>())
+                        acc.markersByModule.computeIfAbsent(modulePath, k -> Collections.synchronizedList(new ArrayList<>()))
                             .add(extractEjbMarkerItem(ann, sourcePath, className, method.getSimpleName() + "()", ejbMarkerType));
                     }
                 }
@@ -345,13 +354,13 @@ public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations v
                         // Check field-level @NeedsReview
                         for (J.Annotation ann : declAnnotations) {
                             if (isNeedsReviewAnnotation(ann, cu)) {
-                                acc.itemsByModule.computeIfAbsent(modulePath, k -> new ArrayList<>())
+                                acc.itemsByModule.computeIfAbsent(modulePath, k -> Collections.synchronizedList(new ArrayList<>()))
                                     .add(extractReviewItem(ann, sourcePath, className, fieldName));
                             }
                             // Check field-level Ejb* marker annotations
                             String ejbMarkerType = getEjbMarkerType(ann, cu);
                             if (ejbMarkerType != null) {
-                                acc.markersByModule.computeIfAbsent(modulePath, k -> new ArrayList<>())
+                                acc.markersByModule.computeIfAbsent(modulePath, k -> Collections.synchronizedList(new ArrayList<>()))
                                     .add(extractEjbMarkerItem(ann, sourcePath, className, fieldName, ejbMarkerType));
                             }
                         }
@@ -367,8 +376,7 @@ private boolean isNeedsReviewAnnotation(J.Annotation ann, J.CompilationUnit cu)
                     return true;
                 }
                 // Check for fully qualified annotation without type attribution (e.g., @com.github.rewrite.ejb.annotations.NeedsReview)
-                String annotationFqn = getAnnotationFqn(ann);
-                if (NEEDS_REVIEW_FQN.equals(annotationFqn)) {
+                if (spells(ann.getAnnotationType(), NEEDS_REVIEW_FQN, NEEDS_REVIEW_FQN.length())) {
                     return true;
                 }
                 // Fallback to simple name with import verification
@@ -379,36 +387,23 @@ private boolean isNeedsReviewAnnotation(J.Annotation ann, J.CompilationUnit cu)
             }
 
             /**
-             * Extracts the fully qualified name from an annotation's type expression.
-             * Handles J.FieldAccess for FQN annotations like @com.github.migration.annotations.EjbSchedule
+             * Checks if a name expression like {@code com.github.migration.annotations.EjbSchedule} spells the first
+             * {@code length} characters of {@code name}. Compares segment by segment from the end, without building
+             * the name.
              */
-            private String getAnnotationFqn(J.Annotation ann) {
-                if (ann.getAnnotationType() instanceof J.FieldAccess) {
-                    return extractFullyQualifiedName((J.FieldAccess) ann.getAnnotationType());
-                }
-                return null;
-            }
-
-            /**
-             * Recursively extracts the fully qualified name from a J.FieldAccess.
-             */
-            private String extractFullyQualifiedName(J.FieldAccess fieldAccess) {
-                StringBuilder fqn = new StringBuilder();
-                buildFqn(fieldAccess, fqn);
-                return fqn.toString();
-            }
-
-            private void buildFqn(Expression expr, StringBuilder sb) {
+            private boolean spells(J expr, String name, int length) {
                 if (expr instanceof J.FieldAccess) {
                     J.FieldAccess fa = (J.FieldAccess) expr;
-                    buildFqn(fa.getTarget(), sb);
-                    if (sb.length() > 0) {
-                        sb.append(".");
-                    }
-                    sb.append(fa.getSimpleName());
-                } else if (expr instanceof J.Identifier) {
-                    sb.append(((J.Identifier) expr).getSimpleName());
+                    String segment = fa.getSimpleName();
+                    int start = length - segment.length();
+                    return start > 0 && name.charAt(start - 1) == '.' && name.startsWith(segment, start) &&
+                           spells(fa.getTarget(), name, start - 1);
                 }
+                if (expr instanceof J.Identifier) {
+                    String segment = ((J.Identifier) expr).getSimpleName();
+                    return segment.length() == length && name.startsWith(segment);
+                }
+                return false;
             }
 
             private ReviewItem extractReviewItem(J.Annotation ann, String sourcePath, String className, String memberName) {
@@ -474,17 +469,20 @@ private String extractCategoryAttribute(J.Annotation ann) {
              */
             private String getEjbMarkerType(J.Annotation ann, J.CompilationUnit cu) {
                 // Check FQN first if type info is available
-                if (ann.getType() != null) {
-                    String fqn = ann.getType().toString();
-                    if (fqn.startsWith(EJB_MARKER_PACKAGE + ".Ejb")) {
+                if (ann.getType() instanceof JavaType.FullyQualified) {
+                    String fqn = ((JavaType.FullyQualified) ann.getType()).getFullyQualifiedName();
+                    if (fqn.startsWith(EJB_MARKER_PREFIX)) {
                         return fqn.substring(EJB_MARKER_PACKAGE.length() + 1);
                     }
                 }
                 // Check for fully qualified annotation without type attribution
                 // (e.g., @com.github.migration.annotations.EjbSchedule)
-                String annotationFqn = getAnnotationFqn(ann);
-                if (annotationFqn != null && annotationFqn.startsWith(EJB_MARKER_PACKAGE + ".Ejb")) {
-                    return annotationFqn.substring(EJB_MARKER_PACKAGE.length() + 1);
+                if (ann.getAnnotationType() instanceof J.FieldAccess) {
+                    J.FieldAccess fa = (J.FieldAccess) ann.getAnnotationType();
+                    if (fa.getSimpleName().startsWith("Ejb") &&
+                        spells(fa.getTarget(), EJB_MARKER_PACKAGE, EJB_MARKER_PACKAGE.length())) {
+                        return fa.getSimpleName();
+                    }
                 }
                 // Fallback to simple name check with import verification
                 String simpleName = ann.getSimpleName();
@@ -504,21 +502,11 @@ private String getEjbMarkerType(J.Annotation ann, J.CompilationUnit cu) {
              */
             private boolean hasImportForPackage(J.CompilationUnit cu, String packageName) {
                 for (J.Import imp : cu.getImports()) {
-                    String importStr = imp.getQualid().toString();
-                    // Check wildcard import (e.g., com.github.migration.annotations.*)
-                    if (importStr.equals(packageName + ".*")) {
+                    // Both a wildcard import (com.github.migration.annotations.*) and a direct import
+                    // (com.github.migration.annotations.EjbSchedule) qualify their last segment with the package
+                    if (spells(imp.getQualid().getTarget(), packageName, packageName.length())) {
                         return true;
                     }
-                    // Check direct import - extract package and verify exact match
-                    // e.g., for import "com.github.migration.annotations.EjbSchedule"
-                    // the package is "com.github.migration.annotations"
-                    int lastDot = importStr.lastIndexOf('.');
-                    if (lastDot > 0) {
-                        String importPackage = importStr.substring(0, lastDot);
-                        if (importPackage.equals(packageName)) {
-                            return true;
-                        }
-                    }
                 }
                 return false;
             }
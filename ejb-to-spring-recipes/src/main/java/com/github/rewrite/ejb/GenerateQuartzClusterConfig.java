@@ -0,0 +1,570 @@
+package com.github.rewrite.ejb;
+
+import com.github.rewrite.ejb.config.ProjectConfiguration;
+import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.maven.MavenIsoVisitor;
+import org.openrewrite.maven.tree.MavenResolutionResult;
+import org.openrewrite.maven.tree.ResolvedDependency;
+import org.openrewrite.properties.PropertiesParser;
+import org.openrewrite.properties.tree.Properties;
+import org.openrewrite.text.PlainText;
+import org.openrewrite.xml.tree.Xml;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Generates clustered Quartz JDBC job store settings for {@code cluster: quartz-jdbc}.
+ * <p>
+ * Spring Boot's Quartz defaults (10 threads, one trigger per acquisition, 60s misfire threshold,
+ * no clustering) make every node compete for the QRTZ_LOCKS row once per fired trigger. This recipe
+ * sizes the scheduler from the migrated schedules instead:
+ * <ul>
+ *   <li>Trigger count and firings per hour from EJB {@code @Schedule}/{@code @Schedules} and
+ *       programmatic {@code TimerService.create*Timer} calls (literal intervals where available)</li>
+ *   <li>{@code threadPool.threadCount}, {@code batchTriggerAcquisitionMaxCount} with
+ *       {@code acquireTriggersWithinLock}, {@code misfireThreshold} and {@code clusterCheckinInterval}
+ *       derived from the firing rate and the shortest interval</li>
+ *   <li>The driver delegate for the datasource detected from the JDBC URL
+ *       (application properties, persistence.xml) or the JDBC driver dependency</li>
+ * </ul>
+ * The schema is not generated: Spring Boot creates it on embedded databases from the DDL bundled with Quartz
+ * ({@code org/quartz/impl/jdbcjobstore/tables_<platform>.sql}), and the generated block names the script to apply
+ * to production schemas, so the DDL always matches the Quartz version on the classpath. The thread pool is sized for
+ * an assumed average job duration ({@link #assumedJobSeconds}), which the generated block states.
+ * Properties already present in application.properties are never overwritten.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class GenerateQuartzClusterConfig extends ScanningRecipe<GenerateQuartzClusterConfig.Accumulator> {
+
+    // Average job duration assumed when sizing the thread pool; EJB timers are typically short batch steps
+    static final double DEFAULT_JOB_SECONDS = 2.0;
+    static final int MIN_THREADS = 5;
+    static final int MAX_THREADS = 50;
+    // Timers whose interval cannot be derived from the source are assumed to fire once a minute
+    static final long DEFAULT_INTERVAL_SECONDS = 60;
+
+    private static final Set<String> TIMER_FACTORY_METHODS = Set.of(
+        "createTimer", "createIntervalTimer", "createCalendarTimer", "createSingleActionTimer");
+    private static final Pattern JDBC_URL = Pattern.compile("jdbc:([a-z0-9]+):");
+    private static final String PROPERTY_PREFIX = "spring.quartz.properties.org.quartz.";
+    private static final Set<String> EMBEDDED_DRIVER_PLATFORMS = Set.of("h2", "hsqldb");
+    // application.properties/.yml describe the deployed datasource, profile files (application-dev.properties)
+    // and persistence.xml only count when it defines none
+    private static final Comparator<String> JDBC_URL_SOURCE_ORDER =
+        Comparator.comparingInt(GenerateQuartzClusterConfig::jdbcUrlSourceRank).thenComparing(Comparator.naturalOrder());
+
+    @Option(displayName = "Assumed job duration in seconds",
+            description = "Average run time of a migrated timer job, used to size threadPool.threadCount. " +
+                          "Defaults to 2 seconds.",
+            example = "30",
+            required = false)
+    @Nullable
+    Double assumedJobSeconds;
+
+    public GenerateQuartzClusterConfig() {
+        this.assumedJobSeconds = null;
+    }
+
+    public GenerateQuartzClusterConfig(@Nullable Double assumedJobSeconds) {
+        this.assumedJobSeconds = assumedJobSeconds;
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "Generate Quartz JDBC cluster tuning";
+    }
+
+    @Override
+    public String getDescription() {
+        return "For cluster: quartz-jdbc, generates spring.quartz.properties sized from the migrated schedules " +
+               "(thread count, batch trigger acquisition, misfire threshold, cluster check-in interval) and the " +
+               "driver delegate for the detected database. The schema comes from the DDL bundled with Quartz.";
+    }
+
+    static class Accumulator {
+        final Map<String, ModuleState> modules = new ConcurrentSkipListMap<>();
+    }
+
+    /**
+     * Filled by concurrent scanners. Triggers are counted per interval and summed in interval order, the JDBC URL
+     * comes from the highest ranked file (smallest path on ties) and driver dependencies are kept sorted, so the
+     * tuning does not depend on the scan order.
+     */
+    static class ModuleState {
+        final String modulePrefix;
+        volatile String resourceRoot = "src/main/resources";
+        private final Map<Long, Integer> triggersByInterval = new ConcurrentSkipListMap<>();
+        final Set<String> driverPlatforms = new ConcurrentSkipListSet<>();
+        @Nullable String jdbcUrlPlatform;
+        @Nullable String applicationPropertiesPath;
+        private @Nullable String jdbcUrlPath;
+
+        ModuleState(String modulePrefix) {
+            this.modulePrefix = modulePrefix;
+        }
+
+        void addTrigger(long intervalSeconds) {
+            triggersByInterval.merge(intervalSeconds, 1, Integer::sum);
+        }
+
+        int triggerCount() {
+            return triggersByInterval.values().stream().mapToInt(Integer::intValue).sum();
+        }
+
+        double firingsPerHour() {
+            double firingsPerHour = 0;
+            for (Map.Entry<Long, Integer> triggers : triggersByInterval.entrySet()) {
+                firingsPerHour += triggers.getValue() * 3600.0 / Math.max(1, triggers.getKey());
+            }
+            return firingsPerHour;
+        }
+
+        long minIntervalSeconds() {
+            return triggersByInterval.isEmpty() ? -1 : Collections.min(triggersByInterval.keySet());
+        }
+
+        synchronized void recordJdbcUrl(String path, String platform) {
+            if (jdbcUrlPath == null || JDBC_URL_SOURCE_ORDER.compare(path, jdbcUrlPath) < 0) {
+                jdbcUrlPath = path;
+                jdbcUrlPlatform = platform;
+            }
+        }
+
+        synchronized void recordApplicationProperties(String path) {
+            if (applicationPropertiesPath == null || path.compareTo(applicationPropertiesPath) < 0) {
+                applicationPropertiesPath = path;
+            }
+        }
+
+        /**
+         * The JDBC URL platform, else the driver dependency. Embedded drivers (usually there for
+         * local runs and tests) only count when no other driver is declared.
+         */
+        DatabasePlatform platform() {
+            if (jdbcUrlPlatform != null) {
+                return DatabasePlatform.fromKey(jdbcUrlPlatform);
+            }
+            return DatabasePlatform.fromKey(driverPlatforms.stream()
+                .filter(platform -> !EMBEDDED_DRIVER_PLATFORMS.contains(platform))
+                .findFirst()
+                .orElse(driverPlatforms.isEmpty() ? null : driverPlatforms.iterator().next()));
+        }
+    }
+
+    /**
+     * Database specific Quartz settings: driver delegate and the name of the DDL script bundled with Quartz.
+     */
+    enum DatabasePlatform {
+        POSTGRES("postgres", "org.quartz.impl.jdbcjobstore.PostgreSQLDelegate"),
+        MYSQL("mysql_innodb", "org.quartz.impl.jdbcjobstore.StdJDBCDelegate"),
+        ORACLE("oracle", "org.quartz.impl.jdbcjobstore.oracle.OracleDelegate"),
+        SQLSERVER("sqlServer", "org.quartz.impl.jdbcjobstore.MSSQLDelegate"),
+        DB2("db2_v95", "org.quartz.impl.jdbcjobstore.DB2v8Delegate"),
+        HSQLDB("hsqldb", "org.quartz.impl.jdbcjobstore.HSQLDBDelegate"),
+        H2("h2", "org.quartz.impl.jdbcjobstore.StdJDBCDelegate"),
+        STANDARD(null, "org.quartz.impl.jdbcjobstore.StdJDBCDelegate");
+
+        private final @Nullable String scriptSuffix;
+        final String delegateClass;
+
+        DatabasePlatform(@Nullable String scriptSuffix, String delegateClass) {
+            this.scriptSuffix = scriptSuffix;
+            this.delegateClass = delegateClass;
+        }
+
+        static DatabasePlatform fromKey(@Nullable String key) {
+            if (key == null) {
+                return STANDARD;
+            }
+            return switch (key) {
+                case "postgresql", "pgsql" -> POSTGRES;
+                case "mysql", "mariadb" -> MYSQL;
+                case "oracle" -> ORACLE;
+                case "sqlserver", "jtds" -> SQLSERVER;
+                case "db2" -> DB2;
+                case "hsqldb" -> HSQLDB;
+                case "h2" -> H2;
+                default -> STANDARD;
+            };
+        }
+
+        /**
+         * Classpath location of the Quartz DDL for this database, the one Spring Boot runs for embedded databases,
+         * or {@code null} if the database is unknown.
+         */
+        @Nullable String bundledScript() {
+            return scriptSuffix == null ? null : "org/quartz/impl/jdbcjobstore/tables_" + scriptSuffix + ".sql";
+        }
+    }
+
+    /**
+     * Scheduler sizing derived from the migrated schedules.
+     */
+    static final class QuartzTuning {
+        final int threadCount;
+        final int batchMaxCount;
+        final long misfireThresholdMillis;
+        final long clusterCheckinIntervalMillis;
+
+        private QuartzTuning(int threadCount, int batchMaxCount, long misfireThresholdMillis,
+                             long clusterCheckinIntervalMillis) {
+            this.threadCount = threadCount;
+            this.batchMaxCount = batchMaxCount;
+            this.misfireThresholdMillis = misfireThresholdMillis;
+            this.clusterCheckinIntervalMillis = clusterCheckinIntervalMillis;
+        }
+
+        /**
+         * Threads cover the average concurrency (firings/s x job duration) twice over for bursts at
+         * shared cron boundaries. One acquisition fetches the triggers due within the next second,
+         * so the QRTZ_LOCKS row is taken once per batch instead of once per trigger. Misfire
+         * threshold and check-in interval follow the shortest interval: a job firing every 10s must
+         * be recovered well before its next firing, while hourly jobs keep the defaults.
+         */
+        static QuartzTuning forSchedules(double firingsPerHour, long minIntervalSeconds, double jobSeconds) {
+            double firingsPerSecond = firingsPerHour / 3600.0;
+            int threads = clamp((long) Math.ceil(firingsPerSecond * jobSeconds * 2), MIN_THREADS, MAX_THREADS);
+            int batch = clamp((long) Math.ceil(firingsPerSecond), 1, threads);
+            long intervalMillis = minIntervalSeconds > 0 ? minIntervalSeconds * 1000 : 60_000;
+            long misfire = clamp(intervalMillis / 2, 5_000, 60_000);
+            long checkin = clamp(intervalMillis, 5_000, 20_000);
+            return new QuartzTuning(threads, batch, misfire, checkin);
+        }
+
+        private static int clamp(long value, int min, int max) {
+            return (int) Math.max(min, Math.min(max, value));
+        }
+
+        private static long clamp(long value, long min, long max) {
+            return Math.max(min, Math.min(max, value));
+        }
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile)) {
+                    return tree;
+                }
+                SourceFile sourceFile = (SourceFile) tree;
+                String sourcePath = normalizePath(sourceFile.getSourcePath());
+                ProjectConfiguration config = ProjectConfigurationLoader.loadWithInheritance(
+                    extractProjectRoot(sourceFile.getSourcePath()));
+                if (!config.isQuartzJdbcCluster()) {
+                    return tree;
+                }
+
+                if (tree instanceof J.CompilationUnit) {
+                    if (config.isMainSource(sourcePath)) {
+                        scanCompilationUnit((J.CompilationUnit) tree, module(acc, sourcePath, config));
+                    }
+                } else if (tree instanceof Xml.Document && sourcePath.endsWith("pom.xml")) {
+                    scanPom((Xml.Document) tree, sourcePath, acc, ctx);
+                } else if (tree instanceof Xml.Document && sourcePath.endsWith("persistence.xml")) {
+                    recordJdbcUrl(module(acc, sourcePath, config), sourcePath, ((Xml.Document) tree).printAll());
+                } else if (isApplicationProperties(sourcePath) && !config.isTestSource(sourcePath)) {
+                    ModuleState module = module(acc, sourcePath, config);
+                    recordJdbcUrl(module, sourcePath, sourceFile.printAll());
+                    if (sourcePath.endsWith("/application.properties") &&
+                        (tree instanceof PlainText || tree instanceof Properties.File)) {
+                        module.recordApplicationProperties(sourcePath);
+                    }
+                }
+                return tree;
+            }
+        };
+    }
+
+    private static ModuleState module(Accumulator acc, String sourcePath, ProjectConfiguration config) {
+        ModuleState module = acc.modules.computeIfAbsent(extractModulePrefix(sourcePath, config), ModuleState::new);
+        if (!config.getResourceRoots().isEmpty()) {
+            module.resourceRoot = config.getResourceRoots().get(0);
+        }
+        return module;
+    }
+
+    private static boolean isApplicationProperties(String sourcePath) {
+        String fileName = sourcePath.substring(sourcePath.lastIndexOf('/') + 1);
+        return fileName.startsWith("application") &&
+               (fileName.endsWith(".properties") || fileName.endsWith(".yml") || fileName.endsWith(".yaml"));
+    }
+
+    private static int jdbcUrlSourceRank(String sourcePath) {
+        String fileName = sourcePath.substring(sourcePath.lastIndexOf('/') + 1);
+        if (fileName.equals("application.properties") || fileName.equals("application.yml") ||
+            fileName.equals("application.yaml")) {
+            return 0;
+        }
+        return isApplicationProperties(sourcePath) ? 1 : 2;
+    }
+
+    private static void scanCompilationUnit(J.CompilationUnit cu, ModuleState module) {
+        new JavaIsoVisitor<ModuleState>() {
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ModuleState state) {
+                J.MethodDeclaration md = super.visitMethodDeclaration(method, state);
+                for (TimerScheduleUtils.ScheduleConfig config : TimerScheduleUtils.extractAllScheduleConfigs(md)) {
+                    long interval = config.estimateMinIntervalSeconds();
+                    state.addTrigger(interval > 0 ? interval : DEFAULT_INTERVAL_SECONDS);
+                }
+                return md;
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ModuleState state) {
+                J.MethodInvocation mi = super.visitMethodInvocation(method, state);
+                if (TIMER_FACTORY_METHODS.contains(mi.getSimpleName()) && isTimerServiceCall(mi)) {
+                    state.addTrigger(programmaticIntervalSeconds(mi));
+                }
+                return mi;
+            }
+        }.visit(cu, module);
+    }
+
+    private static boolean isTimerServiceCall(J.MethodInvocation mi) {
+        if (mi.getMethodType() != null) {
+            return TypeUtils.isOfClassType(mi.getMethodType().getDeclaringType(), TimerScheduleUtils.TIMER_SERVICE_FQN) ||
+                   TypeUtils.isOfClassType(mi.getMethodType().getDeclaringType(), "javax.ejb.TimerService");
+        }
+        return mi.getSelect() != null && mi.getSelect().printTrimmed().toLowerCase(Locale.ROOT).contains("timerservice");
+    }
+
+    /**
+     * createIntervalTimer(initial, intervalMillis, config) and createTimer(initial, intervalMillis, info)
+     * carry the interval as second argument; all other forms use the default interval.
+     */
+    private static long programmaticIntervalSeconds(J.MethodInvocation mi) {
+        List<Expression> args = mi.getArguments();
+        if (args.size() == 3 && args.get(1) instanceof J.Literal &&
+            ((J.Literal) args.get(1)).getValue() instanceof Number) {
+            long millis = ((Number) ((J.Literal) args.get(1)).getValue()).longValue();
+            if (millis > 0) {
+                return Math.max(1, millis / 1000);
+            }
+        }
+        return DEFAULT_INTERVAL_SECONDS;
+    }
+
+    private static void recordJdbcUrl(ModuleState module, String sourcePath, String content) {
+        Matcher matcher = JDBC_URL.matcher(content);
+        if (matcher.find()) {
+            module.recordJdbcUrl(sourcePath, matcher.group(1));
+        }
+    }
+
+    private void scanPom(Xml.Document doc, String sourcePath, Accumulator acc, ExecutionContext ctx) {
+        String modulePrefix = sourcePath.equals("pom.xml") ? "" : sourcePath.substring(0, sourcePath.length() - "pom.xml".length());
+        new MavenIsoVisitor<ExecutionContext>() {
+            @Override
+            public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
+                MavenResolutionResult mrr = getResolutionResult();
+                if (mrr != null) {
+                    for (ResolvedDependency dep : mrr.getDependencies().values().stream()
+                            .flatMap(List::stream).toList()) {
+                        String platform = driverPlatform(dep.getGroupId(), dep.getArtifactId());
+                        if (platform != null && !"test".equalsIgnoreCase(dep.getRequested().getScope())) {
+                            acc.modules.computeIfAbsent(modulePrefix, ModuleState::new).driverPlatforms.add(platform);
+                        }
+                    }
+                }
+                return document;
+            }
+        }.visit(doc, ctx);
+    }
+
+    private static @Nullable String driverPlatform(String groupId, String artifactId) {
+        if ("org.postgresql".equals(groupId)) {
+            return "postgresql";
+        } else if (artifactId.startsWith("mysql-connector")) {
+            return "mysql";
+        } else if ("mariadb-java-client".equals(artifactId)) {
+            return "mariadb";
+        } else if (artifactId.startsWith("ojdbc")) {
+            return "oracle";
+        } else if ("mssql-jdbc".equals(artifactId)) {
+            return "sqlserver";
+        } else if ("com.ibm.db2".equals(groupId)) {
+            return "db2";
+        } else if ("com.h2database".equals(groupId)) {
+            return "h2";
+        } else if ("org.hsqldb".equals(groupId)) {
+            return "hsqldb";
+        }
+        return null;
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        List<SourceFile> generated = new ArrayList<>();
+        for (ModuleState module : acc.modules.values()) {
+            if (module.triggerCount() == 0) {
+                continue;
+            }
+            if (module.applicationPropertiesPath == null) {
+                String propertiesPath = module.modulePrefix + module.resourceRoot + "/application.properties";
+                generated.add(PlainText.builder()
+                    .sourcePath(Paths.get(propertiesPath))
+                    .text(generateProperties(module, "", jobSeconds()))
+                    .build());
+            }
+        }
+        return generated;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof PlainText) && !(tree instanceof Properties.File)) {
+                    return tree;
+                }
+                SourceFile sourceFile = (SourceFile) tree;
+                String sourcePath = normalizePath(sourceFile.getSourcePath());
+                ModuleState module = acc.modules.values().stream()
+                    .filter(m -> sourcePath.equals(m.applicationPropertiesPath))
+                    .findFirst().orElse(null);
+                if (module == null || module.triggerCount() == 0) {
+                    return tree;
+                }
+                String existing = sourceFile.printAll();
+                String block = generateProperties(module, existing, jobSeconds());
+                if (block.isEmpty()) {
+                    return tree;
+                }
+                String updated = (existing.endsWith("\n") ? existing : existing + "\n") + "\n" + block;
+                if (tree instanceof PlainText) {
+                    return ((PlainText) tree).withText(updated);
+                }
+                return new PropertiesParser().parse(updated).findFirst()
+                    .map(parsed -> (Tree) ((Properties.File) parsed)
+                        .withId(sourceFile.getId())
+                        .withSourcePath(sourceFile.getSourcePath()))
+                    .orElse(tree);
+            }
+        };
+    }
+
+    private double jobSeconds() {
+        return assumedJobSeconds != null && assumedJobSeconds > 0 ? assumedJobSeconds : DEFAULT_JOB_SECONDS;
+    }
+
+    /**
+     * Builds the Quartz properties block, leaving out keys that {@code existing} already defines.
+     * Returns an empty string when every key is already configured.
+     */
+    static String generateProperties(ModuleState module, String existing, double jobSeconds) {
+        DatabasePlatform platform = module.platform();
+        QuartzTuning tuning = QuartzTuning.forSchedules(module.firingsPerHour(), module.minIntervalSeconds(), jobSeconds);
+
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.quartz.job-store-type", "jdbc");
+        // Embedded databases get Quartz's bundled schema for the detected platform at startup; production schemas
+        // are managed by migration tooling
+        properties.put("spring.quartz.jdbc.initialize-schema", "embedded");
+        properties.put(PROPERTY_PREFIX + "scheduler.instanceId", "AUTO");
+        properties.put(PROPERTY_PREFIX + "jobStore.isClustered", "true");
+        properties.put(PROPERTY_PREFIX + "jobStore.clusterCheckinInterval", String.valueOf(tuning.clusterCheckinIntervalMillis));
+        properties.put(PROPERTY_PREFIX + "jobStore.driverDelegateClass", platform.delegateClass);
+        properties.put(PROPERTY_PREFIX + "jobStore.tablePrefix", "QRTZ_");
+        properties.put(PROPERTY_PREFIX + "jobStore.misfireThreshold", String.valueOf(tuning.misfireThresholdMillis));
+        properties.put(PROPERTY_PREFIX + "jobStore.acquireTriggersWithinLock", String.valueOf(tuning.batchMaxCount > 1));
+        properties.put(PROPERTY_PREFIX + "scheduler.batchTriggerAcquisitionMaxCount", String.valueOf(tuning.batchMaxCount));
+        properties.put(PROPERTY_PREFIX + "scheduler.batchTriggerAcquisitionFireAheadTimeWindow",
+            tuning.batchMaxCount > 1 ? "1000" : "0");
+        properties.put(PROPERTY_PREFIX + "threadPool.threadCount", String.valueOf(tuning.threadCount));
+
+        StringBuilder block = new StringBuilder();
+        for (Map.Entry<String, String> property : properties.entrySet()) {
+            Pattern keyPattern = Pattern.compile("(?m)^\\s*" + Pattern.quote(property.getKey()) + "\\s*[=:]");
+            if (!keyPattern.matcher(existing).find()) {
+                block.append(property.getKey()).append('=').append(property.getValue()).append('\n');
+            }
+        }
+        if (block.length() == 0) {
+            return "";
+        }
+        String script = platform.bundledScript();
+        return "# Quartz JDBC cluster (generated for cluster: quartz-jdbc)\n" +
+               "# Sized for " + module.triggerCount() + " triggers, ~" + Math.round(module.firingsPerHour()) +
+               " firings/hour, shortest interval " + (module.minIntervalSeconds() > 0 ? module.minIntervalSeconds() + "s" : "unknown") + "\n" +
+               "# The thread pool assumes jobs run " + formatSeconds(jobSeconds) + "s on average; " +
+               "raise it for longer jobs\n" +
+               (script != null
+                   ? "# Production schema: apply " + script + " from the quartz jar\n"
+                   : "# Production schema: apply the org/quartz/impl/jdbcjobstore/tables_*.sql script of the quartz jar " +
+                     "for your database\n") +
+               block;
+    }
+
+    private static String formatSeconds(double seconds) {
+        return seconds == Math.rint(seconds) ? String.valueOf((long) seconds) : String.valueOf(seconds);
+    }
+
+    private static String extractModulePrefix(String sourcePath, @Nullable ProjectConfiguration config) {
+        List<String> roots = new ArrayList<>();
+        if (config != null) {
+            roots.addAll(config.getMainSourceRoots());
+            roots.addAll(config.getResourceRoots());
+        }
+        roots.add("src/main/java");
+        roots.add("src/main/resources");
+        for (String root : roots) {
+            int idx = sourcePath.indexOf("/" + root + "/");
+            if (idx >= 0) {
+                return sourcePath.substring(0, idx + 1);
+            }
+            if (sourcePath.startsWith(root + "/")) {
+                return "";
+            }
+        }
+        int idx = sourcePath.indexOf("/src/");
+        return idx > 0 ? sourcePath.substring(0, idx + 1) : "";
+    }
+
+    private static String normalizePath(@Nullable Path path) {
+        if (path == null) {
+            return "";
+        }
+        return path.toString().replace('\\', '/');
+    }
+
+    private static Path extractProjectRoot(Path sourcePath) {
+        if (sourcePath == null) {
+            return Paths.get(System.getProperty("user.dir"));
+        }
+        Path current = sourcePath.toAbsolutePath().getParent();
+        while (current != null) {
+            if (Files.exists(current.resolve("pom.xml")) ||
+                Files.exists(current.resolve("build.gradle")) ||
+                Files.exists(current.resolve("project.yaml"))) {
+                return current;
+            }
+            current = current.getParent();
+        }
+        return Paths.get(System.getProperty("user.dir"));
+    }
+}
@@ -6,7 +6,6 @@
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
-import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.text.PlainText;
@@ -16,12 +15,12 @@
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 /**
  * Generates REST/gRPC stub classes for @Remote EJB interfaces/classes.
@@ -72,8 +71,9 @@ public String getDescription() {
     }
 
     static class Accumulator {
-        Map<String, RemoteTypeInfo> remoteTypes = new LinkedHashMap<>();
-        Set<Path> existingSourcePaths = new HashSet<>();
+        // filled by concurrent scanners, sorted by FQN so that stubs are generated in a fixed order
+        final Map<String, RemoteTypeInfo> remoteTypes = new ConcurrentSkipListMap<>();
+        final Set<Path> existingSourcePaths = ConcurrentHashMap.newKeySet();
         String strategyWarning;
     }
 
@@ -123,11 +123,6 @@ public Accumulator getInitialValue(ExecutionContext ctx) {
     @Override
     public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
         JavaIsoVisitor<ExecutionContext> javaScanner = new JavaIsoVisitor<ExecutionContext>() {
-            private static final AnnotationMatcher REMOTE_JAVAX_MATCHER =
-                new AnnotationMatcher("@javax.ejb.Remote");
-            private static final AnnotationMatcher REMOTE_JAKARTA_MATCHER =
-                new AnnotationMatcher("@jakarta.ejb.Remote");
-
             @Override
             public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
                 J.CompilationUnit updated = super.visitCompilationUnit(cu, ctx);
@@ -160,14 +155,14 @@ public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionCon
                     String packageName = cu.getPackageDeclaration().getPackageName();
                     String simpleName = classDecl.getSimpleName();
                     List<MethodStub> methods = extractMethods(classDecl);
-                    acc.remoteTypes.put(fqn, new RemoteTypeInfo(fqn, packageName, simpleName, mainSourceRoot, methods));
+                    acc.remoteTypes.putIfAbsent(fqn, new RemoteTypeInfo(fqn, packageName, simpleName, mainSourceRoot, methods));
                 }
                 return updated;
             }
 
             private boolean hasRemoteAnnotation(J.ClassDeclaration classDecl) {
                 for (J.Annotation ann : classDecl.getLeadingAnnotations()) {
-                    if (REMOTE_JAVAX_MATCHER.matches(ann) || REMOTE_JAKARTA_MATCHER.matches(ann)) {
+                    if (JavaEeAnnotation.REMOTE.matches(ann)) {
                         return true;
                     }
                 }
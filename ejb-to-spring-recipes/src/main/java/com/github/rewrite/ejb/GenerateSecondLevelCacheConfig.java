@@ -0,0 +1,734 @@
+package com.github.rewrite.ejb;
+
+import com.github.rewrite.ejb.config.ProjectConfiguration;
+import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.maven.AddDependency;
+import org.openrewrite.maven.AddManagedDependency;
+import org.openrewrite.maven.MavenIsoVisitor;
+import org.openrewrite.maven.tree.MavenResolutionResult;
+import org.openrewrite.maven.tree.ResolvedDependency;
+import org.openrewrite.text.PlainText;
+import org.openrewrite.xml.XPathMatcher;
+import org.openrewrite.xml.XmlVisitor;
+import org.openrewrite.xml.tree.Xml;
+
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Generates a JCache-backed Hibernate second-level cache bootstrap for entities that were
+ * cached by the application server (WildFly provides Infinispan L2 caching out of the box).
+ * <p>
+ * Detection:
+ * <ul>
+ *   <li>{@code <shared-cache-mode>} in persistence.xml (NONE disables the recipe)</li>
+ *   <li>{@code @Cacheable} / {@code @org.hibernate.annotations.Cache} on {@code @Entity} classes</li>
+ *   <li>{@code eclipselink.cache.size.<Entity>} for per-region sizing</li>
+ * </ul>
+ * <p>
+ * Generated per module:
+ * <ul>
+ *   <li>{@code SecondLevelCacheConfiguration} - a {@code HibernatePropertiesCustomizer} enabling
+ *       the second-level and query cache with the JCache region factory</li>
+ *   <li>{@code ehcache.xml} (default) or {@code application.conf} (Caffeine) with one sized region
+ *       per cached entity plus the query-results and update-timestamps regions</li>
+ *   <li>{@code ReferenceDataCacheWarmup} - preloads read-only entities ({@code @Immutable} or
+ *       {@code @Cache(usage = READ_ONLY)}) after startup</li>
+ *   <li>hibernate-jcache and the cache provider dependency in the module pom.xml, versioned by Spring Boot's
+ *       dependency management; a module that does not inherit it yet imports the Spring Boot BOM first, since
+ *       AddSpringBootDependencies only runs in a later phase</li>
+ * </ul>
+ * <p>
+ * The properties are applied via a customizer instead of application.properties so this recipe
+ * does not compete with MigratePersistenceXmlToProperties for the same file in one cycle.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class GenerateSecondLevelCacheConfig extends ScanningRecipe<GenerateSecondLevelCacheConfig.Accumulator> {
+
+    @Option(displayName = "Cache provider",
+            description = "JCache provider for the Hibernate second-level cache: ehcache or caffeine. " +
+                          "Defaults to ehcache.",
+            example = "caffeine",
+            required = false)
+    @Nullable
+    String provider;
+
+    @Option(displayName = "Default region size",
+            description = "Maximum number of entries per cache region when persistence.xml does not " +
+                          "specify a size for the entity. Defaults to 1000.",
+            example = "5000",
+            required = false)
+    @Nullable
+    Integer defaultRegionSize;
+
+    static final int DEFAULT_REGION_SIZE = 1000;
+
+    private static final String SPRING_BOOT_VERSION = "3.5.0";
+    // AddDependency requires a version; it is not written because Spring Boot manages these artifacts
+    private static final String BOOT_MANAGED = "latest.release";
+
+    private static final String CONFIG_CLASS_NAME = "SecondLevelCacheConfiguration";
+    private static final String WARMUP_CLASS_NAME = "ReferenceDataCacheWarmup";
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    private static final String EHCACHE_PROVIDER_CLASS = "org.ehcache.jsr107.EhcacheCachingProvider";
+    private static final String CAFFEINE_PROVIDER_CLASS = "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider";
+
+    private static final Set<String> ENTITY_ANNOTATIONS = Set.of(
+        "jakarta.persistence.Entity",
+        "javax.persistence.Entity"
+    );
+    private static final Set<String> CACHEABLE_ANNOTATIONS = Set.of(
+        "jakarta.persistence.Cacheable",
+        "javax.persistence.Cacheable"
+    );
+    private static final String HIBERNATE_CACHE_FQN = "org.hibernate.annotations.Cache";
+    private static final String HIBERNATE_IMMUTABLE_FQN = "org.hibernate.annotations.Immutable";
+
+    public GenerateSecondLevelCacheConfig() {
+        this.provider = null;
+        this.defaultRegionSize = null;
+    }
+
+    public GenerateSecondLevelCacheConfig(@Nullable String provider, @Nullable Integer defaultRegionSize) {
+        this.provider = provider;
+        this.defaultRegionSize = defaultRegionSize;
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "Generate Hibernate second-level cache configuration";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Generates a JCache (Ehcache or Caffeine) second-level and query cache bootstrap for @Cacheable " +
+               "entities and persistence.xml shared-cache-mode, including per-region sizing and a warm-up hook " +
+               "for read-only reference data.";
+    }
+
+    static class Accumulator {
+        final Map<String, ModuleState> modules = new ConcurrentSkipListMap<>();
+        volatile String sharedCacheMode;
+        final Map<String, Integer> configuredRegionSizes = new ConcurrentHashMap<>();
+        final Set<String> classCacheEntities = ConcurrentHashMap.newKeySet();
+        final Set<String> existingResourcePaths = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Filled by concurrent scanners. Of several main sources or {@code @SpringBootApplication} classes, the one with
+     * the smallest path wins, so the outcome does not depend on the order in which files are scanned.
+     */
+    static class ModuleState {
+        final String modulePrefix;
+        String mainSourceRoot = "src/main/java";
+        volatile String resourceRoot = "src/main/resources";
+        String springBootApplicationPackage;
+        final Set<String> mainPackages = ConcurrentHashMap.newKeySet();
+        final Set<String> classFqns = ConcurrentHashMap.newKeySet();
+        final Map<String, CachedEntity> entities = new ConcurrentSkipListMap<>();
+        volatile boolean hasJCacheDependency = false;
+        private String mainSourcePath;
+        private String springBootApplicationPath;
+
+        ModuleState(String modulePrefix) {
+            this.modulePrefix = modulePrefix;
+        }
+
+        synchronized void recordMainSource(String path, String sourceRoot) {
+            if (mainSourcePath == null || path.compareTo(mainSourcePath) < 0) {
+                mainSourcePath = path;
+                mainSourceRoot = sourceRoot;
+            }
+        }
+
+        synchronized void recordSpringBootApplication(String path, String pkg) {
+            if (springBootApplicationPath == null || path.compareTo(springBootApplicationPath) < 0) {
+                springBootApplicationPath = path;
+                springBootApplicationPackage = pkg;
+            }
+        }
+    }
+
+    static class CachedEntity {
+        final String fqn;
+        final String simpleName;
+        final boolean cacheable;
+        final boolean excluded;
+        final boolean readOnly;
+        final @Nullable String region;
+
+        CachedEntity(String fqn, String simpleName, boolean cacheable, boolean excluded,
+                     boolean readOnly, @Nullable String region) {
+            this.fqn = fqn;
+            this.simpleName = simpleName;
+            this.cacheable = cacheable;
+            this.excluded = excluded;
+            this.readOnly = readOnly;
+            this.region = region;
+        }
+
+        String regionName() {
+            return region != null ? region : fqn;
+        }
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile)) {
+                    return tree;
+                }
+                String sourcePath = PathUtils.separatorsToUnix(((SourceFile) tree).getSourcePath().toString());
+                if (sourcePath.endsWith("/ehcache.xml") || sourcePath.endsWith("/application.conf")) {
+                    acc.existingResourcePaths.add(sourcePath);
+                }
+                if (tree instanceof J.CompilationUnit) {
+                    scanCompilationUnit((J.CompilationUnit) tree, acc);
+                } else if (tree instanceof Xml.Document && sourcePath.endsWith("persistence.xml")) {
+                    scanPersistenceXml((Xml.Document) tree, acc);
+                } else if (tree instanceof Xml.Document && sourcePath.endsWith("pom.xml")) {
+                    scanPom((Xml.Document) tree, sourcePath, acc, ctx);
+                }
+                return tree;
+            }
+        };
+    }
+
+    private void scanCompilationUnit(J.CompilationUnit cu, Accumulator acc) {
+        String sourcePath = PathUtils.separatorsToUnix(cu.getSourcePath().toString());
+        ProjectConfiguration config = ProjectConfigurationLoader.loadWithInheritance(
+            MigratePersistenceXmlToProperties.extractProjectRoot(cu.getSourcePath()));
+        if (!config.isMainSource(sourcePath)) {
+            return;
+        }
+        String modulePrefix = extractModulePrefix(sourcePath, config);
+        ModuleState module = acc.modules.computeIfAbsent(modulePrefix, ModuleState::new);
+        module.recordMainSource(sourcePath, extractSourceRoot(sourcePath, config.getMainSourceRoots(), "src/main/java"));
+        if (!config.getResourceRoots().isEmpty()) {
+            module.resourceRoot = config.getResourceRoots().get(0);
+        }
+
+        String pkg = cu.getPackageDeclaration() != null ? cu.getPackageDeclaration().getPackageName() : "";
+        module.mainPackages.add(pkg);
+
+        for (J.ClassDeclaration classDecl : cu.getClasses()) {
+            String fqn = pkg.isEmpty() ? classDecl.getSimpleName() : pkg + "." + classDecl.getSimpleName();
+            module.classFqns.add(fqn);
+
+            boolean entity = false;
+            Boolean cacheable = null;
+            boolean hibernateCache = false;
+            boolean readOnly = false;
+            String region = null;
+            for (J.Annotation ann : classDecl.getLeadingAnnotations()) {
+                if (isAnnotation(ann, ENTITY_ANNOTATIONS, "Entity")) {
+                    entity = true;
+                } else if (isAnnotation(ann, CACHEABLE_ANNOTATIONS, "Cacheable")) {
+                    cacheable = !isFalseLiteralArgument(ann);
+                } else if (isAnnotation(ann, Set.of(HIBERNATE_CACHE_FQN), "Cache")) {
+                    hibernateCache = true;
+                    readOnly |= "READ_ONLY".equals(annotationEnumArgument(ann, "usage"));
+                    region = annotationStringArgument(ann, "region");
+                } else if (isAnnotation(ann, Set.of(HIBERNATE_IMMUTABLE_FQN), "Immutable")) {
+                    readOnly = true;
+                } else if ("SpringBootApplication".equals(ann.getSimpleName())) {
+                    module.recordSpringBootApplication(sourcePath, pkg);
+                }
+            }
+            if (entity) {
+                boolean isCached = Boolean.TRUE.equals(cacheable) || (cacheable == null && hibernateCache);
+                module.entities.put(fqn, new CachedEntity(fqn, classDecl.getSimpleName(), isCached,
+                    Boolean.FALSE.equals(cacheable), readOnly, region));
+            }
+        }
+    }
+
+    private void scanPersistenceXml(Xml.Document doc, Accumulator acc) {
+        new XmlVisitor<Accumulator>() {
+            private final XPathMatcher sharedCacheModeMatcher = new XPathMatcher("/persistence/persistence-unit/shared-cache-mode");
+            private final XPathMatcher propertyMatcher = new XPathMatcher("/persistence/persistence-unit/properties/property");
+
+            @Override
+            public Xml visitTag(Xml.Tag tag, Accumulator accumulator) {
+                Xml.Tag t = (Xml.Tag) super.visitTag(tag, accumulator);
+                if (sharedCacheModeMatcher.matches(getCursor())) {
+                    tag.getValue().ifPresent(value -> accumulator.sharedCacheMode = value.trim().toUpperCase(Locale.ROOT));
+                }
+                if (propertyMatcher.matches(getCursor())) {
+                    String name = tag.getAttributes().stream()
+                        .filter(a -> "name".equals(a.getKeyAsString()))
+                        .map(Xml.Attribute::getValueAsString)
+                        .findFirst().orElse(null);
+                    String value = tag.getAttributes().stream()
+                        .filter(a -> "value".equals(a.getKeyAsString()))
+                        .map(Xml.Attribute::getValueAsString)
+                        .findFirst().orElse(null);
+                    if (name != null && value != null) {
+                        recordCacheProperty(name, value.trim(), accumulator);
+                    }
+                }
+                return t;
+            }
+        }.visit(doc, acc);
+    }
+
+    private static void recordCacheProperty(String name, String value, Accumulator acc) {
+        if (name.startsWith("eclipselink.cache.size.") && !name.endsWith(".default")) {
+            try {
+                acc.configuredRegionSizes.put(name.substring("eclipselink.cache.size.".length()), Integer.parseInt(value));
+            } catch (NumberFormatException ignored) {
+                // Non-numeric size (e.g. a placeholder) - fall back to the default region size
+            }
+        } else if (name.startsWith("hibernate.ejb.classcache.")) {
+            acc.classCacheEntities.add(name.substring("hibernate.ejb.classcache.".length()));
+        } else if (name.startsWith("hibernate.classcache.")) {
+            acc.classCacheEntities.add(name.substring("hibernate.classcache.".length()));
+        }
+    }
+
+    private void scanPom(Xml.Document doc, String sourcePath, Accumulator acc, ExecutionContext ctx) {
+        String modulePrefix = sourcePath.equals("pom.xml") ? "" : sourcePath.substring(0, sourcePath.length() - "pom.xml".length());
+        new MavenIsoVisitor<ExecutionContext>() {
+            @Override
+            public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
+                MavenResolutionResult mrr = getResolutionResult();
+                if (mrr != null) {
+                    for (ResolvedDependency dep : mrr.getDependencies().values().stream()
+                            .flatMap(List::stream).toList()) {
+                        if ("org.hibernate.orm".equals(dep.getGroupId()) && "hibernate-jcache".equals(dep.getArtifactId())) {
+                            acc.modules.computeIfAbsent(modulePrefix, ModuleState::new).hasJCacheDependency = true;
+                        }
+                    }
+                }
+                return document;
+            }
+        }.visit(doc, ctx);
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        if ("NONE".equals(acc.sharedCacheMode)) {
+            return Collections.emptyList();
+        }
+
+        JavaParser javaParser = JavaParser.fromJavaVersion().build();
+        List<SourceFile> generated = new ArrayList<>();
+
+        for (ModuleState module : acc.modules.values()) {
+            List<CachedEntity> cached = cachedEntities(module, acc);
+            if (cached.isEmpty() || module.classFqns.isEmpty()) {
+                continue;
+            }
+
+            String basePackage = module.springBootApplicationPackage != null
+                ? module.springBootApplicationPackage
+                : findCommonPackagePrefix(module.mainPackages);
+            String packagePath = basePackage.isEmpty() ? "" : basePackage.replace('.', '/') + "/";
+
+            if (!module.classFqns.contains(qualify(basePackage, CONFIG_CLASS_NAME))) {
+                String source = generateConfigurationSource(basePackage, resolveSharedCacheMode(acc));
+                javaParser.parse(source).findFirst().ifPresent(sf -> generated.add(sf.withSourcePath(
+                    Paths.get(module.modulePrefix + module.mainSourceRoot + "/" + packagePath + CONFIG_CLASS_NAME + ".java"))));
+            }
+
+            List<CachedEntity> referenceData = cached.stream().filter(e -> e.readOnly).toList();
+            if (!referenceData.isEmpty() && !module.classFqns.contains(qualify(basePackage, WARMUP_CLASS_NAME))) {
+                String source = generateWarmupSource(basePackage, referenceData);
+                javaParser.parse(source).findFirst().ifPresent(sf -> generated.add(sf.withSourcePath(
+                    Paths.get(module.modulePrefix + module.mainSourceRoot + "/" + packagePath + WARMUP_CLASS_NAME + ".java"))));
+            }
+
+            String cacheConfigPath = module.modulePrefix + module.resourceRoot + "/" +
+                (isCaffeine() ? "application.conf" : "ehcache.xml");
+            if (!acc.existingResourcePaths.contains(cacheConfigPath)) {
+                String content = isCaffeine()
+                    ? generateCaffeineConfig(cached, acc)
+                    : generateEhcacheConfig(cached, acc);
+                generated.add(PlainText.builder()
+                    .sourcePath(Paths.get(cacheConfigPath))
+                    .text(content)
+                    .build());
+            }
+        }
+        return generated;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        if ("NONE".equals(acc.sharedCacheMode)) {
+            return TreeVisitor.noop();
+        }
+
+        return new MavenIsoVisitor<ExecutionContext>() {
+            @Override
+            public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
+                String sourcePath = PathUtils.separatorsToUnix(document.getSourcePath().toString());
+                if (!sourcePath.endsWith("pom.xml")) {
+                    return document;
+                }
+                String modulePrefix = sourcePath.equals("pom.xml") ? "" : sourcePath.substring(0, sourcePath.length() - "pom.xml".length());
+                ModuleState module = acc.modules.get(modulePrefix);
+                if (module == null || module.hasJCacheDependency || cachedEntities(module, acc).isEmpty()) {
+                    return document;
+                }
+
+                Xml.Document doc = document;
+                if (getResolutionResult().getPom().getManagedVersion(
+                        "org.hibernate.orm", "hibernate-jcache", null, null) == null) {
+                    // AddManagedDependency: groupId, artifactId, version, scope, type,
+                    // classifier, versionPattern, releasesOnly, onlyIfUsing, addToRootPom
+                    doc = (Xml.Document) new AddManagedDependency(
+                        "org.springframework.boot",
+                        "spring-boot-dependencies",
+                        SPRING_BOOT_VERSION,
+                        "import",
+                        "pom",
+                        null, null, null, null,
+                        false
+                    ).getVisitor().visit(doc, ctx);
+                }
+
+                doc = (Xml.Document) new AddDependency(
+                    "org.hibernate.orm",
+                    "hibernate-jcache",
+                    BOOT_MANAGED,
+                    null, null, null, null, null, null, null, null, null
+                ).getVisitor().visit(doc, ctx);
+
+                if (isCaffeine()) {
+                    doc = (Xml.Document) new AddDependency(
+                        "com.github.ben-manes.caffeine",
+                        "jcache",
+                        BOOT_MANAGED,
+                        null, null, null, null, null, null, null, null, null
+                    ).getVisitor().visit(doc, ctx);
+                } else {
+                    // Ehcache 3.10+ ships the Jakarta XML binding variant under the "jakarta" classifier
+                    doc = (Xml.Document) new AddDependency(
+                        "org.ehcache",
+                        "ehcache",
+                        BOOT_MANAGED,
+                        null, null, null, null, null, "jakarta", null, null, null
+                    ).getVisitor().visit(doc, ctx);
+                }
+                return doc;
+            }
+        };
+    }
+
+    /**
+     * Returns the entities that get a cache region, honoring shared-cache-mode semantics:
+     * ALL caches every entity, DISABLE_SELECTIVE every entity not marked @Cacheable(false),
+     * ENABLE_SELECTIVE/UNSPECIFIED only entities marked cacheable.
+     */
+    private static List<CachedEntity> cachedEntities(ModuleState module, Accumulator acc) {
+        List<CachedEntity> result = new ArrayList<>();
+        for (CachedEntity entity : module.entities.values()) {
+            boolean selected;
+            if ("ALL".equals(acc.sharedCacheMode)) {
+                selected = true;
+            } else if ("DISABLE_SELECTIVE".equals(acc.sharedCacheMode)) {
+                selected = !entity.excluded;
+            } else {
+                selected = entity.cacheable || acc.classCacheEntities.contains(entity.fqn);
+            }
+            if (selected) {
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+
+    private static String resolveSharedCacheMode(Accumulator acc) {
+        if (acc.sharedCacheMode == null || "UNSPECIFIED".equals(acc.sharedCacheMode)) {
+            return "ENABLE_SELECTIVE";
+        }
+        return acc.sharedCacheMode;
+    }
+
+    private int resolveRegionSize(CachedEntity entity, Accumulator acc) {
+        Integer configured = acc.configuredRegionSizes.get(entity.simpleName);
+        if (configured == null) {
+            configured = acc.configuredRegionSizes.get(entity.fqn);
+        }
+        if (configured != null && configured > 0) {
+            return configured;
+        }
+        return defaultRegionSize();
+    }
+
+    private int defaultRegionSize() {
+        return defaultRegionSize != null && defaultRegionSize > 0 ? defaultRegionSize : DEFAULT_REGION_SIZE;
+    }
+
+    private boolean isCaffeine() {
+        return provider != null && "caffeine".equalsIgnoreCase(provider.trim());
+    }
+
+    private String generateConfigurationSource(String basePackage, String sharedCacheMode) {
+        StringBuilder source = new StringBuilder();
+        if (!basePackage.isEmpty()) {
+            source.append("package ").append(basePackage).append(";\n\n");
+        }
+        source.append("import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;\n")
+            .append("import org.springframework.context.annotation.Bean;\n")
+            .append("import org.springframework.context.annotation.Configuration;\n\n")
+            .append("/**\n")
+            .append(" * Hibernate second-level and query cache, replacing the application server provided cache.\n")
+            .append(" * Region sizes are configured in ").append(isCaffeine() ? "application.conf" : "ehcache.xml").append(".\n")
+            .append(" */\n")
+            .append("@Configuration(proxyBeanMethods = false)\n")
+            .append("public class ").append(CONFIG_CLASS_NAME).append(" {\n\n")
+            .append("    @Bean\n")
+            .append("    HibernatePropertiesCustomizer secondLevelCacheProperties() {\n")
+            .append("        return properties -> {\n")
+            .append("            properties.put(\"hibernate.cache.use_second_level_cache\", \"true\");\n")
+            .append("            properties.put(\"hibernate.cache.use_query_cache\", \"true\");\n")
+            .append("            properties.put(\"hibernate.cache.region.factory_class\", \"jcache\");\n")
+            .append("            properties.put(\"hibernate.javax.cache.provider\", \"")
+            .append(isCaffeine() ? CAFFEINE_PROVIDER_CLASS : EHCACHE_PROVIDER_CLASS).append("\");\n");
+        if (!isCaffeine()) {
+            source.append("            properties.put(\"hibernate.javax.cache.uri\", \"classpath:ehcache.xml\");\n");
+        }
+        source.append("            properties.put(\"jakarta.persistence.sharedCache.mode\", \"").append(sharedCacheMode).append("\");\n")
+            .append("        };\n")
+            .append("    }\n")
+            .append("}\n");
+        return source.toString();
+    }
+
+    private String generateWarmupSource(String basePackage, List<CachedEntity> referenceData) {
+        StringBuilder source = new StringBuilder();
+        if (!basePackage.isEmpty()) {
+            source.append("package ").append(basePackage).append(";\n\n");
+        }
+        source.append("import jakarta.persistence.CacheStoreMode;\n")
+            .append("import jakarta.persistence.EntityManager;\n")
+            .append("import jakarta.persistence.EntityManagerFactory;\n")
+            .append("import jakarta.persistence.criteria.CriteriaQuery;\n")
+            .append("import org.slf4j.Logger;\n")
+            .append("import org.slf4j.LoggerFactory;\n")
+            .append("import org.springframework.boot.context.event.ApplicationReadyEvent;\n")
+            .append("import org.springframework.context.event.EventListener;\n")
+            .append("import org.springframework.stereotype.Component;\n\n")
+            .append("import java.util.List;\n\n")
+            .append("/**\n")
+            .append(" * Preloads read-only reference data into the second-level cache after startup.\n")
+            .append(" */\n")
+            .append("@Component\n")
+            .append("public class ").append(WARMUP_CLASS_NAME).append(" {\n\n")
+            .append("    private static final Logger log = LoggerFactory.getLogger(").append(WARMUP_CLASS_NAME).append(".class);\n\n")
+            .append("    private static final List<Class<?>> REFERENCE_DATA = List.of(\n");
+        for (int i = 0; i < referenceData.size(); i++) {
+            source.append("        ").append(referenceData.get(i).fqn).append(".class")
+                .append(i < referenceData.size() - 1 ? ",\n" : "\n");
+        }
+        source.append("    );\n\n")
+            .append("    private final EntityManagerFactory entityManagerFactory;\n\n")
+            .append("    public ").append(WARMUP_CLASS_NAME).append("(EntityManagerFactory entityManagerFactory) {\n")
+            .append("        this.entityManagerFactory = entityManagerFactory;\n")
+            .append("    }\n\n")
+            .append("    @EventListener(ApplicationReadyEvent.class)\n")
+            .append("    public void warmUp() {\n")
+            .append("        EntityManager entityManager = entityManagerFactory.createEntityManager();\n")
+            .append("        try {\n")
+            .append("            for (Class<?> type : REFERENCE_DATA) {\n")
+            .append("                long start = System.nanoTime();\n")
+            .append("                int loaded = load(entityManager, type);\n")
+            .append("                log.info(\"Warmed second-level cache for {}: {} entities in {} ms\",\n")
+            .append("                    type.getSimpleName(), loaded, (System.nanoTime() - start) / 1_000_000);\n")
+            .append("            }\n")
+            .append("        } finally {\n")
+            .append("            entityManager.close();\n")
+            .append("        }\n")
+            .append("    }\n\n")
+            .append("    private <T> int load(EntityManager entityManager, Class<T> type) {\n")
+            .append("        CriteriaQuery<T> query = entityManager.getCriteriaBuilder().createQuery(type);\n")
+            .append("        query.select(query.from(type));\n")
+            .append("        return entityManager.createQuery(query)\n")
+            .append("            .setHint(\"jakarta.persistence.cache.storeMode\", CacheStoreMode.REFRESH)\n")
+            .append("            .getResultList()\n")
+            .append("            .size();\n")
+            .append("    }\n")
+            .append("}\n");
+        return source.toString();
+    }
+
+    private String generateEhcacheConfig(List<CachedEntity> cached, Accumulator acc) {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+            .append("<!-- Hibernate second-level cache regions (generated from persistence.xml and @Cacheable entities) -->\n")
+            .append("<config xmlns=\"http://www.ehcache.org/v3\"\n")
+            .append("        xmlns:jsr107=\"http://www.ehcache.org/v3/jsr107\">\n\n")
+            .append("    <service>\n")
+            .append("        <jsr107:defaults default-template=\"default-region\"/>\n")
+            .append("    </service>\n\n")
+            .append("    <cache-template name=\"default-region\">\n")
+            .append("        <heap unit=\"entries\">").append(defaultRegionSize()).append("</heap>\n")
+            .append("    </cache-template>\n\n");
+        for (CachedEntity entity : cached) {
+            xml.append("    <cache alias=\"").append(entity.regionName()).append("\" uses-template=\"default-region\">\n");
+            if (entity.readOnly) {
+                xml.append("        <expiry><none/></expiry>\n");
+            }
+            xml.append("        <heap unit=\"entries\">").append(resolveRegionSize(entity, acc)).append("</heap>\n")
+                .append("    </cache>\n");
+        }
+        xml.append("\n    <cache alias=\"").append(QUERY_RESULTS_REGION).append("\" uses-template=\"default-region\"/>\n\n")
+            .append("    <!-- Must not expire before the query results it guards -->\n")
+            .append("    <cache alias=\"").append(UPDATE_TIMESTAMPS_REGION).append("\">\n")
+            .append("        <expiry><none/></expiry>\n")
+            .append("        <heap unit=\"entries\">").append(Math.max(defaultRegionSize(), cached.size() * 10)).append("</heap>\n")
+            .append("    </cache>\n")
+            .append("</config>\n");
+        return xml.toString();
+    }
+
+    private String generateCaffeineConfig(List<CachedEntity> cached, Accumulator acc) {
+        StringBuilder conf = new StringBuilder();
+        conf.append("# Hibernate second-level cache regions (generated from persistence.xml and @Cacheable entities)\n")
+            .append("caffeine.jcache {\n")
+            .append("  default {\n")
+            .append("    policy.maximum.size = ").append(defaultRegionSize()).append("\n")
+            .append("  }\n");
+        for (CachedEntity entity : cached) {
+            conf.append("  \"").append(entity.regionName()).append("\" {\n")
+                .append("    policy.maximum.size = ").append(resolveRegionSize(entity, acc)).append("\n")
+                .append("  }\n");
+        }
+        conf.append("  \"").append(QUERY_RESULTS_REGION).append("\" {\n")
+            .append("    policy.maximum.size = ").append(defaultRegionSize()).append("\n")
+            .append("  }\n")
+            .append("  \"").append(UPDATE_TIMESTAMPS_REGION).append("\" {\n")
+            .append("    policy.maximum.size = ").append(Math.max(defaultRegionSize(), cached.size() * 10)).append("\n")
+            .append("  }\n")
+            .append("}\n");
+        return conf.toString();
+    }
+
+    private static boolean isAnnotation(J.Annotation ann, Set<String> fqns, String simpleName) {
+        for (String fqn : fqns) {
+            if (TypeUtils.isOfClassType(ann.getType(), fqn)) {
+                return true;
+            }
+        }
+        return ann.getType() == null && simpleName.equals(ann.getSimpleName());
+    }
+
+    private static boolean isFalseLiteralArgument(J.Annotation ann) {
+        if (ann.getArguments() == null) {
+            return false;
+        }
+        for (Expression arg : ann.getArguments()) {
+            Expression value = arg instanceof J.Assignment ? ((J.Assignment) arg).getAssignment() : arg;
+            if (value instanceof J.Literal && Boolean.FALSE.equals(((J.Literal) value).getValue())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static @Nullable String annotationEnumArgument(J.Annotation ann, String name) {
+        Expression value = annotationArgument(ann, name);
+        if (value instanceof J.FieldAccess) {
+            return ((J.FieldAccess) value).getSimpleName();
+        }
+        if (value instanceof J.Identifier) {
+            return ((J.Identifier) value).getSimpleName();
+        }
+        return null;
+    }
+
+    private static @Nullable String annotationStringArgument(J.Annotation ann, String name) {
+        Expression value = annotationArgument(ann, name);
+        if (value instanceof J.Literal && ((J.Literal) value).getValue() instanceof String) {
+            return (String) ((J.Literal) value).getValue();
+        }
+        return null;
+    }
+
+    private static @Nullable Expression annotationArgument(J.Annotation ann, String name) {
+        if (ann.getArguments() == null) {
+            return null;
+        }
+        for (Expression arg : ann.getArguments()) {
+            if (arg instanceof J.Assignment) {
+                J.Assignment assignment = (J.Assignment) arg;
+                if (assignment.getVariable() instanceof J.Identifier &&
+                    name.equals(((J.Identifier) assignment.getVariable()).getSimpleName())) {
+                    return assignment.getAssignment();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String qualify(String basePackage, String className) {
+        return basePackage.isEmpty() ? className : basePackage + "." + className;
+    }
+
+    private static String findCommonPackagePrefix(Set<String> packages) {
+        String prefix = null;
+        for (String pkg : packages) {
+            if (prefix == null) {
+                prefix = pkg;
+                continue;
+            }
+            while (!prefix.isEmpty() && !(pkg.equals(prefix) || pkg.startsWith(prefix + "."))) {
+                int lastDot = prefix.lastIndexOf('.');
+                prefix = lastDot > 0 ? prefix.substring(0, lastDot) : "";
+            }
+        }
+        return prefix != null ? prefix : "";
+    }
+
+    private static String extractModulePrefix(String sourcePath, @Nullable ProjectConfiguration config) {
+        List<String> roots = new ArrayList<>();
+        if (config != null) {
+            roots.addAll(config.getMainSourceRoots());
+            roots.addAll(config.getResourceRoots());
+        }
+        roots.add("src/main/java");
+        roots.add("src/main/resources");
+        for (String root : roots) {
+            int idx = sourcePath.indexOf("/" + root + "/");
+            if (idx >= 0) {
+                return sourcePath.substring(0, idx + 1);
+            }
+            if (sourcePath.startsWith(root + "/")) {
+                return "";
+            }
+        }
+        int idx = sourcePath.indexOf("/src/");
+        return idx > 0 ? sourcePath.substring(0, idx + 1) : "";
+    }
+
+    private static String extractSourceRoot(String sourcePath, List<String> roots, String defaultRoot) {
+        for (String root : roots) {
+            if (sourcePath.contains("/" + root + "/") || sourcePath.startsWith(root + "/")) {
+                return root;
+            }
+        }
+        return defaultRoot;
+    }
+}
@@ -0,0 +1,454 @@
+package com.github.rewrite.ejb;
+
+import com.github.rewrite.ejb.config.ProjectConfiguration;
+import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.maven.AddDependency;
+import org.openrewrite.maven.MavenIsoVisitor;
+import org.openrewrite.maven.tree.MavenResolutionResult;
+import org.openrewrite.maven.tree.ResolvedDependency;
+import org.openrewrite.text.PlainText;
+import org.openrewrite.xml.tree.Xml;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Generates the ShedLock infrastructure for {@code cluster: shedlock}.
+ * <p>
+ * MigrateScheduleToScheduled and MigrateScheduleToTaskScheduler annotate migrated timers with
+ * {@code @SchedulerLock}; this recipe provides what those annotations need at runtime, per module
+ * that contains EJB {@code @Schedule} methods:
+ * <ul>
+ *   <li>{@code ShedLockConfiguration} - {@code @EnableSchedulerLock} and a {@code JdbcTemplateLockProvider}
+ *       using database time, plus a {@code DataSourceInitializer} that creates the lock table on embedded
+ *       databases only, unless {@code shedlock.jdbc.initialize-schema} is {@code always}</li>
+ *   <li>{@code shedlock-schema.sql} - DDL for the {@code shedlock} table, to be applied to production databases
+ *       through the project's schema migration</li>
+ *   <li>{@code ShedLockConfigurationTest} - a {@code @JdbcTest} verifying lock exclusivity against embedded H2</li>
+ *   <li>shedlock-spring, shedlock-provider-jdbc-template and spring-boot-starter-jdbc dependencies,
+ *       H2 and spring-boot-starter-test in test scope</li>
+ * </ul>
+ * Existing files with the same path or class name are left untouched.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class GenerateShedLockConfig extends ScanningRecipe<GenerateShedLockConfig.Accumulator> {
+
+    static final String SHEDLOCK_VERSION = "6.3.0";
+    static final String DEFAULT_LOCK_AT_MOST_FOR = "PT10M";
+
+    private static final String SPRING_BOOT_VERSION = "3.5.0";
+    private static final String H2_VERSION = "2.3.232";
+
+    private static final String CONFIG_CLASS_NAME = "ShedLockConfiguration";
+    private static final String TEST_CLASS_NAME = "ShedLockConfigurationTest";
+    private static final String SCHEMA_FILE_NAME = "shedlock-schema.sql";
+    private static final String INITIALIZE_SCHEMA_PROPERTY = "shedlock.jdbc.initialize-schema";
+
+    @Override
+    public String getDisplayName() {
+        return "Generate ShedLock configuration for clustered timers";
+    }
+
+    @Override
+    public String getDescription() {
+        return "For cluster: shedlock, generates @EnableSchedulerLock with a JDBC lock provider, the shedlock " +
+               "table DDL, an embedded H2 lock test and the ShedLock dependencies for modules with EJB timers.";
+    }
+
+    static class Accumulator {
+        final Map<String, ModuleState> modules = new ConcurrentSkipListMap<>();
+        final Set<String> existingPaths = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Filled by concurrent scanners. Of several main sources or {@code @SpringBootApplication} classes, the one with
+     * the smallest path wins, so the outcome does not depend on the order in which files are scanned.
+     */
+    static class ModuleState {
+        final String modulePrefix;
+        String mainSourceRoot = "src/main/java";
+        volatile String testSourceRoot = "src/test/java";
+        volatile String resourceRoot = "src/main/resources";
+        String springBootApplicationPackage;
+        final Set<String> mainPackages = ConcurrentHashMap.newKeySet();
+        final Set<String> classFqns = ConcurrentHashMap.newKeySet();
+        volatile boolean hasScheduledTimers = false;
+        volatile boolean hasShedLockDependency = false;
+        private String mainSourcePath;
+        private String springBootApplicationPath;
+
+        ModuleState(String modulePrefix) {
+            this.modulePrefix = modulePrefix;
+        }
+
+        synchronized void recordMainSource(String path, String sourceRoot) {
+            if (mainSourcePath == null || path.compareTo(mainSourcePath) < 0) {
+                mainSourcePath = path;
+                mainSourceRoot = sourceRoot;
+            }
+        }
+
+        synchronized void recordSpringBootApplication(String path, String pkg) {
+            if (springBootApplicationPath == null || path.compareTo(springBootApplicationPath) < 0) {
+                springBootApplicationPath = path;
+                springBootApplicationPackage = pkg;
+            }
+        }
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile)) {
+                    return tree;
+                }
+                String sourcePath = normalizePath(((SourceFile) tree).getSourcePath());
+                acc.existingPaths.add(sourcePath);
+                if (tree instanceof J.CompilationUnit) {
+                    scanCompilationUnit((J.CompilationUnit) tree, sourcePath, acc);
+                } else if (tree instanceof Xml.Document && sourcePath.endsWith("pom.xml")) {
+                    scanPom((Xml.Document) tree, sourcePath, acc, ctx);
+                }
+                return tree;
+            }
+        };
+    }
+
+    private void scanCompilationUnit(J.CompilationUnit cu, String sourcePath, Accumulator acc) {
+        ProjectConfiguration config = ProjectConfigurationLoader.loadWithInheritance(
+            extractProjectRoot(cu.getSourcePath()));
+        if (!config.isShedLockCluster() || !config.isMainSource(sourcePath)) {
+            return;
+        }
+        ModuleState module = acc.modules.computeIfAbsent(extractModulePrefix(sourcePath, config), ModuleState::new);
+        module.recordMainSource(sourcePath, extractSourceRoot(sourcePath, config.getMainSourceRoots(), "src/main/java"));
+        if (!config.getTestSourceRoots().isEmpty()) {
+            module.testSourceRoot = config.getTestSourceRoots().get(0);
+        }
+        if (!config.getResourceRoots().isEmpty()) {
+            module.resourceRoot = config.getResourceRoots().get(0);
+        }
+
+        String pkg = cu.getPackageDeclaration() != null ? cu.getPackageDeclaration().getPackageName() : "";
+        module.mainPackages.add(pkg);
+        for (J.ClassDeclaration classDecl : cu.getClasses()) {
+            module.classFqns.add(qualify(pkg, classDecl.getSimpleName()));
+            if (classDecl.getLeadingAnnotations().stream().anyMatch(a -> "SpringBootApplication".equals(a.getSimpleName()))) {
+                module.recordSpringBootApplication(sourcePath, pkg);
+            }
+        }
+
+        if (!module.hasScheduledTimers) {
+            new JavaIsoVisitor<ModuleState>() {
+                @Override
+                public J.Annotation visitAnnotation(J.Annotation annotation, ModuleState state) {
+                    if (isTimerAnnotation(annotation)) {
+                        state.hasScheduledTimers = true;
+                    }
+                    return annotation;
+                }
+            }.visit(cu, module);
+        }
+    }
+
+    private static boolean isTimerAnnotation(J.Annotation ann) {
+        if (TimerScheduleUtils.isScheduleAnnotation(ann) || TimerScheduleUtils.isSchedulesAnnotation(ann)) {
+            return true;
+        }
+        return TypeUtils.isOfClassType(ann.getType(), TimerScheduleUtils.SCHEDULER_LOCK_FQN) ||
+               "SchedulerLock".equals(ann.getSimpleName());
+    }
+
+    private void scanPom(Xml.Document doc, String sourcePath, Accumulator acc, ExecutionContext ctx) {
+        String modulePrefix = sourcePath.equals("pom.xml") ? "" : sourcePath.substring(0, sourcePath.length() - "pom.xml".length());
+        new MavenIsoVisitor<ExecutionContext>() {
+            @Override
+            public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
+                MavenResolutionResult mrr = getResolutionResult();
+                if (mrr != null) {
+                    for (ResolvedDependency dep : mrr.getDependencies().values().stream()
+                            .flatMap(List::stream).toList()) {
+                        if ("net.javacrumbs.shedlock".equals(dep.getGroupId()) &&
+                            dep.getArtifactId().startsWith("shedlock-provider-")) {
+                            acc.modules.computeIfAbsent(modulePrefix, ModuleState::new).hasShedLockDependency = true;
+                        }
+                    }
+                }
+                return document;
+            }
+        }.visit(doc, ctx);
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        JavaParser javaParser = JavaParser.fromJavaVersion().build();
+        List<SourceFile> generated = new ArrayList<>();
+
+        for (ModuleState module : acc.modules.values()) {
+            if (!module.hasScheduledTimers) {
+                continue;
+            }
+            String basePackage = module.springBootApplicationPackage != null
+                ? module.springBootApplicationPackage
+                : findCommonPackagePrefix(module.mainPackages);
+            String packagePath = basePackage.isEmpty() ? "" : basePackage.replace('.', '/') + "/";
+
+            String configPath = module.modulePrefix + module.mainSourceRoot + "/" + packagePath + CONFIG_CLASS_NAME + ".java";
+            if (!module.classFqns.contains(qualify(basePackage, CONFIG_CLASS_NAME)) && !acc.existingPaths.contains(configPath)) {
+                javaParser.parse(generateConfigurationSource(basePackage)).findFirst()
+                    .ifPresent(sf -> generated.add(sf.withSourcePath(Paths.get(configPath))));
+
+                String testPath = module.modulePrefix + module.testSourceRoot + "/" + packagePath + TEST_CLASS_NAME + ".java";
+                if (!acc.existingPaths.contains(testPath)) {
+                    javaParser.parse(generateTestSource(basePackage)).findFirst()
+                        .ifPresent(sf -> generated.add(sf.withSourcePath(Paths.get(testPath))));
+                }
+            }
+
+            String schemaPath = module.modulePrefix + module.resourceRoot + "/" + SCHEMA_FILE_NAME;
+            if (!acc.existingPaths.contains(schemaPath)) {
+                generated.add(PlainText.builder()
+                    .sourcePath(Paths.get(schemaPath))
+                    .text(generateSchema())
+                    .build());
+            }
+        }
+        return generated;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return new MavenIsoVisitor<ExecutionContext>() {
+            @Override
+            public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
+                String sourcePath = normalizePath(document.getSourcePath());
+                if (!sourcePath.endsWith("pom.xml")) {
+                    return document;
+                }
+                String modulePrefix = sourcePath.equals("pom.xml") ? "" : sourcePath.substring(0, sourcePath.length() - "pom.xml".length());
+                ModuleState module = acc.modules.get(modulePrefix);
+                if (module == null || !module.hasScheduledTimers || module.hasShedLockDependency) {
+                    return document;
+                }
+
+                Xml.Document doc = document;
+                doc = addDependency(doc, "net.javacrumbs.shedlock", "shedlock-spring", SHEDLOCK_VERSION, null, ctx);
+                doc = addDependency(doc, "net.javacrumbs.shedlock", "shedlock-provider-jdbc-template", SHEDLOCK_VERSION, null, ctx);
+                doc = addDependency(doc, "org.springframework.boot", "spring-boot-starter-jdbc", SPRING_BOOT_VERSION, null, ctx);
+                doc = addDependency(doc, "org.springframework.boot", "spring-boot-starter-test", SPRING_BOOT_VERSION, "test", ctx);
+                doc = addDependency(doc, "com.h2database", "h2", H2_VERSION, "test", ctx);
+                return doc;
+            }
+        };
+    }
+
+    private static Xml.Document addDependency(Xml.Document doc, String groupId, String artifactId, String version,
+                                              @Nullable String scope, ExecutionContext ctx) {
+        return (Xml.Document) new AddDependency(
+            groupId,
+            artifactId,
+            version,
+            null, scope, null, null, null, null, null, null, null
+        ).getVisitor().visit(doc, ctx);
+    }
+
+    private static String generateConfigurationSource(String basePackage) {
+        StringBuilder source = new StringBuilder();
+        if (!basePackage.isEmpty()) {
+            source.append("package ").append(basePackage).append(";\n\n");
+        }
+        source.append("import javax.sql.DataSource;\n")
+            .append("import net.javacrumbs.shedlock.core.LockProvider;\n")
+            .append("import net.javacrumbs.shedlock.provider.jdbctemplate.JdbcTemplateLockProvider;\n")
+            .append("import net.javacrumbs.shedlock.spring.annotation.EnableSchedulerLock;\n")
+            .append("import org.springframework.beans.factory.annotation.Value;\n")
+            .append("import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;\n")
+            .append("import org.springframework.context.annotation.Bean;\n")
+            .append("import org.springframework.context.annotation.Configuration;\n")
+            .append("import org.springframework.core.io.ClassPathResource;\n")
+            .append("import org.springframework.jdbc.core.JdbcTemplate;\n")
+            .append("import org.springframework.jdbc.datasource.init.DataSourceInitializer;\n")
+            .append("import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;\n\n")
+            .append("/**\n")
+            .append(" * Cluster-wide locking for migrated EJB timers: every @SchedulerLock job runs on at most one\n")
+            .append(" * node at a time. Lock rows live in the shedlock table (").append(SCHEMA_FILE_NAME).append(");\n")
+            .append(" * lock expiry uses database time, so node clocks do not need to be in sync.\n")
+            .append(" */\n")
+            .append("@Configuration(proxyBeanMethods = false)\n")
+            .append("@EnableSchedulerLock(defaultLockAtMostFor = \"").append(DEFAULT_LOCK_AT_MOST_FOR).append("\")\n")
+            .append("public class ").append(CONFIG_CLASS_NAME).append(" {\n\n")
+            .append("    @Bean\n")
+            .append("    public LockProvider lockProvider(DataSource dataSource) {\n")
+            .append("        return new JdbcTemplateLockProvider(\n")
+            .append("            JdbcTemplateLockProvider.Configuration.builder()\n")
+            .append("                .withJdbcTemplate(new JdbcTemplate(dataSource))\n")
+            .append("                .usingDbTime()\n")
+            .append("                .build());\n")
+            .append("    }\n\n")
+            .append("    /**\n")
+            .append("     * Creates the shedlock table on embedded databases only, like spring.quartz.jdbc.initialize-schema.\n")
+            .append("     * Create it on other databases through the schema migration (").append(SCHEMA_FILE_NAME).append("),\n")
+            .append("     * or set shedlock.jdbc.initialize-schema=always where the database supports CREATE TABLE IF NOT EXISTS.\n")
+            .append("     */\n")
+            .append("    @Bean\n")
+            .append("    public DataSourceInitializer shedLockSchemaInitializer(DataSource dataSource,\n")
+            .append("            @Value(\"${").append(INITIALIZE_SCHEMA_PROPERTY).append(":embedded}\") String initializeSchema) {\n")
+            .append("        DataSourceInitializer initializer = new DataSourceInitializer();\n")
+            .append("        initializer.setDataSource(dataSource);\n")
+            .append("        initializer.setDatabasePopulator(new ResourceDatabasePopulator(new ClassPathResource(\"")
+            .append(SCHEMA_FILE_NAME).append("\")));\n")
+            .append("        initializer.setEnabled(\"always\".equalsIgnoreCase(initializeSchema)\n")
+            .append("            || \"embedded\".equalsIgnoreCase(initializeSchema) && EmbeddedDatabaseConnection.isEmbedded(dataSource));\n")
+            .append("        return initializer;\n")
+            .append("    }\n")
+            .append("}\n");
+        return source.toString();
+    }
+
+    private static String generateTestSource(String basePackage) {
+        StringBuilder source = new StringBuilder();
+        if (!basePackage.isEmpty()) {
+            source.append("package ").append(basePackage).append(";\n\n");
+        }
+        source.append("import static org.assertj.core.api.Assertions.assertThat;\n\n")
+            .append("import java.time.Duration;\n")
+            .append("import java.time.Instant;\n")
+            .append("import java.util.Optional;\n")
+            .append("import net.javacrumbs.shedlock.core.LockConfiguration;\n")
+            .append("import net.javacrumbs.shedlock.core.LockProvider;\n")
+            .append("import net.javacrumbs.shedlock.core.SimpleLock;\n")
+            .append("import org.junit.jupiter.api.Test;\n")
+            .append("import org.springframework.beans.factory.annotation.Autowired;\n")
+            .append("import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;\n")
+            .append("import org.springframework.context.annotation.Import;\n")
+            .append("import org.springframework.transaction.annotation.Propagation;\n")
+            .append("import org.springframework.transaction.annotation.Transactional;\n\n")
+            .append("/**\n")
+            .append(" * Verifies the shedlock table and lock provider against the embedded H2 database.\n")
+            .append(" */\n")
+            .append("@JdbcTest\n")
+            .append("@Import(").append(CONFIG_CLASS_NAME).append(".class)\n")
+            .append("@Transactional(propagation = Propagation.NOT_SUPPORTED)\n")
+            .append("class ").append(TEST_CLASS_NAME).append(" {\n\n")
+            .append("    @Autowired\n")
+            .append("    private LockProvider lockProvider;\n\n")
+            .append("    @Test\n")
+            .append("    void lockIsExclusiveUntilReleased() {\n")
+            .append("        LockConfiguration lock = new LockConfiguration(Instant.now(), \"shedlock-smoke-test\",\n")
+            .append("            Duration.ofMinutes(1), Duration.ZERO);\n\n")
+            .append("        Optional<SimpleLock> first = lockProvider.lock(lock);\n")
+            .append("        assertThat(first).isPresent();\n")
+            .append("        assertThat(lockProvider.lock(lock)).isEmpty();\n\n")
+            .append("        first.get().unlock();\n")
+            .append("        assertThat(lockProvider.lock(lock)).isPresent();\n")
+            .append("    }\n")
+            .append("}\n");
+        return source.toString();
+    }
+
+    private static String generateSchema() {
+        return "-- ShedLock lock table (https://github.com/lukas-krecan/ShedLock#jdbctemplate)\n" +
+               "-- ShedLockConfiguration runs it on embedded databases only (" + INITIALIZE_SCHEMA_PROPERTY + "=embedded).\n" +
+               "-- Apply it to other databases through Flyway, Liquibase or the DBA; Oracle before 23c and SQL Server\n" +
+               "-- need the IF NOT EXISTS removed and their own column types.\n" +
+               "CREATE TABLE IF NOT EXISTS shedlock (\n" +
+               "    name       VARCHAR(64)  NOT NULL,\n" +
+               "    lock_until TIMESTAMP    NOT NULL,\n" +
+               "    locked_at  TIMESTAMP    NOT NULL,\n" +
+               "    locked_by  VARCHAR(255) NOT NULL,\n" +
+               "    PRIMARY KEY (name)\n" +
+               ");\n";
+    }
+
+    private static String qualify(String basePackage, String className) {
+        return basePackage.isEmpty() ? className : basePackage + "." + className;
+    }
+
+    private static String findCommonPackagePrefix(Set<String> packages) {
+        String prefix = null;
+        for (String pkg : packages) {
+            if (prefix == null) {
+                prefix = pkg;
+                continue;
+            }
+            while (!prefix.isEmpty() && !(pkg.equals(prefix) || pkg.startsWith(prefix + "."))) {
+                int lastDot = prefix.lastIndexOf('.');
+                prefix = lastDot > 0 ? prefix.substring(0, lastDot) : "";
+            }
+        }
+        return prefix != null ? prefix : "";
+    }
+
+    private static String extractModulePrefix(String sourcePath, @Nullable ProjectConfiguration config) {
+        List<String> roots = new ArrayList<>();
+        if (config != null) {
+            roots.addAll(config.getMainSourceRoots());
+            roots.addAll(config.getResourceRoots());
+        }
+        roots.add("src/main/java");
+        roots.add("src/main/resources");
+        for (String root : roots) {
+            int idx = sourcePath.indexOf("/" + root + "/");
+            if (idx >= 0) {
+                return sourcePath.substring(0, idx + 1);
+            }
+            if (sourcePath.startsWith(root + "/")) {
+                return "";
+            }
+        }
+        int idx = sourcePath.indexOf("/src/");
+        return idx > 0 ? sourcePath.substring(0, idx + 1) : "";
+    }
+
+    private static String extractSourceRoot(String sourcePath, List<String> roots, String defaultRoot) {
+        for (String root : roots) {
+            if (sourcePath.contains("/" + root + "/") || sourcePath.startsWith(root + "/")) {
+                return root;
+            }
+        }
+        return defaultRoot;
+    }
+
+    private static String normalizePath(@Nullable Path path) {
+        if (path == null) {
+            return "";
+        }
+        return path.toString().replace('\\', '/');
+    }
+
+    private static Path extractProjectRoot(Path sourcePath) {
+        if (sourcePath == null) {
+            return Paths.get(System.getProperty("user.dir"));
+        }
+        Path current = sourcePath.toAbsolutePath().getParent();
+        while (current != null) {
+            if (Files.exists(current.resolve("pom.xml")) ||
+                Files.exists(current.resolve("build.gradle")) ||
+                Files.exists(current.resolve("project.yaml"))) {
+                return current;
+            }
+            current = current.getParent();
+        }
+        return Paths.get(System.getProperty("user.dir"));
+    }
+}
@@ -20,11 +20,14 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedHashMap;
+import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 /**
  * Generates Spring Batch configuration stubs from Jakarta Batch JSL job XML files.
@@ -51,15 +54,19 @@ public String getDescription() {
         return "Creates Spring Batch @Configuration stubs from Jakarta Batch JSL XML files.";
     }
 
+    /**
+     * Filled by concurrent scanners: modules and packages are kept sorted and jobs are sorted in generate(), so the
+     * generated configuration does not depend on the order in which files are scanned.
+     */
     static class Accumulator {
-        Map<String, ModuleInfo> modules = new LinkedHashMap<>();
-        Set<Path> existingSourcePaths = new LinkedHashSet<>();
+        final Map<String, ModuleInfo> modules = new ConcurrentSkipListMap<>();
+        final Set<Path> existingSourcePaths = ConcurrentHashMap.newKeySet();
     }
 
     static class ModuleInfo {
         final String mainSourceRoot;
-        final Set<String> packages = new LinkedHashSet<>();
-        final List<JobInfo> jobs = new ArrayList<>();
+        final Set<String> packages = new ConcurrentSkipListSet<>();
+        final List<JobInfo> jobs = Collections.synchronizedList(new ArrayList<>());
 
         ModuleInfo(String mainSourceRoot) {
             this.mainSourceRoot = mainSourceRoot;
@@ -202,6 +209,7 @@ public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionConte
             if (module.jobs.isEmpty()) {
                 continue;
             }
+            module.jobs.sort(Comparator.comparing((JobInfo job) -> job.sourcePath).thenComparing(job -> job.jobId));
             String packageName = commonPackagePrefix(module.packages);
             boolean packageFallback = false;
             if (packageName.isEmpty()) {
@@ -0,0 +1,702 @@
+package com.github.rewrite.ejb;
+
+import com.github.rewrite.ejb.config.ProjectConfiguration;
+import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.AnnotationMatcher;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.RemoveAnnotationVisitor;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+import org.openrewrite.maven.AddDependency;
+import org.openrewrite.maven.MavenIsoVisitor;
+import org.openrewrite.maven.tree.MavenResolutionResult;
+import org.openrewrite.maven.tree.ResolvedDependency;
+import org.openrewrite.xml.tree.Xml;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Runs the warm-up methods of EJB {@code @Startup} singletons through a generated
+ * {@code StartupOrchestrator} instead of one {@code @EventListener(ApplicationReadyEvent.class)} per bean.
+ * <p>
+ * MigrateSingletonToService maps every {@code @Startup} + {@code @PostConstruct} method to an
+ * {@code ApplicationReadyEvent} listener; Spring invokes those serially on the main thread. For modules
+ * with at least two startup methods this recipe:
+ * <ul>
+ *   <li>builds the task graph from the original {@code @DependsOn} values (EJB names; startup beans
+ *       without a {@code @PostConstruct} method are resolved transitively)</li>
+ *   <li>generates {@code StartupOrchestrator}, which starts every task once its dependencies completed,
+ *       runs independent tasks in parallel on a bounded executor, logs each task and records it in the
+ *       {@code startup.task} timer</li>
+ *   <li>registers the orchestrator as the {@code readinessState} health indicator, reporting
+ *       {@code REFUSING_TRAFFIC} until all tasks completed</li>
+ *   <li>removes the listener (or {@code @PostConstruct}) from the warm-up methods and makes them public</li>
+ *   <li>adds spring-boot-starter-actuator for the health indicator and Micrometer</li>
+ * </ul>
+ * Modules with a {@code @DependsOn} cycle keep the serial listeners. Runs after MigrateSingletonToService.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class GenerateStartupOrchestrator extends ScanningRecipe<GenerateStartupOrchestrator.Accumulator> {
+
+    static final int MIN_TASKS = 2;
+    static final int MAX_DEFAULT_PARALLELISM = 8;
+
+    private static final String SPRING_BOOT_VERSION = "3.5.0";
+
+    private static final String ORCHESTRATOR_CLASS_NAME = "StartupOrchestrator";
+
+    private static final String SPRING_DEPENDS_ON_FQN = "org.springframework.context.annotation.DependsOn";
+    private static final String POST_CONSTRUCT_JAKARTA_FQN = "jakarta.annotation.PostConstruct";
+    private static final String POST_CONSTRUCT_JAVAX_FQN = "javax.annotation.PostConstruct";
+    private static final String EVENT_LISTENER_FQN = "org.springframework.context.event.EventListener";
+    private static final String APPLICATION_READY_EVENT_FQN = "org.springframework.boot.context.event.ApplicationReadyEvent";
+
+    @Override
+    public String getDisplayName() {
+        return "Generate a parallel startup orchestrator for @Startup singletons";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Replaces the serial ApplicationReadyEvent listeners of migrated @Startup singletons with a generated " +
+               "orchestrator that runs the warm-up methods along the @DependsOn graph on a bounded executor, " +
+               "records per-task timings and holds readiness until all tasks completed.";
+    }
+
+    static class Accumulator {
+        final Map<String, ModuleState> modules = new ConcurrentSkipListMap<>();
+        final Set<String> existingPaths = ConcurrentHashMap.newKeySet();
+        /** Class FQN -> warm-up method name, filled by generate() for orchestrated modules. */
+        final Map<String, String> orchestratedMethods = new HashMap<>();
+    }
+
+    /**
+     * Filled by concurrent scanners; startup beans are kept sorted by name. Of several main sources or
+     * {@code @SpringBootApplication} classes, the one with the smallest path wins, so the outcome does not depend
+     * on the order in which files are scanned.
+     */
+    static class ModuleState {
+        final String modulePrefix;
+        String mainSourceRoot = "src/main/java";
+        String springBootApplicationPackage;
+        final Set<String> mainPackages = ConcurrentHashMap.newKeySet();
+        final Set<String> classFqns = ConcurrentHashMap.newKeySet();
+        final Map<String, StartupBean> startupBeans = new ConcurrentSkipListMap<>();
+        volatile boolean hasActuatorDependency = false;
+        boolean orchestrated = false;
+        private String mainSourcePath;
+        private String springBootApplicationPath;
+
+        ModuleState(String modulePrefix) {
+            this.modulePrefix = modulePrefix;
+        }
+
+        synchronized void recordMainSource(String path, String sourceRoot) {
+            if (mainSourcePath == null || path.compareTo(mainSourcePath) < 0) {
+                mainSourcePath = path;
+                mainSourceRoot = sourceRoot;
+            }
+        }
+
+        synchronized void recordSpringBootApplication(String path, String pkg) {
+            if (springBootApplicationPath == null || path.compareTo(springBootApplicationPath) < 0) {
+                springBootApplicationPath = path;
+                springBootApplicationPackage = pkg;
+            }
+        }
+    }
+
+    static class StartupBean {
+        final String fqn;
+        final String ejbName;
+        @Nullable String initMethod;
+        final List<String> dependsOn = new ArrayList<>();
+
+        StartupBean(String fqn, String ejbName) {
+            this.fqn = fqn;
+            this.ejbName = ejbName;
+        }
+    }
+
+    /**
+     * A warm-up task in topological order, with its direct task dependencies.
+     */
+    static class StartupTask {
+        final StartupBean bean;
+        final List<String> dependsOn;
+
+        StartupTask(StartupBean bean, List<String> dependsOn) {
+            this.bean = bean;
+            this.dependsOn = dependsOn;
+        }
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile)) {
+                    return tree;
+                }
+                String sourcePath = normalizePath(((SourceFile) tree).getSourcePath());
+                acc.existingPaths.add(sourcePath);
+                if (tree instanceof J.CompilationUnit) {
+                    scanCompilationUnit((J.CompilationUnit) tree, sourcePath, acc);
+                } else if (tree instanceof Xml.Document && sourcePath.endsWith("pom.xml")) {
+                    scanPom((Xml.Document) tree, sourcePath, acc, ctx);
+                }
+                return tree;
+            }
+        };
+    }
+
+    private void scanCompilationUnit(J.CompilationUnit cu, String sourcePath, Accumulator acc) {
+        ProjectConfiguration config = ProjectConfigurationLoader.loadWithInheritance(
+            extractProjectRoot(cu.getSourcePath()));
+        if (!config.isMainSource(sourcePath)) {
+            return;
+        }
+        ModuleState module = acc.modules.computeIfAbsent(extractModulePrefix(sourcePath, config), ModuleState::new);
+        module.recordMainSource(sourcePath, extractSourceRoot(sourcePath, config.getMainSourceRoots(), "src/main/java"));
+
+        String pkg = cu.getPackageDeclaration() != null ? cu.getPackageDeclaration().getPackageName() : "";
+        module.mainPackages.add(pkg);
+        for (J.ClassDeclaration classDecl : cu.getClasses()) {
+            String fqn = qualify(pkg, classDecl.getSimpleName());
+            module.classFqns.add(fqn);
+            if (classDecl.getLeadingAnnotations().stream().anyMatch(a -> "SpringBootApplication".equals(a.getSimpleName()))) {
+                module.recordSpringBootApplication(sourcePath, pkg);
+            }
+            StartupBean bean = scanStartupBean(classDecl, fqn);
+            if (bean != null) {
+                module.startupBeans.put(bean.ejbName, bean);
+            }
+        }
+    }
+
+    private static @Nullable StartupBean scanStartupBean(J.ClassDeclaration classDecl, String fqn) {
+        boolean startup = false;
+        String ejbName = classDecl.getSimpleName();
+        List<String> dependsOn = new ArrayList<>();
+        for (J.Annotation ann : classDecl.getLeadingAnnotations()) {
+            if (isAnnotation(ann, JavaEeAnnotation.STARTUP, "Startup")) {
+                startup = true;
+            } else if (isAnnotation(ann, JavaEeAnnotation.SINGLETON, "Singleton")) {
+                String name = attributeValues(ann, "name").stream().findFirst().orElse("");
+                if (!name.isEmpty()) {
+                    ejbName = name;
+                }
+            } else if (isAnnotation(ann, JavaEeAnnotation.DEPENDS_ON, "DependsOn") ||
+                       TypeUtils.isOfClassType(ann.getType(), SPRING_DEPENDS_ON_FQN)) {
+                for (String value : attributeValues(ann, "value")) {
+                    // "module.jar#BeanName" references a bean in another module
+                    dependsOn.add(value.substring(value.indexOf('#') + 1));
+                }
+            }
+        }
+        if (!startup) {
+            return null;
+        }
+        StartupBean bean = new StartupBean(fqn, ejbName);
+        bean.dependsOn.addAll(dependsOn);
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (statement instanceof J.MethodDeclaration) {
+                J.MethodDeclaration method = (J.MethodDeclaration) statement;
+                if (method.getLeadingAnnotations().stream().anyMatch(a ->
+                        isAnnotation(a, JavaEeAnnotation.POST_CONSTRUCT, "PostConstruct"))) {
+                    bean.initMethod = method.getSimpleName();
+                    break;
+                }
+            }
+        }
+        return bean;
+    }
+
+    private static boolean isAnnotation(J.Annotation ann, JavaEeAnnotation annotation, String simpleName) {
+        if (annotation.matches(ann)) {
+            return true;
+        }
+        return ann.getType() == null && simpleName.equals(ann.getSimpleName());
+    }
+
+    /**
+     * Returns the string literals of an annotation attribute; {@code value} also matches the implicit form.
+     */
+    private static List<String> attributeValues(J.Annotation ann, String attribute) {
+        List<String> values = new ArrayList<>();
+        if (ann.getArguments() == null) {
+            return values;
+        }
+        for (Expression arg : ann.getArguments()) {
+            Expression value = arg;
+            if (arg instanceof J.Assignment) {
+                J.Assignment assignment = (J.Assignment) arg;
+                if (!(assignment.getVariable() instanceof J.Identifier) ||
+                    !attribute.equals(((J.Identifier) assignment.getVariable()).getSimpleName())) {
+                    continue;
+                }
+                value = assignment.getAssignment();
+            } else if (!"value".equals(attribute)) {
+                continue;
+            }
+            collectStrings(value, values);
+        }
+        return values;
+    }
+
+    private static void collectStrings(Expression expression, List<String> values) {
+        if (expression instanceof J.Literal && ((J.Literal) expression).getValue() instanceof String) {
+            values.add((String) ((J.Literal) expression).getValue());
+        } else if (expression instanceof J.NewArray && ((J.NewArray) expression).getInitializer() != null) {
+            for (Expression element : ((J.NewArray) expression).getInitializer()) {
+                collectStrings(element, values);
+            }
+        }
+    }
+
+    private void scanPom(Xml.Document doc, String sourcePath, Accumulator acc, ExecutionContext ctx) {
+        String modulePrefix = sourcePath.equals("pom.xml") ? "" : sourcePath.substring(0, sourcePath.length() - "pom.xml".length());
+        new MavenIsoVisitor<ExecutionContext>() {
+            @Override
+            public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
+                MavenResolutionResult mrr = getResolutionResult();
+                if (mrr != null) {
+                    for (ResolvedDependency dep : mrr.getDependencies().values().stream()
+                            .flatMap(List::stream).toList()) {
+                        if ("org.springframework.boot".equals(dep.getGroupId()) &&
+                            "spring-boot-actuator".equals(dep.getArtifactId())) {
+                            acc.modules.computeIfAbsent(modulePrefix, ModuleState::new).hasActuatorDependency = true;
+                        }
+                    }
+                }
+                return document;
+            }
+        }.visit(doc, ctx);
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        JavaParser javaParser = JavaParser.fromJavaVersion().build();
+        List<SourceFile> generated = new ArrayList<>();
+
+        for (ModuleState module : acc.modules.values()) {
+            List<StartupTask> tasks = orderTasks(module.startupBeans);
+            if (tasks == null || tasks.size() < MIN_TASKS) {
+                continue;
+            }
+            String basePackage = module.springBootApplicationPackage != null
+                ? module.springBootApplicationPackage
+                : findCommonPackagePrefix(module.mainPackages);
+            String packagePath = basePackage.isEmpty() ? "" : basePackage.replace('.', '/') + "/";
+            String orchestratorPath = module.modulePrefix + module.mainSourceRoot + "/" + packagePath + ORCHESTRATOR_CLASS_NAME + ".java";
+            if (module.classFqns.contains(qualify(basePackage, ORCHESTRATOR_CLASS_NAME)) || acc.existingPaths.contains(orchestratorPath)) {
+                continue;
+            }
+
+            javaParser.parse(generateOrchestratorSource(basePackage, tasks)).findFirst()
+                .ifPresent(sf -> generated.add(sf.withSourcePath(Paths.get(orchestratorPath))));
+            module.orchestrated = true;
+            for (StartupTask task : tasks) {
+                acc.orchestratedMethods.put(task.bean.fqn, task.bean.initMethod);
+            }
+        }
+        return generated;
+    }
+
+    /**
+     * Orders the startup beans with a warm-up method topologically along their {@code @DependsOn} edges.
+     * Edges through startup beans without a warm-up method are followed transitively, edges to other beans
+     * are left to Spring's {@code @DependsOn}. Returns null when the graph has a cycle.
+     */
+    static @Nullable List<StartupTask> orderTasks(Map<String, StartupBean> beans) {
+        Map<String, List<String>> dependencies = new TreeMap<>();
+        for (StartupBean bean : beans.values()) {
+            if (bean.initMethod != null) {
+                Set<String> resolved = new LinkedHashSet<>();
+                resolveDependencies(bean, beans, resolved, new HashSet<>());
+                resolved.remove(bean.ejbName);
+                dependencies.put(bean.ejbName, new ArrayList<>(resolved));
+            }
+        }
+
+        List<StartupTask> ordered = new ArrayList<>();
+        Set<String> done = new HashSet<>();
+        boolean progress = true;
+        while (progress && ordered.size() < dependencies.size()) {
+            progress = false;
+            for (Map.Entry<String, List<String>> entry : dependencies.entrySet()) {
+                if (!done.contains(entry.getKey()) && done.containsAll(entry.getValue())) {
+                    ordered.add(new StartupTask(beans.get(entry.getKey()), entry.getValue()));
+                    done.add(entry.getKey());
+                    progress = true;
+                }
+            }
+        }
+        return ordered.size() == dependencies.size() ? ordered : null;
+    }
+
+    private static void resolveDependencies(StartupBean bean, Map<String, StartupBean> beans,
+                                            Set<String> resolved, Set<String> visited) {
+        if (!visited.add(bean.ejbName)) {
+            return;
+        }
+        for (String name : bean.dependsOn) {
+            StartupBean dependency = beans.get(name);
+            if (dependency == null) {
+                continue;
+            }
+            if (dependency.initMethod != null) {
+                resolved.add(name);
+            } else {
+                resolveDependencies(dependency, beans, resolved, visited);
+            }
+        }
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        TreeVisitor<?, ExecutionContext> javaVisitor = new WarmUpMethodVisitor(acc.orchestratedMethods);
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof J.CompilationUnit) {
+                    return acc.orchestratedMethods.isEmpty() ? tree : javaVisitor.visit(tree, ctx);
+                }
+                if (tree instanceof Xml.Document) {
+                    String sourcePath = normalizePath(((Xml.Document) tree).getSourcePath());
+                    if (!sourcePath.endsWith("pom.xml")) {
+                        return tree;
+                    }
+                    String modulePrefix = sourcePath.equals("pom.xml") ? "" : sourcePath.substring(0, sourcePath.length() - "pom.xml".length());
+                    ModuleState module = acc.modules.get(modulePrefix);
+                    if (module == null || !module.orchestrated || module.hasActuatorDependency) {
+                        return tree;
+                    }
+                    // Health indicator base class and Micrometer for the startup.task timer
+                    return new AddDependency(
+                        "org.springframework.boot",
+                        "spring-boot-starter-actuator",
+                        SPRING_BOOT_VERSION,
+                        null, null, null, null, null, null, null, null, null
+                    ).getVisitor().visit(tree, ctx);
+                }
+                return tree;
+            }
+        };
+    }
+
+    /**
+     * Removes the ApplicationReadyEvent listener (or a remaining {@code @PostConstruct}) from warm-up methods
+     * that are now invoked by the orchestrator, and makes them public.
+     */
+    private static class WarmUpMethodVisitor extends JavaIsoVisitor<ExecutionContext> {
+        private static final AnnotationMatcher EVENT_LISTENER = new AnnotationMatcher("@" + EVENT_LISTENER_FQN);
+        private static final AnnotationMatcher POST_CONSTRUCT_JAKARTA = new AnnotationMatcher("@" + POST_CONSTRUCT_JAKARTA_FQN);
+        private static final AnnotationMatcher POST_CONSTRUCT_JAVAX = new AnnotationMatcher("@" + POST_CONSTRUCT_JAVAX_FQN);
+
+        private final Map<String, String> orchestratedMethods;
+
+        WarmUpMethodVisitor(Map<String, String> orchestratedMethods) {
+            this.orchestratedMethods = orchestratedMethods;
+        }
+
+        @Override
+        public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+            J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
+            J.ClassDeclaration classDecl = getCursor().firstEnclosing(J.ClassDeclaration.class);
+            J.CompilationUnit cu = getCursor().firstEnclosing(J.CompilationUnit.class);
+            if (classDecl == null || cu == null || m.isConstructor() || !m.getParameters().stream().allMatch(p -> p instanceof J.Empty)) {
+                return m;
+            }
+            String pkg = cu.getPackageDeclaration() != null ? cu.getPackageDeclaration().getPackageName() : "";
+            if (!m.getSimpleName().equals(orchestratedMethods.get(qualify(pkg, classDecl.getSimpleName())))) {
+                return m;
+            }
+
+            Cursor parent = getCursor().getParentOrThrow();
+            for (AnnotationMatcher matcher : List.of(EVENT_LISTENER, POST_CONSTRUCT_JAKARTA, POST_CONSTRUCT_JAVAX)) {
+                m = (J.MethodDeclaration) new RemoveAnnotationVisitor(matcher).visitNonNull(m, ctx, parent);
+            }
+            maybeRemoveImport(EVENT_LISTENER_FQN);
+            maybeRemoveImport(APPLICATION_READY_EVENT_FQN);
+            maybeRemoveImport(POST_CONSTRUCT_JAKARTA_FQN);
+            maybeRemoveImport(POST_CONSTRUCT_JAVAX_FQN);
+            return makePublic(m);
+        }
+
+        private static J.MethodDeclaration makePublic(J.MethodDeclaration m) {
+            if (m.hasModifier(J.Modifier.Type.Public)) {
+                return m;
+            }
+            if (m.hasModifier(J.Modifier.Type.Private) || m.hasModifier(J.Modifier.Type.Protected)) {
+                return m.withModifiers(ListUtils.map(m.getModifiers(), mod ->
+                    mod.getType() == J.Modifier.Type.Private || mod.getType() == J.Modifier.Type.Protected
+                        ? mod.withType(J.Modifier.Type.Public) : mod));
+            }
+            if (!m.getModifiers().isEmpty()) {
+                J.Modifier first = m.getModifiers().get(0);
+                J.Modifier publicModifier = new J.Modifier(Tree.randomId(), first.getPrefix(), Markers.EMPTY,
+                    null, J.Modifier.Type.Public, Collections.emptyList());
+                return m.withModifiers(ListUtils.insert(
+                    ListUtils.map(m.getModifiers(), mod -> mod == first ? mod.withPrefix(Space.SINGLE_SPACE) : mod),
+                    publicModifier, 0));
+            }
+            if (m.getReturnTypeExpression() == null) {
+                return m;
+            }
+            J.Modifier publicModifier = new J.Modifier(Tree.randomId(), m.getReturnTypeExpression().getPrefix(), Markers.EMPTY,
+                null, J.Modifier.Type.Public, Collections.emptyList());
+            return m.withModifiers(Collections.singletonList(publicModifier))
+                .withReturnTypeExpression(m.getReturnTypeExpression().withPrefix(Space.SINGLE_SPACE));
+        }
+    }
+
+    private static String generateOrchestratorSource(String basePackage, List<StartupTask> tasks) {
+        // Import task classes unless their simple names clash
+        Map<String, Long> simpleNameCounts = new HashMap<>();
+        for (StartupTask task : tasks) {
+            simpleNameCounts.merge(simpleName(task.bean.fqn), 1L, Long::sum);
+        }
+        Set<String> taskImports = new TreeSet<>();
+        for (StartupTask task : tasks) {
+            String pkg = packageOf(task.bean.fqn);
+            if (simpleNameCounts.get(simpleName(task.bean.fqn)) == 1 && !pkg.isEmpty() && !pkg.equals(basePackage)) {
+                taskImports.add(task.bean.fqn);
+            }
+        }
+        int parallelism = Math.min(tasks.size(), MAX_DEFAULT_PARALLELISM);
+
+        StringBuilder source = new StringBuilder();
+        if (!basePackage.isEmpty()) {
+            source.append("package ").append(basePackage).append(";\n\n");
+        }
+        for (String taskImport : taskImports) {
+            source.append("import ").append(taskImport).append(";\n");
+        }
+        source.append("import io.micrometer.core.instrument.MeterRegistry;\n")
+            .append("import io.micrometer.core.instrument.Timer;\n")
+            .append("import java.util.Arrays;\n")
+            .append("import java.util.LinkedHashMap;\n")
+            .append("import java.util.Map;\n")
+            .append("import java.util.TreeMap;\n")
+            .append("import java.util.concurrent.CompletableFuture;\n")
+            .append("import java.util.concurrent.CompletionException;\n")
+            .append("import java.util.concurrent.ConcurrentHashMap;\n")
+            .append("import java.util.concurrent.TimeUnit;\n")
+            .append("import org.slf4j.Logger;\n")
+            .append("import org.slf4j.LoggerFactory;\n")
+            .append("import org.springframework.beans.factory.ObjectProvider;\n")
+            .append("import org.springframework.beans.factory.annotation.Value;\n")
+            .append("import org.springframework.boot.actuate.availability.ReadinessStateHealthIndicator;\n")
+            .append("import org.springframework.boot.actuate.health.Health;\n")
+            .append("import org.springframework.boot.availability.ApplicationAvailability;\n")
+            .append("import org.springframework.boot.availability.AvailabilityState;\n")
+            .append("import org.springframework.boot.availability.ReadinessState;\n")
+            .append("import org.springframework.boot.context.event.ApplicationReadyEvent;\n")
+            .append("import org.springframework.context.ApplicationContext;\n")
+            .append("import org.springframework.context.event.EventListener;\n")
+            .append("import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;\n")
+            .append("import org.springframework.stereotype.Component;\n\n")
+            .append("/**\n")
+            .append(" * Runs the warm-up methods of the migrated EJB @Startup singletons once the application is ready.\n")
+            .append(" * <p>\n")
+            .append(" * The task graph mirrors the original @DependsOn declarations: a task starts as soon as the tasks it\n")
+            .append(" * depends on have completed, independent tasks run in parallel on at most\n")
+            .append(" * {@code startup.orchestrator.parallelism} threads. Every task is logged and recorded in the\n")
+            .append(" * {@code startup.task} timer. As the readinessState health indicator this bean reports\n")
+            .append(" * REFUSING_TRAFFIC until all tasks completed, and keeps doing so if one of them failed.\n")
+            .append(" */\n")
+            .append("@Component(\"readinessStateHealthIndicator\")\n")
+            .append("public class ").append(ORCHESTRATOR_CLASS_NAME).append(" extends ReadinessStateHealthIndicator {\n\n")
+            .append("    private static final Logger log = LoggerFactory.getLogger(").append(ORCHESTRATOR_CLASS_NAME).append(".class);\n\n")
+            .append("    static final String TIMER_NAME = \"startup.task\";\n\n")
+            .append("    private final ApplicationContext context;\n")
+            .append("    private final ObjectProvider<MeterRegistry> meterRegistry;\n")
+            .append("    private final int parallelism;\n")
+            .append("    private final Map<String, CompletableFuture<Void>> tasks = new LinkedHashMap<>();\n")
+            .append("    private final Map<String, Long> durationsMillis = new ConcurrentHashMap<>();\n")
+            .append("    private volatile boolean completed;\n")
+            .append("    private volatile Throwable failure;\n\n")
+            .append("    public ").append(ORCHESTRATOR_CLASS_NAME).append("(ApplicationAvailability availability, ApplicationContext context,\n")
+            .append("            ObjectProvider<MeterRegistry> meterRegistry,\n")
+            .append("            @Value(\"${startup.orchestrator.parallelism:").append(parallelism).append("}\") int parallelism) {\n")
+            .append("        super(availability);\n")
+            .append("        this.context = context;\n")
+            .append("        this.meterRegistry = meterRegistry;\n")
+            .append("        this.parallelism = parallelism;\n")
+            .append("    }\n\n")
+            .append("    @EventListener(ApplicationReadyEvent.class)\n")
+            .append("    public void start() {\n")
+            .append("        long start = System.nanoTime();\n")
+            .append("        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();\n")
+            .append("        executor.setCorePoolSize(parallelism);\n")
+            .append("        executor.setMaxPoolSize(parallelism);\n")
+            .append("        executor.setThreadNamePrefix(\"startup-\");\n")
+            .append("        executor.initialize();\n\n");
+        for (StartupTask task : tasks) {
+            String className = taskImports.contains(task.bean.fqn) || packageOf(task.bean.fqn).equals(basePackage)
+                ? simpleName(task.bean.fqn)
+                : task.bean.fqn;
+            source.append("        submit(executor, \"").append(task.bean.ejbName).append("\", () -> context.getBean(")
+                .append(className).append(".class).").append(task.bean.initMethod).append("()");
+            for (String dependency : task.dependsOn) {
+                source.append(", \"").append(dependency).append("\"");
+            }
+            source.append(");\n");
+        }
+        source.append("\n")
+            .append("        CompletableFuture.allOf(tasks.values().toArray(new CompletableFuture<?>[0]))\n")
+            .append("            .whenComplete((ignored, error) -> {\n")
+            .append("                executor.shutdown();\n")
+            .append("                if (error != null) {\n")
+            .append("                    failure = error;\n")
+            .append("                    log.error(\"Startup tasks failed, readiness stays REFUSING_TRAFFIC\", failure);\n")
+            .append("                    return;\n")
+            .append("                }\n")
+            .append("                completed = true;\n")
+            .append("                log.info(\"{} startup tasks completed in {} ms\", tasks.size(),\n")
+            .append("                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));\n")
+            .append("            });\n")
+            .append("    }\n\n")
+            .append("    public boolean isCompleted() {\n")
+            .append("        return completed;\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    protected AvailabilityState getState(ApplicationAvailability applicationAvailability) {\n")
+            .append("        return completed ? super.getState(applicationAvailability) : ReadinessState.REFUSING_TRAFFIC;\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    protected void doHealthCheck(Health.Builder builder) throws Exception {\n")
+            .append("        super.doHealthCheck(builder);\n")
+            .append("        builder.withDetail(\"startupTasksMillis\", new TreeMap<>(durationsMillis));\n")
+            .append("        if (failure != null) {\n")
+            .append("            builder.withException(failure);\n")
+            .append("        }\n")
+            .append("    }\n\n")
+            .append("    private void submit(ThreadPoolTaskExecutor executor, String name, Task task, String... dependsOn) {\n")
+            .append("        CompletableFuture<?>[] prerequisites = Arrays.stream(dependsOn).map(tasks::get).toArray(CompletableFuture<?>[]::new);\n")
+            .append("        tasks.put(name, CompletableFuture.allOf(prerequisites).thenRunAsync(() -> run(name, task), executor));\n")
+            .append("    }\n\n")
+            .append("    private void run(String name, Task task) {\n")
+            .append("        long start = System.nanoTime();\n")
+            .append("        try {\n")
+            .append("            task.run();\n")
+            .append("        } catch (Exception e) {\n")
+            .append("            throw new CompletionException(\"Startup task \" + name + \" failed\", e);\n")
+            .append("        } finally {\n")
+            .append("            long nanos = System.nanoTime() - start;\n")
+            .append("            durationsMillis.put(name, TimeUnit.NANOSECONDS.toMillis(nanos));\n")
+            .append("            log.info(\"Startup task {} finished in {} ms\", name, TimeUnit.NANOSECONDS.toMillis(nanos));\n")
+            .append("            meterRegistry.ifAvailable(registry -> Timer.builder(TIMER_NAME)\n")
+            .append("                .tag(\"task\", name)\n")
+            .append("                .register(registry)\n")
+            .append("                .record(nanos, TimeUnit.NANOSECONDS));\n")
+            .append("        }\n")
+            .append("    }\n\n")
+            .append("    @FunctionalInterface\n")
+            .append("    private interface Task {\n")
+            .append("        void run() throws Exception;\n")
+            .append("    }\n")
+            .append("}\n");
+        return source.toString();
+    }
+
+    private static String simpleName(String fqn) {
+        return fqn.substring(fqn.lastIndexOf('.') + 1);
+    }
+
+    private static String packageOf(String fqn) {
+        int lastDot = fqn.lastIndexOf('.');
+        return lastDot > 0 ? fqn.substring(0, lastDot) : "";
+    }
+
+    private static String qualify(String basePackage, String className) {
+        return basePackage.isEmpty() ? className : basePackage + "." + className;
+    }
+
+    private static String findCommonPackagePrefix(Set<String> packages) {
+        String prefix = null;
+        for (String pkg : packages) {
+            if (prefix == null) {
+                prefix = pkg;
+                continue;
+            }
+            while (!prefix.isEmpty() && !(pkg.equals(prefix) || pkg.startsWith(prefix + "."))) {
+                int lastDot = prefix.lastIndexOf('.');
+                prefix = lastDot > 0 ? prefix.substring(0, lastDot) : "";
+            }
+        }
+        return prefix != null ? prefix : "";
+    }
+
+    private static String extractModulePrefix(String sourcePath, @Nullable ProjectConfiguration config) {
+        List<String> roots = new ArrayList<>();
+        if (config != null) {
+            roots.addAll(config.getMainSourceRoots());
+            roots.addAll(config.getResourceRoots());
+        }
+        roots.add("src/main/java");
+        roots.add("src/main/resources");
+        for (String root : roots) {
+            int idx = sourcePath.indexOf("/" + root + "/");
+            if (idx >= 0) {
+                return sourcePath.substring(0, idx + 1);
+            }
+            if (sourcePath.startsWith(root + "/")) {
+                return "";
+            }
+        }
+        int idx = sourcePath.indexOf("/src/");
+        return idx > 0 ? sourcePath.substring(0, idx + 1) : "";
+    }
+
+    private static String extractSourceRoot(String sourcePath, List<String> roots, String defaultRoot) {
+        for (String root : roots) {
+            if (sourcePath.contains("/" + root + "/") || sourcePath.startsWith(root + "/")) {
+                return root;
+            }
+        }
+        return defaultRoot;
+    }
+
+    private static String normalizePath(@Nullable Path path) {
+        if (path == null) {
+            return "";
+        }
+        return path.toString().replace('\\', '/');
+    }
+
+    private static Path extractProjectRoot(Path sourcePath) {
+        if (sourcePath == null) {
+            return Paths.get(System.getProperty("user.dir"));
+        }
+        Path current = sourcePath.toAbsolutePath().getParent();
+        while (current != null) {
+            if (Files.exists(current.resolve("pom.xml")) ||
+                Files.exists(current.resolve("build.gradle")) ||
+                Files.exists(current.resolve("project.yaml"))) {
+                return current;
+            }
+            current = current.getParent();
+        }
+        return Paths.get(System.getProperty("user.dir"));
+    }
+}
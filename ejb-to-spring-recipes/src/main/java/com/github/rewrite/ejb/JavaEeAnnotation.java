@@ -0,0 +1,286 @@
+package com.github.rewrite.ejb;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The EJB, CDI, JMS, JAX-RS and common Java EE annotations recipes look for, each under its {@code javax} and its
+ * {@code jakarta} name.
+ * <p>
+ * Both names of every annotation are placed in a perfect-hash table when the class is loaded, so finding the
+ * annotation of a type is one multiplication of the cached {@link String#hashCode()} of its fully qualified name, one
+ * table read and one {@code equals}, without building names or allocating. Types are looked up by name, not by
+ * instance, because the same annotation is a different {@link JavaType.FullyQualified} in every parse and in every
+ * LST read back from the cache.
+ * <pre>
+ * if (JavaEeAnnotation.REMOTE.matches(annotation)) ...
+ * JavaEeAnnotation known = JavaEeAnnotation.of(annotation.getType());
+ * </pre>
+ */
+public enum JavaEeAnnotation {
+
+    ACCESS_TIMEOUT(Spec.EJB, "ejb.AccessTimeout"),
+    ACTIVATION_CONFIG_PROPERTY(Spec.EJB, "ejb.ActivationConfigProperty"),
+    AFTER_BEGIN(Spec.EJB, "ejb.AfterBegin"),
+    AFTER_COMPLETION(Spec.EJB, "ejb.AfterCompletion"),
+    APPLICATION_EXCEPTION(Spec.EJB, "ejb.ApplicationException"),
+    ASYNCHRONOUS(Spec.EJB, "ejb.Asynchronous"),
+    BEFORE_COMPLETION(Spec.EJB, "ejb.BeforeCompletion"),
+    CONCURRENCY_MANAGEMENT(Spec.EJB, "ejb.ConcurrencyManagement"),
+    DEPENDS_ON(Spec.EJB, "ejb.DependsOn"),
+    EJB(Spec.EJB, "ejb.EJB"),
+    EJBS(Spec.EJB, "ejb.EJBs"),
+    INIT(Spec.EJB, "ejb.Init"),
+    LOCAL(Spec.EJB, "ejb.Local"),
+    LOCAL_BEAN(Spec.EJB, "ejb.LocalBean"),
+    LOCAL_HOME(Spec.EJB, "ejb.LocalHome"),
+    LOCK(Spec.EJB, "ejb.Lock"),
+    MESSAGE_DRIVEN(Spec.EJB, "ejb.MessageDriven"),
+    POST_ACTIVATE(Spec.EJB, "ejb.PostActivate"),
+    PRE_PASSIVATE(Spec.EJB, "ejb.PrePassivate"),
+    REMOTE(Spec.EJB, "ejb.Remote"),
+    REMOTE_HOME(Spec.EJB, "ejb.RemoteHome"),
+    REMOVE(Spec.EJB, "ejb.Remove"),
+    SCHEDULE(Spec.EJB, "ejb.Schedule"),
+    SCHEDULES(Spec.EJB, "ejb.Schedules"),
+    SINGLETON(Spec.EJB, "ejb.Singleton"),
+    STARTUP(Spec.EJB, "ejb.Startup"),
+    STATEFUL(Spec.EJB, "ejb.Stateful"),
+    STATEFUL_TIMEOUT(Spec.EJB, "ejb.StatefulTimeout"),
+    STATELESS(Spec.EJB, "ejb.Stateless"),
+    TIMEOUT(Spec.EJB, "ejb.Timeout"),
+    TRANSACTION_ATTRIBUTE(Spec.EJB, "ejb.TransactionAttribute"),
+    TRANSACTION_MANAGEMENT(Spec.EJB, "ejb.TransactionManagement"),
+
+    INJECT(Spec.CDI, "inject.Inject"),
+    NAMED(Spec.CDI, "inject.Named"),
+    QUALIFIER(Spec.CDI, "inject.Qualifier"),
+    SCOPE(Spec.CDI, "inject.Scope"),
+    INJECT_SINGLETON(Spec.CDI, "inject.Singleton"),
+    APPLICATION_SCOPED(Spec.CDI, "enterprise.context.ApplicationScoped"),
+    CONVERSATION_SCOPED(Spec.CDI, "enterprise.context.ConversationScoped"),
+    DEPENDENT(Spec.CDI, "enterprise.context.Dependent"),
+    NORMAL_SCOPE(Spec.CDI, "enterprise.context.NormalScope"),
+    REQUEST_SCOPED(Spec.CDI, "enterprise.context.RequestScoped"),
+    SESSION_SCOPED(Spec.CDI, "enterprise.context.SessionScoped"),
+    INITIALIZED(Spec.CDI, "enterprise.context.Initialized"),
+    DESTROYED(Spec.CDI, "enterprise.context.Destroyed"),
+    ALTERNATIVE(Spec.CDI, "enterprise.inject.Alternative"),
+    ANY(Spec.CDI, "enterprise.inject.Any"),
+    DEFAULT(Spec.CDI, "enterprise.inject.Default"),
+    DISPOSES(Spec.CDI, "enterprise.inject.Disposes"),
+    CDI_PRODUCES(Spec.CDI, "enterprise.inject.Produces"),
+    SPECIALIZES(Spec.CDI, "enterprise.inject.Specializes"),
+    STEREOTYPE(Spec.CDI, "enterprise.inject.Stereotype"),
+    TYPED(Spec.CDI, "enterprise.inject.Typed"),
+    VETOED(Spec.CDI, "enterprise.inject.Vetoed"),
+    OBSERVES(Spec.CDI, "enterprise.event.Observes"),
+    OBSERVES_ASYNC(Spec.CDI, "enterprise.event.ObservesAsync"),
+    DECORATOR(Spec.CDI, "decorator.Decorator"),
+    DELEGATE(Spec.CDI, "decorator.Delegate"),
+
+    AROUND_CONSTRUCT(Spec.INTERCEPTOR, "interceptor.AroundConstruct"),
+    AROUND_INVOKE(Spec.INTERCEPTOR, "interceptor.AroundInvoke"),
+    AROUND_TIMEOUT(Spec.INTERCEPTOR, "interceptor.AroundTimeout"),
+    EXCLUDE_CLASS_INTERCEPTORS(Spec.INTERCEPTOR, "interceptor.ExcludeClassInterceptors"),
+    EXCLUDE_DEFAULT_INTERCEPTORS(Spec.INTERCEPTOR, "interceptor.ExcludeDefaultInterceptors"),
+    INTERCEPTOR(Spec.INTERCEPTOR, "interceptor.Interceptor"),
+    INTERCEPTOR_BINDING(Spec.INTERCEPTOR, "interceptor.InterceptorBinding"),
+    INTERCEPTORS(Spec.INTERCEPTOR, "interceptor.Interceptors"),
+
+    POST_CONSTRUCT(Spec.COMMON, "annotation.PostConstruct"),
+    PRE_DESTROY(Spec.COMMON, "annotation.PreDestroy"),
+    PRIORITY(Spec.COMMON, "annotation.Priority"),
+    RESOURCE(Spec.COMMON, "annotation.Resource"),
+    RESOURCES(Spec.COMMON, "annotation.Resources"),
+    DATA_SOURCE_DEFINITION(Spec.COMMON, "annotation.sql.DataSourceDefinition"),
+    DATA_SOURCE_DEFINITIONS(Spec.COMMON, "annotation.sql.DataSourceDefinitions"),
+    TRANSACTIONAL(Spec.COMMON, "transaction.Transactional"),
+    TRANSACTION_SCOPED(Spec.COMMON, "transaction.TransactionScoped"),
+
+    JMS_CONNECTION_FACTORY(Spec.JMS, "jms.JMSConnectionFactory"),
+    JMS_CONNECTION_FACTORY_DEFINITION(Spec.JMS, "jms.JMSConnectionFactoryDefinition"),
+    JMS_CONNECTION_FACTORY_DEFINITIONS(Spec.JMS, "jms.JMSConnectionFactoryDefinitions"),
+    JMS_DESTINATION_DEFINITION(Spec.JMS, "jms.JMSDestinationDefinition"),
+    JMS_DESTINATION_DEFINITIONS(Spec.JMS, "jms.JMSDestinationDefinitions"),
+    JMS_PASSWORD_CREDENTIAL(Spec.JMS, "jms.JMSPasswordCredential"),
+    JMS_SESSION_MODE(Spec.JMS, "jms.JMSSessionMode"),
+
+    APPLICATION_PATH(Spec.JAX_RS, "ws.rs.ApplicationPath"),
+    BEAN_PARAM(Spec.JAX_RS, "ws.rs.BeanParam"),
+    CONSTRAINED_TO(Spec.JAX_RS, "ws.rs.ConstrainedTo"),
+    CONSUMES(Spec.JAX_RS, "ws.rs.Consumes"),
+    COOKIE_PARAM(Spec.JAX_RS, "ws.rs.CookieParam"),
+    DEFAULT_VALUE(Spec.JAX_RS, "ws.rs.DefaultValue"),
+    DELETE(Spec.JAX_RS, "ws.rs.DELETE"),
+    ENCODED(Spec.JAX_RS, "ws.rs.Encoded"),
+    FORM_PARAM(Spec.JAX_RS, "ws.rs.FormParam"),
+    GET(Spec.JAX_RS, "ws.rs.GET"),
+    HEAD(Spec.JAX_RS, "ws.rs.HEAD"),
+    HEADER_PARAM(Spec.JAX_RS, "ws.rs.HeaderParam"),
+    HTTP_METHOD(Spec.JAX_RS, "ws.rs.HttpMethod"),
+    MATRIX_PARAM(Spec.JAX_RS, "ws.rs.MatrixParam"),
+    NAME_BINDING(Spec.JAX_RS, "ws.rs.NameBinding"),
+    OPTIONS(Spec.JAX_RS, "ws.rs.OPTIONS"),
+    PATCH(Spec.JAX_RS, "ws.rs.PATCH"),
+    PATH(Spec.JAX_RS, "ws.rs.Path"),
+    PATH_PARAM(Spec.JAX_RS, "ws.rs.PathParam"),
+    POST(Spec.JAX_RS, "ws.rs.POST"),
+    JAXRS_PRODUCES(Spec.JAX_RS, "ws.rs.Produces"),
+    PUT(Spec.JAX_RS, "ws.rs.PUT"),
+    QUERY_PARAM(Spec.JAX_RS, "ws.rs.QueryParam"),
+    CONTEXT(Spec.JAX_RS, "ws.rs.core.Context"),
+    PRE_MATCHING(Spec.JAX_RS, "ws.rs.container.PreMatching"),
+    SUSPENDED(Spec.JAX_RS, "ws.rs.container.Suspended"),
+    PROVIDER(Spec.JAX_RS, "ws.rs.ext.Provider");
+
+    /**
+     * The specification an annotation belongs to.
+     */
+    public enum Spec {
+        EJB, CDI, INTERCEPTOR, COMMON, JMS, JAX_RS
+    }
+
+    private static final JavaEeAnnotation[] VALUES = values();
+
+    private static final int MULTIPLIER;
+    private static final int SHIFT;
+
+    /**
+     * Slots of the perfect-hash table: 0 for an empty slot, otherwise {@code 1 + 2 * ordinal} for the {@code javax}
+     * name and {@code 2 + 2 * ordinal} for the {@code jakarta} name of an annotation.
+     */
+    private static final short[] SLOTS;
+
+    static {
+        String[] names = new String[VALUES.length * 2];
+        for (JavaEeAnnotation annotation : VALUES) {
+            names[annotation.ordinal() * 2] = annotation.javaxName;
+            names[annotation.ordinal() * 2 + 1] = annotation.jakartaName;
+        }
+        int[] hashes = distinctHashes(names);
+        // Multiplicative hashing: try odd multipliers until the top bits of hash * multiplier differ for all
+        // names, doubling the table if none of a few thousand does. With sixteen slots per name, a few hundred
+        // multipliers are tried on average.
+        int bits = 32 - Integer.numberOfLeadingZeros(hashes.length * 16 - 1);
+        int multiplier = 0x9E3779B1;
+        short[] slots = new short[1 << bits];
+        while (!place(hashes, multiplier, bits, slots)) {
+            multiplier += 2;
+            if (multiplier == 0x9E3779B1 + 8192) {
+                multiplier = 0x9E3779B1;
+                slots = new short[1 << ++bits];
+            }
+        }
+        MULTIPLIER = multiplier;
+        SHIFT = 32 - bits;
+        SLOTS = slots;
+    }
+
+    private final Spec spec;
+    private final String javaxName;
+    private final String jakartaName;
+
+    JavaEeAnnotation(Spec spec, String name) {
+        this.spec = spec;
+        this.javaxName = "javax." + name;
+        this.jakartaName = "jakarta." + name;
+    }
+
+    public Spec getSpec() {
+        return spec;
+    }
+
+    public String getJavaxName() {
+        return javaxName;
+    }
+
+    public String getJakartaName() {
+        return jakartaName;
+    }
+
+    /**
+     * Whether the annotation is this one, under either name.
+     */
+    public boolean matches(J.@Nullable Annotation annotation) {
+        return annotation != null && of(annotation.getType()) == this;
+    }
+
+    /**
+     * Whether the type is this annotation type, under either name.
+     */
+    public boolean isTypeOf(@Nullable JavaType type) {
+        return of(type) == this;
+    }
+
+    /**
+     * Whether the fully qualified name is one of the names of this annotation.
+     */
+    public boolean hasName(@Nullable String fullyQualifiedName) {
+        return forName(fullyQualifiedName) == this;
+    }
+
+    public static @Nullable JavaEeAnnotation of(J.@Nullable Annotation annotation) {
+        return annotation == null ? null : of(annotation.getType());
+    }
+
+    /**
+     * Finds the annotation a type is, or {@code null} for unknown or unresolved types.
+     */
+    public static @Nullable JavaEeAnnotation of(@Nullable JavaType type) {
+        return type instanceof JavaType.FullyQualified
+            ? forName(((JavaType.FullyQualified) type).getFullyQualifiedName()) : null;
+    }
+
+    public static @Nullable JavaEeAnnotation forName(@Nullable String fullyQualifiedName) {
+        if (fullyQualifiedName == null) {
+            return null;
+        }
+        int slot = SLOTS[(fullyQualifiedName.hashCode() * MULTIPLIER) >>> SHIFT] - 1;
+        if (slot < 0) {
+            return null;
+        }
+        JavaEeAnnotation candidate = VALUES[slot >> 1];
+        return fullyQualifiedName.equals((slot & 1) == 0 ? candidate.javaxName : candidate.jakartaName)
+            ? candidate : null;
+    }
+
+    /**
+     * Hashes the names, failing for two names with the same {@link String#hashCode()}: no multiplier can tell them
+     * apart, so the search for one would never end.
+     */
+    static int[] distinctHashes(String... names) {
+        int[] hashes = new int[names.length];
+        Map<Integer, String> seen = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            hashes[i] = names[i].hashCode();
+            String other = seen.putIfAbsent(hashes[i], names[i]);
+            if (other != null) {
+                throw new IllegalStateException("Annotation names " + other + " and " + names[i] +
+                                                " have the same hash code, the perfect-hash table cannot hold both");
+            }
+        }
+        return hashes;
+    }
+
+    /**
+     * Places all hashes in the empty table, or leaves it empty and returns {@code false} on the first collision.
+     */
+    private static boolean place(int[] hashes, int multiplier, int bits, short[] slots) {
+        for (int i = 0; i < hashes.length; i++) {
+            int slot = (hashes[i] * multiplier) >>> (32 - bits);
+            if (slots[slot] != 0) {
+                for (int j = 0; j < i; j++) {
+                    slots[(hashes[j] * multiplier) >>> (32 - bits)] = 0;
+                }
+                return false;
+            }
+            slots[slot] = (short) (i + 1);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,191 @@
+package com.github.rewrite.ejb;
+
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registry of the {@link JavaTemplate}s of all recipes and of the type stubs their snippets are compiled against.
+ * <p>
+ * A template is built on first use and reused by every later use on the same thread with the same snippet, imports,
+ * stubs and classpath, by any recipe and for any source file; building one per matched element resolves the parser
+ * classpath and sets up the template parser again each time. Templates are not shared between threads: each holds a
+ * parser builder whose type cache is not thread-safe, and the parallel runner applies recipes on several workers.
+ * Snippets that are built from the matched code still get one template per distinct snippet, so every thread keeps
+ * only its {@value #MAX_TEMPLATES} most recently used templates. Stubs of types that several recipes compile against,
+ * such as
+ * {@link #NEEDS_REVIEW_STUB}, live here once so that all templates see the same declaration.
+ * <pre>
+ * JavaTemplate template = JavaTemplates.builder("@NeedsReview(reason = #{}, category = NeedsReview.Category.OTHER)")
+ *     .imports(JavaTemplates.NEEDS_REVIEW_FQN)
+ *     .dependsOn(JavaTemplates.NEEDS_REVIEW_STUB)
+ *     .build();
+ * </pre>
+ */
+public final class JavaTemplates {
+
+    public static final String NEEDS_REVIEW_FQN = "com.github.rewrite.ejb.annotations.NeedsReview";
+
+    /**
+     * Declaration of {@code @NeedsReview} as shipped in {@code migration-annotations}, all categories included.
+     */
+    public static final String NEEDS_REVIEW_STUB = """
+        package com.github.rewrite.ejb.annotations;
+
+        import java.lang.annotation.*;
+
+        @Documented
+        @Repeatable(NeedsReview.Container.class)
+        @Retention(RetentionPolicy.SOURCE)
+        @Target({ElementType.TYPE, ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER})
+        public @interface NeedsReview {
+            String reason();
+            Category category();
+            String originalCode() default "";
+            String suggestedAction() default "";
+            String stableKey() default "";
+
+            enum Category {
+                REMOTE_ACCESS, CONCURRENCY, CONFIGURATION, SCHEDULING, TIMER, MESSAGING, CDI_FEATURE, TRANSACTION,
+                ASYNC, SPRING_CONFIG, MANUAL_MIGRATION, STATEFUL_BEAN, SEMANTIC_CHANGE, OTHER
+            }
+
+            @Documented
+            @Retention(RetentionPolicy.SOURCE)
+            @Target({ElementType.TYPE, ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER})
+            @interface Container {
+                NeedsReview[] value();
+            }
+        }
+        """;
+
+    /**
+     * Templates the registry keeps at most per thread.
+     */
+    static final int MAX_TEMPLATES = 1_000;
+
+    private static final ThreadLocal<Map<Key, Built>> TEMPLATES = ThreadLocal.withInitial(
+        () -> new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Built> eldest) {
+                return size() > MAX_TEMPLATES;
+            }
+        });
+    private static final AtomicLong LOOKUPS = new AtomicLong();
+    private static final AtomicLong BUILT = new AtomicLong();
+    private static final AtomicLong BUILD_NANOS = new AtomicLong();
+    private static final AtomicLong SAVED_NANOS = new AtomicLong();
+
+    private JavaTemplates() {
+    }
+
+    public static Builder builder(String code) {
+        return new Builder(code);
+    }
+
+    /**
+     * Summarizes the use of the registry since the JVM started, for the log of a migration run.
+     * <p>
+     * The time saved is the measured build time of each reused template, added up per reuse. Building a template
+     * resolves its parser classpath but parses nothing, so parsing the snippet and its stubs when a template is
+     * applied, which reuse saves as well, is not included.
+     */
+    public static String statistics() {
+        return String.format("Built %d Java templates in %d ms for %d uses; reuse saved %d ms of template setup",
+            BUILT.get(), BUILD_NANOS.get() / 1_000_000, LOOKUPS.get(), SAVED_NANOS.get() / 1_000_000);
+    }
+
+    /**
+     * Collects the settings of a template like {@link JavaTemplate.Builder}, then looks the template up.
+     */
+    public static final class Builder {
+
+        private final String code;
+        private boolean contextSensitive;
+        private final List<String> imports = new ArrayList<>();
+        private final List<String> stubs = new ArrayList<>();
+        private final List<String> classpath = new ArrayList<>();
+
+        private Builder(String code) {
+            this.code = code;
+        }
+
+        public Builder contextSensitive() {
+            this.contextSensitive = true;
+            return this;
+        }
+
+        public Builder imports(String... fullyQualifiedTypeNames) {
+            imports.addAll(Arrays.asList(fullyQualifiedTypeNames));
+            return this;
+        }
+
+        /**
+         * Adds sources of types the snippet refers to, see {@link JavaParser.Builder#dependsOn(String...)}.
+         */
+        public Builder dependsOn(String... stubSources) {
+            stubs.addAll(Arrays.asList(stubSources));
+            return this;
+        }
+
+        /**
+         * Adds jars of the runtime classpath, see {@link JavaParser.Builder#classpath(String...)}.
+         */
+        public Builder classpath(String... artifactNames) {
+            classpath.addAll(Arrays.asList(artifactNames));
+            return this;
+        }
+
+        public JavaTemplate build() {
+            LOOKUPS.incrementAndGet();
+            Key key = new Key(code, contextSensitive, List.copyOf(imports), List.copyOf(stubs), List.copyOf(classpath));
+            Map<Key, Built> templates = TEMPLATES.get();
+            Built built = templates.get(key);
+            if (built != null) {
+                SAVED_NANOS.addAndGet(built.nanos());
+                return built.template();
+            }
+            long start = System.nanoTime();
+            JavaTemplate template = key.build();
+            long nanos = System.nanoTime() - start;
+            BUILT.incrementAndGet();
+            BUILD_NANOS.addAndGet(nanos);
+            templates.put(key, new Built(template, nanos));
+            return template;
+        }
+    }
+
+    /**
+     * A template of one thread and the time it took to build.
+     */
+    private record Built(JavaTemplate template, long nanos) {
+    }
+
+    private record Key(String code, boolean contextSensitive, List<String> imports, List<String> stubs,
+                       List<String> classpath) {
+
+        JavaTemplate build() {
+            JavaTemplate.Builder builder = JavaTemplate.builder(code).imports(imports.toArray(new String[0]));
+            if (contextSensitive) {
+                builder.contextSensitive();
+            }
+            if (!stubs.isEmpty() || !classpath.isEmpty()) {
+                JavaParser.Builder<?, ?> parser = JavaParser.fromJavaVersion();
+                if (!classpath.isEmpty()) {
+                    parser.classpath(classpath.toArray(new String[0]));
+                }
+                if (!stubs.isEmpty()) {
+                    parser.dependsOn(stubs.toArray(new String[0]));
+                }
+                builder.javaParser(parser);
+            }
+            return builder.build();
+        }
+    }
+}
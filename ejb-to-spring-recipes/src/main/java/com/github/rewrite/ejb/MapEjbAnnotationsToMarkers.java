@@ -1,5 +1,7 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.Recipe;
@@ -12,6 +14,7 @@
 /**
  * Maps EJB annotations to project-local no-op marker annotations.
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class MapEjbAnnotationsToMarkers extends Recipe {
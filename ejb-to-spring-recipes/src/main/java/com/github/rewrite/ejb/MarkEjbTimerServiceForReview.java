@@ -1,11 +1,12 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
 import org.openrewrite.java.AddImport;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.*;
@@ -23,6 +24,7 @@
  * <p>
  * Programmatic timers require refactoring to Spring TaskScheduler.
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class MarkEjbTimerServiceForReview extends Recipe {
@@ -34,21 +36,6 @@ public class MarkEjbTimerServiceForReview extends Recipe {
     private static final String PROFILE_FQN = "org.springframework.context.annotation.Profile";
     private static final String NEEDS_REVIEW_FQN = "com.github.rewrite.ejb.annotations.NeedsReview";
 
-    private static final String NEEDS_REVIEW_STUB =
-        "package com.github.rewrite.ejb.annotations;\n" +
-        "\n" +
-        "import java.lang.annotation.*;\n" +
-        "\n" +
-        "@Retention(RetentionPolicy.RUNTIME)\n" +
-        "@Target({ElementType.TYPE, ElementType.FIELD, ElementType.METHOD})\n" +
-        "public @interface NeedsReview {\n" +
-        "    Category category();\n" +
-        "    String reason() default \"\";\n" +
-        "    String originalCode() default \"\";\n" +
-        "    String suggestedAction() default \"\";\n" +
-        "    enum Category { MANUAL_MIGRATION }\n" +
-        "}\n";
-
     private static final Comparator<J.Annotation> NEEDS_REVIEW_FIRST = (a, b) -> {
         int aRank = isNeedsReviewAnnotation(a) ? 0 : 1;
         int bRank = isNeedsReviewAnnotation(b) ? 0 : 1;
@@ -123,8 +110,8 @@ private ClassState(boolean hasTimerUsage, boolean addClassReview,
         private boolean hasTimerUsage;
         private boolean addClassReview;
         private boolean addProfile;
-        private final JavaTemplate classNeedsReviewTemplate = JavaTemplate.builder(CLASS_NEEDS_REVIEW_TEMPLATE)
-            .javaParser(JavaParser.fromJavaVersion().dependsOn(NEEDS_REVIEW_STUB))
+        private final JavaTemplate classNeedsReviewTemplate = JavaTemplates.builder(CLASS_NEEDS_REVIEW_TEMPLATE)
+            .dependsOn(JavaTemplates.NEEDS_REVIEW_STUB)
             .imports(NEEDS_REVIEW_FQN)
             .build();
 
@@ -212,8 +199,7 @@ private boolean isTimerServiceField(J.VariableDeclarations varDecls) {
 
         private boolean hasTimeoutAnnotation(J.MethodDeclaration md) {
             for (J.Annotation ann : md.getLeadingAnnotations()) {
-                if (TypeUtils.isOfClassType(ann.getType(), JAKARTA_TIMEOUT) ||
-                    TypeUtils.isOfClassType(ann.getType(), JAVAX_TIMEOUT) ||
+                if (JavaEeAnnotation.TIMEOUT.matches(ann) ||
                     "Timeout".equals(ann.getSimpleName())) {
                     return true;
                 }
@@ -9,14 +9,13 @@
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.lang.Nullable;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
-import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.xml.tree.Content;
 import org.openrewrite.xml.tree.Xml;
 
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 /**
  * GAP-DESC-001: Parses jboss-ejb3.xml and marks classes with @NeedsReview for JBoss-specific features.
@@ -55,10 +54,10 @@ public String getDescription() {
 
     static class Accumulator {
         /** Maps EJB name to MDB info with delivery-active=false */
-        Map<String, MdbDeliveryInfo> mdbDeliverySettings = new LinkedHashMap<>();
+        final Map<String, MdbDeliveryInfo> mdbDeliverySettings = new ConcurrentSkipListMap<>();
 
         /** Maps EJB name to singleton clustering info */
-        Map<String, ClusteredSingletonInfo> clusteredSingletons = new LinkedHashMap<>();
+        final Map<String, ClusteredSingletonInfo> clusteredSingletons = new ConcurrentSkipListMap<>();
     }
 
     static class MdbDeliveryInfo {
@@ -451,10 +450,9 @@ private J.ClassDeclaration addNeedsReviewForDeliveryActive(J.ClassDeclaration cd
                     escapeJava(info.xmlSnippet)
                 );
 
-                return JavaTemplate.builder(annotationCode)
+                return JavaTemplates.builder(annotationCode)
                     .imports(NEEDS_REVIEW_FQN, NEEDS_REVIEW_FQN + ".Category")
-                    .javaParser(JavaParser.fromJavaVersion()
-                        .dependsOn(getNeedsReviewSource()))
+                    .dependsOn(JavaTemplates.NEEDS_REVIEW_STUB)
                     .build()
                     .apply(getCursor(), cd.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
             }
@@ -478,10 +476,9 @@ private J.ClassDeclaration addNeedsReviewForClusteredSingleton(J.ClassDeclaratio
                     escapeJava(info.xmlSnippet)
                 );
 
-                return JavaTemplate.builder(annotationCode)
+                return JavaTemplates.builder(annotationCode)
                     .imports(NEEDS_REVIEW_FQN, NEEDS_REVIEW_FQN + ".Category")
-                    .javaParser(JavaParser.fromJavaVersion()
-                        .dependsOn(getNeedsReviewSource()))
+                    .dependsOn(JavaTemplates.NEEDS_REVIEW_STUB)
                     .build()
                     .apply(getCursor(), cd.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
             }
@@ -558,37 +555,4 @@ private static String escapeJava(String value) {
                    .replace("\n", "\\n")
                    .replace("\r", "\\r");
     }
-
-    private static String getNeedsReviewSource() {
-        return """
-            package com.github.rewrite.ejb.annotations;
-
-            import java.lang.annotation.*;
-
-            @Documented
-            @Repeatable(NeedsReview.Container.class)
-            @Retention(RetentionPolicy.SOURCE)
-            @Target({ElementType.TYPE, ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER})
-            public @interface NeedsReview {
-                String reason();
-                Category category();
-                String originalCode() default "";
-                String suggestedAction() default "";
-                String stableKey() default "";
-
-                enum Category {
-                    REMOTE_ACCESS, CONCURRENCY, CONFIGURATION, SCHEDULING, MESSAGING,
-                    CDI_FEATURE, TRANSACTION, ASYNC, SPRING_CONFIG, MANUAL_MIGRATION,
-                    SEMANTIC_CHANGE, OTHER
-                }
-
-                @Documented
-                @Retention(RetentionPolicy.SOURCE)
-                @Target({ElementType.TYPE, ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER})
-                @interface Container {
-                    NeedsReview[] value();
-                }
-            }
-            """;
-    }
 }
@@ -1,5 +1,7 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
@@ -27,6 +29,7 @@
  * WFQ-005: For local variables, uses comment-based fallback since Java annotations
  * cannot be placed on local variables without {@code @Target(ElementType.LOCAL_VARIABLE)}.
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class MarkJmsContextForReview extends Recipe {
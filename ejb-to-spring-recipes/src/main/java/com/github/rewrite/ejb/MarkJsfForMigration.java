@@ -85,7 +85,7 @@ public String getDescription() {
      * Accumulator to hold the loaded JSF strategy configuration.
      */
     public static class Accumulator {
-        private ProjectConfiguration.JsfStrategy jsfStrategy = ProjectConfiguration.JsfStrategy.JOINFACES;
+        private volatile ProjectConfiguration.JsfStrategy jsfStrategy = ProjectConfiguration.JsfStrategy.JOINFACES;
 
         public ProjectConfiguration.JsfStrategy getJsfStrategy() {
             return jsfStrategy;
@@ -246,8 +246,7 @@ private ConversationScopedInfo detectConversationScoped(J.ClassDeclaration class
                     break;
                 }
                 // Also check via type if available
-                if (TypeUtils.isOfClassType(ann.getType(), CONVERSATION_SCOPED) ||
-                    TypeUtils.isOfClassType(ann.getType(), CONVERSATION_SCOPED_JAVAX)) {
+                if (JavaEeAnnotation.CONVERSATION_SCOPED.matches(ann)) {
                     info.isConversationScoped = true;
                     break;
                 }
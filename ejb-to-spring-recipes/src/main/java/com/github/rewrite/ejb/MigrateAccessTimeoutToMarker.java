@@ -1,10 +1,11 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.*;
@@ -21,6 +22,7 @@
  * Important: Does NOT suggest @Transactional(timeout=...) as that is not
  * semantically equivalent to lock acquisition timeout.
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class MigrateAccessTimeoutToMarker extends Recipe {
@@ -159,26 +161,13 @@ private J.ClassDeclaration addNeedsReviewAnnotation(J.ClassDeclaration cd, Strin
 
             String escapedOriginalCode = originalCode.replace("\"", "\\\"");
 
-            JavaTemplate template = JavaTemplate.builder(
+            JavaTemplate template = JavaTemplates.builder(
                 "@NeedsReview(reason = \"@AccessTimeout removed - no Spring equivalent for lock acquisition timeout\", " +
                 "category = NeedsReview.Category.CONCURRENCY, " +
                 "originalCode = \"" + escapedOriginalCode + "\", " +
                 "suggestedAction = \"Consider: ReentrantLock.tryLock(timeout, unit) or Semaphore.tryAcquire(timeout, unit). " +
                 "Note: @Transactional(timeout=...) is NOT equivalent - it controls transaction timeout, not lock wait time.\")"
-            ).javaParser(JavaParser.fromJavaVersion()
-                .dependsOn(
-                    "package com.github.rewrite.ejb.annotations;\n" +
-                    "import java.lang.annotation.*;\n" +
-                    "@Retention(RetentionPolicy.RUNTIME)\n" +
-                    "@Target({ElementType.TYPE, ElementType.FIELD, ElementType.METHOD})\n" +
-                    "public @interface NeedsReview {\n" +
-                    "    String reason() default \"\";\n" +
-                    "    Category category();\n" +
-                    "    String originalCode() default \"\";\n" +
-                    "    String suggestedAction() default \"\";\n" +
-                    "    enum Category { CONCURRENCY, MANUAL_MIGRATION }\n" +
-                    "}"
-                ))
+            ).dependsOn(JavaTemplates.NEEDS_REVIEW_STUB)
                 .imports(NEEDS_REVIEW_FQN)
                 .build();
 
@@ -1,5 +1,7 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
@@ -9,6 +11,7 @@
 import org.openrewrite.java.tree.JRightPadded;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 /**
  * Migrates Jakarta EJB @ApplicationException rollback semantics to Spring @Transactional.
@@ -31,6 +34,7 @@
  *   <li>Mapping: rollback=true + checked → rollbackFor; rollback=false + unchecked → noRollbackFor</li>
  * </ul>
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class MigrateApplicationExceptionRollback extends ScanningRecipe<MigrateApplicationExceptionRollback.Accumulator> {
@@ -52,7 +56,7 @@ public String getDescription() {
 
     static class Accumulator {
         // Maps exception FQN to its rollback info
-        Map<String, AppExceptionInfo> appExceptions = new HashMap<>();
+        final Map<String, AppExceptionInfo> appExceptions = new ConcurrentSkipListMap<>();
     }
 
     static class AppExceptionInfo {
@@ -773,7 +777,6 @@ private String extractIndent(String whitespace) {
 
     private static boolean isApplicationExceptionAnnotation(J.Annotation annotation) {
         return "ApplicationException".equals(annotation.getSimpleName()) ||
-               TypeUtils.isOfClassType(annotation.getType(), JAKARTA_APP_EXCEPTION) ||
-               TypeUtils.isOfClassType(annotation.getType(), JAVAX_APP_EXCEPTION);
+               JavaEeAnnotation.APPLICATION_EXCEPTION.matches(annotation);
     }
 }
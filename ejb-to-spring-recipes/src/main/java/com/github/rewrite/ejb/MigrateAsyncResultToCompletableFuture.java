@@ -1,5 +1,7 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
@@ -18,6 +20,7 @@
  * This recipe should be used together with MigrateAsynchronousToAsync
  * for complete async method migration.
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class MigrateAsyncResultToCompletableFuture extends Recipe {
@@ -61,7 +64,7 @@ public java.util.List<Recipe> getRecipeList() {
 
     private class AsyncResultVisitor extends JavaVisitor<ExecutionContext> {
 
-        private final JavaTemplate completedFutureTemplate = JavaTemplate.builder(
+        private final JavaTemplate completedFutureTemplate = JavaTemplates.builder(
                 "CompletableFuture.completedFuture(#{any()})")
             .imports(COMPLETABLE_FUTURE)
             .build();
@@ -92,7 +95,7 @@ public J visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
                     );
                 } else {
                     // Handle case with no argument (null)
-                    JavaTemplate nullTemplate = JavaTemplate.builder(
+                    JavaTemplate nullTemplate = JavaTemplates.builder(
                             "CompletableFuture.completedFuture(null)")
                         .imports(COMPLETABLE_FUTURE)
                         .build();
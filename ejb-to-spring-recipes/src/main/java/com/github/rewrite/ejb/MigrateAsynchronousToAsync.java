@@ -1,5 +1,7 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
@@ -28,6 +30,7 @@
  *   <li>Exception handling differs - use AsyncUncaughtExceptionHandler for void methods</li>
  * </ul>
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class MigrateAsynchronousToAsync extends Recipe {
@@ -89,8 +92,7 @@ public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ct
 
         private boolean isAsynchronousAnnotation(J.Annotation ann) {
             if (ann.getType() != null) {
-                if (TypeUtils.isOfClassType(ann.getType(), JAKARTA_ASYNCHRONOUS) ||
-                    TypeUtils.isOfClassType(ann.getType(), JAVAX_ASYNCHRONOUS)) {
+                if (JavaEeAnnotation.ASYNCHRONOUS.matches(ann)) {
                     return true;
                 }
             }
@@ -4,7 +4,6 @@
 import lombok.Value;
 import org.openrewrite.*;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.*;
@@ -118,26 +117,13 @@ private boolean hasNeedsReviewAnnotation(J.ClassDeclaration cd) {
         private J.ClassDeclaration addNeedsReviewAnnotation(J.ClassDeclaration cd, ExecutionContext ctx) {
             addImportIfNeeded(NEEDS_REVIEW_FQN);
 
-            JavaTemplate template = JavaTemplate.builder(
+            JavaTemplate template = JavaTemplates.builder(
                 "@NeedsReview(reason = \"Bean-Managed Transactions (UserTransaction) require manual migration to TransactionTemplate\", " +
                 "category = NeedsReview.Category.MANUAL_MIGRATION, " +
                 "originalCode = \"UserTransaction.begin/commit/rollback/setRollbackOnly\", " +
                 "suggestedAction = \"Replace with transactionTemplate.execute(status -> { ... }); " +
                 "use status.setRollbackOnly() for rollback; return value from lambda for results\")"
-            ).javaParser(JavaParser.fromJavaVersion()
-                .dependsOn(
-                    "package com.github.rewrite.ejb.annotations;\n" +
-                    "import java.lang.annotation.*;\n" +
-                    "@Retention(RetentionPolicy.RUNTIME)\n" +
-                    "@Target({ElementType.TYPE, ElementType.FIELD, ElementType.METHOD})\n" +
-                    "public @interface NeedsReview {\n" +
-                    "    String reason() default \"\";\n" +
-                    "    Category category();\n" +
-                    "    String originalCode() default \"\";\n" +
-                    "    String suggestedAction() default \"\";\n" +
-                    "    enum Category { MANUAL_MIGRATION }\n" +
-                    "}"
-                ))
+            ).dependsOn(JavaTemplates.NEEDS_REVIEW_STUB)
                 .imports(NEEDS_REVIEW_FQN)
                 .build();
 
@@ -343,25 +343,12 @@ private J.ClassDeclaration addNeedsReviewAnnotation(J.ClassDeclaration cd, Patte
             String reason = buildReason(analysis);
             String suggestedAction = buildSuggestedAction(analysis);
 
-            JavaTemplate template = JavaTemplate.builder(
+            JavaTemplate template = JavaTemplates.builder(
                 "@NeedsReview(reason = \"" + reason + "\", " +
                 "category = NeedsReview.Category.MANUAL_MIGRATION, " +
                 "originalCode = \"UserTransaction.begin/commit/rollback\", " +
                 "suggestedAction = \"" + suggestedAction + "\")"
-            ).javaParser(JavaParser.fromJavaVersion()
-                .dependsOn(
-                    "package com.github.rewrite.ejb.annotations;\n" +
-                    "import java.lang.annotation.*;\n" +
-                    "@Retention(RetentionPolicy.RUNTIME)\n" +
-                    "@Target({ElementType.TYPE, ElementType.FIELD, ElementType.METHOD})\n" +
-                    "public @interface NeedsReview {\n" +
-                    "    String reason() default \"\";\n" +
-                    "    Category category();\n" +
-                    "    String originalCode() default \"\";\n" +
-                    "    String suggestedAction() default \"\";\n" +
-                    "    enum Category { MANUAL_MIGRATION }\n" +
-                    "}"
-                ))
+            ).dependsOn(JavaTemplates.NEEDS_REVIEW_STUB)
                 .imports(NEEDS_REVIEW_FQN)
                 .build();
 
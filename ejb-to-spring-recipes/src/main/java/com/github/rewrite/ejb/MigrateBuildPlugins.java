@@ -1,16 +1,22 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.config.ProjectConfiguration;
+import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
+import org.openrewrite.maven.AddDependency;
 import org.openrewrite.maven.AddPlugin;
 import org.openrewrite.maven.MavenIsoVisitor;
 import org.openrewrite.maven.RemovePlugin;
 import org.openrewrite.xml.XPathMatcher;
 import org.openrewrite.xml.tree.Xml;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Migrates Maven build plugins from EJB to Spring Boot.
@@ -19,6 +25,9 @@
  * <ul>
  *   <li>Removes {@code maven-ejb-plugin} - no longer needed for Spring Boot</li>
  *   <li>Adds {@code spring-boot-maven-plugin} - enables executable JAR creation</li>
+ *   <li>Adds {@code aspectj-maven-plugin} and {@code aspectjrt} to modules with EJB interceptors when
+ *       project.yaml sets {@code interceptors.weaving: ajc-compile} (post-compile weaving of the
+ *       migrated aspects instead of Spring AOP proxies)</li>
  * </ul>
  * <p>
  * The spring-boot-maven-plugin is essential for:
@@ -33,6 +42,9 @@
 public class MigrateBuildPlugins extends ScanningRecipe<MigrateBuildPlugins.Accumulator> {
 
     private static final String DEFAULT_SPRING_BOOT_VERSION = "3.5.0";
+    private static final String ASPECTJ_VERSION = "1.9.22.1";
+    private static final String ASPECTJ_MAVEN_PLUGIN_VERSION = "1.14";
+    private static final String ASPECTJ_COMPLIANCE_LEVEL = "17";
 
     @Option(displayName = "Spring Boot Version",
             description = "The Spring Boot version to use for the maven plugin. " +
@@ -67,15 +79,19 @@ public String getDescription() {
 
     static class Accumulator {
         // Track modules with EJB features
-        Set<String> modulesWithEjb = new HashSet<>();
+        final Set<String> modulesWithEjb = ConcurrentHashMap.newKeySet();
         // Track modules that already have spring-boot-maven-plugin in <build><plugins>
-        Set<String> modulesWithSpringBootPlugin = new HashSet<>();
+        final Set<String> modulesWithSpringBootPlugin = ConcurrentHashMap.newKeySet();
         // Track modules that have maven-ejb-plugin
-        Set<String> modulesWithEjbPlugin = new HashSet<>();
+        final Set<String> modulesWithEjbPlugin = ConcurrentHashMap.newKeySet();
         // Track modules with ejb packaging (indicates EJB module even without Java imports)
-        Set<String> modulesWithEjbPackaging = new HashSet<>();
+        final Set<String> modulesWithEjbPackaging = ConcurrentHashMap.newKeySet();
         // Track detected Spring Boot version from BOM or parent
-        Map<String, String> detectedSpringBootVersions = new HashMap<>();
+        final Map<String, String> detectedSpringBootVersions = new ConcurrentHashMap<>();
+        // Track modules with EJB interceptors (migrated to aspects)
+        final Set<String> modulesWithInterceptors = ConcurrentHashMap.newKeySet();
+        // Track modules that already have aspectj-maven-plugin in <build><plugins>
+        final Set<String> modulesWithAspectJPlugin = ConcurrentHashMap.newKeySet();
     }
 
     @Override
@@ -98,7 +114,9 @@ public Tree visit(Tree tree, ExecutionContext ctx) {
                         String importPath = imp.getQualid().toString();
                         if (isEjbAnnotation(importPath)) {
                             acc.modulesWithEjb.add(modulePath);
-                            break;
+                        }
+                        if (isInterceptorApi(importPath)) {
+                            acc.modulesWithInterceptors.add(modulePath);
                         }
                     }
                 }
@@ -158,6 +176,9 @@ public Xml visitTag(Xml.Tag tag, Accumulator a) {
                             if ("maven-ejb-plugin".equals(artifactId)) {
                                 a.modulesWithEjbPlugin.add(modulePath);
                             }
+                            if ("aspectj-maven-plugin".equals(artifactId)) {
+                                a.modulesWithAspectJPlugin.add(modulePath);
+                            }
                         }
 
                         // Check for spring-boot-dependencies BOM
@@ -237,6 +258,11 @@ private boolean isEjbAnnotation(String importPath) {
                 return importPath.startsWith("jakarta.ejb.") ||
                        importPath.startsWith("javax.ejb.");
             }
+
+            private boolean isInterceptorApi(String importPath) {
+                return importPath.startsWith("jakarta.interceptor.") ||
+                       importPath.startsWith("javax.interceptor.");
+            }
         };
     }
 
@@ -294,9 +320,64 @@ public Tree visit(Tree tree, ExecutionContext ctx) {
                     ).getVisitor().visit(result, ctx);
                 }
 
+                // 3. Post-compile weaving of migrated interceptor aspects (interceptors.weaving: ajc-compile)
+                if (acc.modulesWithInterceptors.contains(modulePath) &&
+                    !acc.modulesWithAspectJPlugin.contains(modulePath) &&
+                    loadConfigForPom(sourcePath).getInterceptorWeaving() ==
+                        ProjectConfiguration.InterceptorWeaving.AJC_COMPILE) {
+                    result = new AddDependency(
+                        "org.aspectj",
+                        "aspectjrt",
+                        ASPECTJ_VERSION,
+                        null, null, null, null, null, null, null, null, null
+                    ).getVisitor().visit(result, ctx);
+
+                    result = new AddPlugin(
+                        "dev.aspectj",
+                        "aspectj-maven-plugin",
+                        ASPECTJ_MAVEN_PLUGIN_VERSION,
+                        "<configuration>\n" +
+                        "  <complianceLevel>" + ASPECTJ_COMPLIANCE_LEVEL + "</complianceLevel>\n" +
+                        "  <showWeaveInfo>true</showWeaveInfo>\n" +
+                        "  <forceAjcCompile>true</forceAjcCompile>\n" +
+                        "  <sources/>\n" +
+                        "  <weaveDirectories>\n" +
+                        "    <weaveDirectory>${project.build.outputDirectory}</weaveDirectory>\n" +
+                        "  </weaveDirectories>\n" +
+                        "</configuration>",
+                        "<dependencies>\n" +
+                        "  <dependency>\n" +
+                        "    <groupId>org.aspectj</groupId>\n" +
+                        "    <artifactId>aspectjtools</artifactId>\n" +
+                        "    <version>" + ASPECTJ_VERSION + "</version>\n" +
+                        "  </dependency>\n" +
+                        "</dependencies>",
+                        "<executions>\n" +
+                        "  <execution>\n" +
+                        "    <phase>process-classes</phase>\n" +
+                        "    <goals>\n" +
+                        "      <goal>compile</goal>\n" +
+                        "    </goals>\n" +
+                        "  </execution>\n" +
+                        "</executions>",
+                        null
+                    ).getVisitor().visit(result, ctx);
+                }
+
                 return result;
             }
 
+            /**
+             * Loads the configuration for the module owning this pom.xml (project.yaml with inheritance).
+             */
+            private ProjectConfiguration loadConfigForPom(String pomPath) {
+                Path pomAbsPath = Paths.get(pomPath);
+                if (!pomAbsPath.isAbsolute()) {
+                    pomAbsPath = Paths.get(System.getProperty("user.dir")).resolve(pomPath);
+                }
+                return ProjectConfigurationLoader.loadWithInheritance(pomAbsPath.toAbsolutePath().normalize().getParent());
+            }
+
             private String getEffectiveVersion(String modulePath, Accumulator acc) {
                 // 1. User-provided option takes precedence
                 if (springBootVersion != null) {
@@ -1,16 +1,26 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.config.ProjectConfiguration;
+import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.*;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
+import org.openrewrite.maven.AddDependency;
+import org.openrewrite.xml.tree.Xml;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Migrates CDI Events to Spring ApplicationEventPublisher.
@@ -19,13 +29,50 @@
  * 1. Event&lt;T&gt; -> ApplicationEventPublisher (removes generics)
  * 2. @Observes on parameter -> @EventListener on method
  * 3. .fire() -> .publishEvent()
+ * 4. @Observes(during = TransactionPhase.X) -> @TransactionalEventListener(phase = ..., fallbackExecution = true)
+ * 5. @ObservesAsync -> @Async("cdiEventExecutor") @EventListener, .fireAsync() statements -> .publishEvent()
+ * 6. @Priority on the observed parameter -> @Order on the method
+ * <p>
+ * Asynchronous observers run on a dedicated bounded executor ({@code CdiEventAsyncConfiguration},
+ * generated per module that uses them) instead of an async multicaster: switching the multicaster
+ * would make every listener asynchronous and detach transactional listeners from their transaction.
+ * A {@code CdiEventAsyncConfigurationTest} showing that publishing no longer waits for slow
+ * observers is generated alongside.
+ * <p>
+ * CDI notifies {@code @Observes} observers only for fire() and {@code @ObservesAsync} observers only
+ * for fireAsync(). Former fireAsync() calls therefore publish a {@code CdiEventAsyncConfiguration.AsyncEvent}
+ * wrapping the event, former async observers listen with a condition on that wrapper, and synchronous
+ * observers of an event type that any module of the project fires asynchronously exclude it. The
+ * conditions match the wrapper by class name, so they hold across modules whatever package each
+ * module's configuration lives in.
  * <p>
  * Note: CDI Qualifiers like @CargoInspected are left since
  * Spring doesn't have a direct equivalent (manual migration required).
+ * fireAsync() calls whose CompletionStage is used are left unchanged for manual migration.
  */
 @Value
 @EqualsAndHashCode(callSuper = false)
-public class MigrateCdiEventsToSpring extends Recipe {
+public class MigrateCdiEventsToSpring extends ScanningRecipe<MigrateCdiEventsToSpring.Accumulator> {
+
+    static final String EXECUTOR_BEAN_NAME = "cdiEventExecutor";
+    // Bounded: slow observers must not exhaust memory or threads under load; CallerRunsPolicy
+    // throttles publishers once the queue is full instead of dropping events
+    static final int EXECUTOR_CORE_POOL_SIZE = 4;
+    static final int EXECUTOR_MAX_POOL_SIZE = 16;
+    static final int EXECUTOR_QUEUE_CAPACITY = 1000;
+
+    private static final String SPRING_BOOT_VERSION = "3.5.0";
+    private static final String CONFIG_CLASS_NAME = "CdiEventAsyncConfiguration";
+    private static final String TEST_CLASS_NAME = "CdiEventAsyncConfigurationTest";
+    private static final String ASYNC_EVENT_CLASS_NAME = "AsyncEvent";
+
+    /**
+     * SpEL condition matching events published by former fireAsync() calls of any module.
+     */
+    static final String ASYNC_EVENT_CONDITION = "#root.event.getClass().getName().endsWith('" + CONFIG_CLASS_NAME +
+                                                "$" + ASYNC_EVENT_CLASS_NAME + "')";
+
+    private static final String OBSERVES_ASYNC_FQN = "jakarta.enterprise.event.ObservesAsync";
 
     @Override
     public String getDisplayName() {
@@ -34,18 +81,444 @@ public String getDisplayName() {
 
     @Override
     public String getDescription() {
-        return "Converts CDI Event<T> to Spring ApplicationEventPublisher and @Observes to @EventListener.";
+        return "Converts CDI Event<T> to Spring ApplicationEventPublisher and @Observes to @EventListener. " +
+               "Transactional observers become @TransactionalEventListener, @ObservesAsync observers run on a " +
+               "dedicated bounded executor and @Priority becomes @Order.";
+    }
+
+    static class Accumulator {
+        final Map<String, ModuleState> modules = new ConcurrentSkipListMap<>();
+        final Set<String> existingPaths = ConcurrentHashMap.newKeySet();
+        // Event types fired asynchronously anywhere in the project, with all their supertypes
+        final Set<String> asyncEventTypes = ConcurrentHashMap.newKeySet();
+        volatile boolean firesUntypedAsyncEvents = false;
+
+        /**
+         * Whether a synchronous observer of the given type could receive an event of a former fireAsync() call.
+         * Spring delivers a payload to every listener of one of its supertypes, so an unknown type on either side
+         * counts as a match.
+         */
+        boolean receivesAsyncEvents(JavaType.@Nullable FullyQualified observedType) {
+            if (firesUntypedAsyncEvents) {
+                return true;
+            }
+            return observedType == null
+                ? !asyncEventTypes.isEmpty()
+                : asyncEventTypes.contains(observedType.getFullyQualifiedName());
+        }
+    }
+
+    /**
+     * Filled by concurrent scanners. Of several main sources or {@code @SpringBootApplication} classes, the one with
+     * the smallest path wins, so the outcome does not depend on the order in which files are scanned.
+     */
+    static class ModuleState {
+        final String modulePrefix;
+        String mainSourceRoot = "src/main/java";
+        volatile String testSourceRoot = "src/test/java";
+        String springBootApplicationPackage;
+        final Set<String> asyncPackages = ConcurrentHashMap.newKeySet();
+        final Set<String> classFqns = ConcurrentHashMap.newKeySet();
+        volatile boolean usesAsyncEvents = false;
+        private String mainSourcePath;
+        private String springBootApplicationPath;
+
+        ModuleState(String modulePrefix) {
+            this.modulePrefix = modulePrefix;
+        }
+
+        synchronized void recordMainSource(String path, String sourceRoot) {
+            if (mainSourcePath == null || path.compareTo(mainSourcePath) < 0) {
+                mainSourcePath = path;
+                mainSourceRoot = sourceRoot;
+            }
+        }
+
+        synchronized void recordSpringBootApplication(String path, String pkg) {
+            if (springBootApplicationPath == null || path.compareTo(springBootApplicationPath) < 0) {
+                springBootApplicationPath = path;
+                springBootApplicationPackage = pkg;
+            }
+        }
+
+        /**
+         * Package of the generated {@code CdiEventAsyncConfiguration}.
+         */
+        String configurationPackage() {
+            return springBootApplicationPackage != null
+                ? springBootApplicationPackage
+                : findCommonPackagePrefix(asyncPackages);
+        }
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile)) {
+                    return tree;
+                }
+                String sourcePath = normalizePath(((SourceFile) tree).getSourcePath());
+                acc.existingPaths.add(sourcePath);
+                if (tree instanceof J.CompilationUnit) {
+                    scanCompilationUnit((J.CompilationUnit) tree, sourcePath, acc);
+                }
+                return tree;
+            }
+        };
+    }
+
+    private static void scanCompilationUnit(J.CompilationUnit cu, String sourcePath, Accumulator acc) {
+        ProjectConfiguration config = ProjectConfigurationLoader.loadWithInheritance(
+            extractProjectRoot(cu.getSourcePath()));
+        if (!config.isMainSource(sourcePath)) {
+            return;
+        }
+        ModuleState module = acc.modules.computeIfAbsent(extractModulePrefix(sourcePath, config), ModuleState::new);
+        module.recordMainSource(sourcePath, extractSourceRoot(sourcePath, config.getMainSourceRoots(), "src/main/java"));
+        if (!config.getTestSourceRoots().isEmpty()) {
+            module.testSourceRoot = config.getTestSourceRoots().get(0);
+        }
+
+        String pkg = cu.getPackageDeclaration() != null ? cu.getPackageDeclaration().getPackageName() : "";
+        for (J.ClassDeclaration classDecl : cu.getClasses()) {
+            module.classFqns.add(qualify(pkg, classDecl.getSimpleName()));
+            if (classDecl.getLeadingAnnotations().stream().anyMatch(a -> "SpringBootApplication".equals(a.getSimpleName()))) {
+                module.recordSpringBootApplication(sourcePath, pkg);
+            }
+        }
+
+        AtomicBoolean usesAsync = new AtomicBoolean(false);
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Annotation visitAnnotation(J.Annotation annotation, AtomicBoolean found) {
+                if (isObservesAsync(annotation)) {
+                    found.set(true);
+                }
+                return annotation;
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean found) {
+                if (isFireAsync(method)) {
+                    found.set(true);
+                    recordAsyncEventType(firedEventType(method), acc);
+                }
+                return super.visitMethodInvocation(method, found);
+            }
+        }.visit(cu, usesAsync);
+        if (usesAsync.get()) {
+            module.usesAsyncEvents = true;
+            module.asyncPackages.add(pkg);
+        }
+    }
+
+    /**
+     * Type of the event a fireAsync() call fires: the static type of its argument, or else the type argument of
+     * the {@code Event<T>} it is called on.
+     */
+    private static JavaType.@Nullable FullyQualified firedEventType(J.MethodInvocation fireAsync) {
+        if (!fireAsync.getArguments().isEmpty()) {
+            JavaType.FullyQualified argumentType = TypeUtils.asFullyQualified(fireAsync.getArguments().get(0).getType());
+            if (argumentType != null && !TypeUtils.isObject(argumentType)) {
+                return argumentType;
+            }
+        }
+        JavaType.Parameterized eventType = fireAsync.getSelect() != null
+            ? TypeUtils.asParameterized(fireAsync.getSelect().getType())
+            : null;
+        if (eventType != null && eventType.getTypeParameters().size() == 1) {
+            return TypeUtils.asFullyQualified(eventType.getTypeParameters().get(0));
+        }
+        return null;
+    }
+
+    private static void recordAsyncEventType(JavaType.@Nullable FullyQualified type, Accumulator acc) {
+        if (type == null || type instanceof JavaType.Unknown) {
+            acc.firesUntypedAsyncEvents = true;
+            return;
+        }
+        Deque<JavaType.FullyQualified> pending = new ArrayDeque<>();
+        pending.add(type);
+        while (!pending.isEmpty()) {
+            JavaType.FullyQualified next = pending.poll();
+            if (acc.asyncEventTypes.add(next.getFullyQualifiedName())) {
+                if (next.getSupertype() != null) {
+                    pending.add(next.getSupertype());
+                }
+                pending.addAll(next.getInterfaces());
+            }
+        }
+        acc.asyncEventTypes.add("java.lang.Object");
+    }
+
+    private static boolean isObservesAsync(J.Annotation ann) {
+        return TypeUtils.isOfClassType(ann.getType(), OBSERVES_ASYNC_FQN) ||
+               "ObservesAsync".equals(ann.getSimpleName());
+    }
+
+    private static boolean isFireAsync(J.MethodInvocation mi) {
+        if (!"fireAsync".equals(mi.getSimpleName()) || mi.getSelect() == null) {
+            return false;
+        }
+        JavaType selectType = mi.getSelect().getType();
+        return selectType == null || TypeUtils.isAssignableTo("jakarta.enterprise.event.Event", selectType);
     }
 
     @Override
-    public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        JavaParser javaParser = JavaParser.fromJavaVersion().build();
+        List<SourceFile> generated = new ArrayList<>();
+
+        for (ModuleState module : acc.modules.values()) {
+            if (!module.usesAsyncEvents) {
+                continue;
+            }
+            String basePackage = module.configurationPackage();
+            String packagePath = basePackage.isEmpty() ? "" : basePackage.replace('.', '/') + "/";
+
+            String configPath = module.modulePrefix + module.mainSourceRoot + "/" + packagePath + CONFIG_CLASS_NAME + ".java";
+            if (module.classFqns.contains(qualify(basePackage, CONFIG_CLASS_NAME)) || acc.existingPaths.contains(configPath)) {
+                continue;
+            }
+            javaParser.parse(generateConfigurationSource(basePackage)).findFirst()
+                .ifPresent(sf -> generated.add(sf.withSourcePath(Paths.get(configPath))));
+
+            String testPath = module.modulePrefix + module.testSourceRoot + "/" + packagePath + TEST_CLASS_NAME + ".java";
+            if (!acc.existingPaths.contains(testPath)) {
+                javaParser.parse(generateTestSource(basePackage)).findFirst()
+                    .ifPresent(sf -> generated.add(sf.withSourcePath(Paths.get(testPath))));
+            }
+        }
+        return generated;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        TreeVisitor<?, ExecutionContext> javaVisitor = Preconditions.check(
             Preconditions.or(
                 new UsesType<>("jakarta.enterprise.event.Event", false),
-                new UsesType<>("jakarta.enterprise.event.Observes", false)
+                new UsesType<>("jakarta.enterprise.event.Observes", false),
+                new UsesType<>(OBSERVES_ASYNC_FQN, false)
             ),
-            new CdiEventsVisitor()
+            new CdiEventsVisitor(acc)
         );
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof J.CompilationUnit) {
+                    return javaVisitor.visit(tree, ctx);
+                }
+                if (tree instanceof Xml.Document) {
+                    String sourcePath = normalizePath(((Xml.Document) tree).getSourcePath());
+                    if (!sourcePath.endsWith("pom.xml")) {
+                        return tree;
+                    }
+                    String modulePrefix = sourcePath.equals("pom.xml") ? "" : sourcePath.substring(0, sourcePath.length() - "pom.xml".length());
+                    ModuleState module = acc.modules.get(modulePrefix);
+                    if (module == null || !module.usesAsyncEvents) {
+                        return tree;
+                    }
+                    // The generated latency test needs JUnit, AssertJ and spring-test
+                    return new AddDependency(
+                        "org.springframework.boot",
+                        "spring-boot-starter-test",
+                        SPRING_BOOT_VERSION,
+                        null, "test", null, null, null, null, null, null, null
+                    ).getVisitor().visit(tree, ctx);
+                }
+                return tree;
+            }
+        };
+    }
+
+    private static String generateConfigurationSource(String basePackage) {
+        StringBuilder source = new StringBuilder();
+        if (!basePackage.isEmpty()) {
+            source.append("package ").append(basePackage).append(";\n\n");
+        }
+        source.append("import java.util.concurrent.ThreadPoolExecutor;\n")
+            .append("import org.springframework.context.PayloadApplicationEvent;\n")
+            .append("import org.springframework.context.annotation.Bean;\n")
+            .append("import org.springframework.context.annotation.Configuration;\n")
+            .append("import org.springframework.scheduling.annotation.EnableAsync;\n")
+            .append("import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;\n\n")
+            .append("/**\n")
+            .append(" * Executor for migrated CDI @ObservesAsync observers (@Async(\"").append(EXECUTOR_BEAN_NAME).append("\")).\n")
+            .append(" * Publishing hands the event to this pool and returns; synchronous and transactional\n")
+            .append(" * listeners still run on the publishing thread. When the queue is full the publishing\n")
+            .append(" * thread runs the observer itself, so events are throttled rather than dropped.\n")
+            .append(" */\n")
+            .append("@Configuration(proxyBeanMethods = false)\n")
+            .append("@EnableAsync\n")
+            .append("public class ").append(CONFIG_CLASS_NAME).append(" {\n\n")
+            .append("    public static final String EXECUTOR_NAME = \"").append(EXECUTOR_BEAN_NAME).append("\";\n\n")
+            .append("    @Bean(name = EXECUTOR_NAME)\n")
+            .append("    public ThreadPoolTaskExecutor cdiEventExecutor() {\n")
+            .append("        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();\n")
+            .append("        executor.setCorePoolSize(").append(EXECUTOR_CORE_POOL_SIZE).append(");\n")
+            .append("        executor.setMaxPoolSize(").append(EXECUTOR_MAX_POOL_SIZE).append(");\n")
+            .append("        executor.setQueueCapacity(").append(EXECUTOR_QUEUE_CAPACITY).append(");\n")
+            .append("        executor.setThreadNamePrefix(\"cdi-event-\");\n")
+            .append("        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());\n")
+            .append("        executor.setWaitForTasksToCompleteOnShutdown(true);\n")
+            .append("        executor.setAwaitTerminationSeconds(30);\n")
+            .append("        return executor;\n")
+            .append("    }\n\n")
+            .append("    /**\n")
+            .append("     * Published by former fireAsync() calls. Only former @ObservesAsync observers listen for it,\n")
+            .append("     * synchronous observers exclude it, as CDI keeps both kinds of delivery apart.\n")
+            .append("     */\n")
+            .append("    public static class ").append(ASYNC_EVENT_CLASS_NAME).append("<T> extends PayloadApplicationEvent<T> {\n\n")
+            .append("        public ").append(ASYNC_EVENT_CLASS_NAME).append("(T payload) {\n")
+            .append("            super(payload, payload);\n")
+            .append("        }\n")
+            .append("    }\n")
+            .append("}\n");
+        return source.toString();
+    }
+
+    private static String generateTestSource(String basePackage) {
+        StringBuilder source = new StringBuilder();
+        if (!basePackage.isEmpty()) {
+            source.append("package ").append(basePackage).append(";\n\n");
+        }
+        source.append("import static org.assertj.core.api.Assertions.assertThat;\n\n")
+            .append("import java.util.Set;\n")
+            .append("import java.util.concurrent.ConcurrentHashMap;\n")
+            .append("import java.util.concurrent.CountDownLatch;\n")
+            .append("import java.util.concurrent.TimeUnit;\n")
+            .append("import org.junit.jupiter.api.Test;\n")
+            .append("import org.springframework.beans.factory.annotation.Autowired;\n")
+            .append("import org.springframework.context.ApplicationEventPublisher;\n")
+            .append("import org.springframework.context.annotation.Configuration;\n")
+            .append("import org.springframework.context.annotation.Import;\n")
+            .append("import org.springframework.context.event.EventListener;\n")
+            .append("import org.springframework.scheduling.annotation.Async;\n")
+            .append("import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;\n\n")
+            .append("/**\n")
+            .append(" * Publishing an event with slow asynchronous observers (mail, search indexing) returns\n")
+            .append(" * without waiting for them; synchronous delivery would block for the sum of their run times.\n")
+            .append(" */\n")
+            .append("@SpringJUnitConfig(").append(TEST_CLASS_NAME).append(".SlowObservers.class)\n")
+            .append("class ").append(TEST_CLASS_NAME).append(" {\n\n")
+            .append("    static final long OBSERVER_MILLIS = 500;\n\n")
+            .append("    @Autowired\n")
+            .append("    private ApplicationEventPublisher publisher;\n\n")
+            .append("    @Autowired\n")
+            .append("    private SlowObservers observers;\n\n")
+            .append("    @Test\n")
+            .append("    void publishDoesNotWaitForAsyncObservers() throws InterruptedException {\n")
+            .append("        long start = System.nanoTime();\n")
+            .append("        publisher.publishEvent(new ").append(CONFIG_CLASS_NAME).append(".").append(ASYNC_EVENT_CLASS_NAME)
+            .append("<>(new SampleEvent()));\n")
+            .append("        long publishMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);\n\n")
+            .append("        // Synchronous delivery: at least 2 * OBSERVER_MILLIS on the publishing thread\n")
+            .append("        assertThat(publishMillis).isLessThan(OBSERVER_MILLIS);\n")
+            .append("        assertThat(observers.done.await(10, TimeUnit.SECONDS)).isTrue();\n")
+            .append("        assertThat(observers.threadNames).allMatch(name -> name.startsWith(\"cdi-event-\"));\n")
+            .append("    }\n\n")
+            .append("    record SampleEvent() {\n")
+            .append("    }\n\n")
+            .append("    @Configuration\n")
+            .append("    @Import(").append(CONFIG_CLASS_NAME).append(".class)\n")
+            .append("    static class SlowObservers {\n\n")
+            .append("        final CountDownLatch done = new CountDownLatch(2);\n")
+            .append("        final Set<String> threadNames = ConcurrentHashMap.newKeySet();\n\n")
+            .append("        @Async(").append(CONFIG_CLASS_NAME).append(".EXECUTOR_NAME)\n")
+            .append("        @EventListener(condition = \"").append(ASYNC_EVENT_CONDITION).append("\")\n")
+            .append("        public void sendMail(SampleEvent event) throws InterruptedException {\n")
+            .append("            observe();\n")
+            .append("        }\n\n")
+            .append("        @Async(").append(CONFIG_CLASS_NAME).append(".EXECUTOR_NAME)\n")
+            .append("        @EventListener(condition = \"").append(ASYNC_EVENT_CONDITION).append("\")\n")
+            .append("        public void updateSearchIndex(SampleEvent event) throws InterruptedException {\n")
+            .append("            observe();\n")
+            .append("        }\n\n")
+            .append("        private void observe() throws InterruptedException {\n")
+            .append("            threadNames.add(Thread.currentThread().getName());\n")
+            .append("            Thread.sleep(OBSERVER_MILLIS);\n")
+            .append("            done.countDown();\n")
+            .append("        }\n")
+            .append("    }\n")
+            .append("}\n");
+        return source.toString();
+    }
+
+    private static String qualify(String basePackage, String className) {
+        return basePackage.isEmpty() ? className : basePackage + "." + className;
+    }
+
+    private static String findCommonPackagePrefix(Set<String> packages) {
+        String prefix = null;
+        for (String pkg : packages) {
+            if (prefix == null) {
+                prefix = pkg;
+                continue;
+            }
+            while (!prefix.isEmpty() && !(pkg.equals(prefix) || pkg.startsWith(prefix + "."))) {
+                int lastDot = prefix.lastIndexOf('.');
+                prefix = lastDot > 0 ? prefix.substring(0, lastDot) : "";
+            }
+        }
+        return prefix != null ? prefix : "";
+    }
+
+    private static String extractModulePrefix(String sourcePath, @Nullable ProjectConfiguration config) {
+        List<String> roots = new ArrayList<>();
+        if (config != null) {
+            roots.addAll(config.getMainSourceRoots());
+        }
+        roots.add("src/main/java");
+        for (String root : roots) {
+            int idx = sourcePath.indexOf("/" + root + "/");
+            if (idx >= 0) {
+                return sourcePath.substring(0, idx + 1);
+            }
+            if (sourcePath.startsWith(root + "/")) {
+                return "";
+            }
+        }
+        int idx = sourcePath.indexOf("/src/");
+        return idx > 0 ? sourcePath.substring(0, idx + 1) : "";
+    }
+
+    private static String extractSourceRoot(String sourcePath, List<String> roots, String defaultRoot) {
+        for (String root : roots) {
+            if (sourcePath.contains("/" + root + "/") || sourcePath.startsWith(root + "/")) {
+                return root;
+            }
+        }
+        return defaultRoot;
+    }
+
+    private static String normalizePath(@Nullable Path path) {
+        if (path == null) {
+            return "";
+        }
+        return path.toString().replace('\\', '/');
+    }
+
+    private static Path extractProjectRoot(Path sourcePath) {
+        if (sourcePath == null) {
+            return Paths.get(System.getProperty("user.dir"));
+        }
+        Path current = sourcePath.toAbsolutePath().getParent();
+        while (current != null) {
+            if (Files.exists(current.resolve("pom.xml")) ||
+                Files.exists(current.resolve("build.gradle")) ||
+                Files.exists(current.resolve("project.yaml"))) {
+                return current;
+            }
+            current = current.getParent();
+        }
+        return Paths.get(System.getProperty("user.dir"));
     }
 
     private static class CdiEventsVisitor extends JavaIsoVisitor<ExecutionContext> {
@@ -54,16 +527,40 @@ private static class CdiEventsVisitor extends JavaIsoVisitor<ExecutionContext> {
         private static final String OBSERVES_FQN = "jakarta.enterprise.event.Observes";
         private static final String PUBLISHER_FQN = "org.springframework.context.ApplicationEventPublisher";
         private static final String EVENT_LISTENER_FQN = "org.springframework.context.event.EventListener";
+        private static final String CDI_TRANSACTION_PHASE_FQN = "jakarta.enterprise.event.TransactionPhase";
+        private static final String CDI_RECEPTION_FQN = "jakarta.enterprise.event.Reception";
+        private static final String NOTIFICATION_OPTIONS_FQN = "jakarta.enterprise.event.NotificationOptions";
+        private static final String TRANSACTIONAL_EVENT_LISTENER_FQN = "org.springframework.transaction.event.TransactionalEventListener";
+        private static final String SPRING_TRANSACTION_PHASE_FQN = "org.springframework.transaction.event.TransactionPhase";
+        private static final String ASYNC_FQN = "org.springframework.scheduling.annotation.Async";
+        private static final String ORDER_FQN = "org.springframework.core.annotation.Order";
+        private static final String JAKARTA_PRIORITY_FQN = "jakarta.annotation.Priority";
+        private static final String JAVAX_PRIORITY_FQN = "javax.annotation.Priority";
+
+        private final Accumulator acc;
 
         // Tracking ob Transformationen stattgefunden haben
         private boolean transformedEvent = false;
         private boolean transformedObserves = false;
+        private boolean transformedObservesAsync = false;
+        private boolean transformedTransactionPhase = false;
+        private @Nullable ModuleState module;
+
+        CdiEventsVisitor(Accumulator acc) {
+            this.acc = acc;
+        }
 
         @Override
         public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+            ProjectConfiguration config = ProjectConfigurationLoader.loadWithInheritance(
+                extractProjectRoot(cu.getSourcePath()));
+            module = acc.modules.get(extractModulePrefix(normalizePath(cu.getSourcePath()), config));
+
             // Reset tracking for this file
             transformedEvent = false;
             transformedObserves = false;
+            transformedObservesAsync = false;
+            transformedTransactionPhase = false;
 
             J.CompilationUnit result = super.visitCompilationUnit(cu, ctx);
 
@@ -75,6 +572,12 @@ public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionCon
             if (transformedObserves) {
                 doAfterVisit(new RemoveImport<>(OBSERVES_FQN, true));
             }
+            if (transformedObservesAsync) {
+                doAfterVisit(new RemoveImport<>(OBSERVES_ASYNC_FQN, true));
+            }
+            if (transformedTransactionPhase) {
+                doAfterVisit(new RemoveImport<>(CDI_TRANSACTION_PHASE_FQN, true));
+            }
 
             return result;
         }
@@ -150,83 +653,127 @@ private boolean isEventType(J.Identifier ident) {
         public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
             J.MethodDeclaration md = super.visitMethodDeclaration(method, ctx);
 
-            // Check if any parameter has @Observes annotation
-            List<Statement> params = md.getParameters();
-            boolean hasObserves = false;
+            // Check if any parameter has @Observes or @ObservesAsync
             J.VariableDeclarations observesParam = null;
-
-            for (Statement param : params) {
+            J.Annotation observesAnn = null;
+            for (Statement param : md.getParameters()) {
                 if (param instanceof J.VariableDeclarations) {
                     J.VariableDeclarations vd = (J.VariableDeclarations) param;
                     for (J.Annotation ann : vd.getLeadingAnnotations()) {
-                        if (TypeUtils.isOfClassType(ann.getType(), OBSERVES_FQN) ||
-                            "Observes".equals(ann.getSimpleName())) {
-                            hasObserves = true;
+                        if (isObserves(ann) || isObservesAsync(ann)) {
                             observesParam = vd;
+                            observesAnn = ann;
                             break;
                         }
                     }
                 }
-                if (hasObserves) break;
+                if (observesAnn != null) break;
+            }
+            if (observesAnn == null) {
+                return md;
             }
 
-            if (hasObserves && observesParam != null) {
-                // Check if method already has @EventListener
-                boolean hasMethodLevelEventListener = md.getLeadingAnnotations().stream()
-                    .anyMatch(ann -> TypeUtils.isOfClassType(ann.getType(), EVENT_LISTENER_FQN) ||
-                                    "EventListener".equals(ann.getSimpleName()));
+            boolean async = isObservesAsync(observesAnn);
+            String springPhase = async ? null : springTransactionPhase(observesAnn);
+            J.Annotation priority = observesParam.getLeadingAnnotations().stream()
+                .filter(this::isPriority)
+                .filter(ann -> ann.getArguments() != null && !ann.getArguments().isEmpty())
+                .findFirst()
+                .orElse(null);
+
+            // Check if method already has @EventListener
+            boolean hasMethodLevelEventListener = md.getLeadingAnnotations().stream()
+                .anyMatch(ann -> TypeUtils.isOfClassType(ann.getType(), EVENT_LISTENER_FQN) ||
+                                "EventListener".equals(ann.getSimpleName()) ||
+                                TypeUtils.isOfClassType(ann.getType(), TRANSACTIONAL_EVENT_LISTENER_FQN) ||
+                                "TransactionalEventListener".equals(ann.getSimpleName()));
+
+            // CDI keeps fire() and fireAsync() deliveries apart, see AsyncEvent in CdiEventAsyncConfiguration
+            String condition = null;
+            if (async) {
+                if (module != null && module.usesAsyncEvents) {
+                    condition = ASYNC_EVENT_CONDITION;
+                }
+            } else if (acc.receivesAsyncEvents(observesParam.getTypeAsFullyQualified())) {
+                condition = "!(" + ASYNC_EVENT_CONDITION + ")";
+            }
 
-                if (!hasMethodLevelEventListener) {
+            boolean orderAdded = false;
+            if (!hasMethodLevelEventListener) {
+                if (async) {
+                    // Runs on the bounded executor from CdiEventAsyncConfiguration
+                    maybeAddImport(ASYNC_FQN);
+                    md = addMethodAnnotation(md, createAnnotation("Async", ASYNC_FQN,
+                        Collections.singletonList(createStringLiteral(EXECUTOR_BEAN_NAME))));
+                }
+                if (springPhase != null) {
+                    // The CDI TransactionPhase import goes first, or the Spring one could not be imported
+                    doAfterVisit(new RemoveImport<>(CDI_TRANSACTION_PHASE_FQN, true));
+                    maybeAddImport(TRANSACTIONAL_EVENT_LISTENER_FQN);
+                    maybeAddImport(SPRING_TRANSACTION_PHASE_FQN);
+                    md = addMethodAnnotation(md, createTransactionalEventListener(springPhase, condition));
+                } else {
                     // Add @EventListener to method
                     maybeAddImport(EVENT_LISTENER_FQN);
-
-                    JavaType.ShallowClass eventListenerType = JavaType.ShallowClass.build(EVENT_LISTENER_FQN);
-                    J.Identifier eventListenerIdent = new J.Identifier(
+                    md = addMethodAnnotation(md, createAnnotation("EventListener", EVENT_LISTENER_FQN,
+                        condition == null ? null
+                            : Collections.singletonList(createAssignment("condition", createStringLiteral(condition)
+                                .withPrefix(Space.format(" ")), Space.EMPTY))));
+                }
+                if (priority != null) {
+                    // CDI and Spring both notify lower values first
+                    maybeAddImport(ORDER_FQN);
+                    md = addMethodAnnotation(md, new J.Annotation(
                         Tree.randomId(),
                         Space.EMPTY,
                         Markers.EMPTY,
-                        Collections.emptyList(),
-                        "EventListener",
-                        eventListenerType,
-                        null
-                    );
-
-                    J.Annotation eventListenerAnn = new J.Annotation(
-                        Tree.randomId(),
-                        Space.format("\n    "),
-                        Markers.EMPTY,
-                        eventListenerIdent,
-                        null
-                    );
+                        createIdentifier("Order", ORDER_FQN),
+                        priority.getPadding().getArguments()
+                    ));
+                    maybeRemoveImport(JAKARTA_PRIORITY_FQN);
+                    maybeRemoveImport(JAVAX_PRIORITY_FQN);
+                    orderAdded = true;
+                }
+            }
+            if (hasDuring(observesAnn)) {
+                transformedTransactionPhase = true;
+            }
+            if (hasArgument(observesAnn, "notifyObserver")) {
+                maybeRemoveImport(CDI_RECEPTION_FQN);
+            }
 
-                    List<J.Annotation> newAnnotations = new ArrayList<>(md.getLeadingAnnotations());
-                    newAnnotations.add(eventListenerAnn);
-                    md = md.withLeadingAnnotations(newAnnotations);
-                }
-
-                // Remove @Observes from parameters
-                List<Statement> newParams = new ArrayList<>();
-                for (Statement param : md.getParameters()) {
-                    if (param instanceof J.VariableDeclarations) {
-                        J.VariableDeclarations vd = (J.VariableDeclarations) param;
-                        List<J.Annotation> filteredAnnotations = new ArrayList<>();
-                        for (J.Annotation ann : vd.getLeadingAnnotations()) {
-                            if (!TypeUtils.isOfClassType(ann.getType(), OBSERVES_FQN) &&
-                                !"Observes".equals(ann.getSimpleName())) {
-                                filteredAnnotations.add(ann);
-                            }
-                        }
-                        if (filteredAnnotations.size() != vd.getLeadingAnnotations().size()) {
-                            vd = vd.withLeadingAnnotations(filteredAnnotations);
+            // Remove @Observes/@ObservesAsync (and @Priority once mapped to @Order) from parameters
+            boolean removePriority = orderAdded;
+            List<Statement> newParams = new ArrayList<>();
+            for (Statement param : md.getParameters()) {
+                if (param instanceof J.VariableDeclarations) {
+                    J.VariableDeclarations vd = (J.VariableDeclarations) param;
+                    List<J.Annotation> filteredAnnotations = new ArrayList<>();
+                    for (J.Annotation ann : vd.getLeadingAnnotations()) {
+                        if (isObservesAsync(ann)) {
+                            transformedObservesAsync = true;
+                        } else if (isObserves(ann)) {
                             transformedObserves = true;
+                        } else if (!(removePriority && isPriority(ann))) {
+                            filteredAnnotations.add(ann);
                         }
-                        newParams.add(vd);
-                    } else {
-                        newParams.add(param);
                     }
+                    if (filteredAnnotations.size() != vd.getLeadingAnnotations().size()) {
+                        if (!filteredAnnotations.isEmpty()) {
+                            filteredAnnotations.set(0, filteredAnnotations.get(0).withPrefix(Space.EMPTY));
+                        } else if (!vd.getModifiers().isEmpty()) {
+                            vd = vd.withModifiers(ListUtils.mapFirst(vd.getModifiers(), m -> m.withPrefix(Space.EMPTY)));
+                        } else if (vd.getTypeExpression() != null) {
+                            vd = vd.withTypeExpression(vd.getTypeExpression().withPrefix(Space.EMPTY));
+                        }
+                        vd = vd.withLeadingAnnotations(filteredAnnotations);
+                    }
+                    newParams.add(vd);
+                } else {
+                    newParams.add(param);
                 }
-                md = md.withParameters(newParams);
             }
+            md = md.withParameters(newParams);
 
             return md;
         }
@@ -235,19 +782,230 @@ public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, Ex
         public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
             J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
 
-            // Check if this is a .fire() call on Event
-            if ("fire".equals(mi.getSimpleName())) {
+            // Check if this is a .fire() or .fireAsync() call on Event
+            if ("fire".equals(mi.getSimpleName()) || "fireAsync".equals(mi.getSimpleName())) {
                 Expression select = mi.getSelect();
                 if (select != null && select.getType() != null) {
                     if (TypeUtils.isAssignableTo(EVENT_FQN, select.getType()) ||
                         TypeUtils.isAssignableTo(PUBLISHER_FQN, select.getType())) {
-                        // Replace .fire() with .publishEvent()
-                        mi = mi.withName(mi.getName().withSimpleName("publishEvent"));
+                        if ("fire".equals(mi.getSimpleName())) {
+                            // Replace .fire() with .publishEvent()
+                            mi = mi.withName(mi.getName().withSimpleName("publishEvent"));
+                        } else if (getCursor().getParentTreeCursor().getValue() instanceof J.Block) {
+                            // fireAsync() as a statement: @Async observers keep the publisher off their
+                            // execution, NotificationOptions are replaced by the dedicated executor.
+                            // A used CompletionStage has no publishEvent() equivalent and is left as is.
+                            Expression event = mi.getArguments().get(0);
+                            if (module != null && module.usesAsyncEvents) {
+                                event = wrapInAsyncEvent(event, module.configurationPackage());
+                            }
+                            mi = mi.withName(mi.getName().withSimpleName("publishEvent"))
+                                .withArguments(Collections.singletonList(event));
+                            maybeRemoveImport(NOTIFICATION_OPTIONS_FQN);
+                        }
                     }
                 }
             }
 
             return mi;
         }
+
+        /**
+         * {@code new CdiEventAsyncConfiguration.AsyncEvent<>(event)}, so only former @ObservesAsync observers receive it.
+         */
+        private J.NewClass wrapInAsyncEvent(Expression event, String configurationPackage) {
+            String configFqn = qualify(configurationPackage, CONFIG_CLASS_NAME);
+            JavaType.ShallowClass asyncEventType = JavaType.ShallowClass.build(configFqn + "$" + ASYNC_EVENT_CLASS_NAME);
+            J.FieldAccess asyncEventClass = new J.FieldAccess(
+                Tree.randomId(),
+                Space.EMPTY,
+                Markers.EMPTY,
+                createIdentifier(CONFIG_CLASS_NAME, configFqn),
+                JLeftPadded.build(new J.Identifier(
+                    Tree.randomId(), Space.EMPTY, Markers.EMPTY, Collections.emptyList(), ASYNC_EVENT_CLASS_NAME,
+                    asyncEventType, null)),
+                asyncEventType
+            );
+            J.ParameterizedType diamond = new J.ParameterizedType(
+                Tree.randomId(),
+                Space.format(" "),
+                Markers.EMPTY,
+                asyncEventClass,
+                JContainer.build(Space.EMPTY,
+                    Collections.singletonList(JRightPadded.build(new J.Empty(Tree.randomId(), Space.EMPTY, Markers.EMPTY))),
+                    Markers.EMPTY),
+                asyncEventType
+            );
+            J.CompilationUnit cu = getCursor().firstEnclosingOrThrow(J.CompilationUnit.class);
+            String pkg = cu.getPackageDeclaration() != null ? cu.getPackageDeclaration().getPackageName() : "";
+            if (!pkg.equals(configurationPackage)) {
+                maybeAddImport(configFqn);
+            }
+            return new J.NewClass(
+                Tree.randomId(),
+                event.getPrefix(),
+                Markers.EMPTY,
+                null,
+                Space.EMPTY,
+                diamond,
+                JContainer.build(Space.EMPTY,
+                    Collections.singletonList(JRightPadded.build(event.withPrefix(Space.EMPTY))),
+                    Markers.EMPTY),
+                null,
+                null
+            );
+        }
+
+        private boolean isObserves(J.Annotation ann) {
+            return TypeUtils.isOfClassType(ann.getType(), OBSERVES_FQN) ||
+                   "Observes".equals(ann.getSimpleName());
+        }
+
+        private boolean isPriority(J.Annotation ann) {
+            return JavaEeAnnotation.PRIORITY.matches(ann) ||
+                   "Priority".equals(ann.getSimpleName());
+        }
+
+        private boolean hasDuring(J.Annotation observes) {
+            return hasArgument(observes, "during");
+        }
+
+        private boolean hasArgument(J.Annotation ann, String name) {
+            return argument(ann, name) != null;
+        }
+
+        private J.@Nullable Assignment argument(J.Annotation ann, String name) {
+            if (ann.getArguments() == null) {
+                return null;
+            }
+            for (Expression arg : ann.getArguments()) {
+                if (arg instanceof J.Assignment) {
+                    J.Assignment assignment = (J.Assignment) arg;
+                    if (assignment.getVariable() instanceof J.Identifier &&
+                        name.equals(((J.Identifier) assignment.getVariable()).getSimpleName())) {
+                        return assignment;
+                    }
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Maps {@code @Observes(during = ...)} to the Spring transaction phase, or null for
+         * IN_PROGRESS (and no phase) where a plain @EventListener keeps the CDI semantics.
+         */
+        private @Nullable String springTransactionPhase(J.Annotation observes) {
+            J.Assignment during = argument(observes, "during");
+            if (during == null) {
+                return null;
+            }
+            Expression value = during.getAssignment();
+            String phase = value instanceof J.FieldAccess ? ((J.FieldAccess) value).getSimpleName()
+                : value instanceof J.Identifier ? ((J.Identifier) value).getSimpleName() : "";
+            switch (phase) {
+                case "BEFORE_COMPLETION":
+                    return "BEFORE_COMMIT";
+                case "AFTER_COMPLETION":
+                    return "AFTER_COMPLETION";
+                case "AFTER_SUCCESS":
+                    return "AFTER_COMMIT";
+                case "AFTER_FAILURE":
+                    return "AFTER_ROLLBACK";
+                default:
+                    return null;
+            }
+        }
+
+        /**
+         * {@code @TransactionalEventListener(phase = TransactionPhase.X, fallbackExecution = true)} -
+         * CDI notifies transactional observers immediately when no transaction is active,
+         * fallbackExecution keeps that behavior.
+         */
+        private J.Annotation createTransactionalEventListener(String phase, @Nullable String condition) {
+            J.FieldAccess phaseValue = new J.FieldAccess(
+                Tree.randomId(),
+                Space.format(" "),
+                Markers.EMPTY,
+                createIdentifier("TransactionPhase", SPRING_TRANSACTION_PHASE_FQN),
+                JLeftPadded.build(new J.Identifier(
+                    Tree.randomId(), Space.EMPTY, Markers.EMPTY, Collections.emptyList(), phase, null, null)),
+                JavaType.ShallowClass.build(SPRING_TRANSACTION_PHASE_FQN)
+            );
+            J.Literal fallback = new J.Literal(
+                Tree.randomId(), Space.format(" "), Markers.EMPTY, true, "true",
+                Collections.emptyList(), JavaType.Primitive.Boolean);
+            List<Expression> arguments = new ArrayList<>(Arrays.asList(
+                createAssignment("phase", phaseValue, Space.EMPTY),
+                createAssignment("fallbackExecution", fallback, Space.format(" "))
+            ));
+            if (condition != null) {
+                arguments.add(createAssignment("condition", createStringLiteral(condition).withPrefix(Space.format(" ")),
+                    Space.format(" ")));
+            }
+            return createAnnotation("TransactionalEventListener", TRANSACTIONAL_EVENT_LISTENER_FQN, arguments);
+        }
+
+        private static J.Assignment createAssignment(String name, Expression value, Space prefix) {
+            return new J.Assignment(
+                Tree.randomId(),
+                prefix,
+                Markers.EMPTY,
+                new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, Collections.emptyList(), name, null, null),
+                JLeftPadded.<Expression>build(value).withBefore(Space.format(" ")),
+                null
+            );
+        }
+
+        private static J.Literal createStringLiteral(String value) {
+            return new J.Literal(
+                Tree.randomId(), Space.EMPTY, Markers.EMPTY, value, "\"" + value + "\"",
+                Collections.emptyList(), JavaType.Primitive.String);
+        }
+
+        private static J.Identifier createIdentifier(String simpleName, String fqn) {
+            return new J.Identifier(
+                Tree.randomId(),
+                Space.EMPTY,
+                Markers.EMPTY,
+                Collections.emptyList(),
+                simpleName,
+                JavaType.ShallowClass.build(fqn),
+                null
+            );
+        }
+
+        private static J.Annotation createAnnotation(String simpleName, String fqn, @Nullable List<Expression> arguments) {
+            JContainer<Expression> args = null;
+            if (arguments != null) {
+                List<JRightPadded<Expression>> padded = new ArrayList<>();
+                for (Expression argument : arguments) {
+                    padded.add(JRightPadded.build(argument));
+                }
+                args = JContainer.build(Space.EMPTY, padded, Markers.EMPTY);
+            }
+            return new J.Annotation(Tree.randomId(), Space.EMPTY, Markers.EMPTY, createIdentifier(simpleName, fqn), args);
+        }
+
+        /**
+         * Appends a method annotation on its own line, moving the modifiers (or return type)
+         * to the next line when the method had no annotations before.
+         */
+        private static J.MethodDeclaration addMethodAnnotation(J.MethodDeclaration md, J.Annotation annotation) {
+            Space lineBreak = Space.format("\n" + md.getPrefix().getIndent());
+            List<J.Annotation> annotations = new ArrayList<>(md.getLeadingAnnotations());
+            if (!annotations.isEmpty()) {
+                annotations.add(annotation.withPrefix(lineBreak));
+                return md.withLeadingAnnotations(annotations);
+            }
+            annotations.add(annotation.withPrefix(Space.EMPTY));
+            md = md.withLeadingAnnotations(annotations);
+            if (!md.getModifiers().isEmpty()) {
+                return md.withModifiers(ListUtils.mapFirst(md.getModifiers(), m -> m.withPrefix(lineBreak)));
+            }
+            if (md.getReturnTypeExpression() != null) {
+                return md.withReturnTypeExpression(md.getReturnTypeExpression().withPrefix(lineBreak));
+            }
+            return md;
+        }
     }
 }
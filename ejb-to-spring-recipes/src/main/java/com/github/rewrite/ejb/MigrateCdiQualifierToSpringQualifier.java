@@ -18,6 +18,8 @@
  */
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
@@ -74,6 +76,7 @@
  * public class PremiumPaymentService implements PaymentService {}
  * </pre>
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class MigrateCdiQualifierToSpringQualifier extends Recipe {
@@ -86,10 +89,6 @@ public class MigrateCdiQualifierToSpringQualifier extends Recipe {
     private static final String APP_EVENT_PUBLISHER = "org.springframework.context.ApplicationEventPublisher";
     private static final String CDI_EVENT_JAKARTA = "jakarta.enterprise.event.Event";
     private static final String CDI_EVENT_JAVAX = "javax.enterprise.event.Event";
-    private static final String CDI_OBSERVES_JAKARTA = "jakarta.enterprise.event.Observes";
-    private static final String CDI_OBSERVES_JAVAX = "javax.enterprise.event.Observes";
-    private static final String CDI_PRODUCES_JAKARTA = "jakarta.enterprise.inject.Produces";
-    private static final String CDI_PRODUCES_JAVAX = "javax.enterprise.inject.Produces";
     private static final String NEEDS_REVIEW_FQN = "com.github.rewrite.ejb.annotations.NeedsReview";
 
     // Standard annotations that are NOT CDI qualifiers
@@ -460,8 +459,7 @@ private boolean hasProducesAnnotation(List<J.Annotation> annotations) {
                 if ("Produces".equals(ann.getSimpleName())) {
                     return true;
                 }
-                if (TypeUtils.isOfClassType(ann.getType(), CDI_PRODUCES_JAKARTA) ||
-                    TypeUtils.isOfClassType(ann.getType(), CDI_PRODUCES_JAVAX)) {
+                if (JavaEeAnnotation.CDI_PRODUCES.matches(ann)) {
                     return true;
                 }
             }
@@ -831,8 +829,7 @@ private boolean hasObservesAnnotation(List<J.Annotation> annotations) {
                 if ("Observes".equals(ann.getSimpleName())) {
                     return true;
                 }
-                if (TypeUtils.isOfClassType(ann.getType(), CDI_OBSERVES_JAKARTA) ||
-                    TypeUtils.isOfClassType(ann.getType(), CDI_OBSERVES_JAVAX)) {
+                if (JavaEeAnnotation.OBSERVES.matches(ann)) {
                     return true;
                 }
             }
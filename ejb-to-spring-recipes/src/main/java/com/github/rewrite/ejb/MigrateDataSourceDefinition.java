@@ -1,5 +1,7 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
@@ -10,6 +12,9 @@
 import org.openrewrite.properties.tree.Properties;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 /**
  * Migrates @DataSourceDefinition to Spring Boot application.properties.
@@ -24,6 +29,9 @@
  * (which creates application.properties). Running in the same phase will cause the scanner
  * to not find application.properties since all scanners run before any generators.
  */
+@RecipeIo(
+    reads = {MigrationArtifact.JAVA, MigrationArtifact.CONFIGURATION},
+    generates = {MigrationArtifact.JAVA, MigrationArtifact.CONFIGURATION})
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class MigrateDataSourceDefinition extends ScanningRecipe<MigrateDataSourceDefinition.Accumulator> {
@@ -220,6 +228,10 @@ private int findLastSegmentMatch(String[] pathSegments, String[] patternSegments
     }
 
     static class Accumulator {
+        /** Whether the visitor has anything to do in this cycle, set by categorize() */
+        volatile boolean hasWorkToDo;
+        /** Whether the scanner already cleared the data of the previous cycle, reset by the visitor */
+        volatile boolean scannerCleared;
         /** DataSources that can be migrated (have url and only supported attributes) */
         List<DataSourceInfo> dataSources = new ArrayList<>();
         /** JNDI names of successfully migrated @DataSourceDefinition (for removal check) */
@@ -235,7 +247,7 @@ static class Accumulator {
         /** JNDI names with non-literal values in url/user/password (Codex 2.5) - maps to attribute names */
         Map<String, Set<String>> nonLiteralAttributesByJndi = new HashMap<>();
         /** Maps source root (e.g., "module-a/") to its application.properties path (Codex 2.1) */
-        Map<String, String> sourceRootToPropertiesPath = new LinkedHashMap<>();
+        final Map<String, String> sourceRootToPropertiesPath = new ConcurrentSkipListMap<>();
         /** Codex 2.6: Counts ALL @DataSourceDefinition per module (regardless of migratability) for Multi-DS detection */
         Map<String, List<String>> allDsJndiPerModule = new LinkedHashMap<>();
         /** Codex P2.1f-2: Count of DS per module INCLUDING those without literal JNDI (for correct Multi-DS detection) */
@@ -243,13 +255,14 @@ static class Accumulator {
         /** Codex P2.1f-2: DataSourceInfos with non-literal name (need @NeedsReview but JNDI not extractable) */
         List<DataSourceInfo> nonLiteralNameDataSources = new ArrayList<>();
         /** Codex P2.1h-2: Module-scoped JNDIs with DS config (moduleRoot -> Set of JNDIs) */
-        Map<String, Set<String>> configuredJndisByModule = new LinkedHashMap<>();
+        final Map<String, Set<String>> configuredJndisByModule = new ConcurrentSkipListMap<>();
         /**
          * Codex P2.1h Round 48: All scanned DataSourceInfo objects (before moduleRoot computation).
          * ModuleRoot is computed in the visitor phase AFTER all files are scanned to ensure
          * custom source roots from YAML config are loaded (fixes order-dependency issue).
+         * Scanners may add to it concurrently; categorize() sorts it by stable key.
          */
-        List<DataSourceInfo> allScannedDataSources = new ArrayList<>();
+        final List<DataSourceInfo> allScannedDataSources = Collections.synchronizedList(new ArrayList<>());
         // Codex P2.1g-6: Removed propertiesWrittenForJndi (was dead code - written but never read)
         // Codex P2.1f-6: Removed unused fields hasApplicationProperties, detectedSourceRoots (0 tech debt)
 
@@ -258,8 +271,9 @@ static class Accumulator {
          * If empty, DEFAULT_SOURCE_ROOTS are used (convention over configuration).
          * Multi-module: all found configs are merged (union).
          * Round 42: LinkedHashSet for O(1) lookup + deterministic iteration order.
+         * Concurrent scanners load configs in any order, so the roots are kept sorted instead.
          */
-        Set<String> customSourceRoots = new LinkedHashSet<>();
+        final Set<String> customSourceRoots = new ConcurrentSkipListSet<>();
 
         /**
          * Codex P2.1h Round 53: Custom roots with module prefix that may cause wrong moduleRoot.
@@ -267,13 +281,13 @@ static class Accumulator {
          * moduleRoot from the part BEFORE the matching source root, causing confusion.
          * These roots are tracked for @NeedsReview emission.
          */
-        Set<String> problematicCustomRoots = new LinkedHashSet<>();
+        final Set<String> problematicCustomRoots = new ConcurrentSkipListSet<>();
 
         // Codex P2.1h Round 60: Removed emittedProblematicRootsWarning (dead code, replaced by per-module approach)
 
         /** Codex P2.1h Round 59/60: Per-module target class for problematic roots warning.
          *  Key: module prefix (e.g., "moduleA/"), Value: lowest sourcePath in that module. */
-        Map<String, String> problematicRootsTargetByModule = new LinkedHashMap<>();
+        final Map<String, String> problematicRootsTargetByModule = new ConcurrentSkipListMap<>();
 
         /**
          * Codex P2.1h Round 34 Fix 2: Returns effective source roots sorted by specificity.
@@ -303,27 +317,30 @@ public Accumulator getInitialValue(ExecutionContext ctx) {
         return new Accumulator();
     }
 
-    // Codex P2.1h Round 97: Marker key for cycle-based clearing (fix for per-file getScanner calls)
-    private static final String SCANNER_CLEAR_MARKER = "MigrateDataSourceDefinition.scannerCleared";
-
     @Override
     public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
         // Codex P2.1h Round 97 FIX: getScanner() is called for each file, not once per cycle.
-        // We MUST use ExecutionContext to track if we've already cleared for this cycle.
+        // The accumulator tracks if we've already cleared for this cycle; keeping the flag there rather than in
+        // the ExecutionContext keeps it out of the state the runner shares between worker threads.
         // Without this fix, the accumulator is cleared for each file, losing data.
         return new TreeVisitor<Tree, ExecutionContext>() {
             @Override
             public Tree visit(Tree tree, ExecutionContext ctx) {
-                // Only clear once per cycle (first file triggers clear)
-                if (ctx.getMessage(SCANNER_CLEAR_MARKER) == null) {
-                    ctx.putMessage(SCANNER_CLEAR_MARKER, Boolean.TRUE);
-                    // Codex P2.1h Round 50/53/60: Clear scanner-phase data to prevent double-accumulation in cycle 2.
-                    acc.allScannedDataSources.clear();
-                    acc.customSourceRoots.clear();
-                    acc.problematicCustomRoots.clear();
-                    acc.sourceRootToPropertiesPath.clear();
-                    acc.configuredJndisByModule.clear();
-                    acc.problematicRootsTargetByModule.clear();
+                // Only clear once per cycle (first file triggers clear). Files may be scanned concurrently, so the
+                // flag is set only after clearing, and under a lock, so that no scanner adds data that is cleared.
+                if (!acc.scannerCleared) {
+                    synchronized (acc) {
+                        if (!acc.scannerCleared) {
+                            // Codex P2.1h Round 50/53/60: Clear scanner-phase data to prevent double-accumulation in cycle 2.
+                            acc.allScannedDataSources.clear();
+                            acc.customSourceRoots.clear();
+                            acc.problematicCustomRoots.clear();
+                            acc.sourceRootToPropertiesPath.clear();
+                            acc.configuredJndisByModule.clear();
+                            acc.problematicRootsTargetByModule.clear();
+                            acc.scannerCleared = true;
+                        }
+                    }
                 }
                 return doScan(tree, ctx, acc);
             }
@@ -362,7 +379,7 @@ private Tree doScan(Tree tree, ExecutionContext ctx, Accumulator acc) {
                                 String jndi = line.substring("# Original JNDI:".length()).trim();
                                 if (!jndi.isEmpty()) {
                                     acc.configuredJndisByModule
-                                        .computeIfAbsent(moduleRoot, k -> new HashSet<>())
+                                        .computeIfAbsent(moduleRoot, k -> ConcurrentHashMap.newKeySet())
                                         .add(jndi);
                                 }
                             }
@@ -505,7 +522,7 @@ private static void loadCustomSourceRoots(String yamlContent, Accumulator acc) {
                         while (root.endsWith("/")) {
                             root = root.substring(0, root.length() - 1);
                         }
-                        // LinkedHashSet handles duplicates automatically
+                        // The set handles duplicates automatically
                         if (!root.isEmpty()) {
                             // Codex P2.1h Round 53/54/55: Validate for module prefix patterns
                             String problematicSuffix = detectModulePrefixPattern(root);
@@ -882,10 +899,8 @@ public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Ex
 
             // Codex P2.1h Round 59: Track lowest sourcePath per module for deterministic problematicRoots placement
             String modulePrefix = extractModulePrefix(sourcePath);
-            String currentTarget = acc.problematicRootsTargetByModule.get(modulePrefix);
-            if (currentTarget == null || sourcePath.compareTo(currentTarget) < 0) {
-                acc.problematicRootsTargetByModule.put(modulePrefix, sourcePath);
-            }
+            acc.problematicRootsTargetByModule.merge(modulePrefix, sourcePath,
+                (current, candidate) -> candidate.compareTo(current) < 0 ? candidate : current);
 
             // Codex P2.1h-3: dsIdx counter for indexed annotation keys (per-class)
             // Handles multiple @DataSourceDefinition on the same class
@@ -922,8 +937,7 @@ public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Ex
         }
 
         private boolean isDataSourceDefinition(J.Annotation ann) {
-            return TypeUtils.isOfClassType(ann.getType(), DATASOURCE_DEFINITION_FQN) ||
-                   TypeUtils.isOfClassType(ann.getType(), JAVAX_DATASOURCE_DEFINITION_FQN) ||
+            return JavaEeAnnotation.DATA_SOURCE_DEFINITION.matches(ann) ||
                    "DataSourceDefinition".equals(ann.getSimpleName());
         }
 
@@ -1050,143 +1064,31 @@ private boolean isNonLiteralExpression(Expression expr) {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
-        // Codex P2.1h Round 97 FIX Part 2: Reset the scanner clear marker so next cycle's scanner
+        // Codex P2.1h Round 97 FIX Part 2: Reset the scanner clear flag so next cycle's scanner
         // will clear the accumulator again. Without this, Cycle 2's scanner would skip clearing
-        // because the marker from Cycle 1 persists in ExecutionContext.
-        // This is a closure that captures 'acc' but we need ctx to remove the marker.
-        // The marker removal happens in the returned TreeVisitor's visit() method.
-
-        // Codex P2.1h Round 49: Clear lists BEFORE processing to prevent double-accumulation in cycle 2.
-        // The Accumulator is reused across cycles, so we must clear computed/derived data.
-        // Note: allScannedDataSources and sourceRootToPropertiesPath are populated in scanner and stay constant.
-        acc.dataSources.clear();
-        acc.migratedJndiNames.clear();
-        acc.nonMigratableJndiNames.clear();
-        acc.multiDsJndiNames.clear();
-        acc.multiDsCountByJndi.clear();
-        acc.unsupportedAttributesByJndi.clear();
-        acc.nonLiteralAttributesByJndi.clear();
-        acc.nonLiteralNameDataSources.clear();
-        acc.totalDsCountPerModule.clear();
-        acc.allDsJndiPerModule.clear();
-
-        // Codex P2.1h Round 48: Deferred moduleRoot computation and categorization.
-        // This ensures custom source roots from YAML config are fully loaded before
-        // computing moduleRoot for Java files (fixes order-dependency issue).
+        // because the flag from Cycle 1 persists in the accumulator.
+        // The reset happens in the returned TreeVisitor's visit() method.
 
-        // Step 1: Compute moduleRoot for all scanned DataSourceInfo
-        for (DataSourceInfo info : acc.allScannedDataSources) {
-            info.computeModuleRoot(acc.getEffectiveSourceRoots());
-            String moduleRoot = info.moduleRoot != null ? info.moduleRoot : "";
-
-            // Step 2: Module-based tracking (was previously in scanner)
-            acc.totalDsCountPerModule.merge(moduleRoot, 1, Integer::sum);
-            if (info.name != null) {
-                acc.allDsJndiPerModule
-                    .computeIfAbsent(moduleRoot, k -> new ArrayList<>())
-                    .add(info.name);
-            }
-
-            // Step 3: Categorization by migratability (was previously in scanner)
-            if (info.name == null && info.nonLiteralAttributes.contains("name")) {
-                // Non-literal name - can't track JNDI but must add @NeedsReview
-                acc.nonLiteralNameDataSources.add(info);
-            } else if (info.url != null
-                    && !info.hasUnsupportedAttributes()
-                    && !info.hasNonLiteralMigratableAttributes()) {
-                // Fully migratable: has url, only supported attributes, AND all values are literals
-                acc.dataSources.add(info);
-                if (info.name != null) {
-                    acc.migratedJndiNames.add(info.name);
-                }
-            } else if (info.name != null && info.hasNonLiteralMigratableAttributes()) {
-                // Codex 2.5/2.7: Has non-literal values in name/url/user/password - can't safely migrate
-                acc.nonLiteralAttributesByJndi.put(info.name, new TreeSet<>(info.nonLiteralAttributes));
-            } else if (info.name != null && info.hasUnsupportedAttributes()) {
-                // Has URL but also has unsupported attributes - can't safely remove
-                acc.unsupportedAttributesByJndi.put(info.name, info.unsupportedAttributes);
-            } else if (info.name != null) {
-                // Non-migratable: has name but no url (uses serverName/portNumber/databaseName)
-                acc.nonMigratableJndiNames.add(info.name);
-            }
-        }
-
-        // Run visitor if:
-        // - we have migratable datasources (to write properties and remove annotations), OR
-        // - we have non-migratable datasources (to add @NeedsReview), OR
-        // - we have datasources with unsupported attributes (to add @NeedsReview), OR
-        // - we have datasources with non-literal values (Codex 2.5), OR
-        // - we have datasources with non-literal name (Codex P2.1f-2), OR
-        // - Codex P2.1h: we have configured JNDIs to potentially remove @NeedsReview from DataSource fields
-        boolean hasWorkToDo = !acc.dataSources.isEmpty()
-            || !acc.nonMigratableJndiNames.isEmpty()
-            || !acc.unsupportedAttributesByJndi.isEmpty()
-            || !acc.nonLiteralAttributesByJndi.isEmpty()
-            || !acc.nonLiteralNameDataSources.isEmpty()
-            || !acc.configuredJndisByModule.isEmpty();  // Codex P2.1h: Enable cycle 2 @NeedsReview removal
-        // Codex P2.1h Round 98 FIX: Marker must be cleared even when hasWorkToDo == false
-        // Previously returned TreeVisitor.noop() which skipped marker removal, breaking multi-cycle coordination
-        if (!hasWorkToDo) {
+        // Codex P2.1h Round 98 FIX: Flag must be reset even when hasWorkToDo == false
+        // Previously returned TreeVisitor.noop() which skipped the reset, breaking multi-cycle coordination
+        if (!acc.hasWorkToDo) {
             return new TreeVisitor<Tree, ExecutionContext>() {
                 @Override
                 public Tree visit(Tree tree, ExecutionContext ctx) {
-                    // Clear the marker even when there's no work to do
-                    if (ctx.getMessage(SCANNER_CLEAR_MARKER) != null) {
-                        ctx.putMessage(SCANNER_CLEAR_MARKER, null);
-                    }
+                    // Reset the flag even when there's no work to do
+                    acc.scannerCleared = false;
                     return tree;
                 }
             };
         }
 
-        // Codex 2.1: Group migratable datasources by module root
+        // Migratable datasources by module root, as left by categorize()
         Map<String, List<DataSourceInfo>> dataSourcesByModule = new LinkedHashMap<>();
         for (DataSourceInfo ds : acc.dataSources) {
             String moduleRoot = ds.moduleRoot != null ? ds.moduleRoot : "";
             dataSourcesByModule.computeIfAbsent(moduleRoot, k -> new ArrayList<>()).add(ds);
         }
 
-        // Codex P2.1f-2: Multi-DS Safety Check based on totalDsCountPerModule (includes DS without literal JNDI)
-        // If a module has >1 total datasource definitions, we CANNOT auto-migrate safely
-        // because spring.datasource.* properties only support a single primary datasource.
-        Set<String> modulesWithMultiDs = new HashSet<>();
-        for (Map.Entry<String, Integer> entry : acc.totalDsCountPerModule.entrySet()) {
-            if (entry.getValue() > 1) {
-                String moduleRoot = entry.getKey();
-                modulesWithMultiDs.add(moduleRoot);
-                int totalCount = entry.getValue();
-
-                // Track ALL datasources with literal JNDI in this module as multi-DS
-                List<String> jndisInModule = acc.allDsJndiPerModule.getOrDefault(moduleRoot, Collections.emptyList());
-                for (String jndi : jndisInModule) {
-                    acc.multiDsJndiNames.add(jndi);
-                    acc.multiDsCountByJndi.put(jndi, totalCount); // Codex P2.1f-1: Per-JNDI count
-                    acc.migratedJndiNames.remove(jndi);
-                    // Remove from other categories since Multi-DS is the primary issue
-                    acc.nonMigratableJndiNames.remove(jndi);
-                    acc.unsupportedAttributesByJndi.remove(jndi);
-                    acc.nonLiteralAttributesByJndi.remove(jndi);
-                }
-
-                // Codex P2.1f-2: Mark DS without literal JNDI in this module as Multi-DS too
-                for (DataSourceInfo ds : acc.nonLiteralNameDataSources) {
-                    if (moduleRoot.equals(ds.moduleRoot != null ? ds.moduleRoot : "")) {
-                        ds.nonLiteralAttributes.add("_multiDs"); // Internal marker for Multi-DS
-                    }
-                }
-            }
-        }
-        // Remove multi-DS modules from migratable processing
-        for (String moduleRoot : modulesWithMultiDs) {
-            dataSourcesByModule.remove(moduleRoot);
-        }
-
-        // Update acc.dataSources to only contain modules with single DS
-        acc.dataSources.clear();
-        for (List<DataSourceInfo> moduleDs : dataSourcesByModule.values()) {
-            acc.dataSources.addAll(moduleDs);
-        }
-
         // Codex P2.1h-2: Module-scoped safe @NeedsReview removal
         // Uses maxCycles()=2: cycle 1 writes properties, cycle 2 scanner detects -> visitor removes @NeedsReview
         // Pass the module-scoped map to the visitor for correct module-level removal
@@ -1194,13 +1096,10 @@ public Tree visit(Tree tree, ExecutionContext ctx) {
         return new TreeVisitor<Tree, ExecutionContext>() {
             @Override
             public Tree visit(Tree tree, ExecutionContext ctx) {
-                // Codex P2.1h Round 97 FIX Part 2: Remove scanner marker so next cycle clears accumulator.
-                // This must be done in visitor phase (not getVisitor() body) because we need ctx.
-                // The marker was set by getScanner() and persists across files within a cycle.
-                // By removing it here in visitor phase, the next cycle's scanner will see null and clear.
-                if (ctx.getMessage(SCANNER_CLEAR_MARKER) != null) {
-                    ctx.putMessage(SCANNER_CLEAR_MARKER, null);
-                }
+                // Codex P2.1h Round 97 FIX Part 2: Reset the scanner flag so next cycle clears accumulator.
+                // The flag was set by getScanner() and persists across files within a cycle.
+                // By resetting it here in visitor phase, the next cycle's scanner will clear again.
+                acc.scannerCleared = false;
 
                 // Handle Java files - remove/mark @DataSourceDefinition
                 if (tree instanceof J.CompilationUnit) {
@@ -3003,8 +2902,7 @@ private String extractJndiFromNeedsReviewOnField(J.Annotation ann) {
         }
 
         private boolean isDataSourceDefinition(J.Annotation ann) {
-            return TypeUtils.isOfClassType(ann.getType(), DATASOURCE_DEFINITION_FQN) ||
-                   TypeUtils.isOfClassType(ann.getType(), JAVAX_DATASOURCE_DEFINITION_FQN) ||
+            return JavaEeAnnotation.DATA_SOURCE_DEFINITION.matches(ann) ||
                    "DataSourceDefinition".equals(ann.getSimpleName());
         }
 
@@ -3074,7 +2972,136 @@ private boolean isNeedsReviewForDataSource(J.Annotation ann) {
 
     @Override
     public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        categorize(acc);
         // Properties are appended directly to application.properties in the visitor phase
         return Collections.emptyList();
     }
+
+    /**
+     * Categorizes the data sources scanned in this cycle. Runs once per cycle in generate(), after all files have been
+     * scanned, so that getVisitor(), which is called for every source file and possibly concurrently, only reads the
+     * accumulator.
+     */
+    private static void categorize(Accumulator acc) {
+        // Codex P2.1h Round 49: Clear lists BEFORE processing to prevent double-accumulation in cycle 2.
+        // The Accumulator is reused across cycles, so we must clear computed/derived data.
+        // Note: allScannedDataSources and sourceRootToPropertiesPath are populated in scanner and stay constant.
+        acc.dataSources.clear();
+        acc.migratedJndiNames.clear();
+        acc.nonMigratableJndiNames.clear();
+        acc.multiDsJndiNames.clear();
+        acc.multiDsCountByJndi.clear();
+        acc.unsupportedAttributesByJndi.clear();
+        acc.nonLiteralAttributesByJndi.clear();
+        acc.nonLiteralNameDataSources.clear();
+        acc.totalDsCountPerModule.clear();
+        acc.allDsJndiPerModule.clear();
+
+        // Codex P2.1h Round 48: Deferred moduleRoot computation and categorization.
+        // This ensures custom source roots from YAML config are fully loaded before
+        // computing moduleRoot for Java files (fixes order-dependency issue).
+
+        // Step 1: Compute moduleRoot for all scanned DataSourceInfo, in a fixed order whatever the scan order
+        acc.allScannedDataSources.sort(Comparator.comparing(info -> info.stableKey));
+        for (DataSourceInfo info : acc.allScannedDataSources) {
+            info.computeModuleRoot(acc.getEffectiveSourceRoots());
+            String moduleRoot = info.moduleRoot != null ? info.moduleRoot : "";
+
+            // Step 2: Module-based tracking (was previously in scanner)
+            acc.totalDsCountPerModule.merge(moduleRoot, 1, Integer::sum);
+            if (info.name != null) {
+                acc.allDsJndiPerModule
+                    .computeIfAbsent(moduleRoot, k -> new ArrayList<>())
+                    .add(info.name);
+            }
+
+            // Step 3: Categorization by migratability (was previously in scanner)
+            if (info.name == null && info.nonLiteralAttributes.contains("name")) {
+                // Non-literal name - can't track JNDI but must add @NeedsReview
+                acc.nonLiteralNameDataSources.add(info);
+            } else if (info.url != null
+                    && !info.hasUnsupportedAttributes()
+                    && !info.hasNonLiteralMigratableAttributes()) {
+                // Fully migratable: has url, only supported attributes, AND all values are literals
+                acc.dataSources.add(info);
+                if (info.name != null) {
+                    acc.migratedJndiNames.add(info.name);
+                }
+            } else if (info.name != null && info.hasNonLiteralMigratableAttributes()) {
+                // Codex 2.5/2.7: Has non-literal values in name/url/user/password - can't safely migrate
+                acc.nonLiteralAttributesByJndi.put(info.name, new TreeSet<>(info.nonLiteralAttributes));
+            } else if (info.name != null && info.hasUnsupportedAttributes()) {
+                // Has URL but also has unsupported attributes - can't safely remove
+                acc.unsupportedAttributesByJndi.put(info.name, info.unsupportedAttributes);
+            } else if (info.name != null) {
+                // Non-migratable: has name but no url (uses serverName/portNumber/databaseName)
+                acc.nonMigratableJndiNames.add(info.name);
+            }
+        }
+
+        // Run visitor if:
+        // - we have migratable datasources (to write properties and remove annotations), OR
+        // - we have non-migratable datasources (to add @NeedsReview), OR
+        // - we have datasources with unsupported attributes (to add @NeedsReview), OR
+        // - we have datasources with non-literal values (Codex 2.5), OR
+        // - we have datasources with non-literal name (Codex P2.1f-2), OR
+        // - Codex P2.1h: we have configured JNDIs to potentially remove @NeedsReview from DataSource fields
+        acc.hasWorkToDo = !acc.dataSources.isEmpty()
+            || !acc.nonMigratableJndiNames.isEmpty()
+            || !acc.unsupportedAttributesByJndi.isEmpty()
+            || !acc.nonLiteralAttributesByJndi.isEmpty()
+            || !acc.nonLiteralNameDataSources.isEmpty()
+            || !acc.configuredJndisByModule.isEmpty();  // Codex P2.1h: Enable cycle 2 @NeedsReview removal
+        if (!acc.hasWorkToDo) {
+            return;
+        }
+
+        // Codex 2.1: Group migratable datasources by module root
+        Map<String, List<DataSourceInfo>> dataSourcesByModule = new LinkedHashMap<>();
+        for (DataSourceInfo ds : acc.dataSources) {
+            String moduleRoot = ds.moduleRoot != null ? ds.moduleRoot : "";
+            dataSourcesByModule.computeIfAbsent(moduleRoot, k -> new ArrayList<>()).add(ds);
+        }
+
+        // Codex P2.1f-2: Multi-DS Safety Check based on totalDsCountPerModule (includes DS without literal JNDI)
+        // If a module has >1 total datasource definitions, we CANNOT auto-migrate safely
+        // because spring.datasource.* properties only support a single primary datasource.
+        Set<String> modulesWithMultiDs = new HashSet<>();
+        for (Map.Entry<String, Integer> entry : acc.totalDsCountPerModule.entrySet()) {
+            if (entry.getValue() > 1) {
+                String moduleRoot = entry.getKey();
+                modulesWithMultiDs.add(moduleRoot);
+                int totalCount = entry.getValue();
+
+                // Track ALL datasources with literal JNDI in this module as multi-DS
+                List<String> jndisInModule = acc.allDsJndiPerModule.getOrDefault(moduleRoot, Collections.emptyList());
+                for (String jndi : jndisInModule) {
+                    acc.multiDsJndiNames.add(jndi);
+                    acc.multiDsCountByJndi.put(jndi, totalCount); // Codex P2.1f-1: Per-JNDI count
+                    acc.migratedJndiNames.remove(jndi);
+                    // Remove from other categories since Multi-DS is the primary issue
+                    acc.nonMigratableJndiNames.remove(jndi);
+                    acc.unsupportedAttributesByJndi.remove(jndi);
+                    acc.nonLiteralAttributesByJndi.remove(jndi);
+                }
+
+                // Codex P2.1f-2: Mark DS without literal JNDI in this module as Multi-DS too
+                for (DataSourceInfo ds : acc.nonLiteralNameDataSources) {
+                    if (moduleRoot.equals(ds.moduleRoot != null ? ds.moduleRoot : "")) {
+                        ds.nonLiteralAttributes.add("_multiDs"); // Internal marker for Multi-DS
+                    }
+                }
+            }
+        }
+        // Remove multi-DS modules from migratable processing
+        for (String moduleRoot : modulesWithMultiDs) {
+            dataSourcesByModule.remove(moduleRoot);
+        }
+
+        // Update acc.dataSources to only contain modules with single DS
+        acc.dataSources.clear();
+        for (List<DataSourceInfo> moduleDs : dataSourcesByModule.values()) {
+            acc.dataSources.addAll(moduleDs);
+        }
+    }
 }
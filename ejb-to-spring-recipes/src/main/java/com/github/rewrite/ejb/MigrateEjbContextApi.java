@@ -7,7 +7,6 @@
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.java.AddImport;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.RemoveImport;
@@ -190,21 +189,21 @@ private static Path extractProjectRoot(Path sourcePath) {
     private class EjbContextApiVisitor extends JavaVisitor<ExecutionContext> {
 
         // Templates with type stubs for proper type information
-        private final JavaTemplate setRollbackOnlyTemplate = JavaTemplate.builder(
+        private final JavaTemplate setRollbackOnlyTemplate = JavaTemplates.builder(
                 "TransactionAspectSupport.currentTransactionStatus().setRollbackOnly()")
             .imports(TRANSACTION_ASPECT_SUPPORT)
-            .javaParser(JavaParser.fromJavaVersion().dependsOn(
+            .dependsOn(
                 TRANSACTION_STATUS_STUB,
-                TRANSACTION_ASPECT_SUPPORT_STUB))
+                TRANSACTION_ASPECT_SUPPORT_STUB)
             .build();
 
-        private final JavaTemplate getCallerPrincipalTemplate = JavaTemplate.builder(
+        private final JavaTemplate getCallerPrincipalTemplate = JavaTemplates.builder(
                 "SecurityContextHolder.getContext().getAuthentication()")
             .imports(SECURITY_CONTEXT_HOLDER)
-            .javaParser(JavaParser.fromJavaVersion().dependsOn(
+            .dependsOn(
                 AUTHENTICATION_STUB,
                 SECURITY_CONTEXT_STUB,
-                SECURITY_CONTEXT_HOLDER_STUB))
+                SECURITY_CONTEXT_HOLDER_STUB)
             .build();
 
         // Track context field names in current class
@@ -391,30 +390,30 @@ private J migrateIsCallerInRole(J.MethodInvocation mi) {
                 J.Literal literal = (J.Literal) roleArg;
                 if (literal.getValue() != null) {
                     String roleString = "\"ROLE_" + literal.getValue().toString() + "\"";
-                    JavaTemplate literalTemplate = JavaTemplate.builder(
+                    JavaTemplate literalTemplate = JavaTemplates.builder(
                             "SecurityContextHolder.getContext().getAuthentication().getAuthorities().stream()" +
                             ".anyMatch(a -> a.getAuthority().equals(" + roleString + "))")
                         .imports(SECURITY_CONTEXT_HOLDER)
-                        .javaParser(JavaParser.fromJavaVersion().dependsOn(
+                        .dependsOn(
                             GRANTED_AUTHORITY_STUB,
                             AUTHENTICATION_WITH_AUTHORITIES_STUB,
                             SECURITY_CONTEXT_STUB,
-                            SECURITY_CONTEXT_HOLDER_STUB))
+                            SECURITY_CONTEXT_HOLDER_STUB)
                         .build();
                     return literalTemplate.apply(getCursor(), mi.getCoordinates().replace());
                 }
             }
 
             // For non-literal expressions, use template substitution with #{any(String)}
-            JavaTemplate dynamicTemplate = JavaTemplate.builder(
+            JavaTemplate dynamicTemplate = JavaTemplates.builder(
                     "SecurityContextHolder.getContext().getAuthentication().getAuthorities().stream()" +
                     ".anyMatch(a -> a.getAuthority().equals(\"ROLE_\" + #{any(String)}))")
                 .imports(SECURITY_CONTEXT_HOLDER)
-                .javaParser(JavaParser.fromJavaVersion().dependsOn(
+                .dependsOn(
                     GRANTED_AUTHORITY_STUB,
                     AUTHENTICATION_WITH_AUTHORITIES_STUB,
                     SECURITY_CONTEXT_STUB,
-                    SECURITY_CONTEXT_HOLDER_STUB))
+                    SECURITY_CONTEXT_HOLDER_STUB)
                 .build();
             return dynamicTemplate.apply(getCursor(), mi.getCoordinates().replace(), roleArg);
         }
@@ -1,5 +1,8 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
@@ -11,6 +14,9 @@
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -20,7 +26,9 @@
  * This recipe:
  * <ul>
  *   <li>Finds classes with {@code @AroundInvoke} methods</li>
- *   <li>Adds {@code @Aspect} and {@code @Component} annotations</li>
+ *   <li>Adds {@code @Aspect} and {@code @Component} annotations; with {@code interceptors.weaving: ajc-compile | ltw}
+ *       in project.yaml only {@code @Aspect}, since AspectJ instantiates the aspect (GAP-INT-002 exposes it as a
+ *       bean and lists it in META-INF/aop.xml)</li>
  *   <li>Removes {@code @Interceptor} annotation if present</li>
  *   <li>Removes {@code @AroundInvoke} (no {@code @Around} added - pointcut binding via GAP-INT-002)</li>
  *   <li>Changes {@code InvocationContext} parameter to {@code ProceedingJoinPoint}</li>
@@ -35,6 +43,7 @@
  *   <li>{@code getContextData()} - no Spring AOP equivalent, use custom solution</li>
  * </ul>
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class MigrateEjbInterceptorsToAop extends Recipe {
@@ -93,12 +102,143 @@ public java.util.List<Recipe> getRecipeList() {
         );
     }
 
+    /**
+     * Returns true if this recipe rewrites InvocationContext to ProceedingJoinPoint in the given file:
+     * it declares an @AroundInvoke method and none of them uses an unsupported InvocationContext API.
+     * Recipes running in the same phase use this to predict the converted signatures.
+     */
+    static boolean convertsInvocationContext(J.CompilationUnit cu) {
+        final boolean[] hasAroundInvoke = {false};
+        new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, Integer p) {
+                if (hasAroundInvokeAnnotation(method)) {
+                    hasAroundInvoke[0] = true;
+                }
+                return method;
+            }
+        }.visit(cu, 0);
+        return hasAroundInvoke[0] && !compilationUnitHasUnsupportedApis(cu);
+    }
+
+    /**
+     * Scans the entire compilation unit for unsupported InvocationContext API usage.
+     * Returns true if ANY @AroundInvoke method uses getMethod(), setParameters(), or getContextData().
+     */
+    static boolean compilationUnitHasUnsupportedApis(J.CompilationUnit cu) {
+        final boolean[] found = {false};
+        new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Integer p) {
+                classDecl.getBody().getStatements().stream()
+                    .filter(s -> s instanceof J.MethodDeclaration)
+                    .map(s -> (J.MethodDeclaration) s)
+                    .filter(m -> hasAroundInvokeAnnotation(m))
+                    .forEach(m -> {
+                        if (usesUnsupportedApisConservative(m)) {
+                            found[0] = true;
+                        }
+                    });
+                return super.visitClassDeclaration(classDecl, p);
+            }
+        }.visit(cu, 0);
+        return found[0];
+    }
+
+    static boolean hasAroundInvokeAnnotation(J.MethodDeclaration method) {
+        return method.getLeadingAnnotations().stream()
+            .anyMatch(MigrateEjbInterceptorsToAop::isAroundInvokeAnnotation);
+    }
+
+    private static boolean isAroundInvokeAnnotation(J.Annotation annotation) {
+        return JavaEeAnnotation.AROUND_INVOKE.matches(annotation) ||
+               "AroundInvoke".equals(annotation.getSimpleName());
+    }
+
+    /**
+     * Conservative check if a method uses unsupported InvocationContext APIs.
+     * This version uses type attribution and is more conservative:
+     * - Uses TypeUtils to check if the receiver is InvocationContext (handles aliases)
+     * - If type info is missing but the method is called and an InvocationContext parameter exists,
+     *   treat it as unsupported to be safe.
+     */
+    private static boolean usesUnsupportedApisConservative(J.MethodDeclaration method) {
+        // Check if method has an InvocationContext parameter
+        boolean hasInvocationContextParam = false;
+        if (method.getParameters() != null) {
+            for (Statement param : method.getParameters()) {
+                if (param instanceof J.VariableDeclarations) {
+                    J.VariableDeclarations varDecl = (J.VariableDeclarations) param;
+                    if (varDecl.getType() != null) {
+                        String typeFqn = varDecl.getType().toString();
+                        if (typeFqn.contains("InvocationContext")) {
+                            hasInvocationContextParam = true;
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+
+        if (!hasInvocationContextParam) {
+            return false;
+        }
+
+        // Scan method body for unsupported method calls
+        // Conservative: if getMethod/setParameters/getContextData is called on ANY receiver that might be InvocationContext
+        final boolean[] found = {false};
+        new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation methodInvocation, Integer p) {
+                String methodName = methodInvocation.getSimpleName();
+                if ("getMethod".equals(methodName) || "setParameters".equals(methodName) || "getContextData".equals(methodName)) {
+                    // Try type-based detection first
+                    if (methodInvocation.getSelect() != null && methodInvocation.getSelect().getType() != null) {
+                        JavaType selectType = methodInvocation.getSelect().getType();
+                        if (TypeUtils.isOfClassType(selectType, JAKARTA_INVOCATION_CONTEXT) ||
+                            TypeUtils.isOfClassType(selectType, JAVAX_INVOCATION_CONTEXT)) {
+                            found[0] = true;
+                        }
+                    } else {
+                        // Type info missing - be conservative: if method has InvocationContext param
+                        // and this unsupported method is called, assume it's on InvocationContext
+                        found[0] = true;
+                    }
+                }
+                return super.visitMethodInvocation(methodInvocation, p);
+            }
+        }.visit(method.getBody(), 0);
+
+        return found[0];
+    }
+
+    private static Path extractProjectRoot(Path sourcePath) {
+        if (sourcePath == null) {
+            return Paths.get(System.getProperty("user.dir"));
+        }
+        Path current = sourcePath.toAbsolutePath().getParent();
+        while (current != null) {
+            if (Files.exists(current.resolve("pom.xml")) ||
+                Files.exists(current.resolve("build.gradle")) ||
+                Files.exists(current.resolve("build.gradle.kts")) ||
+                Files.exists(current.resolve("settings.gradle")) ||
+                Files.exists(current.resolve("settings.gradle.kts")) ||
+                Files.exists(current.resolve("project.yaml"))) {
+                return current;
+            }
+            current = current.getParent();
+        }
+        return Paths.get(System.getProperty("user.dir"));
+    }
+
     private class InterceptorToAopVisitor extends JavaIsoVisitor<ExecutionContext> {
 
         // Marker to track if type transformation was already scheduled via doAfterVisit
         private boolean typeTransformationScheduled = false;
         // File-level flag: true if ANY @AroundInvoke method in the file uses unsupported APIs
         private boolean fileHasUnsupportedApis = false;
+        // File-level flag: true if the module's aspects are woven by AspectJ instead of Spring AOP proxies
+        private boolean aspectJWeaving = false;
 
         @Override
         public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
@@ -106,40 +246,18 @@ public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionCon
             // This fixes the HIGH issue: if ANY class in the file uses unsupported APIs, skip ChangeType for the whole file
             fileHasUnsupportedApis = compilationUnitHasUnsupportedApis(cu);
             typeTransformationScheduled = false;
+            aspectJWeaving = ProjectConfigurationLoader
+                .loadWithInheritance(extractProjectRoot(cu.getSourcePath())).isAspectJWeaving();
             return super.visitCompilationUnit(cu, ctx);
         }
 
-        /**
-         * Scans the entire compilation unit for unsupported InvocationContext API usage.
-         * Returns true if ANY @AroundInvoke method uses getMethod(), setParameters(), or getContextData().
-         */
-        private boolean compilationUnitHasUnsupportedApis(J.CompilationUnit cu) {
-            final boolean[] found = {false};
-            new JavaIsoVisitor<Integer>() {
-                @Override
-                public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Integer p) {
-                    classDecl.getBody().getStatements().stream()
-                        .filter(s -> s instanceof J.MethodDeclaration)
-                        .map(s -> (J.MethodDeclaration) s)
-                        .filter(m -> hasAroundInvokeAnnotation(m))
-                        .forEach(m -> {
-                            if (usesUnsupportedApisConservative(m)) {
-                                found[0] = true;
-                            }
-                        });
-                    return super.visitClassDeclaration(classDecl, p);
-                }
-            }.visit(cu, 0);
-            return found[0];
-        }
-
         @Override
         public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
             // Check if this class has @AroundInvoke methods
             boolean hasAroundInvoke = classDecl.getBody().getStatements().stream()
                 .filter(s -> s instanceof J.MethodDeclaration)
                 .map(s -> (J.MethodDeclaration) s)
-                .anyMatch(this::hasAroundInvokeAnnotation);
+                .anyMatch(MigrateEjbInterceptorsToAop::hasAroundInvokeAnnotation);
 
             if (!hasAroundInvoke) {
                 return super.visitClassDeclaration(classDecl, ctx);
@@ -188,7 +306,8 @@ public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Ex
                 // First annotation uses clean prefix (normalized to avoid extra newlines from removed imports)
                 finalAnnotations.add(createSimpleAnnotation("Aspect", ASPECT_FQN, cleanPrefix));
 
-                if (!hasStereotype) {
+                // A woven aspect is instantiated by AspectJ; as a component Spring would create a second instance
+                if (!hasStereotype && !aspectJWeaving) {
                     maybeAddImport(COMPONENT_FQN);
                     finalAnnotations.add(createSimpleAnnotation("Component", COMPONENT_FQN, Space.format("\n")));
                 }
@@ -237,7 +356,7 @@ public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Ex
                 for (J.Annotation ann : newAnnotations) {
                     updatedAnnotations.add(ann);
                     if ("Aspect".equals(ann.getSimpleName())) {
-                        if (!hasComponentInExisting) {
+                        if (!hasComponentInExisting && !aspectJWeaving) {
                             maybeAddImport(COMPONENT_FQN);
                             updatedAnnotations.add(createSimpleAnnotation("Component", COMPONENT_FQN, Space.format("\n")));
                         }
@@ -307,80 +426,11 @@ public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, Ex
             return md;
         }
 
-        private boolean hasAroundInvokeAnnotation(J.MethodDeclaration method) {
-            return method.getLeadingAnnotations().stream()
-                .anyMatch(this::isAroundInvokeAnnotation);
-        }
-
-        private boolean isAroundInvokeAnnotation(J.Annotation annotation) {
-            return TypeUtils.isOfClassType(annotation.getType(), JAKARTA_AROUND_INVOKE) ||
-                   TypeUtils.isOfClassType(annotation.getType(), JAVAX_AROUND_INVOKE) ||
-                   "AroundInvoke".equals(annotation.getSimpleName());
-        }
-
         private boolean isInterceptorAnnotation(J.Annotation annotation) {
-            return TypeUtils.isOfClassType(annotation.getType(), JAKARTA_INTERCEPTOR) ||
-                   TypeUtils.isOfClassType(annotation.getType(), JAVAX_INTERCEPTOR) ||
+            return JavaEeAnnotation.INTERCEPTOR.matches(annotation) ||
                    "Interceptor".equals(annotation.getSimpleName());
         }
 
-        /**
-         * Conservative check if a method uses unsupported InvocationContext APIs.
-         * This version uses type attribution and is more conservative:
-         * - Uses TypeUtils to check if the receiver is InvocationContext (handles aliases)
-         * - If type info is missing but the method is called and an InvocationContext parameter exists,
-         *   treat it as unsupported to be safe.
-         */
-        private boolean usesUnsupportedApisConservative(J.MethodDeclaration method) {
-            // Check if method has an InvocationContext parameter
-            boolean hasInvocationContextParam = false;
-            if (method.getParameters() != null) {
-                for (Statement param : method.getParameters()) {
-                    if (param instanceof J.VariableDeclarations) {
-                        J.VariableDeclarations varDecl = (J.VariableDeclarations) param;
-                        if (varDecl.getType() != null) {
-                            String typeFqn = varDecl.getType().toString();
-                            if (typeFqn.contains("InvocationContext")) {
-                                hasInvocationContextParam = true;
-                                break;
-                            }
-                        }
-                    }
-                }
-            }
-
-            if (!hasInvocationContextParam) {
-                return false;
-            }
-
-            // Scan method body for unsupported method calls
-            // Conservative: if getMethod/setParameters/getContextData is called on ANY receiver that might be InvocationContext
-            final boolean[] found = {false};
-            new JavaIsoVisitor<Integer>() {
-                @Override
-                public J.MethodInvocation visitMethodInvocation(J.MethodInvocation methodInvocation, Integer p) {
-                    String methodName = methodInvocation.getSimpleName();
-                    if ("getMethod".equals(methodName) || "setParameters".equals(methodName) || "getContextData".equals(methodName)) {
-                        // Try type-based detection first
-                        if (methodInvocation.getSelect() != null && methodInvocation.getSelect().getType() != null) {
-                            JavaType selectType = methodInvocation.getSelect().getType();
-                            if (TypeUtils.isOfClassType(selectType, JAKARTA_INVOCATION_CONTEXT) ||
-                                TypeUtils.isOfClassType(selectType, JAVAX_INVOCATION_CONTEXT)) {
-                                found[0] = true;
-                            }
-                        } else {
-                            // Type info missing - be conservative: if method has InvocationContext param
-                            // and this unsupported method is called, assume it's on InvocationContext
-                            found[0] = true;
-                        }
-                    }
-                    return super.visitMethodInvocation(methodInvocation, p);
-                }
-            }.visit(method.getBody(), 0);
-
-            return found[0];
-        }
-
         private J.Annotation createSimpleAnnotation(String name, String fqn, Space prefix) {
             JavaType.ShallowClass type = JavaType.ShallowClass.build(fqn);
             J.Identifier ident = new J.Identifier(
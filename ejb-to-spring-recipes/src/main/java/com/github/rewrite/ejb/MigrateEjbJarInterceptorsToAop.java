@@ -4,8 +4,15 @@
 import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
-import org.openrewrite.internal.lang.Nullable;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.Space;
+import org.openrewrite.java.tree.Statement;
+import org.openrewrite.java.tree.TypeTree;
+import org.openrewrite.marker.Markers;
 import org.openrewrite.text.PlainText;
 import org.openrewrite.xml.tree.Content;
 import org.openrewrite.xml.tree.Xml;
@@ -14,6 +21,9 @@
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 /**
  * GAP-INT-002: Migrates ejb-jar.xml interceptor-bindings to Spring AOP @Aspect skeletons.
@@ -21,11 +31,20 @@
  * This recipe:
  * <ul>
  *   <li>Scans META-INF/ejb-jar.xml for interceptor-binding elements</li>
- *   <li>Generates global @Aspect skeleton for ejb-name=* bindings</li>
- *   <li>Generates targeted @Aspect skeletons for specific EJB bindings</li>
- *   <li>Marks complex bindings (method-level, exclude-class-interceptors) with @NeedsReview</li>
+ *   <li>Resolves ejb-name to the bean class (ejb-jar.xml enterprise-beans, bean annotations)</li>
+ *   <li>Generates exact {@code within(fqcn)} / {@code execution(...)} pointcuts for resolved beans,
+ *       so only the originally intercepted beans are proxied</li>
+ *   <li>Delegates the advice to the interceptor's around-invoke method when it takes a ProceedingJoinPoint</li>
+ *   <li>Falls back to placeholder skeletons for bindings that cannot be resolved</li>
+ *   <li>Marks complex bindings (exclude-class-interceptors, unresolved method-level) with @NeedsReview</li>
  * </ul>
  * <p>
+ * With {@code interceptors.weaving: ajc-compile | ltw} in project.yaml the aspect is woven by AspectJ
+ * instead of applied through Spring AOP proxies: it is not a {@code @Component}, receives its interceptors
+ * through an {@code @Autowired} method, and is exposed as a bean via {@code Aspects.aspectOf(..)}
+ * ({@code EjbJarAopWeavingConfig}). For {@code ltw} the recipe also generates {@code META-INF/aop.xml}
+ * and enables load-time weaving.
+ * <p>
  * Depends on GAP-INT-001 which transforms the interceptor implementation classes.
  */
 @Value
@@ -33,6 +52,12 @@
 public class MigrateEjbJarInterceptorsToAop extends ScanningRecipe<MigrateEjbJarInterceptorsToAop.Accumulator> {
 
     private static final String NEEDS_REVIEW_FQN = "com.github.rewrite.ejb.annotations.NeedsReview";
+    private static final String COMPONENT_FQN = "org.springframework.stereotype.Component";
+    private static final String COMPONENT_STUB =
+        "package org.springframework.stereotype; public @interface Component { String value() default \"\"; }";
+    private static final Set<String> STEREOTYPES =
+        Set.of("Component", "Service", "Repository", "Controller", "Configuration", "Named", "Aspect");
+    private static final String WEAVING_CONFIG_CLASS_NAME = "EjbJarAopWeavingConfig";
 
     @Override
     public String getDisplayName() {
@@ -46,19 +71,80 @@ public String getDescription() {
                "specific bindings become targeted pointcuts. Complex bindings are marked for manual review.";
     }
 
+    private static final Set<String> EJB_ANNOTATIONS = Set.of("Stateless", "Stateful", "Singleton", "MessageDriven");
+
+    /**
+     * Filled by concurrent scanners. Bindings are sorted by descriptor in generate(), keeping the document order
+     * within each descriptor, and modules and packages are kept sorted, so the generated aspects do not depend on
+     * the order in which files are scanned.
+     */
     static class Accumulator {
-        List<InterceptorBindingInfo> bindings = new ArrayList<>();
-        Set<Path> existingSourcePaths = new LinkedHashSet<>();
-        Map<String, ModuleInfo> modules = new LinkedHashMap<>();
+        final List<InterceptorBindingInfo> bindings = Collections.synchronizedList(new ArrayList<>());
+        final Set<Path> existingSourcePaths = ConcurrentHashMap.newKeySet();
+        final Map<String, ModuleInfo> modules = new ConcurrentSkipListMap<>();
+        // interceptor class FQN -> candidate around-invoke methods
+        final Map<String, List<AroundInvokeCandidate>> interceptorMethods = new ConcurrentHashMap<>();
+        // interceptor class FQN -> around-invoke method name declared in ejb-jar.xml
+        final Map<String, String> declaredAroundInvoke = new ConcurrentHashMap<>();
+        // "fqn#method" entries whose visibility must be widened for delegation (filled in generate)
+        Set<String> methodsToPublish = new HashSet<>();
+        // delegated interceptor classes MigrateEjbInterceptorsToAop does not turn into beans (filled in generate)
+        Set<String> interceptorsToRegister = new HashSet<>();
+        // main source root -> project configuration (weaving mode, resource roots)
+        final Map<String, ProjectConfiguration> moduleConfigs = new ConcurrentHashMap<>();
     }
 
     static class ModuleInfo {
         final String mainSourceRoot;
-        final Set<String> packages = new LinkedHashSet<>();
+        final Set<String> packages = new ConcurrentSkipListSet<>();
+        // ejb-name -> bean class FQN (explicit names and ejb-jar.xml declarations)
+        final Map<String, String> beansByName = new ConcurrentHashMap<>();
+        // simple class name -> bean class FQNs (EJB default names)
+        final Map<String, Set<String>> beansBySimpleName = new ConcurrentHashMap<>();
+        // all bean classes that were (or still are) EJBs, for ejb-name=*
+        final Set<String> ejbClasses = new ConcurrentSkipListSet<>();
+        // classes with an @AroundInvoke method, which MigrateEjbInterceptorsToAop turns into aspects
+        final Set<String> interceptorAspects = new ConcurrentSkipListSet<>();
 
         ModuleInfo(String mainSourceRoot) {
             this.mainSourceRoot = mainSourceRoot;
         }
+
+        @Nullable String resolveEjbName(String ejbName) {
+            String explicit = beansByName.get(ejbName);
+            if (explicit != null) {
+                return explicit;
+            }
+            Set<String> bySimpleName = beansBySimpleName.get(ejbName);
+            return bySimpleName != null && bySimpleName.size() == 1 ? bySimpleName.iterator().next() : null;
+        }
+    }
+
+    static class AroundInvokeCandidate {
+        final String methodName;
+        final boolean annotated;
+        final boolean joinPointParameter;
+        final boolean isPublic;
+        final boolean returnsValue;
+
+        AroundInvokeCandidate(String methodName, boolean annotated, boolean joinPointParameter,
+                              boolean isPublic, boolean returnsValue) {
+            this.methodName = methodName;
+            this.annotated = annotated;
+            this.joinPointParameter = joinPointParameter;
+            this.isPublic = isPublic;
+            this.returnsValue = returnsValue;
+        }
+    }
+
+    static class MethodBinding {
+        final String methodName;
+        final @Nullable List<String> params;
+
+        MethodBinding(String methodName, @Nullable List<String> params) {
+            this.methodName = methodName;
+            this.params = params;
+        }
     }
 
     static class InterceptorBindingInfo {
@@ -71,6 +157,12 @@ static class InterceptorBindingInfo {
         final boolean hasInterceptorOrder;
         final String sourcePath;
         final String moduleSourceRoot;
+        final List<MethodBinding> methodBindings = new ArrayList<>();
+        // Resolved in generate(): exact pointcut expression and delegation targets
+        @Nullable String pointcut;
+        @Nullable String targetDescription;
+        final Map<String, String> delegations = new LinkedHashMap<>();
+        final Map<String, String> unwiredInterceptors = new LinkedHashMap<>();
 
         InterceptorBindingInfo(String ejbName, List<String> interceptorClasses, boolean isGlobal,
                                boolean hasMethodBinding, boolean hasExcludeClassInterceptors,
@@ -91,6 +183,21 @@ boolean isComplex() {
             return hasMethodBinding || hasExcludeClassInterceptors || hasExcludeDefaultInterceptors;
         }
 
+        boolean isResolved() {
+            return pointcut != null;
+        }
+
+        /**
+         * Returns true if the binding still needs manual work after resolution.
+         * A resolved method-level binding is exact; exclusions are not modelled.
+         */
+        boolean needsReview() {
+            if (!isResolved()) {
+                return isComplex();
+            }
+            return hasExcludeClassInterceptors || !unwiredInterceptors.isEmpty();
+        }
+
         /**
          * Returns true if this binding has ordering concerns (explicit order or multiple interceptors).
          */
@@ -129,8 +236,24 @@ public Tree visit(Tree tree, ExecutionContext ctx) {
                         String mainSourceRoot = extractMainSourceRoot(pathString, config);
                         ModuleInfo module = acc.modules.computeIfAbsent(
                                 mainSourceRoot, ModuleInfo::new);
-                        if (cu.getPackageDeclaration() != null) {
-                            module.packages.add(cu.getPackageDeclaration().getPackageName());
+                        acc.moduleConfigs.putIfAbsent(mainSourceRoot, config);
+                        String pkg = cu.getPackageDeclaration() != null
+                                ? cu.getPackageDeclaration().getPackageName()
+                                : "";
+                        if (!pkg.isEmpty()) {
+                            module.packages.add(pkg);
+                        }
+                        // MigrateEjbInterceptorsToAop runs in the same phase, so this scan still sees
+                        // InvocationContext parameters that will be ProceedingJoinPoint once it has run
+                        boolean convertedToJoinPoint = MigrateEjbInterceptorsToAop.convertsInvocationContext(cu);
+                        for (J.ClassDeclaration classDecl : cu.getClasses()) {
+                            String fqn = pkg.isEmpty() ? classDecl.getSimpleName() : pkg + "." + classDecl.getSimpleName();
+                            collectBean(classDecl, fqn, module);
+                            collectAroundInvokeCandidates(classDecl, fqn, convertedToJoinPoint, acc);
+                            List<AroundInvokeCandidate> candidates = acc.interceptorMethods.get(fqn);
+                            if (candidates != null && candidates.stream().anyMatch(c -> c.annotated)) {
+                                module.interceptorAspects.add(fqn);
+                            }
                         }
                         return tree;
                     }
@@ -143,6 +266,7 @@ public Tree visit(Tree tree, ExecutionContext ctx) {
                             ProjectConfiguration config = ProjectConfigurationLoader.loadWithInheritance(
                                     extractProjectRoot(sourcePath));
                             String mainSourceRoot = deriveMainSourceRootFromResource(pathString, config);
+                            acc.moduleConfigs.putIfAbsent(mainSourceRoot, config);
                             parseEjbJarXml(doc, pathString, mainSourceRoot, acc);
                         }
                     }
@@ -158,6 +282,10 @@ private void parseEjbJarXml(Xml.Document doc, String sourcePath, String moduleSo
             return;
         }
 
+        // Declared beans and interceptors resolve ejb-name and the around-invoke method
+        parseEnterpriseBeans(root, moduleSourceRoot, acc);
+        parseInterceptors(root, acc);
+
         // Find assembly-descriptor
         Xml.Tag assemblyDescriptor = findChildTag(root, "assembly-descriptor");
         if (assemblyDescriptor == null) {
@@ -170,6 +298,9 @@ private void parseEjbJarXml(Xml.Document doc, String sourcePath, String moduleSo
                 Xml.Tag tag = (Xml.Tag) content;
                 if ("interceptor-binding".equals(tag.getName())) {
                     InterceptorBindingInfo binding = parseInterceptorBinding(tag, sourcePath, moduleSourceRoot);
+                    if (binding != null) {
+                        parseMethodBindings(tag, binding);
+                    }
                     if (binding != null && !binding.interceptorClasses.isEmpty()) {
                         acc.bindings.add(binding);
                     }
@@ -178,6 +309,151 @@ private void parseEjbJarXml(Xml.Document doc, String sourcePath, String moduleSo
         }
     }
 
+    private void parseEnterpriseBeans(Xml.Tag root, String moduleSourceRoot, Accumulator acc) {
+        Xml.Tag enterpriseBeans = findChildTag(root, "enterprise-beans");
+        if (enterpriseBeans == null) {
+            return;
+        }
+        ModuleInfo module = acc.modules.computeIfAbsent(moduleSourceRoot, ModuleInfo::new);
+        for (Content content : enterpriseBeans.getContent()) {
+            if (!(content instanceof Xml.Tag)) {
+                continue;
+            }
+            Xml.Tag bean = (Xml.Tag) content;
+            Xml.Tag nameTag = findChildTag(bean, "ejb-name");
+            Xml.Tag classTag = findChildTag(bean, "ejb-class");
+            String ejbName = nameTag != null ? getTagValue(nameTag) : null;
+            String ejbClass = classTag != null ? getTagValue(classTag) : null;
+            if (ejbName != null && ejbClass != null && !ejbClass.isEmpty()) {
+                module.beansByName.put(ejbName, ejbClass);
+                module.ejbClasses.add(ejbClass);
+            }
+        }
+    }
+
+    private void parseInterceptors(Xml.Tag root, Accumulator acc) {
+        Xml.Tag interceptors = findChildTag(root, "interceptors");
+        if (interceptors == null) {
+            return;
+        }
+        for (Content content : interceptors.getContent()) {
+            if (!(content instanceof Xml.Tag) || !"interceptor".equals(((Xml.Tag) content).getName())) {
+                continue;
+            }
+            Xml.Tag interceptor = (Xml.Tag) content;
+            Xml.Tag classTag = findChildTag(interceptor, "interceptor-class");
+            Xml.Tag aroundInvoke = findChildTag(interceptor, "around-invoke");
+            Xml.Tag methodTag = aroundInvoke != null ? findChildTag(aroundInvoke, "method-name") : null;
+            String interceptorClass = classTag != null ? getTagValue(classTag) : null;
+            String methodName = methodTag != null ? getTagValue(methodTag) : null;
+            if (interceptorClass != null && methodName != null) {
+                acc.declaredAroundInvoke.put(interceptorClass, methodName);
+            }
+        }
+    }
+
+    private void parseMethodBindings(Xml.Tag bindingTag, InterceptorBindingInfo binding) {
+        for (Content content : bindingTag.getContent()) {
+            if (!(content instanceof Xml.Tag) || !"method".equals(((Xml.Tag) content).getName())) {
+                continue;
+            }
+            Xml.Tag method = (Xml.Tag) content;
+            Xml.Tag nameTag = findChildTag(method, "method-name");
+            String methodName = nameTag != null ? getTagValue(nameTag) : null;
+            if (methodName == null || methodName.isEmpty()) {
+                continue;
+            }
+            List<String> params = null;
+            Xml.Tag paramsTag = findChildTag(method, "method-params");
+            if (paramsTag != null) {
+                params = new ArrayList<>();
+                for (Content paramContent : paramsTag.getContent()) {
+                    if (paramContent instanceof Xml.Tag && "method-param".equals(((Xml.Tag) paramContent).getName())) {
+                        String param = getTagValue((Xml.Tag) paramContent);
+                        if (param != null) {
+                            params.add(param);
+                        }
+                    }
+                }
+            }
+            binding.methodBindings.add(new MethodBinding(methodName, params));
+        }
+    }
+
+    /**
+     * Records EJB (or already migrated {@code @Service}) classes and their bean names.
+     * {@code @Component} is not considered: it comes from CDI {@code @Named}, not from EJBs.
+     */
+    private static void collectBean(J.ClassDeclaration classDecl, String fqn, ModuleInfo module) {
+        for (J.Annotation annotation : classDecl.getLeadingAnnotations()) {
+            String simpleName = annotation.getSimpleName();
+            boolean ejb = EJB_ANNOTATIONS.contains(simpleName);
+            if (!ejb && !"Service".equals(simpleName)) {
+                continue;
+            }
+            String explicitName = annotationStringAttribute(annotation, ejb ? "name" : "value");
+            if (explicitName != null && !explicitName.isEmpty()) {
+                module.beansByName.put(explicitName, fqn);
+            } else {
+                module.beansBySimpleName.computeIfAbsent(classDecl.getSimpleName(), k -> new ConcurrentSkipListSet<>()).add(fqn);
+            }
+            module.ejbClasses.add(fqn);
+            return;
+        }
+    }
+
+    private static void collectAroundInvokeCandidates(J.ClassDeclaration classDecl, String fqn,
+                                                      boolean convertedToJoinPoint, Accumulator acc) {
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (!(statement instanceof J.MethodDeclaration)) {
+                continue;
+            }
+            J.MethodDeclaration method = (J.MethodDeclaration) statement;
+            List<Statement> params = method.getParameters();
+            if (params.size() != 1 || !(params.get(0) instanceof J.VariableDeclarations)) {
+                continue;
+            }
+            TypeTree typeExpression = ((J.VariableDeclarations) params.get(0)).getTypeExpression();
+            String paramType = typeExpression instanceof J.Identifier
+                    ? ((J.Identifier) typeExpression).getSimpleName()
+                    : typeExpression instanceof J.FieldAccess ? ((J.FieldAccess) typeExpression).getSimpleName() : null;
+            if (!"ProceedingJoinPoint".equals(paramType) && !"InvocationContext".equals(paramType)) {
+                continue;
+            }
+            boolean annotated = method.getLeadingAnnotations().stream()
+                    .anyMatch(a -> "AroundInvoke".equals(a.getSimpleName()));
+            TypeTree returnType = method.getReturnTypeExpression();
+            boolean returnsValue = returnType != null && !(returnType instanceof J.Primitive
+                    && ((J.Primitive) returnType).getType() == JavaType.Primitive.Void);
+            acc.interceptorMethods.computeIfAbsent(fqn, k -> Collections.synchronizedList(new ArrayList<>())).add(new AroundInvokeCandidate(
+                    method.getSimpleName(), annotated,
+                    "ProceedingJoinPoint".equals(paramType) || convertedToJoinPoint,
+                    method.hasModifier(J.Modifier.Type.Public), returnsValue));
+        }
+    }
+
+    private static @Nullable String annotationStringAttribute(J.Annotation annotation, String attribute) {
+        if (annotation.getArguments() == null) {
+            return null;
+        }
+        for (org.openrewrite.java.tree.Expression arg : annotation.getArguments()) {
+            if (arg instanceof J.Literal && "value".equals(attribute)) {
+                Object value = ((J.Literal) arg).getValue();
+                return value instanceof String ? (String) value : null;
+            }
+            if (arg instanceof J.Assignment) {
+                J.Assignment assign = (J.Assignment) arg;
+                if (assign.getVariable() instanceof J.Identifier
+                        && attribute.equals(((J.Identifier) assign.getVariable()).getSimpleName())
+                        && assign.getAssignment() instanceof J.Literal) {
+                    Object value = ((J.Literal) assign.getAssignment()).getValue();
+                    return value instanceof String ? (String) value : null;
+                }
+            }
+        }
+        return null;
+    }
+
     private InterceptorBindingInfo parseInterceptorBinding(Xml.Tag bindingTag, String sourcePath, String moduleSourceRoot) {
         String ejbName = null;
         List<String> interceptorClasses = new ArrayList<>();
@@ -233,11 +509,9 @@ private InterceptorBindingInfo parseInterceptorBinding(Xml.Tag bindingTag, Strin
 
     @Override
     public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
-        if (acc.bindings.isEmpty()) {
-            return Collections.emptyList();
-        }
-
         List<SourceFile> generated = new ArrayList<>();
+        // stable, so bindings keep their order within a descriptor
+        acc.bindings.sort(Comparator.comparing(binding -> binding.sourcePath));
 
         // Group bindings by module
         Map<String, List<InterceptorBindingInfo>> bindingsByModule = new LinkedHashMap<>();
@@ -248,31 +522,267 @@ public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionConte
         for (Map.Entry<String, List<InterceptorBindingInfo>> entry : bindingsByModule.entrySet()) {
             String moduleSourceRoot = entry.getKey();
             List<InterceptorBindingInfo> moduleBindings = entry.getValue();
+            resolveBindings(moduleBindings, acc.modules.get(moduleSourceRoot), acc);
 
             // Determine package
             String packageName = determinePackage(moduleSourceRoot, acc);
+            ProjectConfiguration.InterceptorWeaving weaving = weavingOf(moduleSourceRoot, acc);
 
             // Generate AopConfig class with pointcut bindings
             String className = "EjbJarAopConfig";
-            String packagePath = packageName.isEmpty() ? "" : packageName.replace('.', '/');
-            Path targetPath = packagePath.isEmpty()
-                ? Paths.get(moduleSourceRoot, className + ".java")
-                : Paths.get(moduleSourceRoot, packagePath, className + ".java");
+            Path targetPath = configPath(moduleSourceRoot, packageName, className);
 
             if (acc.existingSourcePaths.contains(targetPath)) {
                 continue;
             }
 
-            String content = generateAopConfig(moduleBindings, packageName, className);
+            String content = generateAopConfig(moduleBindings, packageName, className, weaving);
             generated.add(PlainText.builder()
                 .sourcePath(targetPath)
                 .text(content)
                 .build());
+
+            List<String> aspects = new ArrayList<>();
+            aspects.add(packageName.isEmpty() ? className : packageName + "." + className);
+            generateWeavingArtifacts(moduleSourceRoot, packageName, aspects, acc, generated);
+        }
+
+        // Woven interceptor aspects of modules without ejb-jar.xml bindings still need to reach Spring
+        for (Map.Entry<String, ModuleInfo> entry : acc.modules.entrySet()) {
+            String moduleSourceRoot = entry.getKey();
+            if (bindingsByModule.containsKey(moduleSourceRoot) || entry.getValue().interceptorAspects.isEmpty()) {
+                continue;
+            }
+            generateWeavingArtifacts(moduleSourceRoot, determinePackage(moduleSourceRoot, acc),
+                new ArrayList<>(), acc, generated);
         }
 
         return generated;
     }
 
+    private static ProjectConfiguration.InterceptorWeaving weavingOf(String moduleSourceRoot, Accumulator acc) {
+        ProjectConfiguration config = acc.moduleConfigs.get(moduleSourceRoot);
+        return config != null ? config.getInterceptorWeaving() : ProjectConfiguration.InterceptorWeaving.PROXY;
+    }
+
+    private static Path configPath(String moduleSourceRoot, String packageName, String className) {
+        String packagePath = packageName.isEmpty() ? "" : packageName.replace('.', '/');
+        return packagePath.isEmpty()
+            ? Paths.get(moduleSourceRoot, className + ".java")
+            : Paths.get(moduleSourceRoot, packagePath, className + ".java");
+    }
+
+    /**
+     * With AspectJ weaving, exposes the woven aspects of a module as beans and, for LTW, lists them
+     * in META-INF/aop.xml. Besides the generated aspect these are the migrated interceptors, which
+     * MigrateEjbInterceptorsToAop leaves without {@code @Component} in that mode.
+     */
+    private void generateWeavingArtifacts(String moduleSourceRoot, String packageName, List<String> aspects,
+                                          Accumulator acc, List<SourceFile> generated) {
+        ProjectConfiguration.InterceptorWeaving weaving = weavingOf(moduleSourceRoot, acc);
+        if (weaving == ProjectConfiguration.InterceptorWeaving.PROXY) {
+            return;
+        }
+        ModuleInfo module = acc.modules.get(moduleSourceRoot);
+        if (module != null) {
+            aspects.addAll(module.interceptorAspects);
+        }
+        if (aspects.isEmpty()) {
+            return;
+        }
+
+        // AspectJ owns the aspect instances; expose them to Spring for injection
+        Path weavingConfigPath = configPath(moduleSourceRoot, packageName, WEAVING_CONFIG_CLASS_NAME);
+        if (!acc.existingSourcePaths.contains(weavingConfigPath)) {
+            generated.add(PlainText.builder()
+                .sourcePath(weavingConfigPath)
+                .text(generateWeavingConfig(packageName, aspects, weaving))
+                .build());
+        }
+        ProjectConfiguration config = acc.moduleConfigs.get(moduleSourceRoot);
+        if (weaving == ProjectConfiguration.InterceptorWeaving.LTW && config != null) {
+            Path aopXmlPath = Paths.get(resourceRootFor(moduleSourceRoot, config), "META-INF", "aop.xml");
+            if (!acc.existingSourcePaths.contains(aopXmlPath)) {
+                generated.add(PlainText.builder()
+                    .sourcePath(aopXmlPath)
+                    .text(generateAopXml(aspects, module))
+                    .build());
+            }
+        }
+    }
+
+    /**
+     * Widens the around-invoke methods the generated advice delegates to. EJB interceptor
+     * methods are often private; the generated aspect lives in another package. Delegated
+     * interceptors without {@code @AroundInvoke}, whose around-invoke method is declared in
+     * ejb-jar.xml or already takes a ProceedingJoinPoint, are not turned into beans by
+     * MigrateEjbInterceptorsToAop and become {@code @Component}s here, so the aspect can be wired.
+     */
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+                J.CompilationUnit cu = getCursor().firstEnclosing(J.CompilationUnit.class);
+                if (acc.interceptorsToRegister.isEmpty() || cu == null) {
+                    return cd;
+                }
+                String pkg = cu.getPackageDeclaration() != null ? cu.getPackageDeclaration().getPackageName() : "";
+                String fqn = pkg.isEmpty() ? cd.getSimpleName() : pkg + "." + cd.getSimpleName();
+                if (!acc.interceptorsToRegister.contains(fqn)
+                        || cd.getLeadingAnnotations().stream().anyMatch(a -> STEREOTYPES.contains(a.getSimpleName()))) {
+                    return cd;
+                }
+                maybeAddImport(COMPONENT_FQN);
+                return JavaTemplates.builder("@Component")
+                        .imports(COMPONENT_FQN)
+                        .dependsOn(COMPONENT_STUB)
+                        .build()
+                        .apply(new Cursor(getCursor().getParentOrThrow(), cd),
+                                cd.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
+            }
+
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                J.MethodDeclaration md = super.visitMethodDeclaration(method, ctx);
+                if (acc.methodsToPublish.isEmpty() || md.hasModifier(J.Modifier.Type.Public)) {
+                    return md;
+                }
+                J.ClassDeclaration classDecl = getCursor().firstEnclosing(J.ClassDeclaration.class);
+                J.CompilationUnit cu = getCursor().firstEnclosing(J.CompilationUnit.class);
+                if (classDecl == null || cu == null) {
+                    return md;
+                }
+                String pkg = cu.getPackageDeclaration() != null ? cu.getPackageDeclaration().getPackageName() : "";
+                String fqn = pkg.isEmpty() ? classDecl.getSimpleName() : pkg + "." + classDecl.getSimpleName();
+                if (!acc.methodsToPublish.contains(fqn + "#" + md.getSimpleName())) {
+                    return md;
+                }
+                return makePublic(md);
+            }
+        };
+    }
+
+    private static J.MethodDeclaration makePublic(J.MethodDeclaration md) {
+        List<J.Modifier> modifiers = new ArrayList<>(md.getModifiers());
+        for (int i = 0; i < modifiers.size(); i++) {
+            J.Modifier modifier = modifiers.get(i);
+            if (modifier.getType() == J.Modifier.Type.Private || modifier.getType() == J.Modifier.Type.Protected) {
+                modifiers.set(i, modifier.withType(J.Modifier.Type.Public));
+                return md.withModifiers(modifiers);
+            }
+        }
+        J.Modifier publicModifier = new J.Modifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, null,
+                J.Modifier.Type.Public, Collections.emptyList());
+        if (modifiers.isEmpty()) {
+            TypeTree returnType = md.getReturnTypeExpression();
+            if (returnType == null) {
+                return md;
+            }
+            modifiers.add(publicModifier.withPrefix(returnType.getPrefix()));
+            return md.withModifiers(modifiers).withReturnTypeExpression(returnType.withPrefix(Space.SINGLE_SPACE));
+        }
+        J.Modifier first = modifiers.get(0);
+        modifiers.set(0, first.withPrefix(Space.SINGLE_SPACE));
+        modifiers.add(0, publicModifier.withPrefix(first.getPrefix()));
+        return md.withModifiers(modifiers);
+    }
+
+    /**
+     * Resolves each binding to an exact pointcut and the interceptor methods to delegate to.
+     * Bindings whose beans cannot be identified stay unresolved and get placeholder skeletons.
+     */
+    private void resolveBindings(List<InterceptorBindingInfo> bindings, @Nullable ModuleInfo module, Accumulator acc) {
+        if (module == null) {
+            return;
+        }
+        // Beans that opted out of default (ejb-name=*) interceptors
+        Set<String> excludedFromDefaults = new HashSet<>();
+        for (InterceptorBindingInfo binding : bindings) {
+            if (!binding.isGlobal && binding.hasExcludeDefaultInterceptors && binding.ejbName != null) {
+                String fqn = module.resolveEjbName(binding.ejbName);
+                if (fqn != null) {
+                    excludedFromDefaults.add(fqn);
+                }
+            }
+        }
+
+        for (InterceptorBindingInfo binding : bindings) {
+            if (binding.isGlobal) {
+                List<String> targets = new ArrayList<>();
+                for (String ejbClass : module.ejbClasses) {
+                    if (!excludedFromDefaults.contains(ejbClass)) {
+                        targets.add("within(" + ejbClass + ")");
+                    }
+                }
+                if (!targets.isEmpty()) {
+                    binding.pointcut = String.join(" || ", targets);
+                    binding.targetDescription = targets.size() + " EJB class(es)";
+                }
+            } else if (binding.ejbName != null) {
+                String fqn = module.resolveEjbName(binding.ejbName);
+                if (fqn == null) {
+                    continue;
+                }
+                binding.targetDescription = fqn;
+                if (binding.methodBindings.isEmpty()) {
+                    binding.pointcut = binding.hasMethodBinding ? null : "within(" + fqn + ")";
+                } else {
+                    List<String> executions = new ArrayList<>();
+                    for (MethodBinding method : binding.methodBindings) {
+                        String params = method.params == null ? ".." : String.join(", ", method.params);
+                        executions.add("execution(* " + fqn + "." + method.methodName + "(" + params + "))");
+                    }
+                    binding.pointcut = String.join(" || ", executions);
+                }
+            }
+            if (!binding.isResolved()) {
+                continue;
+            }
+            for (String interceptorClass : binding.interceptorClasses) {
+                AroundInvokeCandidate candidate = findAroundInvoke(interceptorClass, acc);
+                if (candidate == null) {
+                    binding.unwiredInterceptors.put(interceptorClass, "around-invoke method not found in sources");
+                } else if (!candidate.joinPointParameter) {
+                    binding.unwiredInterceptors.put(interceptorClass,
+                            candidate.methodName + "(InvocationContext) was not converted to ProceedingJoinPoint");
+                } else if (!candidate.returnsValue) {
+                    binding.unwiredInterceptors.put(interceptorClass, candidate.methodName + " does not return the result");
+                } else {
+                    binding.delegations.put(interceptorClass, candidate.methodName);
+                    if (!candidate.annotated) {
+                        acc.interceptorsToRegister.add(interceptorClass);
+                    }
+                    if (!candidate.isPublic) {
+                        acc.methodsToPublish.add(interceptorClass + "#" + candidate.methodName);
+                    }
+                }
+            }
+        }
+    }
+
+    private static @Nullable AroundInvokeCandidate findAroundInvoke(String interceptorClass, Accumulator acc) {
+        List<AroundInvokeCandidate> candidates = acc.interceptorMethods.get(interceptorClass);
+        if (candidates == null || candidates.isEmpty()) {
+            return null;
+        }
+        for (AroundInvokeCandidate candidate : candidates) {
+            if (candidate.annotated) {
+                return candidate;
+            }
+        }
+        String declared = acc.declaredAroundInvoke.get(interceptorClass);
+        if (declared != null) {
+            for (AroundInvokeCandidate candidate : candidates) {
+                if (declared.equals(candidate.methodName)) {
+                    return candidate;
+                }
+            }
+        }
+        return candidates.size() == 1 ? candidates.get(0) : null;
+    }
+
     private String determinePackage(String moduleSourceRoot, Accumulator acc) {
         ModuleInfo module = acc.modules.get(moduleSourceRoot);
         if (module != null && !module.packages.isEmpty()) {
@@ -285,69 +795,186 @@ private String determinePackage(String moduleSourceRoot, Accumulator acc) {
         return "aop.config";
     }
 
-    private String generateAopConfig(List<InterceptorBindingInfo> bindings, String packageName, String className) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("package ").append(packageName).append(";\n\n");
-        sb.append("import ").append(NEEDS_REVIEW_FQN).append(";\n");
-        sb.append("import org.aspectj.lang.ProceedingJoinPoint;\n");
-        sb.append("import org.aspectj.lang.annotation.Around;\n");
-        sb.append("import org.aspectj.lang.annotation.Aspect;\n");
-        sb.append("import org.aspectj.lang.annotation.Pointcut;\n");
-        sb.append("import org.springframework.stereotype.Component;\n");
-        sb.append("\n");
+    private String generateAopConfig(List<InterceptorBindingInfo> bindings, String packageName, String className,
+                                     ProjectConfiguration.InterceptorWeaving weaving) {
+        boolean aspectJWeaving = weaving != ProjectConfiguration.InterceptorWeaving.PROXY;
+        // Interceptor beans the advice delegates to, injected via constructor
+        Map<String, String> injectedInterceptors = new TreeMap<>();
+        for (InterceptorBindingInfo binding : bindings) {
+            for (String interceptorClass : binding.delegations.keySet()) {
+                injectedInterceptors.put(interceptorClass, toLowerCamelCase(extractSimpleClassName(interceptorClass)));
+            }
+        }
 
-        // Always add @NeedsReview - interceptor wiring is not automated
         List<String> reviewReasons = new ArrayList<>();
-        reviewReasons.add("Interceptor wiring not generated; manual binding required");
-
-        boolean hasGlobal = bindings.stream().anyMatch(b -> b.isGlobal);
-        if (hasGlobal) {
+        List<InterceptorBindingInfo> unresolved = new ArrayList<>();
+        for (InterceptorBindingInfo binding : bindings) {
+            if (!binding.isResolved() || !binding.unwiredInterceptors.isEmpty()) {
+                unresolved.add(binding);
+            }
+        }
+        if (!unresolved.isEmpty()) {
+            reviewReasons.add("Interceptor wiring not generated; manual binding required");
+        }
+        if (unresolved.stream().anyMatch(b -> b.isGlobal && !b.isResolved())) {
             reviewReasons.add("Global binding (ejb-name=*) requires package-specific pointcut refinement");
         }
-
-        boolean hasSpecific = bindings.stream().anyMatch(b -> !b.isGlobal);
-        if (hasSpecific) {
+        if (unresolved.stream().anyMatch(b -> !b.isGlobal && !b.isResolved())) {
             reviewReasons.add("ejb-name may not match class name; verify pointcut targets");
         }
-
         for (InterceptorBindingInfo binding : bindings) {
-            if (binding.isComplex()) {
+            if (binding.needsReview()) {
                 reviewReasons.add(formatBindingReason(binding));
             }
         }
 
         // MKR-001: Check if any binding has ordering concerns
         boolean hasOrderingConcerns = bindings.stream().anyMatch(InterceptorBindingInfo::hasOrderingConcerns);
+        if (reviewReasons.isEmpty() && hasOrderingConcerns) {
+            reviewReasons.add("Advice order of multiple interceptors within one aspect is undefined");
+        }
+        boolean needsReview = !reviewReasons.isEmpty();
 
-        sb.append("@NeedsReview(\n");
-        sb.append("    reason = \"ejb-jar.xml interceptor-bindings require manual wiring\",\n");
-        sb.append("    category = NeedsReview.Category.MANUAL_MIGRATION,\n");
-        sb.append("    originalCode = \"").append(escapeJava(String.join("; ", reviewReasons))).append("\",\n");
-        // MKR-001: Add @Order guidance when ordering is critical
-        String suggestedAction = "1. Wire interceptor beans via constructor injection. " +
-                  "2. Adjust pointcuts to match actual bean classes. " +
-                  "3. Call interceptor's @AroundInvoke method in advice.";
-        if (hasOrderingConcerns) {
-            suggestedAction += " 4. Configure @Order on @Aspect classes to preserve interceptor execution sequence.";
+        Set<String> imports = new TreeSet<>(injectedInterceptors.keySet());
+        if (needsReview) {
+            imports.add(NEEDS_REVIEW_FQN);
+        }
+        imports.add("org.aspectj.lang.ProceedingJoinPoint");
+        imports.add("org.aspectj.lang.annotation.Around");
+        imports.add("org.aspectj.lang.annotation.Aspect");
+        imports.add("org.aspectj.lang.annotation.Pointcut");
+        if (!aspectJWeaving) {
+            imports.add("org.springframework.stereotype.Component");
+        } else if (!injectedInterceptors.isEmpty()) {
+            imports.add("org.springframework.beans.factory.annotation.Autowired");
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("package ").append(packageName).append(";\n\n");
+        for (String imp : imports) {
+            if (!packageName.equals(imp.substring(0, Math.max(0, imp.lastIndexOf('.'))))) {
+                sb.append("import ").append(imp).append(";\n");
+            }
+        }
+        sb.append("\n");
+
+        if (needsReview) {
+            sb.append("@NeedsReview(\n");
+            sb.append("    reason = \"ejb-jar.xml interceptor-bindings require manual wiring\",\n");
+            sb.append("    category = NeedsReview.Category.MANUAL_MIGRATION,\n");
+            sb.append("    originalCode = \"").append(escapeJava(String.join("; ", reviewReasons))).append("\",\n");
+            // MKR-001: Add @Order guidance when ordering is critical
+            String suggestedAction = "1. Wire interceptor beans via constructor injection. " +
+                      "2. Adjust pointcuts to match actual bean classes. " +
+                      "3. Call interceptor's @AroundInvoke method in advice.";
+            if (hasOrderingConcerns) {
+                suggestedAction += " 4. Configure @Order on @Aspect classes to preserve interceptor execution sequence.";
+            }
+            sb.append("    suggestedAction = \"").append(suggestedAction).append("\"\n");
+            sb.append(")\n");
         }
-        sb.append("    suggestedAction = \"").append(suggestedAction).append("\"\n");
-        sb.append(")\n");
 
         sb.append("@Aspect\n");
-        sb.append("@Component\n");
+        if (!aspectJWeaving) {
+            sb.append("@Component\n");
+        }
         sb.append("public class ").append(className).append(" {\n\n");
 
+        if (aspectJWeaving && !injectedInterceptors.isEmpty()) {
+            // Woven aspects are instantiated by AspectJ (no-arg constructor); Spring injects via aspectOf bean
+            for (Map.Entry<String, String> interceptor : injectedInterceptors.entrySet()) {
+                sb.append("    private ").append(extractSimpleClassName(interceptor.getKey())).append(" ")
+                  .append(interceptor.getValue()).append(";\n");
+            }
+            sb.append("\n");
+            sb.append("    @Autowired\n");
+            sb.append("    public void wireInterceptors(");
+            boolean first = true;
+            for (Map.Entry<String, String> interceptor : injectedInterceptors.entrySet()) {
+                if (!first) {
+                    sb.append(", ");
+                }
+                first = false;
+                sb.append(extractSimpleClassName(interceptor.getKey())).append(" ").append(interceptor.getValue());
+            }
+            sb.append(") {\n");
+            for (String fieldName : injectedInterceptors.values()) {
+                sb.append("        this.").append(fieldName).append(" = ").append(fieldName).append(";\n");
+            }
+            sb.append("    }\n\n");
+        } else if (!injectedInterceptors.isEmpty()) {
+            for (Map.Entry<String, String> interceptor : injectedInterceptors.entrySet()) {
+                sb.append("    private final ").append(extractSimpleClassName(interceptor.getKey())).append(" ")
+                  .append(interceptor.getValue()).append(";\n");
+            }
+            sb.append("\n");
+            sb.append("    public ").append(className).append("(");
+            boolean first = true;
+            for (Map.Entry<String, String> interceptor : injectedInterceptors.entrySet()) {
+                if (!first) {
+                    sb.append(", ");
+                }
+                first = false;
+                sb.append(extractSimpleClassName(interceptor.getKey())).append(" ").append(interceptor.getValue());
+            }
+            sb.append(") {\n");
+            for (String fieldName : injectedInterceptors.values()) {
+                sb.append("        this.").append(fieldName).append(" = ").append(fieldName).append(";\n");
+            }
+            sb.append("    }\n\n");
+        }
+
         // Generate pointcuts and around advice for each binding
         int bindingIndex = 0;
         for (InterceptorBindingInfo binding : bindings) {
             bindingIndex++;
-            generateBindingMethods(sb, binding, bindingIndex);
+            if (binding.isResolved()) {
+                generateResolvedBindingMethods(sb, binding, bindingIndex);
+            } else {
+                generateBindingMethods(sb, binding, bindingIndex);
+            }
         }
 
         sb.append("}\n");
         return sb.toString();
     }
 
+    /**
+     * Generates an exact pointcut and one advice per wired interceptor that delegates
+     * to the interceptor's around-invoke method.
+     */
+    private void generateResolvedBindingMethods(StringBuilder sb, InterceptorBindingInfo binding, int index) {
+        String pointcutName = binding.isGlobal ? "globalInterceptorPointcut" : "ejbInterceptorPointcut" + index;
+        String adviceName = binding.isGlobal ? "applyGlobalInterceptor" : "applyEjbInterceptor" + index;
+
+        sb.append("    // Source: ").append(binding.sourcePath).append("\n");
+        sb.append("    // ejb-name: ").append(binding.ejbName).append(" -> ").append(binding.targetDescription).append("\n");
+        for (String interceptorClass : binding.interceptorClasses) {
+            sb.append("    // interceptor-class: ").append(interceptorClass).append("\n");
+        }
+        if (binding.hasExcludeClassInterceptors) {
+            sb.append("    // WARNING: exclude-class-interceptors=true - remove class-level interceptor advice for this bean\n");
+        }
+        sb.append("    @Pointcut(\"").append(escapeJava(binding.pointcut)).append("\")\n");
+        sb.append("    public void ").append(pointcutName).append("() {}\n\n");
+
+        for (Map.Entry<String, String> unwired : binding.unwiredInterceptors.entrySet()) {
+            sb.append("    // NOT WIRED: ").append(unwired.getKey()).append(" - ").append(unwired.getValue()).append("\n");
+            sb.append("    // Delegate from an @Around(\"").append(pointcutName).append("()\") advice once migrated\n\n");
+        }
+
+        boolean multiple = binding.delegations.size() > 1;
+        for (Map.Entry<String, String> delegation : binding.delegations.entrySet()) {
+            String simpleClassName = extractSimpleClassName(delegation.getKey());
+            String name = multiple ? adviceName + simpleClassName : adviceName;
+            sb.append("    @Around(\"").append(pointcutName).append("()\")\n");
+            sb.append("    public Object ").append(name).append("(ProceedingJoinPoint pjp) throws Throwable {\n");
+            sb.append("        return ").append(toLowerCamelCase(simpleClassName)).append(".")
+              .append(delegation.getValue()).append("(pjp);\n");
+            sb.append("    }\n\n");
+        }
+    }
+
     private void generateBindingMethods(StringBuilder sb, InterceptorBindingInfo binding, int index) {
         String pointcutName = binding.isGlobal ? "globalInterceptorPointcut" : "ejbInterceptorPointcut" + index;
         String adviceName = binding.isGlobal ? "applyGlobalInterceptor" : "applyEjbInterceptor" + index;
@@ -413,6 +1040,126 @@ private void generateBindingMethods(StringBuilder sb, InterceptorBindingInfo bin
         sb.append("    }\n\n");
     }
 
+    /**
+     * Generates the configuration that hands the AspectJ-owned aspect instances to Spring, so their
+     * interceptor dependencies are injected. Spring AOP skips ajc-woven aspects, so advice runs once.
+     */
+    private String generateWeavingConfig(String packageName, List<String> aspects,
+                                         ProjectConfiguration.InterceptorWeaving weaving) {
+        boolean ltw = weaving == ProjectConfiguration.InterceptorWeaving.LTW;
+        Set<String> imports = new TreeSet<>();
+        imports.add("org.aspectj.lang.Aspects");
+        imports.add("org.springframework.context.annotation.Bean");
+        imports.add("org.springframework.context.annotation.Configuration");
+        if (ltw) {
+            imports.add("org.springframework.context.annotation.EnableLoadTimeWeaving");
+        }
+        // aspect FQN -> name used in the source; same-named aspects of another package stay qualified
+        Map<String, String> typeNames = new LinkedHashMap<>();
+        Set<String> simpleNames = new HashSet<>();
+        for (String aspect : aspects) {
+            String simpleName = extractSimpleClassName(aspect);
+            if (!simpleNames.add(simpleName)) {
+                typeNames.put(aspect, aspect);
+                continue;
+            }
+            typeNames.put(aspect, simpleName);
+            String aspectPackage = aspect.contains(".") ? aspect.substring(0, aspect.lastIndexOf('.')) : "";
+            if (!aspectPackage.equals(packageName)) {
+                imports.add(aspect);
+            }
+        }
+
+        StringBuilder sb = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            sb.append("package ").append(packageName).append(";\n\n");
+        }
+        for (String imp : imports) {
+            sb.append("import ").append(imp).append(";\n");
+        }
+        sb.append("\n");
+        sb.append("/**\n");
+        String subject = aspects.size() == 1
+            ? "{@link " + typeNames.get(aspects.get(0)) + "}"
+            : "the migrated interceptor aspects";
+        if (ltw) {
+            sb.append(" * Load-time weaving of ").append(subject).append(" (see META-INF/aop.xml).\n");
+            sb.append(" * Start the JVM with {@code -javaagent:spring-instrument.jar} and set {@code spring.aop.auto=false}\n");
+            sb.append(" * so the ").append(aspects.size() == 1 ? "aspect is" : "aspects are")
+                .append(" not additionally applied through Spring AOP proxies.\n");
+        } else {
+            sb.append(" * ").append(aspects.size() == 1 ? subject : "The migrated interceptor aspects")
+                .append(aspects.size() == 1 ? " is" : " are")
+                .append(" woven at build time by the aspectj-maven-plugin;\n");
+            sb.append(" * advised calls, including self-invocations, do not go through Spring AOP proxies.\n");
+        }
+        sb.append(" */\n");
+        sb.append("@Configuration(proxyBeanMethods = false)\n");
+        if (ltw) {
+            sb.append("@EnableLoadTimeWeaving(aspectjWeaving = EnableLoadTimeWeaving.AspectJWeaving.ENABLED)\n");
+        }
+        sb.append("public class ").append(WEAVING_CONFIG_CLASS_NAME).append(" {\n");
+        Set<String> methodNames = new HashSet<>();
+        for (Map.Entry<String, String> aspect : typeNames.entrySet()) {
+            String methodName = toLowerCamelCase(extractSimpleClassName(aspect.getKey()));
+            for (int i = 2; !methodNames.add(methodName); i++) {
+                methodName = toLowerCamelCase(extractSimpleClassName(aspect.getKey())) + i;
+            }
+            sb.append("\n");
+            sb.append("    @Bean\n");
+            sb.append("    public ").append(aspect.getValue()).append(" ").append(methodName).append("() {\n");
+            sb.append("        return Aspects.aspectOf(").append(aspect.getValue()).append(".class);\n");
+            sb.append("    }\n");
+        }
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    /**
+     * Generates META-INF/aop.xml restricting the weaver to the packages of the intercepted beans.
+     */
+    private String generateAopXml(List<String> aspectNames, @Nullable ModuleInfo module) {
+        Set<String> weavePackages = new TreeSet<>();
+        if (module != null && !module.packages.isEmpty()) {
+            String commonPrefix = commonPackagePrefix(module.packages);
+            if (!commonPrefix.isEmpty()) {
+                weavePackages.add(commonPrefix);
+            } else {
+                weavePackages.addAll(module.packages);
+            }
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("<!DOCTYPE aspectj PUBLIC \"-//AspectJ//DTD//EN\" \"https://www.eclipse.org/aspectj/dtd/aspectj.dtd\">\n");
+        sb.append("<aspectj>\n");
+        sb.append("    <weaver>\n");
+        for (String pkg : weavePackages) {
+            sb.append("        <include within=\"").append(pkg).append("..*\"/>\n");
+        }
+        sb.append("    </weaver>\n");
+        sb.append("    <aspects>\n");
+        for (String aspectName : aspectNames) {
+            sb.append("        <aspect name=\"").append(aspectName).append("\"/>\n");
+        }
+        sb.append("    </aspects>\n");
+        sb.append("</aspectj>\n");
+        return sb.toString();
+    }
+
+    private static String resourceRootFor(String moduleSourceRoot, ProjectConfiguration config) {
+        String resourceRoot = config.getResourceRoots().isEmpty() ? "src/main/resources" : config.getResourceRoots().get(0);
+        for (String root : config.getMainSourceRoots()) {
+            String normalizedRoot = root.replace('\\', '/');
+            if (moduleSourceRoot.equals(normalizedRoot)) {
+                return resourceRoot;
+            }
+            if (moduleSourceRoot.endsWith("/" + normalizedRoot)) {
+                return moduleSourceRoot.substring(0, moduleSourceRoot.length() - normalizedRoot.length()) + resourceRoot;
+            }
+        }
+        return resourceRoot;
+    }
+
     private String formatBindingReason(InterceptorBindingInfo binding) {
         StringBuilder sb = new StringBuilder();
         sb.append("ejb-name=").append(binding.ejbName);
@@ -425,12 +1172,15 @@ private String formatBindingReason(InterceptorBindingInfo binding) {
         if (binding.hasExcludeDefaultInterceptors) {
             sb.append(", exclude-default-interceptors");
         }
+        for (String interceptorClass : binding.unwiredInterceptors.keySet()) {
+            sb.append(", not wired: ").append(extractSimpleClassName(interceptorClass));
+        }
         return sb.toString();
     }
 
     // Utility methods
 
-    private static @Nullable Xml.Tag findChildTag(Xml.Tag parent, String name) {
+    private static Xml.@Nullable Tag findChildTag(Xml.Tag parent, String name) {
         for (Content content : parent.getContent()) {
             if (content instanceof Xml.Tag) {
                 Xml.Tag tag = (Xml.Tag) content;
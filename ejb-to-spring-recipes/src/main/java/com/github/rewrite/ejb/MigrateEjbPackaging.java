@@ -8,6 +8,7 @@
 import org.openrewrite.xml.tree.Xml;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Migrates Maven POM packaging from "ejb" to "jar" for Spring Boot compatibility.
@@ -40,7 +41,7 @@ public String getDescription() {
 
     static class Accumulator {
         // Track modules with EJB features that need packaging change
-        Set<String> modulesWithEjb = new HashSet<>();
+        final Set<String> modulesWithEjb = ConcurrentHashMap.newKeySet();
     }
 
     @Override
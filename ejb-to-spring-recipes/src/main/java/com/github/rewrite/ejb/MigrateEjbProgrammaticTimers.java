@@ -1,5 +1,7 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.Cursor;
@@ -10,7 +12,6 @@
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.AddImport;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.RemoveImport;
 import org.openrewrite.java.search.UsesType;
@@ -33,6 +34,7 @@
  * - TimerService usage where return value is ignored (expression statement).
  * - Supported calls: createTimer(...), createSingleActionTimer(...), createIntervalTimer(...)
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class MigrateEjbProgrammaticTimers extends Recipe {
@@ -60,10 +62,6 @@ public class MigrateEjbProgrammaticTimers extends Recipe {
         "public class Duration {\n" +
         "    public static Duration ofMillis(long millis) { return null; }\n" +
         "}\n";
-    private static final JavaParser.Builder JAVA_TIME_PARSER =
-        JavaParser.fromJavaVersion()
-            .classpath("spring-context")
-            .dependsOn(INSTANT_STUB, DURATION_STUB);
 
     @Override
     public String getDisplayName() {
@@ -589,8 +587,7 @@ private boolean isTimerServiceField(J.VariableDeclarations varDecls) {
         }
 
         private boolean isTimeoutAnnotation(J.Annotation ann) {
-            if (TypeUtils.isOfClassType(ann.getType(), JAKARTA_TIMEOUT) ||
-                TypeUtils.isOfClassType(ann.getType(), JAVAX_TIMEOUT)) {
+            if (JavaEeAnnotation.TIMEOUT.matches(ann)) {
                 return true;
             }
             return "Timeout".equals(ann.getSimpleName());
@@ -695,10 +692,8 @@ private boolean hasTimeoutAnnotation(J.MethodDeclaration md) {
 
         private boolean isInjectionAnnotation(J.Annotation ann) {
             return TypeUtils.isOfClassType(ann.getType(), SPRING_AUTOWIRED) ||
-                   TypeUtils.isOfClassType(ann.getType(), JAKARTA_RESOURCE) ||
-                   TypeUtils.isOfClassType(ann.getType(), JAVAX_RESOURCE) ||
-                   TypeUtils.isOfClassType(ann.getType(), JAKARTA_INJECT) ||
-                   TypeUtils.isOfClassType(ann.getType(), JAVAX_INJECT) ||
+                   JavaEeAnnotation.RESOURCE.matches(ann) ||
+                   JavaEeAnnotation.INJECT.matches(ann) ||
                    "Autowired".equals(ann.getSimpleName()) ||
                    "Resource".equals(ann.getSimpleName()) ||
                    "Inject".equals(ann.getSimpleName());
@@ -789,10 +784,11 @@ private boolean isTimerConfigWithPersistentFalse(Expression expr) {
 
         private J.MethodInvocation scheduleOnce(J.MethodInvocation original, Expression select,
                                                 Expression delayExpr, String timeoutMethodName) {
-            JavaTemplate template = JavaTemplate.builder(
+            JavaTemplate template = JavaTemplates.builder(
                     "#{any()}.schedule(() -> " + timeoutMethodName + "(), Instant.now().plusMillis(#{any()}))"
                 )
-                .javaParser(JAVA_TIME_PARSER)
+                .classpath("spring-context")
+                .dependsOn(INSTANT_STUB, DURATION_STUB)
                 .imports("java.time.Instant")
                 .contextSensitive()
                 .build();
@@ -808,11 +804,12 @@ private J.MethodInvocation scheduleOnce(J.MethodInvocation original, Expression
         private J.MethodInvocation scheduleAtFixedRate(J.MethodInvocation original, Expression select,
                                                        Expression initialExpr, Expression intervalExpr,
                                                        String timeoutMethodName) {
-            JavaTemplate template = JavaTemplate.builder(
+            JavaTemplate template = JavaTemplates.builder(
                     "#{any()}.scheduleAtFixedRate(() -> " + timeoutMethodName + "(), " +
                     "Instant.now().plusMillis(#{any()}), Duration.ofMillis(#{any()}))"
                 )
-                .javaParser(JAVA_TIME_PARSER)
+                .classpath("spring-context")
+                .dependsOn(INSTANT_STUB, DURATION_STUB)
                 .imports("java.time.Instant", "java.time.Duration")
                 .contextSensitive()
                 .build();
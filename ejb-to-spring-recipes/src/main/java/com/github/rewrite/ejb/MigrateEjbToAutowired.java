@@ -47,19 +47,6 @@ public class MigrateEjbToAutowired extends Recipe {
     private static final String JAKARTA_NAMED = "jakarta.inject.Named";
     private static final String NEEDS_REVIEW_FQN = "com.github.rewrite.ejb.annotations.NeedsReview";
 
-    private static final String NEEDS_REVIEW_STUB =
-        "package com.github.rewrite.ejb.annotations;\n" +
-        "import java.lang.annotation.*;\n" +
-        "@Retention(RetentionPolicy.RUNTIME)\n" +
-        "@Target({ElementType.TYPE, ElementType.FIELD, ElementType.METHOD})\n" +
-        "public @interface NeedsReview {\n" +
-        "    Category category();\n" +
-        "    String reason() default \"\";\n" +
-        "    String originalCode() default \"\";\n" +
-        "    String suggestedAction() default \"\";\n" +
-        "    enum Category { MANUAL_MIGRATION }\n" +
-        "}\n";
-
     @Option(displayName = "Inject strategy override",
             description = "Override project.yaml inject strategy: keep-jsr330 or migrate-to-spring. " +
                           "If not set, project.yaml (or defaults) are used. Default strategy is keep-jsr330.",
@@ -175,9 +162,8 @@ public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Ex
                     maybeAddImport(NEEDS_REVIEW_FQN);
 
                     // Remove EJB import
-                    if (TypeUtils.isOfClassType(ejbAnnotation.getType(), JAVAX_EJB)) {
+                    if (JavaEeAnnotation.EJB.matches(ejbAnnotation)) {
                         maybeRemoveImport(JAVAX_EJB);
-                    } else if (TypeUtils.isOfClassType(ejbAnnotation.getType(), JAKARTA_EJB)) {
                         maybeRemoveImport(JAKARTA_EJB);
                     }
                 } else {
@@ -235,9 +221,8 @@ public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, Ex
                     }
 
                     // Remove EJB import
-                    if (TypeUtils.isOfClassType(ejbAnnotation.getType(), JAVAX_EJB)) {
+                    if (JavaEeAnnotation.EJB.matches(ejbAnnotation)) {
                         maybeRemoveImport(JAVAX_EJB);
-                    } else if (TypeUtils.isOfClassType(ejbAnnotation.getType(), JAKARTA_EJB)) {
                         maybeRemoveImport(JAKARTA_EJB);
                     }
                 } else {
@@ -303,9 +288,8 @@ public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations v
                     }
 
                     // Remove EJB import
-                    if (TypeUtils.isOfClassType(ejbAnnotation.getType(), JAVAX_EJB)) {
+                    if (JavaEeAnnotation.EJB.matches(ejbAnnotation)) {
                         maybeRemoveImport(JAVAX_EJB);
-                    } else if (TypeUtils.isOfClassType(ejbAnnotation.getType(), JAKARTA_EJB)) {
                         maybeRemoveImport(JAKARTA_EJB);
                     }
                 } else {
@@ -318,8 +302,7 @@ public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations v
 
         private J.Annotation findEjbAnnotation(List<J.Annotation> annotations) {
             for (J.Annotation ann : annotations) {
-                if (TypeUtils.isOfClassType(ann.getType(), JAVAX_EJB) ||
-                    TypeUtils.isOfClassType(ann.getType(), JAKARTA_EJB)) {
+                if (JavaEeAnnotation.EJB.matches(ann)) {
                     return ann;
                 }
                 // Fallback for missing type info
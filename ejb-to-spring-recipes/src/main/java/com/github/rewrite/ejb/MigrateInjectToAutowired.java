@@ -9,7 +9,7 @@
 import org.openrewrite.java.*;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.J;
-import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.java.tree.JavaType;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -131,16 +131,11 @@ private static class InjectToAutowiredVisitor extends JavaIsoVisitor<ExecutionCo
         public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
             J.Annotation a = super.visitAnnotation(annotation, ctx);
 
-            if (TypeUtils.isOfClassType(a.getType(), JAVAX_INJECT)) {
+            if (JavaEeAnnotation.INJECT.matches(a)) {
+                String inject = ((JavaType.FullyQualified) a.getType()).getFullyQualifiedName();
                 maybeAddImport(SPRING_AUTOWIRED);
-                maybeRemoveImport(JAVAX_INJECT);
-                doAfterVisit(new ChangeType(JAVAX_INJECT, SPRING_AUTOWIRED, true).getVisitor());
-                return a;
-            }
-            if (TypeUtils.isOfClassType(a.getType(), JAKARTA_INJECT)) {
-                maybeAddImport(SPRING_AUTOWIRED);
-                maybeRemoveImport(JAKARTA_INJECT);
-                doAfterVisit(new ChangeType(JAKARTA_INJECT, SPRING_AUTOWIRED, true).getVisitor());
+                maybeRemoveImport(inject);
+                doAfterVisit(new ChangeType(inject, SPRING_AUTOWIRED, true).getVisitor());
                 return a;
             }
 
@@ -15,6 +15,7 @@
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -111,8 +112,11 @@ public String getDescription() {
                "Supports both javax.ws.rs and jakarta.ws.rs namespaces.";
     }
 
+    /**
+     * Filled by concurrent scanners.
+     */
     static class Accumulator {
-        Map<Path, Map<String, String>> constantsByModule = new HashMap<>();
+        final Map<Path, Map<String, String>> constantsByModule = new ConcurrentHashMap<>();
     }
 
     public MigrateJaxRsAnnotations() {
@@ -1519,7 +1523,7 @@ private static void collectConstants(J.CompilationUnit cu, Accumulator acc, Path
         if (moduleRoot == null) {
             return;
         }
-        Map<String, String> moduleConstants = acc.constantsByModule.computeIfAbsent(moduleRoot, root -> new HashMap<>());
+        Map<String, String> moduleConstants = acc.constantsByModule.computeIfAbsent(moduleRoot, root -> new ConcurrentHashMap<>());
         String pkg = cu.getPackageDeclaration() != null
             ? cu.getPackageDeclaration().getPackageName()
             : "";
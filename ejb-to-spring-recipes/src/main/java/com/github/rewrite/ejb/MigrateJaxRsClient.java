@@ -18,6 +18,7 @@
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Migrates JAX-RS Client code based on a configurable strategy.
@@ -193,35 +194,39 @@ public String getDescription() {
                "'keep-jaxrs' adds provider dependencies (jersey, resteasy, or cxf) to pom.xml.";
     }
 
+    /**
+     * Filled by concurrent scanners. Placeholder details are recorded per POM, and every POM is scanned by a single
+     * scanner, so the lists need no further synchronization.
+     */
     static class Accumulator {
         // Classes that actually use JAX-RS Client APIs (FQN -> usage description)
-        Map<String, String> classesUsingJaxRsClient = new LinkedHashMap<>();
+        final Map<String, String> classesUsingJaxRsClient = new ConcurrentHashMap<>();
         // Whether project uses Jakarta or Javax namespace
-        boolean usesJakarta = false;
-        boolean usesJavax = false;
+        volatile boolean usesJakarta = false;
+        volatile boolean usesJavax = false;
         // Individual artifact tracking for providers
-        boolean hasJerseyClient = false;
-        boolean hasJerseyHk2 = false;
-        boolean hasJerseyJsonBinding = false;
-        boolean hasResteasyClient = false;
-        boolean hasResteasyJsonBinding = false;
-        boolean hasCxfClient = false;
+        volatile boolean hasJerseyClient = false;
+        volatile boolean hasJerseyHk2 = false;
+        volatile boolean hasJerseyJsonBinding = false;
+        volatile boolean hasResteasyClient = false;
+        volatile boolean hasResteasyJsonBinding = false;
+        volatile boolean hasCxfClient = false;
         // Source paths of files with JAX-RS Client usage
-        Set<String> filesWithJaxRsClient = new LinkedHashSet<>();
+        final Set<String> filesWithJaxRsClient = ConcurrentHashMap.newKeySet();
         // Warnings for invalid config
-        String strategyWarning = null;
-        String providerWarning = null;
+        volatile String strategyWarning = null;
+        volatile String providerWarning = null;
         // Track unresolved property placeholders in dependencies
         // Only main dependency placeholders should block provider dep additions
-        Map<String, Boolean> mainUnresolvedGavPlaceholdersByPom = new HashMap<>();
-        Map<String, Boolean> mainUnresolvedScopePlaceholdersByPom = new HashMap<>();
-        Map<String, Boolean> profileUnresolvedGavPlaceholdersByPom = new HashMap<>();
-        Map<String, Boolean> profileUnresolvedScopePlaceholdersByPom = new HashMap<>();
+        final Map<String, Boolean> mainUnresolvedGavPlaceholdersByPom = new ConcurrentHashMap<>();
+        final Map<String, Boolean> mainUnresolvedScopePlaceholdersByPom = new ConcurrentHashMap<>();
+        final Map<String, Boolean> profileUnresolvedGavPlaceholdersByPom = new ConcurrentHashMap<>();
+        final Map<String, Boolean> profileUnresolvedScopePlaceholdersByPom = new ConcurrentHashMap<>();
         // Pre-grouped details by POM and section for efficient warning emission
-        Map<String, List<String>> mainGavDetailsByPom = new HashMap<>();
-        Map<String, List<String>> mainScopeDetailsByPom = new HashMap<>();
-        Map<String, List<String>> profileGavDetailsByPom = new HashMap<>();
-        Map<String, List<String>> profileScopeDetailsByPom = new HashMap<>();
+        final Map<String, List<String>> mainGavDetailsByPom = new ConcurrentHashMap<>();
+        final Map<String, List<String>> mainScopeDetailsByPom = new ConcurrentHashMap<>();
+        final Map<String, List<String>> profileGavDetailsByPom = new ConcurrentHashMap<>();
+        final Map<String, List<String>> profileScopeDetailsByPom = new ConcurrentHashMap<>();
     }
 
     @Override
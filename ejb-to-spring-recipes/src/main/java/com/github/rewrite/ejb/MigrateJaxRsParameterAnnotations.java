@@ -16,6 +16,7 @@
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Migrates JAX-RS parameter annotations to Spring MVC.
@@ -124,11 +125,14 @@ public String getDescription() {
                "Supports both javax.ws.rs and jakarta.ws.rs namespaces.";
     }
 
+    /**
+     * Filled by concurrent scanners.
+     */
     static class Accumulator {
-        boolean hasMatrixConfig = false;
-        Map<Path, Map<String, String>> constantsByModule = new HashMap<>();
-        Map<String, BeanParamInfo> beanParamInfoByFqn = new HashMap<>();
-        Set<String> beanParamTypeFqns = new HashSet<>();
+        volatile boolean hasMatrixConfig = false;
+        final Map<Path, Map<String, String>> constantsByModule = new ConcurrentHashMap<>();
+        final Map<String, BeanParamInfo> beanParamInfoByFqn = new ConcurrentHashMap<>();
+        final Set<String> beanParamTypeFqns = ConcurrentHashMap.newKeySet();
     }
 
     static class BeanParamInfo {
@@ -588,7 +592,7 @@ public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Execu
             if ("getLanguage".equals(mi.getSimpleName()) && isOnTrackedHttpHeaders(mi)) {
                 Expression select = mi.getSelect();
                 if (select != null) {
-                    JavaTemplate template = JavaTemplate.builder(
+                    JavaTemplate template = JavaTemplates.builder(
                             "#{any()}.getAcceptLanguageAsLocales().stream().findFirst().orElse(null)")
                         .contextSensitive()
                         .build();
@@ -602,7 +606,7 @@ public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Execu
             if (isSupportedUriInfoInvocation(mi) && isOnTrackedUriInfo(mi)) {
                 Expression select = mi.getSelect();
                 if (select != null) {
-                    JavaTemplate template = JavaTemplate.builder(uriInfoTemplateFor(mi.getSimpleName()))
+                    JavaTemplate template = JavaTemplates.builder(uriInfoTemplateFor(mi.getSimpleName()))
                         .contextSensitive()
                         .build();
                     return template.apply(getCursor(), mi.getCoordinates().replace(), select);
@@ -691,7 +695,7 @@ private J.MethodDeclaration applyPathParamDefaults(J.MethodDeclaration method,
                     continue;
                 }
                 String escapedValue = escapeJavaString(defaultValue);
-                JavaTemplate template = JavaTemplate.builder(
+                JavaTemplate template = JavaTemplates.builder(
                         "if (" + paramName + " == null || " + paramName + ".isEmpty()) { " +
                         paramName + " = \"" + escapedValue + "\"; }")
                     .contextSensitive()
@@ -2745,7 +2749,7 @@ private static void collectConstants(J.CompilationUnit cu, Accumulator acc, Path
         if (moduleRoot == null) {
             return;
         }
-        Map<String, String> moduleConstants = acc.constantsByModule.computeIfAbsent(moduleRoot, root -> new HashMap<>());
+        Map<String, String> moduleConstants = acc.constantsByModule.computeIfAbsent(moduleRoot, root -> new ConcurrentHashMap<>());
         String pkg = cu.getPackageDeclaration() != null
             ? cu.getPackageDeclaration().getPackageName()
             : "";
@@ -0,0 +1,617 @@
+package com.github.rewrite.ejb;
+
+import com.github.rewrite.ejb.config.ProjectConfiguration;
+import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.ChangeMethodName;
+import org.openrewrite.java.ChangeType;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Migrates streaming and asynchronous JAX-RS responses to their Spring MVC equivalents.
+ * <p>
+ * Must run before {@link MigrateJaxRsResponseToResponseEntity} so entity types are still matched
+ * against the JAX-RS {@code Response} API.
+ * <p>
+ * Transformations:
+ * <ul>
+ *   <li>StreamingOutput -> StreamingResponseBody (write() -> writeTo())</li>
+ *   <li>Response.ok(File/Path) / entity(File/Path) -> FileSystemResource entity</li>
+ *   <li>Response.ok(InputStream) / entity(InputStream) -> InputStreamResource entity</li>
+ *   <li>void method(@Suspended AsyncResponse r) -> DeferredResult&lt;Object&gt; method()
+ *       (resume() -> setResult()/setErrorResult())</li>
+ *   <li>SseEventSink/Sse and Jersey ChunkedOutput/EventOutput -> @NeedsReview pointing to SseEmitter</li>
+ * </ul>
+ * Resource entities are written by Spring's ResourceHttpMessageConverter straight from the file or
+ * stream, so large exports are never buffered in memory. Modules with streaming or async endpoints get
+ * an {@code AsyncStreamingConfiguration} that raises the async request timeout, still overridable with
+ * {@code spring.mvc.async.request-timeout}. It publishes no executor bean: any user-defined {@code Executor}
+ * makes Boot's {@code TaskExecutionAutoConfiguration} back off, so async requests keep running on Boot's
+ * {@code applicationTaskExecutor}.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class MigrateJaxRsStreamingResponses extends ScanningRecipe<MigrateJaxRsStreamingResponses.Accumulator> {
+
+    private static final String NEEDS_REVIEW_FQN = "com.github.rewrite.ejb.annotations.NeedsReview";
+    private static final String STREAMING_RESPONSE_BODY =
+        "org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody";
+    private static final String DEFERRED_RESULT = "org.springframework.web.context.request.async.DeferredResult";
+    private static final String FILE_SYSTEM_RESOURCE = "org.springframework.core.io.FileSystemResource";
+    private static final String INPUT_STREAM_RESOURCE = "org.springframework.core.io.InputStreamResource";
+    private static final String CONFIGURATION_CLASS_NAME = "AsyncStreamingConfiguration";
+    private static final long ASYNC_REQUEST_TIMEOUT_MINUTES = 30;
+
+    private static final List<String> NAMESPACES = List.of("javax.ws.rs", "jakarta.ws.rs");
+    private static final Set<String> ASYNC_RESPONSE_FQNS = Set.of(
+        "javax.ws.rs.container.AsyncResponse",
+        "jakarta.ws.rs.container.AsyncResponse"
+    );
+    private static final Set<String> SUSPENDED_FQNS = Set.of(
+        "javax.ws.rs.container.Suspended",
+        "jakarta.ws.rs.container.Suspended"
+    );
+    private static final Set<String> SSE_FQNS = Set.of(
+        "javax.ws.rs.sse.SseEventSink",
+        "jakarta.ws.rs.sse.SseEventSink",
+        "javax.ws.rs.sse.Sse",
+        "jakarta.ws.rs.sse.Sse",
+        "org.glassfish.jersey.server.ChunkedOutput",
+        "org.glassfish.jersey.media.sse.EventOutput"
+    );
+    private static final Set<String> STREAMING_OUTPUT_FQNS = Set.of(
+        "javax.ws.rs.core.StreamingOutput",
+        "jakarta.ws.rs.core.StreamingOutput"
+    );
+    private static final List<MethodMatcher> ENTITY_METHODS = List.of(
+        new MethodMatcher("javax.ws.rs.core.Response ok(..)"),
+        new MethodMatcher("jakarta.ws.rs.core.Response ok(..)"),
+        new MethodMatcher("javax.ws.rs.core.Response$ResponseBuilder entity(..)"),
+        new MethodMatcher("jakarta.ws.rs.core.Response$ResponseBuilder entity(..)")
+    );
+
+    private static final Comparator<J.Annotation> NEEDS_REVIEW_FIRST =
+        Comparator.comparing(a -> "NeedsReview".equals(a.getSimpleName()) ? 0 : 1);
+
+    private static final String FILE_SYSTEM_RESOURCE_STUB =
+        "package org.springframework.core.io;\n" +
+        "public class FileSystemResource {\n" +
+        "    public FileSystemResource(java.io.File file) {}\n" +
+        "    public FileSystemResource(java.nio.file.Path path) {}\n" +
+        "}\n";
+    private static final String INPUT_STREAM_RESOURCE_STUB =
+        "package org.springframework.core.io;\n" +
+        "public class InputStreamResource {\n" +
+        "    public InputStreamResource(java.io.InputStream inputStream) {}\n" +
+        "}\n";
+    private static final String DEFERRED_RESULT_STUB =
+        "package org.springframework.web.context.request.async;\n" +
+        "public class DeferredResult<T> {\n" +
+        "    public DeferredResult() {}\n" +
+        "    public boolean setResult(T result) { return true; }\n" +
+        "    public boolean setErrorResult(Object result) { return true; }\n" +
+        "}\n";
+    private static final String SSE_NEEDS_REVIEW_TEMPLATE =
+        "@NeedsReview(reason = \"JAX-RS server-sent events / chunked output require manual migration\", " +
+        "category = NeedsReview.Category.MANUAL_MIGRATION, originalCode = \"#{}\", " +
+        "suggestedAction = \"Return an SseEmitter (or ResponseBodyEmitter for plain chunks) and send events " +
+        "from the producing thread; complete() replaces close()\")";
+
+    @Option(displayName = "JAX-RS strategy override",
+            description = "Override project.yaml JAX-RS server strategy: keep-jaxrs or migrate-to-spring-mvc. " +
+                          "If not set, project.yaml (or defaults) are used.",
+            example = "migrate-to-spring-mvc",
+            required = false)
+    @Nullable
+    String strategy;
+
+    public MigrateJaxRsStreamingResponses() {
+        this.strategy = null;
+    }
+
+    public MigrateJaxRsStreamingResponses(@Nullable String strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * Filled by concurrent scanners.
+     */
+    static class Accumulator {
+        final Map<Path, ModuleState> modules = new ConcurrentSkipListMap<>();
+    }
+
+    static class ModuleState {
+        final Set<String> classFqns = ConcurrentHashMap.newKeySet();
+        volatile boolean hasAsyncSupportConfig = false;
+        String firstUsagePath = null;
+        String firstUsagePackage = null;
+
+        /**
+         * Keeps the usage with the smallest source path, so the outcome does not depend on the scan order.
+         */
+        synchronized void recordUsage(String path, String pkg) {
+            if (firstUsagePath == null || path.compareTo(firstUsagePath) < 0) {
+                firstUsagePath = path;
+                firstUsagePackage = pkg;
+            }
+        }
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "Migrate JAX-RS streaming and async responses to Spring MVC";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Converts StreamingOutput to StreamingResponseBody, File/InputStream entities to Resource entities, " +
+               "@Suspended AsyncResponse to DeferredResult, flags SSE endpoints for SseEmitter migration and " +
+               "generates the async request timeout configuration.";
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                Path sourcePath = cu.getSourcePath();
+                if (sourcePath == null || !shouldMigrate(sourcePath)) {
+                    return cu;
+                }
+                Path moduleRoot = extractProjectRoot(sourcePath);
+                String normalizedPath = sourcePath.toString().replace('\\', '/');
+                ProjectConfiguration config = ProjectConfigurationLoader.loadWithInheritance(moduleRoot);
+                if (config.isTestSource(normalizedPath)) {
+                    return cu;
+                }
+
+                ModuleState module = acc.modules.computeIfAbsent(moduleRoot, k -> new ModuleState());
+                String pkg = cu.getPackageDeclaration() != null
+                    ? cu.getPackageDeclaration().getPackageName()
+                    : "";
+                for (J.ClassDeclaration classDecl : cu.getClasses()) {
+                    module.classFqns.add(pkg.isEmpty() ? classDecl.getSimpleName() : pkg + "." + classDecl.getSimpleName());
+                }
+                if (usesAsyncOrStreamingTypes(cu)) {
+                    module.recordUsage(normalizedPath, pkg);
+                }
+                return super.visitCompilationUnit(cu, ctx);
+            }
+
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                if ("configureAsyncSupport".equals(method.getSimpleName())) {
+                    Path sourcePath = getCursor().firstEnclosingOrThrow(J.CompilationUnit.class).getSourcePath();
+                    ModuleState module = acc.modules.get(extractProjectRoot(sourcePath));
+                    if (module != null) {
+                        module.hasAsyncSupportConfig = true;
+                    }
+                }
+                return super.visitMethodDeclaration(method, ctx);
+            }
+        };
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        List<SourceFile> generated = new ArrayList<>();
+        JavaParser javaParser = JavaParser.fromJavaVersion().build();
+        for (ModuleState module : acc.modules.values()) {
+            if (module.firstUsagePath == null || module.hasAsyncSupportConfig) {
+                continue;
+            }
+            String pkg = module.firstUsagePackage != null ? module.firstUsagePackage : "";
+            String configFqn = pkg.isEmpty() ? CONFIGURATION_CLASS_NAME : pkg + "." + CONFIGURATION_CLASS_NAME;
+            if (module.classFqns.contains(configFqn)) {
+                continue;
+            }
+            String sourceRoot = extractSourceRoot(module.firstUsagePath, pkg);
+            String relativePath = pkg.isEmpty()
+                ? CONFIGURATION_CLASS_NAME + ".java"
+                : pkg.replace('.', '/') + "/" + CONFIGURATION_CLASS_NAME + ".java";
+            Path filePath = Paths.get(sourceRoot.isEmpty() ? relativePath : sourceRoot + "/" + relativePath);
+
+            List<SourceFile> parsed = javaParser.parse(generateConfigurationSource(pkg)).toList();
+            if (!parsed.isEmpty()) {
+                generated.add(parsed.get(0).withSourcePath(filePath));
+            }
+            javaParser.reset();
+        }
+        return generated;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                if (!shouldMigrate(cu.getSourcePath()) || !usesAsyncOrStreamingTypes(cu) && !usesResponse(cu)) {
+                    return cu;
+                }
+                Tree tree = new StreamingVisitor().visit(cu, ctx);
+                for (String namespace : NAMESPACES) {
+                    // Rename before the type change so the matcher still sees StreamingOutput
+                    tree = new ChangeMethodName(
+                        namespace + ".core.StreamingOutput write(java.io.OutputStream)",
+                        "writeTo",
+                        true,  // matchOverrides
+                        null   // ignoreDefinitions
+                    ).getVisitor().visit(tree, ctx);
+                    tree = new ChangeType(namespace + ".core.StreamingOutput", STREAMING_RESPONSE_BODY, true)
+                        .getVisitor().visit(tree, ctx);
+                }
+                return (J.CompilationUnit) tree;
+            }
+        };
+    }
+
+    private class StreamingVisitor extends JavaIsoVisitor<ExecutionContext> {
+
+        @Override
+        public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+            J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
+            if (mi.getArguments().isEmpty() || ENTITY_METHODS.stream().noneMatch(m -> m.matches(mi))) {
+                return mi;
+            }
+            Expression entity = mi.getArguments().get(0);
+            JavaTemplate template = resourceTemplateFor(entity.getType());
+            if (template == null) {
+                return mi;
+            }
+            Expression wrapped = template.apply(new Cursor(getCursor(), entity), entity.getCoordinates().replace(), entity);
+            List<Expression> args = new ArrayList<>(mi.getArguments());
+            args.set(0, wrapped.withPrefix(entity.getPrefix()));
+            return mi.withArguments(args);
+        }
+
+        @Nullable
+        private JavaTemplate resourceTemplateFor(@Nullable JavaType type) {
+            if (TypeUtils.isOfClassType(type, "java.io.File")) {
+                maybeAddImport(FILE_SYSTEM_RESOURCE);
+                return resourceTemplate("new FileSystemResource(#{any(java.io.File)})", FILE_SYSTEM_RESOURCE,
+                    FILE_SYSTEM_RESOURCE_STUB);
+            }
+            if (TypeUtils.isAssignableTo("java.nio.file.Path", type)) {
+                maybeAddImport(FILE_SYSTEM_RESOURCE);
+                return resourceTemplate("new FileSystemResource(#{any(java.nio.file.Path)})", FILE_SYSTEM_RESOURCE,
+                    FILE_SYSTEM_RESOURCE_STUB);
+            }
+            if (TypeUtils.isAssignableTo("java.io.InputStream", type)) {
+                maybeAddImport(INPUT_STREAM_RESOURCE);
+                return resourceTemplate("new InputStreamResource(#{any(java.io.InputStream)})", INPUT_STREAM_RESOURCE,
+                    INPUT_STREAM_RESOURCE_STUB);
+            }
+            return null;
+        }
+
+        private JavaTemplate resourceTemplate(String code, String importFqn, String stub) {
+            return JavaTemplates.builder(code)
+                .imports(importFqn)
+                .dependsOn(stub)
+                .build();
+        }
+
+        @Override
+        public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+            J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
+            J.VariableDeclarations asyncParam = findSuspendedAsyncResponse(m);
+            if (asyncParam != null) {
+                J.MethodDeclaration converted = convertToDeferredResult(m, asyncParam, ctx);
+                if (converted != null) {
+                    return converted;
+                }
+                return addNeedsReview(m, "@Suspended AsyncResponse",
+                    "@Suspended AsyncResponse requires manual migration",
+                    "Return a DeferredResult and call setResult()/setErrorResult() where resume() was called");
+            }
+            String sseType = findSseType(m);
+            if (sseType != null) {
+                return addNeedsReview(m, sseType, null, null);
+            }
+            return m;
+        }
+
+        private J.@Nullable VariableDeclarations findSuspendedAsyncResponse(J.MethodDeclaration method) {
+            for (Statement param : method.getParameters()) {
+                if (!(param instanceof J.VariableDeclarations)) {
+                    continue;
+                }
+                J.VariableDeclarations varDecls = (J.VariableDeclarations) param;
+                JavaType.FullyQualified type = TypeUtils.asFullyQualified(varDecls.getType());
+                if (type == null || !ASYNC_RESPONSE_FQNS.contains(type.getFullyQualifiedName())) {
+                    continue;
+                }
+                for (J.Annotation ann : varDecls.getLeadingAnnotations()) {
+                    JavaType.FullyQualified annType = TypeUtils.asFullyQualified(ann.getType());
+                    if (annType != null && SUSPENDED_FQNS.contains(annType.getFullyQualifiedName())) {
+                        return varDecls;
+                    }
+                }
+            }
+            return null;
+        }
+
+        @Nullable
+        private String findSseType(J.MethodDeclaration method) {
+            if (hasNeedsReview(method)) {
+                return null;
+            }
+            JavaType.FullyQualified returnType = method.getReturnTypeExpression() != null
+                ? TypeUtils.asFullyQualified(method.getReturnTypeExpression().getType())
+                : null;
+            if (returnType != null && SSE_FQNS.contains(returnType.getFullyQualifiedName())) {
+                return returnType.getClassName();
+            }
+            for (Statement param : method.getParameters()) {
+                if (param instanceof J.VariableDeclarations) {
+                    JavaType.FullyQualified type = TypeUtils.asFullyQualified(((J.VariableDeclarations) param).getType());
+                    if (type != null && SSE_FQNS.contains(type.getFullyQualifiedName())) {
+                        return type.getClassName();
+                    }
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Rewrites {@code void m(@Suspended AsyncResponse r)} into a method returning a DeferredResult.
+         * Only applied when the method has no early returns and {@code r} is used exclusively for
+         * {@code resume(..)}; anything else keeps the original code and gets a @NeedsReview.
+         */
+        private J.@Nullable MethodDeclaration convertToDeferredResult(J.MethodDeclaration method,
+                                                                      J.VariableDeclarations asyncParam,
+                                                                      ExecutionContext ctx) {
+            if (method.getBody() == null || asyncParam.getVariables().size() != 1 ||
+                !(method.getReturnTypeExpression() instanceof J.Primitive) ||
+                ((J.Primitive) method.getReturnTypeExpression()).getType() != JavaType.Primitive.Void) {
+                return null;
+            }
+            String name = asyncParam.getVariables().get(0).getSimpleName();
+            if (!onlyResumedAndNoReturns(method.getBody(), name)) {
+                return null;
+            }
+
+            J.Block body = (J.Block) new JavaIsoVisitor<ExecutionContext>() {
+                @Override
+                public J.MethodInvocation visitMethodInvocation(J.MethodInvocation invocation, ExecutionContext c) {
+                    J.MethodInvocation mi = super.visitMethodInvocation(invocation, c);
+                    if (isResumeOn(mi, name)) {
+                        JavaType argType = mi.getArguments().get(0).getType();
+                        String target = TypeUtils.isAssignableTo("java.lang.Throwable", argType)
+                            ? "setErrorResult"
+                            : "setResult";
+                        return mi.withName(mi.getName().withSimpleName(target));
+                    }
+                    return mi;
+                }
+            }.visitNonNull(method.getBody(), ctx, getCursor());
+
+            List<Statement> params = new ArrayList<>();
+            for (Statement param : method.getParameters()) {
+                if (param != asyncParam) {
+                    params.add(param);
+                }
+            }
+            if (params.isEmpty()) {
+                params.add(new J.Empty(Tree.randomId(), Space.EMPTY, Markers.EMPTY));
+            } else {
+                params.set(0, params.get(0).withPrefix(Space.EMPTY));
+            }
+            J.MethodDeclaration signature = method.withParameters(params)
+                .withBody(null)
+                .withPrefix(Space.EMPTY)
+                .withReturnTypeExpression(new J.Identifier(Tree.randomId(),
+                    method.getReturnTypeExpression().getPrefix(), Markers.EMPTY, Collections.emptyList(),
+                    "DeferredResult<Object>", null, null));
+
+            String printedBody = body.withPrefix(Space.EMPTY).print(getCursor());
+            String endWhitespace = body.getEnd().getWhitespace();
+            if (!body.getEnd().getComments().isEmpty() || !printedBody.endsWith(endWhitespace + "}")) {
+                return null;
+            }
+            String indent = body.getStatements().isEmpty()
+                ? body.getEnd().getIndent() + "    "
+                : body.getStatements().get(0).getPrefix().getIndent();
+            String inner = printedBody.substring(1, printedBody.length() - endWhitespace.length() - 1);
+            String code = signature.printTrimmed(getCursor()) + " {\n" +
+                indent + "DeferredResult<Object> " + name + " = new DeferredResult<>();" +
+                inner + "\n" +
+                indent + "return " + name + ";" +
+                endWhitespace + "}";
+
+            for (String fqn : ASYNC_RESPONSE_FQNS) {
+                maybeRemoveImport(fqn);
+            }
+            for (String fqn : SUSPENDED_FQNS) {
+                maybeRemoveImport(fqn);
+            }
+            maybeAddImport(DEFERRED_RESULT);
+            return JavaTemplates.builder(code)
+                .contextSensitive()
+                .imports(DEFERRED_RESULT)
+                .dependsOn(DEFERRED_RESULT_STUB)
+                .build()
+                .apply(getCursor(), method.getCoordinates().replace());
+        }
+
+        private boolean onlyResumedAndNoReturns(J.Block body, String name) {
+            int[] references = {0};
+            int[] resumes = {0};
+            boolean[] hasReturn = {false};
+            new JavaIsoVisitor<Integer>() {
+                @Override
+                public J.Identifier visitIdentifier(J.Identifier identifier, Integer p) {
+                    if (name.equals(identifier.getSimpleName())) {
+                        references[0]++;
+                    }
+                    return super.visitIdentifier(identifier, p);
+                }
+
+                @Override
+                public J.MethodInvocation visitMethodInvocation(J.MethodInvocation invocation, Integer p) {
+                    if (isResumeOn(invocation, name)) {
+                        resumes[0]++;
+                    }
+                    return super.visitMethodInvocation(invocation, p);
+                }
+
+                @Override
+                public J.Return visitReturn(J.Return aReturn, Integer p) {
+                    hasReturn[0] = true;
+                    return aReturn;
+                }
+            }.visit(body, 0);
+            return !hasReturn[0] && references[0] == resumes[0];
+        }
+
+        private boolean isResumeOn(J.MethodInvocation invocation, String name) {
+            return "resume".equals(invocation.getSimpleName()) &&
+                   invocation.getArguments().size() == 1 &&
+                   !(invocation.getArguments().get(0) instanceof J.Empty) &&
+                   invocation.getSelect() instanceof J.Identifier &&
+                   name.equals(((J.Identifier) invocation.getSelect()).getSimpleName());
+        }
+
+        private boolean hasNeedsReview(J.MethodDeclaration method) {
+            return method.getLeadingAnnotations().stream()
+                .anyMatch(a -> "NeedsReview".equals(a.getSimpleName()));
+        }
+
+        private J.MethodDeclaration addNeedsReview(J.MethodDeclaration method, String originalCode,
+                                                   @Nullable String reason, @Nullable String suggestedAction) {
+            if (hasNeedsReview(method)) {
+                return method;
+            }
+            String template = SSE_NEEDS_REVIEW_TEMPLATE;
+            if (reason != null && suggestedAction != null) {
+                template = "@NeedsReview(reason = \"" + reason + "\", category = NeedsReview.Category.MANUAL_MIGRATION, " +
+                           "originalCode = \"#{}\", suggestedAction = \"" + suggestedAction + "\")";
+            }
+            maybeAddImport(NEEDS_REVIEW_FQN);
+            return JavaTemplates.builder(template)
+                .imports(NEEDS_REVIEW_FQN)
+                .dependsOn(JavaTemplates.NEEDS_REVIEW_STUB)
+                .build()
+                .apply(getCursor(), method.getCoordinates().addAnnotation(NEEDS_REVIEW_FIRST), originalCode);
+        }
+    }
+
+    private static boolean usesAsyncOrStreamingTypes(J.CompilationUnit cu) {
+        for (JavaType type : cu.getTypesInUse().getTypesInUse()) {
+            JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+            if (fq == null) {
+                continue;
+            }
+            String fqn = fq.getFullyQualifiedName();
+            if (ASYNC_RESPONSE_FQNS.contains(fqn) || SSE_FQNS.contains(fqn) || STREAMING_OUTPUT_FQNS.contains(fqn)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean usesResponse(J.CompilationUnit cu) {
+        for (JavaType type : cu.getTypesInUse().getTypesInUse()) {
+            JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+            if (fq != null && (fq.getFullyQualifiedName().startsWith("javax.ws.rs.core.Response") ||
+                               fq.getFullyQualifiedName().startsWith("jakarta.ws.rs.core.Response"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String generateConfigurationSource(String pkg) {
+        StringBuilder source = new StringBuilder();
+        if (!pkg.isEmpty()) {
+            source.append("package ").append(pkg).append(";\n\n");
+        }
+        source.append("import java.time.Duration;\n")
+            .append("import org.springframework.beans.factory.annotation.Value;\n")
+            .append("import org.springframework.context.annotation.Configuration;\n")
+            .append("import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;\n")
+            .append("import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;\n\n")
+            .append("/**\n")
+            .append(" * Async request timeout for migrated streaming endpoints (StreamingResponseBody,\n")
+            .append(" * DeferredResult, SseEmitter), long enough for long-running exports. Streams are written\n")
+            .append(" * on Spring Boot's applicationTaskExecutor (spring.task.execution.*), which Boot already\n")
+            .append(" * registers for async requests. Override the timeout with spring.mvc.async.request-timeout.\n")
+            .append(" */\n")
+            .append("@Configuration\n")
+            .append("public class ").append(CONFIGURATION_CLASS_NAME).append(" implements WebMvcConfigurer {\n\n")
+            .append("    private final Duration requestTimeout;\n\n")
+            .append("    public ").append(CONFIGURATION_CLASS_NAME)
+            .append("(@Value(\"${spring.mvc.async.request-timeout:").append(ASYNC_REQUEST_TIMEOUT_MINUTES)
+            .append("m}\") Duration requestTimeout) {\n")
+            .append("        this.requestTimeout = requestTimeout;\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {\n")
+            .append("        configurer.setDefaultTimeout(requestTimeout.toMillis());\n")
+            .append("    }\n")
+            .append("}\n");
+        return source.toString();
+    }
+
+    private static String extractSourceRoot(String sourcePath, String pkg) {
+        int lastSlash = sourcePath.lastIndexOf('/');
+        String dir = lastSlash >= 0 ? sourcePath.substring(0, lastSlash) : "";
+        String pkgPath = pkg.replace('.', '/');
+        if (!pkgPath.isEmpty() && dir.endsWith(pkgPath)) {
+            dir = dir.substring(0, dir.length() - pkgPath.length());
+            if (dir.endsWith("/")) {
+                dir = dir.substring(0, dir.length() - 1);
+            }
+        }
+        return dir;
+    }
+
+    private boolean shouldMigrate(@Nullable Path sourcePath) {
+        ProjectConfiguration.JaxRsStrategy override = ProjectConfiguration.JaxRsStrategy.fromString(strategy);
+        if (override != null) {
+            return override == ProjectConfiguration.JaxRsStrategy.MIGRATE_TO_SPRING_MVC;
+        }
+        if (sourcePath == null) {
+            return ProjectConfiguration.mavenDefaults().getJaxRsStrategy()
+                    == ProjectConfiguration.JaxRsStrategy.MIGRATE_TO_SPRING_MVC;
+        }
+        ProjectConfiguration config = ProjectConfigurationLoader.loadWithInheritance(extractProjectRoot(sourcePath));
+        return config.getJaxRsStrategy() == ProjectConfiguration.JaxRsStrategy.MIGRATE_TO_SPRING_MVC;
+    }
+
+    private static Path extractProjectRoot(Path sourcePath) {
+        if (sourcePath == null) {
+            return Paths.get(System.getProperty("user.dir"));
+        }
+        Path current = sourcePath.toAbsolutePath().getParent();
+        while (current != null) {
+            if (Files.exists(current.resolve("pom.xml")) ||
+                Files.exists(current.resolve("build.gradle")) ||
+                Files.exists(current.resolve("project.yaml"))) {
+                return current;
+            }
+            current = current.getParent();
+        }
+        return Paths.get(System.getProperty("user.dir"));
+    }
+}
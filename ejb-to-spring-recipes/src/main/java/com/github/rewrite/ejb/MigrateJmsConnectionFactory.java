@@ -1,5 +1,7 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
@@ -20,6 +22,7 @@
  * - spring-boot-starter-activemq is on classpath: Uses spring.activemq.* properties
  * - Otherwise: Uses embedded broker
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class MigrateJmsConnectionFactory extends Recipe {
@@ -107,9 +110,8 @@ private boolean isConnectionFactory(JavaType type) {
             }
 
             private boolean isJmsDestinationDefinition(J.Annotation ann) {
-                return TypeUtils.isOfClassType(ann.getType(), JAKARTA_JMS_DESTINATION_DEF) ||
-                       TypeUtils.isOfClassType(ann.getType(), JAVAX_JMS_DESTINATION_DEF) ||
-                       TypeUtils.isOfClassType(ann.getType(), JAKARTA_JMS_DESTINATION_DEFS) ||
+                return JavaEeAnnotation.JMS_DESTINATION_DEFINITION.matches(ann) ||
+                       JavaEeAnnotation.JMS_DESTINATION_DEFINITIONS.matches(ann) ||
                        "JMSDestinationDefinition".equals(ann.getSimpleName()) ||
                        "JMSDestinationDefinitions".equals(ann.getSimpleName());
             }
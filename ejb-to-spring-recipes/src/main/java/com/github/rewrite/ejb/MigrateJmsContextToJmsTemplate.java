@@ -1,5 +1,7 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
@@ -24,9 +26,9 @@
 import org.openrewrite.java.tree.TypeUtils;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Migrates simple JMSContext usage to JmsTemplate for direct send patterns.
@@ -37,6 +39,7 @@
  * If unsupported JMSContext usage is detected for a field, it stays as-is and
  * gets a @NeedsReview marker.
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class MigrateJmsContextToJmsTemplate extends ScanningRecipe<MigrateJmsContextToJmsTemplate.Accumulator> {
@@ -56,14 +59,17 @@ public String getDescription() {
         return "Replaces JMSContext fields used only for createProducer().send(...) with Spring's JmsTemplate.";
     }
 
+    /**
+     * Filled by concurrent scanners.
+     */
     static class Accumulator {
-        final Map<String, Usage> usageByFieldKey = new HashMap<>();
-        final Map<String, java.util.Set<String>> contextFieldsByOwner = new HashMap<>();
+        final Map<String, Usage> usageByFieldKey = new ConcurrentHashMap<>();
+        final Map<String, java.util.Set<String>> contextFieldsByOwner = new ConcurrentHashMap<>();
     }
 
     static class Usage {
-        boolean supportedSend;
-        boolean unsupported;
+        volatile boolean supportedSend;
+        volatile boolean unsupported;
     }
 
     @Override
@@ -86,7 +92,7 @@ public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations v
                         String owner = resolveOwnerKey();
                         if (owner != null) {
                             java.util.Set<String> fields = acc.contextFieldsByOwner
-                                .computeIfAbsent(owner, k -> new java.util.HashSet<>());
+                                .computeIfAbsent(owner, k -> ConcurrentHashMap.newKeySet());
                             for (J.VariableDeclarations.NamedVariable var : vd.getVariables()) {
                                 fields.add(var.getSimpleName());
                             }
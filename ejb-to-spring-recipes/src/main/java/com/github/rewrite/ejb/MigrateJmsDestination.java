@@ -2,6 +2,8 @@
 
 import com.github.rewrite.ejb.config.ProjectConfiguration;
 import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
@@ -13,6 +15,8 @@
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -38,6 +42,7 @@
  * 1. Verify the generated JmsConfiguration works with their JMS provider
  * 2. Adjust Queue implementations if necessary
  */
+@RecipeIo(reads = {MigrationArtifact.JAVA, MigrationArtifact.OTHER}, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class MigrateJmsDestination extends ScanningRecipe<MigrateJmsDestination.Accumulator> {
@@ -66,6 +71,7 @@ public String getDescription() {
     }
 
     static class DestinationInfo {
+        String sourcePath;
         String fieldName;
         String destinationName;
         DestinationKind kind;
@@ -94,15 +100,59 @@ static class DestinationEntry {
         }
     }
 
+    /**
+     * Filled by concurrent scanners. Destinations are sorted by source path in generate(), and of the sources that
+     * determine a provider, a source root or a package the one with the smallest source path wins, so the outcome
+     * does not depend on the order in which files are scanned.
+     */
     static class Accumulator {
-        List<DestinationInfo> destinations = new ArrayList<>();
-        Set<String> detectedSourceRoots = new LinkedHashSet<>();
-        Set<Path> existingConfigPaths = new HashSet<>();
+        final List<DestinationInfo> destinations = Collections.synchronizedList(new ArrayList<>());
+        final Set<String> detectedSourceRoots = new ConcurrentSkipListSet<>();
+        final Set<Path> existingConfigPaths = ConcurrentHashMap.newKeySet();
         String mainPackage = null;
         String testPackage = null;
         String mainSourceRoot = null;
         String testSourceRoot = null;
         ProjectConfiguration.JmsProvider jmsProvider = null;
+
+        private String jmsProviderPath;
+        private String mainSourceRootPath;
+        private String testSourceRootPath;
+        private String mainPackagePath;
+        private String testPackagePath;
+
+        synchronized void recordJmsProvider(String path, ProjectConfiguration.JmsProvider provider) {
+            if (jmsProviderPath == null || path.compareTo(jmsProviderPath) < 0) {
+                jmsProviderPath = path;
+                jmsProvider = provider;
+            }
+        }
+
+        synchronized void recordMainSourceRoot(String path, String root) {
+            if (mainSourceRootPath == null || path.compareTo(mainSourceRootPath) < 0) {
+                mainSourceRootPath = path;
+                mainSourceRoot = root;
+            }
+        }
+
+        synchronized void recordTestSourceRoot(String path, String root) {
+            if (testSourceRootPath == null || path.compareTo(testSourceRootPath) < 0) {
+                testSourceRootPath = path;
+                testSourceRoot = root;
+            }
+        }
+
+        synchronized void recordPackage(String path, boolean test, String pkg) {
+            if (test) {
+                if (testPackagePath == null || path.compareTo(testPackagePath) < 0) {
+                    testPackagePath = path;
+                    testPackage = pkg;
+                }
+            } else if (mainPackagePath == null || path.compareTo(mainPackagePath) < 0) {
+                mainPackagePath = path;
+                mainPackage = pkg;
+            }
+        }
     }
 
     @Override
@@ -124,8 +174,8 @@ public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionCon
                             extractProjectRoot(cu.getSourcePath()));
 
                     // Capture JMS provider from configuration (if set)
-                    if (acc.jmsProvider == null && config.getJmsProvider() != null) {
-                        acc.jmsProvider = config.getJmsProvider();
+                    if (config.getJmsProvider() != null) {
+                        acc.recordJmsProvider(sourcePath, config.getJmsProvider());
                     }
 
                     // Detect source roots from configuration
@@ -133,18 +183,14 @@ public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionCon
                         int idx = sourcePath.indexOf(root + "/");
                         if (idx >= 0) {
                             acc.detectedSourceRoots.add(sourcePath.substring(0, idx));
-                            if (acc.mainSourceRoot == null) {
-                                acc.mainSourceRoot = root;
-                            }
+                            acc.recordMainSourceRoot(sourcePath, root);
                             break;
                         }
                     }
                     for (String root : config.getTestSourceRoots()) {
                         int idx = sourcePath.indexOf(root + "/");
                         if (idx >= 0) {
-                            if (acc.testSourceRoot == null) {
-                                acc.testSourceRoot = root;
-                            }
+                            acc.recordTestSourceRoot(sourcePath, root);
                             break;
                         }
                     }
@@ -188,6 +234,7 @@ public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations v
                     boolean isTest = config.isTestSource(sourcePath);
 
                     DestinationInfo info = new DestinationInfo();
+                    info.sourcePath = sourcePath;
                     info.fieldName = vd.getVariables().get(0).getSimpleName();
                     info.destinationName = destinationName.name;
                     info.kind = detectKind(type);
@@ -202,15 +249,7 @@ public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations v
                     acc.destinations.add(info);
 
                     // Track packages for config generation
-                    if (isTest) {
-                        if (acc.testPackage == null) {
-                            acc.testPackage = info.packageName;
-                        }
-                    } else {
-                        if (acc.mainPackage == null) {
-                            acc.mainPackage = info.packageName;
-                        }
-                    }
+                    acc.recordPackage(sourcePath, isTest, info.packageName);
 
                     return vd;
                 }
@@ -416,6 +455,8 @@ public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionConte
         }
 
         List<SourceFile> generated = new ArrayList<>();
+        // stable, so destinations keep their order within a source
+        acc.destinations.sort(Comparator.comparing(info -> info.sourcePath));
 
         Map<String, DestinationEntry> mainQueues = new LinkedHashMap<>();
         Map<String, DestinationEntry> mainTopics = new LinkedHashMap<>();
@@ -1,5 +1,7 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
@@ -28,6 +30,9 @@
  * IMPORTANT: This recipe MUST run in a separate phase AFTER MigratePersistenceXmlToProperties
  * (which creates application.properties).
  */
+@RecipeIo(
+    reads = {MigrationArtifact.JAVA, MigrationArtifact.CONFIGURATION, MigrationArtifact.OTHER},
+    generates = {MigrationArtifact.JAVA, MigrationArtifact.CONFIGURATION})
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class MigrateJndiStringToValue extends ScanningRecipe<MigrateJndiStringToValue.Accumulator> {
@@ -51,18 +56,32 @@ public String getDescription() {
     }
 
     static class StringPropertyInfo {
+        String sourcePath;      // Declaring source file
         String jndiPath;        // Original JNDI path
         String propertyName;    // Spring property name (kebab-case)
         String fieldName;       // Java field name
         String className;       // Containing class
     }
 
+    /**
+     * Filled by concurrent scanners. Properties are sorted by source path in generate(), and of several
+     * application.properties the one with the smallest source path wins, so the outcome does not depend on the
+     * order in which files are scanned.
+     */
     static class Accumulator {
-        List<StringPropertyInfo> stringProperties = new ArrayList<>();
-        boolean hasApplicationProperties = false;
-        String applicationPropertiesPath = null;
-        boolean propertiesWritten = false;
-        String existingPropertiesContent = "";
+        final List<StringPropertyInfo> stringProperties = Collections.synchronizedList(new ArrayList<>());
+        volatile boolean hasApplicationProperties = false;
+        volatile String applicationPropertiesPath = null;
+        volatile boolean propertiesWritten = false;
+        volatile String existingPropertiesContent = "";
+
+        synchronized void recordApplicationProperties(String path, String content) {
+            if (applicationPropertiesPath == null || path.compareTo(applicationPropertiesPath) < 0) {
+                applicationPropertiesPath = path;
+                existingPropertiesContent = content;
+                hasApplicationProperties = true;
+            }
+        }
     }
 
     @Override
@@ -81,9 +100,7 @@ public Tree visit(Tree tree, ExecutionContext ctx) {
 
                     // Detect application.properties - can be any SourceFile type
                     if (path.endsWith("application.properties") && path.contains("src/main/resources")) {
-                        acc.hasApplicationProperties = true;
-                        acc.applicationPropertiesPath = path;
-                        acc.existingPropertiesContent = sf.printAll();
+                        acc.recordApplicationProperties(path, sf.printAll());
                     }
                 }
 
@@ -130,6 +147,7 @@ public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations v
             // Only collect if we have both @NeedsReview with JNDI and @Autowired
             if (jndiPath != null && hasAutowired) {
                 StringPropertyInfo info = new StringPropertyInfo();
+                info.sourcePath = getCursor().firstEnclosingOrThrow(J.CompilationUnit.class).getSourcePath().toString();
                 info.jndiPath = jndiPath;
                 info.propertyName = jndiPathToPropertyName(jndiPath);
 
@@ -509,6 +527,8 @@ private J.Annotation createValueAnnotation(String propertyName, Space prefix) {
 
     @Override
     public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        // stable, so properties keep their order within a source
+        acc.stringProperties.sort(Comparator.comparing(info -> info.sourcePath));
         // Properties are appended directly to application.properties in the visitor phase
         return Collections.emptyList();
     }
@@ -34,6 +34,8 @@
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.stream.Collectors;
 
 /**
@@ -153,16 +155,20 @@ public String getDescription() {
                "Supports jakarta.faces.*, javax.faces.*, primefaces.*, and org.apache.myfaces.* parameters.";
     }
 
+    /**
+     * Filled by concurrent scanners. A module is rarely made of more than one web.xml, so its params are extracted
+     * while holding the module.
+     */
     static class Accumulator {
-        Map<Path, ProjectConfiguration> configCache = new HashMap<>();
-        Map<Path, ModuleData> modules = new LinkedHashMap<>();
+        final Map<Path, ProjectConfiguration> configCache = new ConcurrentHashMap<>();
+        final Map<Path, ModuleData> modules = new ConcurrentSkipListMap<>();
     }
 
     static class ModuleData {
         final Path moduleRoot;
         final Path applicationPropertiesPath;
-        boolean hasApplicationProperties = false;
-        boolean applicationPropertiesAlreadyMigrated = false;
+        volatile boolean hasApplicationProperties = false;
+        volatile boolean applicationPropertiesAlreadyMigrated = false;
         // Extracted JSF context-params: param-name -> param-value (per module)
         Map<String, String> jsfContextParams = new LinkedHashMap<>();
         // Generated properties
@@ -213,7 +219,9 @@ public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
                     if (path.endsWith("web.xml") && tree instanceof Xml.Document) {
                         Xml.Document doc = (Xml.Document) tree;
                         if (isWebAppDocument(doc)) {
-                            extractJsfContextParams(doc, module);
+                            synchronized (module) {
+                                extractJsfContextParams(doc, module);
+                            }
                         }
                     }
                 }
@@ -166,7 +166,7 @@ public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations v
 
             // Use JavaTemplate to add the initializer
             // Template: Logger.getLogger(#{}.class.getName())
-            JavaTemplate initTemplate = JavaTemplate.builder(
+            JavaTemplate initTemplate = JavaTemplates.builder(
                     "Logger.getLogger(" + enclosingClassName + ".class.getName())"
                 )
                 .contextSensitive()
@@ -495,20 +495,20 @@ private J.ClassDeclaration addContainerFactoryConfiguration(J.ClassDeclaration c
             }
 
             String source = buildContainerFactoryConfigurationSource();
-            JavaTemplate.Builder templateBuilder = JavaTemplate.builder(source)
+            JavaTemplates.Builder templateBuilder = JavaTemplates.builder(source)
                 .imports(
                     SPRING_CONFIGURATION_FQN,
                     SPRING_BEAN_FQN,
                     DEFAULT_JMS_LISTENER_CONTAINER_FACTORY_FQN,
                     JAKARTA_JMS_CONNECTION_FACTORY_FQN
                 )
-                .javaParser(JavaParser.fromJavaVersion().dependsOn(
+                .dependsOn(
                     CONFIGURATION_STUB,
                     BEAN_STUB,
                     DEFAULT_JMS_LISTENER_CONTAINER_FACTORY_STUB,
                     CONNECTION_FACTORY_STUB,
                     SESSION_STUB
-                ))
+                )
                 .contextSensitive();
 
             if (needsSessionImport) {
@@ -313,8 +313,7 @@ private boolean isNamedAnnotation(J.Annotation ann) {
             if ("Named".equals(ann.getSimpleName())) {
                 return true;
             }
-            return TypeUtils.isOfClassType(ann.getType(), NAMED_JAKARTA) ||
-                   TypeUtils.isOfClassType(ann.getType(), NAMED_JAVAX);
+            return JavaEeAnnotation.NAMED.matches(ann);
         }
 
         private Expression extractValueExpression(J.Annotation ann) {
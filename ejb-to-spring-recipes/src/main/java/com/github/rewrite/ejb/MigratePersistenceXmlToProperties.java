@@ -16,6 +16,7 @@
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -32,7 +33,13 @@
  * - hibernate.show_sql → spring.jpa.show-sql
  * - hibernate.format_sql → spring.jpa.properties.hibernate.format_sql
  * - jta-data-source → TODO comment for spring.datasource.* configuration
- * - EclipseLink properties → TODO comments (Spring Boot uses Hibernate by default)
+ * - shared-cache-mode → spring.jpa.properties.jakarta.persistence.sharedCache.mode
+ * - legacy Hibernate cache/plan-cache names → current Hibernate 6.x names
+ * - performance-relevant EclipseLink properties (batch writing, shared cache, connection pool,
+ *   flush mode) → Hibernate/Spring Boot equivalents, see {@link #ECLIPSELINK_TO_HIBERNATE}
+ * - per-entity EclipseLink cache hints (eclipselink.cache.shared/size/type.&lt;Entity&gt;)
+ *   → hibernate.classcache.&lt;fqcn&gt; where the entity is listed in a &lt;class&gt; element
+ * - other EclipseLink properties → TODO comments (Spring Boot uses Hibernate by default)
  * <p>
  * Note: Hibernate 6.x (used in Spring Boot 3.x) auto-detects the database dialect,
  * so spring.jpa.database-platform is usually not required anymore. The recipe adds
@@ -44,6 +51,40 @@ public class MigratePersistenceXmlToProperties extends ScanningRecipe<MigratePer
 
     private static final String DEFAULT_RESOURCE_ROOT = "src/main/resources";
 
+    /**
+     * EclipseLink properties whose value can be carried over 1:1 to a Hibernate or
+     * Spring Boot property. Keys starting with {@code spring.} are written as-is,
+     * all others are prefixed with {@code spring.jpa.properties.}.
+     */
+    static final Map<String, String> ECLIPSELINK_TO_HIBERNATE = Map.of(
+        "eclipselink.jdbc.fetch-size", "hibernate.jdbc.fetch_size",
+        "eclipselink.persistence-context.flush-mode", "org.hibernate.flushMode",
+        "eclipselink.jdbc.connections.max", "spring.datasource.hikari.maximum-pool-size",
+        "eclipselink.jdbc.connections.min", "spring.datasource.hikari.minimum-idle"
+    );
+
+    private static final String READ_CONNECTIONS_MAX = "eclipselink.jdbc.read-connections.max";
+    private static final String WRITE_CONNECTIONS_MAX = "eclipselink.jdbc.write-connections.max";
+    private static final String HIKARI_MAXIMUM_POOL_SIZE = "spring.datasource.hikari.maximum-pool-size";
+    private static final String USE_SECOND_LEVEL_CACHE = "hibernate.cache.use_second_level_cache";
+    private static final String USE_QUERY_CACHE = "hibernate.cache.use_query_cache";
+
+    /**
+     * Hibernate 4/5 property names that were renamed or folded into a single setting
+     * in Hibernate 6.x. Prefix entries (ending in '.') rename the prefix only.
+     */
+    static final Map<String, String> LEGACY_HIBERNATE_PROPERTIES = Map.of(
+        "hibernate.query.plan_cache_max_strong_references", "hibernate.query.plan_parameter_metadata_max_size",
+        "hibernate.query.plan_cache_max_soft_references", "hibernate.query.plan_cache_max_size",
+        "hibernate.ejb.classcache.", "hibernate.classcache.",
+        "hibernate.ejb.collectioncache.", "hibernate.collectioncache."
+    );
+
+    /**
+     * EclipseLink batch size when eclipselink.jdbc.batch-writing is enabled without an explicit size.
+     */
+    private static final String ECLIPSELINK_DEFAULT_BATCH_SIZE = "100";
+
     @Override
     public String getDisplayName() {
         return "Migrate persistence.xml to Spring Boot application.properties";
@@ -54,19 +95,52 @@ public String getDescription() {
         return "Extracts JPA configuration from persistence.xml and generates Spring Boot application.properties entries.";
     }
 
+    /**
+     * Filled by concurrent scanners. Of several persistence.xml files the one with the smallest source path is
+     * migrated, so the outcome does not depend on the order in which files are scanned; it is only extracted in
+     * generate(), once all files have been seen.
+     */
     static class Accumulator {
-        boolean foundPersistenceXml = false;
-        boolean hasApplicationProperties = false;
-        boolean applicationPropertiesAlreadyMigrated = false;
+        volatile boolean foundPersistenceXml = false;
+        volatile boolean hasApplicationProperties = false;
+        volatile boolean applicationPropertiesAlreadyMigrated = false;
         String persistenceUnitName = null;
         String dataSourceJndi = null;
+        String sharedCacheMode = null;
+        List<String> entityClasses = new ArrayList<>();
+        Set<String> emittedPropertyKeys = new HashSet<>();
         Map<String, String> jpaProperties = new LinkedHashMap<>();
         List<String> springProperties = new ArrayList<>();
         List<String> todoComments = new ArrayList<>();
         Path persistenceModuleRoot = null;
         String persistenceResourceRoot = DEFAULT_RESOURCE_ROOT;
-        Map<Path, ProjectConfiguration> configCache = new HashMap<>();
-        Map<Path, Path> applicationPropertiesPaths = new HashMap<>();
+        final Map<Path, ProjectConfiguration> configCache = new ConcurrentHashMap<>();
+        final Map<Path, Path> applicationPropertiesPaths = new ConcurrentHashMap<>();
+        private Xml.Document persistenceXml;
+        private boolean persistenceXmlExtracted;
+
+        synchronized void recordPersistenceXml(Xml.Document doc, Path moduleRoot, String resourceRoot) {
+            if (persistenceXmlExtracted) {
+                return;
+            }
+            if (persistenceXml == null || doc.getSourcePath().compareTo(persistenceXml.getSourcePath()) < 0) {
+                persistenceXml = doc;
+                persistenceModuleRoot = moduleRoot;
+                persistenceResourceRoot = resourceRoot;
+                foundPersistenceXml = true;
+            }
+        }
+
+        /**
+         * Returns the persistence.xml to migrate the first time it is called, {@code null} afterwards.
+         */
+        @Nullable
+        synchronized Xml.Document takePersistenceXml() {
+            Xml.Document doc = persistenceXml;
+            persistenceXml = null;
+            persistenceXmlExtracted = true;
+            return doc;
+        }
     }
 
     @Override
@@ -99,12 +173,9 @@ public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
                         }
                     }
 
-                    // Parse persistence.xml (only process once)
-                    if (path.endsWith("persistence.xml") && tree instanceof Xml.Document && !acc.foundPersistenceXml) {
-                        acc.foundPersistenceXml = true;
-                        acc.persistenceModuleRoot = moduleRoot;
-                        acc.persistenceResourceRoot = resolveResourceRoot(config);
-                        extractPersistenceConfig((Xml.Document) tree, acc);
+                    // Parse persistence.xml (only process once, see generate)
+                    if (path.endsWith("persistence.xml") && tree instanceof Xml.Document) {
+                        acc.recordPersistenceXml((Xml.Document) tree, moduleRoot, resolveResourceRoot(config));
                     }
                 }
                 return tree;
@@ -118,6 +189,8 @@ private void extractPersistenceConfig(Xml.Document doc, Accumulator acc) {
             private final XPathMatcher jtaDataSourceMatcher = new XPathMatcher("/persistence/persistence-unit/jta-data-source");
             private final XPathMatcher nonJtaDataSourceMatcher = new XPathMatcher("/persistence/persistence-unit/non-jta-data-source");
             private final XPathMatcher propertyMatcher = new XPathMatcher("/persistence/persistence-unit/properties/property");
+            private final XPathMatcher sharedCacheModeMatcher = new XPathMatcher("/persistence/persistence-unit/shared-cache-mode");
+            private final XPathMatcher classMatcher = new XPathMatcher("/persistence/persistence-unit/class");
 
             @Override
             public Xml visitTag(Xml.Tag tag, Accumulator accumulator) {
@@ -139,6 +212,15 @@ public Xml visitTag(Xml.Tag tag, Accumulator accumulator) {
                     });
                 }
 
+                if (sharedCacheModeMatcher.matches(getCursor())) {
+                    tag.getValue().ifPresent(value -> accumulator.sharedCacheMode = value.trim());
+                }
+
+                if (classMatcher.matches(getCursor())) {
+                    // Listed entity classes are used to resolve per-entity cache hints to FQCNs
+                    tag.getValue().ifPresent(value -> accumulator.entityClasses.add(value.trim()));
+                }
+
                 if (propertyMatcher.matches(getCursor())) {
                     // Extract property name and value
                     String name = null;
@@ -182,6 +264,20 @@ private void convertToSpringProperties(Accumulator acc) {
             acc.todoComments.add("# END DATASOURCE TODO");
         }
 
+        // Shared cache mode (second-level cache selection)
+        if (acc.sharedCacheMode != null) {
+            addSpringProperty(acc, "spring.jpa.properties.jakarta.persistence.sharedCache.mode", acc.sharedCacheMode);
+        }
+
+        // Without the application server provided Infinispan, an enabled cache fails at boot until a
+        // region factory is configured; GenerateSecondLevelCacheConfig configures one and re-enables it
+        if (enablesSecondLevelCache(acc) && !hasConfiguredRegionFactory(acc)) {
+            acc.todoComments.add("# NOTE: Second-level cache disabled until a region factory is configured");
+            acc.todoComments.add("# GenerateSecondLevelCacheConfig enables it with the JCache region factory for cached entities");
+            addSpringProperty(acc, "spring.jpa.properties." + USE_SECOND_LEVEL_CACHE, "false");
+            addSpringProperty(acc, "spring.jpa.properties." + USE_QUERY_CACHE, "false");
+        }
+
         // Map JPA properties to Spring Boot equivalents
         for (Map.Entry<String, String> entry : acc.jpaProperties.entrySet()) {
             String name = entry.getKey();
@@ -192,7 +288,7 @@ private void convertToSpringProperties(Accumulator acc) {
                 "javax.persistence.schema-generation.database.action".equals(name)) {
                 String ddlAuto = mapSchemaGenerationAction(value);
                 if (ddlAuto != null) {
-                    acc.springProperties.add("spring.jpa.hibernate.ddl-auto=" + ddlAuto);
+                    addSpringProperty(acc, "spring.jpa.hibernate.ddl-auto", ddlAuto);
                 } else if ("drop".equalsIgnoreCase(value)) {
                     // "drop" has no safe Spring equivalent - don't auto-map to avoid data loss
                     acc.todoComments.add("# TODO: schema-generation.database.action=drop has no Spring equivalent");
@@ -202,29 +298,30 @@ private void convertToSpringProperties(Accumulator acc) {
             // Hibernate dialect - Note: Hibernate 6.x (Spring Boot 3.x) auto-detects dialect
             else if ("hibernate.dialect".equals(name)) {
                 acc.todoComments.add("# NOTE: spring.jpa.database-platform is usually not needed with Hibernate 6.x (auto-detected)");
-                acc.springProperties.add("spring.jpa.database-platform=" + value);
+                addSpringProperty(acc, "spring.jpa.database-platform", value);
             }
             // Hibernate show_sql
             else if ("hibernate.show_sql".equals(name)) {
-                acc.springProperties.add("spring.jpa.show-sql=" + value);
+                addSpringProperty(acc, "spring.jpa.show-sql", value);
             }
             // Hibernate format_sql
             else if ("hibernate.format_sql".equals(name)) {
-                acc.springProperties.add("spring.jpa.properties.hibernate.format_sql=" + value);
+                addSpringProperty(acc, "spring.jpa.properties.hibernate.format_sql", value);
             }
             // Hibernate use_sql_comments
             else if ("hibernate.use_sql_comments".equals(name)) {
-                acc.springProperties.add("spring.jpa.properties.hibernate.use_sql_comments=" + value);
+                addSpringProperty(acc, "spring.jpa.properties.hibernate.use_sql_comments", value);
             }
             // Hibernate interceptor (deprecated property name → modern property name)
             // hibernate.ejb.interceptor is the deprecated JPA-era property name
             // In Hibernate 6.x (Spring Boot 3.x), use hibernate.session_factory.interceptor
             else if ("hibernate.ejb.interceptor".equals(name)) {
-                acc.springProperties.add("spring.jpa.properties.hibernate.session_factory.interceptor=" + value);
+                addSpringProperty(acc, "spring.jpa.properties.hibernate.session_factory.interceptor", value);
             }
-            // EclipseLink properties - add as comments since Spring Boot uses Hibernate by default
+            // EclipseLink properties - translate performance-relevant ones, comment out the rest
+            // since Spring Boot uses Hibernate by default
             else if (name.startsWith("eclipselink.")) {
-                acc.todoComments.add("# EclipseLink property (Spring Boot uses Hibernate): " + name + "=" + value);
+                mapEclipseLinkProperty(name, value, acc);
             }
             // SQL load script
             else if ("jakarta.persistence.sql-load-script-source".equals(name) ||
@@ -234,38 +331,200 @@ else if ("jakarta.persistence.sql-load-script-source".equals(name) ||
                     acc.todoComments.add("# TODO: Move " + value + " to " +
                         acc.persistenceResourceRoot + "/data.sql");
                 }
-                acc.springProperties.add("spring.sql.init.mode=always");
+                addSpringProperty(acc, "spring.sql.init.mode", "always");
                 // Important: When using ddl-auto with data.sql, defer initialization is often needed
                 acc.todoComments.add("# NOTE: If using ddl-auto=create with data.sql, you may need:");
                 acc.todoComments.add("# spring.jpa.defer-datasource-initialization=true");
             }
             // JDBC properties - can be directly mapped to spring.datasource.*
             else if ("jakarta.persistence.jdbc.url".equals(name) || "javax.persistence.jdbc.url".equals(name)) {
-                acc.springProperties.add("spring.datasource.url=" + value);
+                addSpringProperty(acc, "spring.datasource.url", value);
             }
             else if ("jakarta.persistence.jdbc.user".equals(name) || "javax.persistence.jdbc.user".equals(name)) {
-                acc.springProperties.add("spring.datasource.username=" + value);
+                addSpringProperty(acc, "spring.datasource.username", value);
             }
             else if ("jakarta.persistence.jdbc.password".equals(name) || "javax.persistence.jdbc.password".equals(name)) {
-                acc.springProperties.add("spring.datasource.password=" + value);
+                addSpringProperty(acc, "spring.datasource.password", value);
             }
             else if ("jakarta.persistence.jdbc.driver".equals(name) || "javax.persistence.jdbc.driver".equals(name)) {
-                acc.springProperties.add("spring.datasource.driver-class-name=" + value);
+                addSpringProperty(acc, "spring.datasource.driver-class-name", value);
             }
             // Other jakarta.persistence properties - pass through to spring.jpa.properties
             // These are standard JPA properties that Hibernate/Spring can process directly
             else if (name.startsWith("jakarta.persistence.") || name.startsWith("javax.persistence.")) {
                 // Passthrough: jakarta.persistence.* → spring.jpa.properties.jakarta.persistence.*
                 // This includes: lock.timeout, query.timeout, validation.mode, etc.
-                acc.springProperties.add("spring.jpa.properties." + name + "=" + value);
+                addSpringProperty(acc, "spring.jpa.properties." + name, value);
+            }
+            // Legacy Hibernate property names (plan cache, per-entity/collection cache hints)
+            else if (resolveLegacyHibernateProperty(name) != null) {
+                addSpringProperty(acc, "spring.jpa.properties." + resolveLegacyHibernateProperty(name), value);
+            }
+            // Container-provided Infinispan second-level cache is replaced by GenerateSecondLevelCacheConfig
+            else if (isInfinispanCacheProperty(name, value)) {
+                acc.todoComments.add("# NOTE: Dropped WildFly Infinispan cache setting " + name + "=" + value);
             }
             // Pass through other Hibernate properties
             else if (name.startsWith("hibernate.")) {
-                acc.springProperties.add("spring.jpa.properties." + name + "=" + value);
+                addSpringProperty(acc, "spring.jpa.properties." + name, value);
             }
         }
     }
 
+    /**
+     * Translates a single EclipseLink property. Batching, shared cache and connection pool
+     * settings are carried over to their Hibernate/Spring Boot equivalents; per-entity cache
+     * hints become hibernate.classcache entries where the entity class can be resolved.
+     */
+    private void mapEclipseLinkProperty(String name, String value, Accumulator acc) {
+        String mapped = ECLIPSELINK_TO_HIBERNATE.get(name);
+        boolean readWritePools = acc.jpaProperties.containsKey(READ_CONNECTIONS_MAX) ||
+            acc.jpaProperties.containsKey(WRITE_CONNECTIONS_MAX);
+        if (readWritePools && (HIKARI_MAXIMUM_POOL_SIZE.equals(mapped) ||
+            READ_CONNECTIONS_MAX.equals(name) || WRITE_CONNECTIONS_MAX.equals(name))) {
+            mapReadWriteConnectionPools(acc);
+        } else if (mapped != null) {
+            addSpringProperty(acc, mapped.startsWith("spring.") ? mapped : "spring.jpa.properties." + mapped, value);
+        } else if ("eclipselink.jdbc.batch-writing".equals(name)) {
+            if ("none".equalsIgnoreCase(value)) {
+                return;
+            }
+            // EclipseLink orders and groups statements when batching; Hibernate needs explicit ordering
+            String size = acc.jpaProperties.getOrDefault("eclipselink.jdbc.batch-writing.size", ECLIPSELINK_DEFAULT_BATCH_SIZE);
+            addSpringProperty(acc, "spring.jpa.properties.hibernate.jdbc.batch_size", size);
+            addSpringProperty(acc, "spring.jpa.properties.hibernate.order_inserts", "true");
+            addSpringProperty(acc, "spring.jpa.properties.hibernate.order_updates", "true");
+        } else if ("eclipselink.jdbc.batch-writing.size".equals(name)) {
+            // Consumed together with eclipselink.jdbc.batch-writing; without it EclipseLink does not batch
+            if (!acc.jpaProperties.containsKey("eclipselink.jdbc.batch-writing")) {
+                acc.todoComments.add("# EclipseLink property (Spring Boot uses Hibernate): " + name + "=" + value);
+            }
+        } else if ("eclipselink.cache.shared.default".equals(name)) {
+            if ("false".equalsIgnoreCase(value)) {
+                addSpringProperty(acc, "spring.jpa.properties.hibernate.cache.use_second_level_cache", "false");
+            } else {
+                acc.todoComments.add("# NOTE: EclipseLink caches all entities by default (" + name + "=" + value + ")");
+                acc.todoComments.add("# Hibernate only caches entities selected via shared-cache-mode and a second-level cache provider");
+            }
+        } else if ("eclipselink.jdbc.cache-statements".equals(name) || "eclipselink.jdbc.cache-statements.size".equals(name)) {
+            acc.todoComments.add("# TODO: Statement caching (" + name + "=" + value + ") is a driver setting in Spring Boot");
+            acc.todoComments.add("# Configure via spring.datasource.hikari.data-source-properties.* (e.g. cachePrepStmts/prepStmtCacheSize)");
+        } else if (name.startsWith("eclipselink.cache.")) {
+            mapEclipseLinkCacheHint(name, value, acc);
+        } else {
+            acc.todoComments.add("# EclipseLink property (Spring Boot uses Hibernate): " + name + "=" + value);
+        }
+    }
+
+    /**
+     * EclipseLink sizes separate read and write connection pools, Spring Boot has a single Hikari pool.
+     * Both maximums are kept in a review note and the Hikari maximum is their sum; a pool without its own
+     * maximum falls back to eclipselink.jdbc.connections.max.
+     */
+    private void mapReadWriteConnectionPools(Accumulator acc) {
+        if (acc.emittedPropertyKeys.contains(HIKARI_MAXIMUM_POOL_SIZE)) {
+            return;
+        }
+        String defaultMax = acc.jpaProperties.get("eclipselink.jdbc.connections.max");
+        String readMax = acc.jpaProperties.getOrDefault(READ_CONNECTIONS_MAX, defaultMax);
+        String writeMax = acc.jpaProperties.getOrDefault(WRITE_CONNECTIONS_MAX, defaultMax);
+        acc.todoComments.add("# TODO: Review " + HIKARI_MAXIMUM_POOL_SIZE + ", EclipseLink used separate pools: " +
+            READ_CONNECTIONS_MAX + "=" + (readMax != null ? readMax : "unset") + ", " +
+            WRITE_CONNECTIONS_MAX + "=" + (writeMax != null ? writeMax : "unset"));
+        try {
+            int maximum = (readMax != null ? Integer.parseInt(readMax.trim()) : 0) +
+                (writeMax != null ? Integer.parseInt(writeMax.trim()) : 0);
+            addSpringProperty(acc, HIKARI_MAXIMUM_POOL_SIZE, String.valueOf(maximum));
+        } catch (NumberFormatException e) {
+            acc.todoComments.add("# Set " + HIKARI_MAXIMUM_POOL_SIZE + " for the combined read and write load");
+        }
+    }
+
+    /**
+     * Maps eclipselink.cache.{shared,size,type}.&lt;Entity|default&gt;. Only shared=true has a
+     * property equivalent in Hibernate; sizing and cache type belong to the cache provider.
+     */
+    private void mapEclipseLinkCacheHint(String name, String value, Accumulator acc) {
+        String remainder = name.substring("eclipselink.cache.".length());
+        int dot = remainder.indexOf('.');
+        if (dot < 0) {
+            acc.todoComments.add("# EclipseLink property (Spring Boot uses Hibernate): " + name + "=" + value);
+            return;
+        }
+        String setting = remainder.substring(0, dot);
+        String entity = remainder.substring(dot + 1);
+        if ("shared".equals(setting) && "true".equalsIgnoreCase(value) && !"default".equals(entity)) {
+            String fqcn = resolveEntityClass(entity, acc);
+            if (fqcn != null) {
+                addSpringProperty(acc, "spring.jpa.properties.hibernate.classcache." + fqcn, "read-write");
+                return;
+            }
+            acc.todoComments.add("# TODO: Entity " + entity + " was cached by EclipseLink (" + name + "=true)");
+            acc.todoComments.add("# Annotate it with @Cacheable or set spring.jpa.properties.hibernate.classcache.<fqcn>=read-write");
+        } else if ("shared".equals(setting)) {
+            acc.todoComments.add("# NOTE: Entity " + entity + " excluded from EclipseLink shared cache (" + name + "=" + value + ")");
+            acc.todoComments.add("# Hibernate does not cache entities unless selected via @Cacheable/shared-cache-mode");
+        } else if ("size".equals(setting) || "type".equals(setting)) {
+            acc.todoComments.add("# TODO: Cache region " + setting + " for " + entity + " (" + name + "=" + value + ")");
+            acc.todoComments.add("# Configure the region in the JCache provider configuration");
+        } else {
+            acc.todoComments.add("# EclipseLink property (Spring Boot uses Hibernate): " + name + "=" + value);
+        }
+    }
+
+    /**
+     * Resolves an EclipseLink entity name (simple name or FQCN) against the &lt;class&gt;
+     * elements of the persistence unit.
+     */
+    private @Nullable String resolveEntityClass(String entity, Accumulator acc) {
+        for (String className : acc.entityClasses) {
+            if (className.equals(entity) || className.endsWith("." + entity)) {
+                return className;
+            }
+        }
+        return null;
+    }
+
+    private static @Nullable String resolveLegacyHibernateProperty(String name) {
+        for (Map.Entry<String, String> legacy : LEGACY_HIBERNATE_PROPERTIES.entrySet()) {
+            String legacyName = legacy.getKey();
+            if (legacyName.endsWith(".") ? name.startsWith(legacyName) : name.equals(legacyName)) {
+                return legacy.getValue() + name.substring(legacyName.length());
+            }
+        }
+        return null;
+    }
+
+    private static boolean isInfinispanCacheProperty(String name, String value) {
+        return name.startsWith("hibernate.cache.infinispan.") ||
+            ("hibernate.cache.region.factory_class".equals(name) && value.toLowerCase(Locale.ROOT).contains("infinispan"));
+    }
+
+    private static boolean enablesSecondLevelCache(Accumulator acc) {
+        if ("true".equalsIgnoreCase(acc.jpaProperties.get(USE_SECOND_LEVEL_CACHE)) ||
+            "true".equalsIgnoreCase(acc.jpaProperties.get(USE_QUERY_CACHE))) {
+            return true;
+        }
+        return acc.sharedCacheMode != null &&
+            !"NONE".equalsIgnoreCase(acc.sharedCacheMode) &&
+            !"UNSPECIFIED".equalsIgnoreCase(acc.sharedCacheMode);
+    }
+
+    private static boolean hasConfiguredRegionFactory(Accumulator acc) {
+        String regionFactory = acc.jpaProperties.get("hibernate.cache.region.factory_class");
+        return regionFactory != null && !isInfinispanCacheProperty("hibernate.cache.region.factory_class", regionFactory);
+    }
+
+    /**
+     * Adds a Spring property unless the same key was already emitted by this mapping
+     * (e.g. the second-level cache switched off before the persistence.xml value is passed through).
+     */
+    private static void addSpringProperty(Accumulator acc, String key, String value) {
+        if (acc.emittedPropertyKeys.add(key)) {
+            acc.springProperties.add(key + "=" + value);
+        }
+    }
+
     private String mapSchemaGenerationAction(String action) {
         if (action == null) return null;
         switch (action.toLowerCase()) {
@@ -372,6 +631,11 @@ private SourceFile updateApplicationProperties(SourceFile sourceFile, Accumulato
 
     @Override
     public List<SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        Xml.Document persistenceXml = acc.takePersistenceXml();
+        if (persistenceXml != null) {
+            extractPersistenceConfig(persistenceXml, acc);
+        }
+
         // If no application.properties exists and not already migrated, generate one
         if (!acc.hasApplicationProperties && !acc.applicationPropertiesAlreadyMigrated &&
             acc.foundPersistenceXml &&
@@ -428,7 +692,7 @@ private static String resolveResourceRoot(ProjectConfiguration config) {
         return resourceRoots.get(0);
     }
 
-    private static Path extractProjectRoot(Path sourcePath) {
+    static Path extractProjectRoot(Path sourcePath) {
         if (sourcePath == null) {
             return Paths.get(System.getProperty("user.dir"));
         }
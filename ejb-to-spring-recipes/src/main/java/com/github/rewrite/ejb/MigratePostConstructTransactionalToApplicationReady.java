@@ -113,8 +113,7 @@ public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, Ex
         }
 
         private boolean isPostConstruct(J.Annotation ann) {
-            if (TypeUtils.isOfClassType(ann.getType(), JAKARTA_POST_CONSTRUCT) ||
-                TypeUtils.isOfClassType(ann.getType(), JAVAX_POST_CONSTRUCT)) {
+            if (JavaEeAnnotation.POST_CONSTRUCT.matches(ann)) {
                 return true;
             }
             return "PostConstruct".equals(ann.getSimpleName());
@@ -122,8 +121,7 @@ private boolean isPostConstruct(J.Annotation ann) {
 
         private boolean isTransactional(J.Annotation ann) {
             if (TypeUtils.isOfClassType(ann.getType(), SPRING_TRANSACTIONAL) ||
-                TypeUtils.isOfClassType(ann.getType(), JAKARTA_TRANSACTIONAL) ||
-                TypeUtils.isOfClassType(ann.getType(), JAVAX_TRANSACTIONAL)) {
+                JavaEeAnnotation.TRANSACTIONAL.matches(ann)) {
                 return true;
             }
             return "Transactional".equals(ann.getSimpleName());
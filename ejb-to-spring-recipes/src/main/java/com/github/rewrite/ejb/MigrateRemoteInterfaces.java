@@ -2,6 +2,8 @@
 
 import com.github.rewrite.ejb.config.ProjectConfiguration;
 import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
@@ -35,6 +37,7 @@
  * @see MigrateRemoteToMarker
  * @see ProjectConfiguration.RemoteStrategy
  */
+@RecipeIo(reads = {MigrationArtifact.JAVA, MigrationArtifact.OTHER}, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class MigrateRemoteInterfaces extends Recipe {
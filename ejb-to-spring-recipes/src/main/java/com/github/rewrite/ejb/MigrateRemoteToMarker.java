@@ -25,8 +25,6 @@
 public class MigrateRemoteToMarker extends Recipe {
 
     private static final String NEEDS_REVIEW_FQN = "com.github.rewrite.ejb.annotations.NeedsReview";
-    private static final AnnotationMatcher REMOTE_JAVAX = new AnnotationMatcher("@javax.ejb.Remote");
-    private static final AnnotationMatcher REMOTE_JAKARTA = new AnnotationMatcher("@jakarta.ejb.Remote");
 
     @Override
     public String getDisplayName() {
@@ -53,7 +51,7 @@ public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Ex
             // Check if this class has @Remote annotation
             boolean hasRemote = false;
             for (J.Annotation ann : cd.getLeadingAnnotations()) {
-                if (REMOTE_JAVAX.matches(ann) || REMOTE_JAKARTA.matches(ann)) {
+                if (JavaEeAnnotation.REMOTE.matches(ann)) {
                     hasRemote = true;
                     break;
                 }
@@ -102,7 +100,7 @@ public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Ex
             boolean firstNonRemote = true;
             for (J.Annotation ann : cd.getLeadingAnnotations()) {
                 // Skip @Remote annotation - it should be removed
-                if (REMOTE_JAVAX.matches(ann) || REMOTE_JAKARTA.matches(ann)) {
+                if (JavaEeAnnotation.REMOTE.matches(ann)) {
                     // Also remove the javax.ejb.Remote or jakarta.ejb.Remote import
                     maybeRemoveImport("javax.ejb.Remote");
                     maybeRemoveImport("jakarta.ejb.Remote");
@@ -15,6 +15,8 @@
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 /**
  * Migrates @Remote EJB interfaces to REST controllers with delegation.
@@ -78,10 +80,14 @@ public String getDescription() {
                "and delegation to the actual implementation. Creates DTOs for multi-parameter methods.";
     }
 
+    /**
+     * Filled by concurrent scanners. Interfaces are kept sorted and implementations of the same priority are told
+     * apart by name, so the outcome does not depend on the order in which files are scanned.
+     */
     static class Accumulator {
-        Map<String, RemoteInterfaceInfo> remoteInterfaces = new LinkedHashMap<>();
-        Map<String, List<ImplementationInfo>> implementationsByInterface = new LinkedHashMap<>();
-        Set<Path> existingSourcePaths = new HashSet<>();
+        final Map<String, RemoteInterfaceInfo> remoteInterfaces = new ConcurrentSkipListMap<>();
+        final Map<String, List<ImplementationInfo>> implementationsByInterface = new ConcurrentHashMap<>();
+        final Set<Path> existingSourcePaths = ConcurrentHashMap.newKeySet();
     }
 
     static class RemoteInterfaceInfo {
@@ -188,12 +194,6 @@ static class ImplementationInfo {
         }
     }
 
-    private static final AnnotationMatcher REMOTE_JAVAX = new AnnotationMatcher("@javax.ejb.Remote");
-    private static final AnnotationMatcher REMOTE_JAKARTA = new AnnotationMatcher("@jakarta.ejb.Remote");
-    private static final AnnotationMatcher STATELESS_JAVAX = new AnnotationMatcher("@javax.ejb.Stateless");
-    private static final AnnotationMatcher STATELESS_JAKARTA = new AnnotationMatcher("@jakarta.ejb.Stateless");
-    private static final AnnotationMatcher SINGLETON_JAVAX = new AnnotationMatcher("@javax.ejb.Singleton");
-    private static final AnnotationMatcher SINGLETON_JAKARTA = new AnnotationMatcher("@jakarta.ejb.Singleton");
     private static final AnnotationMatcher SERVICE = new AnnotationMatcher("@org.springframework.stereotype.Service");
     private static final AnnotationMatcher COMPONENT = new AnnotationMatcher("@org.springframework.stereotype.Component");
 
@@ -249,7 +249,7 @@ private void scanCompilationUnit(J.CompilationUnit cu, Accumulator acc) {
                 if (!acc.remoteInterfaces.containsKey(fqn)) {
                     String packageName = cu.getPackageDeclaration().getPackageName();
                     List<MethodInfo> methods = extractMethods(classDecl);
-                    acc.remoteInterfaces.put(fqn, new RemoteInterfaceInfo(
+                    acc.remoteInterfaces.putIfAbsent(fqn, new RemoteInterfaceInfo(
                             fqn, packageName, classDecl.getSimpleName(), mainSourceRoot, methods));
                 }
             }
@@ -277,15 +277,15 @@ private void scanForImplementations(J.ClassDeclaration classDecl, Accumulator ac
         for (JavaType.FullyQualified iface : interfaces) {
             String ifaceFqn = iface.getFullyQualifiedName();
             acc.implementationsByInterface
-                    .computeIfAbsent(ifaceFqn, k -> new ArrayList<>())
+                    .computeIfAbsent(ifaceFqn, k -> Collections.synchronizedList(new ArrayList<>()))
                     .add(new ImplementationInfo(implFqn, implSimpleName, priority));
         }
     }
 
     private int determinePriority(J.ClassDeclaration classDecl) {
         for (J.Annotation ann : classDecl.getLeadingAnnotations()) {
-            if (STATELESS_JAVAX.matches(ann) || STATELESS_JAKARTA.matches(ann) ||
-                SINGLETON_JAVAX.matches(ann) || SINGLETON_JAKARTA.matches(ann)) {
+            JavaEeAnnotation annotation = JavaEeAnnotation.of(ann);
+            if (annotation == JavaEeAnnotation.STATELESS || annotation == JavaEeAnnotation.SINGLETON) {
                 return 1; // Highest priority: EJB annotations
             }
             if (SERVICE.matches(ann) || COMPONENT.matches(ann)) {
@@ -297,7 +297,7 @@ private int determinePriority(J.ClassDeclaration classDecl) {
 
     private boolean hasRemoteAnnotation(J.ClassDeclaration classDecl) {
         for (J.Annotation ann : classDecl.getLeadingAnnotations()) {
-            if (REMOTE_JAVAX.matches(ann) || REMOTE_JAKARTA.matches(ann)) {
+            if (JavaEeAnnotation.REMOTE.matches(ann)) {
                 return true;
             }
         }
@@ -635,7 +635,7 @@ private ImplementationInfo findBestImplementation(String interfaceFqn, Accumulat
             return null;
         }
         return impls.stream()
-                .min(Comparator.comparingInt(i -> i.priority))
+                .min(Comparator.<ImplementationInfo>comparingInt(i -> i.priority).thenComparing(i -> i.fqn))
                 .orElse(null);
     }
 
@@ -187,8 +187,7 @@ private boolean isJndiLookupEligible(J.VariableDeclarations varDecls) {
         }
 
         private boolean isResourceAnnotation(J.Annotation ann) {
-            return TypeUtils.isOfClassType(ann.getType(), JAKARTA_RESOURCE) ||
-                   TypeUtils.isOfClassType(ann.getType(), JAVAX_RESOURCE);
+            return JavaEeAnnotation.RESOURCE.matches(ann);
         }
 
         private String extractLookupValue(J.Annotation annotation) {
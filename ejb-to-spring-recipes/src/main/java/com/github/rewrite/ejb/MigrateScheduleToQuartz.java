@@ -85,8 +85,8 @@ public String getDescription() {
 
     // ========== ScanningRecipe Methods ==========
 
-    // Key for storing actual transformation flag in ExecutionContext (per-module)
-    private static final String ACTUAL_TRANSFORMATION_KEY = "MigrateScheduleToQuartz.actualTransformation.";
+    // Path of the generated auto-configuration class below its source root
+    private static final String AUTO_CONFIG_PATH = "com/github/rewrite/migration/config/QuartzJobFactoryAutoConfiguration.java";
     // The auto-configuration class we generate
     private static final String AUTO_CONFIG_FQN = "com.github.migration.config.QuartzJobFactoryAutoConfiguration";
 
@@ -112,7 +112,7 @@ private static String normalizePath(String path) {
             return normalized;
         }
 
-        void recordSourceRoot(String sourceRoot, boolean isTestSource) {
+        synchronized void recordSourceRoot(String sourceRoot, boolean isTestSource) {
             SourceRootInfo info = sourceRoots.computeIfAbsent(sourceRoot, k -> new SourceRootInfo(k, isTestSource));
             // Check if there are pending imports for this source root - use exact path match only
             String expectedResources = normalizePath(deriveResourcesRootStatic(sourceRoot));
@@ -141,7 +141,19 @@ void recordTransformation(String sourceRoot) {
             info.hasTransformation = true;
         }
 
-        void recordExistingImports(String resourcesRoot, String content) {
+        void recordExistingAutoConfiguration(String sourceRoot) {
+            SourceRootInfo info = sourceRoots.computeIfAbsent(sourceRoot, k ->
+                new SourceRootInfo(k, sourceRoot.contains("/test/") ||
+                                      sourceRoot.endsWith("/test/java") ||
+                                      sourceRoot.contains("src/test")));
+            info.hasAutoConfiguration = true;
+        }
+
+        /**
+         * Synchronized with {@link #recordSourceRoot}, so imports scanned while their source root is recorded are
+         * neither lost in the pending map nor matched twice.
+         */
+        synchronized void recordExistingImports(String resourcesRoot, String content) {
             String normalizedResourcesRoot = normalizePath(resourcesRoot);
             // Try to match to an existing source root - use strict exact path match only
             for (SourceRootInfo info : sourceRoots.values()) {
@@ -162,6 +174,7 @@ static class SourceRootInfo {
         final String sourceRoot;
         final boolean isTestSource;
         volatile boolean hasTransformation;
+        volatile boolean hasAutoConfiguration;
         volatile String existingImportsContent;
 
         SourceRootInfo(String sourceRoot, boolean isTestSource) {
@@ -208,6 +221,21 @@ public Tree visit(Tree tree, ExecutionContext ctx) {
                                                    sourceRoot.contains("src/test");
                             acc.recordSourceRoot(sourceRoot, isTestSource);
                         }
+
+                        // Record the transformation the visitor makes in this cycle, or made in an earlier one when
+                        // ResolveTimerStrategy only marked the module in that same cycle, so generate() writes the
+                        // shared job factory configuration for this source root
+                        if (willTransform(cu, ctx) || hasMigratedJob(cu)) {
+                            acc.recordTransformation(sourceRoot != null ? sourceRoot : "src/main/java");
+                        }
+                    }
+
+                    // The job factory configuration of an earlier cycle or run is not generated again
+                    if (sourcePathStr.endsWith(AUTO_CONFIG_PATH)) {
+                        String sourceRoot = sourcePathStr.length() > AUTO_CONFIG_PATH.length()
+                            ? sourcePathStr.substring(0, sourcePathStr.length() - AUTO_CONFIG_PATH.length() - 1)
+                            : "";
+                        acc.recordExistingAutoConfiguration(sourceRoot);
                     }
                 }
                 return tree;
@@ -215,6 +243,48 @@ public Tree visit(Tree tree, ExecutionContext ctx) {
         };
     }
 
+    /**
+     * Returns true if the visitor automatically transforms at least one @Schedule method of the compilation unit.
+     */
+    private boolean willTransform(J.CompilationUnit cu, ExecutionContext ctx) {
+        if (!TimerStrategySupport.isStrategy(cu, ProjectConfiguration.TimerStrategy.QUARTZ) ||
+            new UsesType<>(SCHEDULE_FQN, false).visit(cu, ctx) == cu) {
+            return false;
+        }
+        QuartzTransformationVisitor analyzer = new QuartzTransformationVisitor();
+        for (J.ClassDeclaration classDecl : cu.getClasses()) {
+            if (!analyzer.analyzeClass(classDecl).transformableMethods.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if a class of the compilation unit holds a job that delegates to it, as the visitor generates them.
+     */
+    private static boolean hasMigratedJob(J.CompilationUnit cu) {
+        for (J.ClassDeclaration classDecl : cu.getClasses()) {
+            for (Statement stmt : classDecl.getBody().getStatements()) {
+                if (!(stmt instanceof J.ClassDeclaration)) {
+                    continue;
+                }
+                J.ClassDeclaration nested = (J.ClassDeclaration) stmt;
+                boolean implementsJob = nested.getImplements() != null && nested.getImplements().stream()
+                    .anyMatch(i -> i instanceof J.Identifier && "Job".equals(((J.Identifier) i).getSimpleName()) ||
+                                   TypeUtils.isOfClassType(i.getType(), QUARTZ_JOB_FQN));
+                boolean hasDelegate = nested.getBody().getStatements().stream()
+                    .filter(J.VariableDeclarations.class::isInstance)
+                    .flatMap(v -> ((J.VariableDeclarations) v).getVariables().stream())
+                    .anyMatch(v -> "delegate".equals(v.getSimpleName()));
+                if (implementsJob && hasDelegate) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * Detects the source root from a CompilationUnit by comparing the package path with the source path.
      * Returns null if unable to determine.
@@ -274,17 +344,11 @@ public Collection<SourceFile> generate(SourceRootAccumulator acc, ExecutionConte
             }
         }
 
-        // Fallback: If no source roots tracked but context indicates transformation happened,
-        // generate with default paths (for backward compatibility with tests)
-        if (transformedRoots.isEmpty()) {
-            Boolean actualTransformation = ctx.getMessage(ACTUAL_TRANSFORMATION_KEY + "default");
-            if (actualTransformation != null && actualTransformation) {
-                transformedRoots.add(new SourceRootInfo("src/main/java", false));
-            }
-        }
-
         // Generate files for each source root that had transformations
         for (SourceRootInfo info : transformedRoots) {
+            if (info.hasAutoConfiguration) {
+                continue;
+            }
             String sourceRoot = info.sourceRoot;
             if (sourceRoot == null) {
                 sourceRoot = "src/main/java";
@@ -293,7 +357,7 @@ public Collection<SourceFile> generate(SourceRootAccumulator acc, ExecutionConte
 
             // Generate shared QuartzJobFactoryAutoConfiguration
             String autoConfigContent = generateAutoConfigurationClass();
-            Path autoConfigPath = Paths.get(sourceRoot + "/com/github/rewrite/migration/config/QuartzJobFactoryAutoConfiguration.java");
+            Path autoConfigPath = Paths.get(sourceRoot + "/" + AUTO_CONFIG_PATH);
             generated.add(PlainText.builder()
                 .sourcePath(autoConfigPath)
                 .text(autoConfigContent)
@@ -413,7 +477,7 @@ public SchedulerFactoryBeanCustomizer schedulerCustomizer(JobFactory quartzJobFa
     public TreeVisitor<?, ExecutionContext> getVisitor(SourceRootAccumulator acc) {
         TreeVisitor<?, ExecutionContext> delegate = Preconditions.check(
             new UsesType<>(SCHEDULE_FQN, false),
-            new QuartzTransformationVisitor(acc)
+            new QuartzTransformationVisitor()
         );
         return new JavaIsoVisitor<ExecutionContext>() {
             @Override
@@ -657,12 +721,6 @@ private static String capitalize(String s) {
 
     private class QuartzTransformationVisitor extends JavaIsoVisitor<ExecutionContext> {
 
-        private final SourceRootAccumulator acc;
-
-        QuartzTransformationVisitor(SourceRootAccumulator acc) {
-            this.acc = acc;
-        }
-
         @Override
         public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
             J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
@@ -685,17 +743,6 @@ public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Ex
             // Apply transformations
             if (!analysis.transformableMethods.isEmpty()) {
                 cd = applyAutomaticTransformation(cd, analysis.transformableMethods, beanNamePrefix, ctx);
-
-                // Record transformation for the source root of this compilation unit
-                J.CompilationUnit cu = getCursor().firstEnclosingOrThrow(J.CompilationUnit.class);
-                String sourceRoot = detectSourceRoot(cu);
-                // Fall back to default source root if detection fails (e.g., in tests without full paths)
-                if (sourceRoot == null) {
-                    sourceRoot = "src/main/java";
-                    // Also set context message for fallback in generate()
-                    ctx.putMessage(ACTUAL_TRANSFORMATION_KEY + "default", true);
-                }
-                acc.recordTransformation(sourceRoot);
             }
 
             if (!analysis.fallbackMethods.isEmpty()) {
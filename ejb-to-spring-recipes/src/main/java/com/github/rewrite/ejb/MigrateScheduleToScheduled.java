@@ -1,6 +1,8 @@
 package com.github.rewrite.ejb;
 
 import com.github.rewrite.ejb.config.ProjectConfiguration;
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
@@ -20,6 +22,8 @@
  * - @Schedule(minute = "X", hour = "Y", ...) -> @Scheduled(cron = "0 X Y * * *")
  * - @Schedules({@Schedule(...), @Schedule(...)}) -> Multiple @Scheduled annotations
  * - @Schedule(timezone = "...") -> @Scheduled(cron = "...", zone = "...")
+ * - With {@code cluster: shedlock}: additionally @SchedulerLock(name = "Class.method", ...)
+ *   with lockAtMostFor/lockAtLeastFor derived from the schedule interval
  * <p>
  * Cases NOT handled (delegated to marker recipe):
  * - @Schedule with Timer parameter in method signature
@@ -30,6 +34,7 @@
  * EJB Schedule format: second, minute, hour, dayOfMonth, month, dayOfWeek, year
  * Spring Cron format: second minute hour dayOfMonth month dayOfWeek
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class MigrateScheduleToScheduled extends Recipe {
@@ -70,6 +75,14 @@ public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionCon
 
     private static class ScheduleVisitor extends JavaIsoVisitor<ExecutionContext> {
 
+        private boolean shedLock;
+
+        @Override
+        public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+            shedLock = TimerStrategySupport.isShedLockCluster(cu);
+            return super.visitCompilationUnit(cu, ctx);
+        }
+
         @Override
         public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
             J.MethodDeclaration md = super.visitMethodDeclaration(method, ctx);
@@ -87,6 +100,9 @@ public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, Ex
 
             // Process annotations
             List<J.Annotation> newAnnotations = new ArrayList<>();
+            List<ScheduleConfig> migratedConfigs = new ArrayList<>();
+            Space lockPrefix = null;
+            int lockIndex = -1;
             boolean modified = false;
 
             for (J.Annotation ann : md.getLeadingAnnotations()) {
@@ -94,6 +110,9 @@ public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, Ex
                     // Single @Schedule annotation
                     ScheduleConfig config = extractScheduleConfig(ann);
                     newAnnotations.add(createScheduledAnnotation(config, ann.getPrefix()));
+                    migratedConfigs.add(config);
+                    lockPrefix = Space.format(determineWhitespace(ann, md));
+                    lockIndex = newAnnotations.size();
                     modified = true;
                     maybeAddImport(SCHEDULED_FQN);
                     doAfterVisit(new RemoveImport<>(SCHEDULE_FQN, true));
@@ -107,8 +126,11 @@ public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, Ex
                         ScheduleConfig config = extractScheduleConfig(innerAnn);
                         Space prefix = first ? ann.getPrefix() : Space.format(whitespace);
                         newAnnotations.add(createScheduledAnnotation(config, prefix));
+                        migratedConfigs.add(config);
                         first = false;
                     }
+                    lockPrefix = Space.format(whitespace);
+                    lockIndex = newAnnotations.size();
                     modified = true;
                     maybeAddImport(SCHEDULED_FQN);
                     doAfterVisit(new RemoveImport<>(SCHEDULE_FQN, true));
@@ -118,6 +140,13 @@ public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, Ex
                 }
             }
 
+            if (modified && shedLock && !hasSchedulerLock(md)) {
+                // One lock per method, placed right after the migrated @Scheduled annotations
+                newAnnotations.add(lockIndex, createSchedulerLockAnnotation(
+                    lockName(md), estimateMinIntervalSeconds(migratedConfigs), lockPrefix));
+                maybeAddImport(SCHEDULER_LOCK_FQN);
+            }
+
             if (modified) {
                 md = md.withLeadingAnnotations(newAnnotations);
             }
@@ -125,6 +154,21 @@ public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, Ex
             return md;
         }
 
+        private boolean hasSchedulerLock(J.MethodDeclaration md) {
+            return md.getLeadingAnnotations().stream()
+                .anyMatch(a -> TypeUtils.isOfClassType(a.getType(), SCHEDULER_LOCK_FQN) ||
+                               "SchedulerLock".equals(a.getSimpleName()));
+        }
+
+        /**
+         * ShedLock lock names must be unique per job across the cluster: {@code SimpleClassName.method}.
+         */
+        private String lockName(J.MethodDeclaration md) {
+            J.ClassDeclaration classDecl = getCursor().firstEnclosing(J.ClassDeclaration.class);
+            String className = classDecl != null ? classDecl.getSimpleName() : "Job";
+            return className + "." + md.getSimpleName();
+        }
+
         /**
          * Determines the whitespace to use for subsequent annotations when expanding @Schedules.
          */
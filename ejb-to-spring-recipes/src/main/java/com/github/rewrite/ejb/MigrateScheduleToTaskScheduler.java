@@ -1,6 +1,8 @@
 package com.github.rewrite.ejb;
 
 import com.github.rewrite.ejb.config.ProjectConfiguration;
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
@@ -31,6 +33,8 @@
  *   </li>
  *   <li>Removes Timer parameter from method signature</li>
  *   <li>Removes @Schedule annotation (replaced by programmatic scheduling)</li>
+ *   <li>With {@code cluster: shedlock}: adds @SchedulerLock to the method and schedules it through
+ *       a lazily self-injected proxy ({@code self::method}) so ShedLock's method interceptor applies</li>
  * </ul>
  * <p>
  * Fallback to marker annotation only for unresolvable cases:
@@ -38,6 +42,7 @@
  * - Multiple @Schedules on same method
  * - Dynamic timer creation patterns
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class MigrateScheduleToTaskScheduler extends Recipe {
@@ -50,44 +55,8 @@ public class MigrateScheduleToTaskScheduler extends Recipe {
     private static final String POST_CONSTRUCT_FQN = "jakarta.annotation.PostConstruct";
     private static final String AUTOWIRED_FQN = "org.springframework.beans.factory.annotation.Autowired";
     private static final String TIME_UNIT_FQN = "java.util.concurrent.TimeUnit";
-
-    // Stub classes for JavaParser
-    private static final String TASK_SCHEDULER_STUB =
-        "package org.springframework.scheduling;\n" +
-        "import java.util.concurrent.ScheduledFuture;\n" +
-        "public interface TaskScheduler {\n" +
-        "    ScheduledFuture<?> schedule(Runnable task, org.springframework.scheduling.Trigger trigger);\n" +
-        "}\n";
-
-    private static final String CRON_TRIGGER_STUB =
-        "package org.springframework.scheduling.support;\n" +
-        "import org.springframework.scheduling.Trigger;\n" +
-        "public class CronTrigger implements Trigger {\n" +
-        "    public CronTrigger(String expression) {}\n" +
-        "}\n";
-
-    private static final String TRIGGER_STUB =
-        "package org.springframework.scheduling;\n" +
-        "public interface Trigger {}\n";
-
-    private static final String POST_CONSTRUCT_STUB =
-        "package jakarta.annotation;\n" +
-        "import java.lang.annotation.*;\n" +
-        "@Target(ElementType.METHOD)\n" +
-        "@Retention(RetentionPolicy.RUNTIME)\n" +
-        "public @interface PostConstruct {}\n";
-
-    private static final String AUTOWIRED_STUB =
-        "package org.springframework.beans.factory.annotation;\n" +
-        "import java.lang.annotation.*;\n" +
-        "@Target({ElementType.FIELD, ElementType.METHOD, ElementType.CONSTRUCTOR})\n" +
-        "@Retention(RetentionPolicy.RUNTIME)\n" +
-        "public @interface Autowired {}\n";
-
-    @SuppressWarnings("rawtypes")
-    private static final JavaParser.Builder SPRING_PARSER =
-        JavaParser.fromJavaVersion()
-            .dependsOn(TASK_SCHEDULER_STUB, CRON_TRIGGER_STUB, TRIGGER_STUB, POST_CONSTRUCT_STUB, AUTOWIRED_STUB);
+    private static final String LAZY_FQN = "org.springframework.context.annotation.Lazy";
+    private static final String SELF_FIELD_NAME = "self";
 
     @Override
     public String getDisplayName() {
@@ -126,6 +95,14 @@ public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionCon
 
     private class TaskSchedulerTransformationVisitor extends JavaIsoVisitor<ExecutionContext> {
 
+        private boolean shedLock;
+
+        @Override
+        public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+            shedLock = TimerStrategySupport.isShedLockCluster(cu);
+            return super.visitCompilationUnit(cu, ctx);
+        }
+
         @Override
         public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
             // First pass: analyze methods to determine what transformations are needed
@@ -197,6 +174,15 @@ private J.ClassDeclaration applyAutomaticTransformation(J.ClassDeclaration class
                 cd = transformMethod(cd, tm, suffix, ctx, tracker);
             }
 
+            if (shedLock) {
+                // @SchedulerLock is applied by a Spring proxy; this::method would bypass it
+                List<Statement> statements = new ArrayList<>(cd.getBody().getStatements());
+                statements.add(0, createSelfField(cd));
+                cd = cd.withBody(cd.getBody().withStatements(statements));
+                maybeAddImport(LAZY_FQN);
+                maybeAddImport(SCHEDULER_LOCK_FQN);
+            }
+
             // Add imports based on actual API usage found during transformation
             maybeAddImport(TASK_SCHEDULER_FQN);
             maybeAddImport(AUTOWIRED_FQN);
@@ -263,8 +249,11 @@ private J.ClassDeclaration transformMethod(J.ClassDeclaration classDecl,
                     J.MethodDeclaration md = (J.MethodDeclaration) stmt;
                     if (md.getId().equals(tm.method.getId())) {
                         // Transform this method:
-                        // 1. Remove @Schedule annotation
-                        md = removeScheduleAnnotation(md);
+                        // 1. Remove @Schedule annotation (replaced by @SchedulerLock in a ShedLock cluster)
+                        md = shedLock
+                            ? replaceScheduleWithSchedulerLock(md, classDecl.getSimpleName() + "." + methodName,
+                                                               tm.analysis.intervalSeconds)
+                            : removeScheduleAnnotation(md);
                         // 2. Remove Timer parameter
                         md = removeTimerParameter(md);
                         // 3. Replace Timer API calls (and track usage)
@@ -280,7 +269,8 @@ private J.ClassDeclaration transformMethod(J.ClassDeclaration classDecl,
 
             // Add @PostConstruct init method at the end
             newStatements.add(createPostConstructMethod(initMethodName, schedulerFieldName,
-                                                         futureFieldName, cronFieldName, methodName));
+                                                         futureFieldName, cronFieldName,
+                                                         shedLock ? SELF_FIELD_NAME : "this", methodName));
 
             return classDecl.withBody(classDecl.getBody().withStatements(newStatements));
         }
@@ -461,11 +451,12 @@ private Statement createTimerInfoField(String fieldName, String value) {
 
         private Statement createPostConstructMethod(String methodName, String schedulerField,
                                                      String futureField, String cronField,
-                                                     String targetMethod) {
+                                                     String receiver, String targetMethod) {
             // @PostConstruct
             // public void initScheduler() {
             //     this.scheduledFuture = taskScheduler.schedule(this::targetMethod, new CronTrigger(CRON_EXPRESSION));
             // }
+            // (receiver is "self" instead of "this" when the target method carries @SchedulerLock)
 
             JavaType.ShallowClass postConstructType = JavaType.ShallowClass.build(POST_CONSTRUCT_FQN);
             J.Annotation postConstructAnn = new J.Annotation(
@@ -484,7 +475,7 @@ private Statement createPostConstructMethod(String methodName, String schedulerF
             J.MemberReference methodRef = new J.MemberReference(
                 Tree.randomId(), Space.EMPTY, Markers.EMPTY,
                 JRightPadded.build(new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY,
-                    Collections.emptyList(), "this", null, null)),
+                    Collections.emptyList(), receiver, null, null)),
                 null,
                 JLeftPadded.build(new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY,
                     Collections.emptyList(), targetMethod, null, null)),
@@ -569,6 +560,67 @@ private Statement createPostConstructMethod(String methodName, String schedulerF
             );
         }
 
+        private Statement createSelfField(J.ClassDeclaration classDecl) {
+            // @Lazy
+            // @Autowired
+            // private OrderJob self;
+            J.Annotation lazyAnn = new J.Annotation(
+                Tree.randomId(), Space.format("\n    "), Markers.EMPTY,
+                new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, Collections.emptyList(),
+                    "Lazy", JavaType.ShallowClass.build(LAZY_FQN), null),
+                null
+            );
+            J.Annotation autowiredAnn = new J.Annotation(
+                Tree.randomId(), Space.format("\n    "), Markers.EMPTY,
+                new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, Collections.emptyList(),
+                    "Autowired", JavaType.ShallowClass.build(AUTOWIRED_FQN), null),
+                null
+            );
+
+            J.Identifier typeIdent = new J.Identifier(
+                Tree.randomId(), Space.format(" "), Markers.EMPTY, Collections.emptyList(),
+                classDecl.getSimpleName(), classDecl.getType(), null
+            );
+
+            J.VariableDeclarations.NamedVariable namedVar = new J.VariableDeclarations.NamedVariable(
+                Tree.randomId(), Space.format(" "), Markers.EMPTY,
+                new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, Collections.emptyList(),
+                    SELF_FIELD_NAME, null, new JavaType.Variable(null, 0, SELF_FIELD_NAME, null, classDecl.getType(), null)),
+                Collections.emptyList(), null, null
+            );
+
+            return new J.VariableDeclarations(
+                Tree.randomId(),
+                Space.EMPTY,
+                Markers.EMPTY,
+                Arrays.asList(lazyAnn, autowiredAnn),
+                Collections.singletonList(new J.Modifier(
+                    Tree.randomId(), Space.format("\n    "), Markers.EMPTY, null,
+                    J.Modifier.Type.Private, Collections.emptyList()
+                )),
+                typeIdent,
+                null, Collections.emptyList(),
+                Collections.singletonList(JRightPadded.build(namedVar))
+            );
+        }
+
+        private J.MethodDeclaration replaceScheduleWithSchedulerLock(J.MethodDeclaration md, String lockName,
+                                                                     long intervalSeconds) {
+            List<J.Annotation> newAnnotations = new ArrayList<>();
+            boolean lockAdded = false;
+            for (J.Annotation ann : md.getLeadingAnnotations()) {
+                if (isScheduleAnnotation(ann) || isSchedulesAnnotation(ann)) {
+                    if (!lockAdded) {
+                        newAnnotations.add(createSchedulerLockAnnotation(lockName, intervalSeconds, ann.getPrefix()));
+                        lockAdded = true;
+                    }
+                } else {
+                    newAnnotations.add(ann);
+                }
+            }
+            return md.withLeadingAnnotations(newAnnotations);
+        }
+
         private J.MethodDeclaration removeScheduleAnnotation(J.MethodDeclaration md) {
             List<J.Annotation> newAnnotations = new ArrayList<>();
             for (J.Annotation ann : md.getLeadingAnnotations()) {
@@ -682,7 +734,10 @@ public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx)
                                 Collections.emptyList(), futureField, null, null)),
                             null
                         );
+                        // Drop the Timer method type so later cycles don't see Timer usage anymore
                         return mi.withSelect(cancelSelect)
+                            .withMethodType(null)
+                            .withName(mi.getName().withType(null))
                             .withArguments(Collections.singletonList(
                                 new J.Literal(Tree.randomId(), Space.EMPTY, Markers.EMPTY,
                                     false, "false", Collections.emptyList(), JavaType.Primitive.Boolean)
@@ -711,14 +766,16 @@ public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx)
                             timeUnitType
                         );
                         return mi.withSelect(delaySelect)
-                            .withName(mi.getName().withSimpleName("getDelay"))
+                            .withMethodType(null)
+                            .withName(mi.getName().withSimpleName("getDelay").withType(null))
                             .withArguments(Collections.singletonList(timeUnitArg));
 
                     case "getNextTimeout":
                         // timer.getNextTimeout() -> calculateNextTimeout()
                         // This requires a helper method - for now use a simple calculation
                         return mi.withSelect(null)
-                            .withName(mi.getName().withSimpleName("calculateNextTimeout"))
+                            .withMethodType(null)
+                            .withName(mi.getName().withSimpleName("calculateNextTimeout").withType(null))
                             .withArguments(Collections.emptyList());
 
                     default:
@@ -801,6 +858,7 @@ private ScheduleAnalysis analyzeScheduleMethod(J.MethodDeclaration md) {
                 config.getDayOfWeek()
             );
             result.infoValue = config.getInfo();
+            result.intervalSeconds = config.estimateMinIntervalSeconds();
             result.canAutoTransform = true;
 
             // Detect Timer API usage in method body
@@ -933,6 +991,7 @@ private static class ScheduleAnalysis {
         String fallbackReason = null;
         String cronExpression = null;
         String infoValue = null;
+        long intervalSeconds = -1;
         boolean usesGetTimeRemaining = false;
         boolean usesGetInfo = false;
     }
@@ -1,5 +1,7 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
@@ -25,9 +27,11 @@
  * - @Lock annotations are removed with @NeedsReview (Spring uses synchronized)
  * - @ConcurrencyManagement removed (handled differently in Spring)
  * - @Startup + @PostConstruct -> @EventListener(ApplicationReadyEvent.class)
- *   (EJB spec: @Startup beans are initialized before external client requests)
+ *   (EJB spec: @Startup beans are initialized before external client requests;
+ *   GenerateStartupOrchestrator replaces these listeners when a module has several of them)
  * - @DependsOn -> @DependsOn (jakarta.ejb -> org.springframework.context.annotation)
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class MigrateSingletonToService extends Recipe {
@@ -703,8 +707,7 @@ private J.MethodDeclaration transformPostConstructToEventListener(J.MethodDeclar
 
             for (int i = 0; i < annotations.size(); i++) {
                 J.Annotation ann = annotations.get(i);
-                if (TypeUtils.isOfClassType(ann.getType(), POST_CONSTRUCT_JAKARTA_FQN) ||
-                    TypeUtils.isOfClassType(ann.getType(), POST_CONSTRUCT_JAVAX_FQN) ||
+                if (JavaEeAnnotation.POST_CONSTRUCT.matches(ann) ||
                     "PostConstruct".equals(ann.getSimpleName())) {
                     hasPostConstruct = true;
                     postConstructIndex = i;
@@ -1,5 +1,7 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
@@ -32,6 +34,7 @@
  * invoke @PreDestroy callbacks for prototype-scoped beans. The caller must explicitly
  * destroy beans via ObjectProvider.destroy() or similar mechanisms.
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class MigrateStatefulBean extends Recipe {
@@ -56,17 +59,6 @@ public class MigrateStatefulBean extends Recipe {
     private static final AnnotationMatcher SCOPE_MATCHER = new AnnotationMatcher("@" + SCOPE_FQN);
     private static final AnnotationMatcher NEEDS_REVIEW_MATCHER = new AnnotationMatcher("@" + NEEDS_REVIEW_FQN);
 
-    private static final AnnotationMatcher STATEFUL_MATCHER_JAKARTA = new AnnotationMatcher("@" + JAKARTA_STATEFUL);
-    private static final AnnotationMatcher STATEFUL_MATCHER_JAVAX = new AnnotationMatcher("@" + JAVAX_STATEFUL);
-    private static final AnnotationMatcher REMOVE_MATCHER_JAKARTA = new AnnotationMatcher("@" + JAKARTA_REMOVE);
-    private static final AnnotationMatcher REMOVE_MATCHER_JAVAX = new AnnotationMatcher("@" + JAVAX_REMOVE);
-    private static final AnnotationMatcher STATEFUL_TIMEOUT_MATCHER_JAKARTA = new AnnotationMatcher("@" + JAKARTA_STATEFUL_TIMEOUT);
-    private static final AnnotationMatcher STATEFUL_TIMEOUT_MATCHER_JAVAX = new AnnotationMatcher("@" + JAVAX_STATEFUL_TIMEOUT);
-    private static final AnnotationMatcher POST_ACTIVATE_MATCHER_JAKARTA = new AnnotationMatcher("@" + JAKARTA_POST_ACTIVATE);
-    private static final AnnotationMatcher POST_ACTIVATE_MATCHER_JAVAX = new AnnotationMatcher("@" + JAVAX_POST_ACTIVATE);
-    private static final AnnotationMatcher PRE_PASSIVATE_MATCHER_JAKARTA = new AnnotationMatcher("@" + JAKARTA_PRE_PASSIVATE);
-    private static final AnnotationMatcher PRE_PASSIVATE_MATCHER_JAVAX = new AnnotationMatcher("@" + JAVAX_PRE_PASSIVATE);
-
     @Override
     public String getDisplayName() {
         return "Migrate @Stateful beans to Spring prototype scope";
@@ -94,7 +86,7 @@ private static class StatefulMigrationVisitor extends JavaIsoVisitor<ExecutionCo
 
         private static boolean isStatefulClass(J.ClassDeclaration classDecl) {
             for (J.Annotation ann : classDecl.getLeadingAnnotations()) {
-                if (STATEFUL_MATCHER_JAKARTA.matches(ann) || STATEFUL_MATCHER_JAVAX.matches(ann)) {
+                if (JavaEeAnnotation.STATEFUL.matches(ann)) {
                     return true;
                 }
             }
@@ -103,7 +95,7 @@ private static boolean isStatefulClass(J.ClassDeclaration classDecl) {
 
         private static boolean hasStatefulTimeout(J.ClassDeclaration classDecl) {
             for (J.Annotation ann : classDecl.getLeadingAnnotations()) {
-                if (STATEFUL_TIMEOUT_MATCHER_JAKARTA.matches(ann) || STATEFUL_TIMEOUT_MATCHER_JAVAX.matches(ann)) {
+                if (JavaEeAnnotation.STATEFUL_TIMEOUT.matches(ann)) {
                     return true;
                 }
             }
@@ -126,11 +118,10 @@ public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Ex
                     if (stmt instanceof J.MethodDeclaration) {
                         J.MethodDeclaration method = (J.MethodDeclaration) stmt;
                         for (J.Annotation ann : method.getLeadingAnnotations()) {
-                            if (REMOVE_MATCHER_JAKARTA.matches(ann) || REMOVE_MATCHER_JAVAX.matches(ann)) {
+                            if (JavaEeAnnotation.REMOVE.matches(ann)) {
                                 removeMethodCount++;
                             }
-                            if (POST_ACTIVATE_MATCHER_JAKARTA.matches(ann) || POST_ACTIVATE_MATCHER_JAVAX.matches(ann) ||
-                                PRE_PASSIVATE_MATCHER_JAKARTA.matches(ann) || PRE_PASSIVATE_MATCHER_JAVAX.matches(ann)) {
+                            if (JavaEeAnnotation.POST_ACTIVATE.matches(ann) || JavaEeAnnotation.PRE_PASSIVATE.matches(ann)) {
                                 hasPassivationCallbacks = true;
                             }
                         }
@@ -162,7 +153,7 @@ public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, Ex
             Space firstRemovedAnnotationPrefix = null;
 
             for (J.Annotation ann : md.getLeadingAnnotations()) {
-                if (REMOVE_MATCHER_JAKARTA.matches(ann) || REMOVE_MATCHER_JAVAX.matches(ann)) {
+                if (JavaEeAnnotation.REMOVE.matches(ann)) {
                     // Remove @Remove - Spring prototype doesn't auto-call cleanup like EJB @Remove
                     // Guidance is in class-level @NeedsReview for manual cleanup pattern
                     if (firstRemovedAnnotationPrefix == null) {
@@ -171,7 +162,7 @@ public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, Ex
                     maybeRemoveImport(JAKARTA_REMOVE);
                     maybeRemoveImport(JAVAX_REMOVE);
                     modified = true;
-                } else if (POST_ACTIVATE_MATCHER_JAKARTA.matches(ann) || POST_ACTIVATE_MATCHER_JAVAX.matches(ann)) {
+                } else if (JavaEeAnnotation.POST_ACTIVATE.matches(ann)) {
                     // Remove @PostActivate (passivation not supported in Spring)
                     if (firstRemovedAnnotationPrefix == null) {
                         firstRemovedAnnotationPrefix = ann.getPrefix();
@@ -179,7 +170,7 @@ public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, Ex
                     maybeRemoveImport(JAKARTA_POST_ACTIVATE);
                     maybeRemoveImport(JAVAX_POST_ACTIVATE);
                     modified = true;
-                } else if (PRE_PASSIVATE_MATCHER_JAKARTA.matches(ann) || PRE_PASSIVATE_MATCHER_JAVAX.matches(ann)) {
+                } else if (JavaEeAnnotation.PRE_PASSIVATE.matches(ann)) {
                     // Remove @PrePassivate (passivation not supported in Spring)
                     if (firstRemovedAnnotationPrefix == null) {
                         firstRemovedAnnotationPrefix = ann.getPrefix();
@@ -233,7 +224,7 @@ private J.ClassDeclaration transformClassAnnotations(J.ClassDeclaration cd, int
             boolean hasExistingNeedsReview = false;
 
             for (J.Annotation ann : cd.getLeadingAnnotations()) {
-                if (STATEFUL_MATCHER_JAKARTA.matches(ann) || STATEFUL_MATCHER_JAVAX.matches(ann)) {
+                if (JavaEeAnnotation.STATEFUL.matches(ann)) {
                     // Capture original whitespace prefix from @Stateful for proper indentation
                     originalPrefix = ann.getPrefix();
                     // Extract the indent (spaces/tabs at the beginning of the line)
@@ -242,7 +233,7 @@ private J.ClassDeclaration transformClassAnnotations(J.ClassDeclaration cd, int
                     originalIndent = lastNewline >= 0 ? whitespace.substring(lastNewline + 1) : "";
                     maybeRemoveImport(JAKARTA_STATEFUL);
                     maybeRemoveImport(JAVAX_STATEFUL);
-                } else if (STATEFUL_TIMEOUT_MATCHER_JAKARTA.matches(ann) || STATEFUL_TIMEOUT_MATCHER_JAVAX.matches(ann)) {
+                } else if (JavaEeAnnotation.STATEFUL_TIMEOUT.matches(ann)) {
                     // Remove @StatefulTimeout (no Spring equivalent)
                     maybeRemoveImport(JAKARTA_STATEFUL_TIMEOUT);
                     maybeRemoveImport(JAVAX_STATEFUL_TIMEOUT);
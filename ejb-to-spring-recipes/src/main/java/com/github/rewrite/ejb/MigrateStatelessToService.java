@@ -1,12 +1,14 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
 import org.openrewrite.java.*;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.J;
-import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.java.tree.JavaType;
 
 /**
  * Migrates @Stateless EJB annotations to Spring @Service.
@@ -15,6 +17,7 @@
  * - @Stateless -> @Service
  * - Removes @LocalBean (not needed in Spring)
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class MigrateStatelessToService extends Recipe {
@@ -53,27 +56,20 @@ private static class StatelessToServiceVisitor extends JavaIsoVisitor<ExecutionC
         public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
             J.Annotation a = super.visitAnnotation(annotation, ctx);
 
+            JavaEeAnnotation ejbAnnotation = JavaEeAnnotation.of(a);
+
             // Check for @Stateless (javax or jakarta)
-            if (TypeUtils.isOfClassType(a.getType(), JAVAX_STATELESS)) {
-                maybeAddImport(SPRING_SERVICE);
-                maybeRemoveImport(JAVAX_STATELESS);
-                doAfterVisit(new ChangeType(JAVAX_STATELESS, SPRING_SERVICE, true).getVisitor());
-                return a;
-            }
-            if (TypeUtils.isOfClassType(a.getType(), JAKARTA_STATELESS)) {
+            if (ejbAnnotation == JavaEeAnnotation.STATELESS) {
+                String stateless = ((JavaType.FullyQualified) a.getType()).getFullyQualifiedName();
                 maybeAddImport(SPRING_SERVICE);
-                maybeRemoveImport(JAKARTA_STATELESS);
-                doAfterVisit(new ChangeType(JAKARTA_STATELESS, SPRING_SERVICE, true).getVisitor());
+                maybeRemoveImport(stateless);
+                doAfterVisit(new ChangeType(stateless, SPRING_SERVICE, true).getVisitor());
                 return a;
             }
 
             // Check for @LocalBean and remove it (javax or jakarta)
-            if (TypeUtils.isOfClassType(a.getType(), JAVAX_LOCALBEAN)) {
+            if (ejbAnnotation == JavaEeAnnotation.LOCAL_BEAN) {
                 maybeRemoveImport(JAVAX_LOCALBEAN);
-                //noinspection DataFlowIssue
-                return null; // Remove the annotation
-            }
-            if (TypeUtils.isOfClassType(a.getType(), JAKARTA_LOCALBEAN)) {
                 maybeRemoveImport(JAKARTA_LOCALBEAN);
                 //noinspection DataFlowIssue
                 return null; // Remove the annotation
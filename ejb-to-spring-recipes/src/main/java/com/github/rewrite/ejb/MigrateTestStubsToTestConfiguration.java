@@ -12,6 +12,8 @@
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.stream.Collectors;
 
 /**
@@ -175,21 +177,26 @@ static class TestClassInfo {
         }
     }
 
+    /**
+     * The scanned maps are filled by concurrent scanners. Roots, packages and test classes are kept sorted and the
+     * stubs of a package are sorted in generate(), so the generated configurations do not depend on the order in
+     * which files are scanned.
+     */
     static class Accumulator {
         // Stubs grouped by sourceRoot then package
-        final Map<Path, Map<String, List<StubInfo>>> stubsByRootAndPackage = new LinkedHashMap<>();
+        final Map<Path, Map<String, List<StubInfo>>> stubsByRootAndPackage = new ConcurrentSkipListMap<>();
         // LOW fix Round 5: Removed unused processedStubsByRoot field
         // Test classes keyed by sourceRoot then FQN
-        final Map<Path, Map<String, TestClassInfo>> testClassesByRoot = new LinkedHashMap<>();
+        final Map<Path, Map<String, TestClassInfo>> testClassesByRoot = new ConcurrentSkipListMap<>();
         // Stubs that are actually covered by a generated config - only these should have @Component removed
         // Populated during generate(), checked during getVisitor()
         final Map<Path, Set<String>> stubsCoveredByConfig = new LinkedHashMap<>();
         // Existing config classes to avoid overwriting
-        final Map<Path, Set<String>> existingConfigsByRoot = new LinkedHashMap<>();
+        final Map<Path, Set<String>> existingConfigsByRoot = new ConcurrentHashMap<>();
         // HIGH fix #2: Track which stubs are actually used by each test
         // LOW fix Round 2: Key by sourceRoot then testFqn for multi-module support
         // HIGH fix Round 5: Now stores StubRef objects with FQN when available
-        final Map<Path, Map<String, Set<StubRef>>> stubUsageByRootAndTest = new LinkedHashMap<>();
+        final Map<Path, Map<String, Set<StubRef>>> stubUsageByRootAndTest = new ConcurrentHashMap<>();
         // HIGH fix Round 6 + Round 7: Tests that have stubs in package but no direct references need @NeedsReview
         // MEDIUM fix Round 7: Scoped by source root for multi-module support
         final Map<Path, Set<String>> testsNeedingReviewByRoot = new LinkedHashMap<>();
@@ -276,7 +283,7 @@ public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Ex
                 if (hasSpringBootTestAnnotation(cd)) {
                     boolean hasExistingImport = hasImportAnnotation(cd);
                     acc.testClassesByRoot
-                            .computeIfAbsent(sourceRoot, k -> new LinkedHashMap<>())
+                            .computeIfAbsent(sourceRoot, k -> new ConcurrentSkipListMap<>())
                             .put(fqn, new TestClassInfo(className, packageName, sourceRoot, hasExistingImport));
 
                     // HIGH fix #2: Collect stubs actually used by this test class
@@ -285,7 +292,7 @@ public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Ex
                     Set<StubRef> usedStubs = collectUsedStubTypes(cd);
                     if (!usedStubs.isEmpty()) {
                         acc.stubUsageByRootAndTest
-                                .computeIfAbsent(sourceRoot, k -> new LinkedHashMap<>())
+                                .computeIfAbsent(sourceRoot, k -> new ConcurrentHashMap<>())
                                 .put(fqn, usedStubs);
                     }
                 }
@@ -294,7 +301,7 @@ public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Ex
                 // HIGH fix Round 3: Store FQN instead of just className to avoid false matches across packages
                 if (className.endsWith("Configuration") && hasConfigurationAnnotation(cd)) {
                     acc.existingConfigsByRoot
-                            .computeIfAbsent(sourceRoot, k -> new HashSet<>())
+                            .computeIfAbsent(sourceRoot, k -> ConcurrentHashMap.newKeySet())
                             .add(fqn);
                 }
 
@@ -317,8 +324,8 @@ public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Ex
                         hasDefaultConstructor, extractResult.params, extractResult.requiredImports);
 
                 acc.stubsByRootAndPackage
-                        .computeIfAbsent(sourceRoot, k -> new LinkedHashMap<>())
-                        .computeIfAbsent(packageName, k -> new ArrayList<>())
+                        .computeIfAbsent(sourceRoot, k -> new ConcurrentSkipListMap<>())
+                        .computeIfAbsent(packageName, k -> Collections.synchronizedList(new ArrayList<>()))
                         .add(stubInfo);
                 // LOW fix Round 5: Removed processedStubsByRoot - was unused
 
@@ -743,6 +750,9 @@ private void collectAllTypes(JavaType type, Set<String> result) {
     @Override
     public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
         List<SourceFile> generated = new ArrayList<>();
+        for (Map<String, List<StubInfo>> stubsByPackage : acc.stubsByRootAndPackage.values()) {
+            stubsByPackage.values().forEach(stubs -> stubs.sort(Comparator.comparing(stub -> stub.fqn)));
+        }
 
         // For each sourceRoot
         for (Map.Entry<Path, Map<String, List<StubInfo>>> rootEntry : acc.stubsByRootAndPackage.entrySet()) {
@@ -1118,9 +1128,9 @@ private J.ClassDeclaration addImportAnnotation(J.ClassDeclaration cd, String con
                 maybeAddImport(IMPORT_FQN);
 
                 // Build template with the specific config class name
-                JavaTemplate addImportTemplate = JavaTemplate.builder("@Import(" + configClassName + ".class)")
-                        .javaParser(JavaParser.fromJavaVersion().dependsOn(IMPORT_STUB,
-                                "package org.example.test;\npublic class " + configClassName + " {}"))
+                JavaTemplate addImportTemplate = JavaTemplates.builder("@Import(" + configClassName + ".class)")
+                        .dependsOn(IMPORT_STUB,
+                                "package org.example.test;\npublic class " + configClassName + " {}")
                         .imports(IMPORT_FQN)
                         .build();
 
@@ -1147,8 +1157,8 @@ private J.ClassDeclaration addNeedsReviewAnnotation(J.ClassDeclaration cd) {
                 maybeAddImport(NEEDS_REVIEW_FQN);
 
                 // Build template
-                JavaTemplate addReviewTemplate = JavaTemplate.builder("@NeedsStubReview(\"Stubs in package not directly referenced\")")
-                        .javaParser(JavaParser.fromJavaVersion().dependsOn(NEEDS_REVIEW_STUB))
+                JavaTemplate addReviewTemplate = JavaTemplates.builder("@NeedsStubReview(\"Stubs in package not directly referenced\")")
+                        .dependsOn(NEEDS_REVIEW_STUB)
                         .imports(NEEDS_REVIEW_FQN)
                         .build();
 
@@ -1184,11 +1194,11 @@ private J.ClassDeclaration mergeImportAnnotation(J.ClassDeclaration cd, String c
                     String mergedImportValue = buildMergedImportValue(valueExpr, configClassName);
 
                     // Use template to replace the annotation with properly typed AST
-                    JavaTemplate mergeTemplate = JavaTemplate.builder("@Import(" + mergedImportValue + ")")
-                            .javaParser(JavaParser.fromJavaVersion().dependsOn(IMPORT_STUB,
+                    JavaTemplate mergeTemplate = JavaTemplates.builder("@Import(" + mergedImportValue + ")")
+                            .dependsOn(IMPORT_STUB,
                                     "package org.example.test;\npublic class " + configClassName + " {}",
                                     "package org.example.test;\npublic class SomeOtherConfig {}",
-                                    "package org.example.test;\npublic class AnotherConfig {}"))
+                                    "package org.example.test;\npublic class AnotherConfig {}")
                             .imports(IMPORT_FQN)
                             .build();
 
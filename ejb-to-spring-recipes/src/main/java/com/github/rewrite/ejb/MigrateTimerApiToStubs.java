@@ -1,6 +1,8 @@
 package com.github.rewrite.ejb;
 
 import com.github.rewrite.ejb.config.ProjectConfiguration;
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
@@ -31,6 +33,7 @@
  *
  * @see com.github.rewrite.ejb.MarkEjbTimerServiceForReview
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class MigrateTimerApiToStubs extends Recipe {
@@ -85,18 +85,6 @@ public class MigrateTimerServiceToQuartz extends ScanningRecipe<MigrateTimerServ
 
     // WFQ-009: NeedsReview annotation for fallback cases
     private static final String NEEDS_REVIEW_FQN = "com.github.rewrite.ejb.annotations.NeedsReview";
-    private static final String NEEDS_REVIEW_STUB =
-        "package com.github.rewrite.ejb.annotations;\n" +
-        "import java.lang.annotation.*;\n" +
-        "@Retention(RetentionPolicy.RUNTIME)\n" +
-        "@Target({ElementType.TYPE, ElementType.FIELD, ElementType.METHOD})\n" +
-        "public @interface NeedsReview {\n" +
-        "    String reason() default \"\";\n" +
-        "    Category category();\n" +
-        "    String originalCode() default \"\";\n" +
-        "    String suggestedAction() default \"\";\n" +
-        "    enum Category { REMOTE_ACCESS, CONCURRENCY, CONFIGURATION, SCHEDULING, TIMER, MESSAGING, CDI_FEATURE, TRANSACTION, ASYNC, SPRING_CONFIG, MANUAL_MIGRATION, SEMANTIC_CHANGE, OTHER }\n" +
-        "}";
     private static final String EJB_QUARTZ_TIMER_SERVICE_STUB =
         "package com.github.migration.annotations;\n" +
         "\n" +
@@ -200,7 +188,7 @@ private static String normalizePath(String path) {
             return normalized;
         }
 
-        void recordSourceRoot(String sourceRoot, boolean isTestSource) {
+        synchronized void recordSourceRoot(String sourceRoot, boolean isTestSource) {
             SourceRootInfo info = sourceRoots.computeIfAbsent(sourceRoot, k -> new SourceRootInfo(k, isTestSource));
             String expectedResources = normalizePath(deriveResourcesRootStatic(sourceRoot));
             if (expectedResources != null) {
@@ -241,7 +229,11 @@ void recordTransformation(String sourceRoot) {
             info.hasTransformation = true;
         }
 
-        void recordExistingImports(String resourcesRoot, String content) {
+        /**
+         * Synchronized with {@link #recordSourceRoot}, so resources scanned while their source root is recorded are
+         * neither lost in the pending maps nor matched twice.
+         */
+        synchronized void recordExistingImports(String resourcesRoot, String content) {
             String normalizedResourcesRoot = normalizePath(resourcesRoot);
             for (SourceRootInfo info : sourceRoots.values()) {
                 String expectedResources = normalizePath(deriveResourcesRootStatic(info.sourceRoot));
@@ -254,7 +246,7 @@ void recordExistingImports(String resourcesRoot, String content) {
             pendingImports.put(normalizedResourcesRoot, content);
         }
 
-        void recordExistingApplicationProperties(String resourcesRoot, String content) {
+        synchronized void recordExistingApplicationProperties(String resourcesRoot, String content) {
             String normalizedResourcesRoot = normalizePath(resourcesRoot);
             for (SourceRootInfo info : sourceRoots.values()) {
                 String expectedResources = normalizePath(deriveResourcesRootStatic(info.sourceRoot));
@@ -286,6 +278,7 @@ static class SourceRootInfo {
         volatile boolean hasPersistentTimer; // Track if any TimerConfig.isPersistent() usage
         volatile boolean needsMigratedTimerHandle; // P1.5: Track if MigratedTimerHandle is needed
         volatile boolean needsMigratedScheduleInfo; // P1.6: Track if MigratedScheduleInfo is needed
+        volatile boolean quartzJdbcCluster; // cluster: quartz-jdbc - job store properties come from GenerateQuartzClusterConfig
         volatile String existingImportsContent;
         volatile String existingApplicationPropertiesContent;
         // Track Job classes to generate for auto-transform
@@ -374,6 +367,9 @@ public Tree visit(Tree tree, ExecutionContext ctx) {
                             boolean isTest = sourcePathStr.contains("/test/") ||
                                            sourcePathStr.contains("/src/test/");
                             acc.recordSourceRoot(sourceRoot, isTest);
+                            if (TimerStrategySupport.isQuartzJdbcCluster(cu)) {
+                                acc.sourceRoots.get(sourceRoot).quartzJdbcCluster = true;
+                            }
                         }
                     }
                 }
@@ -501,7 +497,8 @@ public Collection<SourceFile> generate(SourceRootAccumulator acc, ExecutionConte
 
                 // Append Quartz persistence configuration to application.properties when TimerConfig is used
                 // This ensures that isPersistent() = true actually persists jobs across restarts
-                if (info.hasPersistentTimer && resourcesRoot != null) {
+                // In a quartz-jdbc cluster GenerateQuartzClusterConfig writes the (clustered) job store settings
+                if (info.hasPersistentTimer && resourcesRoot != null && !info.quartzJdbcCluster) {
                     String propertiesPath = resourcesRoot + "/application.properties";
                     String existingProps = info.existingApplicationPropertiesContent;
                     String quartzProps = generateQuartzPersistenceProperties();
@@ -1241,7 +1238,7 @@ private J.ClassDeclaration addSchedulerConstructor(J.ClassDeclaration cd, String
                     className, schedulerFieldName, schedulerFieldName, schedulerFieldName
                 );
 
-                JavaTemplate constructorTemplate = JavaTemplate.builder(constructorCode)
+                JavaTemplate constructorTemplate = JavaTemplates.builder(constructorCode)
                     .imports(QUARTZ_SCHEDULER_FQN)
                     .contextSensitive()
                     .build();
@@ -2177,7 +2174,7 @@ private J.ClassDeclaration addSchedulingHelperMethods(J.ClassDeclaration cd, Tim
                     "}"
                 );
 
-                JavaTemplate helperTemplate = JavaTemplate.builder(singleTimerHelper)
+                JavaTemplate helperTemplate = JavaTemplates.builder(singleTimerHelper)
                     .imports(QUARTZ_JOB_DETAIL_FQN, QUARTZ_JOB_BUILDER_FQN,
                              QUARTZ_TRIGGER_FQN, QUARTZ_TRIGGER_BUILDER_FQN,
                              QUARTZ_SCHEDULER_EXCEPTION_FQN, QUARTZ_JOB_FQN,
@@ -2221,7 +2218,7 @@ private J.ClassDeclaration addSchedulingHelperMethods(J.ClassDeclaration cd, Tim
                     "}"
                 );
 
-                JavaTemplate helperTemplate = JavaTemplate.builder(intervalTimerHelper)
+                JavaTemplate helperTemplate = JavaTemplates.builder(intervalTimerHelper)
                     .imports(QUARTZ_JOB_DETAIL_FQN, QUARTZ_JOB_BUILDER_FQN,
                              QUARTZ_TRIGGER_FQN, QUARTZ_TRIGGER_BUILDER_FQN,
                              QUARTZ_SIMPLE_SCHEDULE_BUILDER_FQN, QUARTZ_SCHEDULER_EXCEPTION_FQN,
@@ -2247,7 +2244,7 @@ private J.ClassDeclaration addSchedulingHelperMethods(J.ClassDeclaration cd, Tim
                     "    scheduleQuartzJob(delayMs, info, persistent, jobClass);\n" +
                     "}";
 
-                JavaTemplate dateHelperTemplate = JavaTemplate.builder(dateTimerHelper)
+                JavaTemplate dateHelperTemplate = JavaTemplates.builder(dateTimerHelper)
                     .imports("java.util.Date", "java.time.Instant", "java.time.Duration")
                     .contextSensitive()
                     .build();
@@ -2266,7 +2263,7 @@ private J.ClassDeclaration addSchedulingHelperMethods(J.ClassDeclaration cd, Tim
                     "    scheduleQuartzJob(duration.toMillis(), info, persistent, jobClass);\n" +
                     "}";
 
-                JavaTemplate durationHelperTemplate = JavaTemplate.builder(durationTimerHelper)
+                JavaTemplate durationHelperTemplate = JavaTemplates.builder(durationTimerHelper)
                     .imports("java.time.Duration")
                     .contextSensitive()
                     .build();
@@ -2287,7 +2284,7 @@ private J.ClassDeclaration addSchedulingHelperMethods(J.ClassDeclaration cd, Tim
                     "    scheduleQuartzIntervalJob(delayMs, intervalMs, info, persistent, jobClass);\n" +
                     "}";
 
-                JavaTemplate dateIntervalTemplate = JavaTemplate.builder(dateIntervalHelper)
+                JavaTemplate dateIntervalTemplate = JavaTemplates.builder(dateIntervalHelper)
                     .imports("java.util.Date", "java.time.Instant", "java.time.Duration")
                     .contextSensitive()
                     .build();
@@ -2365,7 +2362,7 @@ private J.ClassDeclaration addSchedulingHelperMethods(J.ClassDeclaration cd, Tim
                                            QUARTZ_JOB_FQN, "org.quartz.JobDataMap"};
                 }
 
-                JavaTemplate cronHelperTemplate = JavaTemplate.builder(cronTimerHelper)
+                JavaTemplate cronHelperTemplate = JavaTemplates.builder(cronTimerHelper)
                     .imports(imports)
                     .contextSensitive()
                     .build();
@@ -2418,7 +2415,7 @@ private J.ClassDeclaration addExternalSchedulingEntryPoint(J.ClassDeclaration cd
                 jobClassName
             );
 
-            JavaTemplate entryPointTemplate = JavaTemplate.builder(entryPointHelper)
+            JavaTemplate entryPointTemplate = JavaTemplates.builder(entryPointHelper)
                 .imports(QUARTZ_SCHEDULER_FQN, QUARTZ_JOB_DETAIL_FQN, QUARTZ_JOB_BUILDER_FQN,
                          QUARTZ_TRIGGER_FQN, QUARTZ_TRIGGER_BUILDER_FQN, QUARTZ_SCHEDULER_EXCEPTION_FQN,
                          "org.quartz.JobDataMap", "java.util.Date", "java.time.Instant")
@@ -3078,8 +3075,8 @@ private J.ClassDeclaration applyFallbackMarker(J.ClassDeclaration cd, TimerUsage
             // Then add the detailed @EjbQuartzTimerService marker
             String annotationStr = buildMarkerAnnotationString(analysis);
 
-            JavaTemplate template = JavaTemplate.builder(annotationStr)
-                .javaParser(JavaParser.fromJavaVersion().dependsOn(EJB_QUARTZ_TIMER_SERVICE_STUB))
+            JavaTemplate template = JavaTemplates.builder(annotationStr)
+                .dependsOn(EJB_QUARTZ_TIMER_SERVICE_STUB)
                 .imports(EJB_QUARTZ_TIMER_SERVICE_FQN)
                 .build();
 
@@ -3329,8 +3326,8 @@ private J.ClassDeclaration addNeedsReviewForTimerFallback(J.ClassDeclaration cd,
                 suggestedAction
             );
 
-            JavaTemplate template = JavaTemplate.builder(annotationStr)
-                .javaParser(JavaParser.fromJavaVersion().dependsOn(NEEDS_REVIEW_STUB))
+            JavaTemplate template = JavaTemplates.builder(annotationStr)
+                .dependsOn(JavaTemplates.NEEDS_REVIEW_STUB)
                 .imports(NEEDS_REVIEW_FQN)
                 .build();
 
@@ -4718,14 +4715,12 @@ private boolean hasTimeoutAnnotation(J.MethodDeclaration md) {
         }
 
         private boolean isTimeoutAnnotation(J.Annotation ann) {
-            return TypeUtils.isOfClassType(ann.getType(), JAKARTA_TIMEOUT) ||
-                   TypeUtils.isOfClassType(ann.getType(), JAVAX_TIMEOUT) ||
+            return JavaEeAnnotation.TIMEOUT.matches(ann) ||
                    "Timeout".equals(ann.getSimpleName());
         }
 
         private boolean isResourceAnnotation(J.Annotation ann) {
-            return TypeUtils.isOfClassType(ann.getType(), JAKARTA_RESOURCE) ||
-                   TypeUtils.isOfClassType(ann.getType(), JAVAX_RESOURCE) ||
+            return JavaEeAnnotation.RESOURCE.matches(ann) ||
                    "Resource".equals(ann.getSimpleName());
         }
 
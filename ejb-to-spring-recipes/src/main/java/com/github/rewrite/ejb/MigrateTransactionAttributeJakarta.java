@@ -1,5 +1,7 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
@@ -24,6 +26,7 @@
  * <p>
  * Works with both jakarta.ejb and javax.ejb namespaces.
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class MigrateTransactionAttributeJakarta extends Recipe {
@@ -88,16 +91,14 @@ private boolean isTransactionAttribute(J.Annotation a) {
             if ("TransactionAttribute".equals(a.getSimpleName())) {
                 return true;
             }
-            return TypeUtils.isOfClassType(a.getType(), JAKARTA_TX_ATTR) ||
-                   TypeUtils.isOfClassType(a.getType(), JAVAX_TX_ATTR);
+            return JavaEeAnnotation.TRANSACTION_ATTRIBUTE.matches(a);
         }
 
         private boolean isTransactionManagement(J.Annotation a) {
             if ("TransactionManagement".equals(a.getSimpleName())) {
                 return true;
             }
-            return TypeUtils.isOfClassType(a.getType(), JAKARTA_TX_MGMT) ||
-                   TypeUtils.isOfClassType(a.getType(), JAVAX_TX_MGMT);
+            return JavaEeAnnotation.TRANSACTION_MANAGEMENT.matches(a);
         }
 
         private J.Annotation transformTransactionAttribute(J.Annotation annotation, ExecutionContext ctx) {
@@ -72,8 +72,6 @@ public class MigrateTransactionalTimerCreation extends ScanningRecipe<MigrateTra
     // EJB Types
     private static final String JAKARTA_TIMER_SERVICE = "jakarta.ejb.TimerService";
     private static final String JAVAX_TIMER_SERVICE = "javax.ejb.TimerService";
-    private static final String JAKARTA_TIMEOUT = "jakarta.ejb.Timeout";
-    private static final String JAVAX_TIMEOUT = "javax.ejb.Timeout";
     private static final String JAKARTA_TIMER_CONFIG = "jakarta.ejb.TimerConfig";
     private static final String JAVAX_TIMER_CONFIG = "javax.ejb.TimerConfig";
     private static final String JAKARTA_RESOURCE = "jakarta.annotation.Resource";
@@ -1854,48 +1852,44 @@ private J.MethodInvocation transformToTimerCreateEvent(
 
             if (intervalExpr != null && infoExpr != null) {
                 // createIntervalTimer with info
-                JavaTemplate template = JavaTemplate.builder(
+                JavaTemplate template = JavaTemplates.builder(
                         "#{any(org.springframework.context.ApplicationEventPublisher)}.publishEvent(new TimerCreateEvent(this, #{any(long)}, #{any(long)}, #{any(java.io.Serializable)}, " + persistent + ", \"" + targetMethod + "\"))"
                     )
-                    .javaParser(JavaParser.fromJavaVersion()
-                        .classpath("spring-context")
-                        .dependsOn(TIMER_CREATE_EVENT_STUB))
+                    .classpath("spring-context")
+                    .dependsOn(TIMER_CREATE_EVENT_STUB)
                     .imports(TIMER_CREATE_EVENT_FQN, SPRING_EVENT_PUBLISHER)
                     .contextSensitive()
                     .build();
                 return template.apply(getCursor(), original.getCoordinates().replace(), select, delayExpr, intervalExpr, infoExpr);
             } else if (intervalExpr != null) {
                 // createIntervalTimer with null info
-                JavaTemplate template = JavaTemplate.builder(
+                JavaTemplate template = JavaTemplates.builder(
                         "#{any(org.springframework.context.ApplicationEventPublisher)}.publishEvent(new TimerCreateEvent(this, #{any(long)}, #{any(long)}, null, " + persistent + ", \"" + targetMethod + "\"))"
                     )
-                    .javaParser(JavaParser.fromJavaVersion()
-                        .classpath("spring-context")
-                        .dependsOn(TIMER_CREATE_EVENT_STUB))
+                    .classpath("spring-context")
+                    .dependsOn(TIMER_CREATE_EVENT_STUB)
                     .imports(TIMER_CREATE_EVENT_FQN, SPRING_EVENT_PUBLISHER)
                     .contextSensitive()
                     .build();
                 return template.apply(getCursor(), original.getCoordinates().replace(), select, delayExpr, intervalExpr);
             } else if (infoExpr != null) {
                 // createTimer/createSingleActionTimer with info
-                JavaTemplate template = JavaTemplate.builder(
+                JavaTemplate template = JavaTemplates.builder(
                         "#{any(org.springframework.context.ApplicationEventPublisher)}.publishEvent(new TimerCreateEvent(this, #{any(long)}, 0, #{any(java.io.Serializable)}, " + persistent + ", \"" + targetMethod + "\"))"
                     )
-                    .javaParser(JavaParser.fromJavaVersion()
-                        .classpath("spring-context")
-                        .dependsOn(TIMER_CREATE_EVENT_STUB))
+                    .classpath("spring-context")
+                    .dependsOn(TIMER_CREATE_EVENT_STUB)
                     .imports(TIMER_CREATE_EVENT_FQN, SPRING_EVENT_PUBLISHER)
                     .contextSensitive()
                     .build();
                 return template.apply(getCursor(), original.getCoordinates().replace(), select, delayExpr, infoExpr);
             } else {
                 // createTimer/createSingleActionTimer with null info
-                JavaTemplate template = JavaTemplate.builder(
+                JavaTemplate template = JavaTemplates.builder(
                         "#{any(org.springframework.context.ApplicationEventPublisher)}.publishEvent(new TimerCreateEvent(this, #{any(long)}, 0, null, " + persistent + ", \"" + targetMethod + "\"))"
                     )
-                    .javaParser(JavaParser.fromJavaVersion()
-                        .classpath("spring-context")
-                        .dependsOn(TIMER_CREATE_EVENT_STUB))
+                    .classpath("spring-context")
+                    .dependsOn(TIMER_CREATE_EVENT_STUB)
                     .imports(TIMER_CREATE_EVENT_FQN, SPRING_EVENT_PUBLISHER)
                     .contextSensitive()
                     .build();
@@ -1998,10 +1992,8 @@ private J.VariableDeclarations transformToEventPublisherField(J.VariableDeclarat
 
         private boolean isInjectionAnnotation(J.Annotation ann) {
             return TypeUtils.isOfClassType(ann.getType(), SPRING_AUTOWIRED) ||
-                   TypeUtils.isOfClassType(ann.getType(), JAKARTA_RESOURCE) ||
-                   TypeUtils.isOfClassType(ann.getType(), JAVAX_RESOURCE) ||
-                   TypeUtils.isOfClassType(ann.getType(), "jakarta.inject.Inject") ||
-                   TypeUtils.isOfClassType(ann.getType(), "javax.inject.Inject") ||
+                   JavaEeAnnotation.RESOURCE.matches(ann) ||
+                   JavaEeAnnotation.INJECT.matches(ann) ||
                    "Autowired".equals(ann.getSimpleName()) ||
                    "Resource".equals(ann.getSimpleName()) ||
                    "Inject".equals(ann.getSimpleName());
@@ -2043,8 +2035,7 @@ private boolean isTimerServiceField(J.VariableDeclarations varDecls) {
 
         private boolean hasTimeoutAnnotation(J.MethodDeclaration md) {
             for (J.Annotation ann : md.getLeadingAnnotations()) {
-                if (TypeUtils.isOfClassType(ann.getType(), JAKARTA_TIMEOUT) ||
-                    TypeUtils.isOfClassType(ann.getType(), JAVAX_TIMEOUT) ||
+                if (JavaEeAnnotation.TIMEOUT.matches(ann) ||
                     "Timeout".equals(ann.getSimpleName())) {
                     return true;
                 }
@@ -23,6 +23,9 @@
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 /**
  * Migrates Jakarta WebSocket (JSR-356) to Spring Boot by generating ServerEndpointExporter config.
@@ -63,23 +66,46 @@ public String getDescription() {
                "Endpoint classes remain unchanged - they continue to use @ServerEndpoint annotations.";
     }
 
+    /**
+     * Filled by concurrent scanners.
+     */
     static class Accumulator {
-        Map<Path, ModuleState> modules = new HashMap<>();
+        final Map<Path, ModuleState> modules = new ConcurrentSkipListMap<>();
     }
 
+    /**
+     * Of several endpoints or {@code @SpringBootApplication} classes, the one with the smallest source path
+     * determines the source root and the base package, so the outcome does not depend on the scan order.
+     */
     static class ModuleState {
         final Path moduleRoot;
-        List<ServerEndpointInfo> endpoints = new ArrayList<>();
-        boolean hasExistingExporterConfig = false;
-        boolean hasWebSocketDependency = false;
+        final List<ServerEndpointInfo> endpoints = Collections.synchronizedList(new ArrayList<>());
+        volatile boolean hasExistingExporterConfig = false;
+        volatile boolean hasWebSocketDependency = false;
         String mainSourceRoot = null;
         String springBootApplicationPackage = null;
-        Set<String> packages = new HashSet<>();
-        Set<String> classFqns = new HashSet<>();
+        final Set<String> packages = new ConcurrentSkipListSet<>();
+        final Set<String> classFqns = ConcurrentHashMap.newKeySet();
+        private String mainSourceRootPath;
+        private String springBootApplicationPath;
 
         ModuleState(Path moduleRoot) {
             this.moduleRoot = moduleRoot;
         }
+
+        synchronized void recordEndpointSource(String path, String sourceRoot) {
+            if (mainSourceRootPath == null || path.compareTo(mainSourceRootPath) < 0) {
+                mainSourceRootPath = path;
+                mainSourceRoot = sourceRoot;
+            }
+        }
+
+        synchronized void recordSpringBootApplication(String path, String pkg) {
+            if (springBootApplicationPath == null || path.compareTo(springBootApplicationPath) < 0) {
+                springBootApplicationPath = path;
+                springBootApplicationPackage = pkg;
+            }
+        }
     }
 
     static class ServerEndpointInfo {
@@ -146,8 +172,8 @@ private Tree visitJavaSource(J.CompilationUnit cu, ExecutionContext ctx) {
                     // Check for @SpringBootApplication
                     boolean isBootApp = classDecl.getLeadingAnnotations().stream()
                         .anyMatch(a -> "SpringBootApplication".equals(a.getSimpleName()));
-                    if (isBootApp && module.springBootApplicationPackage == null) {
-                        module.springBootApplicationPackage = pkg;
+                    if (isBootApp) {
+                        module.recordSpringBootApplication(normalizedPath, pkg);
                     }
 
                     // Check for @ServerEndpoint
@@ -157,9 +183,7 @@ private Tree visitJavaSource(J.CompilationUnit cu, ExecutionContext ctx) {
                             ServerEndpointInfo info = new ServerEndpointInfo(classDecl.getSimpleName(), pkg, path);
                             module.endpoints.add(info);
 
-                            if (module.mainSourceRoot == null) {
-                                module.mainSourceRoot = extractMainSourceRoot(normalizedPath, config);
-                            }
+                            module.recordEndpointSource(normalizedPath, extractMainSourceRoot(normalizedPath, config));
                         }
                     }
 
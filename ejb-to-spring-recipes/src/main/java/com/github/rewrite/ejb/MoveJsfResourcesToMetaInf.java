@@ -26,6 +26,7 @@
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Moves JSF resources from webapp to META-INF/resources for Spring Boot compatibility.
@@ -74,9 +75,12 @@ public String getDescription() {
                "faces-config.xml goes to META-INF/, all other resources go to META-INF/resources/.";
     }
 
+    /**
+     * Filled by concurrent scanners.
+     */
     static class Accumulator {
         // Track files to move: source path -> target path
-        Map<String, String> filesToMove = new LinkedHashMap<>();
+        final Map<String, String> filesToMove = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -0,0 +1,988 @@
+package com.github.rewrite.ejb;
+
+import com.github.rewrite.ejb.config.ProjectConfiguration;
+import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+import org.openrewrite.text.PlainText;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Opt-in pass that reduces the number of Spring test application contexts of migrated tests.
+ * <p>
+ * MigrateArquillianToSpringBootTest turns every Arquillian test into a full {@code @SpringBootTest}, and
+ * MigrateTestStubsToTestConfiguration gives each of them its own {@code {Test}Configuration}. Spring caches one
+ * context per distinct configuration, so almost every migrated test boots its own context. Run it on an already
+ * migrated project (after MigrateEjbToSpring), so the generated configurations are parsed Java sources. Per module it:
+ * <ul>
+ *   <li>groups the stub configurations imported by tests by their effective stub set (same stub types, same
+ *       {@code @Bean} methods) and replaces every group of two or more with one shared
+ *       {@code Shared...TestConfiguration}; the replaced configurations are deleted unless referenced elsewhere</li>
+ *   <li>downgrades plain {@code @SpringBootTest} classes to {@code @DataJpaTest}, {@code @WebMvcTest} or
+ *       {@code @JsonTest} when every injected dependency is provided by that slice</li>
+ *   <li>writes {@code TEST-CONTEXTS.md} with the expected number of contexts before and after</li>
+ * </ul>
+ * Slices are only chosen conservatively: no imports, no base class, no context customizers besides profiles and
+ * properties, and an application class without annotations that would pull other beans into the slice.
+ * {@code @DataJpaTest} keeps the configured database and the non-transactional test execution of
+ * {@code @SpringBootTest}; {@code @WebMvcTest} requires every dependency of the web layer to be mocked by the test.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class OptimizeTestContextCaching extends ScanningRecipe<OptimizeTestContextCaching.Accumulator> {
+
+    private static final String REPORT_FILE = "TEST-CONTEXTS.md";
+
+    private static final String SPRING_BOOT_TEST_FQN = "org.springframework.boot.test.context.SpringBootTest";
+    private static final String TEST_CONFIGURATION_FQN = "org.springframework.boot.test.context.TestConfiguration";
+    private static final String IMPORT_FQN = "org.springframework.context.annotation.Import";
+    private static final String BEAN_FQN = "org.springframework.context.annotation.Bean";
+    private static final String AUTO_CONFIGURE_MOCK_MVC_FQN = "org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc";
+    private static final String DATA_JPA_TEST_FQN = "org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest";
+    private static final String AUTO_CONFIGURE_TEST_DATABASE_FQN = "org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase";
+    private static final String WEB_MVC_TEST_FQN = "org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest";
+    private static final String JSON_TEST_FQN = "org.springframework.boot.test.autoconfigure.json.JsonTest";
+    private static final String TRANSACTIONAL_FQN = "org.springframework.transaction.annotation.Transactional";
+    private static final String PROPAGATION_FQN = "org.springframework.transaction.annotation.Propagation";
+    private static final String SPRING_DATA_REPOSITORY_FQN = "org.springframework.data.repository.Repository";
+    private static final String MOCK_MVC_FQN = "org.springframework.test.web.servlet.MockMvc";
+    private static final String OBJECT_MAPPER_FQN = "com.fasterxml.jackson.databind.ObjectMapper";
+
+    private static final List<String> STUB_NAME_SUFFIXES = List.of("Stub", "Mock", "Fake");
+
+    private static final Set<String> INJECTION_ANNOTATIONS = Set.of("Autowired", "Inject", "PersistenceContext", "Resource");
+    private static final Set<String> BEAN_OVERRIDE_ANNOTATIONS = Set.of("MockBean", "SpyBean", "MockitoBean", "MockitoSpyBean");
+    private static final Set<String> JUNIT_PARAMETER_TYPES = Set.of(
+        "org.junit.jupiter.api.TestInfo", "org.junit.jupiter.api.TestReporter", "org.junit.jupiter.api.RepetitionInfo");
+
+    /**
+     * Class-level annotations that are part of the context cache key besides the configuration classes.
+     */
+    private static final Set<String> CONTEXT_ANNOTATIONS = Set.of(
+        "ActiveProfiles", "TestPropertySource", "ContextConfiguration", "ContextHierarchy", "WebAppConfiguration",
+        "ImportAutoConfiguration", "OverrideAutoConfiguration", "EnableConfigurationProperties", "MockBean",
+        "SpyBean", "MockitoBean", "MockitoSpyBean");
+
+    /** Context annotations that keep their meaning on a slice test. */
+    private static final Set<String> SLICE_COMPATIBLE_ANNOTATIONS = Set.of("ActiveProfiles", "TestPropertySource", "AutoConfigureMockMvc");
+
+    /** Annotations on the application class that do not pull additional beans into a slice. */
+    private static final Set<String> SLICE_SAFE_APPLICATION_ANNOTATIONS = Set.of(
+        "SpringBootApplication", "EnableScheduling", "EnableAsync", "EnableCaching", "EnableTransactionManagement",
+        "EnableJms", "EnableAspectJAutoProxy", "ConfigurationPropertiesScan");
+    private static final Set<String> JPA_SAFE_APPLICATION_ANNOTATIONS = Set.of("EnableJpaRepositories", "EntityScan");
+
+    private static final Set<String> JSON_SLICE_TYPES = Set.of(
+        OBJECT_MAPPER_FQN,
+        "org.springframework.boot.test.json.JacksonTester",
+        "org.springframework.boot.test.json.BasicJsonTester",
+        "org.springframework.boot.test.json.GsonTester",
+        "org.springframework.boot.test.json.JsonbTester");
+    private static final Set<String> JPA_SLICE_TYPES = Set.of(
+        "jakarta.persistence.EntityManager",
+        "jakarta.persistence.EntityManagerFactory",
+        "javax.persistence.EntityManager",
+        "javax.persistence.EntityManagerFactory",
+        "org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager",
+        "org.springframework.jdbc.core.JdbcTemplate",
+        "javax.sql.DataSource");
+    private static final Set<String> WEB_SLICE_TYPES = Set.of(MOCK_MVC_FQN, OBJECT_MAPPER_FQN);
+
+    /** Beans @WebMvcTest loads from the application: controllers, advice and MVC infrastructure. */
+    private static final Set<String> WEB_COMPONENT_ANNOTATIONS = Set.of(
+        "Controller", "RestController", "ControllerAdvice", "RestControllerAdvice", "JsonComponent");
+    private static final Set<String> STEREOTYPE_ANNOTATIONS = Set.of("Component", "Configuration", "Service", "Repository");
+    private static final List<String> WEB_COMPONENT_INTERFACES = List.of(
+        "jakarta.servlet.Filter",
+        "org.springframework.web.servlet.config.annotation.WebMvcConfigurer",
+        "org.springframework.web.method.support.HandlerMethodArgumentResolver",
+        "org.springframework.core.convert.converter.Converter",
+        "org.springframework.core.convert.converter.GenericConverter");
+    /** Dependencies the web slice provides itself. */
+    private static final Set<String> WEB_SLICE_PROVIDED_TYPES = Set.of(
+        OBJECT_MAPPER_FQN,
+        "org.springframework.context.ApplicationContext",
+        "org.springframework.context.ApplicationEventPublisher",
+        "org.springframework.context.MessageSource",
+        "org.springframework.core.env.Environment",
+        "org.springframework.http.converter.json.Jackson2ObjectMapperBuilder");
+
+    // Stubs for the slice annotations (no spring-boot-test-autoconfigure dependency required)
+    private static final String[] SLICE_ANNOTATION_STUBS = {
+        "package org.springframework.boot.test.autoconfigure.orm.jpa;\n" +
+        "public @interface DataJpaTest {}\n",
+        "package org.springframework.boot.test.autoconfigure.jdbc;\n" +
+        "public @interface AutoConfigureTestDatabase {\n" +
+        "    Replace replace() default Replace.ANY;\n" +
+        "    enum Replace { ANY, AUTO_CONFIGURED, NONE }\n" +
+        "}\n",
+        "package org.springframework.boot.test.autoconfigure.web.servlet;\n" +
+        "public @interface WebMvcTest {}\n",
+        "package org.springframework.boot.test.autoconfigure.json;\n" +
+        "public @interface JsonTest {}\n",
+        "package org.springframework.transaction.annotation;\n" +
+        "public enum Propagation { REQUIRED, SUPPORTS, MANDATORY, REQUIRES_NEW, NOT_SUPPORTED, NEVER, NESTED }\n",
+        "package org.springframework.transaction.annotation;\n" +
+        "public @interface Transactional { Propagation propagation() default Propagation.REQUIRED; }\n"
+    };
+
+    @Override
+    public String getDisplayName() {
+        return "Optimize Spring test context caching of migrated tests";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Opt-in pass after the migration: shares one @TestConfiguration between tests with the same stub set, " +
+               "downgrades @SpringBootTest to @DataJpaTest/@WebMvcTest/@JsonTest where all injected beans belong to the " +
+               "slice, and reports the expected number of test application contexts before and after.";
+    }
+
+    enum Slice {
+        DATA_JPA("@DataJpaTest"),
+        WEB_MVC("@WebMvcTest"),
+        JSON("@JsonTest");
+
+        final String annotation;
+
+        Slice(String annotation) {
+            this.annotation = annotation;
+        }
+    }
+
+    /**
+     * The scanned state is filled by concurrent scanners.
+     */
+    static class Accumulator {
+        final Map<String, ModuleState> modules = new ConcurrentSkipListMap<>();
+        final Set<String> existingPaths = ConcurrentHashMap.newKeySet();
+        /** Type FQN -> test source paths referencing it; decides whether a replaced configuration can be deleted */
+        final Map<String, Set<String>> typeReferences = new ConcurrentHashMap<>();
+        // Filled by generate(), applied by getVisitor()
+        final Map<String, String> sharedConfigurationByConfig = new HashMap<>();
+        final Set<String> deletedPaths = new HashSet<>();
+        final Map<String, Slice> slicesByTest = new HashMap<>();
+    }
+
+    /**
+     * Of several test sources or {@code @SpringBootApplication} classes, the one with the smallest source path
+     * determines the test source root and the application, so the outcome does not depend on the scan order.
+     */
+    static class ModuleState {
+        final String modulePrefix;
+        String testSourceRoot = "src/test/java";
+        @Nullable String applicationFqn;
+        final Set<String> applicationAnnotations = new TreeSet<>();
+        final Map<String, StubConfiguration> configurations = new ConcurrentSkipListMap<>();
+        final Map<String, SpringTest> tests = new ConcurrentSkipListMap<>();
+        final Set<String> testClassFqns = ConcurrentHashMap.newKeySet();
+        volatile boolean hasWebComponents = false;
+        final Set<String> webComponentDependencies = new ConcurrentSkipListSet<>();
+        volatile boolean webComponentDependenciesResolved = true;
+        private @Nullable String testSourcePath;
+        private @Nullable String applicationPath;
+
+        ModuleState(String modulePrefix) {
+            this.modulePrefix = modulePrefix;
+        }
+
+        synchronized void recordTestSource(String path, String sourceRoot) {
+            if (testSourcePath == null || path.compareTo(testSourcePath) < 0) {
+                testSourcePath = path;
+                testSourceRoot = sourceRoot;
+            }
+        }
+
+        synchronized void recordApplication(String path, String fqn, Set<String> annotations) {
+            if (applicationPath == null || path.compareTo(applicationPath) < 0) {
+                applicationPath = path;
+                applicationFqn = fqn;
+                applicationAnnotations.clear();
+                applicationAnnotations.addAll(annotations);
+            }
+        }
+    }
+
+    /**
+     * A {@code @TestConfiguration} that only declares {@code @Bean} methods.
+     */
+    static class StubConfiguration {
+        final String fqn;
+        final String packageName;
+        final String path;
+        final List<String> imports = new ArrayList<>();
+        final List<String> beanMethods = new ArrayList<>();
+        final Set<String> stubTypes = new TreeSet<>();
+
+        StubConfiguration(String fqn, String packageName, String path) {
+            this.fqn = fqn;
+            this.packageName = packageName;
+            this.path = path;
+        }
+
+        /** Effective stub set: same stub types created by the same bean methods. */
+        String stubSetKey() {
+            StringBuilder key = new StringBuilder(String.join(",", stubTypes));
+            for (String method : beanMethods) {
+                key.append('\n').append(method.replaceAll("\\s+", " "));
+            }
+            return key.toString();
+        }
+    }
+
+    static class SpringTest {
+        final String fqn;
+        final String path;
+        String springBootTestArguments = "";
+        final Set<String> importedClasses = new TreeSet<>();
+        final Set<String> contextAnnotations = new TreeSet<>();
+        final Set<String> contextAnnotationNames = new TreeSet<>();
+        final Set<String> beanOverrides = new TreeSet<>();
+        final Set<String> mockedTypes = new TreeSet<>();
+        final Set<String> injectedTypes = new TreeSet<>();
+        boolean injectedTypesResolved = true;
+        boolean onlyJpaTypesInjected = true;
+        @Nullable String superclass;
+        /** Why the test cannot share its context with any other test, if so */
+        @Nullable String ownContextReason;
+        boolean transactional = false;
+        boolean needsStubReview = false;
+        boolean autoConfigureMockMvc = false;
+
+        SpringTest(String fqn, String path) {
+            this.fqn = fqn;
+            this.path = path;
+        }
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile)) {
+                    return tree;
+                }
+                String sourcePath = normalizePath(((SourceFile) tree).getSourcePath());
+                acc.existingPaths.add(sourcePath);
+                if (tree instanceof J.CompilationUnit) {
+                    scanCompilationUnit((J.CompilationUnit) tree, sourcePath, acc);
+                }
+                return tree;
+            }
+        };
+    }
+
+    private void scanCompilationUnit(J.CompilationUnit cu, String sourcePath, Accumulator acc) {
+        ProjectConfiguration config = ProjectConfigurationLoader.loadWithInheritance(
+            extractProjectRoot(cu.getSourcePath()));
+        boolean testSource = config.isTestSource(sourcePath);
+        if (!testSource && !config.isMainSource(sourcePath)) {
+            return;
+        }
+        ModuleState module = acc.modules.computeIfAbsent(extractModulePrefix(sourcePath, config), ModuleState::new);
+        String pkg = cu.getPackageDeclaration() != null ? cu.getPackageDeclaration().getPackageName() : "";
+
+        if (!testSource) {
+            for (J.ClassDeclaration classDecl : cu.getClasses()) {
+                scanMainClass(classDecl, sourcePath, module);
+            }
+            return;
+        }
+
+        module.recordTestSource(sourcePath, extractSourceRoot(sourcePath, config.getTestSourceRoots(), "src/test/java"));
+        Set<String> declared = new HashSet<>();
+        for (J.ClassDeclaration classDecl : cu.getClasses()) {
+            String fqn = qualify(pkg, classDecl.getSimpleName());
+            declared.add(fqn);
+            module.testClassFqns.add(fqn);
+            if (hasAnnotation(classDecl.getLeadingAnnotations(), TEST_CONFIGURATION_FQN)) {
+                scanConfiguration(classDecl, cu, pkg, sourcePath, module);
+            } else if (hasAnnotation(classDecl.getLeadingAnnotations(), SPRING_BOOT_TEST_FQN)) {
+                scanTest(classDecl, cu, pkg, sourcePath, module);
+            }
+        }
+        for (JavaType type : cu.getTypesInUse().getTypesInUse()) {
+            JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+            if (fq != null && !declared.contains(fq.getFullyQualifiedName())) {
+                acc.typeReferences.computeIfAbsent(fq.getFullyQualifiedName(), k -> ConcurrentHashMap.newKeySet()).add(sourcePath);
+            }
+        }
+    }
+
+    private static void scanMainClass(J.ClassDeclaration classDecl, String sourcePath, ModuleState module) {
+        Set<String> annotations = new HashSet<>();
+        for (J.Annotation ann : classDecl.getLeadingAnnotations()) {
+            annotations.add(ann.getSimpleName());
+        }
+        if (annotations.contains("SpringBootApplication")) {
+            module.recordApplication(sourcePath,
+                classDecl.getType() != null ? classDecl.getType().getFullyQualifiedName() : classDecl.getSimpleName(),
+                annotations);
+        }
+        boolean webComponent = annotations.stream().anyMatch(WEB_COMPONENT_ANNOTATIONS::contains) ||
+            (annotations.stream().anyMatch(STEREOTYPE_ANNOTATIONS::contains) &&
+             WEB_COMPONENT_INTERFACES.stream().anyMatch(i -> TypeUtils.isAssignableTo(i, classDecl.getType())));
+        if (!webComponent) {
+            return;
+        }
+        module.hasWebComponents = true;
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (statement instanceof J.VariableDeclarations) {
+                J.VariableDeclarations field = (J.VariableDeclarations) statement;
+                if (field.getLeadingAnnotations().stream().anyMatch(a -> INJECTION_ANNOTATIONS.contains(a.getSimpleName()))) {
+                    addWebComponentDependency(field, module);
+                }
+            } else if (statement instanceof J.MethodDeclaration) {
+                J.MethodDeclaration method = (J.MethodDeclaration) statement;
+                if (method.isConstructor() || hasAnnotation(method.getLeadingAnnotations(), BEAN_FQN)) {
+                    for (Statement parameter : method.getParameters()) {
+                        if (parameter instanceof J.VariableDeclarations) {
+                            addWebComponentDependency((J.VariableDeclarations) parameter, module);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void addWebComponentDependency(J.VariableDeclarations variable, ModuleState module) {
+        if (variable.getLeadingAnnotations().stream().anyMatch(a -> "Value".equals(a.getSimpleName())) ||
+            variable.getType() instanceof JavaType.Primitive) {
+            return;
+        }
+        if (variable.getType() instanceof JavaType.Parameterized) {
+            String raw = ((JavaType.Parameterized) variable.getType()).getFullyQualifiedName();
+            // Lazily resolved or optional dependencies do not fail the slice
+            if ("org.springframework.beans.factory.ObjectProvider".equals(raw) || "java.util.Optional".equals(raw)) {
+                return;
+            }
+        }
+        JavaType.FullyQualified type = TypeUtils.asFullyQualified(variable.getType());
+        if (type == null) {
+            module.webComponentDependenciesResolved = false;
+        } else if (!WEB_SLICE_PROVIDED_TYPES.contains(type.getFullyQualifiedName())) {
+            module.webComponentDependencies.add(type.getFullyQualifiedName());
+        }
+    }
+
+    private static void scanConfiguration(J.ClassDeclaration classDecl, J.CompilationUnit cu, String pkg,
+                                          String sourcePath, ModuleState module) {
+        // Only plain stub configurations can be merged safely
+        if (classDecl.getLeadingAnnotations().size() != 1 || classDecl.getExtends() != null ||
+            classDecl.getImplements() != null) {
+            return;
+        }
+        StubConfiguration configuration = new StubConfiguration(qualify(pkg, classDecl.getSimpleName()), pkg, sourcePath);
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (!(statement instanceof J.MethodDeclaration)) {
+                return;
+            }
+            J.MethodDeclaration method = (J.MethodDeclaration) statement;
+            if (!hasAnnotation(method.getLeadingAnnotations(), BEAN_FQN) || method.getReturnTypeExpression() == null) {
+                return;
+            }
+            configuration.stubTypes.add(resolveTypeName(method.getReturnTypeExpression(), cu, pkg));
+            configuration.beanMethods.add(method.printTrimmed());
+        }
+        if (configuration.beanMethods.isEmpty()) {
+            return;
+        }
+        for (J.Import anImport : cu.getImports()) {
+            configuration.imports.add("import " + (anImport.isStatic() ? "static " : "") +
+                                      anImport.getQualid().printTrimmed() + ";");
+        }
+        module.configurations.put(configuration.fqn, configuration);
+    }
+
+    private static void scanTest(J.ClassDeclaration classDecl, J.CompilationUnit cu, String pkg,
+                                 String sourcePath, ModuleState module) {
+        SpringTest test = new SpringTest(qualify(pkg, classDecl.getSimpleName()), sourcePath);
+        if (classDecl.getExtends() != null) {
+            test.superclass = resolveTypeName(classDecl.getExtends(), cu, pkg);
+        }
+        for (J.Annotation ann : classDecl.getLeadingAnnotations()) {
+            String name = ann.getSimpleName();
+            if (isAnnotation(ann, SPRING_BOOT_TEST_FQN)) {
+                if (ann.getArguments() != null) {
+                    StringJoiner arguments = new StringJoiner(", ");
+                    for (Expression argument : ann.getArguments()) {
+                        if (!(argument instanceof J.Empty)) {
+                            arguments.add(argument.printTrimmed());
+                        }
+                    }
+                    test.springBootTestArguments = arguments.toString();
+                }
+            } else if (isAnnotation(ann, IMPORT_FQN)) {
+                if (ann.getArguments() != null) {
+                    for (Expression argument : ann.getArguments()) {
+                        collectClassLiterals(argument, cu, pkg, test.importedClasses);
+                    }
+                }
+            } else if ("Transactional".equals(name)) {
+                test.transactional = true;
+            } else if ("NeedsStubReview".equals(name)) {
+                test.needsStubReview = true;
+            } else if ("DirtiesContext".equals(name)) {
+                test.ownContextReason = "@DirtiesContext";
+            } else if (CONTEXT_ANNOTATIONS.contains(name) || name.startsWith("AutoConfigure")) {
+                test.contextAnnotations.add(ann.printTrimmed());
+                test.contextAnnotationNames.add(name);
+                test.autoConfigureMockMvc |= "AutoConfigureMockMvc".equals(name);
+            }
+        }
+
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (statement instanceof J.VariableDeclarations) {
+                scanTestField((J.VariableDeclarations) statement, test);
+            } else if (statement instanceof J.MethodDeclaration) {
+                J.MethodDeclaration method = (J.MethodDeclaration) statement;
+                for (J.Annotation ann : method.getLeadingAnnotations()) {
+                    if ("DynamicPropertySource".equals(ann.getSimpleName())) {
+                        test.ownContextReason = "@DynamicPropertySource";
+                    } else if ("DirtiesContext".equals(ann.getSimpleName())) {
+                        test.ownContextReason = "@DirtiesContext";
+                    }
+                }
+                // Constructor and test method parameters are resolved from the context as well
+                for (Statement parameter : method.getParameters()) {
+                    if (parameter instanceof J.VariableDeclarations) {
+                        J.VariableDeclarations variable = (J.VariableDeclarations) parameter;
+                        JavaType.FullyQualified type = TypeUtils.asFullyQualified(variable.getType());
+                        if (type == null || !JUNIT_PARAMETER_TYPES.contains(type.getFullyQualifiedName())) {
+                            addInjectedType(variable, test);
+                        }
+                    }
+                }
+            }
+        }
+        module.tests.put(test.fqn, test);
+    }
+
+    private static void scanTestField(J.VariableDeclarations field, SpringTest test) {
+        for (J.Annotation ann : field.getLeadingAnnotations()) {
+            String name = ann.getSimpleName();
+            if (BEAN_OVERRIDE_ANNOTATIONS.contains(name)) {
+                JavaType.FullyQualified type = TypeUtils.asFullyQualified(field.getType());
+                String typeName = type != null ? type.getFullyQualifiedName() :
+                    field.getTypeExpression() != null ? field.getTypeExpression().printTrimmed() : "?";
+                test.beanOverrides.add(ann.printTrimmed() + " " + typeName);
+                test.mockedTypes.add(typeName);
+                return;
+            }
+            if ("ServiceConnection".equals(name)) {
+                test.ownContextReason = "@ServiceConnection";
+                return;
+            }
+            if (INJECTION_ANNOTATIONS.contains(name)) {
+                addInjectedType(field, test);
+                return;
+            }
+        }
+    }
+
+    private static void addInjectedType(J.VariableDeclarations variable, SpringTest test) {
+        JavaType.FullyQualified type = TypeUtils.asFullyQualified(variable.getType());
+        if (type == null) {
+            test.injectedTypesResolved = false;
+            return;
+        }
+        test.injectedTypes.add(type.getFullyQualifiedName());
+        test.onlyJpaTypesInjected &= JPA_SLICE_TYPES.contains(type.getFullyQualifiedName()) ||
+                                     TypeUtils.isAssignableTo(SPRING_DATA_REPOSITORY_FQN, type);
+    }
+
+    private static void collectClassLiterals(Expression expression, J.CompilationUnit cu, String pkg, Set<String> classes) {
+        if (expression instanceof J.Assignment) {
+            collectClassLiterals(((J.Assignment) expression).getAssignment(), cu, pkg, classes);
+        } else if (expression instanceof J.NewArray && ((J.NewArray) expression).getInitializer() != null) {
+            for (Expression element : ((J.NewArray) expression).getInitializer()) {
+                collectClassLiterals(element, cu, pkg, classes);
+            }
+        } else {
+            String fqn = classLiteralFqn(expression, cu, pkg);
+            if (fqn != null) {
+                classes.add(fqn);
+            }
+        }
+    }
+
+    private static @Nullable String classLiteralFqn(Expression expression, J.CompilationUnit cu, String pkg) {
+        if (!(expression instanceof J.FieldAccess) || !"class".equals(((J.FieldAccess) expression).getSimpleName())) {
+            return null;
+        }
+        Expression target = ((J.FieldAccess) expression).getTarget();
+        JavaType.FullyQualified type = TypeUtils.asFullyQualified(target.getType());
+        return type != null ? type.getFullyQualifiedName() : resolveSimpleName(target.printTrimmed(), cu, pkg);
+    }
+
+    private static String resolveTypeName(TypeTree typeTree, J.CompilationUnit cu, String pkg) {
+        JavaType.FullyQualified type = TypeUtils.asFullyQualified(typeTree.getType());
+        return type != null ? type.getFullyQualifiedName() : resolveSimpleName(typeTree.printTrimmed(), cu, pkg);
+    }
+
+    private static String resolveSimpleName(String name, J.CompilationUnit cu, String pkg) {
+        if (name.contains(".")) {
+            return name;
+        }
+        for (J.Import anImport : cu.getImports()) {
+            if (!anImport.isStatic() && name.equals(anImport.getQualid().getSimpleName())) {
+                return anImport.getTypeName();
+            }
+        }
+        return qualify(pkg, name);
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        JavaParser javaParser = JavaParser.fromJavaVersion().build();
+        List<SourceFile> generated = new ArrayList<>();
+
+        for (ModuleState module : acc.modules.values()) {
+            if (module.tests.isEmpty()) {
+                continue;
+            }
+
+            // Group the configurations imported by tests by their effective stub set
+            Map<String, List<StubConfiguration>> configurationsByStubSet = new TreeMap<>();
+            Map<String, Set<String>> testPathsByConfiguration = new HashMap<>();
+            for (SpringTest test : module.tests.values()) {
+                for (String imported : test.importedClasses) {
+                    StubConfiguration configuration = module.configurations.get(imported);
+                    if (configuration == null) {
+                        continue;
+                    }
+                    Set<String> testPaths = testPathsByConfiguration.computeIfAbsent(imported, k -> new HashSet<>());
+                    if (testPaths.isEmpty()) {
+                        configurationsByStubSet.computeIfAbsent(configuration.stubSetKey(), k -> new ArrayList<>())
+                            .add(configuration);
+                    }
+                    testPaths.add(test.path);
+                }
+            }
+
+            Map<String, List<StubConfiguration>> replacedByShared = new TreeMap<>();
+            for (List<StubConfiguration> group : configurationsByStubSet.values()) {
+                if (group.size() < 2) {
+                    continue;
+                }
+                group.sort(Comparator.comparing(c -> c.fqn));
+                StubConfiguration representative = group.get(0);
+                String className = sharedConfigurationName(representative, module);
+                String sharedFqn = qualify(representative.packageName, className);
+                String path = module.modulePrefix + module.testSourceRoot + "/" +
+                              (representative.packageName.isEmpty() ? "" : representative.packageName.replace('.', '/') + "/") +
+                              className + ".java";
+                javaParser.parse(generateSharedConfigurationSource(className, representative, group)).findFirst()
+                    .ifPresent(sf -> generated.add(sf.withSourcePath(Paths.get(path))));
+                replacedByShared.put(sharedFqn, group);
+                for (StubConfiguration configuration : group) {
+                    acc.sharedConfigurationByConfig.put(configuration.fqn, sharedFqn);
+                    Set<String> references = acc.typeReferences.getOrDefault(configuration.fqn, Collections.emptySet());
+                    if (testPathsByConfiguration.get(configuration.fqn).containsAll(references)) {
+                        acc.deletedPaths.add(configuration.path);
+                    }
+                }
+            }
+
+            Map<String, Slice> slices = new TreeMap<>();
+            for (SpringTest test : module.tests.values()) {
+                Slice slice = chooseSlice(test, module);
+                if (slice != null) {
+                    slices.put(test.fqn, slice);
+                    acc.slicesByTest.put(test.fqn, slice);
+                }
+            }
+
+            String reportPath = module.modulePrefix + REPORT_FILE;
+            if (!acc.existingPaths.contains(reportPath)) {
+                generated.add(PlainText.builder()
+                    .sourcePath(Paths.get(reportPath))
+                    .text(generateReport(module, replacedByShared, slices, acc.sharedConfigurationByConfig))
+                    .build());
+            }
+        }
+        return generated;
+    }
+
+    private static @Nullable Slice chooseSlice(SpringTest test, ModuleState module) {
+        if (!test.springBootTestArguments.isEmpty() || !test.importedClasses.isEmpty() || test.superclass != null ||
+            test.ownContextReason != null || test.needsStubReview || !test.injectedTypesResolved ||
+            test.injectedTypes.isEmpty() || module.applicationFqn == null ||
+            !SLICE_COMPATIBLE_ANNOTATIONS.containsAll(test.contextAnnotationNames)) {
+            return null;
+        }
+        boolean applicationSafe = SLICE_SAFE_APPLICATION_ANNOTATIONS.containsAll(module.applicationAnnotations);
+        if (test.mockedTypes.isEmpty() && !test.autoConfigureMockMvc) {
+            if (applicationSafe && JSON_SLICE_TYPES.containsAll(test.injectedTypes)) {
+                return Slice.JSON;
+            }
+            if (test.onlyJpaTypesInjected && module.applicationAnnotations.stream()
+                    .allMatch(a -> SLICE_SAFE_APPLICATION_ANNOTATIONS.contains(a) || JPA_SAFE_APPLICATION_ANNOTATIONS.contains(a))) {
+                return Slice.DATA_JPA;
+            }
+        }
+        if (applicationSafe && test.autoConfigureMockMvc && test.injectedTypes.contains(MOCK_MVC_FQN) &&
+            WEB_SLICE_TYPES.containsAll(test.injectedTypes) && module.hasWebComponents &&
+            module.webComponentDependenciesResolved && test.mockedTypes.containsAll(module.webComponentDependencies)) {
+            return Slice.WEB_MVC;
+        }
+        return null;
+    }
+
+    /**
+     * Approximates Spring's context cache key: configuration classes, context customizers and the
+     * environment-related annotations of the test class.
+     */
+    private static String contextKey(SpringTest test, Map<String, String> sharedConfigurationByConfig, @Nullable Slice slice) {
+        if (test.ownContextReason != null) {
+            return "own:" + test.fqn;
+        }
+        Set<String> configurations = new TreeSet<>();
+        for (String imported : test.importedClasses) {
+            configurations.add(sharedConfigurationByConfig.getOrDefault(imported, imported));
+        }
+        Set<String> contextAnnotations = new TreeSet<>(test.contextAnnotations);
+        if (slice == Slice.WEB_MVC) {
+            contextAnnotations.removeIf(a -> a.startsWith("@AutoConfigureMockMvc"));
+        }
+        return (slice != null ? slice.annotation : "@SpringBootTest(" + test.springBootTestArguments + ")") +
+               "|" + configurations + "|" + contextAnnotations + "|" + test.beanOverrides + "|" + test.superclass;
+    }
+
+    private static String generateReport(ModuleState module, Map<String, List<StubConfiguration>> replacedByShared,
+                                         Map<String, Slice> slices, Map<String, String> sharedConfigurationByConfig) {
+        Map<String, List<String>> before = new TreeMap<>();
+        Map<String, List<String>> after = new TreeMap<>();
+        List<String> ownContexts = new ArrayList<>();
+        for (SpringTest test : module.tests.values()) {
+            before.computeIfAbsent(contextKey(test, Collections.emptyMap(), null), k -> new ArrayList<>()).add(test.fqn);
+            after.computeIfAbsent(contextKey(test, sharedConfigurationByConfig, slices.get(test.fqn)), k -> new ArrayList<>())
+                .add(test.fqn);
+            if (test.ownContextReason != null) {
+                ownContexts.add(String.format("| `%s` | %s |\n", test.fqn, test.ownContextReason));
+            }
+        }
+
+        StringBuilder report = new StringBuilder();
+        report.append("# Test Context Report\n\n");
+        report.append(String.format("**Module:** `%s`\n\n", module.modulePrefix.isEmpty() ? "Root Project" : module.modulePrefix));
+        report.append("Spring caches one application context per distinct test configuration (configuration classes, ");
+        report.append("mocked beans, profiles and properties). Expected contexts for the Spring tests of this module:\n\n");
+        report.append("| | Contexts |\n");
+        report.append("|---|---|\n");
+        report.append(String.format("| Spring tests | %d |\n", module.tests.size()));
+        report.append(String.format("| Before | %d |\n", before.size()));
+        report.append(String.format("| After | %d |\n\n", after.size()));
+
+        if (!replacedByShared.isEmpty()) {
+            report.append("## Shared Stub Configurations\n\n");
+            report.append("| Shared configuration | Stubs | Replaces |\n");
+            report.append("|----------------------|-------|----------|\n");
+            for (Map.Entry<String, List<StubConfiguration>> entry : replacedByShared.entrySet()) {
+                StringJoiner replaced = new StringJoiner(", ");
+                for (StubConfiguration configuration : entry.getValue()) {
+                    replaced.add("`" + simpleName(configuration.fqn) + "`");
+                }
+                report.append(String.format("| `%s` | %s | %s |\n", entry.getKey(),
+                    String.join(", ", entry.getValue().get(0).stubTypes.stream().map(t -> "`" + simpleName(t) + "`").toList()),
+                    replaced));
+            }
+            report.append("\n");
+        }
+
+        if (!slices.isEmpty()) {
+            report.append("## Test Slices\n\n");
+            report.append("| Test | Slice |\n");
+            report.append("|------|-------|\n");
+            for (Map.Entry<String, Slice> entry : slices.entrySet()) {
+                report.append(String.format("| `%s` | `%s` |\n", entry.getKey(), entry.getValue().annotation));
+            }
+            report.append("\n");
+        }
+
+        if (!ownContexts.isEmpty()) {
+            report.append("## Tests With Their Own Context\n\n");
+            report.append("| Test | Reason |\n");
+            report.append("|------|--------|\n");
+            ownContexts.forEach(report::append);
+            report.append("\n");
+        }
+
+        report.append("## Shared Contexts After Optimization\n\n");
+        int index = 1;
+        for (List<String> tests : after.values()) {
+            if (tests.size() < 2) {
+                continue;
+            }
+            report.append(String.format("### Context %d (%d tests)\n\n", index++, tests.size()));
+            for (String test : tests) {
+                report.append("- `").append(test).append("`\n");
+            }
+            report.append("\n");
+        }
+        if (index == 1) {
+            report.append("No two tests share a context.\n\n");
+        }
+
+        report.append("---\n");
+        report.append("*Generated by EJB-to-Spring Migration Recipes*\n");
+        return report.toString();
+    }
+
+    private static String sharedConfigurationName(StubConfiguration representative, ModuleState module) {
+        List<String> names = new ArrayList<>();
+        for (String stubType : representative.stubTypes) {
+            String name = simpleName(stubType);
+            for (String suffix : STUB_NAME_SUFFIXES) {
+                if (name.endsWith(suffix) && name.length() > suffix.length()) {
+                    name = name.substring(0, name.length() - suffix.length());
+                    break;
+                }
+            }
+            names.add(name);
+        }
+        Collections.sort(names);
+        String base = names.size() <= 3
+            ? "Shared" + String.join("", names)
+            : "Shared" + names.get(0) + "And" + (names.size() - 1) + "More";
+        String className = base + "TestConfiguration";
+        for (int i = 2; module.testClassFqns.contains(qualify(representative.packageName, className)); i++) {
+            className = base + i + "TestConfiguration";
+        }
+        module.testClassFqns.add(qualify(representative.packageName, className));
+        return className;
+    }
+
+    private static String generateSharedConfigurationSource(String className, StubConfiguration representative,
+                                                            List<StubConfiguration> replaced) {
+        StringBuilder source = new StringBuilder();
+        if (!representative.packageName.isEmpty()) {
+            source.append("package ").append(representative.packageName).append(";\n\n");
+        }
+        for (String anImport : representative.imports) {
+            source.append(anImport).append("\n");
+        }
+        StringJoiner replacedNames = new StringJoiner(", ");
+        for (StubConfiguration configuration : replaced) {
+            replacedNames.add(simpleName(configuration.fqn));
+        }
+        source.append("\n")
+            .append("/**\n")
+            .append(" * Stub beans shared by all tests with this stub set, so they run in one cached application context.\n")
+            .append(" * <p>\n")
+            .append(" * Replaces ").append(replacedNames).append(".\n")
+            .append(" */\n")
+            .append("@TestConfiguration\n")
+            .append("public class ").append(className).append(" {\n");
+        for (String method : representative.beanMethods) {
+            source.append("\n");
+            for (String line : method.split("\n")) {
+                source.append(line.isBlank() ? "" : "    " + line).append("\n");
+            }
+        }
+        source.append("}\n");
+        return source.toString();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        if (acc.sharedConfigurationByConfig.isEmpty() && acc.slicesByTest.isEmpty()) {
+            return TreeVisitor.noop();
+        }
+        TreeVisitor<?, ExecutionContext> testVisitor = new TestContextVisitor(acc);
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof J.CompilationUnit)) {
+                    return tree;
+                }
+                if (acc.deletedPaths.contains(normalizePath(((J.CompilationUnit) tree).getSourcePath()))) {
+                    return null;
+                }
+                return testVisitor.visit(tree, ctx);
+            }
+        };
+    }
+
+    /**
+     * Points {@code @Import} at the shared configurations and replaces {@code @SpringBootTest} with the chosen slice.
+     */
+    private static class TestContextVisitor extends JavaIsoVisitor<ExecutionContext> {
+        private final Accumulator acc;
+
+        TestContextVisitor(Accumulator acc) {
+            this.acc = acc;
+        }
+
+        @Override
+        public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+            J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+            J.CompilationUnit cu = getCursor().firstEnclosing(J.CompilationUnit.class);
+            if (cu == null || !(getCursor().getParentTreeCursor().getValue() instanceof J.CompilationUnit)) {
+                return cd;
+            }
+            String pkg = cu.getPackageDeclaration() != null ? cu.getPackageDeclaration().getPackageName() : "";
+
+            cd = cd.withLeadingAnnotations(ListUtils.map(cd.getLeadingAnnotations(), ann ->
+                isAnnotation(ann, IMPORT_FQN) && ann.getArguments() != null
+                    ? ann.withArguments(ListUtils.map(ann.getArguments(), arg -> replaceConfigurations(arg, cu, pkg)))
+                    : ann));
+
+            Slice slice = acc.slicesByTest.get(qualify(pkg, cd.getSimpleName()));
+            if (slice == null) {
+                return cd;
+            }
+            cd = cd.withLeadingAnnotations(ListUtils.map(cd.getLeadingAnnotations(), ann ->
+                isAnnotation(ann, SPRING_BOOT_TEST_FQN) ||
+                (slice == Slice.WEB_MVC && isAnnotation(ann, AUTO_CONFIGURE_MOCK_MVC_FQN)) ? null : ann));
+            maybeRemoveImport(SPRING_BOOT_TEST_FQN);
+            switch (slice) {
+                case DATA_JPA:
+                    // Keep the configured database and the non-transactional execution of @SpringBootTest
+                    cd = addAnnotation(cd, "@DataJpaTest", DATA_JPA_TEST_FQN);
+                    cd = addAnnotation(cd, "@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)",
+                        AUTO_CONFIGURE_TEST_DATABASE_FQN);
+                    if (!hasAnnotation(cd.getLeadingAnnotations(), TRANSACTIONAL_FQN)) {
+                        cd = addAnnotation(cd, "@Transactional(propagation = Propagation.NOT_SUPPORTED)",
+                            TRANSACTIONAL_FQN, PROPAGATION_FQN);
+                    }
+                    break;
+                case WEB_MVC:
+                    maybeRemoveImport(AUTO_CONFIGURE_MOCK_MVC_FQN);
+                    cd = addAnnotation(cd, "@WebMvcTest", WEB_MVC_TEST_FQN);
+                    break;
+                case JSON:
+                    cd = addAnnotation(cd, "@JsonTest", JSON_TEST_FQN);
+                    break;
+            }
+            return cd;
+        }
+
+        private Expression replaceConfigurations(Expression expression, J.CompilationUnit cu, String pkg) {
+            if (expression instanceof J.Assignment) {
+                J.Assignment assignment = (J.Assignment) expression;
+                return assignment.withAssignment(replaceConfigurations(assignment.getAssignment(), cu, pkg));
+            }
+            if (expression instanceof J.NewArray) {
+                J.NewArray array = (J.NewArray) expression;
+                return array.withInitializer(ListUtils.map(array.getInitializer(), e -> replaceConfigurations(e, cu, pkg)));
+            }
+            String fqn = classLiteralFqn(expression, cu, pkg);
+            String shared = fqn != null ? acc.sharedConfigurationByConfig.get(fqn) : null;
+            if (shared == null) {
+                return expression;
+            }
+            J.FieldAccess classLiteral = (J.FieldAccess) expression;
+            maybeRemoveImport(fqn);
+            if (!pkg.equals(packageName(shared))) {
+                maybeAddImport(shared);
+            }
+            J.Identifier target = new J.Identifier(Tree.randomId(), classLiteral.getTarget().getPrefix(), Markers.EMPTY,
+                Collections.emptyList(), simpleName(shared), JavaType.ShallowClass.build(shared), null);
+            return classLiteral.withTarget(target);
+        }
+
+        private J.ClassDeclaration addAnnotation(J.ClassDeclaration cd, String annotation, String... imports) {
+            for (String anImport : imports) {
+                maybeAddImport(anImport);
+            }
+            return JavaTemplates.builder(annotation)
+                .dependsOn(SLICE_ANNOTATION_STUBS)
+                .imports(imports)
+                .build()
+                .apply(updateCursor(cd), cd.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
+        }
+    }
+
+    private static boolean hasAnnotation(List<J.Annotation> annotations, String fqn) {
+        return annotations.stream().anyMatch(ann -> isAnnotation(ann, fqn));
+    }
+
+    private static boolean isAnnotation(J.Annotation ann, String fqn) {
+        return TypeUtils.isOfClassType(ann.getType(), fqn) ||
+               (TypeUtils.asFullyQualified(ann.getType()) == null && fqn.endsWith("." + ann.getSimpleName()));
+    }
+
+    private static String simpleName(String fqn) {
+        return fqn.substring(fqn.lastIndexOf('.') + 1);
+    }
+
+    private static String packageName(String fqn) {
+        int lastDot = fqn.lastIndexOf('.');
+        return lastDot < 0 ? "" : fqn.substring(0, lastDot);
+    }
+
+    private static String qualify(String basePackage, String className) {
+        return basePackage.isEmpty() ? className : basePackage + "." + className;
+    }
+
+    private static String extractModulePrefix(String sourcePath, ProjectConfiguration config) {
+        List<String> roots = new ArrayList<>(config.getMainSourceRoots());
+        roots.addAll(config.getTestSourceRoots());
+        roots.add("src/main/java");
+        roots.add("src/test/java");
+        for (String root : roots) {
+            int idx = sourcePath.indexOf("/" + root + "/");
+            if (idx >= 0) {
+                return sourcePath.substring(0, idx + 1);
+            }
+            if (sourcePath.startsWith(root + "/")) {
+                return "";
+            }
+        }
+        int idx = sourcePath.indexOf("/src/");
+        return idx > 0 ? sourcePath.substring(0, idx + 1) : "";
+    }
+
+    private static String extractSourceRoot(String sourcePath, List<String> roots, String defaultRoot) {
+        for (String root : roots) {
+            if (sourcePath.contains("/" + root + "/") || sourcePath.startsWith(root + "/")) {
+                return root;
+            }
+        }
+        return defaultRoot;
+    }
+
+    private static String normalizePath(@Nullable Path path) {
+        if (path == null) {
+            return "";
+        }
+        return path.toString().replace('\\', '/');
+    }
+
+    private static Path extractProjectRoot(Path sourcePath) {
+        if (sourcePath == null) {
+            return Paths.get(System.getProperty("user.dir"));
+        }
+        Path current = sourcePath.toAbsolutePath().getParent();
+        while (current != null) {
+            if (Files.exists(current.resolve("pom.xml")) ||
+                Files.exists(current.resolve("build.gradle")) ||
+                Files.exists(current.resolve("project.yaml"))) {
+                return current;
+            }
+            current = current.getParent();
+        }
+        return Paths.get(System.getProperty("user.dir"));
+    }
+}
@@ -0,0 +1,768 @@
+package com.github.rewrite.ejb;
+
+import com.github.rewrite.ejb.config.ProjectConfiguration;
+import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.maven.AddDependency;
+import org.openrewrite.maven.MavenTagInsertionComparator;
+import org.openrewrite.xml.AddToTagVisitor;
+import org.openrewrite.xml.tree.Xml;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Opt-in readiness pass for Spring AOT processing and GraalVM native images.
+ * <p>
+ * Run it on an already migrated project (after MigrateEjbToSpring), so the classes generated by the
+ * migration are parsed Java sources. Per module with a {@code @SpringBootApplication} it:
+ * <ul>
+ *   <li>generates {@code MigrationRuntimeHints}: reflection hints for Quartz jobs (instantiated by class
+ *       name through the generated JobFactory and the job store), serialization hints for JobDataMap
+ *       payloads, binding hints for the DTOs of migrated REST controllers and {@code @HttpExchange}
+ *       clients, and JDK proxy hints for the clients</li>
+ *   <li>replaces the lambda {@code Queue}/{@code Topic} beans of the generated JmsConfiguration with the
+ *       generated {@code NamedQueue}/{@code NamedTopic} records</li>
+ *   <li>generates {@code NativeImageSmokeTest}, which checks the hints and that {@code @Profile("manual-migration")}
+ *       beans are absent - AOT evaluates profiles at build time, so they cannot be activated in the image</li>
+ *   <li>adds a {@code native} Maven profile (process-aot, process-test-aot, native-maven-plugin with native
+ *       test execution), so {@code mvn -Pnative test} runs the smoke test as a native image</li>
+ * </ul>
+ * Existing files and an existing {@code native} profile are left untouched.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class PrepareNativeImage extends ScanningRecipe<PrepareNativeImage.Accumulator> {
+
+    private static final String SPRING_BOOT_VERSION = "3.5.0";
+    private static final String NATIVE_MAVEN_PLUGIN_VERSION = "0.10.6";
+    private static final String JUNIT_PLATFORM_VERSION = "1.12.2";
+
+    private static final String HINTS_CLASS_NAME = "MigrationRuntimeHints";
+    private static final String SMOKE_TEST_CLASS_NAME = "NativeImageSmokeTest";
+    private static final String NAMED_QUEUE = "NamedQueue";
+    private static final String NAMED_TOPIC = "NamedTopic";
+    private static final String MANUAL_MIGRATION_PROFILE = "manual-migration";
+
+    private static final String QUARTZ_JOB_FQN = "org.quartz.Job";
+    private static final String QUARTZ_PACKAGE_PREFIX = "org.quartz.";
+    private static final String PROFILE_FQN = "org.springframework.context.annotation.Profile";
+    private static final String REST_CONTROLLER_FQN = "org.springframework.web.bind.annotation.RestController";
+    private static final String HTTP_EXCHANGE_FQN = "org.springframework.web.service.annotation.HttpExchange";
+    private static final String SPRING_BOOT_APPLICATION_FQN = "org.springframework.boot.autoconfigure.SpringBootApplication";
+
+    /**
+     * {@code mvn -Pnative test} builds and runs the tests as a native image, {@code mvn -Pnative package}
+     * builds the application image.
+     */
+    private static final String NATIVE_PROFILE =
+        "<profile>\n" +
+        "    <id>native</id>\n" +
+        "    <dependencies>\n" +
+        "        <dependency>\n" +
+        "            <groupId>org.junit.platform</groupId>\n" +
+        "            <artifactId>junit-platform-launcher</artifactId>\n" +
+        "            <version>" + JUNIT_PLATFORM_VERSION + "</version>\n" +
+        "            <scope>test</scope>\n" +
+        "        </dependency>\n" +
+        "    </dependencies>\n" +
+        "    <build>\n" +
+        "        <plugins>\n" +
+        "            <plugin>\n" +
+        "                <groupId>org.springframework.boot</groupId>\n" +
+        "                <artifactId>spring-boot-maven-plugin</artifactId>\n" +
+        "                <version>" + SPRING_BOOT_VERSION + "</version>\n" +
+        "                <executions>\n" +
+        "                    <execution>\n" +
+        "                        <id>process-aot</id>\n" +
+        "                        <goals>\n" +
+        "                            <goal>process-aot</goal>\n" +
+        "                        </goals>\n" +
+        "                    </execution>\n" +
+        "                    <execution>\n" +
+        "                        <id>process-test-aot</id>\n" +
+        "                        <goals>\n" +
+        "                            <goal>process-test-aot</goal>\n" +
+        "                        </goals>\n" +
+        "                    </execution>\n" +
+        "                </executions>\n" +
+        "            </plugin>\n" +
+        "            <plugin>\n" +
+        "                <groupId>org.graalvm.buildtools</groupId>\n" +
+        "                <artifactId>native-maven-plugin</artifactId>\n" +
+        "                <version>" + NATIVE_MAVEN_PLUGIN_VERSION + "</version>\n" +
+        "                <extensions>true</extensions>\n" +
+        "                <executions>\n" +
+        "                    <execution>\n" +
+        "                        <id>native-test</id>\n" +
+        "                        <goals>\n" +
+        "                            <goal>test</goal>\n" +
+        "                        </goals>\n" +
+        "                    </execution>\n" +
+        "                    <execution>\n" +
+        "                        <id>build-native</id>\n" +
+        "                        <phase>package</phase>\n" +
+        "                        <goals>\n" +
+        "                            <goal>compile-no-fork</goal>\n" +
+        "                        </goals>\n" +
+        "                    </execution>\n" +
+        "                </executions>\n" +
+        "            </plugin>\n" +
+        "        </plugins>\n" +
+        "    </build>\n" +
+        "</profile>";
+
+    /**
+     * Types Quartz writes when it Java-serializes a JobDataMap into the JDBC job store.
+     */
+    private static final List<String> JOB_DATA_MAP_SERIALIZED_TYPES = List.of(
+        "org.quartz.JobDataMap",
+        "org.quartz.utils.StringKeyDirtyFlagMap",
+        "org.quartz.utils.DirtyFlagMap",
+        "java.util.HashMap",
+        "java.lang.String",
+        "java.lang.Long",
+        "java.lang.Integer",
+        "java.lang.Boolean"
+    );
+
+    /**
+     * Migration helpers from MigrateTimerServiceToQuartz that are stored in the JobDataMap.
+     */
+    private static final List<String> TIMER_HELPER_TYPES = List.of(
+        "com.github.migration.timer.MigratedTimerHandle",
+        "com.github.migration.timer.MigratedScheduleInfo"
+    );
+
+    @Override
+    public String getDisplayName() {
+        return "Prepare migrated applications for Spring AOT and GraalVM native images";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Opt-in pass after the migration: generates RuntimeHints for Quartz jobs, JobDataMap payloads, " +
+               "REST/HttpExchange DTOs and client proxies, replaces lambda JMS destinations with named records, " +
+               "and adds a native Maven profile with a native smoke test.";
+    }
+
+    /**
+     * The scanned state is filled by concurrent scanners.
+     */
+    static class Accumulator {
+        final Map<String, ModuleState> modules = new ConcurrentSkipListMap<>();
+        final Set<String> existingPaths = ConcurrentHashMap.newKeySet();
+        /** Packages of JmsConfiguration classes with lambda destinations, filled by generate(). */
+        final Set<String> namedQueuePackages = new HashSet<>();
+        final Set<String> namedTopicPackages = new HashSet<>();
+    }
+
+    /**
+     * Of several main sources or {@code @SpringBootApplication} classes, the one with the smallest source path
+     * determines the main source root and the application package, so the outcome does not depend on the scan order.
+     */
+    static class ModuleState {
+        final String modulePrefix;
+        String mainSourceRoot = "src/main/java";
+        volatile String testSourceRoot = "src/test/java";
+        @Nullable String springBootApplicationPackage;
+        final Set<String> classFqns = ConcurrentHashMap.newKeySet();
+        final Set<String> quartzJobs = new ConcurrentSkipListSet<>();
+        final Set<String> jobDataTypes = new ConcurrentSkipListSet<>();
+        final Set<String> bindingTypes = new ConcurrentSkipListSet<>();
+        final Set<String> httpExchangeClients = new ConcurrentSkipListSet<>();
+        final Set<String> manualMigrationClasses = new ConcurrentSkipListSet<>();
+        /** Package -> Queue interface FQN (jakarta or javax) of lambda queue beans */
+        final Map<String, String> lambdaQueues = new ConcurrentSkipListMap<>();
+        final Map<String, String> lambdaTopics = new ConcurrentSkipListMap<>();
+        volatile boolean hasNativeProfile = false;
+        private @Nullable String mainSourcePath;
+        private @Nullable String springBootApplicationPath;
+
+        ModuleState(String modulePrefix) {
+            this.modulePrefix = modulePrefix;
+        }
+
+        synchronized void recordMainSource(String path, String sourceRoot) {
+            if (mainSourcePath == null || path.compareTo(mainSourcePath) < 0) {
+                mainSourcePath = path;
+                mainSourceRoot = sourceRoot;
+            }
+        }
+
+        synchronized void recordSpringBootApplication(String path, String pkg) {
+            if (springBootApplicationPath == null || path.compareTo(springBootApplicationPath) < 0) {
+                springBootApplicationPath = path;
+                springBootApplicationPackage = pkg;
+            }
+        }
+
+        boolean hasHints() {
+            return !quartzJobs.isEmpty() || !jobDataTypes.isEmpty() || !bindingTypes.isEmpty() ||
+                   !httpExchangeClients.isEmpty();
+        }
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile)) {
+                    return tree;
+                }
+                String sourcePath = normalizePath(((SourceFile) tree).getSourcePath());
+                acc.existingPaths.add(sourcePath);
+                if (tree instanceof J.CompilationUnit) {
+                    scanCompilationUnit((J.CompilationUnit) tree, sourcePath, acc);
+                } else if (tree instanceof Xml.Document && sourcePath.endsWith("pom.xml")) {
+                    String modulePrefix = sourcePath.equals("pom.xml") ? "" : sourcePath.substring(0, sourcePath.length() - "pom.xml".length());
+                    if (findNativeProfile((Xml.Document) tree) != null) {
+                        acc.modules.computeIfAbsent(modulePrefix, ModuleState::new).hasNativeProfile = true;
+                    }
+                }
+                return tree;
+            }
+        };
+    }
+
+    private void scanCompilationUnit(J.CompilationUnit cu, String sourcePath, Accumulator acc) {
+        ProjectConfiguration config = ProjectConfigurationLoader.loadWithInheritance(
+            extractProjectRoot(cu.getSourcePath()));
+        if (!config.isMainSource(sourcePath)) {
+            return;
+        }
+        ModuleState module = acc.modules.computeIfAbsent(extractModulePrefix(sourcePath, config), ModuleState::new);
+        module.recordMainSource(sourcePath, extractSourceRoot(sourcePath, config.getMainSourceRoots(), "src/main/java"));
+        if (!config.getTestSourceRoots().isEmpty()) {
+            module.testSourceRoot = config.getTestSourceRoots().get(0);
+        }
+
+        String pkg = cu.getPackageDeclaration() != null ? cu.getPackageDeclaration().getPackageName() : "";
+        for (J.ClassDeclaration classDecl : cu.getClasses()) {
+            module.classFqns.add(qualify(pkg, classDecl.getSimpleName()));
+        }
+
+        new JavaIsoVisitor<ModuleState>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ModuleState state) {
+                String fqn = classDecl.getType() != null
+                    ? classDecl.getType().getFullyQualifiedName()
+                    : qualify(pkg, classDecl.getSimpleName());
+                for (J.Annotation ann : classDecl.getLeadingAnnotations()) {
+                    if (isAnnotation(ann, SPRING_BOOT_APPLICATION_FQN)) {
+                        state.recordSpringBootApplication(sourcePath, pkg);
+                    } else if (isAnnotation(ann, PROFILE_FQN) && ann.getArguments() != null &&
+                               ann.getArguments().stream().anyMatch(arg -> arg instanceof J.Literal &&
+                                   MANUAL_MIGRATION_PROFILE.equals(((J.Literal) arg).getValue()))) {
+                        state.manualMigrationClasses.add(fqn);
+                    } else if (isAnnotation(ann, HTTP_EXCHANGE_FQN) && classDecl.getKind() == J.ClassDeclaration.Kind.Type.Interface) {
+                        state.httpExchangeClients.add(fqn);
+                        collectBindingTypes(classDecl, state);
+                    } else if (isAnnotation(ann, REST_CONTROLLER_FQN)) {
+                        collectBindingTypes(classDecl, state);
+                    }
+                }
+                if (classDecl.getImplements() != null && classDecl.getImplements().stream()
+                        .anyMatch(i -> TypeUtils.isOfClassType(i.getType(), QUARTZ_JOB_FQN))) {
+                    state.quartzJobs.add(fqn);
+                }
+                return super.visitClassDeclaration(classDecl, state);
+            }
+
+            @Override
+            public J.Return visitReturn(J.Return _return, ModuleState state) {
+                J.MethodDeclaration method = getCursor().firstEnclosing(J.MethodDeclaration.class);
+                if (isLambdaDestination(_return, method)) {
+                    JavaType.FullyQualified returnType = TypeUtils.asFullyQualified(method.getReturnTypeExpression().getType());
+                    if (returnType.getFullyQualifiedName().endsWith(".Queue")) {
+                        state.lambdaQueues.put(pkg, returnType.getFullyQualifiedName());
+                    } else {
+                        state.lambdaTopics.put(pkg, returnType.getFullyQualifiedName());
+                    }
+                }
+                return super.visitReturn(_return, state);
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ModuleState state) {
+                JavaType.Method methodType = method.getMethodType();
+                // JobDataMap.put is declared on the org.quartz.utils map base classes
+                if (methodType != null &&
+                    ("put".equals(method.getSimpleName()) || "usingJobData".equals(method.getSimpleName())) &&
+                    methodType.getDeclaringType().getFullyQualifiedName().startsWith(QUARTZ_PACKAGE_PREFIX)) {
+                    for (Expression arg : method.getArguments()) {
+                        collectTypes(arg.getType(), state.jobDataTypes);
+                    }
+                }
+                return super.visitMethodInvocation(method, state);
+            }
+        }.visit(cu, module);
+    }
+
+    private static boolean isAnnotation(J.Annotation ann, String fqn) {
+        return TypeUtils.isOfClassType(ann.getType(), fqn) ||
+               (ann.getType() == null && fqn.endsWith("." + ann.getSimpleName()));
+    }
+
+    /**
+     * Matches {@code return () -> "name";} in a method returning a JMS Queue or Topic.
+     */
+    private static boolean isLambdaDestination(J.Return _return, J.@Nullable MethodDeclaration method) {
+        if (method == null || method.getReturnTypeExpression() == null ||
+            !(_return.getExpression() instanceof J.Lambda)) {
+            return false;
+        }
+        JavaType.FullyQualified returnType = TypeUtils.asFullyQualified(method.getReturnTypeExpression().getType());
+        if (returnType == null || !isJmsDestinationType(returnType.getFullyQualifiedName())) {
+            return false;
+        }
+        J.Lambda lambda = (J.Lambda) _return.getExpression();
+        return lambda.getParameters().getParameters().stream().allMatch(p -> p instanceof J.Empty) &&
+               lambda.getBody() instanceof J.Literal &&
+               ((J.Literal) lambda.getBody()).getValue() instanceof String;
+    }
+
+    private static boolean isJmsDestinationType(String fqn) {
+        return "jakarta.jms.Queue".equals(fqn) || "javax.jms.Queue".equals(fqn) ||
+               "jakarta.jms.Topic".equals(fqn) || "javax.jms.Topic".equals(fqn);
+    }
+
+    private static void collectBindingTypes(J.ClassDeclaration classDecl, ModuleState state) {
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (!(statement instanceof J.MethodDeclaration)) {
+                continue;
+            }
+            J.MethodDeclaration method = (J.MethodDeclaration) statement;
+            if (method.getMethodType() == null) {
+                continue;
+            }
+            collectTypes(method.getMethodType().getReturnType(), state.bindingTypes);
+            for (JavaType parameterType : method.getMethodType().getParameterTypes()) {
+                collectTypes(parameterType, state.bindingTypes);
+            }
+        }
+    }
+
+    /**
+     * Collects the class types of {@code type} including type arguments and array components;
+     * non-project types are filtered out in generate().
+     */
+    private static void collectTypes(@Nullable JavaType type, Set<String> types) {
+        if (type instanceof JavaType.Array) {
+            collectTypes(((JavaType.Array) type).getElemType(), types);
+        } else if (type instanceof JavaType.Parameterized) {
+            types.add(((JavaType.Parameterized) type).getType().getFullyQualifiedName());
+            for (JavaType typeParameter : ((JavaType.Parameterized) type).getTypeParameters()) {
+                collectTypes(typeParameter, types);
+            }
+        } else if (type instanceof JavaType.GenericTypeVariable) {
+            for (JavaType bound : ((JavaType.GenericTypeVariable) type).getBounds()) {
+                collectTypes(bound, types);
+            }
+        } else if (type instanceof JavaType.FullyQualified) {
+            types.add(((JavaType.FullyQualified) type).getFullyQualifiedName());
+        }
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        JavaParser javaParser = JavaParser.fromJavaVersion().build();
+        List<SourceFile> generated = new ArrayList<>();
+
+        for (ModuleState module : acc.modules.values()) {
+            if (module.springBootApplicationPackage == null) {
+                continue;
+            }
+            // Hints are only needed for the application's own types; JDK and library types are
+            // covered by their reachability metadata
+            module.jobDataTypes.retainAll(module.classFqns);
+            module.bindingTypes.retainAll(module.classFqns);
+            for (String helper : TIMER_HELPER_TYPES) {
+                if (module.classFqns.contains(helper)) {
+                    module.jobDataTypes.add(helper);
+                }
+            }
+
+            String basePackage = module.springBootApplicationPackage;
+            String packagePath = basePackage.isEmpty() ? "" : basePackage.replace('.', '/') + "/";
+            String mainPrefix = module.modulePrefix + module.mainSourceRoot + "/";
+
+            boolean hints = module.hasHints();
+            String hintsPath = mainPrefix + packagePath + HINTS_CLASS_NAME + ".java";
+            if (hints && !acc.existingPaths.contains(hintsPath)) {
+                javaParser.parse(generateHintsSource(basePackage, module)).findFirst()
+                    .ifPresent(sf -> generated.add(sf.withSourcePath(Paths.get(hintsPath))));
+            }
+
+            String testPath = module.modulePrefix + module.testSourceRoot + "/" + packagePath + SMOKE_TEST_CLASS_NAME + ".java";
+            if (!acc.existingPaths.contains(testPath)) {
+                javaParser.parse(generateSmokeTestSource(basePackage, module, hints)).findFirst()
+                    .ifPresent(sf -> generated.add(sf.withSourcePath(Paths.get(testPath))));
+            }
+
+            generateNamedDestinations(module.lambdaQueues, NAMED_QUEUE, "getQueueName", mainPrefix,
+                acc.existingPaths, acc.namedQueuePackages, javaParser, generated);
+            generateNamedDestinations(module.lambdaTopics, NAMED_TOPIC, "getTopicName", mainPrefix,
+                acc.existingPaths, acc.namedTopicPackages, javaParser, generated);
+        }
+        return generated;
+    }
+
+    private static void generateNamedDestinations(Map<String, String> lambdaDestinations, String className, String getter,
+                                                  String mainPrefix, Set<String> existingPaths, Set<String> packages,
+                                                  JavaParser javaParser, List<SourceFile> generated) {
+        for (Map.Entry<String, String> entry : lambdaDestinations.entrySet()) {
+            String pkg = entry.getKey();
+            String path = mainPrefix + (pkg.isEmpty() ? "" : pkg.replace('.', '/') + "/") + className + ".java";
+            packages.add(pkg);
+            if (!existingPaths.contains(path)) {
+                javaParser.parse(generateNamedDestinationSource(pkg, className, entry.getValue(), getter)).findFirst()
+                    .ifPresent(sf -> generated.add(sf.withSourcePath(Paths.get(path))));
+            }
+        }
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        TreeVisitor<?, ExecutionContext> javaVisitor = new LambdaDestinationVisitor(acc);
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof J.CompilationUnit) {
+                    return acc.namedQueuePackages.isEmpty() && acc.namedTopicPackages.isEmpty()
+                        ? tree : javaVisitor.visit(tree, ctx);
+                }
+                if (tree instanceof Xml.Document) {
+                    String sourcePath = normalizePath(((Xml.Document) tree).getSourcePath());
+                    if (!sourcePath.endsWith("pom.xml")) {
+                        return tree;
+                    }
+                    String modulePrefix = sourcePath.equals("pom.xml") ? "" : sourcePath.substring(0, sourcePath.length() - "pom.xml".length());
+                    ModuleState module = acc.modules.get(modulePrefix);
+                    if (module == null || module.springBootApplicationPackage == null) {
+                        return tree;
+                    }
+                    Xml.Document doc = (Xml.Document) new AddDependency(
+                        "org.springframework.boot",
+                        "spring-boot-starter-test",
+                        SPRING_BOOT_VERSION,
+                        null, "test", null, null, null, null, null, null, null
+                    ).getVisitor().visit(tree, ctx);
+                    return module.hasNativeProfile ? doc : addNativeProfile(doc, ctx);
+                }
+                return tree;
+            }
+        };
+    }
+
+    private static Xml.Document addNativeProfile(Xml.Document doc, ExecutionContext ctx) {
+        Xml.Tag root = doc.getRoot();
+        Optional<Xml.Tag> profiles = root.getChild("profiles");
+        if (profiles.isPresent()) {
+            return (Xml.Document) new AddToTagVisitor<>(profiles.get(), Xml.Tag.build(NATIVE_PROFILE))
+                .visitNonNull(doc, ctx);
+        }
+        return (Xml.Document) new AddToTagVisitor<>(root,
+            Xml.Tag.build("<profiles>\n" + NATIVE_PROFILE + "\n</profiles>"),
+            new MavenTagInsertionComparator(root.getChildren()))
+            .visitNonNull(doc, ctx);
+    }
+
+    private static Xml.@Nullable Tag findNativeProfile(Xml.Document doc) {
+        Xml.Tag root = doc.getRoot();
+        if (root == null) {
+            return null;
+        }
+        return root.getChild("profiles")
+            .flatMap(profiles -> profiles.getChildren("profile").stream()
+                .filter(profile -> profile.getChildValue("id").map("native"::equals).orElse(false))
+                .findFirst())
+            .orElse(null);
+    }
+
+    /**
+     * Replaces {@code return () -> "name";} in JMS destination bean methods with the generated named record.
+     */
+    private static class LambdaDestinationVisitor extends JavaVisitor<ExecutionContext> {
+        private final Accumulator acc;
+
+        LambdaDestinationVisitor(Accumulator acc) {
+            this.acc = acc;
+        }
+
+        @Override
+        public J visitReturn(J.Return _return, ExecutionContext ctx) {
+            J.Return r = (J.Return) super.visitReturn(_return, ctx);
+            J.MethodDeclaration method = getCursor().firstEnclosing(J.MethodDeclaration.class);
+            J.CompilationUnit cu = getCursor().firstEnclosing(J.CompilationUnit.class);
+            if (cu == null || !isLambdaDestination(r, method)) {
+                return r;
+            }
+            String pkg = cu.getPackageDeclaration() != null ? cu.getPackageDeclaration().getPackageName() : "";
+            String returnType = TypeUtils.asFullyQualified(method.getReturnTypeExpression().getType()).getFullyQualifiedName();
+            boolean queue = returnType.endsWith(".Queue");
+            if (!(queue ? acc.namedQueuePackages : acc.namedTopicPackages).contains(pkg)) {
+                return r;
+            }
+
+            String className = queue ? NAMED_QUEUE : NAMED_TOPIC;
+            J.Lambda lambda = (J.Lambda) r.getExpression();
+            // The whole return statement is replaced: a lambda is not a template target outside of its context
+            J.Return newReturn = JavaTemplates.builder("return new " + className + "(#{any(java.lang.String)});")
+                .dependsOn(
+                    (pkg.isEmpty() ? "" : "package " + pkg + ";\n") +
+                    "public record " + className + "(String name) {}")
+                .build()
+                .apply(updateCursor(r), r.getCoordinates().replace(), lambda.getBody());
+            // Drop the "Lambda Queue - works with some JMS providers" comment
+            return newReturn.withPrefix(r.getPrefix().withComments(Collections.emptyList()));
+        }
+    }
+
+    private static String generateNamedDestinationSource(String pkg, String className, String interfaceFqn, String getter) {
+        String interfaceName = interfaceFqn.substring(interfaceFqn.lastIndexOf('.') + 1);
+        String field = getter.equals("getQueueName") ? "queueName" : "topicName";
+        StringBuilder source = new StringBuilder();
+        if (!pkg.isEmpty()) {
+            source.append("package ").append(pkg).append(";\n\n");
+        }
+        source.append("import ").append(interfaceFqn).append(";\n")
+            .append("import java.io.Serializable;\n\n")
+            .append("/**\n")
+            .append(" * Named JMS ").append(interfaceName.toLowerCase(Locale.ROOT))
+            .append(" for providers that resolve destinations by name; a concrete, serializable\n")
+            .append(" * type instead of a lambda, so it can be registered for reflection and serialization in native images.\n")
+            .append(" */\n")
+            .append("public record ").append(className).append("(String ").append(field).append(") implements ")
+            .append(interfaceName).append(", Serializable {\n\n")
+            .append("    @Override\n")
+            .append("    public String ").append(getter).append("() {\n")
+            .append("        return ").append(field).append(";\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public String toString() {\n")
+            .append("        return ").append(field).append(";\n")
+            .append("    }\n")
+            .append("}\n");
+        return source.toString();
+    }
+
+    private static String generateHintsSource(String basePackage, ModuleState module) {
+        StringBuilder source = new StringBuilder();
+        if (!basePackage.isEmpty()) {
+            source.append("package ").append(basePackage).append(";\n\n");
+        }
+        source.append("import org.springframework.aot.hint.MemberCategory;\n")
+            .append("import org.springframework.aot.hint.RuntimeHints;\n")
+            .append("import org.springframework.aot.hint.RuntimeHintsRegistrar;\n")
+            .append("import org.springframework.aot.hint.TypeReference;\n");
+        if (!module.bindingTypes.isEmpty()) {
+            source.append("import org.springframework.aot.hint.BindingReflectionHintsRegistrar;\n");
+        }
+        if (!module.httpExchangeClients.isEmpty()) {
+            source.append("import org.springframework.aop.framework.AopProxyUtils;\n");
+        }
+        source.append("import org.springframework.context.annotation.Configuration;\n")
+            .append("import org.springframework.context.annotation.ImportRuntimeHints;\n\n")
+            .append("/**\n")
+            .append(" * Runtime hints for code paths of the migrated application that Spring AOT cannot discover.\n")
+            .append(" */\n")
+            .append("@Configuration(proxyBeanMethods = false)\n")
+            .append("@ImportRuntimeHints(").append(HINTS_CLASS_NAME).append(".Registrar.class)\n")
+            .append("public class ").append(HINTS_CLASS_NAME).append(" {\n\n")
+            .append("    static class Registrar implements RuntimeHintsRegistrar {\n\n")
+            .append("        @Override\n")
+            .append("        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {\n");
+        boolean first = true;
+        if (!module.quartzJobs.isEmpty()) {
+            source.append("            // Quartz jobs are instantiated by class name (JobFactory.createBean, JDBC job store)\n");
+            for (String job : module.quartzJobs) {
+                source.append("            hints.reflection().registerType(TypeReference.of(\"").append(job)
+                    .append("\"),\n")
+                    .append("                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);\n");
+            }
+            first = false;
+        }
+        if (!module.quartzJobs.isEmpty() || !module.jobDataTypes.isEmpty()) {
+            if (!first) {
+                source.append("\n");
+            }
+            source.append("            // JobDataMap payloads are Java-serialized into the job store\n");
+            for (String type : JOB_DATA_MAP_SERIALIZED_TYPES) {
+                source.append("            hints.serialization().registerType(TypeReference.of(\"").append(type).append("\"));\n");
+            }
+            for (String type : module.jobDataTypes) {
+                source.append("            hints.serialization().registerType(TypeReference.of(\"").append(type).append("\"));\n");
+            }
+            first = false;
+        }
+        if (!module.bindingTypes.isEmpty()) {
+            if (!first) {
+                source.append("\n");
+            }
+            source.append("            // Request/response types of migrated REST endpoints and HTTP exchange clients (Jackson binding)\n")
+                .append("            new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),\n");
+            Iterator<String> types = module.bindingTypes.iterator();
+            while (types.hasNext()) {
+                source.append("                ").append(types.next()).append(".class")
+                    .append(types.hasNext() ? ",\n" : ");\n");
+            }
+            first = false;
+        }
+        if (!module.httpExchangeClients.isEmpty()) {
+            if (!first) {
+                source.append("\n");
+            }
+            source.append("            // HttpServiceProxyFactory creates JDK proxies for the client interfaces\n");
+            for (String client : module.httpExchangeClients) {
+                source.append("            hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(")
+                    .append(client).append(".class));\n");
+            }
+        }
+        source.append("        }\n")
+            .append("    }\n")
+            .append("}\n");
+        return source.toString();
+    }
+
+    private static String generateSmokeTestSource(String basePackage, ModuleState module, boolean hints) {
+        StringBuilder source = new StringBuilder();
+        if (!basePackage.isEmpty()) {
+            source.append("package ").append(basePackage).append(";\n\n");
+        }
+        source.append("import static org.assertj.core.api.Assertions.assertThat;\n\n")
+            .append("import org.junit.jupiter.api.Test;\n")
+            .append("import org.springframework.beans.factory.annotation.Autowired;\n");
+        if (hints) {
+            source.append("import org.springframework.aot.hint.RuntimeHints;\n")
+                .append("import org.springframework.aot.hint.TypeReference;\n")
+                .append("import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;\n");
+        }
+        source.append("import org.springframework.boot.test.context.SpringBootTest;\n")
+            .append("import org.springframework.context.ApplicationContext;\n\n")
+            .append("/**\n")
+            .append(" * Smoke test for the AOT-processed application; {@code mvn -Pnative test} runs it as a native image.\n")
+            .append(" */\n")
+            .append("@SpringBootTest\n")
+            .append("class ").append(SMOKE_TEST_CLASS_NAME).append(" {\n\n")
+            .append("    @Autowired\n")
+            .append("    private ApplicationContext context;\n\n")
+            .append("    @Test\n")
+            .append("    void contextStarts() {\n")
+            .append("        assertThat(context.getBeanDefinitionCount()).isPositive();\n")
+            .append("    }\n");
+        if (!module.manualMigrationClasses.isEmpty()) {
+            source.append("\n")
+                .append("    @Test\n")
+                .append("    void manualMigrationBeansAreNotPartOfTheImage() {\n")
+                .append("        // AOT evaluates @Profile at build time: \"").append(MANUAL_MIGRATION_PROFILE)
+                .append("\" cannot be activated in the native image\n");
+            for (String type : module.manualMigrationClasses) {
+                source.append("        assertThat(context.getBeanNamesForType(").append(type).append(".class)).isEmpty();\n");
+            }
+            source.append("    }\n");
+        }
+        if (hints) {
+            source.append("\n")
+                .append("    @Test\n")
+                .append("    void migrationRuntimeHintsAreRegistered() {\n")
+                .append("        RuntimeHints hints = new RuntimeHints();\n")
+                .append("        new ").append(HINTS_CLASS_NAME).append(".Registrar().registerHints(hints, getClass().getClassLoader());\n\n");
+            for (String job : module.quartzJobs) {
+                source.append("        assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of(\"").append(job)
+                    .append("\"))).accepts(hints);\n");
+            }
+            for (String type : module.jobDataTypes) {
+                source.append("        assertThat(RuntimeHintsPredicates.serialization().onType(TypeReference.of(\"").append(type)
+                    .append("\"))).accepts(hints);\n");
+            }
+            for (String type : module.bindingTypes) {
+                source.append("        assertThat(RuntimeHintsPredicates.reflection().onType(").append(type)
+                    .append(".class)).accepts(hints);\n");
+            }
+            for (String client : module.httpExchangeClients) {
+                source.append("        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(").append(client)
+                    .append(".class, org.springframework.aop.SpringProxy.class, org.springframework.aop.framework.Advised.class,\n")
+                    .append("            org.springframework.core.DecoratingProxy.class)).accepts(hints);\n");
+            }
+            source.append("    }\n");
+        }
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private static String qualify(String basePackage, String className) {
+        return basePackage.isEmpty() ? className : basePackage + "." + className;
+    }
+
+    private static String extractModulePrefix(String sourcePath, @Nullable ProjectConfiguration config) {
+        List<String> roots = new ArrayList<>();
+        if (config != null) {
+            roots.addAll(config.getMainSourceRoots());
+            roots.addAll(config.getResourceRoots());
+        }
+        roots.add("src/main/java");
+        roots.add("src/main/resources");
+        for (String root : roots) {
+            int idx = sourcePath.indexOf("/" + root + "/");
+            if (idx >= 0) {
+                return sourcePath.substring(0, idx + 1);
+            }
+            if (sourcePath.startsWith(root + "/")) {
+                return "";
+            }
+        }
+        int idx = sourcePath.indexOf("/src/");
+        return idx > 0 ? sourcePath.substring(0, idx + 1) : "";
+    }
+
+    private static String extractSourceRoot(String sourcePath, List<String> roots, String defaultRoot) {
+        for (String root : roots) {
+            if (sourcePath.contains("/" + root + "/") || sourcePath.startsWith(root + "/")) {
+                return root;
+            }
+        }
+        return defaultRoot;
+    }
+
+    private static String normalizePath(@Nullable Path path) {
+        if (path == null) {
+            return "";
+        }
+        return path.toString().replace('\\', '/');
+    }
+
+    private static Path extractProjectRoot(Path sourcePath) {
+        if (sourcePath == null) {
+            return Paths.get(System.getProperty("user.dir"));
+        }
+        Path current = sourcePath.toAbsolutePath().getParent();
+        while (current != null) {
+            if (Files.exists(current.resolve("pom.xml")) ||
+                Files.exists(current.resolve("build.gradle")) ||
+                Files.exists(current.resolve("project.yaml"))) {
+                return current;
+            }
+            current = current.getParent();
+        }
+        return Paths.get(System.getProperty("user.dir"));
+    }
+}
@@ -1,15 +1,15 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.Space;
-import org.openrewrite.java.tree.TypeUtils;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,16 +17,13 @@
 /**
  * Removes class-level @EJB annotations used for JNDI binding metadata.
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class RemoveClassLevelEjbAnnotation extends Recipe {
 
     private static final String JAVAX_EJB = "javax.ejb.EJB";
     private static final String JAKARTA_EJB = "jakarta.ejb.EJB";
-    private static final AnnotationMatcher JAVAX_EJB_MATCHER =
-        new AnnotationMatcher("@" + JAVAX_EJB);
-    private static final AnnotationMatcher JAKARTA_EJB_MATCHER =
-        new AnnotationMatcher("@" + JAKARTA_EJB);
 
     @Override
     public String getDisplayName() {
@@ -73,11 +70,7 @@ public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Ex
             }
 
             private boolean isEjbAnnotation(J.Annotation ann) {
-                if (JAVAX_EJB_MATCHER.matches(ann) || JAKARTA_EJB_MATCHER.matches(ann)) {
-                    return true;
-                }
-                if (TypeUtils.isOfClassType(ann.getType(), JAVAX_EJB) ||
-                    TypeUtils.isOfClassType(ann.getType(), JAKARTA_EJB)) {
+                if (JavaEeAnnotation.EJB.matches(ann)) {
                     return true;
                 }
                 return ann.getType() == null && "EJB".equals(ann.getSimpleName());
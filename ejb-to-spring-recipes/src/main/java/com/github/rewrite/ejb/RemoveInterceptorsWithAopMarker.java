@@ -1,5 +1,7 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
@@ -38,6 +40,7 @@
  *   <li>Is idempotent: won't add duplicate {@code @NeedsReview} annotations</li>
  * </ul>
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class RemoveInterceptorsWithAopMarker extends ScanningRecipe<RemoveInterceptorsWithAopMarker.InterceptorTracker> {
@@ -522,8 +525,7 @@ private String escapeString(String s) {
      */
     private boolean isInterceptorsAnnotation(J.Annotation annotation, Cursor cursor) {
         // Type-based check (preferred)
-        if (TypeUtils.isOfClassType(annotation.getType(), JAKARTA_INTERCEPTORS_FQN) ||
-            TypeUtils.isOfClassType(annotation.getType(), JAVAX_INTERCEPTORS_FQN)) {
+        if (JavaEeAnnotation.INTERCEPTORS.matches(annotation)) {
             return true;
         }
 
@@ -1,5 +1,7 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
@@ -32,6 +34,7 @@
  * Pipeline ordering: This recipe should run AFTER RemoveStatelessNameAttribute (JUS-004)
  * which removes the main usages of these constants (e.g., @Stateless(name=IFoo.JNDI_NAME)).
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class RemoveJndiNameConstants extends ScanningRecipe<RemoveJndiNameConstants.JndiConstantTracker> {
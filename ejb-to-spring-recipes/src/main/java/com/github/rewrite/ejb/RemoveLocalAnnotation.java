@@ -1,5 +1,7 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
@@ -14,6 +16,7 @@
  * The interface remains as a regular Java interface, and Spring handles
  * injection through @Autowired.
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class RemoveLocalAnnotation extends Recipe {
@@ -40,21 +43,12 @@ public TreeVisitor<?, ExecutionContext> getVisitor() {
 
     private static class RemoveLocalVisitor extends JavaIsoVisitor<ExecutionContext> {
 
-        private static final AnnotationMatcher JAVAX_LOCAL_MATCHER =
-            new AnnotationMatcher("@" + JAVAX_LOCAL);
-        private static final AnnotationMatcher JAKARTA_LOCAL_MATCHER =
-            new AnnotationMatcher("@" + JAKARTA_LOCAL);
-
         @Override
         public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
             J.Annotation a = super.visitAnnotation(annotation, ctx);
 
-            if (JAVAX_LOCAL_MATCHER.matches(a)) {
+            if (JavaEeAnnotation.LOCAL.matches(a)) {
                 maybeRemoveImport(JAVAX_LOCAL);
-                //noinspection DataFlowIssue
-                return null; // Remove the annotation
-            }
-            if (JAKARTA_LOCAL_MATCHER.matches(a)) {
                 maybeRemoveImport(JAKARTA_LOCAL);
                 //noinspection DataFlowIssue
                 return null; // Remove the annotation
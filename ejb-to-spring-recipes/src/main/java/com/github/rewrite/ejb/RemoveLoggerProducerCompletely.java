@@ -8,6 +8,7 @@
 import org.openrewrite.java.tree.*;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Removes CDI Logger-Producer classes AND cleans up all references to them.
@@ -45,23 +46,24 @@ public String getDescription() {
     }
 
     /**
-     * Accumulator to collect information about logger producer classes during scan phase.
+     * Accumulator to collect information about logger producer classes during scan phase, filled by concurrent
+     * scanners.
      */
     static class Accumulator {
         /**
          * Fully qualified names of logger producer classes (e.g., "org.example.logging.LoggerProducer")
          */
-        Set<String> loggerProducerFqns = new HashSet<>();
+        final Set<String> loggerProducerFqns = ConcurrentHashMap.newKeySet();
 
         /**
          * Simple names of logger producer classes (e.g., "LoggerProducer")
          */
-        Set<String> loggerProducerSimpleNames = new HashSet<>();
+        final Set<String> loggerProducerSimpleNames = ConcurrentHashMap.newKeySet();
 
         /**
          * Source paths of logger producer classes (for deletion)
          */
-        Set<String> loggerProducerSourcePaths = new HashSet<>();
+        final Set<String> loggerProducerSourcePaths = ConcurrentHashMap.newKeySet();
     }
 
     @Override
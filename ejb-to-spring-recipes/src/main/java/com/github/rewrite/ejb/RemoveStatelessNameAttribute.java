@@ -1,5 +1,7 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
@@ -46,6 +48,7 @@
  * After removing {@code @Stateless(name = IFoo.JNDI_NAME)}, the constant {@code IFoo.JNDI_NAME}
  * will have no more usages and can be safely removed by JUS-003.
  */
+@RecipeIo(reads = MigrationArtifact.JAVA, generates = MigrationArtifact.JAVA)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class RemoveStatelessNameAttribute extends Recipe {
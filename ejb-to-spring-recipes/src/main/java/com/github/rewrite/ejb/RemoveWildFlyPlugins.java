@@ -16,6 +16,7 @@
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 /**
@@ -97,26 +98,29 @@ public String getDescription() {
                "Also removes WildFly-only profiles and unused version properties.";
     }
 
+    /**
+     * Filled by concurrent scanners.
+     */
     static class Accumulator {
         // Track modules with spring-boot-maven-plugin in build/plugins or pluginManagement (migration completed)
-        Set<String> modulesWithSpringBoot = new HashSet<>();
+        final Set<String> modulesWithSpringBoot = ConcurrentHashMap.newKeySet();
         // MEDIUM fix: Track modules with spring-boot-maven-plugin ONLY in profiles (not default build)
-        Set<String> modulesWithSpringBootInProfileOnly = new HashSet<>();
+        final Set<String> modulesWithSpringBootInProfileOnly = ConcurrentHashMap.newKeySet();
         // Track modules with wildfly-maven-plugin
-        Set<String> modulesWithWildFly = new HashSet<>();
+        final Set<String> modulesWithWildFly = ConcurrentHashMap.newKeySet();
         // Track WildFly version properties found in /project/properties
-        Set<String> wildflyVersionProperties = new HashSet<>();
+        final Set<String> wildflyVersionProperties = ConcurrentHashMap.newKeySet();
         // LOW fix: Track WildFly version properties found in profile properties
         // Keyed by modulePath + ":" + profileId to avoid collision in multi-module builds
-        Map<String, Set<String>> profileWildflyVersionProperties = new HashMap<>();
+        final Map<String, Set<String>> profileWildflyVersionProperties = new ConcurrentHashMap<>();
         // Track profile IDs that only contain WildFly plugin config
-        Map<String, Set<String>> modulesWithWildFlyOnlyProfiles = new HashMap<>();
+        final Map<String, Set<String>> modulesWithWildFlyOnlyProfiles = new ConcurrentHashMap<>();
         // HIGH fix: Track parent-child relationships for inheritance checking
-        Map<String, String> moduleParent = new HashMap<>();  // child -> parent module path
+        final Map<String, String> moduleParent = new ConcurrentHashMap<>();  // child -> parent module path
         // HIGH fix: Track modules where opt-out is configured
-        Set<String> modulesWithOptOut = new HashSet<>();
+        final Set<String> modulesWithOptOut = ConcurrentHashMap.newKeySet();
         // MEDIUM fix: Track modules where bootPluginInProfiles is enabled
-        Set<String> modulesWithBootPluginInProfiles = new HashSet<>();
+        final Set<String> modulesWithBootPluginInProfiles = ConcurrentHashMap.newKeySet();
     }
 
     @Override
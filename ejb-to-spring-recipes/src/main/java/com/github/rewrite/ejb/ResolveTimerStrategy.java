@@ -22,14 +22,14 @@
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 import static com.github.rewrite.ejb.TimerScheduleUtils.*;
 
@@ -48,19 +48,24 @@ public class ResolveTimerStrategy extends ScanningRecipe<ResolveTimerStrategy.Ac
     private static final String JAVAX_TIMER_CONFIG = "javax.ejb.TimerConfig";
     private static final String JAKARTA_TIMER_HANDLE = "jakarta.ejb.TimerHandle";
     private static final String JAVAX_TIMER_HANDLE = "javax.ejb.TimerHandle";
-    private static final String JAKARTA_TIMEOUT = "jakarta.ejb.Timeout";
-    private static final String JAVAX_TIMEOUT = "javax.ejb.Timeout";
 
+    /**
+     * Filled by concurrent scanners.
+     */
     static class Accumulator {
-        Map<Path, ModuleRequirements> requirementsByModule = new HashMap<>();
+        final Map<Path, ModuleRequirements> requirementsByModule = new ConcurrentHashMap<>();
     }
 
+    /**
+     * Reasons are kept sorted, so the reason given for a module does not depend on the order in which its files
+     * are scanned.
+     */
     static class ModuleRequirements {
-        boolean hasTimerUsage;
-        boolean requiresQuartz;
-        boolean requiresTaskScheduler;
-        final Set<String> quartzReasons = new LinkedHashSet<>();
-        final Set<String> taskSchedulerReasons = new LinkedHashSet<>();
+        volatile boolean hasTimerUsage;
+        volatile boolean requiresQuartz;
+        volatile boolean requiresTaskScheduler;
+        final Set<String> quartzReasons = new ConcurrentSkipListSet<>();
+        final Set<String> taskSchedulerReasons = new ConcurrentSkipListSet<>();
 
         void requireQuartz(String reason) {
             requiresQuartz = true;
@@ -434,6 +439,7 @@ private boolean isSafeForTaskScheduler(ScheduleConfig config) {
             return Boolean.FALSE.equals(config.getPersistent()) &&
                    !config.hasNonLiterals() &&
                    !config.hasYearRestriction() &&
+                   config.isCronExpressible() &&
                    (config.getTimezone() == null || config.getTimezone().isBlank());
         }
 
@@ -448,8 +454,7 @@ private boolean hasScheduleAnnotation(J.MethodDeclaration method) {
 
         private boolean hasTimeoutAnnotation(J.MethodDeclaration method) {
             for (J.Annotation ann : method.getLeadingAnnotations()) {
-                if (ann.getType() != null && (TypeUtils.isOfClassType(ann.getType(), JAKARTA_TIMEOUT) ||
-                    TypeUtils.isOfClassType(ann.getType(), JAVAX_TIMEOUT))) {
+                if (JavaEeAnnotation.TIMEOUT.matches(ann)) {
                     return true;
                 }
                 if ("Timeout".equals(ann.getSimpleName())) {
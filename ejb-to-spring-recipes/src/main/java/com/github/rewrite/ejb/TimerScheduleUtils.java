@@ -1,7 +1,12 @@
 package com.github.rewrite.ejb;
 
+import com.github.migration.timer.CompiledSchedule;
+import com.github.migration.timer.ScheduleExpression;
+import org.openrewrite.Tree;
 import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -30,6 +35,14 @@ public final class TimerScheduleUtils {
     public static final String SCHEDULES_FQN = "jakarta.ejb.Schedules";
     public static final String TIMER_FQN = "jakarta.ejb.Timer";
     public static final String TIMER_SERVICE_FQN = "jakarta.ejb.TimerService";
+    public static final String SCHEDULER_LOCK_FQN = "net.javacrumbs.shedlock.spring.annotation.SchedulerLock";
+
+    // ShedLock lock bounds: a crashed node must not block later runs for longer than a day,
+    // lockAtLeastFor only has to cover clock skew between nodes and very short jobs
+    static final long MAX_LOCK_AT_MOST_FOR_SECONDS = Duration.ofHours(24).getSeconds();
+    static final long MAX_LOCK_AT_LEAST_FOR_SECONDS = Duration.ofMinutes(5).getSeconds();
+
+    private static final long SECONDS_PER_DAY = Duration.ofDays(1).getSeconds();
 
     private TimerScheduleUtils() {
         // Utility class
@@ -95,20 +108,89 @@ public boolean hasYearRestriction() {
          * - persistent = false explicitly set (EJB default is true)
          * - No non-literal values (constants can't be safely converted)
          * - No year restriction (Spring cron has no year field)
+         * - Spring cron fires at the same times (see {@link #isCronExpressible()})
          */
         public boolean isSafeForScheduledMigration() {
-            return Boolean.FALSE.equals(persistent) && !hasNonLiterals && !hasYearRestriction();
+            return Boolean.FALSE.equals(persistent) && !hasNonLiterals && !hasYearRestriction() &&
+                   isCronExpressible();
+        }
+
+        /**
+         * Returns true if a Spring cron expression has the same meaning as this schedule.
+         * False for invalid fields, non-literals, years, and dayOfMonth and dayOfWeek both restricted
+         * (EJB fires if either matches, cron only if both do).
+         */
+        public boolean isCronExpressible() {
+            CompiledSchedule compiled = compile();
+            return compiled != null && compiled.isCronExpressible();
+        }
+
+        /**
+         * Compiles the literal schedule fields, or returns null if they contain non-literals or are invalid.
+         */
+        public CompiledSchedule compile() {
+            if (hasNonLiterals) {
+                return null;
+            }
+            try {
+                return CompiledSchedule.compile(new ScheduleExpression()
+                    .second(second).minute(minute).hour(hour)
+                    .dayOfMonth(dayOfMonth).month(month).dayOfWeek(dayOfWeek)
+                    .year(year).timezone(timezone));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
         }
 
         /**
          * Builds a Spring cron expression from this configuration.
          * Format: second minute hour dayOfMonth month dayOfWeek
+         * <p>
+         * EJB-only forms ({@code Last}, {@code -n}, weekday ordinals, wrapping ranges) are translated
+         * when the schedule is cron-expressible; otherwise the fields are joined as they are.
          */
         public String buildSpringCronExpression() {
+            CompiledSchedule compiled = compile();
+            if (compiled != null && compiled.isCronExpressible()) {
+                return compiled.toSpringCron();
+            }
             return String.format("%s %s %s %s %s %s",
                     second, minute, hour, dayOfMonth, month, dayOfWeek);
         }
 
+        /**
+         * Estimates the shortest interval between two firings of this schedule.
+         * The finest time field with more than one value determines the interval; schedules that
+         * fire once per day or less use the day fields (daily, weekly, otherwise ~monthly).
+         *
+         * @return the interval in seconds, or -1 if a time field cannot be interpreted
+         */
+        public long estimateMinIntervalSeconds() {
+            String[] timeFields = {second, minute, hour};
+            int[] fieldSizes = {60, 60, 24};
+            long[] unitSeconds = {1, 60, 3600};
+            for (int i = 0; i < timeFields.length; i++) {
+                SortedSet<Integer> values = expandCronField(timeFields[i], fieldSizes[i]);
+                if (values == null) {
+                    return -1;
+                }
+                if (values.size() > 1) {
+                    return minCyclicGap(values, fieldSizes[i]) * unitSeconds[i];
+                }
+            }
+            if ("*".equals(dayOfMonth.trim())) {
+                if ("*".equals(dayOfWeek.trim())) {
+                    return SECONDS_PER_DAY;
+                }
+                SortedSet<Integer> days = expandCronField(dayOfWeek, 7);
+                if (days == null) {
+                    return SECONDS_PER_DAY;
+                }
+                return days.size() > 1 ? minCyclicGap(days, 7) * SECONDS_PER_DAY : 7 * SECONDS_PER_DAY;
+            }
+            return 28 * SECONDS_PER_DAY;
+        }
+
         // Package-private setters for parsing
         void setSecond(String second) { this.second = second; }
         void setMinute(String minute) { this.minute = minute; }
@@ -146,20 +228,20 @@ public TimerAnalysis(boolean hasTimerParameter, String timerParameterName, boole
     // ========== Annotation Detection ==========
 
     /**
-     * Checks if the annotation is @Schedule (jakarta.ejb.Schedule).
+     * Checks if the annotation is @Schedule (jakarta.ejb.Schedule or javax.ejb.Schedule).
      */
     public static boolean isScheduleAnnotation(J.Annotation ann) {
-        if (ann.getType() != null && TypeUtils.isOfClassType(ann.getType(), SCHEDULE_FQN)) {
+        if (JavaEeAnnotation.SCHEDULE.matches(ann)) {
             return true;
         }
         return "Schedule".equals(ann.getSimpleName());
     }
 
     /**
-     * Checks if the annotation is @Schedules (jakarta.ejb.Schedules).
+     * Checks if the annotation is @Schedules (jakarta.ejb.Schedules or javax.ejb.Schedules).
      */
     public static boolean isSchedulesAnnotation(J.Annotation ann) {
-        if (ann.getType() != null && TypeUtils.isOfClassType(ann.getType(), SCHEDULES_FQN)) {
+        if (JavaEeAnnotation.SCHEDULES.matches(ann)) {
             return true;
         }
         return "Schedules".equals(ann.getSimpleName());
@@ -428,4 +510,149 @@ public static boolean allSchedulesSafeForMigration(J.MethodDeclaration method) {
 
         return true;
     }
+
+    // ========== ShedLock ==========
+
+    /**
+     * Returns the smallest estimated firing interval of all schedules on a method, or -1 if unknown.
+     */
+    public static long estimateMinIntervalSeconds(List<ScheduleConfig> configs) {
+        long min = -1;
+        for (ScheduleConfig config : configs) {
+            long interval = config.estimateMinIntervalSeconds();
+            if (interval <= 0) {
+                return -1;
+            }
+            min = min < 0 ? interval : Math.min(min, interval);
+        }
+        return min;
+    }
+
+    /**
+     * lockAtMostFor for a job firing every {@code intervalSeconds}: 90% of the interval, so the lock
+     * of a node that dies while holding it expires before the next firing instead of suppressing it.
+     */
+    public static String lockAtMostFor(long intervalSeconds) {
+        long seconds = Math.min(intervalSeconds, MAX_LOCK_AT_MOST_FOR_SECONDS);
+        return Duration.ofMillis(Math.max(1, seconds) * 900).toString();
+    }
+
+    /**
+     * lockAtLeastFor for a job firing every {@code intervalSeconds}: half the interval (at most
+     * five minutes), so nodes whose clocks are slightly off do not run the same firing again.
+     * Always below {@link #lockAtMostFor(long)}.
+     */
+    public static String lockAtLeastFor(long intervalSeconds) {
+        long seconds = Math.min(intervalSeconds, MAX_LOCK_AT_MOST_FOR_SECONDS);
+        return Duration.ofMillis(Math.min(Math.max(1, seconds) * 500, MAX_LOCK_AT_LEAST_FOR_SECONDS * 1000)).toString();
+    }
+
+    /**
+     * Creates {@code @SchedulerLock(name = "...", lockAtMostFor = "...", lockAtLeastFor = "...")}.
+     * The durations are omitted when the interval is unknown (-1); the
+     * {@code @EnableSchedulerLock} defaults apply then.
+     */
+    public static J.Annotation createSchedulerLockAnnotation(String lockName, long intervalSeconds, Space prefix) {
+        JavaType.ShallowClass type = JavaType.ShallowClass.build(SCHEDULER_LOCK_FQN);
+        J.Identifier ident = new J.Identifier(
+            Tree.randomId(), Space.EMPTY, Markers.EMPTY, Collections.emptyList(), "SchedulerLock", type, null);
+
+        List<JRightPadded<Expression>> arguments = new ArrayList<>();
+        arguments.add(createStringAssignment("name", lockName, false));
+        if (intervalSeconds > 0) {
+            arguments.add(createStringAssignment("lockAtMostFor", lockAtMostFor(intervalSeconds), true));
+            arguments.add(createStringAssignment("lockAtLeastFor", lockAtLeastFor(intervalSeconds), true));
+        }
+
+        return new J.Annotation(
+            Tree.randomId(), prefix, Markers.EMPTY, ident,
+            JContainer.build(Space.EMPTY, arguments, Markers.EMPTY));
+    }
+
+    private static JRightPadded<Expression> createStringAssignment(String key, String value, boolean leadingSpace) {
+        J.Identifier keyIdent = new J.Identifier(
+            Tree.randomId(), leadingSpace ? Space.format(" ") : Space.EMPTY, Markers.EMPTY,
+            Collections.emptyList(), key, null, null);
+        J.Literal valueExpr = new J.Literal(
+            Tree.randomId(), Space.format(" "), Markers.EMPTY, value, "\"" + value + "\"",
+            Collections.emptyList(), JavaType.Primitive.String);
+        J.Assignment assignment = new J.Assignment(
+            Tree.randomId(), Space.EMPTY, Markers.EMPTY, keyIdent,
+            JLeftPadded.<Expression>build(valueExpr).withBefore(Space.format(" ")), null);
+        return new JRightPadded<>(assignment, Space.EMPTY, Markers.EMPTY);
+    }
+
+    /**
+     * Expands a numeric cron field ({@code *}, {@code a}, {@code a-b}, {@code * /n}, {@code a/n},
+     * {@code a-b/n} and comma lists) to its values within {@code [0, size)}.
+     * Day-of-week 7 (Sunday) is folded to 0.
+     *
+     * @return the values, or null for names, "Last" and other non-numeric forms
+     */
+    static SortedSet<Integer> expandCronField(String field, int size) {
+        SortedSet<Integer> values = new TreeSet<>();
+        for (String part : field.trim().split(",")) {
+            String range = part.trim();
+            int step = 1;
+            int slash = range.indexOf('/');
+            if (slash >= 0) {
+                Integer parsedStep = parseCronNumber(range.substring(slash + 1));
+                if (parsedStep == null || parsedStep <= 0) {
+                    return null;
+                }
+                step = parsedStep;
+                range = range.substring(0, slash);
+            }
+            int from;
+            int to;
+            if ("*".equals(range)) {
+                from = 0;
+                to = size - 1;
+            } else if (range.contains("-")) {
+                Integer start = parseCronNumber(range.substring(0, range.indexOf('-')));
+                Integer end = parseCronNumber(range.substring(range.indexOf('-') + 1));
+                if (start == null || end == null || start > end) {
+                    return null;
+                }
+                from = start;
+                to = end;
+            } else {
+                Integer single = parseCronNumber(range);
+                if (single == null) {
+                    return null;
+                }
+                from = single;
+                to = slash >= 0 ? size - 1 : single;
+            }
+            for (int v = from; v <= to; v += step) {
+                if (v > size) {
+                    return null;
+                }
+                values.add(v % size);
+            }
+        }
+        return values.isEmpty() ? null : values;
+    }
+
+    private static Integer parseCronNumber(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static long minCyclicGap(SortedSet<Integer> values, int size) {
+        long min = Long.MAX_VALUE;
+        Integer previous = null;
+        for (Integer value : values) {
+            if (previous != null) {
+                min = Math.min(min, value - previous);
+            }
+            previous = value;
+        }
+        // wrap-around gap from the last value to the first one in the next cycle
+        min = Math.min(min, values.first() + size - values.last());
+        return min;
+    }
 }
@@ -39,6 +39,26 @@ public static ProjectConfiguration.TimerStrategy resolveStrategy(J.CompilationUn
         return ProjectConfiguration.mavenDefaults().getTimerStrategy();
     }
 
+    /**
+     * Checks whether the project of this compilation unit configures {@code cluster: shedlock}.
+     */
+    public static boolean isShedLockCluster(J.CompilationUnit cu) {
+        if (cu == null || cu.getSourcePath() == null) {
+            return false;
+        }
+        return ProjectConfigurationLoader.loadWithInheritance(extractProjectRoot(cu.getSourcePath())).isShedLockCluster();
+    }
+
+    /**
+     * Checks whether the project of this compilation unit configures {@code cluster: quartz-jdbc}.
+     */
+    public static boolean isQuartzJdbcCluster(J.CompilationUnit cu) {
+        if (cu == null || cu.getSourcePath() == null) {
+            return false;
+        }
+        return ProjectConfigurationLoader.loadWithInheritance(extractProjectRoot(cu.getSourcePath())).isQuartzJdbcCluster();
+    }
+
     private static Path extractProjectRoot(Path sourcePath) {
         if (sourcePath == null) {
             return Paths.get(System.getProperty("user.dir"));
@@ -53,8 +53,11 @@ public enum ClusterMode {
      * <ul>
      *   <li>spring.quartz.job-store-type=jdbc</li>
      *   <li>spring.quartz.properties.org.quartz.jobStore.isClustered=true</li>
-     *   <li>spring.quartz.properties.org.quartz.jobStore.clusterCheckinInterval=20000</li>
+     *   <li>spring.quartz.properties.org.quartz.jobStore.clusterCheckinInterval (at most 20000)</li>
+     *   <li>thread pool, batch trigger acquisition, misfire threshold and driver delegate
+     *       sized for the migrated schedules; the schema comes from the DDL bundled with Quartz</li>
      * </ul>
+     * See {@code GenerateQuartzClusterConfig}.
      */
     QUARTZ_JDBC,
 
@@ -64,7 +67,7 @@ public enum ClusterMode {
      * Compatible with scheduled and taskscheduler strategies.
      * NOT compatible with quartz strategy.
      * <p>
-     * Requires:
+     * Requires (generated by the scheduling recipes and GenerateShedLockConfig):
      * <ul>
      *   <li>ShedLock dependencies in pom.xml</li>
      *   <li>@SchedulerLock annotation on all @Scheduled methods</li>
@@ -32,6 +32,8 @@
  *     strategy: rest | manual
  *   jsf:
  *     runtime: joinfaces | manual
+ *   interceptors:
+ *     weaving: proxy | ajc-compile | ltw   # default: proxy
  *   ejb:
  *     allowedTypes:         # EJB types to NOT flag with @NeedsReview
  *       - jakarta.ejb.Timer
@@ -47,6 +49,11 @@
  * jaxws:
  *   provider: cxf | manual        # default: cxf
  *   basePath: /services           # default: /services
+ *   executor:                     # optional dedicated CXF work queue per endpoint
+ *     threads: 32                 # max worker threads (default: 0 = CXF default executor)
+ *     queueSize: 256              # bounded queue size (default: 256)
+ *   features:                     # optional CXF features added to every endpoint
+ *     - gzip                      # fastinfoset is flagged for review (not in CXF 4.x)
  * </pre>
  * <p>
  * Strategy and Cluster Compatibility Matrix:
@@ -255,6 +262,33 @@ public static SecurityStrategy fromString(String value) {
         }
     }
 
+    /**
+     * Weaving mode for migrated EJB interceptors (Spring AOP aspects).
+     * <ul>
+     *   <li>{@code PROXY} - Spring AOP proxies, no build changes (default)</li>
+     *   <li>{@code AJC_COMPILE} - Post-compile weaving with the AspectJ Maven plugin</li>
+     *   <li>{@code LTW} - AspectJ load-time weaving via META-INF/aop.xml and @EnableLoadTimeWeaving</li>
+     * </ul>
+     * Both weaving modes avoid proxy dispatch and intercept self-invocations like an EJB container.
+     */
+    public enum InterceptorWeaving {
+        PROXY,
+        AJC_COMPILE,
+        LTW;
+
+        public static InterceptorWeaving fromString(String value) {
+            if (value == null) {
+                return null;
+            }
+            String normalized = value.trim().toUpperCase().replace('-', '_');
+            try {
+                return InterceptorWeaving.valueOf(normalized);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+
     /**
      * JMS provider for message-driven bean migration.
      * <ul>
@@ -308,6 +342,12 @@ public static JmsProvider fromString(String value) {
     // JAX-WS defaults
     private static final String DEFAULT_JAXWS_PROVIDER = "cxf";
     private static final String DEFAULT_JAXWS_BASE_PATH = "/services";
+    private static final int DEFAULT_JAXWS_EXECUTOR_THREADS = 0;
+    private static final int DEFAULT_JAXWS_EXECUTOR_QUEUE_SIZE = 256;
+    private static final List<String> DEFAULT_JAXWS_FEATURES = List.of();
+
+    // Interceptor weaving defaults
+    private static final InterceptorWeaving DEFAULT_INTERCEPTOR_WEAVING = InterceptorWeaving.PROXY;
 
     private final List<String> mainSourceRoots;
     private final List<String> testSourceRoots;
@@ -352,6 +392,12 @@ public static JmsProvider fromString(String value) {
     // JAX-WS migration settings
     private final String jaxwsProvider;
     private final String jaxwsBasePath;
+    private final int jaxwsExecutorThreads;
+    private final int jaxwsExecutorQueueSize;
+    private final List<String> jaxwsFeatures;
+
+    // Interceptor weaving settings
+    private final InterceptorWeaving interceptorWeaving;
 
     /**
      * Creates a ProjectConfiguration with the given source roots and default timer settings.
@@ -523,6 +569,83 @@ public ProjectConfiguration(
              jaxRsServerProvider, jaxRsServerBasePath, DEFAULT_SECURITY_STRATEGY);
     }
 
+    /**
+     * Creates a ProjectConfiguration with full migration settings (without JAX-WS endpoint tuning).
+     * @deprecated Use the constructor with jaxwsExecutorThreads, jaxwsExecutorQueueSize and jaxwsFeatures instead.
+     */
+    @Deprecated
+    public ProjectConfiguration(
+            List<String> mainSourceRoots,
+            List<String> testSourceRoots,
+            List<String> resourceRoots,
+            List<String> testResourceRoots,
+            TimerStrategy timerStrategy,
+            ClusterMode clusterMode,
+            JaxRsStrategy jaxRsStrategy,
+            JaxRsClientStrategy jaxRsClientStrategy,
+            String jaxRsClientProvider,
+            String jaxRsClientProviderVersion,
+            JmsProvider jmsProvider,
+            RemoteStrategy remoteStrategy,
+            InjectStrategy injectStrategy,
+            JsfStrategy jsfStrategy,
+            boolean keepWildFlyPlugins,
+            boolean bootPluginInProfiles,
+            List<String> allowedEjbTypes,
+            String jaxwsProvider,
+            String jaxwsBasePath,
+            String jaxRsServerProvider,
+            String jaxRsServerBasePath,
+            SecurityStrategy securityStrategy) {
+        this(mainSourceRoots, testSourceRoots, resourceRoots, testResourceRoots,
+             timerStrategy, clusterMode, jaxRsStrategy, jaxRsClientStrategy,
+             jaxRsClientProvider, jaxRsClientProviderVersion, jmsProvider,
+             remoteStrategy, injectStrategy, jsfStrategy, keepWildFlyPlugins,
+             bootPluginInProfiles, allowedEjbTypes, jaxwsProvider, jaxwsBasePath,
+             jaxRsServerProvider, jaxRsServerBasePath, securityStrategy,
+             DEFAULT_JAXWS_EXECUTOR_THREADS, DEFAULT_JAXWS_EXECUTOR_QUEUE_SIZE, DEFAULT_JAXWS_FEATURES);
+    }
+
+    /**
+     * Creates a ProjectConfiguration with full migration settings (without interceptor weaving).
+     * @deprecated Use the constructor with interceptorWeaving parameter instead.
+     */
+    @Deprecated
+    public ProjectConfiguration(
+            List<String> mainSourceRoots,
+            List<String> testSourceRoots,
+            List<String> resourceRoots,
+            List<String> testResourceRoots,
+            TimerStrategy timerStrategy,
+            ClusterMode clusterMode,
+            JaxRsStrategy jaxRsStrategy,
+            JaxRsClientStrategy jaxRsClientStrategy,
+            String jaxRsClientProvider,
+            String jaxRsClientProviderVersion,
+            JmsProvider jmsProvider,
+            RemoteStrategy remoteStrategy,
+            InjectStrategy injectStrategy,
+            JsfStrategy jsfStrategy,
+            boolean keepWildFlyPlugins,
+            boolean bootPluginInProfiles,
+            List<String> allowedEjbTypes,
+            String jaxwsProvider,
+            String jaxwsBasePath,
+            String jaxRsServerProvider,
+            String jaxRsServerBasePath,
+            SecurityStrategy securityStrategy,
+            int jaxwsExecutorThreads,
+            int jaxwsExecutorQueueSize,
+            List<String> jaxwsFeatures) {
+        this(mainSourceRoots, testSourceRoots, resourceRoots, testResourceRoots,
+             timerStrategy, clusterMode, jaxRsStrategy, jaxRsClientStrategy,
+             jaxRsClientProvider, jaxRsClientProviderVersion, jmsProvider,
+             remoteStrategy, injectStrategy, jsfStrategy, keepWildFlyPlugins,
+             bootPluginInProfiles, allowedEjbTypes, jaxwsProvider, jaxwsBasePath,
+             jaxRsServerProvider, jaxRsServerBasePath, securityStrategy,
+             jaxwsExecutorThreads, jaxwsExecutorQueueSize, jaxwsFeatures, DEFAULT_INTERCEPTOR_WEAVING);
+    }
+
     /**
      * Creates a ProjectConfiguration with full migration settings.
      *
@@ -546,6 +669,10 @@ public ProjectConfiguration(
      * @param jaxwsProvider JAX-WS provider (cxf or manual, default: cxf)
      * @param jaxwsBasePath JAX-WS servlet base path (default: /services)
      * @param securityStrategy security migration strategy (keep-jakarta or spring-security)
+     * @param jaxwsExecutorThreads max threads of the per-endpoint CXF work queue (0 = CXF default executor)
+     * @param jaxwsExecutorQueueSize bounded queue size of the per-endpoint CXF work queue
+     * @param jaxwsFeatures CXF features added to every endpoint (gzip)
+     * @param interceptorWeaving weaving mode for migrated interceptors (proxy, ajc-compile, ltw)
      */
     public ProjectConfiguration(
             List<String> mainSourceRoots,
@@ -569,7 +696,11 @@ public ProjectConfiguration(
             String jaxwsBasePath,
             String jaxRsServerProvider,
             String jaxRsServerBasePath,
-            SecurityStrategy securityStrategy) {
+            SecurityStrategy securityStrategy,
+            int jaxwsExecutorThreads,
+            int jaxwsExecutorQueueSize,
+            List<String> jaxwsFeatures,
+            InterceptorWeaving interceptorWeaving) {
         this.mainSourceRoots = mainSourceRoots != null ? List.copyOf(mainSourceRoots) : DEFAULT_MAIN_SOURCE_ROOTS;
         this.testSourceRoots = testSourceRoots != null ? List.copyOf(testSourceRoots) : DEFAULT_TEST_SOURCE_ROOTS;
         this.resourceRoots = resourceRoots != null ? List.copyOf(resourceRoots) : DEFAULT_RESOURCE_ROOTS;
@@ -592,6 +723,10 @@ public ProjectConfiguration(
         this.allowedEjbTypes = allowedEjbTypes != null ? List.copyOf(allowedEjbTypes) : DEFAULT_ALLOWED_EJB_TYPES;
         this.jaxwsProvider = jaxwsProvider != null ? jaxwsProvider : DEFAULT_JAXWS_PROVIDER;
         this.jaxwsBasePath = jaxwsBasePath != null ? jaxwsBasePath : DEFAULT_JAXWS_BASE_PATH;
+        this.jaxwsExecutorThreads = Math.max(0, jaxwsExecutorThreads);
+        this.jaxwsExecutorQueueSize = jaxwsExecutorQueueSize > 0 ? jaxwsExecutorQueueSize : DEFAULT_JAXWS_EXECUTOR_QUEUE_SIZE;
+        this.jaxwsFeatures = jaxwsFeatures != null ? List.copyOf(jaxwsFeatures) : DEFAULT_JAXWS_FEATURES;
+        this.interceptorWeaving = interceptorWeaving != null ? interceptorWeaving : DEFAULT_INTERCEPTOR_WEAVING;
     }
 
     /**
@@ -895,6 +1030,55 @@ public boolean isManualJaxwsProvider() {
         return "manual".equalsIgnoreCase(jaxwsProvider);
     }
 
+    /**
+     * Returns the maximum number of threads of the dedicated CXF work queue
+     * created for each JAX-WS endpoint.
+     *
+     * @return the max thread count (default: 0 = use the CXF default executor)
+     */
+    public int getJaxwsExecutorThreads() {
+        return jaxwsExecutorThreads;
+    }
+
+    /**
+     * Returns the bounded queue size of the per-endpoint CXF work queue.
+     *
+     * @return the queue size (default: 256)
+     */
+    public int getJaxwsExecutorQueueSize() {
+        return jaxwsExecutorQueueSize;
+    }
+
+    /**
+     * Returns the CXF features to add to every generated JAX-WS endpoint.
+     * Supported values: {@code gzip}; {@code fastinfoset} is only flagged for review
+     * because CXF 4.x no longer ships a FastInfoset feature.
+     *
+     * @return the lower-case feature names (default: empty)
+     */
+    public List<String> getJaxwsFeatures() {
+        return jaxwsFeatures;
+    }
+
+    /**
+     * Returns the weaving mode for migrated EJB interceptors.
+     *
+     * @return the interceptor weaving mode (default: PROXY)
+     */
+    public InterceptorWeaving getInterceptorWeaving() {
+        return interceptorWeaving;
+    }
+
+    /**
+     * Checks if migrated interceptors are woven by AspectJ (compile-time or load-time)
+     * instead of Spring AOP proxies.
+     *
+     * @return true if weaving is AJC_COMPILE or LTW
+     */
+    public boolean isAspectJWeaving() {
+        return interceptorWeaving != InterceptorWeaving.PROXY;
+    }
+
     /**
      * Returns the effective timer strategy after validating against cluster mode constraints.
      * <p>
@@ -1033,6 +1217,10 @@ public String toString() {
                 ", allowedEjbTypes=" + allowedEjbTypes +
                 ", jaxwsProvider='" + jaxwsProvider + '\'' +
                 ", jaxwsBasePath='" + jaxwsBasePath + '\'' +
+                ", jaxwsExecutorThreads=" + jaxwsExecutorThreads +
+                ", jaxwsExecutorQueueSize=" + jaxwsExecutorQueueSize +
+                ", jaxwsFeatures=" + jaxwsFeatures +
+                ", interceptorWeaving=" + interceptorWeaving +
                 '}';
     }
 }
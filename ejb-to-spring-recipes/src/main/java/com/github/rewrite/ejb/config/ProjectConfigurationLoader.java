@@ -257,6 +257,10 @@ private static ProjectConfiguration parseYaml(Path yamlPath) {
             List<String> allowedEjbTypes = null;
             String jaxwsProvider = null;
             String jaxwsBasePath = null;
+            int jaxwsExecutorThreads = 0;
+            int jaxwsExecutorQueueSize = 0;
+            List<String> jaxwsFeatures = null;
+            ProjectConfiguration.InterceptorWeaving interceptorWeaving = null;
 
             Object migrationObj = root.get("migration");
             if (migrationObj instanceof Map) {
@@ -362,6 +366,19 @@ private static ProjectConfiguration parseYaml(Path yamlPath) {
                         jms.get("provider") != null ? jms.get("provider").toString() : null);
             }
 
+            // Parse interceptor settings (nested migration.interceptors preferred, root-level fallback)
+            Object interceptorsObj = null;
+            if (migrationObj instanceof Map) {
+                interceptorsObj = ((Map<String, Object>) migrationObj).get("interceptors");
+            }
+            if (interceptorsObj == null) {
+                interceptorsObj = root.get("interceptors");
+            }
+            if (interceptorsObj instanceof Map) {
+                Map<String, Object> interceptors = (Map<String, Object>) interceptorsObj;
+                interceptorWeaving = parseInterceptorWeaving(interceptors.get("weaving"));
+            }
+
             // Parse jaxws settings
             Object jaxwsObj = root.get("jaxws");
             if (jaxwsObj instanceof Map) {
@@ -374,6 +391,18 @@ private static ProjectConfiguration parseYaml(Path yamlPath) {
                 if (basePathObj != null) {
                     jaxwsBasePath = basePathObj.toString().trim();
                 }
+                Object executorObj = jaxws.get("executor");
+                if (executorObj instanceof Map) {
+                    Map<String, Object> executor = (Map<String, Object>) executorObj;
+                    jaxwsExecutorThreads = parsePositiveInt(executor.get("threads"));
+                    jaxwsExecutorQueueSize = parsePositiveInt(executor.get("queueSize"));
+                }
+                List<String> features = extractStringList(jaxws.get("features"));
+                if (features != null) {
+                    jaxwsFeatures = features.stream()
+                            .map(f -> f.trim().toLowerCase())
+                            .toList();
+                }
             }
 
             return new ProjectConfiguration(
@@ -382,7 +411,8 @@ private static ProjectConfiguration parseYaml(Path yamlPath) {
                     jaxRsStrategy, jaxRsClientStrategy, jaxRsClientProvider, jaxRsClientProviderVersion,
                     jmsProvider, remoteStrategy, injectStrategy, jsfStrategy, keepWildFlyPlugins,
                     bootPluginInProfiles, allowedEjbTypes, jaxwsProvider, jaxwsBasePath,
-                    jaxRsServerProvider, jaxRsServerBasePath, securityStrategy);
+                    jaxRsServerProvider, jaxRsServerBasePath, securityStrategy,
+                    jaxwsExecutorThreads, jaxwsExecutorQueueSize, jaxwsFeatures, interceptorWeaving);
 
         } catch (Exception e) {
             // Log warning and return defaults
@@ -519,6 +549,22 @@ private static ProjectConfiguration.SecurityStrategy parseSecurityStrategy(Objec
         return strategy;
     }
 
+    /**
+     * Parses the interceptor weaving mode from YAML value.
+     */
+    private static ProjectConfiguration.InterceptorWeaving parseInterceptorWeaving(Object value) {
+        if (value == null) {
+            return null;
+        }
+        ProjectConfiguration.InterceptorWeaving weaving =
+                ProjectConfiguration.InterceptorWeaving.fromString(value.toString());
+        if (weaving == null) {
+            System.err.println("Warning: Unknown interceptor weaving '" + value +
+                    "', using default. Valid values: proxy, ajc-compile, ltw");
+        }
+        return weaving;
+    }
+
     /**
      * Parses the cluster mode from YAML value.
      * <p>
@@ -545,6 +591,22 @@ private static ClusterMode parseClusterMode(Object value) {
         }
     }
 
+    /**
+     * Parses a positive integer from YAML value. Returns 0 for missing or invalid values.
+     */
+    private static int parsePositiveInt(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            int parsed = Integer.parseInt(value.toString().trim());
+            return Math.max(0, parsed);
+        } catch (NumberFormatException e) {
+            System.err.println("Warning: Invalid number '" + value + "', using default");
+            return 0;
+        }
+    }
+
     /**
      * Extracts a list of strings from a YAML value (can be a single string or a list).
      */
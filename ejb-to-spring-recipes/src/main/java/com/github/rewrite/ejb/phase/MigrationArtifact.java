@@ -0,0 +1,46 @@
+package com.github.rewrite.ejb.phase;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Kinds of project files a migration recipe reads or generates, see {@link RecipeIo}.
+ */
+public enum MigrationArtifact {
+
+    /** Java compilation units, main and test. */
+    JAVA,
+
+    /** Build descriptors ({@code pom.xml}). */
+    BUILD,
+
+    /** Spring Boot configuration ({@code application*.properties}, {@code application*.yml}). */
+    CONFIGURATION,
+
+    /** Other XML descriptors ({@code persistence.xml}, {@code ejb-jar.xml}, {@code web.xml}, JSL jobs, ...). */
+    DESCRIPTOR,
+
+    /** Everything else: generated reports, DDL scripts, plain text. */
+    OTHER;
+
+    /**
+     * Classifies a source file by its path.
+     */
+    public static MigrationArtifact of(Path sourcePath) {
+        String name = sourcePath.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".java")) {
+            return JAVA;
+        }
+        if (name.equals("pom.xml")) {
+            return BUILD;
+        }
+        if (name.startsWith("application")
+            && (name.endsWith(".properties") || name.endsWith(".yml") || name.endsWith(".yaml"))) {
+            return CONFIGURATION;
+        }
+        if (name.endsWith(".xml")) {
+            return DESCRIPTOR;
+        }
+        return OTHER;
+    }
+}
@@ -0,0 +1,25 @@
+package com.github.rewrite.ejb.phase;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares which kinds of files a recipe reads and which it changes or generates.
+ * <p>
+ * The phased run of {@code MigrateEjbToSpring} (see {@code ejb-to-spring.yml}) re-runs a recipe of an earlier
+ * phase only if a later phase changed files of a kind it {@link #reads() reads}. A recipe without this
+ * annotation is assumed to read and generate every kind; a declarative recipe reads and generates what its
+ * recipes do. Reading includes scanning for detection, e.g. a pom lookup to decide whether Quartz is present.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface RecipeIo {
+
+    MigrationArtifact[] reads();
+
+    MigrationArtifact[] generates();
+}
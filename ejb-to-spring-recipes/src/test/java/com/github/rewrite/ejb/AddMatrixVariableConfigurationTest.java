@@ -45,6 +45,12 @@ public String get(@MatrixParam("id") String id) {
                 import org.springframework.web.servlet.config.annotation.PathMatchConfigurer;
                 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+                /**
+                 * Matrix variables are used by:
+                 * <ul>
+                 *   <li>{@code com.example.Resource}</li>
+                 * </ul>
+                 */
                 @Configuration
                 public class MatrixVariableConfiguration implements WebMvcConfigurer {
                     @Override
@@ -185,6 +191,13 @@ public String get(@MatrixParam("id") String id) {
                 import org.springframework.web.servlet.config.annotation.PathMatchConfigurer;
                 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+                /**
+                 * Matrix variables are used by:
+                 * <ul>
+                 *   <li>{@code com.acme.feature.api.ApiResource}</li>
+                 *   <li>{@code com.acme.feature.impl.ImplResource}</li>
+                 * </ul>
+                 */
                 @Configuration
                 public class MatrixVariableConfiguration implements WebMvcConfigurer {
                     @Override
@@ -225,6 +238,12 @@ public String read(@MatrixParam("lang") String lang) {
                 import org.springframework.web.servlet.config.annotation.PathMatchConfigurer;
                 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+                /**
+                 * Matrix variables are used by:
+                 * <ul>
+                 *   <li>{@code MatrixResource}</li>
+                 * </ul>
+                 */
                 @Configuration
                 public class MatrixVariableConfiguration implements WebMvcConfigurer {
                     @Override
@@ -3,7 +3,11 @@
 import org.junit.jupiter.api.Test;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.TypeValidation;
 
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.java.Assertions.java;
 import static org.openrewrite.maven.Assertions.pomXml;
 import static org.openrewrite.test.SourceSpecs.text;
@@ -840,4 +844,265 @@ public static void main(String[] args) {
             )
         );
     }
+
+    @Test
+    void narrowsComponentScanToBeanPackagesAndAddsIndexer() {
+        rewriteRun(
+            spec -> spec.recipe(new AddSpringBootApplication(null, true))
+                .typeValidationOptions(TypeValidation.none()),
+            pomXml(
+                """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>com.company</groupId>
+                    <artifactId>monolith</artifactId>
+                    <version>1.0.0</version>
+                </project>
+                """,
+                spec -> spec.after(actual -> {
+                    assertThat(actual).contains("<artifactId>spring-context-indexer</artifactId>");
+                    assertThat(actual).contains("<optional>true</optional>");
+                    return actual;
+                })
+            ),
+            java(
+                """
+                package com.company.orders;
+
+                import jakarta.ejb.Stateless;
+
+                @Stateless
+                public class OrderService {
+                }
+                """,
+                spec -> spec.path("src/main/java/com/company/orders/OrderService.java")
+            ),
+            java(
+                """
+                package com.company.orders.internal;
+
+                import jakarta.enterprise.context.ApplicationScoped;
+
+                @ApplicationScoped
+                public class OrderNumbers {
+                }
+                """,
+                spec -> spec.path("src/main/java/com/company/orders/internal/OrderNumbers.java")
+            ),
+            java(
+                """
+                package com.company.billing;
+
+                import jakarta.enterprise.inject.Produces;
+
+                public class BillingResources {
+                    @Produces
+                    public String currency() {
+                        return "EUR";
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/company/billing/BillingResources.java")
+            ),
+            java(
+                """
+                package com.company.util;
+
+                public class Strings {
+                }
+                """,
+                spec -> spec.path("src/main/java/com/company/util/Strings.java")
+            ),
+            java(
+                null,
+                """
+                package com.company;
+
+                import org.springframework.boot.SpringApplication;
+                import org.springframework.boot.autoconfigure.SpringBootApplication;
+                import org.springframework.context.annotation.Import;
+
+                @SpringBootApplication(scanBasePackages = {"com.company.billing", "com.company.orders"})
+                @Import(ApplicationPackageComponents.class)
+                public class CompanyApplication {
+
+                    public static void main(String[] args) {
+                        SpringApplication.run(CompanyApplication.class, args);
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/company/CompanyApplication.java")
+            ),
+            java(
+                null,
+                spec -> spec.path("src/main/java/com/company/ApplicationPackageComponents.java")
+                    .after(actual -> {
+                        assertThat(actual).contains("public class ApplicationPackageComponents implements ImportSelector, ResourceLoaderAware {");
+                        assertThat(actual).contains("\"/*.class\"");
+                        return actual;
+                    })
+            )
+        );
+    }
+
+    @Test
+    void addsIndexerToEveryModuleDeclaringBeans() {
+        rewriteRun(
+            spec -> spec.recipe(new AddSpringBootApplication(null, true))
+                .typeValidationOptions(TypeValidation.none()),
+            pomXml(
+                """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>com.example</groupId>
+                    <artifactId>parent</artifactId>
+                    <version>1.0.0</version>
+                    <packaging>pom</packaging>
+                    <modules>
+                        <module>web</module>
+                        <module>orders</module>
+                    </modules>
+                </project>
+                """
+            ),
+            pomXml(
+                """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                    <modelVersion>4.0.0</modelVersion>
+                    <parent>
+                        <groupId>com.example</groupId>
+                        <artifactId>parent</artifactId>
+                        <version>1.0.0</version>
+                    </parent>
+                    <artifactId>web</artifactId>
+                </project>
+                """,
+                spec -> spec.path("web/pom.xml")
+                    .after(actual -> {
+                        assertThat(actual).contains("<artifactId>spring-context-indexer</artifactId>");
+                        return actual;
+                    })
+            ),
+            pomXml(
+                """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                    <modelVersion>4.0.0</modelVersion>
+                    <parent>
+                        <groupId>com.example</groupId>
+                        <artifactId>parent</artifactId>
+                        <version>1.0.0</version>
+                    </parent>
+                    <artifactId>orders</artifactId>
+                </project>
+                """,
+                spec -> spec.path("orders/pom.xml")
+                    .after(actual -> {
+                        assertThat(actual).contains("<artifactId>spring-context-indexer</artifactId>");
+                        return actual;
+                    })
+            ),
+            java(
+                """
+                package com.example.web;
+
+                import jakarta.inject.Named;
+
+                @Named
+                public class OrderController {
+                }
+                """,
+                spec -> spec.path("web/src/main/java/com/example/web/OrderController.java")
+            ),
+            java(
+                """
+                package com.example.orders;
+
+                import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+                @SpringBootApplication
+                public class OrdersApplication {
+                }
+                """,
+                spec -> spec.path("orders/src/main/java/com/example/orders/OrdersApplication.java")
+            ),
+            java(
+                """
+                package com.example.orders.service;
+
+                import jakarta.ejb.Stateless;
+
+                @Stateless
+                public class OrderService {
+                }
+                """,
+                spec -> spec.path("orders/src/main/java/com/example/orders/service/OrderService.java")
+            ),
+            java(
+                null,
+                spec -> spec.path("web/src/main/java/com/example/web/WebApplication.java")
+                    .after(actual -> {
+                        assertThat(actual).contains("@SpringBootApplication(scanBasePackages = {\"com.example.web\"})");
+                        return actual;
+                    })
+            )
+        );
+    }
+
+    @Test
+    void narrowedScanCoveringApplicationPackageNeedsNoImport() {
+        rewriteRun(
+            spec -> spec.recipe(new AddSpringBootApplication(null, true))
+                .typeValidationOptions(TypeValidation.none()),
+            java(
+                """
+                package com.company.shop;
+
+                import jakarta.inject.Named;
+
+                @Named
+                public class Cart {
+                }
+                """,
+                spec -> spec.path("src/main/java/com/company/shop/Cart.java")
+            ),
+            java(
+                """
+                package com.company.shop.model;
+
+                public class Item {
+                }
+                """,
+                spec -> spec.path("src/main/java/com/company/shop/model/Item.java")
+            ),
+            java(
+                null,
+                """
+                package com.company.shop;
+
+                import org.springframework.boot.SpringApplication;
+                import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+                @SpringBootApplication(scanBasePackages = {"com.company.shop"})
+                public class ShopApplication {
+
+                    public static void main(String[] args) {
+                        SpringApplication.run(ShopApplication.class, args);
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/company/shop/ShopApplication.java")
+            )
+        );
+    }
+
+    @Test
+    void collapsesNestedBeanPackages() {
+        assertThat(AddSpringBootApplication.collapseNestedPackages(
+            Set.of("com.a.orders.internal", "com.a.orders", "com.a.billing", "com.a.ordersarchive")))
+            .containsExactly("com.a.billing", "com.a.orders", "com.a.ordersarchive");
+    }
 }
@@ -42,6 +42,22 @@ public class Demo {
                     )
                 ),
                 srcTestJava(
+                    java(
+                        null,
+                        spec -> spec.path("com/example/DevContainers.java")
+                            .after(actual -> {
+                                org.assertj.core.api.Assertions.assertThat(actual)
+                                    .contains("public interface DevContainers {")
+                                    .contains("""
+                                            @ServiceConnection
+                                            PostgreSQLContainer<?> postgres = Shared.POSTGRES;
+                                        """)
+                                    .contains("static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(\"postgres:16-alpine\").withReuse(true);")
+                                    .contains("Startables.deepStart(POSTGRES).join();")
+                                    .doesNotContain("Artemis");
+                                return actual;
+                            })
+                    ),
                     java(
                         null,
                         spec -> spec.path("com/example/DevContainersConfig.java")
@@ -49,8 +65,7 @@ public class Demo {
                                 org.assertj.core.api.Assertions.assertThat(actual)
                                     .contains("class DevContainersConfig")
                                     .contains("@TestConfiguration(proxyBeanMethods = false)")
-                                    .contains("PostgreSQLContainer")
-                                    .contains("postgres:16-alpine");
+                                    .contains("@ImportTestcontainers(DevContainers.class)");
                                 return actual;
                             })
                     ),
@@ -110,4 +125,80 @@ public class Demo {
             )
         );
     }
+
+    @Test
+    void startsBrokerInParallelWithDatabaseWhenJmsIsUsed() {
+        rewriteRun(
+            spec -> spec.cycles(1).expectedCyclesThatMakeChanges(1),
+            mavenProject("demo",
+                srcMainJava(
+                    java(
+                        """
+                        package com.example;
+
+                        import org.springframework.jms.annotation.JmsListener;
+
+                        public class OrderListener {
+                            @JmsListener(destination = "orders")
+                            public void onOrder(String order) {
+                            }
+                        }
+                        """,
+                        spec -> spec.path("src/main/java/com/example/OrderListener.java")
+                    )
+                ),
+                srcTestJava(
+                    java(
+                        null,
+                        spec -> spec.path("com/example/DevContainers.java")
+                            .after(actual -> {
+                                org.assertj.core.api.Assertions.assertThat(actual)
+                                    .contains("import org.testcontainers.activemq.ArtemisContainer;")
+                                    .contains("""
+                                            @ServiceConnection
+                                            ArtemisContainer artemis = Shared.ARTEMIS;
+                                        """)
+                                    .contains("static final ArtemisContainer ARTEMIS = new ArtemisContainer(")
+                                    .contains("Startables.deepStart(POSTGRES, ARTEMIS).join();");
+                                return actual;
+                            })
+                    ),
+                    java(
+                        null,
+                        spec -> spec.path("com/example/DevContainersConfig.java")
+                            .after(actual -> {
+                                org.assertj.core.api.Assertions.assertThat(actual)
+                                    .contains("@ImportTestcontainers(DevContainers.class)");
+                                return actual;
+                            })
+                    ),
+                    java(
+                        null,
+                        spec -> spec.path("com/example/DevDemoApplication.java")
+                            .after(actual -> {
+                                org.assertj.core.api.Assertions.assertThat(actual)
+                                    .contains("DevContainersConfig.class");
+                                return actual;
+                            })
+                    )
+                ),
+                pomXml(
+                    """
+                    <project xmlns="http://maven.apache.org/POM/4.0.0">
+                        <modelVersion>4.0.0</modelVersion>
+                        <groupId>com.example</groupId>
+                        <artifactId>demo</artifactId>
+                        <version>1.0.0</version>
+                    </project>
+                    """,
+                    spec -> spec.after(actual -> {
+                        org.assertj.core.api.Assertions.assertThat(actual)
+                            .contains("<artifactId>postgresql</artifactId>")
+                            .contains("<artifactId>activemq</artifactId>");
+                        return actual;
+                    })
+                )
+            )
+        );
+    }
 }
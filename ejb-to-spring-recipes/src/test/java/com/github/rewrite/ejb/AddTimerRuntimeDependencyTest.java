@@ -0,0 +1,95 @@
+package com.github.rewrite.ejb;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.mavenProject;
+import static org.openrewrite.java.Assertions.srcMainJava;
+import static org.openrewrite.maven.Assertions.pomXml;
+
+class AddTimerRuntimeDependencyTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new AddTimerRuntimeDependency())
+            .parser(JavaParser.fromJavaVersion()
+                .classpath("jakarta.jakartaee-api"));
+    }
+
+    @DocumentExample
+    @Test
+    void addsRuntimeToModuleWithProgrammaticTimers() {
+        rewriteRun(
+            mavenProject("timers",
+                srcMainJava(
+                    java(
+                        """
+                        import jakarta.annotation.Resource;
+                        import jakarta.ejb.TimerService;
+
+                        public class ReminderBean {
+                            @Resource
+                            private TimerService timerService;
+                        }
+                        """
+                    )
+                ),
+                pomXml(
+                    """
+                    <?xml version="1.0" encoding="UTF-8"?>
+                    <project xmlns="http://maven.apache.org/POM/4.0.0">
+                        <modelVersion>4.0.0</modelVersion>
+                        <groupId>com.example</groupId>
+                        <artifactId>timers</artifactId>
+                        <version>1.0.0</version>
+                    </project>
+                    """,
+                    """
+                    <?xml version="1.0" encoding="UTF-8"?>
+                    <project xmlns="http://maven.apache.org/POM/4.0.0">
+                        <modelVersion>4.0.0</modelVersion>
+                        <groupId>com.example</groupId>
+                        <artifactId>timers</artifactId>
+                        <version>1.0.0</version>
+                        <dependencies>
+                            <dependency>
+                                <groupId>com.github.migration</groupId>
+                                <artifactId>migration-timer-runtime</artifactId>
+                                <version>1.0.0-SNAPSHOT</version>
+                            </dependency>
+                        </dependencies>
+                    </project>
+                    """
+                )
+            ),
+            mavenProject("orders",
+                srcMainJava(
+                    java(
+                        """
+                        import jakarta.ejb.Stateless;
+
+                        @Stateless
+                        public class OrderService {
+                        }
+                        """
+                    )
+                ),
+                pomXml(
+                    """
+                    <?xml version="1.0" encoding="UTF-8"?>
+                    <project xmlns="http://maven.apache.org/POM/4.0.0">
+                        <modelVersion>4.0.0</modelVersion>
+                        <groupId>com.example</groupId>
+                        <artifactId>orders</artifactId>
+                        <version>1.0.0</version>
+                    </project>
+                    """
+                )
+            )
+        );
+    }
+}
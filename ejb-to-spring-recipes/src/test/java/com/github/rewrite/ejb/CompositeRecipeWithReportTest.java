@@ -268,11 +268,18 @@ void yamlCompositeRecipeCanBeLoaded() {
         assertThat(recipe.getName())
             .isEqualTo("com.github.rewrite.ejb.MigrateEjbToSpring");
         assertThat(recipe.getRecipeList())
-            .as("Composite should contain sub-recipes")
-            .isNotEmpty();
+            .as("Composite should consist of the migration phases, in order")
+            .extracting(Recipe::getName)
+            .containsExactly(
+                "com.github.rewrite.ejb.MigrateEjbToSpringTransformPhase",
+                "com.github.rewrite.ejb.MigrateEjbToSpringConfigurePhase",
+                "com.github.rewrite.ejb.MigrateEjbToSpringFinishPhase");
+        assertThat(recipe.getRecipeList())
+            .allSatisfy(phase -> assertThat(phase.getTags()).contains("migration-phase"));
 
         // Verify marker recipes and report generator are included
         List<String> recipeNames = recipe.getRecipeList().stream()
+            .flatMap(phase -> phase.getRecipeList().stream())
             .map(Recipe::getName)
             .toList();
 
@@ -285,5 +292,23 @@ void yamlCompositeRecipeCanBeLoaded() {
             .contains("com.github.rewrite.ejb.MarkArquillianTestsForMigration")
             .as("Should include report generator")
             .contains("com.github.rewrite.ejb.GenerateMigrationReport");
+        assertThat(recipeNames.get(recipeNames.size() - 1))
+            .as("Report generator should run last")
+            .isEqualTo("com.github.rewrite.ejb.GenerateMigrationReport");
+        assertThat(recipeNames)
+            .as("MigrateDataSourceDefinition must not share a run with MigratePersistenceXmlToProperties")
+            .doesNotContain("com.github.rewrite.ejb.MigrateDataSourceDefinition");
+
+        Recipe phased = env.activateRecipes("com.github.rewrite.ejb.MigrateEjbToSpringPhased");
+        assertThat(phased.getRecipeList())
+            .extracting(Recipe::getName)
+            .containsExactly(
+                "com.github.rewrite.ejb.MigrateEjbToSpringTransformPhase",
+                "com.github.rewrite.ejb.MigrateEjbToSpringDataSourcePhase",
+                "com.github.rewrite.ejb.MigrateEjbToSpringConfigurePhase",
+                "com.github.rewrite.ejb.MigrateEjbToSpringFinishPhase");
+        assertThat(phased.getRecipeList().get(1).getRecipeList())
+            .extracting(Recipe::getName)
+            .containsExactly("com.github.rewrite.ejb.MigrateDataSourceDefinition");
     }
 }
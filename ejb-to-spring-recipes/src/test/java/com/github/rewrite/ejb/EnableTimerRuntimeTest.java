@@ -0,0 +1,155 @@
+package com.github.rewrite.ejb;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.openrewrite.java.Assertions.java;
+
+class EnableTimerRuntimeTest implements RewriteTest {
+
+    private static final Path EJB_TIMEOUT_SOURCE =
+        Path.of("../migration-annotations/src/main/java/com/github/migration/annotations/EjbTimeout.java");
+
+    private static final String TIMER_SERVICE_STUB =
+        """
+        package com.github.migration.timer;
+
+        import java.io.Serializable;
+
+        public interface TimerService {
+            Object createTimer(long duration, Serializable info);
+        }
+        """;
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new EnableTimerRuntime())
+            .parser(JavaParser.fromJavaVersion()
+                .classpath("jakarta.jakartaee-api", "spring-context")
+                .dependsOn(JavaTemplates.NEEDS_REVIEW_STUB, TIMER_SERVICE_STUB));
+    }
+
+    /**
+     * Runs after MapEjbAnnotationsToMarkers, like in the composite, so the timeout method carries the
+     * {@code @EjbTimeout} marker migration-timer-runtime looks up.
+     */
+    @DocumentExample
+    @Test
+    void liftsProfileOfTimerClassOnStubApi() {
+        rewriteRun(
+            spec -> spec.recipes(new MapEjbAnnotationsToMarkers(), new EnableTimerRuntime())
+                .parser(JavaParser.fromJavaVersion()
+                    .classpath("jakarta.jakartaee-api", "spring-context")
+                    .dependsOn(JavaTemplates.NEEDS_REVIEW_STUB, TIMER_SERVICE_STUB, ejbTimeoutSource())),
+            java(
+                """
+                import com.github.migration.timer.TimerService;
+                import com.github.rewrite.ejb.annotations.NeedsReview;
+                import jakarta.annotation.Resource;
+                import jakarta.ejb.Timeout;
+                import org.springframework.context.annotation.Profile;
+
+                @NeedsReview(reason = "Programmatic EJB timers require refactoring to Spring TaskScheduler", category = NeedsReview.Category.MANUAL_MIGRATION, originalCode = "@Timeout / TimerService", suggestedAction = "Replace TimerService with TaskScheduler and schedule via schedule()/scheduleAtFixedRate()")
+                @Profile("manual-migration")
+                public class ReminderBean {
+                    @Resource
+                    private TimerService timerService;
+
+                    @Timeout
+                    public void remind() {
+                    }
+                }
+                """,
+                """
+                import com.github.migration.annotations.EjbTimeout;
+                import com.github.migration.timer.TimerService;
+                import com.github.rewrite.ejb.annotations.NeedsReview;
+                import jakarta.annotation.Resource;
+
+                @NeedsReview(reason = "Programmatic EJB timers run on migration-timer-runtime", category = NeedsReview.Category.TIMER, originalCode = "@Timeout / TimerService", suggestedAction = "Check that the timer persistence and clustering of migration-timer-runtime are sufficient")
+                public class ReminderBean {
+                    @Resource
+                    private TimerService timerService;
+
+                    @EjbTimeout
+                    public void remind() {
+                    }
+                }
+                """
+            )
+        );
+    }
+
+    @Test
+    void keepsProfileWhileAnotherManualMigrationRemains() {
+        rewriteRun(
+            java(
+                """
+                import com.github.migration.timer.TimerService;
+                import com.github.rewrite.ejb.annotations.NeedsReview;
+                import org.springframework.context.annotation.Profile;
+
+                @NeedsReview(reason = "Programmatic EJB timers require refactoring to Spring TaskScheduler", category = NeedsReview.Category.MANUAL_MIGRATION, originalCode = "@Timeout / TimerService", suggestedAction = "Replace TimerService with TaskScheduler")
+                @Profile("manual-migration")
+                public class StatefulReminderBean {
+                    private TimerService timerService;
+
+                    @NeedsReview(reason = "Conversation state", category = NeedsReview.Category.MANUAL_MIGRATION)
+                    public void remove() {
+                    }
+                }
+                """,
+                """
+                import com.github.migration.timer.TimerService;
+                import com.github.rewrite.ejb.annotations.NeedsReview;
+                import org.springframework.context.annotation.Profile;
+
+                @NeedsReview(reason = "Programmatic EJB timers run on migration-timer-runtime", category = NeedsReview.Category.TIMER, originalCode = "@Timeout / TimerService", suggestedAction = "Check that the timer persistence and clustering of migration-timer-runtime are sufficient")
+                @Profile("manual-migration")
+                public class StatefulReminderBean {
+                    private TimerService timerService;
+
+                    @NeedsReview(reason = "Conversation state", category = NeedsReview.Category.MANUAL_MIGRATION)
+                    public void remove() {
+                    }
+                }
+                """
+            )
+        );
+    }
+
+    @Test
+    void leavesClassOnEjbTimerApiParked() {
+        rewriteRun(
+            java(
+                """
+                import com.github.rewrite.ejb.annotations.NeedsReview;
+                import jakarta.ejb.TimerService;
+                import org.springframework.context.annotation.Profile;
+
+                @NeedsReview(reason = "Programmatic EJB timers require refactoring to Spring TaskScheduler", category = NeedsReview.Category.MANUAL_MIGRATION, originalCode = "@Timeout / TimerService", suggestedAction = "Replace TimerService with TaskScheduler")
+                @Profile("manual-migration")
+                public class LegacyReminderBean {
+                    private TimerService timerService;
+                }
+                """
+            )
+        );
+    }
+
+    private static String ejbTimeoutSource() {
+        try {
+            return Files.readString(EJB_TIMEOUT_SOURCE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.github.rewrite.ejb;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.test.SourceSpecs.text;
+
+class EstimateMigrationImpactTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new EstimateMigrationImpact())
+            .cycles(1)
+            .expectedCyclesThatMakeChanges(1)
+            .parser(JavaParser.fromJavaVersion()
+                .classpath("jakarta.jakartaee-api"));
+    }
+
+    @DocumentExample
+    @Test
+    void predictsRewritesAndReviewsWithoutChangingSources() {
+        rewriteRun(
+            java(
+                """
+                package com.example;
+
+                import jakarta.ejb.Stateless;
+
+                @Stateless
+                public class OrderService {
+                }
+                """
+            ),
+            java(
+                """
+                package com.example;
+
+                import jakarta.ejb.Lock;
+                import jakarta.ejb.LockType;
+                import jakarta.ejb.Singleton;
+
+                @Singleton
+                public class CacheService {
+                    @Lock(LockType.READ)
+                    public String getValue(String key) {
+                        return null;
+                    }
+
+                    @Lock(LockType.WRITE)
+                    public void setValue(String key, String value) {
+                    }
+                }
+                """
+            ),
+            java(
+                """
+                package com.example;
+
+                public class Plain {
+                }
+                """
+            ),
+            text(
+                null,
+                spec -> spec.path("migration-impact.json")
+                    .after(actual -> {
+                        assertThat(actual)
+                            .contains("\"scannedFiles\": 3")
+                            .contains("\"filesToChange\": 2")
+                            .contains("\"jakarta.ejb.Stateless\": 1")
+                            .contains("\"jakarta.ejb.Lock\": 2")
+                            .contains("\"MigrateStatelessToService\": 1")
+                            .contains("\"MigrateSingletonToService\": 1")
+                            .contains("\"CONCURRENCY\": [")
+                            .contains("READ lock on CacheService.getValue()");
+                        return actual;
+                    })
+            ),
+            text(
+                null,
+                spec -> spec.path("migration-impact.html")
+                    .after(actual -> {
+                        assertThat(actual)
+                            .contains("2 of 3 Java files will be changed, 1 items will need manual review.")
+                            .contains("<h3>Concurrency (1)</h3>");
+                        return actual;
+                    })
+            )
+        );
+    }
+
+    @Test
+    void keepsReviewsOfClassesWithTheSameSimpleNameApart() {
+        rewriteRun(
+            java(
+                """
+                package com.example.orders;
+
+                import jakarta.ejb.AccessTimeout;
+                import jakarta.ejb.Singleton;
+
+                @Singleton
+                @AccessTimeout(5000)
+                public class Registry {
+                }
+                """
+            ),
+            java(
+                """
+                package com.example.billing;
+
+                import jakarta.ejb.AccessTimeout;
+                import jakarta.ejb.Singleton;
+
+                @Singleton
+                @AccessTimeout(5000)
+                public class Registry {
+                }
+                """
+            ),
+            text(
+                null,
+                spec -> spec.path("migration-impact.json")
+                    .after(actual -> {
+                        assertThat(actual)
+                            .contains("\"location\": \"com.example.billing.Registry\"")
+                            .contains("\"location\": \"com.example.orders.Registry\"");
+                        return actual;
+                    })
+            ),
+            text(
+                null,
+                spec -> spec.path("migration-impact.html")
+                    .after(actual -> {
+                        assertThat(actual).contains("2 of 2 Java files will be changed, 2 items will need manual review.");
+                        return actual;
+                    })
+            )
+        );
+    }
+
+    @Test
+    void predictsTimerStrategyOfModuleFromItsSchedules() {
+        rewriteRun(
+            java(
+                """
+                package com.example;
+
+                import jakarta.ejb.Schedule;
+                import jakarta.ejb.Singleton;
+
+                @Singleton
+                public class Jobs {
+                    @Schedule(hour = "*", minute = "*/5", persistent = false)
+                    public void cleanup() {
+                    }
+
+                    @Schedule(hour = "2")
+                    public void nightly() {
+                    }
+                }
+                """
+            ),
+            text(
+                null,
+                spec -> spec.path("migration-impact.json")
+                    .after(actual -> {
+                        assertThat(actual)
+                            .contains("\"timerStrategy\": \"quartz\"")
+                            .contains("\"MigrateScheduleToQuartz\": 2")
+                            .doesNotContain("MigrateScheduleToScheduled");
+                        return actual;
+                    })
+            ),
+            text(
+                null,
+                spec -> spec.path("migration-impact.html")
+                    .after(actual -> {
+                        assertThat(actual).contains("Timer strategy: <code>quartz</code>.");
+                        return actual;
+                    })
+            )
+        );
+    }
+
+    @Test
+    void generatesNothingWithoutEjbConstructs() {
+        rewriteRun(
+            spec -> spec.expectedCyclesThatMakeChanges(0),
+            java(
+                """
+                package com.example;
+
+                public class Plain {
+                }
+                """
+            )
+        );
+    }
+}
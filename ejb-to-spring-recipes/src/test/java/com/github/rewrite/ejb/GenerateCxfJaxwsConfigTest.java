@@ -30,11 +30,13 @@
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import static org.openrewrite.java.Assertions.java;
 import static org.openrewrite.maven.Assertions.pomXml;
 import static org.openrewrite.properties.Assertions.properties;
 import static org.openrewrite.test.SourceSpecs.text;
+import static org.openrewrite.xml.Assertions.xml;
 
 class GenerateCxfJaxwsConfigTest implements RewriteTest {
 
@@ -993,6 +995,235 @@ public Endpoint helloServiceEndpoint(Bus bus, HelloService service) {
         );
     }
 
+    @Test
+    void carriesOverMtomBindingTypeAndSchemaValidation() {
+        rewriteRun(
+            spec -> spec.parser(JavaParser.fromJavaVersion()
+                .classpath("jakarta.jakartaee-api", "spring-context")
+                .dependsOn(
+                    """
+                    package org.apache.cxf.annotations;
+                    import java.lang.annotation.*;
+                    @Retention(RetentionPolicy.RUNTIME)
+                    @Target({ElementType.TYPE, ElementType.METHOD})
+                    public @interface SchemaValidation {
+                        SchemaValidationType type() default SchemaValidationType.BOTH;
+                        enum SchemaValidationType { IN, REQUEST, OUT, RESPONSE, BOTH, NONE }
+                    }
+                    """
+                )),
+            java(
+                """
+                package com.example.service;
+
+                import jakarta.jws.WebService;
+                import jakarta.xml.ws.BindingType;
+                import jakarta.xml.ws.soap.MTOM;
+                import jakarta.xml.ws.soap.SOAPBinding;
+                import org.apache.cxf.annotations.SchemaValidation;
+
+                @WebService
+                @MTOM(threshold = 4096)
+                @BindingType(SOAPBinding.SOAP12HTTP_MTOM_BINDING)
+                @SchemaValidation(type = SchemaValidation.SchemaValidationType.IN)
+                public class DocumentService {
+                    public byte[] download(String id) {
+                        return new byte[0];
+                    }
+                }
+                """
+            ),
+            java(
+                null,
+                """
+                package com.example.service;
+
+                import jakarta.xml.ws.Endpoint;
+                import jakarta.xml.ws.soap.SOAPBinding;
+                import java.util.HashMap;
+                import java.util.Map;
+                import org.apache.cxf.Bus;
+                import org.apache.cxf.jaxws.EndpointImpl;
+                import org.springframework.context.annotation.Bean;
+                import org.springframework.context.annotation.Configuration;
+
+                @Configuration
+                public class JaxwsConfiguration {
+
+                    @Bean
+                    public Endpoint documentServiceEndpoint(Bus bus, DocumentService service) {
+                        EndpointImpl endpoint = new EndpointImpl(bus, service);
+                        endpoint.setBindingUri(SOAPBinding.SOAP12HTTP_BINDING);
+                        Map<String, Object> properties = new HashMap<>();
+                        properties.put("mtom-enabled", Boolean.TRUE);
+                        properties.put("mtom-threshold", 4096);
+                        properties.put("schema-validation-enabled", "IN");
+                        endpoint.setProperties(properties);
+                        endpoint.publish("/DocumentService");
+                        return endpoint;
+                    }
+
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/service/JaxwsConfiguration.java")
+            )
+        );
+    }
+
+    @Test
+    void appliesJbossWebservicesPropertiesExecutorAndGzip() {
+        Path moduleRoot = Paths.get(System.getProperty("user.dir")).toAbsolutePath().normalize();
+        ProjectConfiguration config = new ProjectConfiguration(
+            null, null, null, null, // source roots (use defaults)
+            null, null,             // timer strategy, cluster mode
+            null, null, null, null, // jaxrs client settings
+            null,                   // jms provider
+            null, null, null,       // remote, inject, jsf strategies
+            false, false,           // keepWildFlyPlugins, bootPluginInProfiles
+            null,                   // allowedEjbTypes
+            "cxf", null,            // jaxws provider, basePath
+            null, null,             // jaxrs server settings
+            null,                   // security strategy
+            32, 512,                // jaxws executor threads, queue size
+            List.of("gzip")         // jaxws features
+        );
+        ProjectConfigurationLoader.injectForTest(moduleRoot, config);
+
+        rewriteRun(
+            java(
+                """
+                package com.example.service;
+
+                import jakarta.jws.WebService;
+
+                @WebService
+                public class OrderService {
+                    public String place(String order) {
+                        return order;
+                    }
+                }
+                """
+            ),
+            xml(
+                """
+                <webservices xmlns="http://www.jboss.com/xml/ns/javaee" version="1.2">
+                    <property>
+                        <name>schema-validation-enabled</name>
+                        <value>false</value>
+                    </property>
+                    <property>
+                        <name>org.apache.cxf.stax.maxChildElements</name>
+                        <value>100000</value>
+                    </property>
+                </webservices>
+                """,
+                spec -> spec.path("src/main/webapp/WEB-INF/jboss-webservices.xml")
+            ),
+            java(
+                null,
+                """
+                package com.example.service;
+
+                import jakarta.xml.ws.Endpoint;
+                import java.util.HashMap;
+                import java.util.Map;
+                import org.apache.cxf.Bus;
+                import org.apache.cxf.jaxws.EndpointImpl;
+                import org.apache.cxf.transport.common.gzip.GZIPFeature;
+                import org.apache.cxf.workqueue.AutomaticWorkQueueImpl;
+                import org.apache.cxf.workqueue.WorkQueueManager;
+                import org.springframework.context.annotation.Bean;
+                import org.springframework.context.annotation.Configuration;
+
+                @Configuration
+                public class JaxwsConfiguration {
+
+                    @Bean
+                    public Endpoint orderServiceEndpoint(Bus bus, OrderService service) {
+                        EndpointImpl endpoint = new EndpointImpl(bus, service);
+                        Map<String, Object> properties = new HashMap<>();
+                        properties.put("org.apache.cxf.stax.maxChildElements", "100000");
+                        properties.put("schema-validation-enabled", "false");
+                        endpoint.setProperties(properties);
+                        AutomaticWorkQueueImpl workQueue = new AutomaticWorkQueueImpl(512, 8, 32, 8, 60000L, "orderService-ws");
+                        bus.getExtension(WorkQueueManager.class).addNamedWorkQueue("orderService-ws", workQueue);
+                        endpoint.setExecutor(workQueue);
+                        endpoint.getFeatures().add(new GZIPFeature());
+                        endpoint.publish("/OrderService");
+                        return endpoint;
+                    }
+
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/service/JaxwsConfiguration.java")
+            )
+        );
+    }
+
+    @Test
+    void marksUnsupportedFastInfosetForReview() {
+        Path moduleRoot = Paths.get(System.getProperty("user.dir")).toAbsolutePath().normalize();
+        ProjectConfiguration config = new ProjectConfiguration(
+            null, null, null, null, // source roots (use defaults)
+            null, null,             // timer strategy, cluster mode
+            null, null, null, null, // jaxrs client settings
+            null,                   // jms provider
+            null, null, null,       // remote, inject, jsf strategies
+            false, false,           // keepWildFlyPlugins, bootPluginInProfiles
+            null,                   // allowedEjbTypes
+            "cxf", null,            // jaxws provider, basePath
+            null, null,             // jaxrs server settings
+            null,                   // security strategy
+            0, 0,                   // jaxws executor threads, queue size
+            List.of("fastinfoset")  // jaxws features
+        );
+        ProjectConfigurationLoader.injectForTest(moduleRoot, config);
+
+        rewriteRun(
+            java(
+                """
+                package com.example.service;
+
+                import jakarta.jws.WebService;
+
+                @WebService
+                public class OrderService {
+                    public String place(String order) {
+                        return order;
+                    }
+                }
+                """
+            ),
+            java(
+                null,
+                """
+                package com.example.service;
+
+                import com.github.rewrite.ejb.annotations.NeedsReview;
+                import jakarta.xml.ws.Endpoint;
+                import org.apache.cxf.Bus;
+                import org.apache.cxf.jaxws.EndpointImpl;
+                import org.springframework.context.annotation.Bean;
+                import org.springframework.context.annotation.Configuration;
+
+                @NeedsReview(reason = "FastInfoset requested in project.yaml is not available in CXF 4.x", category = NeedsReview.Category.CONFIGURATION, originalCode = "jaxws.features: fastinfoset", suggestedAction = "Use jaxws.features: [gzip] for wire compression")
+                @Configuration
+                public class JaxwsConfiguration {
+
+                    @Bean
+                    public Endpoint orderServiceEndpoint(Bus bus, OrderService service) {
+                        EndpointImpl endpoint = new EndpointImpl(bus, service);
+                        endpoint.publish("/OrderService");
+                        return endpoint;
+                    }
+
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/service/JaxwsConfiguration.java")
+            )
+        );
+    }
+
     // Safety guarantees implemented in the recipe:
     // 1. Scanner checks all config files: application.properties, application-*.properties, application.yml
     // 2. Both '=' and ':' delimiters are recognized in .properties files
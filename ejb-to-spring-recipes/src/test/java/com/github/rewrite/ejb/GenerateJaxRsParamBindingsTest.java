@@ -0,0 +1,410 @@
+package com.github.rewrite.ejb;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.TypeValidation;
+
+import static org.openrewrite.java.Assertions.java;
+
+class GenerateJaxRsParamBindingsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new GenerateJaxRsParamBindings("migrate-to-spring-mvc"))
+            .typeValidationOptions(TypeValidation.none())
+            .parser(JavaParser.fromJavaVersion()
+                .classpath("javax.ws.rs-api", "spring-web"));
+    }
+
+    @DocumentExample
+    @Test
+    void convertsBeanParamHolderToRecord() {
+        rewriteRun(
+            java(
+                """
+                package com.example;
+
+                import org.springframework.web.bind.annotation.ModelAttribute;
+
+                public class SearchResource {
+                    public String search(@ModelAttribute SearchCriteria criteria) {
+                        return criteria.getQuery() + criteria.getPage();
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/SearchResource.java")
+            ),
+            java(
+                """
+                package com.example;
+
+                public class SearchCriteria {
+                    private String query;
+                    private int page;
+
+                    public String getQuery() {
+                        return query;
+                    }
+
+                    public void setQuery(String query) {
+                        this.query = query;
+                    }
+
+                    public int getPage() {
+                        return page;
+                    }
+
+                    public void setPage(int page) {
+                        this.page = page;
+                    }
+                }
+                """,
+                """
+                package com.example;
+
+                public record SearchCriteria(String query, int page) {
+                    public String getQuery() {
+                        return query;
+                    }
+
+                    public int getPage() {
+                        return page;
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/SearchCriteria.java")
+            )
+        );
+    }
+
+    @Test
+    void keepsClassWhenInstantiatedOrSetterCalled() {
+        rewriteRun(
+            java(
+                """
+                package com.example;
+
+                import org.springframework.web.bind.annotation.ModelAttribute;
+
+                public class SearchResource {
+                    public String search(@ModelAttribute SearchCriteria criteria) {
+                        return criteria.getQuery();
+                    }
+
+                    public SearchCriteria defaults() {
+                        SearchCriteria criteria = new SearchCriteria();
+                        criteria.setQuery("*");
+                        return criteria;
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/SearchResource.java")
+            ),
+            java(
+                """
+                package com.example;
+
+                public class SearchCriteria {
+                    private String query;
+
+                    public String getQuery() {
+                        return query;
+                    }
+
+                    public void setQuery(String query) {
+                        this.query = query;
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/SearchCriteria.java")
+            )
+        );
+    }
+
+    @Test
+    void keepsFieldCommentsOnComponents() {
+        rewriteRun(
+            java(
+                """
+                package com.example;
+
+                import org.springframework.web.bind.annotation.ModelAttribute;
+
+                public class SearchResource {
+                    public String search(@ModelAttribute SearchCriteria criteria) {
+                        return criteria.getQuery();
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/SearchResource.java")
+            ),
+            java(
+                """
+                package com.example;
+
+                /**
+                 * Query of the search form.
+                 */
+                public class SearchCriteria {
+                    /** Free text, matched against titles. */
+                    private String query;
+                    private int page;
+
+                    public String getQuery() {
+                        return query;
+                    }
+
+                    public void setQuery(String query) {
+                        this.query = query;
+                    }
+
+                    public void setPage(int page) {
+                        this.page = page;
+                    }
+                }
+                """,
+                """
+                package com.example;
+
+                /**
+                 * Query of the search form.
+                 */
+                public record SearchCriteria(
+                        /** Free text, matched against titles. */
+                        String query,
+                        int page
+                ) {
+                    public String getQuery() {
+                        return query;
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/SearchCriteria.java")
+            )
+        );
+    }
+
+    @Test
+    void keepsClassWhenSubclassedOrFieldHasNoSetter() {
+        rewriteRun(
+            java(
+                """
+                package com.example;
+
+                import org.springframework.web.bind.annotation.ModelAttribute;
+
+                public class SearchResource {
+                    public String search(@ModelAttribute SearchCriteria criteria, @ModelAttribute Paging paging) {
+                        return criteria.getQuery() + paging.getPage();
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/SearchResource.java")
+            ),
+            java(
+                """
+                package com.example;
+
+                public class SearchCriteria {
+                    private String query;
+
+                    public String getQuery() {
+                        return query;
+                    }
+
+                    public void setQuery(String query) {
+                        this.query = query;
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/SearchCriteria.java")
+            ),
+            java(
+                """
+                package com.example;
+
+                public class AdvancedSearchCriteria extends SearchCriteria {
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/AdvancedSearchCriteria.java")
+            ),
+            java(
+                """
+                package com.example;
+
+                public class Paging {
+                    private int page;
+                    private int size;
+
+                    public int getPage() {
+                        return page;
+                    }
+
+                    public void setPage(int page) {
+                        this.page = page;
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/Paging.java")
+            )
+        );
+    }
+
+    @Test
+    void registersConvertersForFromStringTypes() {
+        rewriteRun(
+            java(
+                """
+                package com.example.api;
+
+                import com.example.model.Currency;
+                import org.springframework.web.bind.annotation.RequestParam;
+
+                public class PriceResource {
+                    public String price(@RequestParam("currency") Currency currency) {
+                        return currency.code();
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/api/PriceResource.java")
+            ),
+            java(
+                """
+                package com.example.model;
+
+                public enum Currency {
+                    EUR, USD;
+
+                    public static Currency fromString(String value) {
+                        return valueOf(value.toUpperCase());
+                    }
+
+                    public String code() {
+                        return name();
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/model/Currency.java")
+            ),
+            java(
+                null,
+                """
+                package com.example.api;
+
+                import org.springframework.context.annotation.Configuration;
+                import org.springframework.format.FormatterRegistry;
+                import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+                /**
+                 * Registers String converters for parameter types that JAX-RS converted through
+                 * fromString/valueOf, so request binding does not resolve factory methods reflectively.
+                 */
+                @Configuration
+                public class JaxRsParamConverterConfiguration implements WebMvcConfigurer {
+
+                    @Override
+                    public void addFormatters(FormatterRegistry registry) {
+                        registry.addConverter(String.class, com.example.model.Currency.class, com.example.model.Currency::fromString);
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/api/JaxRsParamConverterConfiguration.java")
+            )
+        );
+    }
+
+    @Test
+    void prefersValueOfForClasses() {
+        rewriteRun(
+            java(
+                """
+                package com.example.api;
+
+                import com.example.model.Sku;
+                import org.springframework.web.bind.annotation.RequestParam;
+
+                public class StockResource {
+                    public String stock(@RequestParam("sku") Sku sku) {
+                        return sku.toString();
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/api/StockResource.java")
+            ),
+            java(
+                """
+                package com.example.model;
+
+                public class Sku {
+                    public static Sku fromString(String value) {
+                        return new Sku();
+                    }
+
+                    public static Sku valueOf(String value) {
+                        return new Sku();
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/model/Sku.java")
+            ),
+            java(
+                null,
+                """
+                package com.example.api;
+
+                import org.springframework.context.annotation.Configuration;
+                import org.springframework.format.FormatterRegistry;
+                import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+                /**
+                 * Registers String converters for parameter types that JAX-RS converted through
+                 * fromString/valueOf, so request binding does not resolve factory methods reflectively.
+                 */
+                @Configuration
+                public class JaxRsParamConverterConfiguration implements WebMvcConfigurer {
+
+                    @Override
+                    public void addFormatters(FormatterRegistry registry) {
+                        registry.addConverter(String.class, com.example.model.Sku.class, com.example.model.Sku::valueOf);
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/api/JaxRsParamConverterConfiguration.java")
+            )
+        );
+    }
+
+    @Test
+    void noChangesWhenJaxRsIsKept() {
+        rewriteRun(
+            spec -> spec.recipe(new GenerateJaxRsParamBindings("keep-jaxrs")),
+            java(
+                """
+                package com.example;
+
+                import javax.ws.rs.BeanParam;
+
+                public class SearchResource {
+                    public String search(@BeanParam SearchCriteria criteria) {
+                        return "ok";
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/SearchResource.java")
+            ),
+            java(
+                """
+                package com.example;
+
+                public class SearchCriteria {
+                    private String query;
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/SearchCriteria.java")
+            )
+        );
+    }
+}
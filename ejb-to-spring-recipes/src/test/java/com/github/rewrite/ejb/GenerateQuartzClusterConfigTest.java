@@ -0,0 +1,208 @@
+package com.github.rewrite.ejb;
+
+import com.github.rewrite.ejb.config.ClusterMode;
+import com.github.rewrite.ejb.config.ProjectConfiguration;
+import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.TypeValidation;
+
+import java.nio.file.Paths;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.test.SourceSpecs.text;
+
+class GenerateQuartzClusterConfigTest implements RewriteTest {
+
+    private static final String SCHEDULED_JOBS = """
+        package com.example.jobs;
+
+        import jakarta.ejb.Schedule;
+
+        public class ReportJobs {
+            @Schedule(second = "*/10", minute = "*", hour = "*", persistent = true)
+            public void poll() {
+            }
+
+            @Schedule(minute = "0", hour = "2", persistent = true)
+            public void nightly() {
+            }
+        }
+        """;
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new GenerateQuartzClusterConfig())
+            .parser(JavaParser.fromJavaVersion().classpath("jakarta.jakartaee-api"))
+            .typeValidationOptions(TypeValidation.none());
+    }
+
+    @BeforeEach
+    void setUp() {
+        ProjectConfigurationLoader.clearCache();
+        ProjectConfigurationLoader.clearTestInjections();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ProjectConfigurationLoader.clearCache();
+        ProjectConfigurationLoader.clearTestInjections();
+    }
+
+    @DocumentExample
+    @Test
+    void appendsTuningForDetectedDatabase() {
+        injectClusterMode(ClusterMode.QUARTZ_JDBC);
+        rewriteRun(
+            java(
+                SCHEDULED_JOBS,
+                spec -> spec.path("src/main/java/com/example/jobs/ReportJobs.java")
+            ),
+            text(
+                """
+                spring.datasource.url=jdbc:postgresql://db:5432/reports
+                spring.quartz.properties.org.quartz.threadPool.threadCount=8
+                """,
+                spec -> spec.path("src/main/resources/application.properties")
+                    .noTrim()
+                    .after(actual -> {
+                        assertThat(actual).startsWith("spring.datasource.url=jdbc:postgresql://db:5432/reports\n");
+                        assertThat(actual).contains("# Sized for 2 triggers, ~360 firings/hour, shortest interval 10s");
+                        assertThat(actual).contains("# The thread pool assumes jobs run 2s on average");
+                        assertThat(actual).contains("# Production schema: apply org/quartz/impl/jdbcjobstore/tables_postgres.sql from the quartz jar\n");
+                        assertThat(actual).contains("spring.quartz.job-store-type=jdbc\n");
+                        assertThat(actual).contains("spring.quartz.jdbc.initialize-schema=embedded\n");
+                        // Spring Boot picks Quartz's bundled script for the platform, no copy is generated
+                        assertThat(actual).doesNotContain("spring.quartz.jdbc.schema=");
+                        assertThat(actual).contains("spring.quartz.properties.org.quartz.jobStore.isClustered=true\n");
+                        assertThat(actual).contains("spring.quartz.properties.org.quartz.jobStore.driverDelegateClass=org.quartz.impl.jdbcjobstore.PostgreSQLDelegate\n");
+                        assertThat(actual).contains("spring.quartz.properties.org.quartz.jobStore.clusterCheckinInterval=10000\n");
+                        assertThat(actual).contains("spring.quartz.properties.org.quartz.jobStore.misfireThreshold=5000\n");
+                        assertThat(actual).contains("spring.quartz.properties.org.quartz.scheduler.batchTriggerAcquisitionMaxCount=1\n");
+                        // user-defined value is kept and not duplicated
+                        assertThat(actual).containsOnlyOnce("threadPool.threadCount");
+                        return actual;
+                    })
+            )
+        );
+    }
+
+    @Test
+    void generatesPropertiesWhenMissing() {
+        injectClusterMode(ClusterMode.QUARTZ_JDBC);
+        rewriteRun(
+            java(
+                SCHEDULED_JOBS,
+                spec -> spec.path("src/main/java/com/example/jobs/ReportJobs.java")
+            ),
+            text(
+                null,
+                spec -> spec.path("src/main/resources/application.properties")
+                    .noTrim()
+                    .after(actual -> {
+                        assertThat(actual).contains("# Production schema: apply the org/quartz/impl/jdbcjobstore/tables_*.sql script");
+                        assertThat(actual).contains("spring.quartz.properties.org.quartz.threadPool.threadCount=5\n");
+                        assertThat(actual).contains("spring.quartz.properties.org.quartz.scheduler.instanceId=AUTO\n");
+                        return actual;
+                    })
+            )
+        );
+    }
+
+    @Test
+    void sizesThreadPoolAndBatchFromFiringRate() {
+        GenerateQuartzClusterConfig.QuartzTuning tuning =
+            GenerateQuartzClusterConfig.QuartzTuning.forSchedules(36_000, 1, GenerateQuartzClusterConfig.DEFAULT_JOB_SECONDS);
+        // 10 firings/s x 2s average job x 2 for bursts
+        assertThat(tuning.threadCount).isEqualTo(40);
+        assertThat(tuning.batchMaxCount).isEqualTo(10);
+        assertThat(tuning.misfireThresholdMillis).isEqualTo(5_000);
+        assertThat(tuning.clusterCheckinIntervalMillis).isEqualTo(5_000);
+
+        GenerateQuartzClusterConfig.QuartzTuning hourly =
+            GenerateQuartzClusterConfig.QuartzTuning.forSchedules(1, 3600, GenerateQuartzClusterConfig.DEFAULT_JOB_SECONDS);
+        assertThat(hourly.threadCount).isEqualTo(5);
+        assertThat(hourly.batchMaxCount).isEqualTo(1);
+        assertThat(hourly.misfireThresholdMillis).isEqualTo(60_000);
+        assertThat(hourly.clusterCheckinIntervalMillis).isEqualTo(20_000);
+
+        // 10 firings/s x 1s jobs x 2 for bursts
+        assertThat(GenerateQuartzClusterConfig.QuartzTuning.forSchedules(36_000, 1, 1).threadCount).isEqualTo(20);
+    }
+
+    @Test
+    void sizesThreadPoolForConfiguredJobDuration() {
+        injectClusterMode(ClusterMode.QUARTZ_JDBC);
+        rewriteRun(
+            spec -> spec.recipe(new GenerateQuartzClusterConfig(30.0)),
+            java(
+                SCHEDULED_JOBS,
+                spec -> spec.path("src/main/java/com/example/jobs/ReportJobs.java")
+            ),
+            text(
+                null,
+                spec -> spec.path("src/main/resources/application.properties")
+                    .noTrim()
+                    .after(actual -> {
+                        assertThat(actual).contains("# The thread pool assumes jobs run 30s on average");
+                        // just over 0.1 firings/s x 30s x 2 for bursts, rounded up
+                        assertThat(actual).contains("spring.quartz.properties.org.quartz.threadPool.threadCount=7\n");
+                        return actual;
+                    })
+            )
+        );
+    }
+
+    @Test
+    void prefersApplicationPropertiesOverProfileFiles() {
+        injectClusterMode(ClusterMode.QUARTZ_JDBC);
+        rewriteRun(
+            java(
+                SCHEDULED_JOBS,
+                spec -> spec.path("src/main/java/com/example/jobs/ReportJobs.java")
+            ),
+            text(
+                """
+                spring.datasource.url=jdbc:h2:mem:dev
+                """,
+                spec -> spec.path("src/main/resources/application-dev.properties")
+            ),
+            text(
+                """
+                spring.datasource.url=jdbc:postgresql://db:5432/reports
+                """,
+                spec -> spec.path("src/main/resources/application.properties")
+                    .noTrim()
+                    .after(actual -> {
+                        assertThat(actual).contains("tables_postgres.sql");
+                        assertThat(actual).contains("jobStore.driverDelegateClass=org.quartz.impl.jdbcjobstore.PostgreSQLDelegate\n");
+                        return actual;
+                    })
+            )
+        );
+    }
+
+    @Test
+    void noChangesWithoutQuartzJdbcCluster() {
+        injectClusterMode(ClusterMode.NONE);
+        rewriteRun(
+            java(
+                SCHEDULED_JOBS,
+                spec -> spec.path("src/main/java/com/example/jobs/ReportJobs.java")
+            )
+        );
+    }
+
+    private static void injectClusterMode(ClusterMode clusterMode) {
+        ProjectConfigurationLoader.injectForTest(
+            Paths.get(System.getProperty("user.dir")).toAbsolutePath().normalize(),
+            new ProjectConfiguration(null, null, null, null,
+                ProjectConfiguration.TimerStrategy.QUARTZ, clusterMode));
+    }
+}
@@ -0,0 +1,356 @@
+package com.github.rewrite.ejb;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.TypeValidation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.maven.Assertions.pomXml;
+import static org.openrewrite.test.SourceSpecs.text;
+import static org.openrewrite.xml.Assertions.xml;
+
+class GenerateSecondLevelCacheConfigTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new GenerateSecondLevelCacheConfig())
+            .parser(JavaParser.fromJavaVersion().dependsOn(
+                """
+                package jakarta.persistence;
+                public @interface Entity {}
+                """,
+                """
+                package jakarta.persistence;
+                public @interface Cacheable { boolean value() default true; }
+                """,
+                """
+                package org.hibernate.annotations;
+                public @interface Immutable {}
+                """
+            ))
+            .typeValidationOptions(TypeValidation.none());
+    }
+
+    @DocumentExample
+    @Test
+    void generatesEhcacheRegionsAndWarmupForCacheableEntities() {
+        rewriteRun(
+            xml(
+                """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <persistence version="3.0" xmlns="https://jakarta.ee/xml/ns/persistence">
+                    <persistence-unit name="RefUnit">
+                        <shared-cache-mode>ENABLE_SELECTIVE</shared-cache-mode>
+                        <properties>
+                            <property name="eclipselink.cache.size.Country" value="300"/>
+                        </properties>
+                    </persistence-unit>
+                </persistence>
+                """,
+                spec -> spec.path("src/main/resources/META-INF/persistence.xml")
+            ),
+            java(
+                """
+                package com.example.domain;
+
+                import jakarta.persistence.Cacheable;
+                import jakarta.persistence.Entity;
+                import org.hibernate.annotations.Immutable;
+
+                @Entity
+                @Cacheable
+                @Immutable
+                public class Country {
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/domain/Country.java")
+            ),
+            java(
+                """
+                package com.example.domain;
+
+                import jakarta.persistence.Cacheable;
+                import jakarta.persistence.Entity;
+
+                @Entity
+                @Cacheable
+                public class Customer {
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/domain/Customer.java")
+            ),
+            java(
+                """
+                package com.example.domain;
+
+                import jakarta.persistence.Entity;
+
+                @Entity
+                public class Order {
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/domain/Order.java")
+            ),
+            java(
+                null,
+                spec -> spec.path("src/main/java/com/example/domain/SecondLevelCacheConfiguration.java")
+                    .after(actual -> {
+                        assertThat(actual)
+                            .contains("HibernatePropertiesCustomizer secondLevelCacheProperties()")
+                            .contains("properties.put(\"hibernate.cache.use_second_level_cache\", \"true\");")
+                            .contains("properties.put(\"hibernate.cache.use_query_cache\", \"true\");")
+                            .contains("properties.put(\"hibernate.cache.region.factory_class\", \"jcache\");")
+                            .contains("org.ehcache.jsr107.EhcacheCachingProvider")
+                            .contains("classpath:ehcache.xml")
+                            .contains("properties.put(\"jakarta.persistence.sharedCache.mode\", \"ENABLE_SELECTIVE\");");
+                        return actual;
+                    })
+            ),
+            java(
+                null,
+                spec -> spec.path("src/main/java/com/example/domain/ReferenceDataCacheWarmup.java")
+                    .after(actual -> {
+                        assertThat(actual)
+                            .contains("@EventListener(ApplicationReadyEvent.class)")
+                            .contains("com.example.domain.Country.class")
+                            .doesNotContain("Customer.class");
+                        return actual;
+                    })
+            ),
+            text(
+                null,
+                spec -> spec.path("src/main/resources/ehcache.xml")
+                    .after(actual -> {
+                        assertThat(actual)
+                            .contains("<cache alias=\"com.example.domain.Country\" uses-template=\"default-region\">")
+                            .contains("<heap unit=\"entries\">300</heap>")
+                            .contains("<cache alias=\"com.example.domain.Customer\" uses-template=\"default-region\">")
+                            .contains("<heap unit=\"entries\">1000</heap>")
+                            .contains("default-query-results-region")
+                            .contains("default-update-timestamps-region")
+                            .doesNotContain("com.example.domain.Order");
+                        return actual;
+                    })
+            )
+        );
+    }
+
+    @Test
+    void generatesCaffeineConfigWithoutWarmupForReadWriteEntities() {
+        rewriteRun(
+            spec -> spec.recipe(new GenerateSecondLevelCacheConfig("caffeine", 5000)),
+            java(
+                """
+                package com.example;
+
+                import jakarta.persistence.Cacheable;
+                import jakarta.persistence.Entity;
+
+                @Entity
+                @Cacheable
+                public class Product {
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/Product.java")
+            ),
+            java(
+                null,
+                spec -> spec.path("src/main/java/com/example/SecondLevelCacheConfiguration.java")
+                    .after(actual -> {
+                        assertThat(actual)
+                            .contains("com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider")
+                            .doesNotContain("hibernate.javax.cache.uri");
+                        return actual;
+                    })
+            ),
+            text(
+                null,
+                spec -> spec.path("src/main/resources/application.conf")
+                    .after(actual -> {
+                        assertThat(actual)
+                            .contains("caffeine.jcache {")
+                            .contains("\"com.example.Product\" {")
+                            .contains("policy.maximum.size = 5000");
+                        return actual;
+                    })
+            )
+        );
+    }
+
+    @Test
+    void leavesCacheDependencyVersionsToSpringBoot() {
+        rewriteRun(
+            pomXml(
+                """
+                <project>
+                    <modelVersion>4.0.0</modelVersion>
+                    <parent>
+                        <groupId>org.springframework.boot</groupId>
+                        <artifactId>spring-boot-starter-parent</artifactId>
+                        <version>3.5.0</version>
+                    </parent>
+                    <groupId>com.example</groupId>
+                    <artifactId>shop</artifactId>
+                    <version>1.0.0</version>
+                </project>
+                """,
+                spec -> spec.after(actual -> {
+                    assertThat(actual)
+                        .contains("<artifactId>hibernate-jcache</artifactId>")
+                        .contains("<artifactId>ehcache</artifactId>")
+                        .contains("<classifier>jakarta</classifier>")
+                        .doesNotContain("spring-boot-dependencies")
+                        .doesNotContainPattern("</artifactId>\\s*<version>[^<]*</version>\\s*(<classifier>[^<]*</classifier>\\s*)?</dependency>");
+                    return actual;
+                })
+            ),
+            xml(
+                """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <persistence version="3.0" xmlns="https://jakarta.ee/xml/ns/persistence">
+                    <persistence-unit name="ShopUnit">
+                        <shared-cache-mode>ENABLE_SELECTIVE</shared-cache-mode>
+                    </persistence-unit>
+                </persistence>
+                """,
+                spec -> spec.path("src/main/resources/META-INF/persistence.xml")
+            ),
+            java(
+                """
+                package com.example.domain;
+
+                import jakarta.persistence.Cacheable;
+                import jakarta.persistence.Entity;
+
+                @Entity
+                @Cacheable
+                public class Customer {
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/domain/Customer.java")
+            ),
+            java(
+                null,
+                spec -> spec.path("src/main/java/com/example/domain/SecondLevelCacheConfiguration.java")
+                    .after(actual -> actual)
+            ),
+            text(
+                null,
+                spec -> spec.path("src/main/resources/ehcache.xml")
+                    .after(actual -> actual)
+            )
+        );
+    }
+
+    @Test
+    void importsSpringBootBomBeforeAddingCacheDependencies() {
+        rewriteRun(
+            spec -> spec.recipe(new GenerateSecondLevelCacheConfig("caffeine", null)),
+            pomXml(
+                """
+                <project>
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>com.example</groupId>
+                    <artifactId>shop</artifactId>
+                    <version>1.0.0</version>
+                </project>
+                """,
+                spec -> spec.after(actual -> {
+                    assertThat(actual)
+                        .contains("<artifactId>spring-boot-dependencies</artifactId>")
+                        .contains("<scope>import</scope>")
+                        .contains("<artifactId>hibernate-jcache</artifactId>")
+                        .contains("<artifactId>jcache</artifactId>")
+                        .doesNotContainPattern("</artifactId>\\s*<version>[^<]*</version>\\s*</dependency>");
+                    return actual;
+                })
+            ),
+            xml(
+                """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <persistence version="3.0" xmlns="https://jakarta.ee/xml/ns/persistence">
+                    <persistence-unit name="ShopUnit">
+                        <shared-cache-mode>ALL</shared-cache-mode>
+                    </persistence-unit>
+                </persistence>
+                """,
+                spec -> spec.path("src/main/resources/META-INF/persistence.xml")
+            ),
+            java(
+                """
+                package com.example.domain;
+
+                import jakarta.persistence.Entity;
+
+                @Entity
+                public class Customer {
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/domain/Customer.java")
+            ),
+            java(
+                null,
+                spec -> spec.path("src/main/java/com/example/domain/SecondLevelCacheConfiguration.java")
+                    .after(actual -> actual)
+            ),
+            text(
+                null,
+                spec -> spec.path("src/main/resources/application.conf")
+                    .after(actual -> actual)
+            )
+        );
+    }
+
+    @Test
+    void noChangesWhenSharedCacheModeIsNone() {
+        rewriteRun(
+            xml(
+                """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <persistence version="3.0" xmlns="https://jakarta.ee/xml/ns/persistence">
+                    <persistence-unit name="NoCacheUnit">
+                        <shared-cache-mode>NONE</shared-cache-mode>
+                    </persistence-unit>
+                </persistence>
+                """,
+                spec -> spec.path("src/main/resources/META-INF/persistence.xml")
+            ),
+            java(
+                """
+                package com.example;
+
+                import jakarta.persistence.Cacheable;
+                import jakarta.persistence.Entity;
+
+                @Entity
+                @Cacheable
+                public class Product {
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/Product.java")
+            )
+        );
+    }
+
+    @Test
+    void noChangesWithoutCachedEntities() {
+        rewriteRun(
+            java(
+                """
+                package com.example;
+
+                import jakarta.persistence.Entity;
+
+                @Entity
+                public class Product {
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/Product.java")
+            )
+        );
+    }
+}
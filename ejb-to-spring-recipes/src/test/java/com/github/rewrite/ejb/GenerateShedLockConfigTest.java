@@ -0,0 +1,210 @@
+package com.github.rewrite.ejb;
+
+import com.github.rewrite.ejb.config.ClusterMode;
+import com.github.rewrite.ejb.config.ProjectConfiguration;
+import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.TypeValidation;
+
+import java.nio.file.Paths;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.maven.Assertions.pomXml;
+import static org.openrewrite.test.SourceSpecs.text;
+
+class GenerateShedLockConfigTest implements RewriteTest {
+
+    private static final String SCHEDULED_JOB = """
+        package com.example.jobs;
+
+        import jakarta.ejb.Schedule;
+
+        public class CleanupJob {
+            @Schedule(minute = "*/5", hour = "*", persistent = false)
+            public void cleanup() {
+            }
+        }
+        """;
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new GenerateShedLockConfig())
+            .parser(JavaParser.fromJavaVersion().classpath("jakarta.jakartaee-api"))
+            .typeValidationOptions(TypeValidation.none());
+    }
+
+    @BeforeEach
+    void setUp() {
+        ProjectConfigurationLoader.clearCache();
+        ProjectConfigurationLoader.clearTestInjections();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ProjectConfigurationLoader.clearCache();
+        ProjectConfigurationLoader.clearTestInjections();
+    }
+
+    @DocumentExample
+    @Test
+    void generatesLockProviderSchemaAndDependencies() {
+        injectClusterMode(ClusterMode.SHEDLOCK);
+        rewriteRun(
+            pomXml(
+                """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>com.example</groupId>
+                    <artifactId>jobs</artifactId>
+                    <version>1.0.0</version>
+                </project>
+                """,
+                spec -> spec.after(actual -> {
+                    assertThat(actual).contains("<artifactId>shedlock-spring</artifactId>");
+                    assertThat(actual).contains("<artifactId>shedlock-provider-jdbc-template</artifactId>");
+                    assertThat(actual).contains("<version>6.3.0</version>");
+                    assertThat(actual).contains("<artifactId>spring-boot-starter-jdbc</artifactId>");
+                    assertThat(actual).contains("<artifactId>h2</artifactId>");
+                    return actual;
+                })
+            ),
+            java(
+                SCHEDULED_JOB,
+                spec -> spec.path("src/main/java/com/example/jobs/CleanupJob.java")
+            ),
+            java(
+                null,
+                """
+                package com.example.jobs;
+
+                import javax.sql.DataSource;
+                import net.javacrumbs.shedlock.core.LockProvider;
+                import net.javacrumbs.shedlock.provider.jdbctemplate.JdbcTemplateLockProvider;
+                import net.javacrumbs.shedlock.spring.annotation.EnableSchedulerLock;
+                import org.springframework.beans.factory.annotation.Value;
+                import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+                import org.springframework.context.annotation.Bean;
+                import org.springframework.context.annotation.Configuration;
+                import org.springframework.core.io.ClassPathResource;
+                import org.springframework.jdbc.core.JdbcTemplate;
+                import org.springframework.jdbc.datasource.init.DataSourceInitializer;
+                import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+                /**
+                 * Cluster-wide locking for migrated EJB timers: every @SchedulerLock job runs on at most one
+                 * node at a time. Lock rows live in the shedlock table (shedlock-schema.sql);
+                 * lock expiry uses database time, so node clocks do not need to be in sync.
+                 */
+                @Configuration(proxyBeanMethods = false)
+                @EnableSchedulerLock(defaultLockAtMostFor = "PT10M")
+                public class ShedLockConfiguration {
+
+                    @Bean
+                    public LockProvider lockProvider(DataSource dataSource) {
+                        return new JdbcTemplateLockProvider(
+                            JdbcTemplateLockProvider.Configuration.builder()
+                                .withJdbcTemplate(new JdbcTemplate(dataSource))
+                                .usingDbTime()
+                                .build());
+                    }
+
+                    /**
+                     * Creates the shedlock table on embedded databases only, like spring.quartz.jdbc.initialize-schema.
+                     * Create it on other databases through the schema migration (shedlock-schema.sql),
+                     * or set shedlock.jdbc.initialize-schema=always where the database supports CREATE TABLE IF NOT EXISTS.
+                     */
+                    @Bean
+                    public DataSourceInitializer shedLockSchemaInitializer(DataSource dataSource,
+                            @Value("${shedlock.jdbc.initialize-schema:embedded}") String initializeSchema) {
+                        DataSourceInitializer initializer = new DataSourceInitializer();
+                        initializer.setDataSource(dataSource);
+                        initializer.setDatabasePopulator(new ResourceDatabasePopulator(new ClassPathResource("shedlock-schema.sql")));
+                        initializer.setEnabled("always".equalsIgnoreCase(initializeSchema)
+                            || "embedded".equalsIgnoreCase(initializeSchema) && EmbeddedDatabaseConnection.isEmbedded(dataSource));
+                        return initializer;
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/jobs/ShedLockConfiguration.java")
+            ),
+            java(
+                null,
+                spec -> spec.path("src/test/java/com/example/jobs/ShedLockConfigurationTest.java")
+                    .after(actual -> {
+                        assertThat(actual).contains("@JdbcTest");
+                        assertThat(actual).contains("@Import(ShedLockConfiguration.class)");
+                        assertThat(actual).contains("assertThat(lockProvider.lock(lock)).isEmpty();");
+                        return actual;
+                    })
+            ),
+            text(
+                null,
+                """
+                -- ShedLock lock table (https://github.com/lukas-krecan/ShedLock#jdbctemplate)
+                -- ShedLockConfiguration runs it on embedded databases only (shedlock.jdbc.initialize-schema=embedded).
+                -- Apply it to other databases through Flyway, Liquibase or the DBA; Oracle before 23c and SQL Server
+                -- need the IF NOT EXISTS removed and their own column types.
+                CREATE TABLE IF NOT EXISTS shedlock (
+                    name       VARCHAR(64)  NOT NULL,
+                    lock_until TIMESTAMP    NOT NULL,
+                    locked_at  TIMESTAMP    NOT NULL,
+                    locked_by  VARCHAR(255) NOT NULL,
+                    PRIMARY KEY (name)
+                );
+                """,
+                spec -> spec.path("src/main/resources/shedlock-schema.sql")
+            )
+        );
+    }
+
+    @Test
+    void keepsExistingSchemaFile() {
+        injectClusterMode(ClusterMode.SHEDLOCK);
+        rewriteRun(
+            java(
+                SCHEDULED_JOB,
+                spec -> spec.path("src/main/java/com/example/jobs/CleanupJob.java")
+            ),
+            text(
+                "CREATE TABLE shedlock (name VARCHAR(64) PRIMARY KEY);",
+                spec -> spec.path("src/main/resources/shedlock-schema.sql")
+            ),
+            java(
+                null,
+                spec -> spec.path("src/main/java/com/example/jobs/ShedLockConfiguration.java")
+                    .after(actual -> actual)
+            ),
+            java(
+                null,
+                spec -> spec.path("src/test/java/com/example/jobs/ShedLockConfigurationTest.java")
+                    .after(actual -> actual)
+            )
+        );
+    }
+
+    @Test
+    void noChangesWithoutShedLockCluster() {
+        injectClusterMode(ClusterMode.NONE);
+        rewriteRun(
+            java(
+                SCHEDULED_JOB,
+                spec -> spec.path("src/main/java/com/example/jobs/CleanupJob.java")
+            )
+        );
+    }
+
+    private static void injectClusterMode(ClusterMode clusterMode) {
+        ProjectConfigurationLoader.injectForTest(
+            Paths.get(System.getProperty("user.dir")).toAbsolutePath().normalize(),
+            new ProjectConfiguration(null, null, null, null,
+                ProjectConfiguration.TimerStrategy.SCHEDULED, clusterMode));
+    }
+}
@@ -0,0 +1,211 @@
+package com.github.rewrite.ejb;
+
+import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.TypeValidation;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.maven.Assertions.pomXml;
+
+class GenerateStartupOrchestratorTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipes(new MigrateSingletonToService(), new GenerateStartupOrchestrator())
+            .parser(JavaParser.fromJavaVersion().classpath("jakarta.jakartaee-api"))
+            .typeValidationOptions(TypeValidation.none());
+    }
+
+    @BeforeEach
+    void setUp() {
+        ProjectConfigurationLoader.clearCache();
+        ProjectConfigurationLoader.clearTestInjections();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ProjectConfigurationLoader.clearCache();
+        ProjectConfigurationLoader.clearTestInjections();
+    }
+
+    @DocumentExample
+    @Test
+    void orchestratesWarmUpsAlongDependsOnGraph() {
+        rewriteRun(
+            pomXml(
+                """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>com.example</groupId>
+                    <artifactId>startup</artifactId>
+                    <version>1.0.0</version>
+                </project>
+                """,
+                spec -> spec.after(actual -> {
+                    assertThat(actual).contains("<artifactId>spring-boot-starter-actuator</artifactId>");
+                    return actual;
+                })
+            ),
+            java(
+                """
+                package com.example.startup;
+
+                import jakarta.annotation.PostConstruct;
+                import jakarta.ejb.Singleton;
+                import jakarta.ejb.Startup;
+
+                @Singleton
+                @Startup
+                public class ConfigLoader {
+                    @PostConstruct
+                    public void load() {
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/startup/ConfigLoader.java")
+                    .after(actual -> {
+                        assertThat(actual).contains("    public void load() {");
+                        assertThat(actual).doesNotContain("EventListener");
+                        assertThat(actual).doesNotContain("ApplicationReadyEvent");
+                        return actual;
+                    })
+            ),
+            java(
+                """
+                package com.example.startup;
+
+                import jakarta.annotation.PostConstruct;
+                import jakarta.ejb.DependsOn;
+                import jakarta.ejb.Singleton;
+                import jakarta.ejb.Startup;
+
+                @Singleton
+                @Startup
+                @DependsOn("ConfigLoader")
+                public class CacheWarmer {
+                    @PostConstruct
+                    private void warmUp() {
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/startup/CacheWarmer.java")
+                    .after(actual -> {
+                        assertThat(actual).contains("@DependsOn(\"ConfigLoader\")");
+                        assertThat(actual).contains("import org.springframework.context.annotation.DependsOn;");
+                        assertThat(actual).contains("""
+                            public class CacheWarmer {
+                                public void warmUp() {
+                            """);
+                        assertThat(actual).doesNotContain("PostConstruct");
+                        return actual;
+                    })
+            ),
+            java(
+                """
+                package com.example.startup.reports;
+
+                import jakarta.annotation.PostConstruct;
+                import jakarta.ejb.Singleton;
+                import jakarta.ejb.Startup;
+
+                @Singleton(name = "Reports")
+                @Startup
+                public class ReportIndexer {
+                    @PostConstruct
+                    void index() {
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/startup/reports/ReportIndexer.java")
+                    .after(actual -> {
+                        assertThat(actual).contains("    public void index() {");
+                        assertThat(actual).doesNotContain("EventListener");
+                        return actual;
+                    })
+            ),
+            java(
+                null,
+                spec -> spec.path("src/main/java/com/example/startup/StartupOrchestrator.java")
+                    .after(actual -> {
+                        assertThat(actual).contains("import com.example.startup.reports.ReportIndexer;");
+                        assertThat(actual).contains("@Component(\"readinessStateHealthIndicator\")");
+                        assertThat(actual).contains("public class StartupOrchestrator extends ReadinessStateHealthIndicator {");
+                        assertThat(actual).contains("@Value(\"${startup.orchestrator.parallelism:3}\") int parallelism");
+                        assertThat(actual).contains("""
+                                    submit(executor, "ConfigLoader", () -> context.getBean(ConfigLoader.class).load());
+                                    submit(executor, "Reports", () -> context.getBean(ReportIndexer.class).index());
+                                    submit(executor, "CacheWarmer", () -> context.getBean(CacheWarmer.class).warmUp(), "ConfigLoader");
+                            """);
+                        assertThat(actual).contains("Timer.builder(TIMER_NAME)");
+                        assertThat(actual).contains("return completed ? super.getState(applicationAvailability) : ReadinessState.REFUSING_TRAFFIC;");
+                        return actual;
+                    })
+            )
+        );
+    }
+
+    @Test
+    void singleStartupBeanKeepsReadyEventListener() {
+        rewriteRun(
+            java(
+                """
+                package com.example.startup;
+
+                import jakarta.annotation.PostConstruct;
+                import jakarta.ejb.Singleton;
+                import jakarta.ejb.Startup;
+
+                @Singleton
+                @Startup
+                public class ConfigLoader {
+                    @PostConstruct
+                    public void load() {
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/startup/ConfigLoader.java")
+                    .after(actual -> {
+                        assertThat(actual).contains("@EventListener(ApplicationReadyEvent.class)");
+                        return actual;
+                    })
+            )
+        );
+    }
+
+    @Test
+    void resolvesDependenciesThroughBeansWithoutWarmUpAndRejectsCycles() {
+        Map<String, GenerateStartupOrchestrator.StartupBean> beans = new LinkedHashMap<>();
+        GenerateStartupOrchestrator.StartupBean index = bean(beans, "Index", "warm", "Registry");
+        bean(beans, "Registry", null, "Config", "RemoteSystem");
+        bean(beans, "Config", "load");
+
+        List<GenerateStartupOrchestrator.StartupTask> tasks = GenerateStartupOrchestrator.orderTasks(beans);
+        assertThat(tasks).extracting(t -> t.bean.ejbName).containsExactly("Config", "Index");
+        assertThat(tasks.get(1).bean).isSameAs(index);
+        assertThat(tasks.get(1).dependsOn).containsExactly("Config");
+
+        bean(beans, "Config", "load", "Index");
+        assertThat(GenerateStartupOrchestrator.orderTasks(beans)).isNull();
+    }
+
+    private static GenerateStartupOrchestrator.StartupBean bean(Map<String, GenerateStartupOrchestrator.StartupBean> beans,
+                                                                String name, String initMethod, String... dependsOn) {
+        GenerateStartupOrchestrator.StartupBean bean = new GenerateStartupOrchestrator.StartupBean("com.example." + name, name);
+        bean.initMethod = initMethod;
+        bean.dependsOn.addAll(List.of(dependsOn));
+        beans.put(name, bean);
+        return bean;
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.rewrite.ejb;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.java.tree.JavaType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JavaEeAnnotationTest {
+
+    @Test
+    void findsEveryAnnotationUnderBothNames() {
+        for (JavaEeAnnotation annotation : JavaEeAnnotation.values()) {
+            assertThat(JavaEeAnnotation.forName(annotation.getJavaxName())).isSameAs(annotation);
+            assertThat(JavaEeAnnotation.forName(annotation.getJakartaName())).isSameAs(annotation);
+            assertThat(JavaEeAnnotation.of(JavaType.ShallowClass.build(annotation.getJavaxName()))).isSameAs(annotation);
+            assertThat(JavaEeAnnotation.of(JavaType.ShallowClass.build(annotation.getJakartaName()))).isSameAs(annotation);
+            assertThat(annotation.isTypeOf(JavaType.ShallowClass.build(annotation.getJakartaName()))).isTrue();
+            assertThat(annotation.hasName(annotation.getJavaxName())).isTrue();
+        }
+    }
+
+    @Test
+    void missesLookAlikes() {
+        for (JavaEeAnnotation annotation : JavaEeAnnotation.values()) {
+            String simpleName = annotation.getJakartaName().substring(annotation.getJakartaName().lastIndexOf('.') + 1);
+            assertThat(JavaEeAnnotation.forName("com.example." + simpleName)).isNull();
+            assertThat(JavaEeAnnotation.forName(simpleName)).isNull();
+            assertThat(JavaEeAnnotation.forName(annotation.getJakartaName() + "Impl")).isNull();
+        }
+        assertThat(JavaEeAnnotation.forName("org.springframework.transaction.annotation.Transactional")).isNull();
+        assertThat(JavaEeAnnotation.forName("org.springframework.context.annotation.Lazy")).isNull();
+        assertThat(JavaEeAnnotation.forName("")).isNull();
+        assertThat(JavaEeAnnotation.STATELESS.hasName("jakarta.ejb.Stateful")).isFalse();
+    }
+
+    @Test
+    void missesUnresolvedTypes() {
+        assertThat(JavaEeAnnotation.of((JavaType) null)).isNull();
+        assertThat(JavaEeAnnotation.of(JavaType.Unknown.getInstance())).isNull();
+        assertThat(JavaEeAnnotation.of(JavaType.Primitive.Int)).isNull();
+        assertThat(JavaEeAnnotation.forName(null)).isNull();
+        assertThat(JavaEeAnnotation.STATELESS.matches(null)).isFalse();
+        assertThat(JavaEeAnnotation.STATELESS.isTypeOf(JavaType.Unknown.getInstance())).isFalse();
+    }
+
+    @Test
+    void failsForNamesWithTheSameHashCode() {
+        assertThat("javax.ejb.Aa".hashCode()).isEqualTo("javax.ejb.BB".hashCode());
+
+        assertThatThrownBy(() -> JavaEeAnnotation.distinctHashes("javax.ejb.Stateless", "javax.ejb.Aa", "javax.ejb.BB"))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("javax.ejb.Aa")
+            .hasMessageContaining("javax.ejb.BB");
+        assertThat(JavaEeAnnotation.distinctHashes("javax.ejb.Stateless", "jakarta.ejb.Stateless"))
+            .doesNotHaveDuplicates();
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.rewrite.ejb;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.java.JavaTemplate;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JavaTemplatesTest {
+
+    @Test
+    void reusesTemplateWithSameSettings() {
+        JavaTemplate first = JavaTemplates.builder("@NeedsReview(reason = #{}, category = NeedsReview.Category.OTHER)")
+            .imports(JavaTemplates.NEEDS_REVIEW_FQN)
+            .dependsOn(JavaTemplates.NEEDS_REVIEW_STUB)
+            .build();
+        JavaTemplate second = JavaTemplates.builder("@NeedsReview(reason = #{}, category = NeedsReview.Category.OTHER)")
+            .imports(JavaTemplates.NEEDS_REVIEW_FQN)
+            .dependsOn(JavaTemplates.NEEDS_REVIEW_STUB)
+            .build();
+
+        assertThat(second).isSameAs(first);
+        assertThat(JavaTemplates.statistics()).contains("reuse saved");
+    }
+
+    @Test
+    void keysTemplatesByEverySetting() {
+        JavaTemplate plain = JavaTemplates.builder("@Lazy").build();
+
+        assertThat(JavaTemplates.builder("@Lazy").imports("org.springframework.context.annotation.Lazy").build())
+            .isNotSameAs(plain);
+        assertThat(JavaTemplates.builder("@Lazy").imports("com.example.Lazy").build())
+            .isNotSameAs(JavaTemplates.builder("@Lazy").imports("org.springframework.context.annotation.Lazy").build());
+        assertThat(JavaTemplates.builder("@Lazy").classpath("spring-context").build()).isNotSameAs(plain);
+        assertThat(JavaTemplates.builder("@Lazy").dependsOn("package com.example; public @interface Lazy {}").build())
+            .isNotSameAs(plain);
+        assertThat(JavaTemplates.builder("@Lazy").contextSensitive().build()).isNotSameAs(plain);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedTemplateBeyondBound() {
+        JavaTemplate eldest = JavaTemplates.builder("int eldest = 0;").build();
+        JavaTemplate recent = JavaTemplates.builder("int recent = 0;").build();
+        for (int i = 0; i < JavaTemplates.MAX_TEMPLATES - 1; i++) {
+            JavaTemplates.builder("int filler" + i + " = 0;").build();
+            // Keeps the recent template the most recently used one
+            JavaTemplates.builder("int recent = 0;").build();
+        }
+
+        assertThat(JavaTemplates.builder("int recent = 0;").build()).isSameAs(recent);
+        assertThat(JavaTemplates.builder("int eldest = 0;").build()).isNotSameAs(eldest);
+    }
+
+    @Test
+    void doesNotShareTemplatesBetweenThreads() {
+        JavaTemplate here = JavaTemplates.builder("@Deprecated").build();
+        JavaTemplate there = CompletableFuture.supplyAsync(() -> JavaTemplates.builder("@Deprecated").build()).join();
+
+        assertThat(there).isNotSameAs(here);
+    }
+}
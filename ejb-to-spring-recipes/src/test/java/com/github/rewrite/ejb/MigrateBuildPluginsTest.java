@@ -1,10 +1,18 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.config.ProjectConfiguration;
+import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openrewrite.DocumentExample;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.java.Assertions.java;
 import static org.openrewrite.maven.Assertions.pomXml;
 
@@ -17,10 +25,23 @@
  *   <li>spring-boot-maven-plugin is added</li>
  *   <li>Idempotency when spring-boot-maven-plugin already exists</li>
  *   <li>Only modules with EJB features are affected</li>
+ *   <li>aspectj-maven-plugin is added for interceptors.weaving: ajc-compile</li>
  * </ul>
  */
 class MigrateBuildPluginsTest implements RewriteTest {
 
+    @BeforeEach
+    void setUp() {
+        ProjectConfigurationLoader.clearCache();
+        ProjectConfigurationLoader.clearTestInjections();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ProjectConfigurationLoader.clearTestInjections();
+        ProjectConfigurationLoader.clearCache();
+    }
+
     @Override
     public void defaults(RecipeSpec spec) {
         spec.recipe(new MigrateBuildPlugins(null));
@@ -260,4 +281,107 @@ public class MySingleton {
             )
         );
     }
+
+    @Test
+    void addsAspectJPluginForCompileTimeWeaving() {
+        Path moduleRoot = Paths.get(System.getProperty("user.dir")).toAbsolutePath().normalize();
+        ProjectConfiguration config = new ProjectConfiguration(
+            null, null, null, null, // source roots (use defaults)
+            null, null,             // timer strategy, cluster mode
+            null, null, null, null, // jaxrs client settings
+            null,                   // jms provider
+            null, null, null,       // remote, inject, jsf strategies
+            false, false,           // keepWildFlyPlugins, bootPluginInProfiles
+            null,                   // allowedEjbTypes
+            null, null,             // jaxws provider, basePath
+            null, null,             // jaxrs server settings
+            null,                   // security strategy
+            0, 0, null,             // jaxws executor threads, queue size, features
+            ProjectConfiguration.InterceptorWeaving.AJC_COMPILE
+        );
+        ProjectConfigurationLoader.injectForTest(moduleRoot, config);
+
+        rewriteRun(
+            java(
+                """
+                package com.example;
+
+                import jakarta.interceptor.AroundInvoke;
+                import jakarta.interceptor.InvocationContext;
+
+                public class AuditInterceptor {
+                    @AroundInvoke
+                    public Object audit(InvocationContext ctx) throws Exception {
+                        return ctx.proceed();
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/AuditInterceptor.java")
+            ),
+            pomXml(
+                """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <project xmlns="http://maven.apache.org/POM/4.0.0"
+                         xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
+                         xsi:schemaLocation="http://maven.apache.org/POM/4.0.0 http://maven.apache.org/xsd/maven-4.0.0.xsd">
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>com.example</groupId>
+                    <artifactId>my-ejb</artifactId>
+                    <version>1.0.0</version>
+                    <packaging>jar</packaging>
+                </project>
+                """,
+                spec -> spec.after(actual -> {
+                    assertThat(actual).contains("<artifactId>aspectj-maven-plugin</artifactId>");
+                    assertThat(actual).contains("<weaveDirectory>${project.build.outputDirectory}</weaveDirectory>");
+                    assertThat(actual).contains("<phase>process-classes</phase>");
+                    assertThat(actual).contains("<artifactId>aspectjtools</artifactId>");
+                    assertThat(actual).contains("<artifactId>aspectjrt</artifactId>");
+                    assertThat(actual).contains("<artifactId>spring-boot-maven-plugin</artifactId>");
+                    return actual;
+                })
+            )
+        );
+    }
+
+    @Test
+    void noAspectJPluginForProxyWeaving() {
+        rewriteRun(
+            java(
+                """
+                package com.example;
+
+                import jakarta.interceptor.AroundInvoke;
+                import jakarta.interceptor.InvocationContext;
+
+                public class AuditInterceptor {
+                    @AroundInvoke
+                    public Object audit(InvocationContext ctx) throws Exception {
+                        return ctx.proceed();
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/AuditInterceptor.java")
+            ),
+            pomXml(
+                """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <project xmlns="http://maven.apache.org/POM/4.0.0"
+                         xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
+                         xsi:schemaLocation="http://maven.apache.org/POM/4.0.0 http://maven.apache.org/xsd/maven-4.0.0.xsd">
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>com.example</groupId>
+                    <artifactId>my-ejb</artifactId>
+                    <version>1.0.0</version>
+                    <packaging>jar</packaging>
+                </project>
+                """,
+                spec -> spec.after(actual -> {
+                    assertThat(actual).contains("<artifactId>spring-boot-maven-plugin</artifactId>");
+                    assertThat(actual).doesNotContain("aspectj");
+                    return actual;
+                })
+            )
+        );
+    }
 }
@@ -0,0 +1,318 @@
+package com.github.rewrite.ejb;
+
+import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.TypeValidation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class MigrateCdiEventsToSpringTest implements RewriteTest {
+
+    private static final String ORDER_PLACED = """
+        package com.example.orders;
+
+        public class OrderPlaced {
+        }
+        """;
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new MigrateCdiEventsToSpring())
+            .parser(JavaParser.fromJavaVersion().classpath("jakarta.jakartaee-api"))
+            .typeValidationOptions(TypeValidation.none());
+    }
+
+    @BeforeEach
+    void setUp() {
+        ProjectConfigurationLoader.clearCache();
+        ProjectConfigurationLoader.clearTestInjections();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ProjectConfigurationLoader.clearCache();
+        ProjectConfigurationLoader.clearTestInjections();
+    }
+
+    @DocumentExample
+    @Test
+    void mapsTransactionPhasesAndPriority() {
+        rewriteRun(
+            java(ORDER_PLACED, spec -> spec.path("src/main/java/com/example/orders/OrderPlaced.java")),
+            java(
+                """
+                package com.example.orders;
+
+                import jakarta.annotation.Priority;
+                import jakarta.enterprise.event.Observes;
+                import jakarta.enterprise.event.TransactionPhase;
+
+                public class OrderObservers {
+
+                    public void audit(@Observes @Priority(10) OrderPlaced event) {
+                    }
+
+                    public void index(@Observes(during = TransactionPhase.AFTER_SUCCESS) OrderPlaced event) {
+                    }
+
+                    public void compensate(@Observes(during = TransactionPhase.AFTER_FAILURE) OrderPlaced event) {
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/orders/OrderObservers.java")
+                    .after(actual -> {
+                        assertThat(actual).contains("""
+                                @EventListener
+                                @Order(10)
+                                public void audit(OrderPlaced event) {
+                            """);
+                        assertThat(actual).contains("""
+                                @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+                                public void index(OrderPlaced event) {
+                            """);
+                        assertThat(actual).contains("""
+                                @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK, fallbackExecution = true)
+                                public void compensate(OrderPlaced event) {
+                            """);
+                        assertThat(actual).contains("import org.springframework.transaction.event.TransactionPhase;");
+                        assertThat(actual).contains("import org.springframework.core.annotation.Order;");
+                        assertThat(actual).doesNotContain("jakarta.enterprise.event");
+                        assertThat(actual).doesNotContain("jakarta.annotation.Priority");
+                        return actual;
+                    })
+            )
+        );
+    }
+
+    @Test
+    void asyncObserversRunOnDedicatedExecutor() {
+        rewriteRun(
+            java(ORDER_PLACED, spec -> spec.path("src/main/java/com/example/orders/OrderPlaced.java")),
+            java(
+                """
+                package com.example.orders;
+
+                import jakarta.enterprise.event.Event;
+                import jakarta.inject.Inject;
+
+                public class OrderService {
+                    @Inject
+                    private Event<OrderPlaced> events;
+
+                    public void place() {
+                        events.fireAsync(new OrderPlaced());
+                    }
+
+                    public void replay() {
+                        events.fire(new OrderPlaced());
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/orders/OrderService.java")
+                    .after(actual -> {
+                        assertThat(actual).contains("private ApplicationEventPublisher events;");
+                        assertThat(actual).contains("events.publishEvent(new CdiEventAsyncConfiguration.AsyncEvent<>(new OrderPlaced()));");
+                        assertThat(actual).contains("events.publishEvent(new OrderPlaced());");
+                        return actual;
+                    })
+            ),
+            java(
+                """
+                package com.example.orders.audit;
+
+                import com.example.orders.OrderPlaced;
+                import jakarta.enterprise.event.Observes;
+
+                public class AuditObserver {
+
+                    public void audit(@Observes OrderPlaced event) {
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/orders/audit/AuditObserver.java")
+                    .after(actual -> {
+                        assertThat(actual).contains("""
+                                @EventListener(condition = "!(#root.event.getClass().getName().endsWith('CdiEventAsyncConfiguration$AsyncEvent'))")
+                                public void audit(OrderPlaced event) {
+                            """);
+                        return actual;
+                    })
+            ),
+            java(
+                """
+                package com.example.orders.mail;
+
+                import com.example.orders.OrderPlaced;
+                import jakarta.enterprise.event.ObservesAsync;
+
+                public class MailObserver {
+
+                    public void send(@ObservesAsync OrderPlaced event) {
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/orders/mail/MailObserver.java")
+                    .after(actual -> {
+                        assertThat(actual).contains("""
+                                @Async("cdiEventExecutor")
+                                @EventListener(condition = "#root.event.getClass().getName().endsWith('CdiEventAsyncConfiguration$AsyncEvent')")
+                                public void send(OrderPlaced event) {
+                            """);
+                        assertThat(actual).doesNotContain("ObservesAsync");
+                        return actual;
+                    })
+            ),
+            java(
+                null,
+                spec -> spec.path("src/main/java/com/example/orders/CdiEventAsyncConfiguration.java")
+                    .after(actual -> {
+                        assertThat(actual).contains("@EnableAsync");
+                        assertThat(actual).contains("@Bean(name = EXECUTOR_NAME)");
+                        assertThat(actual).contains("executor.setQueueCapacity(1000);");
+                        assertThat(actual).contains("new ThreadPoolExecutor.CallerRunsPolicy()");
+                        assertThat(actual).contains("public static class AsyncEvent<T> extends PayloadApplicationEvent<T> {");
+                        return actual;
+                    })
+            ),
+            java(
+                null,
+                spec -> spec.path("src/test/java/com/example/orders/CdiEventAsyncConfigurationTest.java")
+                    .after(actual -> {
+                        assertThat(actual).contains("assertThat(publishMillis).isLessThan(OBSERVER_MILLIS);");
+                        assertThat(actual).contains("@Async(CdiEventAsyncConfiguration.EXECUTOR_NAME)");
+                        assertThat(actual).contains("publisher.publishEvent(new CdiEventAsyncConfiguration.AsyncEvent<>(new SampleEvent()));");
+                        return actual;
+                    })
+            )
+        );
+    }
+
+    @Test
+    void syncObserversInOtherModulesExcludeAsyncEventsOfTheirType() {
+        rewriteRun(
+            java(ORDER_PLACED, spec -> spec.path("orders/src/main/java/com/example/orders/OrderPlaced.java")),
+            java(
+                """
+                package com.example.orders;
+
+                public class OrderCancelled {
+                }
+                """,
+                spec -> spec.path("orders/src/main/java/com/example/orders/OrderCancelled.java")
+            ),
+            java(
+                """
+                package com.example.orders;
+
+                import jakarta.enterprise.event.Event;
+                import jakarta.inject.Inject;
+
+                public class OrderService {
+                    @Inject
+                    private Event<OrderPlaced> events;
+
+                    public void place() {
+                        events.fireAsync(new OrderPlaced());
+                    }
+                }
+                """,
+                spec -> spec.path("orders/src/main/java/com/example/orders/OrderService.java")
+                    .after(actual -> actual)
+            ),
+            java(
+                """
+                package com.example.audit;
+
+                import com.example.orders.OrderCancelled;
+                import com.example.orders.OrderPlaced;
+                import jakarta.enterprise.event.Observes;
+
+                public class AuditObserver {
+
+                    public void placed(@Observes OrderPlaced event) {
+                    }
+
+                    public void any(@Observes Object event) {
+                    }
+
+                    public void cancelled(@Observes OrderCancelled event) {
+                    }
+                }
+                """,
+                spec -> spec.path("audit/src/main/java/com/example/audit/AuditObserver.java")
+                    .after(actual -> {
+                        assertThat(actual).contains("""
+                                @EventListener(condition = "!(#root.event.getClass().getName().endsWith('CdiEventAsyncConfiguration$AsyncEvent'))")
+                                public void placed(OrderPlaced event) {
+                            """);
+                        assertThat(actual).contains("""
+                                @EventListener(condition = "!(#root.event.getClass().getName().endsWith('CdiEventAsyncConfiguration$AsyncEvent'))")
+                                public void any(Object event) {
+                            """);
+                        assertThat(actual).contains("""
+                                @EventListener
+                                public void cancelled(OrderCancelled event) {
+                            """);
+                        return actual;
+                    })
+            ),
+            java(
+                null,
+                spec -> spec.path("orders/src/main/java/com/example/orders/CdiEventAsyncConfiguration.java")
+                    .after(actual -> actual)
+            ),
+            java(
+                null,
+                spec -> spec.path("orders/src/test/java/com/example/orders/CdiEventAsyncConfigurationTest.java")
+                    .after(actual -> actual)
+            )
+        );
+    }
+
+    @Test
+    void fireAsyncWithUsedCompletionStageIsLeftForManualMigration() {
+        rewriteRun(
+            java(ORDER_PLACED, spec -> spec.path("src/main/java/com/example/orders/OrderPlaced.java")),
+            java(
+                """
+                package com.example.orders;
+
+                import jakarta.enterprise.event.Event;
+                import jakarta.inject.Inject;
+                import java.util.concurrent.CompletionStage;
+
+                public class OrderService {
+                    @Inject
+                    private Event<OrderPlaced> events;
+
+                    public CompletionStage<OrderPlaced> place() {
+                        return events.fireAsync(new OrderPlaced());
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/orders/OrderService.java")
+                    .after(actual -> {
+                        assertThat(actual).contains("return events.fireAsync(new OrderPlaced());");
+                        return actual;
+                    })
+            ),
+            java(
+                null,
+                spec -> spec.path("src/main/java/com/example/orders/CdiEventAsyncConfiguration.java")
+                    .after(actual -> actual)
+            ),
+            java(
+                null,
+                spec -> spec.path("src/test/java/com/example/orders/CdiEventAsyncConfigurationTest.java")
+                    .after(actual -> actual)
+            )
+        );
+    }
+}
@@ -1,11 +1,18 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.config.ProjectConfiguration;
+import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openrewrite.DocumentExample;
 import org.openrewrite.java.JavaParser;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 import static org.openrewrite.java.Assertions.java;
 
 /**
@@ -13,6 +20,18 @@
  */
 class MigrateEjbInterceptorsToAopTest implements RewriteTest {
 
+    @BeforeEach
+    void setUp() {
+        ProjectConfigurationLoader.clearCache();
+        ProjectConfigurationLoader.clearTestInjections();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ProjectConfigurationLoader.clearTestInjections();
+        ProjectConfigurationLoader.clearCache();
+    }
+
     @Override
     public void defaults(RecipeSpec spec) {
         spec.recipe(new MigrateEjbInterceptorsToAop())
@@ -505,4 +524,69 @@ public Object intercept(ProceedingJoinPoint ctx) throws Throwable {
         );
     }
 
+    @Test
+    void leavesWovenAspectToAspectJ() {
+        Path moduleRoot = Paths.get(System.getProperty("user.dir")).toAbsolutePath().normalize();
+        ProjectConfiguration config = new ProjectConfiguration(
+            null, null, null, null, // source roots (use defaults)
+            null, null,             // timer strategy, cluster mode
+            null, null, null, null, // jaxrs client settings
+            null,                   // jms provider
+            null, null, null,       // remote, inject, jsf strategies
+            false, false,           // keepWildFlyPlugins, bootPluginInProfiles
+            null,                   // allowedEjbTypes
+            null, null,             // jaxws provider, basePath
+            null, null,             // jaxrs server settings
+            null,                   // security strategy
+            0, 0, null,             // jaxws executor threads, queue size, features
+            ProjectConfiguration.InterceptorWeaving.AJC_COMPILE
+        );
+        ProjectConfigurationLoader.injectForTest(moduleRoot, config);
+
+        rewriteRun(
+            java(
+                """
+                package com.example;
+
+                import jakarta.interceptor.AroundInvoke;
+                import jakarta.interceptor.InvocationContext;
+                import jakarta.interceptor.Interceptor;
+
+                @Interceptor
+                public class AuditInterceptor {
+
+                    @AroundInvoke
+                    public Object audit(InvocationContext ctx) throws Exception {
+                        return ctx.proceed();
+                    }
+                }
+                """,
+                """
+                package com.example;
+
+                import com.github.rewrite.ejb.annotations.NeedsReview;
+                import org.aspectj.lang.ProceedingJoinPoint;
+                import org.aspectj.lang.annotation.Aspect;
+
+
+
+
+                @Aspect
+                @NeedsReview(reason ="AOP pointcut requires manual refinement",
+                        category =NeedsReview.Category.MANUAL_MIGRATION,
+                        originalCode ="Original EJB @Interceptors binding",
+                        suggestedAction ="Add @Around with target pointcut")
+                public class AuditInterceptor {
+
+                   \s
+                    public Object audit(ProceedingJoinPoint ctx) throws Throwable {
+                        return ctx.proceed();
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/AuditInterceptor.java")
+            )
+        );
+    }
+
 }
@@ -1,5 +1,9 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.config.ProjectConfiguration;
+import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openrewrite.DocumentExample;
 import org.openrewrite.java.JavaParser;
@@ -7,7 +11,12 @@
 import org.openrewrite.test.RewriteTest;
 import org.openrewrite.test.TypeValidation;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.test.SourceSpecs.text;
 import static org.openrewrite.xml.Assertions.xml;
 
 /**
@@ -15,6 +24,18 @@
  */
 class MigrateEjbJarInterceptorsToAopTest implements RewriteTest {
 
+    @BeforeEach
+    void setUp() {
+        ProjectConfigurationLoader.clearCache();
+        ProjectConfigurationLoader.clearTestInjections();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ProjectConfigurationLoader.clearTestInjections();
+        ProjectConfigurationLoader.clearCache();
+    }
+
     @Override
     public void defaults(RecipeSpec spec) {
         spec.recipe(new MigrateEjbJarInterceptorsToAop())
@@ -517,6 +538,745 @@ public Object applyGlobalInterceptor(ProceedingJoinPoint pjp) throws Throwable {
         );
     }
 
+    @Test
+    void generatesExactPointcutAndDelegationForResolvedBean() {
+        rewriteRun(
+            java(
+                """
+                package com.example.service;
+
+                import org.springframework.stereotype.Service;
+
+                @Service
+                public class OrderService {
+                    public void placeOrder(String id) {}
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/service/OrderService.java")
+            ),
+            // Interceptor without @AroundInvoke, which MigrateEjbInterceptorsToAop leaves alone: the
+            // package-private method is widened and the class becomes a bean the aspect is wired with
+            java(
+                """
+                package com.example.interceptor;
+
+                import org.aspectj.lang.ProceedingJoinPoint;
+
+                public class AuditInterceptor {
+                    Object audit(ProceedingJoinPoint pjp) throws Throwable {
+                        return pjp.proceed();
+                    }
+                }
+                """,
+                """
+                package com.example.interceptor;
+
+                import org.aspectj.lang.ProceedingJoinPoint;
+                import org.springframework.stereotype.Component;
+
+                @Component
+                public class AuditInterceptor {
+                    public Object audit(ProceedingJoinPoint pjp) throws Throwable {
+                        return pjp.proceed();
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/interceptor/AuditInterceptor.java")
+            ),
+            xml(
+                """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <ejb-jar xmlns="https://jakarta.ee/xml/ns/jakartaee" version="4.0">
+                    <assembly-descriptor>
+                        <interceptor-binding>
+                            <ejb-name>OrderService</ejb-name>
+                            <interceptor-class>com.example.interceptor.AuditInterceptor</interceptor-class>
+                        </interceptor-binding>
+                    </assembly-descriptor>
+                </ejb-jar>
+                """,
+                spec -> spec.path("src/main/resources/META-INF/ejb-jar.xml")
+            ),
+            java(
+                null,
+                """
+                package com.example.config;
+
+                import com.example.interceptor.AuditInterceptor;
+                import org.aspectj.lang.ProceedingJoinPoint;
+                import org.aspectj.lang.annotation.Around;
+                import org.aspectj.lang.annotation.Aspect;
+                import org.aspectj.lang.annotation.Pointcut;
+                import org.springframework.stereotype.Component;
+
+                @Aspect
+                @Component
+                public class EjbJarAopConfig {
+
+                    private final AuditInterceptor auditInterceptor;
+
+                    public EjbJarAopConfig(AuditInterceptor auditInterceptor) {
+                        this.auditInterceptor = auditInterceptor;
+                    }
+
+                    // Source: src/main/resources/META-INF/ejb-jar.xml
+                    // ejb-name: OrderService -> com.example.service.OrderService
+                    // interceptor-class: com.example.interceptor.AuditInterceptor
+                    @Pointcut("within(com.example.service.OrderService)")
+                    public void ejbInterceptorPointcut1() {}
+
+                    @Around("ejbInterceptorPointcut1()")
+                    public Object applyEjbInterceptor1(ProceedingJoinPoint pjp) throws Throwable {
+                        return auditInterceptor.audit(pjp);
+                    }
+
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/config/EjbJarAopConfig.java")
+            )
+        );
+    }
+
+    @Test
+    void registersInterceptorWhoseAroundInvokeIsDeclaredInEjbJarXml() {
+        rewriteRun(
+            java(
+                """
+                package com.example.service;
+
+                import org.springframework.stereotype.Service;
+
+                @Service
+                public class OrderService {
+                    public void placeOrder(String id) {}
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/service/OrderService.java")
+            ),
+            java(
+                """
+                package com.example.interceptor;
+
+                import org.aspectj.lang.ProceedingJoinPoint;
+
+                public class AuditInterceptor {
+                    public Object audit(ProceedingJoinPoint pjp) throws Throwable {
+                        return pjp.proceed();
+                    }
+
+                    public Object trace(ProceedingJoinPoint pjp) throws Throwable {
+                        return pjp.proceed();
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/interceptor/AuditInterceptor.java")
+                    .after(actual -> {
+                        assertThat(actual).contains("import org.springframework.stereotype.Component;");
+                        assertThat(actual).contains("@Component\npublic class AuditInterceptor");
+                        return actual;
+                    })
+            ),
+            xml(
+                """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <ejb-jar xmlns="https://jakarta.ee/xml/ns/jakartaee" version="4.0">
+                    <interceptors>
+                        <interceptor>
+                            <interceptor-class>com.example.interceptor.AuditInterceptor</interceptor-class>
+                            <around-invoke>
+                                <method-name>trace</method-name>
+                            </around-invoke>
+                        </interceptor>
+                    </interceptors>
+                    <assembly-descriptor>
+                        <interceptor-binding>
+                            <ejb-name>OrderService</ejb-name>
+                            <interceptor-class>com.example.interceptor.AuditInterceptor</interceptor-class>
+                        </interceptor-binding>
+                    </assembly-descriptor>
+                </ejb-jar>
+                """,
+                spec -> spec.path("src/main/resources/META-INF/ejb-jar.xml")
+            ),
+            java(
+                null,
+                spec -> spec.path("src/main/java/com/example/config/EjbJarAopConfig.java")
+                    .after(actual -> {
+                        assertThat(actual).contains("public EjbJarAopConfig(AuditInterceptor auditInterceptor)");
+                        assertThat(actual).contains("return auditInterceptor.trace(pjp);");
+                        return actual;
+                    })
+            )
+        );
+    }
+
+    @Test
+    void delegatesToInterceptorConvertedInSamePhase() {
+        rewriteRun(
+            spec -> spec.recipeFromYaml(
+                    """
+                    type: specs.openrewrite.org/v1beta/recipe
+                    name: com.example.InterceptorPhase
+                    displayName: Interceptors in one phase
+                    description: Same order as MigrateEjbToSpringTransformPhase.
+                    recipeList:
+                      - com.github.rewrite.ejb.MigrateEjbInterceptorsToAop
+                      - com.github.rewrite.ejb.MigrateEjbJarInterceptorsToAop
+                    """,
+                    "com.example.InterceptorPhase")
+                .parser(JavaParser.fromJavaVersion()
+                    .classpath("jakarta.jakartaee-api", "spring-context", "aspectjrt", "migration-annotations")),
+            java(
+                """
+                package com.example.service;
+
+                public class OrderService {
+                    public void placeOrder(String id) {}
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/service/OrderService.java")
+            ),
+            // Unconverted EJB interceptor: the scan sees InvocationContext, the rewrite leaves ProceedingJoinPoint
+            java(
+                """
+                package com.example.interceptor;
+
+                import jakarta.interceptor.AroundInvoke;
+                import jakarta.interceptor.InvocationContext;
+
+                public class AuditInterceptor {
+                    @AroundInvoke
+                    Object audit(InvocationContext ctx) throws Exception {
+                        return ctx.proceed();
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/interceptor/AuditInterceptor.java")
+                    .after(actual -> {
+                        assertThat(actual).contains("public Object audit(ProceedingJoinPoint ctx) throws Throwable");
+                        assertThat(actual).doesNotContain("InvocationContext");
+                        return actual;
+                    })
+            ),
+            xml(
+                """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <ejb-jar xmlns="https://jakarta.ee/xml/ns/jakartaee" version="4.0">
+                    <enterprise-beans>
+                        <session>
+                            <ejb-name>Orders</ejb-name>
+                            <ejb-class>com.example.service.OrderService</ejb-class>
+                        </session>
+                    </enterprise-beans>
+                    <assembly-descriptor>
+                        <interceptor-binding>
+                            <ejb-name>Orders</ejb-name>
+                            <interceptor-class>com.example.interceptor.AuditInterceptor</interceptor-class>
+                        </interceptor-binding>
+                    </assembly-descriptor>
+                </ejb-jar>
+                """,
+                spec -> spec.path("src/main/resources/META-INF/ejb-jar.xml")
+            ),
+            java(
+                null,
+                spec -> spec.path("src/main/java/com/example/config/EjbJarAopConfig.java")
+                    .after(actual -> {
+                        assertThat(actual).contains("@Pointcut(\"within(com.example.service.OrderService)\")");
+                        assertThat(actual).contains("return auditInterceptor.audit(pjp);");
+                        assertThat(actual).doesNotContain("NOT WIRED");
+                        return actual;
+                    })
+            )
+        );
+    }
+
+    @Test
+    void generatesWovenAspectAndAopXmlForLoadTimeWeaving() {
+        Path moduleRoot = Paths.get(System.getProperty("user.dir")).toAbsolutePath().normalize();
+        ProjectConfiguration config = new ProjectConfiguration(
+            null, null, null, null, // source roots (use defaults)
+            null, null,             // timer strategy, cluster mode
+            null, null, null, null, // jaxrs client settings
+            null,                   // jms provider
+            null, null, null,       // remote, inject, jsf strategies
+            false, false,           // keepWildFlyPlugins, bootPluginInProfiles
+            null,                   // allowedEjbTypes
+            null, null,             // jaxws provider, basePath
+            null, null,             // jaxrs server settings
+            null,                   // security strategy
+            0, 0, null,             // jaxws executor threads, queue size, features
+            ProjectConfiguration.InterceptorWeaving.LTW
+        );
+        ProjectConfigurationLoader.injectForTest(moduleRoot, config);
+
+        rewriteRun(
+            java(
+                """
+                package com.example.service;
+
+                import org.springframework.stereotype.Service;
+
+                @Service
+                public class OrderService {
+                    public void placeOrder(String id) {}
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/service/OrderService.java")
+            ),
+            java(
+                """
+                package com.example.interceptor;
+
+                import org.aspectj.lang.ProceedingJoinPoint;
+
+                public class AuditInterceptor {
+                    public Object audit(ProceedingJoinPoint pjp) throws Throwable {
+                        return pjp.proceed();
+                    }
+                }
+                """,
+                """
+                package com.example.interceptor;
+
+                import org.aspectj.lang.ProceedingJoinPoint;
+                import org.springframework.stereotype.Component;
+
+                @Component
+                public class AuditInterceptor {
+                    public Object audit(ProceedingJoinPoint pjp) throws Throwable {
+                        return pjp.proceed();
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/interceptor/AuditInterceptor.java")
+            ),
+            xml(
+                """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <ejb-jar xmlns="https://jakarta.ee/xml/ns/jakartaee" version="4.0">
+                    <assembly-descriptor>
+                        <interceptor-binding>
+                            <ejb-name>OrderService</ejb-name>
+                            <interceptor-class>com.example.interceptor.AuditInterceptor</interceptor-class>
+                        </interceptor-binding>
+                    </assembly-descriptor>
+                </ejb-jar>
+                """,
+                spec -> spec.path("src/main/resources/META-INF/ejb-jar.xml")
+            ),
+            java(
+                null,
+                """
+                package com.example.config;
+
+                import com.example.interceptor.AuditInterceptor;
+                import org.aspectj.lang.ProceedingJoinPoint;
+                import org.aspectj.lang.annotation.Around;
+                import org.aspectj.lang.annotation.Aspect;
+                import org.aspectj.lang.annotation.Pointcut;
+                import org.springframework.beans.factory.annotation.Autowired;
+
+                @Aspect
+                public class EjbJarAopConfig {
+
+                    private AuditInterceptor auditInterceptor;
+
+                    @Autowired
+                    public void wireInterceptors(AuditInterceptor auditInterceptor) {
+                        this.auditInterceptor = auditInterceptor;
+                    }
+
+                    // Source: src/main/resources/META-INF/ejb-jar.xml
+                    // ejb-name: OrderService -> com.example.service.OrderService
+                    // interceptor-class: com.example.interceptor.AuditInterceptor
+                    @Pointcut("within(com.example.service.OrderService)")
+                    public void ejbInterceptorPointcut1() {}
+
+                    @Around("ejbInterceptorPointcut1()")
+                    public Object applyEjbInterceptor1(ProceedingJoinPoint pjp) throws Throwable {
+                        return auditInterceptor.audit(pjp);
+                    }
+
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/config/EjbJarAopConfig.java")
+            ),
+            java(
+                null,
+                """
+                package com.example.config;
+
+                import org.aspectj.lang.Aspects;
+                import org.springframework.context.annotation.Bean;
+                import org.springframework.context.annotation.Configuration;
+                import org.springframework.context.annotation.EnableLoadTimeWeaving;
+
+                /**
+                 * Load-time weaving of {@link EjbJarAopConfig} (see META-INF/aop.xml).
+                 * Start the JVM with {@code -javaagent:spring-instrument.jar} and set {@code spring.aop.auto=false}
+                 * so the aspect is not additionally applied through Spring AOP proxies.
+                 */
+                @Configuration(proxyBeanMethods = false)
+                @EnableLoadTimeWeaving(aspectjWeaving = EnableLoadTimeWeaving.AspectJWeaving.ENABLED)
+                public class EjbJarAopWeavingConfig {
+
+                    @Bean
+                    public EjbJarAopConfig ejbJarAopConfig() {
+                        return Aspects.aspectOf(EjbJarAopConfig.class);
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/config/EjbJarAopWeavingConfig.java")
+            ),
+            text(
+                null,
+                """
+                <!DOCTYPE aspectj PUBLIC "-//AspectJ//DTD//EN" "https://www.eclipse.org/aspectj/dtd/aspectj.dtd">
+                <aspectj>
+                    <weaver>
+                        <include within="com.example..*"/>
+                    </weaver>
+                    <aspects>
+                        <aspect name="com.example.config.EjbJarAopConfig"/>
+                    </aspects>
+                </aspectj>
+                """,
+                spec -> spec.path("src/main/resources/META-INF/aop.xml")
+            )
+        );
+    }
+
+    @Test
+    void exposesWovenInterceptorAspectsWithoutEjbJarXmlBindings() {
+        Path moduleRoot = Paths.get(System.getProperty("user.dir")).toAbsolutePath().normalize();
+        ProjectConfiguration config = new ProjectConfiguration(
+            null, null, null, null, // source roots (use defaults)
+            null, null,             // timer strategy, cluster mode
+            null, null, null, null, // jaxrs client settings
+            null,                   // jms provider
+            null, null, null,       // remote, inject, jsf strategies
+            false, false,           // keepWildFlyPlugins, bootPluginInProfiles
+            null,                   // allowedEjbTypes
+            null, null,             // jaxws provider, basePath
+            null, null,             // jaxrs server settings
+            null,                   // security strategy
+            0, 0, null,             // jaxws executor threads, queue size, features
+            ProjectConfiguration.InterceptorWeaving.LTW
+        );
+        ProjectConfigurationLoader.injectForTest(moduleRoot, config);
+
+        rewriteRun(
+            java(
+                """
+                package com.example.service;
+
+                public class OrderService {
+                    public void placeOrder(String id) {}
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/service/OrderService.java")
+            ),
+            java(
+                """
+                package com.example.interceptor;
+
+                import jakarta.interceptor.AroundInvoke;
+                import jakarta.interceptor.InvocationContext;
+
+                public class TracingInterceptor {
+                    @AroundInvoke
+                    public Object trace(InvocationContext ctx) throws Exception {
+                        return ctx.proceed();
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/interceptor/TracingInterceptor.java")
+            ),
+            java(
+                null,
+                """
+                package com.example.config;
+
+                import com.example.interceptor.TracingInterceptor;
+                import org.aspectj.lang.Aspects;
+                import org.springframework.context.annotation.Bean;
+                import org.springframework.context.annotation.Configuration;
+                import org.springframework.context.annotation.EnableLoadTimeWeaving;
+
+                /**
+                 * Load-time weaving of {@link TracingInterceptor} (see META-INF/aop.xml).
+                 * Start the JVM with {@code -javaagent:spring-instrument.jar} and set {@code spring.aop.auto=false}
+                 * so the aspect is not additionally applied through Spring AOP proxies.
+                 */
+                @Configuration(proxyBeanMethods = false)
+                @EnableLoadTimeWeaving(aspectjWeaving = EnableLoadTimeWeaving.AspectJWeaving.ENABLED)
+                public class EjbJarAopWeavingConfig {
+
+                    @Bean
+                    public TracingInterceptor tracingInterceptor() {
+                        return Aspects.aspectOf(TracingInterceptor.class);
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/config/EjbJarAopWeavingConfig.java")
+            ),
+            text(
+                null,
+                """
+                <!DOCTYPE aspectj PUBLIC "-//AspectJ//DTD//EN" "https://www.eclipse.org/aspectj/dtd/aspectj.dtd">
+                <aspectj>
+                    <weaver>
+                        <include within="com.example..*"/>
+                    </weaver>
+                    <aspects>
+                        <aspect name="com.example.interceptor.TracingInterceptor"/>
+                    </aspects>
+                </aspectj>
+                """,
+                spec -> spec.path("src/main/resources/META-INF/aop.xml")
+            )
+        );
+    }
+
+    @Test
+    void exposesGeneratedAndInterceptorAspectsForCompileTimeWeaving() {
+        Path moduleRoot = Paths.get(System.getProperty("user.dir")).toAbsolutePath().normalize();
+        ProjectConfiguration config = new ProjectConfiguration(
+            null, null, null, null, // source roots (use defaults)
+            null, null,             // timer strategy, cluster mode
+            null, null, null, null, // jaxrs client settings
+            null,                   // jms provider
+            null, null, null,       // remote, inject, jsf strategies
+            false, false,           // keepWildFlyPlugins, bootPluginInProfiles
+            null,                   // allowedEjbTypes
+            null, null,             // jaxws provider, basePath
+            null, null,             // jaxrs server settings
+            null,                   // security strategy
+            0, 0, null,             // jaxws executor threads, queue size, features
+            ProjectConfiguration.InterceptorWeaving.AJC_COMPILE
+        );
+        ProjectConfigurationLoader.injectForTest(moduleRoot, config);
+
+        rewriteRun(
+            java(
+                """
+                package com.example.service;
+
+                import org.springframework.stereotype.Service;
+
+                @Service
+                public class OrderService {
+                    public void placeOrder(String id) {}
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/service/OrderService.java")
+            ),
+            java(
+                """
+                package com.example.interceptor;
+
+                import org.aspectj.lang.ProceedingJoinPoint;
+                import org.aspectj.lang.annotation.Aspect;
+
+                @Aspect
+                public class AuditInterceptor {
+                    @AroundInvoke
+                    public Object audit(ProceedingJoinPoint pjp) throws Throwable {
+                        return pjp.proceed();
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/interceptor/AuditInterceptor.java")
+            ),
+            xml(
+                """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <ejb-jar xmlns="https://jakarta.ee/xml/ns/jakartaee" version="4.0">
+                    <assembly-descriptor>
+                        <interceptor-binding>
+                            <ejb-name>OrderService</ejb-name>
+                            <interceptor-class>com.example.interceptor.AuditInterceptor</interceptor-class>
+                        </interceptor-binding>
+                    </assembly-descriptor>
+                </ejb-jar>
+                """,
+                spec -> spec.path("src/main/resources/META-INF/ejb-jar.xml")
+            ),
+            java(
+                null,
+                """
+                package com.example.config;
+
+                import com.example.interceptor.AuditInterceptor;
+                import org.aspectj.lang.ProceedingJoinPoint;
+                import org.aspectj.lang.annotation.Around;
+                import org.aspectj.lang.annotation.Aspect;
+                import org.aspectj.lang.annotation.Pointcut;
+                import org.springframework.beans.factory.annotation.Autowired;
+
+                @Aspect
+                public class EjbJarAopConfig {
+
+                    private AuditInterceptor auditInterceptor;
+
+                    @Autowired
+                    public void wireInterceptors(AuditInterceptor auditInterceptor) {
+                        this.auditInterceptor = auditInterceptor;
+                    }
+
+                    // Source: src/main/resources/META-INF/ejb-jar.xml
+                    // ejb-name: OrderService -> com.example.service.OrderService
+                    // interceptor-class: com.example.interceptor.AuditInterceptor
+                    @Pointcut("within(com.example.service.OrderService)")
+                    public void ejbInterceptorPointcut1() {}
+
+                    @Around("ejbInterceptorPointcut1()")
+                    public Object applyEjbInterceptor1(ProceedingJoinPoint pjp) throws Throwable {
+                        return auditInterceptor.audit(pjp);
+                    }
+
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/config/EjbJarAopConfig.java")
+            ),
+            java(
+                null,
+                """
+                package com.example.config;
+
+                import com.example.interceptor.AuditInterceptor;
+                import org.aspectj.lang.Aspects;
+                import org.springframework.context.annotation.Bean;
+                import org.springframework.context.annotation.Configuration;
+
+                /**
+                 * The migrated interceptor aspects are woven at build time by the aspectj-maven-plugin;
+                 * advised calls, including self-invocations, do not go through Spring AOP proxies.
+                 */
+                @Configuration(proxyBeanMethods = false)
+                public class EjbJarAopWeavingConfig {
+
+                    @Bean
+                    public EjbJarAopConfig ejbJarAopConfig() {
+                        return Aspects.aspectOf(EjbJarAopConfig.class);
+                    }
+
+                    @Bean
+                    public AuditInterceptor auditInterceptor() {
+                        return Aspects.aspectOf(AuditInterceptor.class);
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/config/EjbJarAopWeavingConfig.java")
+            )
+        );
+    }
+
+    @Test
+    void resolvesDeclaredBeansForGlobalAndMethodBindings() {
+        rewriteRun(
+            java(
+                """
+                package com.example.billing;
+
+                public class BillingBean {
+                    public void charge(String account, long cents) {}
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/billing/BillingBean.java")
+            ),
+            java(
+                """
+                package com.example.billing;
+
+                import org.aspectj.lang.ProceedingJoinPoint;
+
+                public class TracingInterceptor {
+                    public Object trace(ProceedingJoinPoint pjp) throws Throwable {
+                        return pjp.proceed();
+                    }
+                }
+                """,
+                """
+                package com.example.billing;
+
+                import org.aspectj.lang.ProceedingJoinPoint;
+                import org.springframework.stereotype.Component;
+
+                @Component
+                public class TracingInterceptor {
+                    public Object trace(ProceedingJoinPoint pjp) throws Throwable {
+                        return pjp.proceed();
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/billing/TracingInterceptor.java")
+            ),
+            java(
+                """
+                package com.example.billing;
+
+                import jakarta.interceptor.InvocationContext;
+
+                public class AuditInterceptor {
+                    public Object audit(InvocationContext ctx) throws Exception {
+                        ctx.getContextData().put("audited", true);
+                        return ctx.proceed();
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/billing/AuditInterceptor.java")
+            ),
+            xml(
+                """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <ejb-jar xmlns="https://jakarta.ee/xml/ns/jakartaee" version="4.0">
+                    <enterprise-beans>
+                        <session>
+                            <ejb-name>Billing</ejb-name>
+                            <ejb-class>com.example.billing.BillingBean</ejb-class>
+                        </session>
+                    </enterprise-beans>
+                    <assembly-descriptor>
+                        <interceptor-binding>
+                            <ejb-name>*</ejb-name>
+                            <interceptor-class>com.example.billing.TracingInterceptor</interceptor-class>
+                        </interceptor-binding>
+                        <interceptor-binding>
+                            <ejb-name>Billing</ejb-name>
+                            <interceptor-class>com.example.billing.AuditInterceptor</interceptor-class>
+                            <method>
+                                <method-name>charge</method-name>
+                                <method-params>
+                                    <method-param>java.lang.String</method-param>
+                                    <method-param>long</method-param>
+                                </method-params>
+                            </method>
+                        </interceptor-binding>
+                    </assembly-descriptor>
+                </ejb-jar>
+                """,
+                spec -> spec.path("src/main/resources/META-INF/ejb-jar.xml")
+            ),
+            java(
+                null,
+                spec -> spec.path("src/main/java/com/example/billing/config/EjbJarAopConfig.java")
+                    .after(actual -> {
+                        assertThat(actual).contains("@Pointcut(\"within(com.example.billing.BillingBean)\")");
+                        assertThat(actual).contains("return tracingInterceptor.trace(pjp);");
+                        assertThat(actual).contains(
+                            "@Pointcut(\"execution(* com.example.billing.BillingBean.charge(java.lang.String, long))\")");
+                        assertThat(actual).contains(
+                            "// NOT WIRED: com.example.billing.AuditInterceptor - audit(InvocationContext) was not converted to ProceedingJoinPoint");
+                        assertThat(actual).contains("ejb-name=Billing, method-binding, not wired: AuditInterceptor");
+                        assertThat(actual).doesNotContain("__YOUR_EJB_PACKAGE__");
+                        return actual;
+                    })
+            )
+        );
+    }
+
     @Test
     void noChangeWithoutEjbJarXml() {
         rewriteRun(
@@ -0,0 +1,242 @@
+package com.github.rewrite.ejb;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.TypeValidation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class MigrateJaxRsStreamingResponsesTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new MigrateJaxRsStreamingResponses("migrate-to-spring-mvc"))
+            .typeValidationOptions(TypeValidation.none())
+            .parser(JavaParser.fromJavaVersion()
+                .classpath("javax.ws.rs-api", "jakarta.jakartaee-api", "spring-web"));
+    }
+
+    @DocumentExample
+    @Test
+    void migrateFileEntityToFileSystemResource() {
+        rewriteRun(
+            java(
+                """
+                package com.example;
+
+                import java.io.File;
+
+                import javax.ws.rs.core.Response;
+
+                public class ExportResource {
+                    public Response export() {
+                        File file = new File("/tmp/export.csv");
+                        return Response.ok(file).build();
+                    }
+                }
+                """,
+                """
+                package com.example;
+
+                import java.io.File;
+
+                import javax.ws.rs.core.Response;
+
+                import org.springframework.core.io.FileSystemResource;
+
+                public class ExportResource {
+                    public Response export() {
+                        File file = new File("/tmp/export.csv");
+                        return Response.ok(new FileSystemResource(file)).build();
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/ExportResource.java")
+            )
+        );
+    }
+
+    @Test
+    void migrateInputStreamEntityAndGenerateAsyncConfiguration() {
+        rewriteRun(
+            java(
+                """
+                package com.example;
+
+                import java.io.InputStream;
+
+                import javax.ws.rs.core.Response;
+                import javax.ws.rs.core.StreamingOutput;
+
+                public class ExportResource {
+                    public Response download(InputStream in) {
+                        return Response.status(200).entity(in).build();
+                    }
+
+                    public Response csv() {
+                        StreamingOutput stream = out -> out.write(1);
+                        return Response.ok(stream).build();
+                    }
+                }
+                """,
+                """
+                package com.example;
+
+                import java.io.InputStream;
+
+                import javax.ws.rs.core.Response;
+
+                import org.springframework.core.io.InputStreamResource;
+                import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+                public class ExportResource {
+                    public Response download(InputStream in) {
+                        return Response.status(200).entity(new InputStreamResource(in)).build();
+                    }
+
+                    public Response csv() {
+                        StreamingResponseBody stream = out -> out.write(1);
+                        return Response.ok(stream).build();
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/ExportResource.java")
+            ),
+            java(
+                null,
+                """
+                package com.example;
+
+                import java.time.Duration;
+                import org.springframework.beans.factory.annotation.Value;
+                import org.springframework.context.annotation.Configuration;
+                import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+                import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+                /**
+                 * Async request timeout for migrated streaming endpoints (StreamingResponseBody,
+                 * DeferredResult, SseEmitter), long enough for long-running exports. Streams are written
+                 * on Spring Boot's applicationTaskExecutor (spring.task.execution.*), which Boot already
+                 * registers for async requests. Override the timeout with spring.mvc.async.request-timeout.
+                 */
+                @Configuration
+                public class AsyncStreamingConfiguration implements WebMvcConfigurer {
+
+                    private final Duration requestTimeout;
+
+                    public AsyncStreamingConfiguration(@Value("${spring.mvc.async.request-timeout:30m}") Duration requestTimeout) {
+                        this.requestTimeout = requestTimeout;
+                    }
+
+                    @Override
+                    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+                        configurer.setDefaultTimeout(requestTimeout.toMillis());
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/AsyncStreamingConfiguration.java")
+            )
+        );
+    }
+
+    @Test
+    void migrateSuspendedAsyncResponseToDeferredResult() {
+        rewriteRun(
+            java(
+                """
+                package com.example;
+
+                import java.util.concurrent.ExecutorService;
+                import javax.ws.rs.container.AsyncResponse;
+                import javax.ws.rs.container.Suspended;
+
+                public class ReportResource {
+                    private ExecutorService executor;
+
+                    public void report(String id, @Suspended AsyncResponse response) {
+                        executor.submit(() -> response.resume("report " + id));
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/ReportResource.java")
+                    .after(actual -> {
+                        assertThat(actual).contains("public DeferredResult<Object> report(String id) {");
+                        assertThat(actual).contains("DeferredResult<Object> response = new DeferredResult<>();");
+                        assertThat(actual).contains("response.setResult(\"report \" + id)");
+                        assertThat(actual).contains("return response;");
+                        assertThat(actual).contains("import org.springframework.web.context.request.async.DeferredResult;");
+                        assertThat(actual).doesNotContain("AsyncResponse");
+                        return actual;
+                    })
+            ),
+            java(
+                null,
+                spec -> spec.path("src/main/java/com/example/AsyncStreamingConfiguration.java")
+                    .after(actual -> {
+                        assertThat(actual).contains("configureAsyncSupport");
+                        return actual;
+                    })
+            )
+        );
+    }
+
+    @Test
+    void marksAsyncResponseThatEscapesMethod() {
+        rewriteRun(
+            java(
+                """
+                package com.example;
+
+                import javax.ws.rs.container.AsyncResponse;
+                import javax.ws.rs.container.Suspended;
+
+                public class ReportResource {
+                    public void report(@Suspended AsyncResponse response) {
+                        register(response);
+                    }
+
+                    private void register(AsyncResponse response) {
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/ReportResource.java")
+                    .after(actual -> {
+                        assertThat(actual).contains("@NeedsReview(reason = \"@Suspended AsyncResponse requires manual migration\"");
+                        assertThat(actual).contains("public void report(@Suspended AsyncResponse response)");
+                        return actual;
+                    })
+            ),
+            java(
+                null,
+                spec -> spec.path("src/main/java/com/example/AsyncStreamingConfiguration.java")
+                    .after(actual -> actual)
+            )
+        );
+    }
+
+    @Test
+    void noChangesWhenJaxRsIsKept() {
+        rewriteRun(
+            spec -> spec.recipe(new MigrateJaxRsStreamingResponses("keep-jaxrs")),
+            java(
+                """
+                package com.example;
+
+                import java.io.File;
+                import javax.ws.rs.core.Response;
+
+                public class ExportResource {
+                    public Response export(File file) {
+                        return Response.ok(file).build();
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/ExportResource.java")
+            )
+        );
+    }
+}
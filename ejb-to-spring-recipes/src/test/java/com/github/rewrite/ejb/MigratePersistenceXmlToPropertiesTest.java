@@ -620,6 +620,41 @@ void jakartaPersistencePropertiesPassthrough() {
         );
     }
 
+    @Test
+    void passthroughDoesNotRepeatMappedProperties() {
+        rewriteRun(
+            xml(
+                """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <persistence version="3.0" xmlns="https://jakarta.ee/xml/ns/persistence">
+                    <persistence-unit name="PassthroughUnit">
+                        <shared-cache-mode>NONE</shared-cache-mode>
+                        <properties>
+                            <property name="jakarta.persistence.sharedCache.mode" value="NONE"/>
+                            <property name="jakarta.persistence.jdbc.url" value="jdbc:h2:mem:test"/>
+                            <property name="javax.persistence.jdbc.url" value="jdbc:h2:mem:test"/>
+                        </properties>
+                    </persistence-unit>
+                </persistence>
+                """,
+                spec -> spec.path("src/main/resources/META-INF/persistence.xml")
+            ),
+            properties(
+                null,
+                """
+                # Spring Boot Application Properties
+                # Generated from persistence.xml migration
+
+                # Migrated from persistence.xml (persistence-unit: PassthroughUnit)
+
+                spring.jpa.properties.jakarta.persistence.sharedCache.mode=NONE
+                spring.datasource.url=jdbc:h2:mem:test
+                """,
+                spec -> spec.path("src/main/resources/application.properties")
+            )
+        );
+    }
+
     @Test
     void lockTimeoutIsPassedThrough() {
         // Test for jakarta.persistence.lock.timeout passthrough
@@ -782,6 +817,200 @@ void migrateHibernateEjbInterceptor() {
         );
     }
 
+    @Test
+    void migrateEclipseLinkBatchWritingAndPoolSettings() {
+        rewriteRun(
+            xml(
+                """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <persistence version="3.0" xmlns="https://jakarta.ee/xml/ns/persistence">
+                    <persistence-unit name="BatchUnit">
+                        <properties>
+                            <property name="eclipselink.jdbc.batch-writing" value="JDBC"/>
+                            <property name="eclipselink.jdbc.batch-writing.size" value="50"/>
+                            <property name="eclipselink.jdbc.connections.max" value="40"/>
+                            <property name="eclipselink.persistence-context.flush-mode" value="COMMIT"/>
+                            <property name="eclipselink.logging.level" value="FINE"/>
+                        </properties>
+                    </persistence-unit>
+                </persistence>
+                """,
+                spec -> spec.path("src/main/resources/META-INF/persistence.xml")
+            ),
+            properties(
+                null,
+                """
+                # Spring Boot Application Properties
+                # Generated from persistence.xml migration
+
+                # Migrated from persistence.xml (persistence-unit: BatchUnit)
+                # EclipseLink property (Spring Boot uses Hibernate): eclipselink.logging.level=FINE
+
+                spring.jpa.properties.hibernate.jdbc.batch_size=50
+                spring.jpa.properties.hibernate.order_inserts=true
+                spring.jpa.properties.hibernate.order_updates=true
+                spring.datasource.hikari.maximum-pool-size=40
+                spring.jpa.properties.org.hibernate.flushMode=COMMIT
+                """,
+                spec -> spec.path("src/main/resources/application.properties")
+            )
+        );
+    }
+
+    @Test
+    void keepsBothEclipseLinkReadAndWritePoolMaximums() {
+        rewriteRun(
+            xml(
+                """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <persistence version="3.0" xmlns="https://jakarta.ee/xml/ns/persistence">
+                    <persistence-unit name="PoolUnit">
+                        <properties>
+                            <property name="eclipselink.jdbc.connections.max" value="40"/>
+                            <property name="eclipselink.jdbc.read-connections.max" value="30"/>
+                            <property name="eclipselink.jdbc.write-connections.max" value="10"/>
+                        </properties>
+                    </persistence-unit>
+                </persistence>
+                """,
+                spec -> spec.path("src/main/resources/META-INF/persistence.xml")
+            ),
+            properties(
+                null,
+                """
+                # Spring Boot Application Properties
+                # Generated from persistence.xml migration
+
+                # Migrated from persistence.xml (persistence-unit: PoolUnit)
+                # TODO: Review spring.datasource.hikari.maximum-pool-size, EclipseLink used separate pools: eclipselink.jdbc.read-connections.max=30, eclipselink.jdbc.write-connections.max=10
+
+                spring.datasource.hikari.maximum-pool-size=40
+                """,
+                spec -> spec.path("src/main/resources/application.properties")
+            )
+        );
+    }
+
+    @Test
+    void writePoolWithoutOwnMaximumFallsBackToDefaultPool() {
+        rewriteRun(
+            xml(
+                """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <persistence version="3.0" xmlns="https://jakarta.ee/xml/ns/persistence">
+                    <persistence-unit name="PoolUnit">
+                        <properties>
+                            <property name="eclipselink.jdbc.read-connections.max" value="30"/>
+                            <property name="eclipselink.jdbc.connections.max" value="8"/>
+                        </properties>
+                    </persistence-unit>
+                </persistence>
+                """,
+                spec -> spec.path("src/main/resources/META-INF/persistence.xml")
+            ),
+            properties(
+                null,
+                """
+                # Spring Boot Application Properties
+                # Generated from persistence.xml migration
+
+                # Migrated from persistence.xml (persistence-unit: PoolUnit)
+                # TODO: Review spring.datasource.hikari.maximum-pool-size, EclipseLink used separate pools: eclipselink.jdbc.read-connections.max=30, eclipselink.jdbc.write-connections.max=8
+
+                spring.datasource.hikari.maximum-pool-size=38
+                """,
+                spec -> spec.path("src/main/resources/application.properties")
+            )
+        );
+    }
+
+    @Test
+    void migrateSharedCacheModeAndEntityCacheHints() {
+        rewriteRun(
+            xml(
+                """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <persistence version="3.0" xmlns="https://jakarta.ee/xml/ns/persistence">
+                    <persistence-unit name="CacheUnit">
+                        <class>com.example.Country</class>
+                        <class>com.example.Order</class>
+                        <shared-cache-mode>ENABLE_SELECTIVE</shared-cache-mode>
+                        <properties>
+                            <property name="eclipselink.cache.shared.Country" value="true"/>
+                            <property name="eclipselink.cache.size.Country" value="500"/>
+                            <property name="eclipselink.cache.shared.Customer" value="true"/>
+                        </properties>
+                    </persistence-unit>
+                </persistence>
+                """,
+                spec -> spec.path("src/main/resources/META-INF/persistence.xml")
+            ),
+            properties(
+                null,
+                """
+                # Spring Boot Application Properties
+                # Generated from persistence.xml migration
+
+                # Migrated from persistence.xml (persistence-unit: CacheUnit)
+                # NOTE: Second-level cache disabled until a region factory is configured
+                # GenerateSecondLevelCacheConfig enables it with the JCache region factory for cached entities
+                # TODO: Cache region size for Country (eclipselink.cache.size.Country=500)
+                # Configure the region in the JCache provider configuration
+                # TODO: Entity Customer was cached by EclipseLink (eclipselink.cache.shared.Customer=true)
+                # Annotate it with @Cacheable or set spring.jpa.properties.hibernate.classcache.<fqcn>=read-write
+
+                spring.jpa.properties.jakarta.persistence.sharedCache.mode=ENABLE_SELECTIVE
+                spring.jpa.properties.hibernate.cache.use_second_level_cache=false
+                spring.jpa.properties.hibernate.cache.use_query_cache=false
+                spring.jpa.properties.hibernate.classcache.com.example.Country=read-write
+                """,
+                spec -> spec.path("src/main/resources/application.properties")
+            )
+        );
+    }
+
+    @Test
+    void migrateLegacyHibernateCacheProperties() {
+        rewriteRun(
+            xml(
+                """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <persistence version="3.0" xmlns="https://jakarta.ee/xml/ns/persistence">
+                    <persistence-unit name="LegacyUnit">
+                        <properties>
+                            <property name="hibernate.query.plan_cache_max_strong_references" value="4096"/>
+                            <property name="hibernate.query.plan_cache_max_soft_references" value="2048"/>
+                            <property name="hibernate.ejb.classcache.com.example.Country" value="read-only"/>
+                            <property name="hibernate.cache.use_second_level_cache" value="true"/>
+                            <property name="hibernate.cache.region.factory_class" value="org.infinispan.hibernate.cache.v53.InfinispanRegionFactory"/>
+                        </properties>
+                    </persistence-unit>
+                </persistence>
+                """,
+                spec -> spec.path("src/main/resources/META-INF/persistence.xml")
+            ),
+            properties(
+                null,
+                """
+                # Spring Boot Application Properties
+                # Generated from persistence.xml migration
+
+                # Migrated from persistence.xml (persistence-unit: LegacyUnit)
+                # NOTE: Second-level cache disabled until a region factory is configured
+                # GenerateSecondLevelCacheConfig enables it with the JCache region factory for cached entities
+                # NOTE: Dropped WildFly Infinispan cache setting hibernate.cache.region.factory_class=org.infinispan.hibernate.cache.v53.InfinispanRegionFactory
+
+                spring.jpa.properties.hibernate.cache.use_second_level_cache=false
+                spring.jpa.properties.hibernate.cache.use_query_cache=false
+                spring.jpa.properties.hibernate.query.plan_parameter_metadata_max_size=4096
+                spring.jpa.properties.hibernate.query.plan_cache_max_size=2048
+                spring.jpa.properties.hibernate.classcache.com.example.Country=read-only
+                """,
+                spec -> spec.path("src/main/resources/application.properties")
+            )
+        );
+    }
+
     @Test
     void idempotentMigrationDoesNotDuplicate() {
         // Test that running the recipe twice doesn't duplicate the content
@@ -1,11 +1,18 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.config.ClusterMode;
+import com.github.rewrite.ejb.config.ProjectConfiguration;
+import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openrewrite.DocumentExample;
 import org.openrewrite.java.JavaParser;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
+import java.nio.file.Paths;
+
 import static org.openrewrite.java.Assertions.java;
 
 class MigrateScheduleToScheduledTest implements RewriteTest {
@@ -17,6 +24,18 @@ public void defaults(RecipeSpec spec) {
                 .classpath("jakarta.jakartaee-api", "spring-context"));
     }
 
+    @BeforeEach
+    void setUp() {
+        ProjectConfigurationLoader.clearCache();
+        ProjectConfigurationLoader.clearTestInjections();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ProjectConfigurationLoader.clearCache();
+        ProjectConfigurationLoader.clearTestInjections();
+    }
+
     @DocumentExample
     @Test
     void migrateSimpleSchedule() {
@@ -172,6 +191,51 @@ public void runYearly() {
         );
     }
 
+    @Test
+    void translatesEjbOnlyDayOfMonthValues() {
+        // "Last" and wrapping hour ranges are EJB syntax; Spring cron reads them as "L" and a list
+        rewriteRun(
+            java(
+                """
+                import jakarta.ejb.Schedule;
+
+                public class MonthEndTask {
+                    @Schedule(minute = "0", hour = "22-2", dayOfMonth = "Last", persistent = false)
+                    public void closeMonth() {
+                    }
+                }
+                """,
+                """
+                import org.springframework.scheduling.annotation.Scheduled;
+
+                public class MonthEndTask {
+                    @Scheduled(cron = "0 0 0-2,22-23 L * *")
+                    public void closeMonth() {
+                    }
+                }
+                """
+            )
+        );
+    }
+
+    @Test
+    void skipsScheduleRestrictingBothDayFields() {
+        // EJB fires on the 1st OR on Mondays, Spring cron only on Mondays that are the 1st
+        rewriteRun(
+            java(
+                """
+                import jakarta.ejb.Schedule;
+
+                public class ReportTask {
+                    @Schedule(hour = "6", dayOfMonth = "1", dayOfWeek = "Mon", persistent = false)
+                    public void report() {
+                    }
+                }
+                """
+            )
+        );
+    }
+
     @Test
     void skipsNonLiteralValues() {
         // Non-literal values (constants/field references) are skipped - marker recipe handles them
@@ -370,4 +434,74 @@ public void persistentTask() {
             )
         );
     }
+
+    @Test
+    void addsSchedulerLockForShedLockCluster() {
+        injectShedLockCluster();
+        rewriteRun(
+            java(
+                """
+                import jakarta.ejb.Schedule;
+
+                public class CargoInspector {
+                    @Schedule(minute = "*/2", hour = "*", persistent = false)
+                    public void inspectCargo() {
+                    }
+                }
+                """,
+                """
+                import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+                import org.springframework.scheduling.annotation.Scheduled;
+
+                public class CargoInspector {
+                    @Scheduled(cron = "0 */2 * * * *")
+                    @SchedulerLock(name = "CargoInspector.inspectCargo", lockAtMostFor = "PT1M48S", lockAtLeastFor = "PT1M")
+                    public void inspectCargo() {
+                    }
+                }
+                """
+            )
+        );
+    }
+
+    @Test
+    void schedulerLockUsesShortestIntervalOfSchedules() {
+        injectShedLockCluster();
+        rewriteRun(
+            java(
+                """
+                import jakarta.ejb.Schedule;
+                import jakarta.ejb.Schedules;
+
+                public class ReportJob {
+                    @Schedules({
+                        @Schedule(hour = "8", persistent = false),
+                        @Schedule(hour = "8,20", dayOfWeek = "Sat", persistent = false)
+                    })
+                    public void generate() {
+                    }
+                }
+                """,
+                """
+                import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+                import org.springframework.scheduling.annotation.Scheduled;
+
+                public class ReportJob {
+                    @Scheduled(cron = "0 0 8 * * *")
+                    @Scheduled(cron = "0 0 8,20 * * Sat")
+                    @SchedulerLock(name = "ReportJob.generate", lockAtMostFor = "PT10H48M", lockAtLeastFor = "PT5M")
+                    public void generate() {
+                    }
+                }
+                """
+            )
+        );
+    }
+
+    private static void injectShedLockCluster() {
+        ProjectConfigurationLoader.injectForTest(
+            Paths.get(System.getProperty("user.dir")).toAbsolutePath().normalize(),
+            new ProjectConfiguration(null, null, null, null,
+                ProjectConfiguration.TimerStrategy.SCHEDULED, ClusterMode.SHEDLOCK));
+    }
 }
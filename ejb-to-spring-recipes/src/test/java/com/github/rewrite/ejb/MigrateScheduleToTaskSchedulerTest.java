@@ -1,7 +1,10 @@
 package com.github.rewrite.ejb;
 
+import com.github.rewrite.ejb.config.ClusterMode;
 import com.github.rewrite.ejb.config.ProjectConfiguration;
+import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
 import com.github.rewrite.ejb.marker.TimerStrategyMarker;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.openrewrite.DocumentExample;
 import org.openrewrite.java.JavaParser;
@@ -9,8 +12,10 @@
 import org.openrewrite.test.RewriteTest;
 import org.openrewrite.test.TypeValidation;
 
+import java.nio.file.Paths;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.java.Assertions.java;
 
 /**
@@ -132,7 +137,7 @@ public void initScheduler() {
     void transformsTimerCancelCall() {
         // timer.cancel() -> scheduledFuture.cancel(false)
         rewriteRun(
-            spec -> spec.expectedCyclesThatMakeChanges(2),
+            spec -> spec.expectedCyclesThatMakeChanges(1),
             java(
                 """
                 import jakarta.ejb.Schedule;
@@ -177,7 +182,7 @@ public void initScheduler() {
     void transformsTimerGetTimeRemaining() {
         // timer.getTimeRemaining() -> scheduledFuture.getDelay(TimeUnit.MILLISECONDS)
         rewriteRun(
-            spec -> spec.expectedCyclesThatMakeChanges(2),
+            spec -> spec.expectedCyclesThatMakeChanges(1),
             java(
                 """
                 import jakarta.ejb.Schedule;
@@ -415,7 +420,7 @@ public void initScheduler() {
     void preservesOtherAnnotations() {
         // Other annotations on the method should be preserved
         rewriteRun(
-            spec -> spec.expectedCyclesThatMakeChanges(2),
+            spec -> spec.expectedCyclesThatMakeChanges(1),
             java(
                 """
                 import jakarta.ejb.Schedule;
@@ -456,4 +461,44 @@ public void initScheduler() {
             )
         );
     }
+
+    @Test
+    void addsSchedulerLockAndSchedulesThroughProxyForShedLockCluster() {
+        ProjectConfigurationLoader.injectForTest(
+            Paths.get(System.getProperty("user.dir")).toAbsolutePath().normalize(),
+            new ProjectConfiguration(null, null, null, null,
+                ProjectConfiguration.TimerStrategy.TASKSCHEDULER, ClusterMode.SHEDLOCK));
+        rewriteRun(
+            java(
+                """
+                import jakarta.ejb.Schedule;
+                import jakarta.ejb.Timer;
+
+                public class TimerScheduler {
+                    @Schedule(minute = "*/5", hour = "*", persistent = false)
+                    public void scheduledTask(Timer timer) {
+                        timer.cancel();
+                    }
+                }
+                """,
+                spec -> spec.after(actual -> {
+                    assertThat(actual).contains("import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;");
+                    assertThat(actual).contains("import org.springframework.context.annotation.Lazy;");
+                    assertThat(actual).contains("@Lazy\n    @Autowired\n    private TimerScheduler self;");
+                    assertThat(actual).contains(
+                        "@SchedulerLock(name = \"TimerScheduler.scheduledTask\", lockAtMostFor = \"PT4M30S\", lockAtLeastFor = \"PT2M30S\")\n" +
+                        "    public void scheduledTask() {");
+                    assertThat(actual).contains("taskScheduler.schedule(self::scheduledTask, new CronTrigger(CRON_EXPRESSION))");
+                    assertThat(actual).doesNotContain("@Schedule(");
+                    return actual;
+                })
+            )
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        ProjectConfigurationLoader.clearCache();
+        ProjectConfigurationLoader.clearTestInjections();
+    }
 }
@@ -0,0 +1,332 @@
+package com.github.rewrite.ejb;
+
+import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.TypeValidation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.test.SourceSpecs.text;
+
+class OptimizeTestContextCachingTest implements RewriteTest {
+
+    private static final String TEST_CONFIGURATION_STUB =
+        """
+        package org.springframework.boot.test.context;
+        import java.lang.annotation.*;
+        @Target(ElementType.TYPE)
+        @Retention(RetentionPolicy.RUNTIME)
+        public @interface TestConfiguration {}
+        """;
+
+    private static final String SPRING_BOOT_TEST_STUB =
+        """
+        package org.springframework.boot.test.context;
+        import java.lang.annotation.*;
+        @Target(ElementType.TYPE)
+        @Retention(RetentionPolicy.RUNTIME)
+        public @interface SpringBootTest {}
+        """;
+
+    private static final String REPOSITORY_STUB =
+        """
+        package org.springframework.data.repository;
+        public interface Repository<T, ID> {}
+        """;
+
+    private static final String JPA_REPOSITORY_STUB =
+        """
+        package org.springframework.data.jpa.repository;
+        public interface JpaRepository<T, ID> extends org.springframework.data.repository.Repository<T, ID> {}
+        """;
+
+    private static final String APPLICATION =
+        """
+        package com.example;
+
+        import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+        @SpringBootApplication
+        public class Application {
+        }
+        """;
+
+    private static final String MAIL_SENDER_STUB =
+        """
+        package com.example.orders;
+
+        public class MailSenderStub {
+        }
+        """;
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new OptimizeTestContextCaching())
+            .parser(JavaParser.fromJavaVersion()
+                .classpath("jakarta.jakartaee-api", "spring-context", "spring-boot-autoconfigure")
+                .dependsOn(TEST_CONFIGURATION_STUB, SPRING_BOOT_TEST_STUB, REPOSITORY_STUB, JPA_REPOSITORY_STUB))
+            .typeValidationOptions(TypeValidation.none());
+    }
+
+    @BeforeEach
+    void setUp() {
+        ProjectConfigurationLoader.clearCache();
+        ProjectConfigurationLoader.clearTestInjections();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ProjectConfigurationLoader.clearCache();
+        ProjectConfigurationLoader.clearTestInjections();
+    }
+
+    @DocumentExample
+    @Test
+    void sharesIdenticalStubConfigurationsAndUsesDataJpaSlice() {
+        rewriteRun(
+            java(APPLICATION, spec -> spec.path("src/main/java/com/example/Application.java")),
+            java(
+                """
+                package com.example.orders;
+
+                import org.springframework.data.jpa.repository.JpaRepository;
+
+                public interface OrderRepository extends JpaRepository<Object, Long> {
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/orders/OrderRepository.java")
+            ),
+            java(MAIL_SENDER_STUB, spec -> spec.path("src/test/java/com/example/orders/MailSenderStub.java")),
+            java(
+                """
+                package com.example.orders;
+
+                public class PaymentGatewayStub {
+                }
+                """,
+                spec -> spec.path("src/test/java/com/example/orders/PaymentGatewayStub.java")
+            ),
+            java(
+                """
+                package com.example.orders;
+
+                import org.springframework.boot.test.context.TestConfiguration;
+                import org.springframework.context.annotation.Bean;
+                import org.springframework.context.annotation.Primary;
+
+                @TestConfiguration
+                public class OrderServiceTestConfiguration {
+                    @Bean
+                    @Primary
+                    public MailSenderStub mailSenderStub() {
+                        return new MailSenderStub();
+                    }
+                }
+                """,
+                (String) null,
+                spec -> spec.path("src/test/java/com/example/orders/OrderServiceTestConfiguration.java")
+            ),
+            java(
+                """
+                package com.example.orders;
+
+                import org.springframework.boot.test.context.SpringBootTest;
+                import org.springframework.context.annotation.Import;
+
+                @SpringBootTest
+                @Import(OrderServiceTestConfiguration.class)
+                class OrderServiceTest {
+                }
+                """,
+                """
+                package com.example.orders;
+
+                import com.example.billing.SharedMailSenderTestConfiguration;
+                import org.springframework.boot.test.context.SpringBootTest;
+                import org.springframework.context.annotation.Import;
+
+                @SpringBootTest
+                @Import(SharedMailSenderTestConfiguration.class)
+                class OrderServiceTest {
+                }
+                """,
+                spec -> spec.path("src/test/java/com/example/orders/OrderServiceTest.java")
+            ),
+            java(
+                """
+                package com.example.billing;
+
+                import com.example.orders.MailSenderStub;
+                import org.springframework.boot.test.context.TestConfiguration;
+                import org.springframework.context.annotation.Bean;
+                import org.springframework.context.annotation.Primary;
+
+                @TestConfiguration
+                public class InvoiceServiceTestConfiguration {
+                    @Bean
+                    @Primary
+                    public MailSenderStub mailSenderStub() {
+                        return new MailSenderStub();
+                    }
+                }
+                """,
+                (String) null,
+                spec -> spec.path("src/test/java/com/example/billing/InvoiceServiceTestConfiguration.java")
+            ),
+            java(
+                """
+                package com.example.billing;
+
+                import org.springframework.boot.test.context.SpringBootTest;
+                import org.springframework.context.annotation.Import;
+
+                @SpringBootTest
+                @Import(InvoiceServiceTestConfiguration.class)
+                class InvoiceServiceTest {
+                }
+                """,
+                """
+                package com.example.billing;
+
+                import org.springframework.boot.test.context.SpringBootTest;
+                import org.springframework.context.annotation.Import;
+
+                @SpringBootTest
+                @Import(SharedMailSenderTestConfiguration.class)
+                class InvoiceServiceTest {
+                }
+                """,
+                spec -> spec.path("src/test/java/com/example/billing/InvoiceServiceTest.java")
+            ),
+            java(
+                null,
+                spec -> spec.path("src/test/java/com/example/billing/SharedMailSenderTestConfiguration.java")
+                    .noTrim()
+                    .after(actual -> {
+                        assertThat(actual).contains("import com.example.orders.MailSenderStub;");
+                        assertThat(actual).contains(" * Replaces InvoiceServiceTestConfiguration, OrderServiceTestConfiguration.");
+                        assertThat(actual).contains("""
+                            @TestConfiguration
+                            public class SharedMailSenderTestConfiguration {
+
+                                @Bean
+                                @Primary
+                                public MailSenderStub mailSenderStub() {
+                                    return new MailSenderStub();
+                                }
+                            }
+                            """);
+                        return actual;
+                    })
+            ),
+            java(
+                """
+                package com.example.orders;
+
+                import org.springframework.boot.test.context.TestConfiguration;
+                import org.springframework.context.annotation.Bean;
+                import org.springframework.context.annotation.Primary;
+
+                @TestConfiguration
+                public class PaymentTestConfiguration {
+                    @Bean
+                    @Primary
+                    public PaymentGatewayStub paymentGatewayStub() {
+                        return new PaymentGatewayStub();
+                    }
+                }
+                """,
+                spec -> spec.path("src/test/java/com/example/orders/PaymentTestConfiguration.java")
+            ),
+            java(
+                """
+                package com.example.orders;
+
+                import org.springframework.boot.test.context.SpringBootTest;
+                import org.springframework.context.annotation.Import;
+
+                @SpringBootTest
+                @Import(PaymentTestConfiguration.class)
+                class PaymentTest {
+                }
+                """,
+                spec -> spec.path("src/test/java/com/example/orders/PaymentTest.java")
+            ),
+            java(
+                """
+                package com.example.orders;
+
+                import org.springframework.beans.factory.annotation.Autowired;
+                import org.springframework.boot.test.context.SpringBootTest;
+
+                @SpringBootTest
+                class OrderRepositoryTest {
+                    @Autowired
+                    OrderRepository repository;
+                }
+                """,
+                spec -> spec.path("src/test/java/com/example/orders/OrderRepositoryTest.java")
+                    .after(actual -> {
+                        assertThat(actual).doesNotContain("SpringBootTest");
+                        assertThat(actual).contains("@DataJpaTest");
+                        assertThat(actual).contains("@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)");
+                        assertThat(actual).contains("@Transactional(propagation = Propagation.NOT_SUPPORTED)");
+                        assertThat(actual).contains("import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;");
+                        return actual;
+                    })
+            ),
+            text(
+                null,
+                spec -> spec.path("TEST-CONTEXTS.md").after(actual -> {
+                    assertThat(actual).contains("| Spring tests | 4 |");
+                    assertThat(actual).contains("| Before | 4 |");
+                    assertThat(actual).contains("| After | 3 |");
+                    assertThat(actual).contains("| `com.example.orders.OrderRepositoryTest` | `@DataJpaTest` |");
+                    assertThat(actual).contains("- `com.example.billing.InvoiceServiceTest`\n- `com.example.orders.OrderServiceTest`");
+                    return actual;
+                })
+            )
+        );
+    }
+
+    @Test
+    void keepsOwnContextForDirtiesContextTests() {
+        rewriteRun(
+            java(APPLICATION, spec -> spec.path("src/main/java/com/example/Application.java")),
+            java(MAIL_SENDER_STUB, spec -> spec.path("src/main/java/com/example/orders/MailSenderStub.java")),
+            java(
+                """
+                package com.example.orders;
+
+                import org.springframework.beans.factory.annotation.Autowired;
+                import org.springframework.boot.test.context.SpringBootTest;
+                import org.springframework.test.annotation.DirtiesContext;
+
+                @SpringBootTest
+                @DirtiesContext
+                class MailSenderTest {
+                    @Autowired
+                    MailSenderStub mailSender;
+                }
+                """,
+                spec -> spec.path("src/test/java/com/example/orders/MailSenderTest.java")
+            ),
+            text(
+                null,
+                spec -> spec.path("TEST-CONTEXTS.md").after(actual -> {
+                    assertThat(actual).contains("| Before | 1 |");
+                    assertThat(actual).contains("| After | 1 |");
+                    assertThat(actual).contains("| `com.example.orders.MailSenderTest` | @DirtiesContext |");
+                    assertThat(actual).doesNotContain("## Test Slices");
+                    return actual;
+                })
+            )
+        );
+    }
+}
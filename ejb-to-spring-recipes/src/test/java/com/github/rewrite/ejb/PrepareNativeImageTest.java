@@ -0,0 +1,300 @@
+package com.github.rewrite.ejb;
+
+import com.github.rewrite.ejb.config.ProjectConfigurationLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.TypeValidation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.maven.Assertions.pomXml;
+
+class PrepareNativeImageTest implements RewriteTest {
+
+    private static final String POM = """
+        <?xml version="1.0" encoding="UTF-8"?>
+        <project xmlns="http://maven.apache.org/POM/4.0.0">
+            <modelVersion>4.0.0</modelVersion>
+            <groupId>com.example</groupId>
+            <artifactId>orders</artifactId>
+            <version>1.0.0</version>
+        </project>
+        """;
+
+    private static final String APPLICATION = """
+        package com.example;
+
+        import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+        @SpringBootApplication
+        public class Application {
+        }
+        """;
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new PrepareNativeImage())
+            .parser(JavaParser.fromJavaVersion()
+                .classpath("jakarta.jakartaee-api", "spring-context", "spring-web", "spring-boot-autoconfigure")
+                .dependsOn(
+                    "package org.quartz; public interface JobExecutionContext {}",
+                    "package org.quartz; public class JobExecutionException extends Exception {}",
+                    "package org.quartz; public interface Job { void execute(JobExecutionContext context) throws JobExecutionException; }",
+                    "package org.quartz; public class JobDataMap { public Object put(String key, Object value) { return null; } }"
+                ))
+            .typeValidationOptions(TypeValidation.none());
+    }
+
+    @BeforeEach
+    void setUp() {
+        ProjectConfigurationLoader.clearCache();
+        ProjectConfigurationLoader.clearTestInjections();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ProjectConfigurationLoader.clearCache();
+        ProjectConfigurationLoader.clearTestInjections();
+    }
+
+    @DocumentExample
+    @Test
+    void generatesHintsNamedDestinationsSmokeTestAndNativeProfile() {
+        rewriteRun(
+            pomXml(
+                POM,
+                spec -> spec.after(actual -> {
+                    assertThat(actual).contains("<id>native</id>");
+                    assertThat(actual).contains("<goal>process-aot</goal>");
+                    assertThat(actual).contains("<artifactId>native-maven-plugin</artifactId>");
+                    assertThat(actual).contains("<goal>test</goal>");
+                    assertThat(actual).contains("<artifactId>spring-boot-starter-test</artifactId>");
+                    return actual;
+                })
+            ),
+            java(APPLICATION, spec -> spec.path("src/main/java/com/example/Application.java")),
+            java(
+                """
+                package com.example.jobs;
+
+                import org.quartz.Job;
+                import org.quartz.JobExecutionContext;
+
+                public class ReportJob implements Job {
+                    @Override
+                    public void execute(JobExecutionContext context) {
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/jobs/ReportJob.java")
+            ),
+            java(
+                """
+                package com.example.jobs;
+
+                import java.io.Serializable;
+
+                public class ReportRequest implements Serializable {
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/jobs/ReportRequest.java")
+            ),
+            java(
+                """
+                package com.example.jobs;
+
+                import org.quartz.JobDataMap;
+
+                public class ReportScheduler {
+                    public JobDataMap jobData(ReportRequest request) {
+                        JobDataMap data = new JobDataMap();
+                        data.put("request", request);
+                        return data;
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/jobs/ReportScheduler.java")
+            ),
+            java(
+                """
+                package com.example.orders.rest;
+
+                public class PlaceRequest {
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/orders/rest/PlaceRequest.java")
+            ),
+            java(
+                """
+                package com.example.orders.rest;
+
+                public class OrderReceipt {
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/orders/rest/OrderReceipt.java")
+            ),
+            java(
+                """
+                package com.example.orders.rest;
+
+                import java.util.List;
+                import org.springframework.web.bind.annotation.RequestBody;
+                import org.springframework.web.service.annotation.HttpExchange;
+                import org.springframework.web.service.annotation.PostExchange;
+
+                @HttpExchange("/api/OrderService")
+                public interface OrderServiceClient {
+                    @PostExchange("/place")
+                    List<OrderReceipt> place(@RequestBody PlaceRequest request);
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/orders/rest/OrderServiceClient.java")
+            ),
+            java(
+                """
+                package com.example.legacy;
+
+                import org.springframework.context.annotation.Profile;
+                import org.springframework.stereotype.Component;
+
+                @Component
+                @Profile("manual-migration")
+                public class LegacyBridge {
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/legacy/LegacyBridge.java")
+            ),
+            java(
+                """
+                package com.example.messaging;
+
+                import jakarta.jms.Queue;
+                import org.springframework.context.annotation.Bean;
+                import org.springframework.context.annotation.Configuration;
+
+                @Configuration
+                public class JmsConfiguration {
+
+                    @Bean
+                    public Queue orders() {
+                        // Lambda Queue - works with some JMS providers but may need adjustment
+                        return () -> "orders";
+                    }
+                }
+                """,
+                """
+                package com.example.messaging;
+
+                import jakarta.jms.Queue;
+                import org.springframework.context.annotation.Bean;
+                import org.springframework.context.annotation.Configuration;
+
+                @Configuration
+                public class JmsConfiguration {
+
+                    @Bean
+                    public Queue orders() {
+                        return new NamedQueue("orders");
+                    }
+                }
+                """,
+                spec -> spec.path("src/main/java/com/example/messaging/JmsConfiguration.java")
+            ),
+            java(
+                null,
+                spec -> spec.path("src/main/java/com/example/messaging/NamedQueue.java")
+                    .after(actual -> {
+                        assertThat(actual).contains("public record NamedQueue(String queueName) implements Queue, Serializable {");
+                        assertThat(actual).contains("import jakarta.jms.Queue;");
+                        return actual;
+                    })
+            ),
+            java(
+                null,
+                spec -> spec.path("src/main/java/com/example/MigrationRuntimeHints.java")
+                    .after(actual -> {
+                        assertThat(actual).contains("@ImportRuntimeHints(MigrationRuntimeHints.Registrar.class)");
+                        assertThat(actual).contains("hints.reflection().registerType(TypeReference.of(\"com.example.jobs.ReportJob\"),");
+                        assertThat(actual).contains("hints.serialization().registerType(TypeReference.of(\"org.quartz.JobDataMap\"));");
+                        assertThat(actual).contains("hints.serialization().registerType(TypeReference.of(\"com.example.jobs.ReportRequest\"));");
+                        assertThat(actual).contains("""
+                                        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                                            com.example.orders.rest.OrderReceipt.class,
+                                            com.example.orders.rest.PlaceRequest.class);
+                            """);
+                        assertThat(actual).contains("hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(com.example.orders.rest.OrderServiceClient.class));");
+                        return actual;
+                    })
+            ),
+            java(
+                null,
+                spec -> spec.path("src/test/java/com/example/NativeImageSmokeTest.java")
+                    .after(actual -> {
+                        assertThat(actual).contains("@SpringBootTest");
+                        assertThat(actual).contains("assertThat(context.getBeanNamesForType(com.example.legacy.LegacyBridge.class)).isEmpty();");
+                        assertThat(actual).contains("new MigrationRuntimeHints.Registrar().registerHints(hints, getClass().getClassLoader());");
+                        assertThat(actual).contains("RuntimeHintsPredicates.serialization().onType(TypeReference.of(\"com.example.jobs.ReportRequest\"))");
+                        return actual;
+                    })
+            )
+        );
+    }
+
+    @Test
+    void keepsExistingNativeProfileAndSkipsModulesWithoutApplication() {
+        rewriteRun(
+            pomXml(
+                """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>com.example</groupId>
+                    <artifactId>orders</artifactId>
+                    <version>1.0.0</version>
+                    <profiles>
+                        <profile>
+                            <id>native</id>
+                        </profile>
+                    </profiles>
+                </project>
+                """,
+                spec -> spec.after(actual -> {
+                    assertThat(actual).containsOnlyOnce("<id>native</id>");
+                    assertThat(actual).doesNotContain("native-maven-plugin");
+                    return actual;
+                })
+            ),
+            java(APPLICATION, spec -> spec.path("src/main/java/com/example/Application.java")),
+            java(
+                null,
+                spec -> spec.path("src/test/java/com/example/NativeImageSmokeTest.java")
+                    .after(actual -> {
+                        assertThat(actual).contains("void contextStarts()");
+                        assertThat(actual).doesNotContain("RuntimeHints");
+                        return actual;
+                    })
+            ),
+            pomXml(POM, spec -> spec.path("lib/pom.xml")),
+            java(
+                """
+                package com.example.lib;
+
+                import org.quartz.Job;
+                import org.quartz.JobExecutionContext;
+
+                public class LibraryJob implements Job {
+                    @Override
+                    public void execute(JobExecutionContext context) {
+                    }
+                }
+                """,
+                spec -> spec.path("lib/src/main/java/com/example/lib/LibraryJob.java")
+            )
+        );
+    }
+}
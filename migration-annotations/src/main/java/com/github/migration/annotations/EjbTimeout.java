@@ -5,7 +5,13 @@
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+/**
+ * Marks the former EJB {@code @Timeout} method.
+ * <p>
+ * Retained at runtime: migration-timer-runtime looks the method up by this annotation when a programmatic timer of
+ * the bean fires.
+ */
 @Target({ElementType.METHOD})
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.RUNTIME)
 public @interface EjbTimeout {
 }
@@ -0,0 +1,675 @@
+package com.github.migration.timer;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * {@link ScheduleExpression} compiled to per-field bitsets.
+ * <p>
+ * Supports the full EJB calendar syntax: single values, {@code *}, lists, ranges (wrapping when the start is
+ * greater than the end), increments {@code x/y} with {@code x} a value or {@code *}, month and day names, and in
+ * {@code dayOfMonth} {@code Last}, {@code -1} to {@code -7} and weekday ordinals such as {@code 2nd Tue} or
+ * {@code Last Fri}. Years, the time zone and the start and end dates are honoured. As in EJB, a day matches if
+ * {@code dayOfMonth} or {@code dayOfWeek} matches when both are restricted.
+ * <p>
+ * {@link #nextTimeout(long)} walks the bitsets on primitive calendar fields and allocates nothing for fixed-offset
+ * zones; region zones need one offset lookup per direction.
+ * <p>
+ * Migration: {@link #isCronExpressible()} tells whether Spring cron has the same meaning, and
+ * {@link #toSpringCron()} renders that cron expression.
+ */
+public final class CompiledSchedule {
+
+    private static final long NONE = Long.MIN_VALUE;
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final int MAX_SEARCH_YEARS = 400;
+    private static final String[] MONTH_NAMES =
+        {"jan", "feb", "mar", "apr", "may", "jun", "jul", "aug", "sep", "oct", "nov", "dec"};
+    private static final String[] DAY_NAMES = {"sun", "mon", "tue", "wed", "thu", "fri", "sat"};
+    private static final String[] ORDINALS = {"1st", "2nd", "3rd", "4th", "5th"};
+
+    // Day-of-month specs resolved per month: kind in bits 8+, payload below
+    private static final int FIXED = 1 << 8;
+    private static final int LAST = 2 << 8;
+    private static final int NTH_WEEKDAY = 3 << 8;
+    private static final int LAST_WEEKDAY = 4 << 8;
+
+    private final long seconds;
+    private final long minutes;
+    private final long hours;
+    private final long fixedDays;
+    private final int[] dynamicDayStarts;
+    private final int[] dynamicDayEnds;
+    private final boolean anyDayOfMonth;
+    private final long months;
+    private final long daysOfWeek;
+    private final boolean anyDayOfWeek;
+    private final long[] years;
+    private final int firstYear;
+    private final ZoneId zone;
+    private final ZoneRules rules;
+    private final int fixedOffsetSeconds;
+    private final long startMillis;
+    private final long endMillis;
+    private final String[] cronFields;
+
+    private CompiledSchedule(Parser parser, ScheduleExpression expression) {
+        this.seconds = parser.numeric("second", expression.getSecond(), 0, 59, null, 0);
+        this.minutes = parser.numeric("minute", expression.getMinute(), 0, 59, null, 0);
+        this.hours = parser.numeric("hour", expression.getHour(), 0, 23, null, 0);
+        this.months = parser.numeric("month", expression.getMonth(), 1, 12, MONTH_NAMES, 1);
+        long dayOfWeekBits = parser.numeric("dayOfWeek", expression.getDayOfWeek(), 0, 7, DAY_NAMES, 0);
+        // 7 is Sunday as well
+        this.daysOfWeek = (dayOfWeekBits & 0x7F) | (dayOfWeekBits >>> 7 & 1);
+        this.anyDayOfWeek = isWildcard(expression.getDayOfWeek());
+        parser.daysOfMonth(expression.getDayOfMonth());
+        this.fixedDays = parser.fixedDays;
+        this.dynamicDayStarts = Arrays.copyOf(parser.dynamicStarts, parser.dynamicCount);
+        this.dynamicDayEnds = Arrays.copyOf(parser.dynamicEnds, parser.dynamicCount);
+        this.anyDayOfMonth = isWildcard(expression.getDayOfMonth());
+        int[] yearRange = new int[1];
+        this.years = parser.years(expression.getYear(), yearRange);
+        this.firstYear = yearRange[0];
+        try {
+            this.zone = expression.getTimezone() != null && !expression.getTimezone().isBlank()
+                ? ZoneId.of(expression.getTimezone().trim())
+                : ZoneId.systemDefault();
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Invalid timezone '" + expression.getTimezone() + "'", e);
+        }
+        this.rules = zone.getRules();
+        this.fixedOffsetSeconds = rules.isFixedOffset()
+            ? rules.getOffset(Instant.EPOCH).getTotalSeconds()
+            : Integer.MIN_VALUE;
+        this.startMillis = expression.getStart() != null ? expression.getStart().getTime() : Long.MIN_VALUE;
+        this.endMillis = expression.getEnd() != null ? expression.getEnd().getTime() : Long.MAX_VALUE;
+        this.cronFields = cronFields(parser, expression);
+    }
+
+    /**
+     * Compiles the given expression.
+     *
+     * @throws IllegalArgumentException if a field or the time zone is invalid
+     */
+    public static CompiledSchedule compile(ScheduleExpression expression) {
+        return new CompiledSchedule(new Parser(), expression);
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Returns the first timeout strictly after {@code afterEpochMillis}, in epoch milliseconds, or {@code -1} if
+     * the schedule has no further timeout.
+     */
+    public long nextTimeout(long afterEpochMillis) {
+        long after = afterEpochMillis;
+        if (startMillis != Long.MIN_VALUE && after < startMillis) {
+            // start itself is a valid timeout
+            after = startMillis - 1;
+        }
+        long afterSecond = Math.floorDiv(after, 1000);
+        int afterOffset = offsetAtInstant(afterSecond);
+        long local = search(afterSecond + afterOffset + 1);
+        if (local == NONE) {
+            return -1;
+        }
+        long next = (local - offsetAtLocal(local)) * 1000;
+        if (next <= after) {
+            // Local time repeated after a daylight saving transition: take its second occurrence
+            next = (local - afterOffset) * 1000;
+        }
+        return next > endMillis ? -1 : next;
+    }
+
+    /**
+     * Returns whether a Spring cron expression fires at exactly the same times, the time zone apart.
+     * <p>
+     * Not expressible are year restrictions, both day fields restricted (EJB matches either, cron both), and
+     * relative days other than a single {@code Last}, {@code -n} or weekday ordinal.
+     */
+    public boolean isCronExpressible() {
+        return cronFields != null;
+    }
+
+    /**
+     * Returns the equivalent Spring cron expression. Fields Spring cron reads the same way are kept verbatim.
+     *
+     * @throws IllegalStateException if the schedule is not {@linkplain #isCronExpressible() cron-expressible}
+     */
+    public String toSpringCron() {
+        if (cronFields == null) {
+            throw new IllegalStateException("Schedule cannot be expressed as Spring cron");
+        }
+        return String.join(" ", cronFields);
+    }
+
+    /**
+     * Finds the first matching local time at or after {@code localSecond}, in local epoch seconds.
+     */
+    private long search(long localSecond) {
+        long epochDay = Math.floorDiv(localSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(localSecond, SECONDS_PER_DAY);
+        long civil = civilFromDays(epochDay);
+        int year = (int) (civil >> 16);
+        int month = (int) (civil >> 8 & 0xFF);
+        int day = (int) (civil & 0xFF);
+        int hour = secondOfDay / 3600;
+        int minute = secondOfDay / 60 % 60;
+        int second = secondOfDay % 60;
+        int lastYear = year + MAX_SEARCH_YEARS;
+
+        while (year <= lastYear) {
+            if (years != null) {
+                int nextYear = nextYear(year);
+                if (nextYear < 0) {
+                    return NONE;
+                }
+                if (nextYear != year) {
+                    year = nextYear;
+                    month = 1;
+                    day = 1;
+                    hour = minute = second = 0;
+                }
+            }
+            int nextMonth = nextBit(months, month);
+            if (nextMonth < 0) {
+                year++;
+                month = 1;
+                day = 1;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (nextMonth != month) {
+                month = nextMonth;
+                day = 1;
+                hour = minute = second = 0;
+            }
+            int length = lengthOfMonth(year, month);
+            int nextDay = day <= length ? nextBit(dayMask(year, month, length), day) : -1;
+            if (nextDay < 0) {
+                month++;
+                day = 1;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (nextDay != day) {
+                day = nextDay;
+                hour = minute = second = 0;
+            }
+            int nextHour = nextBit(hours, hour);
+            if (nextHour < 0) {
+                day++;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (nextHour != hour) {
+                hour = nextHour;
+                minute = second = 0;
+            }
+            int nextMinute = nextBit(minutes, minute);
+            if (nextMinute < 0) {
+                hour++;
+                minute = second = 0;
+                continue;
+            }
+            if (nextMinute != minute) {
+                minute = nextMinute;
+                second = 0;
+            }
+            int nextSecond = nextBit(seconds, second);
+            if (nextSecond < 0) {
+                minute++;
+                second = 0;
+                continue;
+            }
+            return daysFromCivil(year, month, day) * SECONDS_PER_DAY + hour * 3600L + minute * 60L + nextSecond;
+        }
+        return NONE;
+    }
+
+    /**
+     * Returns the matching days of the given month as bits 1 to 31.
+     */
+    private long dayMask(int year, int month, int length) {
+        long all = (1L << (length + 1)) - 2;
+        if (anyDayOfMonth && anyDayOfWeek) {
+            return all;
+        }
+        int firstDayOfWeek = (int) Math.floorMod(daysFromCivil(year, month, 1) + 4, 7);
+        long byWeekday = 0;
+        if (!anyDayOfWeek) {
+            for (int day = 1; day <= length; day++) {
+                if ((daysOfWeek >>> ((firstDayOfWeek + day - 1) % 7) & 1) != 0) {
+                    byWeekday |= 1L << day;
+                }
+            }
+            if (anyDayOfMonth) {
+                return byWeekday;
+            }
+        }
+        long byDay = fixedDays & all;
+        for (int i = 0; i < dynamicDayStarts.length; i++) {
+            int from = resolveDay(dynamicDayStarts[i], length, firstDayOfWeek);
+            int to = resolveDay(dynamicDayEnds[i], length, firstDayOfWeek);
+            if (from == 0 || to == 0) {
+                continue;
+            }
+            if (from <= to) {
+                byDay |= (1L << (to + 1)) - (1L << from);
+            } else {
+                byDay |= all & -(1L << from);
+                byDay |= (1L << (to + 1)) - 2;
+            }
+        }
+        return anyDayOfWeek ? byDay : byDay | byWeekday;
+    }
+
+    private int nextYear(int year) {
+        int index = Math.max(0, year - firstYear);
+        int word = index >>> 6;
+        if (word >= years.length) {
+            return -1;
+        }
+        long bits = years[word] & (-1L << (index & 63));
+        while (bits == 0) {
+            if (++word >= years.length) {
+                return -1;
+            }
+            bits = years[word];
+        }
+        return firstYear + (word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    private int offsetAtInstant(long epochSecond) {
+        if (fixedOffsetSeconds != Integer.MIN_VALUE) {
+            return fixedOffsetSeconds;
+        }
+        return rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+    }
+
+    /**
+     * Offset of a local time; local times skipped by a transition shift forward, repeated ones use the earlier
+     * offset.
+     */
+    private int offsetAtLocal(long localSecond) {
+        if (fixedOffsetSeconds != Integer.MIN_VALUE) {
+            return fixedOffsetSeconds;
+        }
+        return rules.getOffset(LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC)).getTotalSeconds();
+    }
+
+    private static int resolveDay(int spec, int length, int firstDayOfWeek) {
+        int payload = spec & 0xFF;
+        switch (spec & ~0xFF) {
+            case FIXED:
+                return payload <= length ? payload : 0;
+            case LAST:
+                return length - payload;
+            case NTH_WEEKDAY: {
+                int day = 1 + Math.floorMod((payload & 7) - firstDayOfWeek, 7) + 7 * ((payload >>> 3) - 1);
+                return day <= length ? day : 0;
+            }
+            case LAST_WEEKDAY: {
+                int lastDayOfWeek = (firstDayOfWeek + length - 1) % 7;
+                return length - Math.floorMod(lastDayOfWeek - payload, 7);
+            }
+            default:
+                return 0;
+        }
+    }
+
+    private static int nextBit(long mask, int from) {
+        if (from >= 64) {
+            return -1;
+        }
+        long bits = mask & (-1L << from);
+        return bits == 0 ? -1 : Long.numberOfTrailingZeros(bits);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0 ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Days since 1970-01-01 of a proleptic Gregorian date.
+     */
+    private static long daysFromCivil(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097 + dayOfEra - 719_468;
+    }
+
+    /**
+     * Inverse of {@link #daysFromCivil}, packed as {@code year << 16 | month << 8 | day}.
+     */
+    private static long civilFromDays(long epochDay) {
+        long z = epochDay + 719_468;
+        long era = Math.floorDiv(z, 146_097);
+        long dayOfEra = z - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long mp = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * mp + 2) / 5 + 1;
+        long month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return year << 16 | month << 8 | day;
+    }
+
+    private static boolean isWildcard(String value) {
+        return value == null || "*".equals(value.trim());
+    }
+
+    private String[] cronFields(Parser parser, ScheduleExpression expression) {
+        if (years != null || (!anyDayOfMonth && !anyDayOfWeek)) {
+            return null;
+        }
+        String dayOfMonth;
+        String dayOfWeek;
+        if (dynamicDayStarts.length == 0) {
+            dayOfMonth = field(parser, "dayOfMonth", expression.getDayOfMonth(), fixedDays, 1, 31);
+            dayOfWeek = field(parser, "dayOfWeek", expression.getDayOfWeek(), daysOfWeek, 0, 6);
+        } else if (dynamicDayStarts.length == 1 && fixedDays == 0 && dynamicDayStarts[0] == dynamicDayEnds[0]) {
+            int spec = dynamicDayStarts[0];
+            int payload = spec & 0xFF;
+            switch (spec & ~0xFF) {
+                case LAST:
+                    dayOfMonth = payload == 0 ? "L" : "L-" + payload;
+                    dayOfWeek = "*";
+                    break;
+                case NTH_WEEKDAY:
+                    dayOfMonth = "*";
+                    dayOfWeek = (payload & 7) + "#" + (payload >>> 3);
+                    break;
+                default:
+                    dayOfMonth = "*";
+                    dayOfWeek = payload + "L";
+                    break;
+            }
+        } else {
+            return null;
+        }
+        return new String[] {
+            field(parser, "second", expression.getSecond(), seconds, 0, 59),
+            field(parser, "minute", expression.getMinute(), minutes, 0, 59),
+            field(parser, "hour", expression.getHour(), hours, 0, 23),
+            dayOfMonth,
+            field(parser, "month", expression.getMonth(), months, 1, 12),
+            dayOfWeek
+        };
+    }
+
+    private static String field(Parser parser, String name, String value, long mask, int min, int max) {
+        return parser.rendered.contains(name) ? render(mask, min, max) : value.trim();
+    }
+
+    /**
+     * Renders a bitset as a cron list, collapsing runs into ranges.
+     */
+    private static String render(long mask, int min, int max) {
+        long all = (max == 63 ? -1L : (1L << (max + 1)) - 1) & (-1L << min);
+        if ((mask & all) == all) {
+            return "*";
+        }
+        StringBuilder out = new StringBuilder();
+        int value = nextBit(mask, min);
+        while (value >= 0 && value <= max) {
+            int end = value;
+            while (end < max && (mask >>> (end + 1) & 1) != 0) {
+                end++;
+            }
+            if (out.length() > 0) {
+                out.append(',');
+            }
+            out.append(value);
+            if (end > value) {
+                out.append('-').append(end);
+            }
+            value = nextBit(mask, end + 1);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Parses the fields of one expression. {@link #rendered} collects the fields that must be rendered from their
+     * bitset because Spring cron would read the original text differently.
+     */
+    private static final class Parser {
+        private final Set<String> rendered = new HashSet<>();
+        private long fixedDays;
+        private int[] dynamicStarts = new int[4];
+        private int[] dynamicEnds = new int[4];
+        private int dynamicCount;
+
+        long numeric(String field, String value, int min, int max, String[] names, int nameBase) {
+            String text = requireValue(field, value);
+            if ("*".equals(text)) {
+                return range(min, max, 1, min, max);
+            }
+            if (!text.matches("[0-9A-Za-z*,/\\-]+")) {
+                rendered.add(field);
+            }
+            long mask = 0;
+            for (String part : text.split(",")) {
+                String item = part.trim();
+                int step = 1;
+                int slash = item.indexOf('/');
+                if (slash >= 0) {
+                    step = number(field, value, item.substring(slash + 1), 1, max - min + 1);
+                    item = item.substring(0, slash).trim();
+                }
+                int from;
+                int to;
+                int dash = item.indexOf('-', 1);
+                if ("*".equals(item)) {
+                    from = min;
+                    to = max;
+                } else if (dash > 0) {
+                    from = value(field, value, item.substring(0, dash), min, max, names, nameBase);
+                    to = value(field, value, item.substring(dash + 1), min, max, names, nameBase);
+                    if (from > to) {
+                        // Spring cron rejects wrapping ranges
+                        rendered.add(field);
+                    }
+                } else {
+                    from = value(field, value, item, min, max, names, nameBase);
+                    to = slash >= 0 ? max : from;
+                }
+                mask |= range(from, to, step, min, max);
+            }
+            return mask;
+        }
+
+        void daysOfMonth(String value) {
+            String text = requireValue("dayOfMonth", value);
+            if ("*".equals(text)) {
+                fixedDays = range(1, 31, 1, 1, 31);
+                return;
+            }
+            if (!text.matches("[0-9,/\\-]+") || text.contains(",-") || text.startsWith("-")) {
+                rendered.add("dayOfMonth");
+            }
+            for (String part : text.split(",")) {
+                String item = part.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+                int step = 1;
+                int slash = item.indexOf('/');
+                if (slash >= 0) {
+                    step = number("dayOfMonth", value, item.substring(slash + 1), 1, 31);
+                    item = item.substring(0, slash).trim();
+                }
+                int single = "*".equals(item) ? FIXED | 1 : daySpec(item);
+                int from;
+                int to;
+                if (single != 0) {
+                    from = single;
+                    to = "*".equals(item) || slash >= 0 ? FIXED | 31 : single;
+                } else {
+                    from = 0;
+                    to = 0;
+                    // The separating dash of a range may follow a leading minus of "-3-Last"
+                    for (int dash = item.indexOf('-', 1); dash > 0 && from == 0; dash = item.indexOf('-', dash + 1)) {
+                        int start = daySpec(item.substring(0, dash).trim());
+                        int end = daySpec(item.substring(dash + 1).trim());
+                        if (start != 0 && end != 0) {
+                            from = start;
+                            to = end;
+                        }
+                    }
+                    if (from == 0) {
+                        throw invalid("dayOfMonth", value);
+                    }
+                }
+                if ((from & ~0xFF) == FIXED && (to & ~0xFF) == FIXED) {
+                    if ((from & 0xFF) > (to & 0xFF)) {
+                        rendered.add("dayOfMonth");
+                    }
+                    fixedDays |= range(from & 0xFF, to & 0xFF, step, 1, 31);
+                } else if (step != 1) {
+                    throw invalid("dayOfMonth", value);
+                } else {
+                    if (dynamicCount == dynamicStarts.length) {
+                        dynamicStarts = Arrays.copyOf(dynamicStarts, dynamicCount * 2);
+                        dynamicEnds = Arrays.copyOf(dynamicEnds, dynamicCount * 2);
+                    }
+                    dynamicStarts[dynamicCount] = from;
+                    dynamicEnds[dynamicCount] = to;
+                    dynamicCount++;
+                }
+            }
+        }
+
+        /**
+         * Returns the year bitset, {@code null} for any year, and stores the year of bit 0 in {@code firstYear[0]}.
+         */
+        long[] years(String value, int[] firstYear) {
+            String text = requireValue("year", value);
+            if ("*".equals(text)) {
+                return null;
+            }
+            int[] from = new int[text.split(",").length];
+            int[] to = new int[from.length];
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            String[] parts = text.split(",");
+            for (int i = 0; i < parts.length; i++) {
+                String item = parts[i].trim();
+                int dash = item.indexOf('-', 1);
+                from[i] = number("year", value, dash > 0 ? item.substring(0, dash) : item, 1000, 9999);
+                to[i] = dash > 0 ? number("year", value, item.substring(dash + 1), 1000, 9999) : from[i];
+                if (from[i] > to[i]) {
+                    throw invalid("year", value);
+                }
+                min = Math.min(min, from[i]);
+                max = Math.max(max, to[i]);
+            }
+            long[] bits = new long[((max - min) >>> 6) + 1];
+            for (int i = 0; i < parts.length; i++) {
+                for (int year = from[i]; year <= to[i]; year++) {
+                    bits[(year - min) >>> 6] |= 1L << ((year - min) & 63);
+                }
+            }
+            firstYear[0] = min;
+            return bits;
+        }
+
+        /**
+         * Encodes a single day-of-month value, or returns 0 if the text is none.
+         */
+        private static int daySpec(String item) {
+            if ("last".equals(item)) {
+                return LAST;
+            }
+            if (item.matches("-[1-7]")) {
+                return LAST | (item.charAt(1) - '0');
+            }
+            if (item.matches("[0-9]{1,2}")) {
+                int day = Integer.parseInt(item);
+                return day >= 1 && day <= 31 ? FIXED | day : 0;
+            }
+            int space = item.indexOf(' ');
+            if (space > 0) {
+                int weekday = Arrays.asList(DAY_NAMES).indexOf(item.substring(space + 1));
+                if (weekday < 0) {
+                    return 0;
+                }
+                String ordinal = item.substring(0, space);
+                if ("last".equals(ordinal)) {
+                    return LAST_WEEKDAY | weekday;
+                }
+                int index = Arrays.asList(ORDINALS).indexOf(ordinal);
+                return index >= 0 ? NTH_WEEKDAY | (index + 1) << 3 | weekday : 0;
+            }
+            return 0;
+        }
+
+        private static int value(String field, String original, String text, int min, int max,
+                                 String[] names, int nameBase) {
+            String trimmed = text.trim();
+            if (names != null) {
+                int index = Arrays.asList(names).indexOf(trimmed.toLowerCase(Locale.ROOT));
+                if (index >= 0) {
+                    return index + nameBase;
+                }
+            }
+            return number(field, original, trimmed, min, max);
+        }
+
+        private static int number(String field, String original, String text, int min, int max) {
+            try {
+                int number = Integer.parseInt(text.trim());
+                if (number >= min && number <= max) {
+                    return number;
+                }
+            } catch (NumberFormatException e) {
+                // reported below
+            }
+            throw invalid(field, original);
+        }
+
+        /**
+         * Values from {@code from} to {@code to} in steps, wrapping past {@code max} to {@code min}.
+         */
+        private static long range(int from, int to, int step, int min, int max) {
+            int size = max - min + 1;
+            int span = Math.floorMod(to - from, size);
+            long mask = 0;
+            for (int offset = 0; offset <= span; offset += step) {
+                mask |= 1L << (min + (from - min + offset) % size);
+            }
+            return mask;
+        }
+
+        private static String requireValue(String field, String value) {
+            if (value == null || value.isBlank()) {
+                throw invalid(field, value);
+            }
+            return value.trim();
+        }
+
+        private static IllegalArgumentException invalid(String field, String value) {
+            return new IllegalArgumentException("Invalid " + field + " value '" + value + "'");
+        }
+    }
+}
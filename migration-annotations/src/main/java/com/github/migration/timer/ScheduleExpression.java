@@ -26,8 +26,10 @@
  * new ScheduleExpression().dayOfWeek("Mon").hour("8").minute("0").second("0")
  * // Spring cron: "0 0 8 * * MON"
  * </pre>
+ * {@link CompiledSchedule} evaluates the full EJB syntax and tells whether a Spring cron expression is equivalent.
  *
  * @see com.github.migration.timer.TimerService
+ * @see CompiledSchedule
  */
 public class ScheduleExpression implements Serializable {
 
@@ -16,6 +16,8 @@
  * <p>
  * Migration options:
  * <ul>
+ *   <li>migration-timer-runtime - implements this interface on hashed timing wheels so migrated
+ *       code runs unchanged (persistent timers optionally journaled to local disk)</li>
  *   <li>Spring TaskScheduler - for simple, non-persistent scheduling</li>
  *   <li>Quartz Scheduler - for persistent/clustered scheduling</li>
  * </ul>
@@ -1,29 +1,29 @@
 /**
- * Migration stub types for EJB Timer API.
+ * Migration API for the EJB Timer API.
  * <p>
- * These are compile-time stubs that allow migrated code to compile while
- * being marked for manual review. The classes in this package mirror the
- * EJB Timer API (jakarta.ejb.Timer, TimerService, etc.) but do not provide
- * runtime functionality.
+ * The interfaces in this package mirror the EJB Timer API (jakarta.ejb.Timer, TimerService, etc.), so migrated
+ * timer code keeps its shape after {@code MigrateTimerApiToStubs} has changed its imports from
+ * jakarta.ejb/javax.ejb to com.github.migration.timer. The API is implemented by the migration-timer-runtime
+ * module, which provides the {@code TimerService} bean, fires programmatic and calendar timers and calls the
+ * bean's {@code @Timeout} method.
  * <p>
- * Classes using these types should be annotated with
- * {@link com.github.rewrite.ejb.annotations.NeedsReview} and will require
- * manual migration to either:
- * <ul>
- *   <li>Spring TaskScheduler - for simple, non-persistent scheduling</li>
- *   <li>Quartz Scheduler - for persistent/clustered scheduling</li>
- * </ul>
+ * {@link com.github.migration.timer.CompiledSchedule} evaluates a {@link com.github.migration.timer.ScheduleExpression}
+ * with the full EJB calendar semantics. The runtime uses it to compute timeouts, and the recipes use it to decide
+ * whether an {@code @Schedule} can become a Spring {@code @Scheduled} cron expression.
  * <p>
  * Migration recipes will:
  * <ol>
  *   <li>Change imports from jakarta.ejb/javax.ejb to com.github.migration.timer</li>
- *   <li>Add @NeedsReview annotation with migration guidance</li>
- *   <li>Add @Profile("manual-migration") to disable the bean at runtime</li>
+ *   <li>Add the migration-timer-runtime dependency to the module</li>
+ *   <li>Mark the timer code with a {@code TIMER} {@link com.github.rewrite.ejb.annotations.NeedsReview}, or keep
+ *       the class under {@code @Profile("manual-migration")} when it still needs manual migration, e.g. to
+ *       Quartz for clustered persistent timers</li>
  * </ol>
  *
  * @see com.github.migration.timer.Timer
  * @see com.github.migration.timer.TimerService
  * @see com.github.migration.timer.ScheduleExpression
  * @see com.github.migration.timer.TimerConfig
+ * @see com.github.migration.timer.CompiledSchedule
  */
 package com.github.migration.timer;
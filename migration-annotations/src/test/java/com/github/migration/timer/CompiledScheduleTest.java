@@ -0,0 +1,173 @@
+package com.github.migration.timer;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompiledScheduleTest {
+
+    @Test
+    void parsesValuesListsNamesAndIncrements() {
+        assertThat(timeouts(utc().second("15").minute("0").hour("9, 17"), "2024-01-01T00:00:00Z", 3))
+            .containsExactly("2024-01-01T09:00:15Z", "2024-01-01T17:00:15Z", "2024-01-02T09:00:15Z");
+        assertThat(timeouts(utc().hour("*").minute("*/20"), "2024-01-01T00:00:00Z", 3))
+            .containsExactly("2024-01-01T00:20:00Z", "2024-01-01T00:40:00Z", "2024-01-01T01:00:00Z");
+        assertThat(timeouts(utc().minute("5/30").hour("*"), "2024-01-01T00:00:00Z", 3))
+            .containsExactly("2024-01-01T00:05:00Z", "2024-01-01T00:35:00Z", "2024-01-01T01:05:00Z");
+        assertThat(timeouts(utc().dayOfMonth("1").month("Feb, Aug"), "2024-01-01T00:00:00Z", 3))
+            .containsExactly("2024-02-01T00:00:00Z", "2024-08-01T00:00:00Z", "2025-02-01T00:00:00Z");
+        // 7 is Sunday as well
+        assertThat(timeouts(utc().dayOfWeek("7"), "2024-01-01T00:00:00Z", 2))
+            .containsExactly("2024-01-07T00:00:00Z", "2024-01-14T00:00:00Z");
+    }
+
+    @Test
+    void defaultsToMidnightEveryDayInTheSystemZone() {
+        CompiledSchedule schedule = CompiledSchedule.compile(new ScheduleExpression());
+
+        assertThat(schedule.getZone()).isEqualTo(ZoneId.systemDefault());
+        assertThat(schedule.toSpringCron()).isEqualTo("0 0 0 * * *");
+    }
+
+    @Test
+    void rangesAndWrapAround() {
+        assertThat(timeouts(utc().hour("9-11"), "2024-01-01T10:30:00Z", 2))
+            .containsExactly("2024-01-01T11:00:00Z", "2024-01-02T09:00:00Z");
+        assertThat(timeouts(utc().hour("22-1"), "2024-01-01T00:30:00Z", 3))
+            .containsExactly("2024-01-01T01:00:00Z", "2024-01-01T22:00:00Z", "2024-01-01T23:00:00Z");
+        // Friday to Monday across the week boundary
+        assertThat(timeouts(utc().dayOfWeek("Fri-Mon"), "2024-01-02T00:00:00Z", 4))
+            .containsExactly("2024-01-05T00:00:00Z", "2024-01-06T00:00:00Z", "2024-01-07T00:00:00Z",
+                "2024-01-08T00:00:00Z");
+        // November to February across the year boundary
+        assertThat(timeouts(utc().dayOfMonth("1").month("Nov-Feb"), "2024-03-01T00:00:00Z", 4))
+            .containsExactly("2024-11-01T00:00:00Z", "2024-12-01T00:00:00Z", "2025-01-01T00:00:00Z",
+                "2025-02-01T00:00:00Z");
+        assertThat(timeouts(utc().dayOfMonth("30-2"), "2024-02-27T00:00:00Z", 4))
+            .containsExactly("2024-03-01T00:00:00Z", "2024-03-02T00:00:00Z", "2024-03-30T00:00:00Z",
+                "2024-03-31T00:00:00Z");
+    }
+
+    @Test
+    void lastDaysAndLastWeekdays() {
+        assertThat(timeouts(utc().dayOfMonth("Last"), "2024-01-31T00:00:00Z", 3))
+            .containsExactly("2024-02-29T00:00:00Z", "2024-03-31T00:00:00Z", "2024-04-30T00:00:00Z");
+        assertThat(timeouts(utc().dayOfMonth("Last").year("2023"), "2023-01-31T00:00:00Z", 1))
+            .containsExactly("2023-02-28T00:00:00Z");
+        assertThat(timeouts(utc().dayOfMonth("-1"), "2024-02-01T00:00:00Z", 2))
+            .containsExactly("2024-02-28T00:00:00Z", "2024-03-30T00:00:00Z");
+        assertThat(timeouts(utc().dayOfMonth("Last Fri"), "2024-01-01T00:00:00Z", 3))
+            .containsExactly("2024-01-26T00:00:00Z", "2024-02-23T00:00:00Z", "2024-03-29T00:00:00Z");
+        assertThat(timeouts(utc().dayOfMonth("1st Mon"), "2023-12-31T00:00:00Z", 2))
+            .containsExactly("2024-01-01T00:00:00Z", "2024-02-05T00:00:00Z");
+        // 5th Sunday only exists in some months
+        assertThat(timeouts(utc().dayOfMonth("5th Sun"), "2024-01-01T00:00:00Z", 2))
+            .containsExactly("2024-03-31T00:00:00Z", "2024-06-30T00:00:00Z");
+    }
+
+    @Test
+    void eitherDayFieldMatches() {
+        assertThat(timeouts(utc().dayOfMonth("1,15").dayOfWeek("Sun"), "2024-01-10T00:00:00Z", 4))
+            .containsExactly("2024-01-14T00:00:00Z", "2024-01-15T00:00:00Z", "2024-01-21T00:00:00Z",
+                "2024-01-28T00:00:00Z");
+    }
+
+    @Test
+    void skipsLocalTimesInDaylightSavingGap() {
+        ScheduleExpression newYork = new ScheduleExpression().timezone("America/New_York").hour("2").minute("30");
+
+        // 02:30 does not exist on 2024-03-10 and shifts to 03:30 EDT
+        assertThat(timeouts(newYork, "2024-03-09T00:00:00Z", 3))
+            .containsExactly("2024-03-09T07:30:00Z", "2024-03-10T07:30:00Z", "2024-03-11T06:30:00Z");
+    }
+
+    @Test
+    void firesRepeatedLocalTimeOnceInDaylightSavingOverlap() {
+        ScheduleExpression newYork = new ScheduleExpression().timezone("America/New_York").hour("1").minute("30");
+
+        // 01:30 occurs at 05:30Z (EDT) and 06:30Z (EST) on 2024-11-03; the earlier offset is used
+        assertThat(timeouts(newYork, "2024-11-03T00:00:00Z", 2))
+            .containsExactly("2024-11-03T05:30:00Z", "2024-11-04T06:30:00Z");
+        // Starting inside the repeated hour the second occurrence is next
+        assertThat(timeouts(newYork, "2024-11-03T06:10:00Z", 1))
+            .containsExactly("2024-11-03T06:30:00Z");
+    }
+
+    @Test
+    void honoursYearsStartAndEnd() {
+        ScheduleExpression newYearsNoon = utc().hour("12").dayOfMonth("1").month("Jan").year("2025, 2027");
+        assertThat(timeouts(newYearsNoon, "2024-06-01T00:00:00Z", 3))
+            .containsExactly("2025-01-01T12:00:00Z", "2027-01-01T12:00:00Z");
+
+        ScheduleExpression bounded = utc().hour("6")
+            .start(Date.from(Instant.parse("2024-05-10T06:00:00Z")))
+            .end(Date.from(Instant.parse("2024-05-12T12:00:00Z")));
+        assertThat(timeouts(bounded, "2024-01-01T00:00:00Z", 4))
+            .containsExactly("2024-05-10T06:00:00Z", "2024-05-11T06:00:00Z", "2024-05-12T06:00:00Z");
+    }
+
+    @Test
+    void rendersSpringCron() {
+        assertThat(cron(utc().minute("0").hour("8").dayOfWeek("Mon-Fri"))).isEqualTo("0 0 8 * * Mon-Fri");
+        assertThat(cron(utc().minute("*/15").hour("*"))).isEqualTo("0 */15 * * * *");
+        assertThat(cron(utc().dayOfMonth("Last"))).isEqualTo("0 0 0 L * *");
+        assertThat(cron(utc().dayOfMonth("-3"))).isEqualTo("0 0 0 L-3 * *");
+        assertThat(cron(utc().dayOfMonth("2nd Tue"))).isEqualTo("0 0 0 * * 2#2");
+        assertThat(cron(utc().dayOfMonth("Last Fri"))).isEqualTo("0 0 0 * * 5L");
+        // Spring cron does not wrap ranges, so they are rendered from the bitset
+        assertThat(cron(utc().hour("22-1"))).isEqualTo("0 0 0-1,22-23 * * *");
+        assertThat(cron(utc().dayOfWeek("Fri-Mon"))).isEqualTo("0 0 0 * * 0-1,5-6");
+    }
+
+    @Test
+    void detectsSchedulesCronCannotExpress() {
+        assertThat(CompiledSchedule.compile(utc().hour("8")).isCronExpressible()).isTrue();
+        assertThat(CompiledSchedule.compile(utc().year("2030")).isCronExpressible()).isFalse();
+        assertThat(CompiledSchedule.compile(utc().dayOfMonth("1").dayOfWeek("Mon")).isCronExpressible()).isFalse();
+        assertThat(CompiledSchedule.compile(utc().dayOfMonth("Last, 15")).isCronExpressible()).isFalse();
+        assertThatThrownBy(() -> CompiledSchedule.compile(utc().year("2030")).toSpringCron())
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void rejectsInvalidFields() {
+        assertThatThrownBy(() -> CompiledSchedule.compile(utc().second("60")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("second");
+        assertThatThrownBy(() -> CompiledSchedule.compile(utc().hour("1-")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompiledSchedule.compile(utc().month("Foo")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompiledSchedule.compile(utc().dayOfMonth("6th Mon")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompiledSchedule.compile(utc().dayOfMonth("-8")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompiledSchedule.compile(utc().timezone("Mars/Olympus")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ScheduleExpression utc() {
+        return new ScheduleExpression().timezone("UTC");
+    }
+
+    private static String cron(ScheduleExpression expression) {
+        return CompiledSchedule.compile(expression).toSpringCron();
+    }
+
+    private static List<String> timeouts(ScheduleExpression expression, String after, int count) {
+        CompiledSchedule schedule = CompiledSchedule.compile(expression);
+        List<String> timeouts = new ArrayList<>();
+        long next = Instant.parse(after).toEpochMilli();
+        while (timeouts.size() < count && (next = schedule.nextTimeout(next)) >= 0) {
+            timeouts.add(Instant.ofEpochMilli(next).toString());
+        }
+        return timeouts;
+    }
+}
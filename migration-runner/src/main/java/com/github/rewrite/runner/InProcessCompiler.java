@@ -0,0 +1,161 @@
+package com.github.rewrite.runner;
+
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.maven.tree.MavenResolutionResult;
+import org.openrewrite.maven.tree.Scope;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Compiles the migrated compilation units with the system Java compiler, in the JVM that ran the recipes.
+ * <p>
+ * Sources are handed to javac straight from the LSTs, so a dry run is compiled as well. Class files go to
+ * {@code target/migration-runner/classes} and {@code target/migration-runner/test-classes} of each module and
+ * never mix with the output of the regular build. Modules are compiled in reactor order, each against the
+ * migrated classes of the modules it depends on rather than their jars in the local Maven repository.
+ */
+final class InProcessCompiler {
+
+    private static final String OUTPUT_DIRECTORY = "target/migration-runner";
+
+    private final Path root;
+    private final ModuleClasspath classpath;
+    private final String release;
+
+    InProcessCompiler(Path root, ModuleClasspath classpath, String release) {
+        this.root = root;
+        this.classpath = classpath;
+        this.release = release;
+    }
+
+    /**
+     * Compiles main and test sources of every module.
+     *
+     * @return whether all sources compiled without errors
+     */
+    boolean compile(List<SourceFile> sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("No system Java compiler; run the migration runner on a JDK");
+        }
+
+        ProjectLayout layout = new ProjectLayout(sources);
+        Map<Path, List<J.CompilationUnit>> mainUnits = new LinkedHashMap<>();
+        Map<Path, List<J.CompilationUnit>> testUnits = new LinkedHashMap<>();
+        for (SourceFile source : sources) {
+            if (source instanceof J.CompilationUnit) {
+                Path module = layout.moduleOf(source.getSourcePath());
+                (layout.isTest(source.getSourcePath()) ? testUnits : mainUnits)
+                    .computeIfAbsent(module, m -> new ArrayList<>()).add((J.CompilationUnit) source);
+            }
+        }
+
+        boolean success = true;
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            for (Path module : layout.inReactorOrder(mainUnits.keySet())) {
+                List<Path> mainClasspath = new ArrayList<>(
+                    reactorClasses(layout, module, Scope.Compile, Scope.Provided));
+                mainClasspath.addAll(classpath.main(layout, module));
+                success &= compile(compiler, fileManager, mainUnits.get(module), mainClasspath,
+                    output(module).resolve("classes"), layout.resolution(module));
+            }
+            for (Path module : layout.inReactorOrder(testUnits.keySet())) {
+                List<Path> testClasspath = new ArrayList<>();
+                testClasspath.add(output(module).resolve("classes"));
+                testClasspath.addAll(reactorClasses(layout, module, Scope.Compile, Scope.Provided, Scope.Test));
+                testClasspath.addAll(classpath.test(layout, module));
+                success &= compile(compiler, fileManager, testUnits.get(module), testClasspath,
+                    output(module).resolve("test-classes"), layout.resolution(module));
+            }
+        }
+        return success;
+    }
+
+    private Path output(Path module) {
+        return root.resolve(module).resolve(OUTPUT_DIRECTORY);
+    }
+
+    private List<Path> reactorClasses(ProjectLayout layout, Path module, Scope... scopes) {
+        List<Path> outputs = new ArrayList<>();
+        for (Path dependency : layout.reactorDependencies(module, scopes)) {
+            outputs.add(output(dependency).resolve("classes"));
+        }
+        return outputs;
+    }
+
+    private boolean compile(JavaCompiler compiler, StandardJavaFileManager fileManager, List<J.CompilationUnit> units,
+                            List<Path> classpath, Path output, MavenResolutionResult resolution) throws IOException {
+        Files.createDirectories(output);
+        List<String> options = new ArrayList<>(List.of(
+            "-d", output.toString(),
+            "-classpath", classpath.stream().map(Path::toString).collect(Collectors.joining(File.pathSeparator))));
+        String moduleRelease = release != null ? release : release(resolution);
+        if (moduleRelease != null) {
+            options.add("--release");
+            options.add(moduleRelease);
+        }
+        if (Runtime.version().feature() >= 21) {
+            // JDK 23 stopped running annotation processors (Lombok, MapStruct) found on the classpath by default
+            options.add("-proc:full");
+        }
+
+        List<JavaFileObject> files = new ArrayList<>();
+        for (J.CompilationUnit unit : units) {
+            files.add(new LstSource(root.resolve(unit.getSourcePath()), unit.printAll()));
+        }
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        boolean success = compiler.getTask(null, fileManager, diagnostics, options, null, files).call();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                String file = diagnostic.getSource() == null ? "" : diagnostic.getSource().getName() + ":";
+                System.err.printf("[ERROR] %s%d: %s%n", file, diagnostic.getLineNumber(), diagnostic.getMessage(null));
+            }
+        }
+        System.out.printf("[INFO] Compiled %d sources to %s: %s%n", units.size(), root.relativize(output),
+            success ? "OK" : "FAILED");
+        return success;
+    }
+
+    private static String release(MavenResolutionResult resolution) {
+        if (resolution == null) {
+            return null;
+        }
+        String value = resolution.getPom().getValue("${maven.compiler.release}");
+        return value != null && value.matches("\\d+") ? value : null;
+    }
+
+    /**
+     * Source of a compilation unit as printed from the LST, reported under its path in the project.
+     */
+    static final class LstSource extends SimpleJavaFileObject {
+
+        private final String content;
+
+        LstSource(Path path, String content) {
+            super(path.toUri(), Kind.SOURCE);
+            this.content = content;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return content;
+        }
+    }
+}
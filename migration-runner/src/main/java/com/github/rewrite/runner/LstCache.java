@@ -0,0 +1,293 @@
+package com.github.rewrite.runner;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import org.openrewrite.SourceFile;
+import org.openrewrite.Tree;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.internal.DefaultJavaTypeSignatureBuilder;
+import org.openrewrite.java.marker.JavaSourceSet;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.MethodCall;
+import org.openrewrite.java.tree.TypedTree;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * On-disk cache of the parsed Java sources of a module.
+ * <p>
+ * Type attribution of a compilation unit depends on the classpath and on every other source of its module, so an
+ * entry covers a whole module and is keyed by a fingerprint of the classpath jars and of the content of all its
+ * Java files; a single changed file re-parses the module. The entry is one Jackson document holding all
+ * compilation units, so the {@code JavaType} instances the parser shared across them through its type cache are
+ * written once and stay shared after loading. Smile is used when it is on the runtime classpath, JSON otherwise.
+ * <p>
+ * Entries are read through a read-only memory mapping. Source set markers and file attributes are not stored; the
+ * caller re-attaches them. Paths are written as they are, relative to the project root, not as Jackson's absolute
+ * URIs. An entry is only kept after it has been read back to the same source paths, the same printed source text
+ * and the same type attribution as the freshly parsed units, and any entry that fails to load is treated as a
+ * miss, so the cache can make a run faster but never change its result.
+ */
+final class LstCache {
+
+    static final String DEFAULT_DIRECTORY = "target/rewrite-cache";
+
+    private static final int MAGIC = 0x4C535443; // "LSTC"
+    private static final int VERSION = 1;
+    private static final int FINGERPRINT_LENGTH = 32;
+    private static final int HEADER_LENGTH = 4 + 4 + 1 + FINGERPRINT_LENGTH;
+    private static final TypeReference<List<SourceFile>> SOURCES = new TypeReference<>() {
+    };
+
+    private final Path directory;
+    private final ObjectMapper mapper;
+    private final byte format;
+
+    LstCache(Path directory) {
+        this.directory = directory;
+        JsonFactory smile = smileFactory();
+        this.format = (byte) (smile == null ? 'J' : 'S');
+        this.mapper = mapper(smile == null ? new JsonFactory() : smile);
+    }
+
+    /**
+     * Fingerprints the inputs of parsing a module: the parser and format versions, the classpath entries and the
+     * path and content of every source file. A classpath directory contributes the relative path, size and
+     * modification time of each of its files, so a class file that is added, deleted or renamed changes the
+     * fingerprint as well as an edited one.
+     */
+    static byte[] fingerprint(Path root, List<Path> sources, List<Path> classpath) throws IOException {
+        MessageDigest digest = sha256();
+        update(digest, "v" + VERSION + " rewrite " + Tree.class.getPackage().getImplementationVersion()
+                       + " java " + Runtime.version().feature());
+        for (Path entry : classpath) {
+            update(digest, entry.toString());
+            if (Files.isDirectory(entry)) {
+                List<Path> files;
+                try (Stream<Path> walk = Files.walk(entry)) {
+                    files = walk.filter(Files::isRegularFile).sorted().toList();
+                }
+                for (Path file : files) {
+                    update(digest, entry.relativize(file) + ":" + Files.size(file) + ":" + lastModified(file));
+                }
+            } else if (Files.exists(entry)) {
+                update(digest, Files.size(entry) + ":" + Files.getLastModifiedTime(entry).toMillis());
+            }
+        }
+        List<Path> sorted = new ArrayList<>(sources);
+        sorted.sort(Comparator.naturalOrder());
+        for (Path source : sorted) {
+            update(digest, root.relativize(source).toString());
+            digest.update(Files.readAllBytes(source));
+        }
+        return digest.digest();
+    }
+
+    /**
+     * Returns the cached compilation units of the module, or {@code null} if there is no entry for the fingerprint.
+     */
+    List<SourceFile> load(Path module, byte[] fingerprint) {
+        Path file = entry(module);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < HEADER_LENGTH || buffer.getInt() != MAGIC || buffer.getInt() != VERSION
+                || buffer.get() != format) {
+                return null;
+            }
+            byte[] stored = new byte[FINGERPRINT_LENGTH];
+            buffer.get(stored);
+            if (!Arrays.equals(stored, fingerprint)) {
+                return null;
+            }
+            return mapper.readValue(new ByteBufferBackedInputStream(buffer), SOURCES);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("[WARN] Ignoring LST cache entry " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Stores the freshly parsed compilation units of the module. Modules with parse errors are not cached.
+     */
+    void store(Path module, byte[] fingerprint, List<SourceFile> sources) {
+        List<SourceFile> stripped = new ArrayList<>(sources.size());
+        for (SourceFile source : sources) {
+            if (!(source instanceof J.CompilationUnit)) {
+                return;
+            }
+            SourceFile withoutMarkers = source.withMarkers(source.getMarkers().removeByType(JavaSourceSet.class));
+            stripped.add(withoutMarkers.withFileAttributes(null));
+        }
+
+        Path file = entry(module);
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(directory);
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                DataOutputStream header = new DataOutputStream(out);
+                header.writeInt(MAGIC);
+                header.writeInt(VERSION);
+                header.writeByte(format);
+                header.write(fingerprint);
+                header.flush();
+                mapper.writerFor(SOURCES).writeValue(out, stripped);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (!roundTrips(module, fingerprint, stripped)) {
+                Files.deleteIfExists(file);
+                System.err.println("[WARN] LSTs of module '" + module + "' do not survive serialization; not cached");
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("[WARN] Cannot cache LSTs of module '" + module + "': " + e.getMessage());
+            try {
+                Files.deleteIfExists(temp);
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // a stale entry is rejected by its fingerprint anyway
+            }
+        }
+    }
+
+    private boolean roundTrips(Path module, byte[] fingerprint, List<SourceFile> sources) {
+        List<SourceFile> loaded = load(module, fingerprint);
+        if (loaded == null || loaded.size() != sources.size()) {
+            return false;
+        }
+        for (int i = 0; i < sources.size(); i++) {
+            if (!sources.get(i).getSourcePath().equals(loaded.get(i).getSourcePath())
+                || !sources.get(i).printAll().equals(loaded.get(i).printAll())
+                || !typeSignatures(sources.get(i)).equals(typeSignatures(loaded.get(i)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the signatures of the types, method types and field types of the compilation unit in tree order.
+     */
+    private static List<String> typeSignatures(SourceFile source) {
+        DefaultJavaTypeSignatureBuilder signatures = new DefaultJavaTypeSignatureBuilder();
+        List<String> found = new ArrayList<>();
+        new JavaIsoVisitor<List<String>>() {
+            @Override
+            public J preVisit(J tree, List<String> p) {
+                if (tree instanceof TypedTree) {
+                    add(((TypedTree) tree).getType(), p);
+                }
+                if (tree instanceof MethodCall) {
+                    add(((MethodCall) tree).getMethodType(), p);
+                } else if (tree instanceof J.MethodDeclaration) {
+                    add(((J.MethodDeclaration) tree).getMethodType(), p);
+                } else if (tree instanceof J.Identifier) {
+                    add(((J.Identifier) tree).getFieldType(), p);
+                }
+                return tree;
+            }
+
+            private void add(JavaType type, List<String> p) {
+                p.add(type == null ? "null" : signatures.signature(type));
+            }
+        }.visit(source, found);
+        return found;
+    }
+
+    private Path entry(Path module) {
+        String separator = module.getFileSystem().getSeparator();
+        String name = module.toString().isEmpty() ? "_root" : module.toString().replace(separator, "_");
+        return directory.resolve(name + ".lst");
+    }
+
+    private static ObjectMapper mapper(JsonFactory factory) {
+        ObjectMapper mapper = new ObjectMapper(factory)
+            .findAndRegisterModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            // Jackson writes a Path as an absolute file URI, which turns the relative source paths absolute
+            .registerModule(new SimpleModule("relative-paths")
+                .addSerializer(Path.class, ToStringSerializer.instance)
+                .addDeserializer(Path.class, new PathDeserializer()));
+        // LST classes are immutable values: write their fields, read them through their @JsonCreator constructors
+        return mapper.setVisibility(mapper.getSerializationConfig().getDefaultVisibilityChecker()
+            .withCreatorVisibility(JsonAutoDetect.Visibility.PUBLIC_ONLY)
+            .withGetterVisibility(JsonAutoDetect.Visibility.NONE)
+            .withIsGetterVisibility(JsonAutoDetect.Visibility.NONE)
+            .withFieldVisibility(JsonAutoDetect.Visibility.ANY));
+    }
+
+    private static final class PathDeserializer extends StdDeserializer<Path> {
+
+        PathDeserializer() {
+            super(Path.class);
+        }
+
+        @Override
+        public Path deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return Paths.get(parser.getValueAsString());
+        }
+    }
+
+    private static JsonFactory smileFactory() {
+        try {
+            return (JsonFactory) Class.forName("com.fasterxml.jackson.dataformat.smile.SmileFactory")
+                .getConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.github.rewrite.runner;
+
+import com.github.rewrite.ejb.JavaTemplates;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.Result;
+import org.openrewrite.SourceFile;
+import org.openrewrite.config.Environment;
+import org.openrewrite.config.YamlResourceLoader;
+import org.openrewrite.maven.MavenExecutionContextView;
+import org.openrewrite.maven.MavenSettings;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Runs the EJB to Spring migration in a single JVM.
+ * <p>
+ * The project is parsed once; every {@code --recipe} then runs on the in-memory LSTs left by the previous one,
+ * so phases that must see earlier changes (scanning recipes only see the sources as they were when their run
+ * started) cost a recipe run instead of another Maven invocation that re-resolves, re-parses and re-warms.
+ * A recipe made of phases, like {@code MigrateEjbToSpring}, runs phase by phase and then re-runs only the recipes
+ * whose inputs a later phase changed, see {@link PhasedRecipeRun}. Results are written back to the project, or to
+ * {@code target/rewrite/rewrite.patch} for a dry run, and can be compiled in the same JVM with {@code --compile}.
+ * With {@code --parallel}, sources are scanned and edited on a work-stealing pool, see {@link RecipeExecutor}.
+ * <pre>
+ *   java -cp ... com.github.rewrite.runner.MigrationRunner --project ejb-demo --compile
+ * </pre>
+ * Exit codes: 0 on success, 1 if the migrated sources do not compile or the run fails, 2 on invalid options.
+ *
+ * @see RunnerOptions
+ */
+public final class MigrationRunner {
+
+    private final RunnerOptions options;
+
+    public MigrationRunner(RunnerOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) {
+        RunnerOptions options;
+        try {
+            options = RunnerOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("[ERROR] " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+        try {
+            System.exit(new MigrationRunner(options).run() ? 0 : 1);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("[ERROR] Migration failed: " + e);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Parses the project, runs the recipes, writes the results and, if requested, compiles them.
+     *
+     * @return {@code false} if the migrated sources do not compile
+     */
+    public boolean run() throws IOException {
+        Path root = options.getProjectDir();
+        ExecutionContext ctx = new InMemoryExecutionContext(t -> System.err.println("[WARN] " + t.getMessage()));
+        MavenExecutionContextView.view(ctx).setMavenSettings(MavenSettings.readMavenSettingsFromDisk(ctx));
+        ModuleClasspath classpath = new ModuleClasspath(ctx, options.getClasspath());
+
+        long start = System.nanoTime();
+        LstCache cache = options.getLstCache() == null ? null : new LstCache(options.getLstCache());
+        List<SourceFile> before = new ProjectParser(root, classpath, cache, ctx).parse();
+        log("Parsed %d source files of %s in %d ms", before.size(), root, elapsedMillis(start));
+
+        Environment environment = environment();
+        List<SourceFile> after = before;
+        ForkJoinPool pool = options.getParallelism() > 0 ? new ForkJoinPool(options.getParallelism()) : null;
+        try {
+            RecipeExecutor executor = new RecipeExecutor(ctx, pool);
+            for (String recipeName : options.getRecipes()) {
+                start = System.nanoTime();
+                Recipe recipe = environment.activateRecipes(recipeName);
+                if (PhasedRecipeRun.isPhased(recipe)) {
+                    List<SourceFile> previous = after;
+                    after = new PhasedRecipeRun(recipe, executor).run(after);
+                    log("%s changed %d source files in %d ms", recipeName, changes(previous, after).size(),
+                        elapsedMillis(start));
+                    continue;
+                }
+                List<Result> results = executor.run(recipe, after);
+                after = apply(after, results);
+                log("%s changed %d source files in %d ms", recipeName, results.size(), elapsedMillis(start));
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+        log("%s", JavaTemplates.statistics());
+
+        List<Result> changes = changes(before, after);
+        if (options.isDryRun()) {
+            writePatch(root, changes);
+        } else {
+            write(root, changes);
+        }
+
+        if (!options.isCompile()) {
+            return true;
+        }
+        start = System.nanoTime();
+        boolean compiled = new InProcessCompiler(root, classpath, options.getRelease()).compile(after);
+        log("Compilation %s in %d ms", compiled ? "succeeded" : "failed", elapsedMillis(start));
+        return compiled;
+    }
+
+    private Environment environment() throws IOException {
+        Environment.Builder builder = Environment.builder().scanRuntimeClasspath();
+        Path config = options.getConfig();
+        if (config != null) {
+            try (InputStream in = Files.newInputStream(config)) {
+                builder.load(new YamlResourceLoader(in, config.toUri(), System.getProperties()));
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Replaces the sources a recipe run changed, deleted or generated. A recipe that runs again generates its
+     * files again, so a generated source replaces the source at the same path and takes over its id.
+     */
+    static List<SourceFile> apply(List<SourceFile> sources, List<Result> results) {
+        Map<SourceFile, Result> byBefore = new IdentityHashMap<>();
+        Map<Path, SourceFile> generated = new LinkedHashMap<>();
+        for (Result result : results) {
+            if (result.getBefore() != null) {
+                byBefore.put(result.getBefore(), result);
+            } else {
+                generated.put(result.getAfter().getSourcePath(), result.getAfter());
+            }
+        }
+        List<SourceFile> applied = new ArrayList<>(sources.size() + generated.size());
+        for (SourceFile source : sources) {
+            Result result = byBefore.get(source);
+            SourceFile regenerated = generated.remove(source.getSourcePath());
+            if (regenerated != null) {
+                applied.add(regenerated.withId(source.getId()));
+            } else if (result == null) {
+                applied.add(source);
+            } else if (result.getAfter() != null) {
+                applied.add(result.getAfter());
+            }
+        }
+        applied.addAll(generated.values());
+        return applied;
+    }
+
+    /**
+     * Compares the parsed sources with the sources after the last phase. Sources keep their id across changes,
+     * so a file changed by several phases yields one result.
+     */
+    private static List<Result> changes(List<SourceFile> before, List<SourceFile> after) {
+        Map<UUID, SourceFile> original = new LinkedHashMap<>();
+        for (SourceFile source : before) {
+            original.put(source.getId(), source);
+        }
+        List<Result> changes = new ArrayList<>();
+        for (SourceFile source : after) {
+            SourceFile parsed = original.remove(source.getId());
+            if (parsed == null) {
+                changes.add(new Result(null, source, Collections.emptyList()));
+            } else if (parsed != source && (!parsed.getSourcePath().equals(source.getSourcePath())
+                                            || !parsed.printAll().equals(source.printAll()))) {
+                changes.add(new Result(parsed, source, Collections.emptyList()));
+            }
+        }
+        for (SourceFile deleted : original.values()) {
+            changes.add(new Result(deleted, null, Collections.emptyList()));
+        }
+        return changes;
+    }
+
+    private static void write(Path root, List<Result> changes) throws IOException {
+        for (Result change : changes) {
+            SourceFile before = change.getBefore();
+            SourceFile after = change.getAfter();
+            if (before != null && (after == null || !before.getSourcePath().equals(after.getSourcePath()))) {
+                Files.deleteIfExists(root.resolve(before.getSourcePath()));
+            }
+            if (after != null) {
+                Path file = root.resolve(after.getSourcePath());
+                Files.createDirectories(file.getParent());
+                Charset charset = after.getCharset() == null ? StandardCharsets.UTF_8 : after.getCharset();
+                Files.writeString(file, after.printAll(), charset);
+            }
+        }
+        log("Wrote %d changed files", changes.size());
+    }
+
+    private static void writePatch(Path root, List<Result> changes) throws IOException {
+        Path patch = root.resolve("target/rewrite/rewrite.patch");
+        Files.createDirectories(patch.getParent());
+        StringBuilder diff = new StringBuilder();
+        for (Result change : changes) {
+            diff.append(change.diff()).append('\n');
+        }
+        Files.writeString(patch, diff.toString());
+        log("Wrote %d changed files to %s", changes.size(), root.relativize(patch));
+    }
+
+    static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.println("[INFO] " + String.format(format, args));
+    }
+}
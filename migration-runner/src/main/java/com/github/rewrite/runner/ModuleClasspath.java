@@ -0,0 +1,83 @@
+package com.github.rewrite.runner;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.maven.MavenExecutionContextView;
+import org.openrewrite.maven.cache.LocalMavenArtifactCache;
+import org.openrewrite.maven.tree.MavenResolutionResult;
+import org.openrewrite.maven.tree.ResolvedDependency;
+import org.openrewrite.maven.tree.Scope;
+import org.openrewrite.maven.utilities.MavenArtifactDownloader;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Classpaths of the main and test sources of a module.
+ * <p>
+ * An explicit {@code --classpath} is used for every module as is. Otherwise the dependencies resolved by the
+ * Maven parser are turned into jars, taken from (and downloaded into) the local Maven repository, so a project
+ * that was built before resolves without network access. Dependencies whose jar cannot be found are skipped
+ * with a warning; type attribution then degrades for the types they provide, as it does in the
+ * rewrite-maven-plugin. Dependencies on other modules of the project are left out: a jar of a sibling module in
+ * the local repository is stale or missing, so callers put the sibling's sources or migrated output on the
+ * classpath instead (see {@link ProjectLayout#reactorDependencies}).
+ */
+final class ModuleClasspath {
+
+    private final List<Path> explicitClasspath;
+    private final MavenArtifactDownloader downloader;
+
+    ModuleClasspath(ExecutionContext ctx, List<Path> explicitClasspath) {
+        this.explicitClasspath = explicitClasspath;
+        Path localRepository = Paths.get(System.getProperty("user.home"), ".m2", "repository");
+        this.downloader = new MavenArtifactDownloader(
+            new LocalMavenArtifactCache(localRepository),
+            MavenExecutionContextView.view(ctx).getSettings(),
+            t -> System.err.println("[WARN] " + t.getMessage()));
+    }
+
+    /**
+     * Returns the external compile classpath of the module, including provided dependencies as javac sees them.
+     *
+     * @param module the module directory, see {@link ProjectLayout#moduleOf}
+     */
+    List<Path> main(ProjectLayout layout, Path module) {
+        return jars(layout, module, Scope.Compile, Scope.Provided);
+    }
+
+    /**
+     * Returns the external test classpath of the module.
+     *
+     * @param module the module directory, see {@link ProjectLayout#moduleOf}
+     */
+    List<Path> test(ProjectLayout layout, Path module) {
+        return jars(layout, module, Scope.Compile, Scope.Provided, Scope.Test);
+    }
+
+    private List<Path> jars(ProjectLayout layout, Path module, Scope... scopes) {
+        if (explicitClasspath != null) {
+            return explicitClasspath;
+        }
+        MavenResolutionResult resolution = layout.resolution(module);
+        if (resolution == null) {
+            return List.of();
+        }
+        Set<Path> jars = new LinkedHashSet<>();
+        for (Scope scope : scopes) {
+            for (ResolvedDependency dependency : resolution.getDependencies().getOrDefault(scope, List.of())) {
+                if (!"jar".equals(dependency.getType()) || layout.reactorModule(dependency) != null) {
+                    continue;
+                }
+                Path jar = downloader.downloadArtifact(dependency);
+                if (jar != null) {
+                    jars.add(jar);
+                }
+            }
+        }
+        return new ArrayList<>(jars);
+    }
+}
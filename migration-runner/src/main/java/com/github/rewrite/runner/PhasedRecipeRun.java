@@ -0,0 +1,203 @@
+package com.github.rewrite.runner;
+
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
+import org.openrewrite.Recipe;
+import org.openrewrite.Result;
+import org.openrewrite.ScanningRecipe;
+import org.openrewrite.SourceFile;
+import org.openrewrite.config.CompositeRecipe;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Runs a recipe made of phases, i.e. of recipes tagged {@value #PHASE_TAG} such as those of
+ * {@code MigrateEjbToSpring}.
+ * <p>
+ * Every phase first runs once as a whole, so the recipes of a phase share one run just as they do under
+ * {@code rewrite:run}. A scanning recipe only sees the sources as they were when its run started, and a recipe of
+ * an earlier phase has not seen what later phases changed at all. Instead of running the whole composite again,
+ * each further cycle re-runs only the recipes that {@link RecipeIo read} a kind of file another phase changed
+ * since the recipe last ran: plain recipes on just those files, scanning recipes on all sources because what they
+ * scan spans the project. The run stops after a cycle that changes nothing, or after {@value #MAX_CYCLES} cycles.
+ */
+final class PhasedRecipeRun {
+
+    static final String PHASE_TAG = "migration-phase";
+
+    private static final int MAX_CYCLES = 3;
+
+    private final List<Recipe> phases;
+    private final RecipeExecutor executor;
+
+    /**
+     * Files changed since each phase last ran, by id, and their kinds.
+     */
+    private final List<Set<UUID>> staleSources = new ArrayList<>();
+    private final List<Set<MigrationArtifact>> staleKinds = new ArrayList<>();
+
+    PhasedRecipeRun(Recipe recipe, RecipeExecutor executor) {
+        this.phases = recipe.getRecipeList();
+        this.executor = executor;
+        for (int i = 0; i < phases.size(); i++) {
+            staleSources.add(new HashSet<>());
+            staleKinds.add(EnumSet.noneOf(MigrationArtifact.class));
+        }
+    }
+
+    static boolean isPhased(Recipe recipe) {
+        List<Recipe> children = recipe.getRecipeList();
+        return !children.isEmpty() && children.stream().allMatch(child -> child.getTags().contains(PHASE_TAG));
+    }
+
+    List<SourceFile> run(List<SourceFile> sources) {
+        for (int i = 0; i < phases.size(); i++) {
+            long start = System.nanoTime();
+            // this run sees what the phases before it changed
+            staleSources.get(i).clear();
+            staleKinds.get(i).clear();
+            List<Result> results = executor.run(phases.get(i), sources);
+            sources = MigrationRunner.apply(sources, results);
+            changed(i, results);
+            log("%s changed %d source files in %d ms", phases.get(i).getName(), results.size(),
+                MigrationRunner.elapsedMillis(start));
+        }
+
+        for (int cycle = 2; cycle <= MAX_CYCLES && isStale(); cycle++) {
+            for (int i = 0; i < phases.size(); i++) {
+                sources = rerun(cycle, i, sources);
+            }
+        }
+        if (isStale()) {
+            log("Stopped after %d cycles with changes left for %s", MAX_CYCLES, stalePhases());
+        }
+        return sources;
+    }
+
+    private List<SourceFile> rerun(int cycle, int phase, List<SourceFile> sources) {
+        Set<MigrationArtifact> kinds = staleKinds.get(phase);
+        Set<UUID> ids = staleSources.get(phase);
+        if (kinds.isEmpty()) {
+            return sources;
+        }
+        List<Recipe> members = phases.get(phase).getRecipeList();
+        List<Recipe> stale = new ArrayList<>();
+        for (Recipe member : members) {
+            if (!Collections.disjoint(reads(member), kinds)) {
+                stale.add(member);
+            }
+        }
+        staleSources.set(phase, new HashSet<>());
+        staleKinds.set(phase, EnumSet.noneOf(MigrationArtifact.class));
+        if (stale.isEmpty()) {
+            return sources;
+        }
+
+        long start = System.nanoTime();
+        List<Result> results = new ArrayList<>();
+        int from = 0;
+        while (from < stale.size()) {
+            // consecutive recipes with the same scope share a run, so they still see each other's changes
+            boolean scans = scans(stale.get(from));
+            int to = from + 1;
+            while (to < stale.size() && scans(stale.get(to)) == scans) {
+                to++;
+            }
+            List<Recipe> batch = stale.subList(from, to);
+            Recipe recipe = batch.size() == 1 ? batch.get(0) : new CompositeRecipe(new ArrayList<>(batch));
+            List<SourceFile> scope = scans ? sources : select(sources, ids);
+            List<Result> batchResults = executor.run(recipe, scope);
+            sources = MigrationRunner.apply(sources, batchResults);
+            results.addAll(batchResults);
+            from = to;
+        }
+        changed(phase, results);
+        log("Cycle %d: %s re-ran %d of %d recipes for changed %s files and changed %d source files in %d ms",
+            cycle, phases.get(phase).getName(), stale.size(), members.size(), kinds, results.size(),
+            MigrationRunner.elapsedMillis(start));
+        return sources;
+    }
+
+    /**
+     * Marks the files changed by a phase as stale for every other phase.
+     */
+    private void changed(int phase, List<Result> results) {
+        for (Result result : results) {
+            SourceFile source = result.getAfter() != null ? result.getAfter() : result.getBefore();
+            MigrationArtifact kind = MigrationArtifact.of(source.getSourcePath());
+            for (int i = 0; i < phases.size(); i++) {
+                if (i != phase) {
+                    staleSources.get(i).add(source.getId());
+                    staleKinds.get(i).add(kind);
+                }
+            }
+        }
+    }
+
+    private boolean isStale() {
+        return staleKinds.stream().anyMatch(kinds -> !kinds.isEmpty());
+    }
+
+    private List<String> stalePhases() {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < phases.size(); i++) {
+            if (!staleKinds.get(i).isEmpty()) {
+                names.add(phases.get(i).getName());
+            }
+        }
+        return names;
+    }
+
+    private static List<SourceFile> select(List<SourceFile> sources, Set<UUID> ids) {
+        List<SourceFile> selected = new ArrayList<>();
+        for (SourceFile source : sources) {
+            if (ids.contains(source.getId())) {
+                selected.add(source);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * The kinds of files a recipe reads: those declared by {@link RecipeIo}, else those its recipes read, else all.
+     */
+    static Set<MigrationArtifact> reads(Recipe recipe) {
+        RecipeIo io = recipe.getClass().getAnnotation(RecipeIo.class);
+        if (io != null) {
+            Set<MigrationArtifact> reads = EnumSet.noneOf(MigrationArtifact.class);
+            Collections.addAll(reads, io.reads());
+            return reads;
+        }
+        List<Recipe> children = recipe.getRecipeList();
+        if (children.isEmpty()) {
+            return EnumSet.allOf(MigrationArtifact.class);
+        }
+        Set<MigrationArtifact> reads = EnumSet.noneOf(MigrationArtifact.class);
+        for (Recipe child : children) {
+            reads.addAll(reads(child));
+        }
+        return reads;
+    }
+
+    private static boolean scans(Recipe recipe) {
+        if (recipe instanceof ScanningRecipe) {
+            return true;
+        }
+        for (Recipe child : recipe.getRecipeList()) {
+            if (scans(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.println("[INFO] " + String.format(format, args));
+    }
+}
@@ -0,0 +1,154 @@
+package com.github.rewrite.runner;
+
+import org.openrewrite.SourceFile;
+import org.openrewrite.maven.tree.MavenResolutionResult;
+import org.openrewrite.maven.tree.ResolvedDependency;
+import org.openrewrite.maven.tree.Scope;
+import org.openrewrite.xml.tree.Xml;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Maven modules of a project, keyed by their directory relative to the project root.
+ * <p>
+ * Built from the pom LSTs, so a layout taken after the recipes ran sees the dependencies the migration added.
+ * The modules form the reactor: a dependency on another module of the project is a dependency on its sources,
+ * not on whatever jar of it the local Maven repository holds, and modules are processed in reactor order.
+ */
+final class ProjectLayout {
+
+    private static final Path ROOT = Paths.get("");
+
+    private final Map<Path, MavenResolutionResult> modules = new LinkedHashMap<>();
+    private final Map<String, Path> modulesByArtifact = new LinkedHashMap<>();
+
+    ProjectLayout(Collection<? extends SourceFile> sources) {
+        for (SourceFile source : sources) {
+            if (source instanceof Xml.Document) {
+                source.getMarkers().findFirst(MavenResolutionResult.class).ifPresent(resolution -> {
+                    Path dir = source.getSourcePath().getParent();
+                    Path module = dir == null ? ROOT : dir;
+                    modules.put(module, resolution);
+                    modulesByArtifact.put(artifactKey(resolution.getPom().getGroupId(),
+                        resolution.getPom().getArtifactId()), module);
+                });
+            }
+        }
+    }
+
+    /**
+     * Returns the directory of the innermost module containing the source path; the project root if none does.
+     */
+    Path moduleOf(Path sourcePath) {
+        Path owner = ROOT;
+        int depth = 0;
+        for (Path dir : modules.keySet()) {
+            // the empty root path has one (empty) name element and is no prefix of anything
+            if (!dir.equals(ROOT) && sourcePath.startsWith(dir) && dir.getNameCount() > depth) {
+                owner = dir;
+                depth = dir.getNameCount();
+            }
+        }
+        return owner;
+    }
+
+    /**
+     * Returns the resolved pom of the module directory, or {@code null} for a directory without pom.
+     */
+    MavenResolutionResult resolution(Path moduleDir) {
+        return modules.get(moduleDir);
+    }
+
+    /**
+     * Returns whether the source path belongs to the test sources of its module.
+     */
+    boolean isTest(Path sourcePath) {
+        Path module = moduleOf(sourcePath);
+        Path relative = module.equals(ROOT) ? sourcePath : module.relativize(sourcePath);
+        return relative.startsWith(Paths.get("src", "test"));
+    }
+
+    /**
+     * Returns the module directories so that every module comes after the modules it depends on.
+     */
+    List<Path> reactorOrder() {
+        Set<Path> ordered = new LinkedHashSet<>();
+        for (Path module : modules.keySet()) {
+            addInReactorOrder(module, ordered, new LinkedHashSet<>());
+        }
+        return new ArrayList<>(ordered);
+    }
+
+    /**
+     * Returns the given module directories in reactor order; directories without pom, such as a project root
+     * without one, come last.
+     */
+    List<Path> inReactorOrder(Collection<Path> moduleDirs) {
+        List<Path> ordered = reactorOrder();
+        ordered.retainAll(moduleDirs);
+        for (Path module : moduleDirs) {
+            if (!ordered.contains(module)) {
+                ordered.add(module);
+            }
+        }
+        return ordered;
+    }
+
+    private void addInReactorOrder(Path module, Set<Path> ordered, Set<Path> visiting) {
+        if (ordered.contains(module) || !visiting.add(module)) {
+            // a cycle is a broken build anyway; keep the order it was found in
+            return;
+        }
+        for (Path dependency : dependencyModules(module, Scope.values())) {
+            addInReactorOrder(dependency, ordered, visiting);
+        }
+        ordered.add(module);
+    }
+
+    /**
+     * Returns the modules of the project the module depends on in any of the scopes, directly or transitively,
+     * in reactor order.
+     */
+    List<Path> reactorDependencies(Path moduleDir, Scope... scopes) {
+        Set<Path> dependencies = dependencyModules(moduleDir, scopes);
+        List<Path> ordered = reactorOrder();
+        ordered.retainAll(dependencies);
+        return ordered;
+    }
+
+    private Set<Path> dependencyModules(Path moduleDir, Scope... scopes) {
+        MavenResolutionResult resolution = modules.get(moduleDir);
+        if (resolution == null) {
+            return Set.of();
+        }
+        Set<Path> dependencies = new LinkedHashSet<>();
+        for (Scope scope : scopes) {
+            for (ResolvedDependency dependency : resolution.getDependencies().getOrDefault(scope, List.of())) {
+                Path module = reactorModule(dependency);
+                if (module != null && !module.equals(moduleDir)) {
+                    dependencies.add(module);
+                }
+            }
+        }
+        return dependencies;
+    }
+
+    /**
+     * Returns the directory of the module that builds the dependency, or {@code null} for an external dependency.
+     */
+    Path reactorModule(ResolvedDependency dependency) {
+        return modulesByArtifact.get(artifactKey(dependency.getGroupId(), dependency.getArtifactId()));
+    }
+
+    private static String artifactKey(String groupId, String artifactId) {
+        return groupId + ":" + artifactId;
+    }
+}
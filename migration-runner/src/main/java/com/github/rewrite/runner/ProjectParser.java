@@ -0,0 +1,270 @@
+package com.github.rewrite.runner;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.FileAttributes;
+import org.openrewrite.Parser;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.internal.JavaTypeCache;
+import org.openrewrite.java.marker.JavaSourceSet;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.maven.MavenParser;
+import org.openrewrite.maven.tree.Scope;
+import org.openrewrite.properties.PropertiesParser;
+import org.openrewrite.xml.XmlParser;
+import org.openrewrite.yaml.YamlParser;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Parses a project into LSTs: poms first, so that the Java sources of each module are parsed against the
+ * classpath of that module, then YAML, properties and XML resources.
+ * <p>
+ * Main and test sources of a module are parsed together, so tests attribute the main types from source instead
+ * of from compiled classes that do not exist yet; each compilation unit still gets the {@link JavaSourceSet}
+ * marker of its own source set. Modules are parsed in reactor order, against the modules they depend on rather
+ * than their jars in the local Maven repository, which may be stale or missing: once parsed, the main sources of a
+ * module other modules depend on are compiled to {@code target/migration-runner/parse-classes}, and its dependents
+ * are parsed with that directory on their classpath. javac reads the sibling types from there, and the shared
+ * {@link JavaTypeCache} hands out the types already attributed from the sibling's sources, so every source is
+ * parsed once. Only the sources of a sibling that does not compile are parsed along with each dependent and
+ * dropped afterwards. With an {@link LstCache} a module whose sources, sibling sources and classpath did not change
+ * since the last run is loaded instead of parsed.
+ */
+final class ProjectParser {
+
+    /**
+     * Build output directories, skipped directly under the project root or a module only, so that a package of
+     * the same name is still parsed.
+     */
+    private static final Set<String> OUTPUT_DIRECTORIES = Set.of("target", "build");
+    private static final Set<String> SKIPPED_DIRECTORIES = Set.of("node_modules", ".git", ".idea", ".mvn", ".gradle");
+    private static final String SIBLING_CLASSES = "target/migration-runner/parse-classes";
+    private static final String FINGERPRINT_FILE = ".fingerprint";
+
+    private final Path root;
+    private final ModuleClasspath classpath;
+    private final LstCache cache;
+    private final ExecutionContext ctx;
+    private final JavaTypeCache typeCache = new JavaTypeCache();
+    private final Map<Path, Path> siblingClasses = new HashMap<>();
+
+    /**
+     * @param cache cache of parsed Java sources, or {@code null} to always parse
+     */
+    ProjectParser(Path root, ModuleClasspath classpath, LstCache cache, ExecutionContext ctx) {
+        this.root = root;
+        this.classpath = classpath;
+        this.cache = cache;
+        this.ctx = ctx;
+    }
+
+    List<SourceFile> parse() throws IOException {
+        List<Path> poms = new ArrayList<>();
+        List<Path> javaFiles = new ArrayList<>();
+        List<Path> resources = new ArrayList<>();
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                if (dir.equals(root)) {
+                    return FileVisitResult.CONTINUE;
+                }
+                String name = dir.getFileName().toString();
+                boolean skipped = SKIPPED_DIRECTORIES.contains(name) || OUTPUT_DIRECTORIES.contains(name)
+                    && (dir.getParent().equals(root) || Files.isRegularFile(dir.resolveSibling("pom.xml")));
+                return skipped ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                String name = file.getFileName().toString();
+                if (name.equals("pom.xml")) {
+                    poms.add(file);
+                } else if (name.endsWith(".java")) {
+                    javaFiles.add(file);
+                } else {
+                    resources.add(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+
+        List<SourceFile> sources = new ArrayList<>(
+            MavenParser.builder().build().parse(poms, root, ctx).collect(Collectors.toList()));
+        ProjectLayout layout = new ProjectLayout(sources);
+        sources.addAll(parseJava(javaFiles, layout));
+        sources.addAll(parseResources(resources));
+        return sources;
+    }
+
+    private List<SourceFile> parseJava(List<Path> javaFiles, ProjectLayout layout) throws IOException {
+        Map<Path, List<Path>> filesByModule = new LinkedHashMap<>();
+        for (Path file : javaFiles) {
+            filesByModule.computeIfAbsent(layout.moduleOf(root.relativize(file)), m -> new ArrayList<>()).add(file);
+        }
+
+        Set<Path> dependedOn = new HashSet<>();
+        for (Path module : filesByModule.keySet()) {
+            dependedOn.addAll(layout.reactorDependencies(module, Scope.Compile, Scope.Provided, Scope.Test));
+        }
+
+        List<SourceFile> sources = new ArrayList<>();
+        for (Path module : layout.inReactorOrder(filesByModule.keySet())) {
+            List<Path> files = filesByModule.get(module);
+            List<Path> mainClasspath = classpath.main(layout, module);
+            List<Path> testClasspath = classpath.test(layout, module);
+            JavaSourceSet main = JavaSourceSet.build("main", mainClasspath);
+            JavaSourceSet test = JavaSourceSet.build("test", testClasspath);
+
+            List<Path> fingerprinted = new ArrayList<>(files);
+            List<Path> mainSiblingClasses = new ArrayList<>();
+            List<Path> siblingClasspath = new ArrayList<>();
+            Set<Path> siblingSources = new HashSet<>();
+            for (Path sibling : layout.reactorDependencies(module, Scope.Compile, Scope.Provided, Scope.Test)) {
+                List<Path> siblingFiles = filesByModule.getOrDefault(sibling, List.of()).stream()
+                    .filter(file -> !layout.isTest(root.relativize(file)))
+                    .toList();
+                // the classes are derived from the sibling sources, which the fingerprint covers
+                fingerprinted.addAll(siblingFiles);
+                Path classes = siblingClasses.get(sibling);
+                if (classes == null) {
+                    siblingSources.addAll(siblingFiles);
+                } else {
+                    siblingClasspath.add(classes);
+                    if (layout.reactorDependencies(module, Scope.Compile, Scope.Provided).contains(sibling)) {
+                        mainSiblingClasses.add(classes);
+                    }
+                }
+            }
+            siblingClasspath.addAll(testClasspath);
+
+            byte[] fingerprint = cache == null ? null : LstCache.fingerprint(root, fingerprinted, testClasspath);
+            List<SourceFile> parsed = cache == null ? null : cache.load(module, fingerprint);
+            if (parsed == null) {
+                // siblings that did not compile are parsed along and dropped rather than passed as dependsOn,
+                // whose sources javac fails to enter once an annotation processor such as Lombok is on the classpath
+                List<Path> inputs = new ArrayList<>(files);
+                inputs.addAll(siblingSources);
+                parsed = JavaParser.fromJavaVersion()
+                    .classpath(siblingClasspath)
+                    .typeCache(typeCache)
+                    .logCompilationWarningsAndErrors(false)
+                    .build()
+                    .parse(inputs, root, ctx)
+                    .filter(source -> !siblingSources.contains(root.resolve(source.getSourcePath())))
+                    .collect(Collectors.toList());
+                if (cache != null) {
+                    cache.store(module, fingerprint, parsed);
+                }
+            } else {
+                // the cache stores neither of these
+                parsed.replaceAll(source -> source.withFileAttributes(
+                    FileAttributes.fromPath(root.resolve(source.getSourcePath()))));
+            }
+            if (dependedOn.contains(module)) {
+                mainSiblingClasses.addAll(mainClasspath);
+                compileForDependents(module, parsed, layout, mainSiblingClasses, fingerprint);
+            }
+            for (SourceFile source : parsed) {
+                sources.add(source.withMarkers(
+                    source.getMarkers().add(layout.isTest(source.getSourcePath()) ? test : main)));
+            }
+        }
+        return sources;
+    }
+
+    /**
+     * Compiles the main sources of a module that other modules depend on, for those to be parsed against. Class
+     * files compiled for an unchanged fingerprint are kept. A module whose sources do not compile gets no class
+     * directory, and its dependents parse its sources along with their own.
+     */
+    private void compileForDependents(Path module, List<SourceFile> parsed, ProjectLayout layout,
+                                      List<Path> mainClasspath, byte[] fingerprint) throws IOException {
+        Path output = root.resolve(module).resolve(SIBLING_CLASSES);
+        Path stamp = output.resolve(FINGERPRINT_FILE);
+        if (fingerprint != null && Files.isRegularFile(stamp) && Arrays.equals(Files.readAllBytes(stamp), fingerprint)) {
+            siblingClasses.put(module, output);
+            return;
+        }
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            return;
+        }
+
+        List<JavaFileObject> files = new ArrayList<>();
+        for (SourceFile source : parsed) {
+            if (source instanceof J.CompilationUnit && !layout.isTest(source.getSourcePath())) {
+                files.add(new InProcessCompiler.LstSource(root.resolve(source.getSourcePath()), source.printAll()));
+            }
+        }
+        delete(output);
+        Files.createDirectories(output);
+        List<String> options = new ArrayList<>(List.of("-d", output.toString(), "-parameters", "-nowarn",
+            "-classpath", mainClasspath.stream().map(Path::toString).collect(Collectors.joining(File.pathSeparator))));
+        if (Runtime.version().feature() >= 21) {
+            options.add("-proc:full");
+        }
+        boolean compiled;
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            compiled = compiler.getTask(null, fileManager, diagnostic -> {
+            }, options, null, files).call();
+        }
+        if (compiled) {
+            if (fingerprint != null) {
+                Files.write(stamp, fingerprint);
+            }
+            siblingClasses.put(module, output);
+        } else {
+            delete(output);
+        }
+    }
+
+    private static void delete(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> walk = Files.walk(directory)) {
+            for (Path path : walk.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private List<SourceFile> parseResources(List<Path> resources) {
+        List<Parser> parsers = List.of(new YamlParser(), new PropertiesParser(), new XmlParser());
+        Map<Parser, List<Path>> filesByParser = new LinkedHashMap<>();
+        for (Path file : resources) {
+            for (Parser parser : parsers) {
+                if (parser.accept(file)) {
+                    filesByParser.computeIfAbsent(parser, p -> new ArrayList<>()).add(file);
+                    break;
+                }
+            }
+        }
+
+        List<SourceFile> sources = new ArrayList<>();
+        filesByParser.forEach((parser, files) -> parser.parse(files, root, ctx).forEach(sources::add));
+        return sources;
+    }
+}
@@ -0,0 +1,246 @@
+package com.github.rewrite.runner;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.Result;
+import org.openrewrite.ScanningRecipe;
+import org.openrewrite.SourceFile;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.config.DeclarativeRecipe;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+import org.openrewrite.java.tree.J;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Runs a recipe on a list of sources, either through {@link Recipe#run} or, with a pool, as OpenRewrite cycles
+ * whose per-source work is spread over the pool.
+ * <p>
+ * The parallel run mirrors the cycles of the recipe scheduler: every scanning recipe scans every source, then
+ * generates its files in recipe order, then every recipe edits every source, generated ones included, in recipe
+ * order. Scanning and editing are split by source, each source on one thread; POMs and resources are scanned before
+ * the compilation units so a scanner that looks at both sees the build files first. Like {@link Recipe#run}, it runs
+ * another cycle, up to {@value #MAX_CYCLES}, while a recipe that {@link Recipe#causesAnotherCycle() asks for one}
+ * changed something. Accumulators of the recipes of this project are safe for concurrent scanning and sort what they
+ * collected in {@code generate}, so the result does not depend on the number of threads. Every source task gets an
+ * {@link ExecutionContext} of its own that starts with the messages of the run's context and reports errors to its
+ * handler, which must therefore be thread-safe; messages a recipe puts while scanning or editing one source stay
+ * with that task, so recipes keep cross-file state in their accumulators. Declarative recipes with preconditions, which the cycle cannot
+ * reproduce, run through {@link Recipe#run} instead.
+ */
+final class RecipeExecutor {
+
+    private static final String DECLARATIVE_INTERNALS = DeclarativeRecipe.class.getName() + "$";
+
+    /**
+     * Cycles {@link Recipe#run} runs at most.
+     */
+    static final int MAX_CYCLES = 3;
+
+    private final ExecutionContext ctx;
+    private final ForkJoinPool pool;
+
+    /**
+     * @param pool pool to scan and edit sources on, or {@code null} to run recipes through {@link Recipe#run}
+     */
+    RecipeExecutor(ExecutionContext ctx, ForkJoinPool pool) {
+        this.ctx = ctx;
+        this.pool = pool;
+    }
+
+    List<Result> run(Recipe recipe, List<SourceFile> sources) {
+        List<Recipe> recipes = new ArrayList<>();
+        flatten(recipe, recipes);
+        if (pool == null || !parallelizable(recipes)) {
+            return recipe.run(new InMemoryLargeSourceSet(sources), ctx).getChangeset().getAllResults();
+        }
+
+        List<SourceFile> after = sources;
+        for (int cycle = 1; cycle <= MAX_CYCLES; cycle++) {
+            Set<Recipe> changedBy = ConcurrentHashMap.newKeySet();
+            after = cycle(recipes, after, changedBy);
+            if (changedBy.stream().noneMatch(Recipe::causesAnotherCycle)) {
+                break;
+            }
+        }
+
+        Map<UUID, SourceFile> afterById = new HashMap<>();
+        for (SourceFile source : after) {
+            afterById.put(source.getId(), source);
+        }
+        List<Result> results = new ArrayList<>();
+        Set<UUID> before = new HashSet<>();
+        for (SourceFile source : sources) {
+            before.add(source.getId());
+            SourceFile edited = afterById.get(source.getId());
+            if (edited != source) {
+                results.add(new Result(source, edited, Collections.emptyList()));
+            }
+        }
+        for (SourceFile source : after) {
+            if (!before.contains(source.getId())) {
+                results.add(new Result(null, source, Collections.emptyList()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Runs one cycle: scans, generates and edits.
+     *
+     * @return the sources after the cycle, generated ones at the end and deleted ones left out
+     */
+    private List<SourceFile> cycle(List<Recipe> recipes, List<SourceFile> sources, Set<Recipe> changedBy) {
+        Map<Recipe, Object> accumulators = new IdentityHashMap<>();
+        for (Recipe member : recipes) {
+            if (member instanceof ScanningRecipe<?> scanning) {
+                accumulators.put(member, scanning.getInitialValue(ctx));
+            }
+        }
+        if (!accumulators.isEmpty()) {
+            List<SourceFile> buildFiles = new ArrayList<>();
+            List<SourceFile> compilationUnits = new ArrayList<>();
+            for (SourceFile source : sources) {
+                (source instanceof J.CompilationUnit ? compilationUnits : buildFiles).add(source);
+            }
+            inParallel(buildFiles, source -> scan(recipes, accumulators, source));
+            inParallel(compilationUnits, source -> scan(recipes, accumulators, source));
+        }
+
+        List<SourceFile> generated = new ArrayList<>();
+        for (Recipe member : recipes) {
+            if (accumulators.containsKey(member)) {
+                List<SourceFile> files = generate((ScanningRecipe<?>) member, accumulators.get(member));
+                if (!files.isEmpty()) {
+                    changedBy.add(member);
+                    generated.addAll(files);
+                }
+            }
+        }
+
+        List<SourceFile> after = new ArrayList<>();
+        after.addAll(inParallel(sources, source -> edit(recipes, accumulators, source, changedBy)));
+        after.addAll(inParallel(generated, source -> edit(recipes, accumulators, source, changedBy)));
+        after.removeIf(Objects::isNull);
+        return after;
+    }
+
+    private Void scan(List<Recipe> recipes, Map<Recipe, Object> accumulators, SourceFile source) {
+        ExecutionContext ctx = workerContext();
+        for (Recipe member : recipes) {
+            if (accumulators.containsKey(member)) {
+                try {
+                    TreeVisitor<?, ExecutionContext> scanner = scanner((ScanningRecipe<?>) member,
+                        accumulators.get(member));
+                    if (scanner.isAcceptable(source, ctx)) {
+                        scanner.visit(source, ctx);
+                    }
+                } catch (RuntimeException e) {
+                    ctx.getOnError().accept(e);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Applies the visitors of all recipes to a source, in recipe order.
+     *
+     * @return the edited source, the source itself if no recipe changed it, or {@code null} if one deleted it
+     */
+    private SourceFile edit(List<Recipe> recipes, Map<Recipe, Object> accumulators, SourceFile source,
+                            Set<Recipe> changedBy) {
+        ExecutionContext ctx = workerContext();
+        SourceFile after = source;
+        for (Recipe member : recipes) {
+            try {
+                TreeVisitor<?, ExecutionContext> visitor = accumulators.containsKey(member)
+                    ? visitor((ScanningRecipe<?>) member, accumulators.get(member))
+                    : member.getVisitor();
+                if (visitor.isAcceptable(after, ctx)) {
+                    Tree visited = visitor.visit(after, ctx);
+                    if (visited != after) {
+                        changedBy.add(member);
+                    }
+                    if (visited == null) {
+                        return null;
+                    }
+                    after = (SourceFile) visited;
+                }
+            } catch (RuntimeException e) {
+                ctx.getOnError().accept(e);
+            }
+        }
+        return after;
+    }
+
+    /**
+     * Context for the work on one source: a copy of the run's messages and the run's error handler.
+     */
+    private ExecutionContext workerContext() {
+        InMemoryExecutionContext worker = new InMemoryExecutionContext(ctx.getOnError());
+        ctx.getMessages().forEach(worker::putMessage);
+        return worker;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> TreeVisitor<?, ExecutionContext> scanner(ScanningRecipe<T> recipe, Object acc) {
+        return recipe.getScanner((T) acc);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<SourceFile> generate(ScanningRecipe<T> recipe, Object acc) {
+        try {
+            return new ArrayList<>(recipe.generate((T) acc, ctx));
+        } catch (RuntimeException e) {
+            ctx.getOnError().accept(e);
+            return Collections.emptyList();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> TreeVisitor<?, ExecutionContext> visitor(ScanningRecipe<T> recipe, Object acc) {
+        return recipe.getVisitor((T) acc);
+    }
+
+    /**
+     * Maps the sources on the pool, keeping their order.
+     */
+    private <R> List<R> inParallel(List<SourceFile> sources, Function<SourceFile, R> task) {
+        if (sources.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return pool.submit(() -> sources.parallelStream().map(task).collect(Collectors.toList())).join();
+    }
+
+    private static void flatten(Recipe recipe, List<Recipe> recipes) {
+        recipes.add(recipe);
+        for (Recipe child : recipe.getRecipeList()) {
+            flatten(child, recipes);
+        }
+    }
+
+    private static boolean parallelizable(List<Recipe> recipes) {
+        for (Recipe recipe : recipes) {
+            if (recipe.getClass().getName().startsWith(DECLARATIVE_INTERNALS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
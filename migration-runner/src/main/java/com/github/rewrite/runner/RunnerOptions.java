@@ -0,0 +1,178 @@
+package com.github.rewrite.runner;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Command line options of the {@link MigrationRunner}.
+ * <pre>
+ *   --project &lt;dir&gt;          project root (default: working directory)
+ *   --recipe &lt;name&gt;           recipe to run; repeat for phases that must see the output of earlier ones
+ *                             (default: com.github.rewrite.ejb.MigrateEjbToSpringPhased)
+ *   --config &lt;file&gt;           additional declarative recipes (default: &lt;project&gt;/rewrite.yml when present)
+ *   --classpath &lt;paths&gt;       parser and compiler classpath; skips Maven dependency resolution
+ *   --classpath-file &lt;file&gt;   like --classpath, read from a file (e.g. mvn dependency:build-classpath output)
+ *   --dry-run                 write target/rewrite/rewrite.patch instead of changing the sources
+ *   --compile                 compile the migrated sources with javax.tools
+ *   --release &lt;version&gt;       javac --release (default: maven.compiler.release of each module)
+ *   --lst-cache &lt;dir&gt;        cache of parsed Java sources (default: &lt;project&gt;/target/rewrite-cache)
+ *   --no-lst-cache            always parse the Java sources
+ *   --parallel [threads]      scan and edit sources on a work-stealing pool (default: one thread per core)
+ * </pre>
+ */
+public final class RunnerOptions {
+
+    static final String DEFAULT_RECIPE = "com.github.rewrite.ejb.MigrateEjbToSpringPhased";
+
+    private Path projectDir = Paths.get("").toAbsolutePath();
+    private final List<String> recipes = new ArrayList<>();
+    private Path config;
+    private List<Path> classpath;
+    private boolean dryRun;
+    private boolean compile;
+    private String release;
+    private Path lstCache;
+    private boolean lstCacheDisabled;
+    private int parallelism;
+
+    private RunnerOptions() {
+    }
+
+    /**
+     * Parses the command line.
+     *
+     * @throws IllegalArgumentException on unknown options or missing option values
+     */
+    public static RunnerOptions parse(String... args) {
+        RunnerOptions options = new RunnerOptions();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--project" -> options.projectDir = Paths.get(value(args, ++i, arg)).toAbsolutePath().normalize();
+                case "--recipe" -> options.recipes.add(value(args, ++i, arg));
+                case "--config" -> options.config = Paths.get(value(args, ++i, arg)).toAbsolutePath();
+                case "--classpath" -> options.classpath = splitClasspath(value(args, ++i, arg));
+                case "--classpath-file" -> options.classpath = readClasspath(Paths.get(value(args, ++i, arg)));
+                case "--dry-run" -> options.dryRun = true;
+                case "--compile" -> options.compile = true;
+                case "--release" -> options.release = value(args, ++i, arg);
+                case "--lst-cache" -> options.lstCache = Paths.get(value(args, ++i, arg)).toAbsolutePath();
+                case "--no-lst-cache" -> options.lstCacheDisabled = true;
+                case "--parallel" -> {
+                    if (i + 1 < args.length && !args[i + 1].startsWith("--")) {
+                        options.parallelism = threads(args[++i]);
+                    } else {
+                        options.parallelism = Runtime.getRuntime().availableProcessors();
+                    }
+                }
+                default -> throw new IllegalArgumentException("Unknown option '" + arg + "'");
+            }
+        }
+        if (options.recipes.isEmpty()) {
+            options.recipes.add(DEFAULT_RECIPE);
+        }
+        if (options.config == null && Files.isRegularFile(options.projectDir.resolve("rewrite.yml"))) {
+            options.config = options.projectDir.resolve("rewrite.yml");
+        }
+        if (options.lstCache == null) {
+            options.lstCache = options.projectDir.resolve(LstCache.DEFAULT_DIRECTORY);
+        }
+        return options;
+    }
+
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length || args[index].startsWith("--")) {
+            throw new IllegalArgumentException("Option '" + option + "' requires a value");
+        }
+        return args[index];
+    }
+
+    private static int threads(String value) {
+        try {
+            int threads = Integer.parseInt(value);
+            if (threads > 0) {
+                return threads;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException("Option '--parallel' requires a positive number of threads, got '"
+                                           + value + "'");
+    }
+
+    private static List<Path> readClasspath(Path file) {
+        try {
+            return splitClasspath(Files.readString(file).trim());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read classpath file " + file, e);
+        }
+    }
+
+    private static List<Path> splitClasspath(String classpath) {
+        List<Path> paths = new ArrayList<>();
+        for (String entry : classpath.split(File.pathSeparator)) {
+            if (!entry.isBlank()) {
+                paths.add(Paths.get(entry.trim()));
+            }
+        }
+        return paths;
+    }
+
+    public Path getProjectDir() {
+        return projectDir;
+    }
+
+    public List<String> getRecipes() {
+        return Collections.unmodifiableList(recipes);
+    }
+
+    /**
+     * Returns the declarative recipe file to load in addition to the runtime classpath, or {@code null}.
+     */
+    public Path getConfig() {
+        return config;
+    }
+
+    /**
+     * Returns the explicit classpath, or {@code null} to resolve it from the Maven model of each module.
+     */
+    public List<Path> getClasspath() {
+        return classpath;
+    }
+
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    public boolean isCompile() {
+        return compile;
+    }
+
+    /**
+     * Returns the explicit javac release, or {@code null} to take it from the module.
+     */
+    public String getRelease() {
+        return release;
+    }
+
+    /**
+     * Returns the directory of the LST cache, or {@code null} if parsed sources are not cached.
+     */
+    public Path getLstCache() {
+        return lstCacheDisabled ? null : lstCache;
+    }
+
+    /**
+     * Returns the number of threads to scan and edit sources on, or {@code 0} to run recipes one source at a time.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+}
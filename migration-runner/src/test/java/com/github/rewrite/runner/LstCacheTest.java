@@ -0,0 +1,171 @@
+package com.github.rewrite.runner;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LstCacheTest {
+
+    @TempDir
+    Path project;
+
+    private Path order;
+    private Path invoice;
+    private Path classes;
+    private Path jar;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        order = write("src/main/java/com/example/Order.java", "package com.example; class Order {}");
+        invoice = write("src/main/java/com/example/Invoice.java", "package com.example; class Invoice {}");
+        classes = project.resolve("sibling/target/classes");
+        write("sibling/target/classes/com/example/Customer.class", "customer");
+        write("sibling/target/classes/com/example/Address.class", "address");
+        jar = write("lib/api.jar", "jar");
+    }
+
+    @Test
+    void unchangedInputsKeepTheFingerprint() throws IOException {
+        assertThat(fingerprint(List.of(order, invoice))).isEqualTo(fingerprint(List.of(invoice, order)));
+    }
+
+    @Test
+    void editedSourceChangesTheFingerprint() throws IOException {
+        byte[] before = fingerprint(List.of(order, invoice));
+
+        Files.writeString(order, "package com.example; class Order { int id; }");
+
+        assertThat(fingerprint(List.of(order, invoice))).isNotEqualTo(before);
+    }
+
+    @Test
+    void deletedSourceChangesTheFingerprint() throws IOException {
+        byte[] before = fingerprint(List.of(order, invoice));
+
+        Files.delete(invoice);
+
+        assertThat(fingerprint(List.of(order))).isNotEqualTo(before);
+    }
+
+    @Test
+    void deletedClassFileOfClasspathDirectoryChangesTheFingerprint() throws IOException {
+        byte[] before = fingerprint(List.of(order, invoice));
+
+        // Customer.class is not newer than Address.class, so the newest modification time stays the same
+        Files.delete(classes.resolve("com/example/Customer.class"));
+
+        assertThat(fingerprint(List.of(order, invoice))).isNotEqualTo(before);
+    }
+
+    @Test
+    void renamedClassFileOfClasspathDirectoryChangesTheFingerprint() throws IOException {
+        byte[] before = fingerprint(List.of(order, invoice));
+
+        Path customer = classes.resolve("com/example/Customer.class");
+        Files.move(customer, customer.resolveSibling("Client.class"));
+
+        assertThat(fingerprint(List.of(order, invoice))).isNotEqualTo(before);
+    }
+
+    @Test
+    void changedOrRemovedClasspathJarChangesTheFingerprint() throws IOException {
+        byte[] before = fingerprint(List.of(order, invoice));
+
+        Files.writeString(jar, "changed jar");
+        byte[] changed = fingerprint(List.of(order, invoice));
+        assertThat(changed).isNotEqualTo(before);
+
+        Files.delete(jar);
+        assertThat(fingerprint(List.of(order, invoice))).isNotEqualTo(changed);
+    }
+
+    @Test
+    void entryOfAnotherFingerprintIsAMiss() throws IOException {
+        LstCache cache = new LstCache(project.resolve(LstCache.DEFAULT_DIRECTORY));
+        byte[] before = fingerprint(List.of(order, invoice));
+        cache.store(Path.of(""), before, List.of());
+        assertThat(cache.load(Path.of(""), before)).isEmpty();
+
+        Files.writeString(order, "package com.example; class Order { int id; }");
+
+        assertThat(cache.load(Path.of(""), fingerprint(List.of(order, invoice)))).isNull();
+    }
+
+    @Test
+    void loadsTheStoredCompilationUnitsWithTheirTypes() throws IOException {
+        List<SourceFile> parsed = JavaParser.fromJavaVersion().build().parse(new InMemoryExecutionContext(),
+            """
+                package com.example;
+
+                import java.util.ArrayList;
+                import java.util.List;
+
+                public class Order {
+                    private final List<Invoice> invoices = new ArrayList<>();
+
+                    public void add(Invoice invoice) {
+                        invoices.add(invoice);
+                    }
+                }
+                """,
+            """
+                package com.example;
+
+                public class Invoice {
+                    String number() {
+                        return String.valueOf(42);
+                    }
+                }
+                """
+        ).toList();
+        assertThat(parsed).allMatch(J.CompilationUnit.class::isInstance);
+        LstCache cache = new LstCache(project.resolve(LstCache.DEFAULT_DIRECTORY));
+        byte[] fingerprint = fingerprint(List.of(order, invoice));
+
+        cache.store(Path.of(""), fingerprint, parsed);
+        List<SourceFile> loaded = cache.load(Path.of(""), fingerprint);
+
+        assertThat(loaded).isNotNull().hasSize(2);
+        for (int i = 0; i < parsed.size(); i++) {
+            assertThat(loaded.get(i).getSourcePath()).isEqualTo(parsed.get(i).getSourcePath());
+            assertThat(loaded.get(i).printAll()).isEqualTo(parsed.get(i).printAll());
+        }
+        J.CompilationUnit orderUnit = (J.CompilationUnit) loaded.get(0);
+        J.VariableDeclarations invoices = (J.VariableDeclarations) orderUnit.getClasses().get(0).getBody().getStatements().get(0);
+        assertThat(TypeUtils.asParameterized(invoices.getType())).satisfies(list -> {
+            assertThat(list.getFullyQualifiedName()).isEqualTo("java.util.List");
+            assertThat(TypeUtils.asFullyQualified(list.getTypeParameters().get(0)))
+                .isSameAs(((J.CompilationUnit) loaded.get(1)).getClasses().get(0).getType());
+        });
+        J.MethodDeclaration add = (J.MethodDeclaration) orderUnit.getClasses().get(0).getBody().getStatements().get(1);
+        JavaType.Method addType = add.getMethodType();
+        assertThat(addType).isNotNull();
+        assertThat(addType.getDeclaringType().getFullyQualifiedName()).isEqualTo("com.example.Order");
+        assertThat(TypeUtils.asFullyQualified(addType.getParameterTypes().get(0)).getFullyQualifiedName())
+            .isEqualTo("com.example.Invoice");
+    }
+
+    private byte[] fingerprint(List<Path> sources) throws IOException {
+        return LstCache.fingerprint(project, sources, List.of(classes, jar));
+    }
+
+    private Path write(String path, String content) throws IOException {
+        Path file = project.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+        return file;
+    }
+}
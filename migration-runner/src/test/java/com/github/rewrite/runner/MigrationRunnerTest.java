@@ -0,0 +1,333 @@
+package com.github.rewrite.runner;
+
+import com.github.rewrite.ejb.MigrateStatelessToService;
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.ChangeType;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MigrationRunnerTest {
+
+    private static final String ORDER_SERVICE = """
+        package com.example;
+
+        import jakarta.ejb.Stateless;
+
+        @Stateless
+        public class OrderService {
+        }
+        """;
+
+    @TempDir
+    Path project;
+
+    private Path source;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        source = project.resolve("src/main/java/com/example/OrderService.java");
+        Files.createDirectories(source.getParent());
+        Files.writeString(source, ORDER_SERVICE);
+    }
+
+    @Test
+    void writesMigratedSourcesBackToTheProject() throws IOException {
+        boolean success = new MigrationRunner(options()).run();
+
+        assertThat(success).isTrue();
+        assertThat(Files.readString(source))
+            .contains("import org.springframework.stereotype.Service;")
+            .contains("@Service")
+            .doesNotContain("Stateless");
+    }
+
+    @Test
+    void dryRunWritesPatchAndLeavesSourcesUntouched() throws IOException {
+        boolean success = new MigrationRunner(options("--dry-run")).run();
+
+        assertThat(success).isTrue();
+        assertThat(Files.readString(source)).isEqualTo(ORDER_SERVICE);
+        assertThat(Files.readString(project.resolve("target/rewrite/rewrite.patch")))
+            .contains("src/main/java/com/example/OrderService.java")
+            .contains("+@Service")
+            .contains("-@Stateless");
+    }
+
+    @Test
+    void parallelRunMigratesLikeSequentialRun() throws IOException {
+        boolean success = new MigrationRunner(options("--parallel", "4")).run();
+
+        assertThat(success).isTrue();
+        assertThat(Files.readString(source))
+            .contains("import org.springframework.stereotype.Service;")
+            .contains("@Service")
+            .doesNotContain("Stateless");
+    }
+
+    @Test
+    void secondRunOnUnchangedSourcesLoadsCachedLsts() throws IOException {
+        new MigrationRunner(options("--dry-run")).run();
+        Path entry = project.resolve("target/rewrite-cache/_root.lst");
+        assertThat(entry).isRegularFile();
+        long cachedAt = Files.getLastModifiedTime(entry).toMillis();
+
+        boolean success = new MigrationRunner(options()).run();
+
+        assertThat(success).isTrue();
+        assertThat(Files.getLastModifiedTime(entry).toMillis()).isEqualTo(cachedAt);
+        assertThat(Files.readString(source)).contains("@Service").doesNotContain("Stateless");
+    }
+
+    @Test
+    void runsRecipeMadeOfPhasesPhaseByPhase() throws IOException {
+        Files.writeString(project.resolve("rewrite.yml"), """
+            type: specs.openrewrite.org/v1beta/recipe
+            name: com.example.Phased
+            recipeList:
+              - com.example.FirstPhase
+              - com.example.SecondPhase
+            ---
+            type: specs.openrewrite.org/v1beta/recipe
+            name: com.example.FirstPhase
+            tags:
+              - migration-phase
+            recipeList:
+              - com.github.rewrite.ejb.MigrateStatelessToService
+            ---
+            type: specs.openrewrite.org/v1beta/recipe
+            name: com.example.SecondPhase
+            tags:
+              - migration-phase
+            recipeList:
+              - com.github.rewrite.ejb.RenameServiceNameToValue
+            """);
+        RunnerOptions options = RunnerOptions.parse("--project", project.toString(), "--recipe", "com.example.Phased",
+            "--classpath", System.getProperty("java.class.path"));
+
+        boolean success = new MigrationRunner(options).run();
+
+        assertThat(success).isTrue();
+        assertThat(Files.readString(source)).contains("@Service").doesNotContain("Stateless");
+    }
+
+    @Test
+    void compilesModulesAgainstTheirMigratedSiblings() throws IOException {
+        writeReactor("""
+            package com.example.core;
+
+            import jakarta.ejb.Stateless;
+
+            @Stateless
+            public class Greeter {
+                public String greet() {
+                    return "hello";
+                }
+            }
+            """, """
+            package com.example.app;
+
+            import com.example.core.Greeter;
+
+            public class Welcome {
+                private final Greeter greeter = new Greeter();
+
+                public String welcome() {
+                    return greeter.greet();
+                }
+            }
+            """);
+
+        boolean success = new MigrationRunner(options("--compile", "--no-lst-cache")).run();
+
+        assertThat(success).isTrue();
+        assertThat(project.resolve("core/src/main/java/com/example/core/Greeter.java")).content().contains("@Service");
+        assertThat(project.resolve("core/target/migration-runner/classes/com/example/core/Greeter.class"))
+            .isRegularFile();
+        assertThat(project.resolve("app/target/migration-runner/classes/com/example/app/Welcome.class"))
+            .isRegularFile();
+    }
+
+    @Test
+    void attributesTypesOfSiblingModulesFromTheirCompiledSources() throws IOException {
+        writeReactor("""
+            package com.example.core;
+
+            public class Greeter {
+            }
+            """, """
+            package com.example.app;
+
+            import com.example.core.Greeter;
+
+            public class Welcome {
+                Greeter greeter;
+            }
+            """);
+
+        List<SourceFile> sources = parseProject();
+
+        assertThat(TypeUtils.isOfClassType(firstFieldType(sources, "Welcome.java"), "com.example.core.Greeter")).isTrue();
+        assertThat(sources).filteredOn(s -> s.getSourcePath().endsWith("Greeter.java")).hasSize(1);
+        assertThat(project.resolve("core/target/migration-runner/parse-classes/com/example/core/Greeter.class"))
+            .isRegularFile();
+        assertThat(project.resolve("app/target/migration-runner/parse-classes")).doesNotExist();
+    }
+
+    @Test
+    void attributesTypesOfSiblingModulesThatDoNotCompileFromTheirSources() throws IOException {
+        writeReactor("""
+            package com.example.core;
+
+            public class Greeter {
+                com.example.missing.Language language;
+            }
+            """, """
+            package com.example.app;
+
+            import com.example.core.Greeter;
+
+            public class Welcome {
+                Greeter greeter;
+            }
+            """);
+
+        List<SourceFile> sources = parseProject();
+
+        assertThat(TypeUtils.isOfClassType(firstFieldType(sources, "Welcome.java"), "com.example.core.Greeter")).isTrue();
+        assertThat(sources).filteredOn(s -> s.getSourcePath().endsWith("Greeter.java")).hasSize(1);
+        assertThat(project.resolve("core/target/migration-runner/parse-classes")).doesNotExist();
+    }
+
+    @Test
+    void parsesPackagesNamedLikeBuildOutputDirectories() throws IOException {
+        Path build = project.resolve("src/main/java/com/example/build/Assembly.java");
+        Files.createDirectories(build.getParent());
+        Files.writeString(build, "package com.example.build; public class Assembly {}");
+        Path output = project.resolve("target/generated-sources/Generated.java");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, "public class Generated {}");
+
+        List<SourceFile> sources = parseProject();
+
+        assertThat(sources).extracting(s -> s.getSourcePath().getFileName().toString())
+            .contains("Assembly.java", "OrderService.java")
+            .doesNotContain("Generated.java");
+    }
+
+    @Test
+    void recipesWithoutDeclaredInputsAreAssumedToReadEverything() {
+        assertThat(PhasedRecipeRun.reads(new MigrateStatelessToService()))
+            .containsExactly(MigrationArtifact.JAVA);
+        assertThat(PhasedRecipeRun.reads(new ChangeType("com.example.Old", "com.example.New", null)))
+            .containsExactlyInAnyOrder(MigrationArtifact.values());
+    }
+
+    @Test
+    void defaultsToFullMigrationAndProjectRewriteYml() throws IOException {
+        Files.writeString(project.resolve("rewrite.yml"), "");
+
+        RunnerOptions options = RunnerOptions.parse("--project", project.toString());
+
+        assertThat(options.getRecipes()).containsExactly(RunnerOptions.DEFAULT_RECIPE);
+        assertThat(options.getConfig()).isEqualTo(project.resolve("rewrite.yml"));
+        assertThat(options.getClasspath()).isNull();
+        assertThat(options.isDryRun()).isFalse();
+        assertThat(options.getLstCache()).isEqualTo(project.resolve("target/rewrite-cache"));
+        assertThat(RunnerOptions.parse("--no-lst-cache").getLstCache()).isNull();
+        assertThat(options.getParallelism()).isZero();
+        assertThat(RunnerOptions.parse("--parallel", "--dry-run").getParallelism())
+            .isEqualTo(Runtime.getRuntime().availableProcessors());
+    }
+
+    @Test
+    void rejectsUnknownOptionsAndMissingValues() {
+        assertThatThrownBy(() -> RunnerOptions.parse("--dryrun"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("--dryrun");
+        assertThatThrownBy(() -> RunnerOptions.parse("--recipe", "--compile"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("requires a value");
+        assertThatThrownBy(() -> RunnerOptions.parse("--parallel", "0"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("positive number of threads");
+    }
+
+    private List<SourceFile> parseProject() throws IOException {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        return new ProjectParser(project, new ModuleClasspath(ctx, List.of()), null, ctx).parse();
+    }
+
+    private static JavaType firstFieldType(List<SourceFile> sources, String fileName) {
+        J.CompilationUnit unit = sources.stream()
+            .filter(s -> s.getSourcePath().endsWith(fileName))
+            .map(J.CompilationUnit.class::cast)
+            .findFirst().orElseThrow();
+        return ((J.VariableDeclarations) unit.getClasses().get(0).getBody().getStatements().get(0)).getType();
+    }
+
+    /**
+     * Replaces the single-module project by a reactor of core and app, app depending on core.
+     */
+    private void writeReactor(String greeter, String welcome) throws IOException {
+        Files.delete(source);
+        Files.writeString(project.resolve("pom.xml"), pom("parent", "pom", """
+                <modules>
+                    <module>core</module>
+                    <module>app</module>
+                </modules>
+            """));
+        Files.createDirectories(project.resolve("core/src/main/java/com/example/core"));
+        Files.writeString(project.resolve("core/pom.xml"), pom("core", "jar", ""));
+        Files.writeString(project.resolve("core/src/main/java/com/example/core/Greeter.java"), greeter);
+        Files.createDirectories(project.resolve("app/src/main/java/com/example/app"));
+        Files.writeString(project.resolve("app/pom.xml"), pom("app", "jar", """
+                <dependencies>
+                    <dependency>
+                        <groupId>com.example</groupId>
+                        <artifactId>core</artifactId>
+                        <version>1.0</version>
+                    </dependency>
+                </dependencies>
+            """));
+        Files.writeString(project.resolve("app/src/main/java/com/example/app/Welcome.java"), welcome);
+    }
+
+    private static String pom(String artifactId, String packaging, String body) {
+        return """
+            <project xmlns="http://maven.apache.org/POM/4.0.0">
+                <modelVersion>4.0.0</modelVersion>
+                <groupId>com.example</groupId>
+                <artifactId>%s</artifactId>
+                <version>1.0</version>
+                <packaging>%s</packaging>
+            %s</project>
+            """.formatted(artifactId, packaging, body);
+    }
+
+    private RunnerOptions options(String... extra) {
+        String[] args = new String[6 + extra.length];
+        args[0] = "--project";
+        args[1] = project.toString();
+        args[2] = "--recipe";
+        args[3] = "com.github.rewrite.ejb.MigrateStatelessToService";
+        args[4] = "--classpath";
+        args[5] = System.getProperty("java.class.path");
+        System.arraycopy(extra, 0, args, 6, extra.length);
+        return RunnerOptions.parse(args);
+    }
+}
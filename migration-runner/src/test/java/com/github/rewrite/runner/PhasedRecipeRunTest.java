@@ -0,0 +1,70 @@
+package com.github.rewrite.runner;
+
+import com.github.rewrite.ejb.phase.MigrationArtifact;
+import com.github.rewrite.ejb.phase.RecipeIo;
+import org.junit.jupiter.api.Test;
+import org.openrewrite.Recipe;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PhasedRecipeRunTest {
+
+    @Test
+    void readsDeclaredKinds() {
+        assertThat(PhasedRecipeRun.reads(new ReadsJavaAndBuild()))
+            .containsExactlyInAnyOrder(MigrationArtifact.JAVA, MigrationArtifact.BUILD);
+    }
+
+    @Test
+    void readsNothingForEmptyDeclaration() {
+        assertThat(PhasedRecipeRun.reads(new ReadsNothing())).isEmpty();
+    }
+
+    @Test
+    void readsEverythingWithoutDeclaration() {
+        assertThat(PhasedRecipeRun.reads(new Undeclared())).containsExactlyInAnyOrder(MigrationArtifact.values());
+    }
+
+    @Test
+    void readsWhatItsRecipesRead() {
+        assertThat(PhasedRecipeRun.reads(new Composite(new ReadsNothing(), new ReadsJavaAndBuild())))
+            .containsExactlyInAnyOrder(MigrationArtifact.JAVA, MigrationArtifact.BUILD);
+        assertThat(PhasedRecipeRun.reads(new Composite(new ReadsNothing()))).isEmpty();
+    }
+
+    @RecipeIo(reads = {MigrationArtifact.JAVA, MigrationArtifact.BUILD}, generates = MigrationArtifact.JAVA)
+    static class ReadsJavaAndBuild extends Undeclared {
+    }
+
+    @RecipeIo(reads = {}, generates = MigrationArtifact.CONFIGURATION)
+    static class ReadsNothing extends Undeclared {
+    }
+
+    static class Undeclared extends Recipe {
+
+        @Override
+        public String getDisplayName() {
+            return "Undeclared";
+        }
+
+        @Override
+        public String getDescription() {
+            return "Declares no files it reads.";
+        }
+    }
+
+    static class Composite extends Undeclared {
+        private final List<Recipe> recipes;
+
+        Composite(Recipe... recipes) {
+            this.recipes = List.of(recipes);
+        }
+
+        @Override
+        public List<Recipe> getRecipeList() {
+            return recipes;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.github.rewrite.runner;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.Result;
+import org.openrewrite.SourceFile;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.text.PlainText;
+import org.openrewrite.text.PlainTextVisitor;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecipeExecutorTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+    private final ExecutionContext ctx = new InMemoryExecutionContext(errors::add);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void runsAnotherCycleWhileARecipeAsksForOne() {
+        List<SourceFile> sources = texts("a", "b");
+
+        assertThat(texts(new RecipeExecutor(ctx, pool).run(new Append(3, true), sources)))
+            .containsExactly("axx", "bxx")
+            .isEqualTo(texts(new RecipeExecutor(ctx, null).run(new Append(3, true), sources)));
+    }
+
+    @Test
+    void stopsAfterTheLastCycle() {
+        assertThat(texts(new RecipeExecutor(ctx, pool).run(new Append(10, true), texts("a"))))
+            .containsExactly("a" + "x".repeat(RecipeExecutor.MAX_CYCLES));
+    }
+
+    @Test
+    void runsOneCycleForRecipesThatDoNotAskForAnother() {
+        assertThat(texts(new RecipeExecutor(ctx, pool).run(new Append(3, false), texts("a"))))
+            .containsExactly("ax");
+    }
+
+    @Test
+    void reportsExceptionsOfWorkersAndKeepsEditingTheOtherSources() {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            names.add(i == 7 ? "fail" : "ok" + i);
+        }
+
+        List<String> after = texts(new RecipeExecutor(ctx, pool).run(
+            new Composite(new FailOn("fail"), new Append(0, false)), texts(names.toArray(new String[0]))));
+
+        assertThat(errors).singleElement()
+            .satisfies(e -> assertThat(e).hasRootCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("fail"));
+        assertThat(after).hasSize(20).allMatch(text -> text.endsWith("x"));
+    }
+
+    @Test
+    void givesEveryWorkerItsOwnContext() {
+        ctx.putMessage("suffix", "-migrated");
+
+        List<String> after = texts(new RecipeExecutor(ctx, pool).run(new AppendMessage(), texts("a", "b", "c")));
+
+        assertThat(after).containsExactly("a-migrated", "b-migrated", "c-migrated");
+        assertThat(ctx.<Object>getMessage("visited")).isNull();
+        assertThat(errors).isEmpty();
+    }
+
+    private static List<SourceFile> texts(String... texts) {
+        List<SourceFile> sources = new ArrayList<>();
+        for (String text : texts) {
+            sources.add(PlainText.builder().sourcePath(Paths.get(text + ".txt")).text(text).build());
+        }
+        return sources;
+    }
+
+    private static List<String> texts(List<Result> results) {
+        List<String> texts = new ArrayList<>();
+        for (Result result : results) {
+            texts.add(((PlainText) result.getAfter()).getText());
+        }
+        return texts;
+    }
+
+    /**
+     * Appends an {@code x} to texts shorter than a limit, or to every text for a limit of 0.
+     */
+    static class Append extends Recipe {
+        private final int limit;
+        private final boolean anotherCycle;
+
+        Append(int limit, boolean anotherCycle) {
+            this.limit = limit;
+            this.anotherCycle = anotherCycle;
+        }
+
+        @Override
+        public String getDisplayName() {
+            return "Append x";
+        }
+
+        @Override
+        public String getDescription() {
+            return "Appends an x.";
+        }
+
+        @Override
+        public boolean causesAnotherCycle() {
+            return anotherCycle;
+        }
+
+        @Override
+        public TreeVisitor<?, ExecutionContext> getVisitor() {
+            return new PlainTextVisitor<>() {
+                @Override
+                public PlainText visitText(PlainText text, ExecutionContext ctx) {
+                    return limit == 0 || text.getText().length() < limit ? text.withText(text.getText() + "x") : text;
+                }
+            };
+        }
+    }
+
+    static class FailOn extends Recipe {
+        private final String text;
+
+        FailOn(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public String getDisplayName() {
+            return "Fail on a text";
+        }
+
+        @Override
+        public String getDescription() {
+            return "Throws for one text.";
+        }
+
+        @Override
+        public TreeVisitor<?, ExecutionContext> getVisitor() {
+            return new PlainTextVisitor<>() {
+                @Override
+                public PlainText visitText(PlainText plainText, ExecutionContext ctx) {
+                    if (plainText.getText().equals(text)) {
+                        throw new IllegalStateException(text);
+                    }
+                    return plainText;
+                }
+            };
+        }
+    }
+
+    static class AppendMessage extends Recipe {
+
+        @Override
+        public String getDisplayName() {
+            return "Append a message";
+        }
+
+        @Override
+        public String getDescription() {
+            return "Appends the suffix message of the context.";
+        }
+
+        @Override
+        public TreeVisitor<?, ExecutionContext> getVisitor() {
+            return new PlainTextVisitor<>() {
+                @Override
+                public PlainText visitText(PlainText text, ExecutionContext ctx) {
+                    ctx.putMessageInSet("visited", text.getText());
+                    return text.withText(text.getText() + ctx.getMessage("suffix"));
+                }
+            };
+        }
+    }
+
+    static class Composite extends Recipe {
+        private final List<Recipe> recipes;
+
+        Composite(Recipe... recipes) {
+            this.recipes = List.of(recipes);
+        }
+
+        @Override
+        public String getDisplayName() {
+            return "Composite";
+        }
+
+        @Override
+        public String getDescription() {
+            return "Runs its recipes.";
+        }
+
+        @Override
+        public List<Recipe> getRecipeList() {
+            return recipes;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.github.migration.timer.runtime;
+
+import com.github.migration.annotations.EjbTimeout;
+import com.github.migration.timer.Timer;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * {@link TimeoutInvoker} that calls the timeout method of the owning Spring bean.
+ * <p>
+ * The timeout method is the method annotated with {@link EjbTimeout}, the marker the migration puts on a former
+ * {@code @Timeout} method, with {@code @Timeout} itself ({@code jakarta.ejb} or {@code javax.ejb}, matched by name so
+ * the EJB API stays optional), or {@code ejbTimeout(Timer)} of a former {@code TimedObject}.
+ * It takes no parameter or the {@link Timer}. Public and protected methods are called through the bean's proxy so
+ * transactional and other advice applies; private methods are called on the proxy target.
+ * <p>
+ * The bean is looked up by name: the one bean whose class is the owner itself, so a subclass bean of the owner
+ * does not make the lookup ambiguous. The name is resolved once per owner.
+ */
+public class BeanTimeoutInvoker implements TimeoutInvoker {
+
+    private final BeanFactory beanFactory;
+    private final Map<Class<?>, Optional<Method>> timeoutMethods = new ConcurrentHashMap<>();
+    private final Map<Class<?>, String> beanNames = new ConcurrentHashMap<>();
+
+    public BeanTimeoutInvoker(BeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public void invoke(Class<?> owner, Timer timer) throws Exception {
+        Method method = timeoutMethods.computeIfAbsent(owner, BeanTimeoutInvoker::findTimeoutMethod)
+            .orElseThrow(() -> new IllegalStateException("No @Timeout method found on " + owner.getName()));
+        Object bean = beanFactory.getBean(beanNames.computeIfAbsent(owner, this::resolveBeanName));
+        Object target = bean;
+        if (Modifier.isPrivate(method.getModifiers()) && bean instanceof Advised) {
+            target = ((Advised) bean).getTargetSource().getTarget();
+        } else {
+            method = AopUtils.selectInvocableMethod(method, bean.getClass());
+        }
+        ReflectionUtils.makeAccessible(method);
+        try {
+            if (method.getParameterCount() == 0) {
+                method.invoke(target);
+            } else {
+                method.invoke(target, timer);
+            }
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getTargetException();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        }
+    }
+
+    private String resolveBeanName(Class<?> owner) {
+        if (!(beanFactory instanceof ListableBeanFactory)) {
+            throw new IllegalStateException("Cannot look up the bean of " + owner.getName() +
+                                            " by name in a non-listable bean factory");
+        }
+        ListableBeanFactory factory = (ListableBeanFactory) beanFactory;
+        String[] candidates = factory.getBeanNamesForType(owner, true, false);
+        if (candidates.length == 1) {
+            return candidates[0];
+        }
+        List<String> exact = Arrays.stream(candidates)
+            .filter(name -> {
+                Class<?> type = factory.getType(name);
+                return type != null && ClassUtils.getUserClass(type) == owner;
+            })
+            .collect(Collectors.toList());
+        if (exact.size() == 1) {
+            return exact.get(0);
+        }
+        throw new IllegalStateException("Expected one bean of type " + owner.getName() + " to own its timers, found " +
+                                        (candidates.length == 0 ? "none" : Arrays.toString(candidates)));
+    }
+
+    static Optional<Method> findTimeoutMethod(Class<?> owner) {
+        Method[] found = new Method[1];
+        ReflectionUtils.doWithMethods(owner, method -> {
+            if (found[0] == null && isTimeoutMethod(method)) {
+                found[0] = method;
+            }
+        });
+        return Optional.ofNullable(found[0]);
+    }
+
+    private static boolean isTimeoutMethod(Method method) {
+        boolean timerParameterOnly = method.getParameterCount() == 1 &&
+                                     method.getParameterTypes()[0].isAssignableFrom(Timer.class);
+        if ("ejbTimeout".equals(method.getName()) && timerParameterOnly) {
+            return true;
+        }
+        if (method.getParameterCount() > 0 && !timerParameterOnly) {
+            return false;
+        }
+        if (method.isAnnotationPresent(EjbTimeout.class)) {
+            return true;
+        }
+        for (Annotation annotation : method.getAnnotations()) {
+            String name = annotation.annotationType().getName();
+            if ("jakarta.ejb.Timeout".equals(name) || "javax.ejb.Timeout".equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.migration.timer.runtime;
+
+import com.github.migration.timer.CompiledSchedule;
+import com.github.migration.timer.ScheduleExpression;
+
+import java.time.Instant;
+
+/**
+ * Next-timeout computation for calendar timers.
+ * <p>
+ * Evaluates the expression with the full EJB calendar semantics of {@link CompiledSchedule}, including years,
+ * {@code Last}, weekday ordinals, the time zone and the start and end dates.
+ */
+final class CalendarSchedule {
+
+    private final CompiledSchedule schedule;
+
+    CalendarSchedule(ScheduleExpression expression) {
+        this.schedule = CompiledSchedule.compile(expression);
+    }
+
+    /**
+     * Returns the first timeout strictly after {@code after}, or {@code null} if the schedule has ended.
+     */
+    Instant next(Instant after) {
+        long next = schedule.nextTimeout(after.toEpochMilli());
+        return next < 0 ? null : Instant.ofEpochMilli(next);
+    }
+}
@@ -0,0 +1,316 @@
+package com.github.migration.timer.runtime;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Hierarchical hashed timing wheel.
+ * <p>
+ * Level 0 has {@code 2^wheelBits} slots of one tick each; a slot of level {@code n} spans
+ * {@code 2^(wheelBits * n)} ticks. A timeout is linked into the slot of the lowest level that covers its
+ * remaining delay, so scheduling and cancelling are O(1). When a level wraps around, the next slot of the level
+ * above is cascaded down. Deadlines beyond the top level stay there and are re-examined once per top-level
+ * rotation.
+ * <p>
+ * A single ticker thread advances the wheel. Expired tasks are handed to the dispatch executor, so a slow task
+ * never delays other timeouts.
+ */
+public final class HashedTimingWheel implements AutoCloseable {
+
+    private final long tickNanos;
+    private final int wheelBits;
+    private final int mask;
+    private final Bucket[][] levels;
+    private final Executor dispatcher;
+    private final LongSupplier nanoClock;
+    private final long startNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Thread ticker;
+
+    private volatile boolean closed;
+    // Guarded by lock; only advance() writes it
+    private long currentTick;
+    private int pending;
+
+    /**
+     * Creates a wheel driven by its own ticker thread.
+     *
+     * @param tickDuration  resolution of the wheel; timeouts fire at most one tick late
+     * @param wheelBits     log2 of the slots per level
+     * @param levelCount    number of levels
+     * @param tickerFactory creates the ticker thread
+     * @param dispatcher    runs expired tasks
+     */
+    public HashedTimingWheel(Duration tickDuration, int wheelBits, int levelCount,
+                             ThreadFactory tickerFactory, Executor dispatcher) {
+        this(tickDuration, wheelBits, levelCount, dispatcher, System::nanoTime, tickerFactory);
+    }
+
+    /**
+     * Creates a wheel without ticker thread; the caller advances it with {@link #advance()}.
+     */
+    HashedTimingWheel(Duration tickDuration, int wheelBits, int levelCount, Executor dispatcher, LongSupplier nanoClock) {
+        this(tickDuration, wheelBits, levelCount, dispatcher, nanoClock, null);
+    }
+
+    private HashedTimingWheel(Duration tickDuration, int wheelBits, int levelCount, Executor dispatcher,
+                              LongSupplier nanoClock, ThreadFactory tickerFactory) {
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("tickDuration must be positive: " + tickDuration);
+        }
+        if (wheelBits < 1 || wheelBits > 16) {
+            throw new IllegalArgumentException("wheelBits must be between 1 and 16: " + wheelBits);
+        }
+        if (levelCount < 1 || (long) wheelBits * levelCount > 62) {
+            throw new IllegalArgumentException("levelCount must be between 1 and " + 62 / wheelBits + ": " + levelCount);
+        }
+        this.tickNanos = tickDuration.toNanos();
+        this.wheelBits = wheelBits;
+        this.mask = (1 << wheelBits) - 1;
+        this.levels = new Bucket[levelCount][1 << wheelBits];
+        for (Bucket[] level : levels) {
+            for (int slot = 0; slot < level.length; slot++) {
+                level[slot] = new Bucket();
+            }
+        }
+        this.dispatcher = Objects.requireNonNull(dispatcher, "dispatcher");
+        this.nanoClock = nanoClock;
+        this.startNanos = nanoClock.getAsLong();
+        if (tickerFactory != null) {
+            this.ticker = tickerFactory.newThread(this::runTicker);
+            this.ticker.start();
+        } else {
+            this.ticker = null;
+        }
+    }
+
+    /**
+     * Schedules a task to run once after the given delay.
+     *
+     * @return the handle to cancel the task
+     * @throws IllegalStateException if the wheel is closed
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        Objects.requireNonNull(task, "task");
+        long deadlineNanos = nanoClock.getAsLong() + Math.max(0, unit.toNanos(delay));
+        Timeout timeout = new Timeout(task, deadlineNanos);
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Timing wheel is closed");
+            }
+            // Round up so a task never fires early; never into a tick that was already processed
+            long deadlineTick = -Math.floorDiv(startNanos - deadlineNanos, tickNanos);
+            timeout.deadlineTick = Math.max(deadlineTick, currentTick + 1);
+            place(timeout);
+            pending++;
+        } finally {
+            lock.unlock();
+        }
+        return timeout;
+    }
+
+    /**
+     * Returns the number of scheduled tasks that have neither expired nor been cancelled.
+     */
+    public int pendingTimeouts() {
+        lock.lock();
+        try {
+            return pending;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the ticker thread. Pending tasks are dropped.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (ticker != null) {
+            LockSupport.unpark(ticker);
+        }
+    }
+
+    /**
+     * Advances the wheel by one tick and dispatches the tasks due in it.
+     */
+    void advance() {
+        List<Timeout> expired = new ArrayList<>();
+        lock.lock();
+        try {
+            long tick = ++currentTick;
+            // Cascade every level whose lower levels just wrapped around, top-down
+            for (int level = levels.length - 1; level > 0; level--) {
+                if ((tick & ((1L << (wheelBits * level)) - 1)) == 0) {
+                    Timeout timeout = levels[level][(int) ((tick >>> (wheelBits * level)) & mask)].detach();
+                    while (timeout != null) {
+                        Timeout next = timeout.next;
+                        timeout.next = null;
+                        place(timeout);
+                        timeout = next;
+                    }
+                }
+            }
+            Timeout timeout = levels[0][(int) (tick & mask)].detach();
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                timeout.next = null;
+                timeout.state = Timeout.EXPIRED;
+                pending--;
+                expired.add(timeout);
+                timeout = next;
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (Timeout timeout : expired) {
+            try {
+                dispatcher.execute(timeout.task);
+            } catch (RejectedExecutionException e) {
+                // Dispatcher shut down together with the wheel
+                if (!closed) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Links the timeout into the slot of the lowest level covering its remaining delay. Caller holds the lock.
+     */
+    private void place(Timeout timeout) {
+        long delta = timeout.deadlineTick - currentTick;
+        int level = 0;
+        while (level < levels.length - 1 && (delta >>> (wheelBits * (level + 1))) != 0) {
+            level++;
+        }
+        levels[level][(int) ((timeout.deadlineTick >>> (wheelBits * level)) & mask)].add(timeout);
+    }
+
+    private void runTicker() {
+        while (!closed) {
+            long sleepNanos = startNanos + (currentTick + 1) * tickNanos - nanoClock.getAsLong();
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(this, sleepNanos);
+            } else {
+                advance();
+            }
+        }
+    }
+
+    /**
+     * Handle of a scheduled task.
+     */
+    public final class Timeout {
+        static final int PENDING = 0;
+        static final int CANCELLED = 1;
+        static final int EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadlineNanos;
+        // Guarded by the wheel lock
+        long deadlineTick;
+        int state = PENDING;
+        Bucket bucket;
+        Timeout prev;
+        Timeout next;
+
+        private Timeout(Runnable task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * Cancels the task if it has not been dispatched yet.
+         *
+         * @return {@code true} if this call cancelled the task
+         */
+        public boolean cancel() {
+            lock.lock();
+            try {
+                if (state != PENDING) {
+                    return false;
+                }
+                state = CANCELLED;
+                if (bucket != null) {
+                    bucket.remove(this);
+                }
+                pending--;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        public boolean isCancelled() {
+            lock.lock();
+            try {
+                return state == CANCELLED;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Returns the remaining delay until the task is due; negative once it is overdue.
+         */
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadlineNanos - nanoClock.getAsLong(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Doubly linked list of the timeouts in one slot.
+     */
+    private static final class Bucket {
+        private Timeout head;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            timeout.prev = null;
+            timeout.next = head;
+            if (head != null) {
+                head.prev = timeout;
+            }
+            head = timeout;
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        /**
+         * Unlinks all timeouts and returns them as a chain over {@code next}.
+         */
+        Timeout detach() {
+            Timeout first = head;
+            head = null;
+            for (Timeout timeout = first; timeout != null; timeout = timeout.next) {
+                timeout.bucket = null;
+                timeout.prev = null;
+            }
+            return first;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.github.migration.timer.runtime;
+
+import com.github.migration.timer.ScheduleExpression;
+import com.github.migration.timer.Timer;
+import com.github.migration.timer.TimerHandle;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Timer created by {@link TimingWheelTimerService}.
+ * <p>
+ * Methods called after the timer expired for the last time or was cancelled throw
+ * {@link IllegalStateException}, like {@code NoSuchObjectLocalException} in EJB.
+ */
+final class RuntimeTimer implements Timer {
+
+    private final TimerRuntime runtime;
+    private final String id;
+    private final Class<?> owner;
+    private final Serializable info;
+    private final boolean persistent;
+    private final long intervalMillis;
+    private final ScheduleExpression scheduleExpression;
+    private final CalendarSchedule calendar;
+
+    private volatile Instant nextTimeout;
+    private volatile HashedTimingWheel.Timeout pendingTimeout;
+    private volatile boolean active = true;
+
+    RuntimeTimer(TimerRuntime runtime, String id, Class<?> owner, Serializable info, boolean persistent,
+                 long intervalMillis, ScheduleExpression scheduleExpression, CalendarSchedule calendar) {
+        this.runtime = runtime;
+        this.id = id;
+        this.owner = owner;
+        this.info = info;
+        this.persistent = persistent;
+        this.intervalMillis = intervalMillis;
+        this.scheduleExpression = scheduleExpression;
+        this.calendar = calendar;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    Class<?> getOwner() {
+        return owner;
+    }
+
+    boolean persistent() {
+        return persistent;
+    }
+
+    long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    CalendarSchedule getCalendar() {
+        return calendar;
+    }
+
+    Instant nextTimeoutInstant() {
+        return nextTimeout;
+    }
+
+    boolean isActive() {
+        return active;
+    }
+
+    void setNextTimeout(Instant nextTimeout) {
+        this.nextTimeout = nextTimeout;
+    }
+
+    void setPendingTimeout(HashedTimingWheel.Timeout pendingTimeout) {
+        this.pendingTimeout = pendingTimeout;
+    }
+
+    /**
+     * Marks the timer as gone and cancels its pending expiration.
+     *
+     * @return {@code true} if the timer was still active
+     */
+    synchronized boolean deactivate() {
+        if (!active) {
+            return false;
+        }
+        active = false;
+        HashedTimingWheel.Timeout timeout = pendingTimeout;
+        if (timeout != null) {
+            timeout.cancel();
+        }
+        return true;
+    }
+
+    @Override
+    public void cancel() {
+        checkActive();
+        runtime.cancel(this);
+    }
+
+    @Override
+    public long getTimeRemaining() {
+        checkActive();
+        return Math.max(0, nextTimeout.toEpochMilli() - runtime.clock().millis());
+    }
+
+    @Override
+    public Date getNextTimeout() {
+        checkActive();
+        return Date.from(nextTimeout);
+    }
+
+    @Override
+    public ScheduleExpression getSchedule() {
+        checkActive();
+        if (scheduleExpression == null) {
+            throw new IllegalStateException("Timer " + id + " is not a calendar timer");
+        }
+        return scheduleExpression;
+    }
+
+    @Override
+    public boolean isCalendarTimer() {
+        checkActive();
+        return scheduleExpression != null;
+    }
+
+    @Override
+    public boolean isPersistent() {
+        checkActive();
+        return persistent;
+    }
+
+    @Override
+    public Serializable getInfo() {
+        checkActive();
+        return info;
+    }
+
+    @Override
+    public TimerHandle getHandle() {
+        checkActive();
+        if (!persistent) {
+            throw new IllegalStateException("Timer " + id + " is not persistent");
+        }
+        return new RuntimeTimerHandle(runtime, id);
+    }
+
+    private void checkActive() {
+        if (!active) {
+            throw new IllegalStateException("Timer " + id + " has expired or was cancelled");
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof RuntimeTimer && id.equals(((RuntimeTimer) other).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "RuntimeTimer[" + id + ", owner=" + owner.getName() + ", next=" + nextTimeout + "]";
+    }
+}
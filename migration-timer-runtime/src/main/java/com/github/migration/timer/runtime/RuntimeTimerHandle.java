@@ -0,0 +1,41 @@
+package com.github.migration.timer.runtime;
+
+import com.github.migration.timer.Timer;
+import com.github.migration.timer.TimerHandle;
+
+/**
+ * Handle of a persistent {@link RuntimeTimer}, resolved by timer id.
+ * <p>
+ * The runtime reference is not serialized, so a deserialized handle cannot be resolved.
+ */
+final class RuntimeTimerHandle implements TimerHandle {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String timerId;
+    private final transient TimerRuntime runtime;
+
+    RuntimeTimerHandle(TimerRuntime runtime, String timerId) {
+        this.runtime = runtime;
+        this.timerId = timerId;
+    }
+
+    @Override
+    public Timer getTimer() {
+        Timer timer = runtime != null ? runtime.findTimer(timerId) : null;
+        if (timer == null) {
+            throw new IllegalStateException("Timer " + timerId + " no longer exists");
+        }
+        return timer;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof RuntimeTimerHandle && timerId.equals(((RuntimeTimerHandle) other).timerId);
+    }
+
+    @Override
+    public int hashCode() {
+        return timerId.hashCode();
+    }
+}
@@ -0,0 +1,12 @@
+package com.github.migration.timer.runtime;
+
+import com.github.migration.timer.Timer;
+
+/**
+ * Calls the timeout method of the bean owning an expired timer.
+ */
+@FunctionalInterface
+public interface TimeoutInvoker {
+
+    void invoke(Class<?> owner, Timer timer) throws Exception;
+}
@@ -0,0 +1,600 @@
+package com.github.migration.timer.runtime;
+
+import com.github.migration.timer.ScheduleExpression;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only, memory-mapped journal of the persistent timers of a {@link TimerRuntime}.
+ * <p>
+ * Every created persistent timer appends a {@code CREATE} frame, every cancelled or finally expired one a
+ * {@code REMOVE} frame. Frames carry their length and a CRC32, so a torn write at the tail is detected and cut off
+ * on recovery. Appends only copy into the mapped file; a flusher thread forces the mapping and releases every
+ * caller whose frame is then on disk, so concurrent appends share one {@code fsync} (group commit).
+ * <p>
+ * The encoded {@code CREATE} frames of live timers are kept in memory. Once the journal has grown beyond the
+ * compaction threshold and more than half of it is dead, the live frames are written to a new file that atomically
+ * replaces the journal. Recovery compacts the same way whenever it replayed dead frames, so a restart reads only
+ * the live set.
+ * <p>
+ * Interval and calendar timers are journaled once: their later expirations follow from the first timeout and the
+ * interval or schedule.
+ * <p>
+ * A journal directory belongs to one runtime at a time. An exclusive lock on {@value #LOCK_FILE_NAME} is held while
+ * the journal is open, so a second JVM or node pointed at the same directory fails to open it instead of
+ * interleaving its frames.
+ */
+final class TimerJournal implements AutoCloseable {
+
+    static final String FILE_NAME = "timers.journal";
+    static final String LOCK_FILE_NAME = "timers.journal.lock";
+
+    private static final int MAGIC = 0x544D524A; // "TMRJ"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int FRAME_HEADER_SIZE = 8;
+    private static final byte CREATE = 1;
+    private static final byte REMOVE = 2;
+
+    private final Path file;
+    private final long initialSize;
+    private final long compactionThreshold;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition flushNeeded = lock.newCondition();
+    private final Condition flushed = lock.newCondition();
+    private final Thread flusher;
+    private FileChannel lockChannel;
+
+    // Guarded by lock
+    private final Map<String, byte[]> liveFrames = new LinkedHashMap<>();
+    private FileChannel channel;
+    private MappedByteBuffer mapped;
+    private int position;
+    private long deadBytes;
+    private long appendedSequence;
+    private long durableSequence;
+    private IOException flushFailure;
+    private boolean closed;
+
+    private TimerJournal(Path file, long initialSize, long compactionThreshold) {
+        this.file = file;
+        this.initialSize = Math.max(initialSize, 4096);
+        this.compactionThreshold = compactionThreshold;
+        this.flusher = new Thread(this::runFlusher, "migration-timer-journal-flush");
+        this.flusher.setDaemon(true);
+    }
+
+    /**
+     * Opens the journal in the given directory, creating it if needed, and replays it.
+     *
+     * @param directory           directory of the journal file
+     * @param initialSize         initial size of the mapped file in bytes; the mapping doubles when full
+     * @param compactionThreshold journal size in bytes from which dead frames are compacted away
+     * @param classLoader         resolves the classes of recovered timer infos and schedules
+     * @return the journal and the timers it recovered
+     * @throws UncheckedIOException  if the journal cannot be read or written
+     * @throws IllegalStateException if another timer runtime holds the journal directory
+     */
+    static Recovery open(Path directory, long initialSize, long compactionThreshold, ClassLoader classLoader) {
+        TimerJournal journal = new TimerJournal(directory.resolve(FILE_NAME), initialSize, compactionThreshold);
+        List<Entry> entries;
+        try {
+            Files.createDirectories(directory);
+            journal.lockDirectory();
+            entries = journal.replay(classLoader);
+        } catch (IOException e) {
+            journal.unlockDirectory();
+            throw new UncheckedIOException("Cannot open timer journal " + journal.file, e);
+        }
+        journal.flusher.start();
+        return new Recovery(journal, entries);
+    }
+
+    /**
+     * Journals a created persistent timer and returns once the frame is on disk.
+     *
+     * @throws IllegalArgumentException if the timer info or schedule cannot be serialized
+     */
+    void recordCreated(Entry entry) {
+        byte[] frame = frame(encodeCreate(entry));
+        awaitDurable(append(entry.getId(), frame, true));
+    }
+
+    /**
+     * Journals a cancelled or finally expired persistent timer and returns once the frame is on disk.
+     */
+    void recordRemoved(String id) {
+        byte[] frame = frame(encodeRemove(id));
+        awaitDurable(append(id, frame, false));
+    }
+
+    /**
+     * Returns the number of timers the journal currently holds.
+     */
+    int liveTimers() {
+        lock.lock();
+        try {
+            return liveFrames.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of journal bytes in use, including the file header.
+     */
+    long size() {
+        lock.lock();
+        try {
+            return position;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            mapped.force();
+            channel.close();
+            unlockDirectory();
+            closed = true;
+            durableSequence = appendedSequence;
+            flushNeeded.signalAll();
+            flushed.signalAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close timer journal " + file, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long append(String id, byte[] frame, boolean create) {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Timer journal is closed");
+            }
+            if (create) {
+                liveFrames.put(id, frame);
+            } else {
+                byte[] created = liveFrames.remove(id);
+                if (created == null) {
+                    // Never journaled or already removed
+                    return durableSequence;
+                }
+                deadBytes += created.length + frame.length;
+            }
+            if (position >= compactionThreshold && deadBytes * 2 > position) {
+                compact();
+                return appendedSequence;
+            }
+            ensureCapacity(frame.length);
+            mapped.put(position, frame);
+            position += frame.length;
+            flushNeeded.signal();
+            return ++appendedSequence;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write timer journal " + file, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void awaitDurable(long sequence) {
+        lock.lock();
+        try {
+            while (durableSequence < sequence) {
+                if (flushFailure != null) {
+                    throw new UncheckedIOException("Cannot flush timer journal " + file, flushFailure);
+                }
+                if (closed) {
+                    throw new IllegalStateException("Timer journal is closed");
+                }
+                flushed.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runFlusher() {
+        while (true) {
+            MappedByteBuffer target;
+            long sequence;
+            lock.lock();
+            try {
+                while (!closed && durableSequence >= appendedSequence) {
+                    flushNeeded.awaitUninterruptibly();
+                }
+                if (closed) {
+                    return;
+                }
+                target = mapped;
+                sequence = appendedSequence;
+            } finally {
+                lock.unlock();
+            }
+            // Outside the lock: appends continue while the pages are written and join the next flush
+            IOException failure = null;
+            try {
+                target.force();
+            } catch (RuntimeException e) {
+                failure = new IOException("Forcing the journal mapping failed", e);
+            }
+            lock.lock();
+            try {
+                if (failure != null) {
+                    flushFailure = failure;
+                } else {
+                    durableSequence = Math.max(durableSequence, sequence);
+                }
+                flushed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            if (failure != null) {
+                return;
+            }
+        }
+    }
+
+    private void lockDirectory() throws IOException {
+        Path lockFile = file.resolveSibling(LOCK_FILE_NAME);
+        lockChannel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock acquired;
+        try {
+            acquired = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // Held by another runtime of this JVM
+            acquired = null;
+        }
+        if (acquired == null) {
+            unlockDirectory();
+            throw new IllegalStateException("Timer journal " + file + " is in use by another timer runtime (lock " +
+                                            lockFile + " is held); give every node its own journal directory");
+        }
+    }
+
+    /**
+     * Releases the directory lock by closing its channel.
+     */
+    private void unlockDirectory() {
+        if (lockChannel == null) {
+            return;
+        }
+        try {
+            lockChannel.close();
+        } catch (IOException e) {
+            // The lock is released with the process anyway
+        }
+        lockChannel = null;
+    }
+
+    /**
+     * Reads the journal into the live set, cuts off a torn tail and maps the file for appending.
+     */
+    private List<Entry> replay(ClassLoader classLoader) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        if (!Files.exists(file) || Files.size(file) < HEADER_SIZE) {
+            writeCompacted();
+            return entries;
+        }
+        int end;
+        boolean dirty = false;
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (in.size() > Integer.MAX_VALUE) {
+                throw new IOException("Timer journal exceeds 2 GB: " + file);
+            }
+            ByteBuffer buffer = in.map(FileChannel.MapMode.READ_ONLY, 0, in.size());
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("Not a timer journal of version " + VERSION + ": " + file);
+            }
+            end = HEADER_SIZE;
+            while (end + FRAME_HEADER_SIZE <= buffer.limit()) {
+                int length = buffer.getInt(end);
+                if (length <= 0 || length > buffer.limit() - end - FRAME_HEADER_SIZE) {
+                    break;
+                }
+                byte[] payload = new byte[length];
+                buffer.get(end + FRAME_HEADER_SIZE, payload);
+                if (crc(payload) != buffer.getInt(end + 4)) {
+                    break;
+                }
+                String id = readId(payload);
+                if (payload[0] == CREATE) {
+                    liveFrames.put(id, frame(payload));
+                } else {
+                    liveFrames.remove(id);
+                    dirty = true;
+                }
+                end += FRAME_HEADER_SIZE + length;
+            }
+            // A torn frame left bytes behind the last valid frame
+            if (end + FRAME_HEADER_SIZE <= buffer.limit() && buffer.getInt(end) != 0) {
+                dirty = true;
+            }
+        }
+        for (byte[] frame : liveFrames.values()) {
+            entries.add(decodeCreate(frame, classLoader));
+        }
+        if (dirty) {
+            writeCompacted();
+        } else {
+            channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            position = end;
+            map(Math.max(initialSize, channel.size()));
+        }
+        return entries;
+    }
+
+    private void compact() throws IOException {
+        writeCompacted();
+        // The new file holds every live frame, including the ones still waiting for the flusher
+        durableSequence = appendedSequence;
+        flushed.signalAll();
+    }
+
+    /**
+     * Replaces the journal by a file with only the live frames. Caller holds the lock or has not published the
+     * journal yet.
+     */
+    private void writeCompacted() throws IOException {
+        Path temp = file.resolveSibling(FILE_NAME + ".compact");
+        int size = HEADER_SIZE;
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).flip();
+            writeFully(out, header);
+            for (byte[] frame : liveFrames.values()) {
+                writeFully(out, ByteBuffer.wrap(frame));
+                size += frame.length;
+            }
+            out.force(true);
+        }
+        if (channel != null) {
+            channel.close();
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory();
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        position = size;
+        deadBytes = 0;
+        map(Math.max(initialSize, 2L * size));
+    }
+
+    private void ensureCapacity(int length) throws IOException {
+        if (position + (long) length <= mapped.capacity()) {
+            return;
+        }
+        long required = (long) position + length;
+        long capacity = mapped.capacity();
+        while (capacity < required) {
+            capacity *= 2;
+        }
+        mapped.force();
+        map(capacity);
+    }
+
+    private void map(long capacity) throws IOException {
+        if (capacity > Integer.MAX_VALUE) {
+            throw new IOException("Timer journal exceeds 2 GB: " + file);
+        }
+        mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    }
+
+    private void syncDirectory() {
+        try (FileChannel directory = FileChannel.open(file.getParent(), StandardOpenOption.READ)) {
+            directory.force(true);
+        } catch (IOException e) {
+            // Not supported on every platform; the rename is still atomic
+        }
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    private static byte[] frame(byte[] payload) {
+        return ByteBuffer.allocate(FRAME_HEADER_SIZE + payload.length)
+            .putInt(payload.length)
+            .putInt(crc(payload))
+            .put(payload)
+            .array();
+    }
+
+    private static int crc(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private static byte[] encodeCreate(Entry entry) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(CREATE);
+            out.writeUTF(entry.getId());
+            out.writeUTF(entry.getOwnerClassName());
+            out.writeLong(entry.getFirstTimeoutMillis());
+            out.writeLong(entry.getIntervalMillis());
+            if (entry.getInfo() == null && entry.getSchedule() == null) {
+                out.writeBoolean(false);
+            } else {
+                out.writeBoolean(true);
+                ObjectOutputStream objects = new ObjectOutputStream(out);
+                objects.writeObject(entry.getInfo());
+                objects.writeObject(entry.getSchedule());
+                objects.flush();
+            }
+            out.flush();
+            return bytes.toByteArray();
+        } catch (NotSerializableException e) {
+            throw new IllegalArgumentException("Info of persistent timer is not serializable: " + e.getMessage(), e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] encodeRemove(String id) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(48);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(REMOVE);
+            out.writeUTF(id);
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String readId(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload, 1, payload.length - 1));
+        return in.readUTF();
+    }
+
+    private static Entry decodeCreate(byte[] frame, ClassLoader classLoader) throws IOException {
+        DataInputStream in = new DataInputStream(
+            new ByteArrayInputStream(frame, FRAME_HEADER_SIZE + 1, frame.length - FRAME_HEADER_SIZE - 1));
+        String id = in.readUTF();
+        String owner = in.readUTF();
+        long firstTimeout = in.readLong();
+        long interval = in.readLong();
+        Serializable info = null;
+        ScheduleExpression schedule = null;
+        if (in.readBoolean()) {
+            try (ObjectInputStream objects = new ClassLoaderObjectInputStream(in, classLoader)) {
+                info = (Serializable) objects.readObject();
+                schedule = (ScheduleExpression) objects.readObject();
+            } catch (ClassNotFoundException e) {
+                throw new IOException("Cannot restore info of timer " + id + ": " + e.getMessage(), e);
+            }
+        }
+        return new Entry(id, owner, firstTimeout, interval, schedule, info);
+    }
+
+    /**
+     * Journaled state of one persistent timer.
+     */
+    static final class Entry {
+        private final String id;
+        private final String ownerClassName;
+        private final long firstTimeoutMillis;
+        private final long intervalMillis;
+        private final ScheduleExpression schedule;
+        private final Serializable info;
+
+        Entry(String id, String ownerClassName, long firstTimeoutMillis, long intervalMillis,
+              ScheduleExpression schedule, Serializable info) {
+            this.id = id;
+            this.ownerClassName = ownerClassName;
+            this.firstTimeoutMillis = firstTimeoutMillis;
+            this.intervalMillis = intervalMillis;
+            this.schedule = schedule;
+            this.info = info;
+        }
+
+        String getId() {
+            return id;
+        }
+
+        String getOwnerClassName() {
+            return ownerClassName;
+        }
+
+        long getFirstTimeoutMillis() {
+            return firstTimeoutMillis;
+        }
+
+        long getIntervalMillis() {
+            return intervalMillis;
+        }
+
+        ScheduleExpression getSchedule() {
+            return schedule;
+        }
+
+        Serializable getInfo() {
+            return info;
+        }
+    }
+
+    /**
+     * Opened journal together with the timers replayed from it.
+     */
+    static final class Recovery {
+        private final TimerJournal journal;
+        private final List<Entry> entries;
+
+        Recovery(TimerJournal journal, List<Entry> entries) {
+            this.journal = journal;
+            this.entries = entries;
+        }
+
+        TimerJournal getJournal() {
+            return journal;
+        }
+
+        List<Entry> getEntries() {
+            return entries;
+        }
+    }
+
+    /**
+     * Resolves classes of deserialized timer infos with the application class loader.
+     */
+    private static final class ClassLoaderObjectInputStream extends ObjectInputStream {
+        private final ClassLoader classLoader;
+
+        ClassLoaderObjectInputStream(InputStream in, ClassLoader classLoader) throws IOException {
+            super(in);
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            if (classLoader == null) {
+                return super.resolveClass(desc);
+            }
+            try {
+                return Class.forName(desc.getName(), false, classLoader);
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package com.github.migration.timer.runtime;
+
+import com.github.migration.timer.ScheduleExpression;
+import com.github.migration.timer.Timer;
+import com.github.migration.timer.TimerService;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.util.ClassUtils;
+
+import java.io.Serializable;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared runtime behind all {@link TimingWheelTimerService} instances of an application context.
+ * <p>
+ * Timers are spread round-robin over a small number of {@link HashedTimingWheel}s, each advanced by its own
+ * scheduler thread. Timeout callbacks run on virtual threads when the JVM supports them (Java 21+), otherwise on a
+ * cached pool of daemon threads. Interval and calendar timers are re-armed after their callback returned, so
+ * callbacks of one timer never overlap; expirations missed meanwhile are skipped. A failing callback is retried
+ * once, as an EJB container would.
+ * <p>
+ * With a journal directory configured, persistent timers are recorded in a {@link TimerJournal} before they are
+ * armed and survive a restart: {@link #restorePersistentTimers()} re-arms them under their original id. A
+ * single-action timeout missed while the application was down fires right away; interval and calendar timers
+ * resume at their next regular expiration. Without a journal directory persistent timers are kept in memory only,
+ * which is logged once per owning bean class.
+ */
+public class TimerRuntime implements AutoCloseable {
+
+    private static final Log logger = LogFactory.getLog(TimerRuntime.class);
+
+    private final List<HashedTimingWheel> wheels;
+    private final ExecutorService callbackExecutor;
+    private final TimeoutInvoker invoker;
+    private final Clock clock;
+    private final TimerJournal journal;
+    private final ClassLoader classLoader;
+    private List<TimerJournal.Entry> recovered;
+    private final AtomicInteger nextWheel = new AtomicInteger();
+    private final ConcurrentMap<String, RuntimeTimer> timers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, Set<RuntimeTimer>> timersByOwner = new ConcurrentHashMap<>();
+    private final Set<Class<?>> ownersWarnedAboutPersistence = ConcurrentHashMap.newKeySet();
+
+    public TimerRuntime(TimerRuntimeProperties properties, TimeoutInvoker invoker) {
+        this(properties, invoker, ClassUtils.getDefaultClassLoader());
+    }
+
+    /**
+     * Creates a runtime whose recovered timers resolve their owner and info classes with the given class loader.
+     */
+    public TimerRuntime(TimerRuntimeProperties properties, TimeoutInvoker invoker, ClassLoader classLoader) {
+        this.callbackExecutor = callbackExecutor(properties.isVirtualThreads());
+        this.invoker = invoker;
+        this.clock = Clock.systemUTC();
+        this.classLoader = classLoader;
+        TimerRuntimeProperties.Journal journalProperties = properties.getJournal();
+        if (journalProperties.getDirectory() != null) {
+            TimerJournal.Recovery recovery = TimerJournal.open(journalProperties.getDirectory(),
+                journalProperties.getInitialSize().toBytes(), journalProperties.getCompactionThreshold().toBytes(),
+                classLoader);
+            this.journal = recovery.getJournal();
+            this.recovered = recovery.getEntries();
+        } else {
+            this.journal = null;
+            this.recovered = Collections.emptyList();
+        }
+        List<HashedTimingWheel> wheels = new ArrayList<>();
+        for (int i = 0; i < Math.max(1, properties.getSchedulerThreads()); i++) {
+            wheels.add(new HashedTimingWheel(properties.getTickDuration(), properties.getWheelBits(),
+                properties.getLevels(), daemonThreads("migration-timer-wheel-" + i + "-"), callbackExecutor));
+        }
+        this.wheels = List.copyOf(wheels);
+    }
+
+    /**
+     * Creates a runtime on externally driven wheels.
+     */
+    TimerRuntime(List<HashedTimingWheel> wheels, TimeoutInvoker invoker, Clock clock) {
+        this(wheels, invoker, clock, null);
+    }
+
+    /**
+     * Creates a runtime on externally driven wheels that journals its persistent timers.
+     */
+    TimerRuntime(List<HashedTimingWheel> wheels, TimeoutInvoker invoker, Clock clock, TimerJournal.Recovery recovery) {
+        this.wheels = List.copyOf(wheels);
+        this.callbackExecutor = null;
+        this.invoker = invoker;
+        this.clock = clock;
+        this.classLoader = ClassUtils.getDefaultClassLoader();
+        this.journal = recovery != null ? recovery.getJournal() : null;
+        this.recovered = recovery != null ? recovery.getEntries() : Collections.emptyList();
+    }
+
+    /**
+     * Returns the timer service of the given bean class.
+     */
+    public TimerService timerService(Class<?> owner) {
+        return new TimingWheelTimerService(this, owner);
+    }
+
+    /**
+     * Returns the active timers of the given bean class.
+     */
+    public Collection<Timer> getTimers(Class<?> owner) {
+        Set<RuntimeTimer> ownerTimers = timersByOwner.get(owner);
+        return ownerTimers != null ? new ArrayList<>(ownerTimers) : Collections.emptyList();
+    }
+
+    /**
+     * Returns the active timers of all beans.
+     */
+    public Collection<Timer> getAllTimers() {
+        return new ArrayList<>(timers.values());
+    }
+
+    /**
+     * Re-arms the persistent timers recovered from the journal. Called once the owning beans can be created;
+     * later calls do nothing.
+     */
+    public synchronized void restorePersistentTimers() {
+        List<TimerJournal.Entry> entries = recovered;
+        recovered = Collections.emptyList();
+        Instant now = clock.instant();
+        for (TimerJournal.Entry entry : entries) {
+            Class<?> owner;
+            try {
+                owner = ClassUtils.forName(entry.getOwnerClassName(), classLoader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                logger.warn("Dropping persistent timer " + entry.getId() + ": owner class " +
+                            entry.getOwnerClassName() + " no longer exists");
+                journal.recordRemoved(entry.getId());
+                continue;
+            }
+            CalendarSchedule calendar = entry.getSchedule() != null ? new CalendarSchedule(entry.getSchedule()) : null;
+            Instant timeout = Instant.ofEpochMilli(entry.getFirstTimeoutMillis());
+            if (timeout.isBefore(now) && calendar != null) {
+                timeout = calendar.next(now);
+            } else if (timeout.isBefore(now) && entry.getIntervalMillis() > 0) {
+                long interval = entry.getIntervalMillis();
+                long behind = now.toEpochMilli() - timeout.toEpochMilli();
+                timeout = timeout.plusMillis((behind + interval - 1) / interval * interval);
+            }
+            if (timeout == null) {
+                journal.recordRemoved(entry.getId());
+                continue;
+            }
+            RuntimeTimer timer = new RuntimeTimer(this, entry.getId(), owner, entry.getInfo(), true,
+                entry.getIntervalMillis(), entry.getSchedule(), calendar);
+            register(timer);
+            arm(timer, timeout);
+        }
+        if (!entries.isEmpty()) {
+            logger.info("Restored " + entries.size() + " persistent timers");
+        }
+    }
+
+    @Override
+    public void close() {
+        wheels.forEach(HashedTimingWheel::close);
+        if (callbackExecutor != null) {
+            callbackExecutor.shutdown();
+        }
+        timers.values().forEach(RuntimeTimer::deactivate);
+        timers.clear();
+        timersByOwner.clear();
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    RuntimeTimer createTimer(Class<?> owner, Instant firstTimeout, long intervalMillis,
+                             ScheduleExpression schedule, Serializable info, boolean persistent) {
+        CalendarSchedule calendar = null;
+        if (schedule != null) {
+            calendar = new CalendarSchedule(schedule);
+            firstTimeout = calendar.next(clock.instant());
+            if (firstTimeout == null) {
+                throw new IllegalArgumentException("Schedule has no future timeout");
+            }
+        }
+        RuntimeTimer timer = new RuntimeTimer(this, UUID.randomUUID().toString(), owner, info, persistent,
+            intervalMillis, schedule, calendar);
+        if (persistent && journal != null) {
+            journal.recordCreated(new TimerJournal.Entry(timer.getId(), owner.getName(), firstTimeout.toEpochMilli(),
+                intervalMillis, schedule, info));
+        } else if (persistent && ownersWarnedAboutPersistence.add(owner)) {
+            logger.warn("Persistent timers of " + owner.getName() + " are kept in memory only and lost on restart: " +
+                        "no journal directory is configured (migration.timer.runtime.journal.directory)");
+        }
+        register(timer);
+        arm(timer, firstTimeout);
+        return timer;
+    }
+
+    void cancel(RuntimeTimer timer) {
+        if (timer.deactivate()) {
+            remove(timer);
+        }
+    }
+
+    Timer findTimer(String id) {
+        return timers.get(id);
+    }
+
+    Clock clock() {
+        return clock;
+    }
+
+    private void arm(RuntimeTimer timer, Instant timeout) {
+        long delay = Math.max(0, timeout.toEpochMilli() - clock.millis());
+        HashedTimingWheel wheel = wheels.get(Math.floorMod(nextWheel.getAndIncrement(), wheels.size()));
+        timer.setNextTimeout(timeout);
+        HashedTimingWheel.Timeout wheelTimeout = wheel.schedule(() -> expire(timer), delay, TimeUnit.MILLISECONDS);
+        timer.setPendingTimeout(wheelTimeout);
+        if (!timer.isActive()) {
+            // Cancelled concurrently before the new expiration was visible
+            wheelTimeout.cancel();
+        }
+    }
+
+    private void expire(RuntimeTimer timer) {
+        if (!timer.isActive()) {
+            return;
+        }
+        Instant scheduled = timer.nextTimeoutInstant();
+        invokeWithRetry(timer);
+        if (!timer.isActive()) {
+            return;
+        }
+        Instant next = nextTimeout(timer, scheduled);
+        if (next == null) {
+            if (timer.deactivate()) {
+                remove(timer);
+            }
+        } else {
+            arm(timer, next);
+        }
+    }
+
+    private Instant nextTimeout(RuntimeTimer timer, Instant scheduled) {
+        Instant now = clock.instant();
+        if (timer.getCalendar() != null) {
+            return timer.getCalendar().next(scheduled.isAfter(now) ? scheduled : now);
+        }
+        long interval = timer.getIntervalMillis();
+        if (interval <= 0) {
+            return null;
+        }
+        long behind = Math.max(0, now.toEpochMilli() - scheduled.toEpochMilli());
+        return scheduled.plusMillis((behind / interval + 1) * interval);
+    }
+
+    private void invokeWithRetry(RuntimeTimer timer) {
+        try {
+            invoker.invoke(timer.getOwner(), timer);
+        } catch (Exception e) {
+            logger.warn("Timeout callback of " + timer.getOwner().getName() + " failed, retrying once", e);
+            try {
+                invoker.invoke(timer.getOwner(), timer);
+            } catch (Exception retryFailure) {
+                logger.error("Timeout callback of " + timer.getOwner().getName() + " failed again", retryFailure);
+            }
+        }
+    }
+
+    private void register(RuntimeTimer timer) {
+        timers.put(timer.getId(), timer);
+        timersByOwner.computeIfAbsent(timer.getOwner(), key -> ConcurrentHashMap.newKeySet()).add(timer);
+    }
+
+    private void remove(RuntimeTimer timer) {
+        if (timer.persistent() && journal != null) {
+            journal.recordRemoved(timer.getId());
+        }
+        timers.remove(timer.getId());
+        Set<RuntimeTimer> ownerTimers = timersByOwner.get(timer.getOwner());
+        if (ownerTimers != null) {
+            ownerTimers.remove(timer);
+        }
+    }
+
+    private static ExecutorService callbackExecutor(boolean virtualThreads) {
+        if (virtualThreads) {
+            try {
+                // Java 21+; looked up reflectively because the module targets Java 17
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                logger.debug("Virtual threads not available, running timeout callbacks on platform threads");
+            }
+        }
+        return Executors.newCachedThreadPool(daemonThreads("migration-timer-callback-"));
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
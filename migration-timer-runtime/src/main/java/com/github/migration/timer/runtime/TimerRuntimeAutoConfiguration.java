@@ -0,0 +1,57 @@
+package com.github.migration.timer.runtime;
+
+import com.github.migration.timer.TimerService;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.InjectionPoint;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Scope;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Auto-configuration of the timer runtime.
+ * <p>
+ * Every injection point of {@link TimerService} gets its own {@link TimingWheelTimerService}, owned by the class
+ * declaring the injection point, so {@code getTimers()} only returns the timers of that bean. The bean is named
+ * {@code migrationTimerService} so that {@code @Resource TimerService timerService} falls back to injection by
+ * type.
+ * <p>
+ * Setting {@code migration.timer.runtime.journal.directory} makes persistent timers durable; they are restored
+ * after all singletons have been created.
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(TimerRuntimeProperties.class)
+public class TimerRuntimeAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public TimerRuntime migrationTimerRuntime(TimerRuntimeProperties properties, BeanFactory beanFactory) {
+        ClassLoader classLoader = beanFactory instanceof ConfigurableBeanFactory
+            ? ((ConfigurableBeanFactory) beanFactory).getBeanClassLoader()
+            : ClassUtils.getDefaultClassLoader();
+        return new TimerRuntime(properties, new BeanTimeoutInvoker(beanFactory), classLoader);
+    }
+
+    /**
+     * Re-arms journaled persistent timers once all singletons, and so the timer owners, exist.
+     */
+    @Bean
+    public SmartInitializingSingleton migrationTimerRecovery(TimerRuntime runtime) {
+        return runtime::restorePersistentTimers;
+    }
+
+    @Bean
+    @Scope(BeanDefinition.SCOPE_PROTOTYPE)
+    @ConditionalOnMissingBean(TimerService.class)
+    public TimerService migrationTimerService(TimerRuntime runtime, InjectionPoint injectionPoint) {
+        Class<?> owner = injectionPoint.getField() != null
+            ? injectionPoint.getField().getDeclaringClass()
+            : injectionPoint.getMethodParameter().getContainingClass();
+        return runtime.timerService(owner);
+    }
+}
@@ -0,0 +1,132 @@
+package com.github.migration.timer.runtime;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Settings of the timer runtime ({@code migration.timer.runtime.*}).
+ */
+@ConfigurationProperties(prefix = "migration.timer.runtime")
+public class TimerRuntimeProperties {
+
+    /**
+     * Resolution of the timing wheels; timeouts fire at most one tick late.
+     */
+    private Duration tickDuration = Duration.ofMillis(10);
+
+    /**
+     * log2 of the slots per wheel level.
+     */
+    private int wheelBits = 8;
+
+    /**
+     * Number of wheel levels. With the defaults, 4 levels of 256 slots cover about 497 days
+     * before a timeout needs an extra top-level rotation.
+     */
+    private int levels = 4;
+
+    /**
+     * Number of scheduler threads, one timing wheel each.
+     */
+    private int schedulerThreads = 2;
+
+    /**
+     * Run timeout callbacks on virtual threads when the JVM supports them.
+     */
+    private boolean virtualThreads = true;
+
+    private final Journal journal = new Journal();
+
+    public Duration getTickDuration() {
+        return tickDuration;
+    }
+
+    public void setTickDuration(Duration tickDuration) {
+        this.tickDuration = tickDuration;
+    }
+
+    public int getWheelBits() {
+        return wheelBits;
+    }
+
+    public void setWheelBits(int wheelBits) {
+        this.wheelBits = wheelBits;
+    }
+
+    public int getLevels() {
+        return levels;
+    }
+
+    public void setLevels(int levels) {
+        this.levels = levels;
+    }
+
+    public int getSchedulerThreads() {
+        return schedulerThreads;
+    }
+
+    public void setSchedulerThreads(int schedulerThreads) {
+        this.schedulerThreads = schedulerThreads;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    public Journal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Settings of the journal of persistent timers ({@code migration.timer.runtime.journal.*}).
+     */
+    public static class Journal {
+
+        /**
+         * Directory of the journal file. Without a directory, persistent timers are kept in memory only.
+         */
+        private Path directory;
+
+        /**
+         * Initial size of the memory-mapped journal file; the mapping doubles when full.
+         */
+        private DataSize initialSize = DataSize.ofMegabytes(16);
+
+        /**
+         * Journal size from which cancelled and expired timers are compacted away, once they make up more than
+         * half of the journal.
+         */
+        private DataSize compactionThreshold = DataSize.ofMegabytes(64);
+
+        public Path getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(Path directory) {
+            this.directory = directory;
+        }
+
+        public DataSize getInitialSize() {
+            return initialSize;
+        }
+
+        public void setInitialSize(DataSize initialSize) {
+            this.initialSize = initialSize;
+        }
+
+        public DataSize getCompactionThreshold() {
+            return compactionThreshold;
+        }
+
+        public void setCompactionThreshold(DataSize compactionThreshold) {
+            this.compactionThreshold = compactionThreshold;
+        }
+    }
+}
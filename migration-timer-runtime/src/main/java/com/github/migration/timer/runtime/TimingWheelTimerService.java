@@ -0,0 +1,128 @@
+package com.github.migration.timer.runtime;
+
+import com.github.migration.timer.ScheduleExpression;
+import com.github.migration.timer.Timer;
+import com.github.migration.timer.TimerConfig;
+import com.github.migration.timer.TimerService;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+
+/**
+ * {@link TimerService} of one bean class, backed by the shared {@link TimerRuntime}.
+ * <p>
+ * Timers created here call the timeout method of the owning bean and are listed by {@link #getTimers()}.
+ * Timers are persistent by default, as in EJB.
+ */
+public class TimingWheelTimerService implements TimerService {
+
+    private final TimerRuntime runtime;
+    private final Class<?> owner;
+
+    public TimingWheelTimerService(TimerRuntime runtime, Class<?> owner) {
+        this.runtime = runtime;
+        this.owner = owner;
+    }
+
+    /**
+     * Returns the bean class whose timeout method the timers of this service call.
+     */
+    public Class<?> getOwner() {
+        return owner;
+    }
+
+    @Override
+    public Timer createTimer(long duration, Serializable info) {
+        return createSingleActionTimer(duration, new TimerConfig(info, true));
+    }
+
+    @Override
+    public Timer createTimer(Date expiration, Serializable info) {
+        return createSingleActionTimer(expiration, new TimerConfig(info, true));
+    }
+
+    @Override
+    public Timer createTimer(long initialDuration, long intervalDuration, Serializable info) {
+        return createIntervalTimer(initialDuration, intervalDuration, new TimerConfig(info, true));
+    }
+
+    @Override
+    public Timer createTimer(Date initialExpiration, long intervalDuration, Serializable info) {
+        return createIntervalTimer(initialExpiration, intervalDuration, new TimerConfig(info, true));
+    }
+
+    @Override
+    public Timer createSingleActionTimer(long duration, TimerConfig timerConfig) {
+        requireNotNegative(duration, "duration");
+        return create(runtime.clock().instant().plusMillis(duration), 0, null, timerConfig);
+    }
+
+    @Override
+    public Timer createSingleActionTimer(Date expiration, TimerConfig timerConfig) {
+        requireValidDate(expiration, "expiration");
+        return create(expiration.toInstant(), 0, null, timerConfig);
+    }
+
+    @Override
+    public Timer createIntervalTimer(long initialDuration, long intervalDuration, TimerConfig timerConfig) {
+        requireNotNegative(initialDuration, "initialDuration");
+        requirePositive(intervalDuration);
+        return create(runtime.clock().instant().plusMillis(initialDuration), intervalDuration, null, timerConfig);
+    }
+
+    @Override
+    public Timer createIntervalTimer(Date initialExpiration, long intervalDuration, TimerConfig timerConfig) {
+        requireValidDate(initialExpiration, "initialExpiration");
+        requirePositive(intervalDuration);
+        return create(initialExpiration.toInstant(), intervalDuration, null, timerConfig);
+    }
+
+    @Override
+    public Timer createCalendarTimer(ScheduleExpression schedule) {
+        return createCalendarTimer(schedule, new TimerConfig());
+    }
+
+    @Override
+    public Timer createCalendarTimer(ScheduleExpression schedule, TimerConfig timerConfig) {
+        if (schedule == null) {
+            throw new IllegalArgumentException("schedule must not be null");
+        }
+        return create(null, 0, schedule, timerConfig);
+    }
+
+    @Override
+    public Collection<Timer> getTimers() {
+        return runtime.getTimers(owner);
+    }
+
+    @Override
+    public Collection<Timer> getAllTimers() {
+        return runtime.getAllTimers();
+    }
+
+    private Timer create(Instant firstTimeout, long intervalMillis, ScheduleExpression schedule, TimerConfig config) {
+        TimerConfig effective = config != null ? config : new TimerConfig();
+        return runtime.createTimer(owner, firstTimeout, intervalMillis, schedule,
+            effective.getInfo(), effective.isPersistent());
+    }
+
+    private static void requireNotNegative(long value, String name) {
+        if (value < 0) {
+            throw new IllegalArgumentException(name + " must not be negative: " + value);
+        }
+    }
+
+    private static void requirePositive(long intervalDuration) {
+        if (intervalDuration <= 0) {
+            throw new IllegalArgumentException("intervalDuration must be positive: " + intervalDuration);
+        }
+    }
+
+    private static void requireValidDate(Date date, String name) {
+        if (date == null || date.getTime() < 0) {
+            throw new IllegalArgumentException(name + " must be a valid date: " + date);
+        }
+    }
+}
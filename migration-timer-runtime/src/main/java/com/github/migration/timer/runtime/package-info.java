@@ -0,0 +1,14 @@
+/**
+ * Spring-managed runtime for the {@link com.github.migration.timer.TimerService} migration API.
+ * <p>
+ * Adding this module to a migrated application registers {@link
+ * com.github.migration.timer.runtime.TimerRuntimeAutoConfiguration}: programmatic timers created through the
+ * injected {@code TimerService} then fire and call the bean's {@code @Timeout} method, so the bean no longer needs
+ * the {@code manual-migration} profile. Persistent timers survive a restart when
+ * {@code migration.timer.runtime.journal.directory} is set; they are then kept in an append-only journal on local
+ * disk, which suits single-node services. Clustered services still need the Quartz JDBC migration.
+ *
+ * @see com.github.migration.timer.runtime.TimerRuntime
+ * @see com.github.migration.timer.runtime.HashedTimingWheel
+ */
+package com.github.migration.timer.runtime;
@@ -0,0 +1,87 @@
+package com.github.migration.timer.runtime;
+
+import com.github.migration.annotations.EjbTimeout;
+import com.github.migration.timer.Timer;
+import com.github.migration.timer.TimerConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BeanTimeoutInvokerTest {
+
+    private static final List<String> CALLS = new CopyOnWriteArrayList<>();
+
+    private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+    private final BeanTimeoutInvoker invoker = new BeanTimeoutInvoker(beanFactory);
+
+    @Test
+    void invokesOwnerWhenASubclassBeanIsAlsoRegistered() throws Exception {
+        CALLS.clear();
+        beanFactory.registerSingleton("reports", new Reports());
+        beanFactory.registerSingleton("monthlyReports", new MonthlyReports());
+
+        invoker.invoke(Reports.class, null);
+        invoker.invoke(MonthlyReports.class, null);
+
+        assertThat(CALLS).containsExactly("Reports", "MonthlyReports");
+    }
+
+    @Test
+    void rejectsOwnerWithSeveralBeans() {
+        beanFactory.registerSingleton("first", new Reports());
+        beanFactory.registerSingleton("second", new Reports());
+
+        assertThatThrownBy(() -> invoker.invoke(Reports.class, null))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("first")
+            .hasMessageContaining("second");
+    }
+
+    @Test
+    void firesMigratedTimeoutMethodThroughRuntime() {
+        CALLS.clear();
+        beanFactory.registerSingleton("reminders", new Reminders());
+        AtomicLong nanos = new AtomicLong();
+        HashedTimingWheel wheel = new HashedTimingWheel(Duration.ofMillis(1), 4, 3, Runnable::run, nanos::get);
+        TimerRuntime runtime = new TimerRuntime(List.of(wheel), invoker, Clock.systemUTC());
+
+        runtime.timerService(Reminders.class).createSingleActionTimer(5, new TimerConfig("remind", false));
+        for (int i = 0; i < 5; i++) {
+            nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+            wheel.advance();
+        }
+
+        assertThat(CALLS).containsExactly("remind");
+        runtime.close();
+    }
+
+    /**
+     * A former {@code @Timeout} bean as MapEjbAnnotationsToMarkers leaves it.
+     */
+    static class Reminders {
+
+        @EjbTimeout
+        public void remind(Timer timer) {
+            CALLS.add((String) timer.getInfo());
+        }
+    }
+
+    static class Reports {
+
+        public void ejbTimeout(Timer timer) {
+            CALLS.add(getClass().getSimpleName());
+        }
+    }
+
+    static class MonthlyReports extends Reports {
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.migration.timer.runtime;
+
+import com.github.migration.timer.CompiledSchedule;
+import com.github.migration.timer.ScheduleExpression;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CalendarScheduleTest {
+
+    @Test
+    void lastDayAndOrdinals() {
+        assertThat(timeouts(utc().hour("2").minute("30").dayOfMonth("Last"), "2024-01-15T00:00:00Z", 3))
+            .containsExactly("2024-01-31T02:30:00Z", "2024-02-29T02:30:00Z", "2024-03-31T02:30:00Z");
+        assertThat(timeouts(utc().dayOfMonth("-3"), "2024-02-01T00:00:00Z", 2))
+            .containsExactly("2024-02-26T00:00:00Z", "2024-03-28T00:00:00Z");
+        assertThat(timeouts(utc().dayOfMonth("2nd Tue"), "2024-01-01T00:00:00Z", 2))
+            .containsExactly("2024-01-09T00:00:00Z", "2024-02-13T00:00:00Z");
+        assertThat(timeouts(utc().dayOfMonth("Last Fri"), "2024-01-01T00:00:00Z", 2))
+            .containsExactly("2024-01-26T00:00:00Z", "2024-02-23T00:00:00Z");
+    }
+
+    @Test
+    void eitherDayFieldMatches() {
+        assertThat(timeouts(utc().dayOfMonth("1,15").dayOfWeek("Sun"), "2024-01-10T00:00:00Z", 4))
+            .containsExactly("2024-01-14T00:00:00Z", "2024-01-15T00:00:00Z", "2024-01-21T00:00:00Z",
+                "2024-01-28T00:00:00Z");
+    }
+
+    @Test
+    void wrappingRangesIncrementsAndYears() {
+        assertThat(timeouts(utc().hour("22-1"), "2024-01-01T00:30:00Z", 3))
+            .containsExactly("2024-01-01T01:00:00Z", "2024-01-01T22:00:00Z", "2024-01-01T23:00:00Z");
+        assertThat(timeouts(utc().hour("*").minute("*/20"), "2024-01-01T00:00:00Z", 3))
+            .containsExactly("2024-01-01T00:20:00Z", "2024-01-01T00:40:00Z", "2024-01-01T01:00:00Z");
+        ScheduleExpression newYearsNoon = utc().hour("12").dayOfMonth("1").month("Jan").year("2025, 2027");
+        assertThat(timeouts(newYearsNoon, "2024-06-01T00:00:00Z", 3))
+            .containsExactly("2025-01-01T12:00:00Z", "2027-01-01T12:00:00Z");
+    }
+
+    @Test
+    void honoursTimezoneStartAndEnd() {
+        ScheduleExpression newYork = new ScheduleExpression().timezone("America/New_York").hour("2").minute("30")
+            .start(Date.from(Instant.parse("2024-03-10T00:00:00Z")))
+            .end(Date.from(Instant.parse("2024-03-12T12:00:00Z")));
+
+        // 02:30 does not exist on 2024-03-10 and shifts to 03:30 EDT
+        assertThat(timeouts(newYork, "2024-01-01T00:00:00Z", 3))
+            .containsExactly("2024-03-10T07:30:00Z", "2024-03-11T06:30:00Z", "2024-03-12T06:30:00Z");
+    }
+
+    @Test
+    void rendersSpringCron() {
+        assertThat(CompiledSchedule.compile(utc().minute("0").hour("8").dayOfWeek("Mon-Fri")).toSpringCron())
+            .isEqualTo("0 0 8 * * Mon-Fri");
+        assertThat(CompiledSchedule.compile(utc().dayOfMonth("Last Fri")).toSpringCron())
+            .isEqualTo("0 0 0 * * 5L");
+        assertThat(CompiledSchedule.compile(utc().dayOfMonth("1").dayOfWeek("Mon")).isCronExpressible()).isFalse();
+        assertThat(CompiledSchedule.compile(utc().year("2030")).isCronExpressible()).isFalse();
+    }
+
+    @Test
+    void rejectsInvalidFields() {
+        assertThatThrownBy(() -> new CalendarSchedule(utc().second("60")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("second");
+        assertThatThrownBy(() -> new CalendarSchedule(utc().dayOfMonth("6th Mon")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CalendarSchedule(utc().timezone("Mars/Olympus")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ScheduleExpression utc() {
+        return new ScheduleExpression().timezone("UTC");
+    }
+
+    private static List<String> timeouts(ScheduleExpression expression, String after, int count) {
+        CalendarSchedule schedule = new CalendarSchedule(expression);
+        List<String> timeouts = new ArrayList<>();
+        Instant next = Instant.parse(after);
+        while (timeouts.size() < count && (next = schedule.next(next)) != null) {
+            timeouts.add(next.toString());
+        }
+        return timeouts;
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.migration.timer.runtime;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HashedTimingWheelTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    void firesInTickOfDeadline() {
+        HashedTimingWheel wheel = wheel(8, 2);
+        AtomicInteger runs = new AtomicInteger();
+        wheel.schedule(runs::incrementAndGet, 3, TimeUnit.MILLISECONDS);
+
+        advance(wheel, 2);
+        assertThat(runs).hasValue(0);
+        assertThat(wheel.pendingTimeouts()).isEqualTo(1);
+
+        advance(wheel, 1);
+        assertThat(runs).hasValue(1);
+        assertThat(wheel.pendingTimeouts()).isZero();
+    }
+
+    @Test
+    void cascadesDelaysBeyondFirstLevel() {
+        // 4 slots per level, 3 levels: 37 ticks start on level 2 and cascade twice
+        HashedTimingWheel wheel = wheel(2, 3);
+        AtomicInteger runs = new AtomicInteger();
+        wheel.schedule(runs::incrementAndGet, 37, TimeUnit.MILLISECONDS);
+
+        advance(wheel, 36);
+        assertThat(runs).hasValue(0);
+
+        advance(wheel, 1);
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void keepsDelaysBeyondTopLevelForLaterRotations() {
+        // 2 levels of 4 slots span 16 ticks
+        HashedTimingWheel wheel = wheel(2, 2);
+        AtomicInteger runs = new AtomicInteger();
+        wheel.schedule(runs::incrementAndGet, 100, TimeUnit.MILLISECONDS);
+
+        advance(wheel, 99);
+        assertThat(runs).hasValue(0);
+
+        advance(wheel, 1);
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void cancelledTaskNeverRuns() {
+        HashedTimingWheel wheel = wheel(8, 2);
+        AtomicInteger runs = new AtomicInteger();
+        HashedTimingWheel.Timeout timeout = wheel.schedule(runs::incrementAndGet, 5, TimeUnit.MILLISECONDS);
+        wheel.schedule(runs::incrementAndGet, 5, TimeUnit.MILLISECONDS);
+
+        assertThat(timeout.cancel()).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+        assertThat(timeout.isCancelled()).isTrue();
+        assertThat(wheel.pendingTimeouts()).isEqualTo(1);
+
+        advance(wheel, 5);
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void rejectsTasksAfterClose() {
+        HashedTimingWheel wheel = wheel(8, 2);
+        wheel.close();
+
+        assertThatThrownBy(() -> wheel.schedule(() -> { }, 1, TimeUnit.MILLISECONDS))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private HashedTimingWheel wheel(int wheelBits, int levels) {
+        return new HashedTimingWheel(Duration.ofMillis(1), wheelBits, levels, Runnable::run, nanos::get);
+    }
+
+    private void advance(HashedTimingWheel wheel, int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+            wheel.advance();
+        }
+    }
+}
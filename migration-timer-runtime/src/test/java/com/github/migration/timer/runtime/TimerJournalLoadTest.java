@@ -0,0 +1,81 @@
+package com.github.migration.timer.runtime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures create/cancel throughput and recovery time of the journal for one million timers.
+ * <p>
+ * Not part of the regular build; run with
+ * {@code mvn -pl migration-timer-runtime test -Dtest=TimerJournalLoadTest -Dtimer.journal.load=true}.
+ */
+@EnabledIfSystemProperty(named = "timer.journal.load", matches = "true")
+class TimerJournalLoadTest {
+
+    private static final int TIMERS = 1_000_000;
+    private static final int THREADS = 64;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void createCancelAndRecoverOneMillionTimers() throws InterruptedException {
+        TimerJournal journal = open().getJournal();
+
+        long created = run(id -> journal.recordCreated(
+            new TimerJournal.Entry("timer-" + id, "com.example.Orders", 1_000, 0, null, id)));
+        // Cancel every other timer, so recovery replays dead frames and compacts
+        long cancelled = run(id -> {
+            if (id % 2 == 0) {
+                journal.recordRemoved("timer-" + id);
+            }
+        });
+        journal.close();
+
+        long start = System.nanoTime();
+        TimerJournal.Recovery recovery = open();
+        long recovered = System.nanoTime() - start;
+
+        assertThat(recovery.getEntries()).hasSize(TIMERS / 2);
+        recovery.getJournal().close();
+        System.out.printf("Journal with %d threads: %,d creates/s, %,d cancels/s, recovery of %,d live timers in %d ms%n",
+            THREADS, perSecond(TIMERS, created), perSecond(TIMERS / 2, cancelled), TIMERS / 2,
+            TimeUnit.NANOSECONDS.toMillis(recovered));
+    }
+
+    /**
+     * Runs the action for every timer id on {@value #THREADS} threads, so appends share their flushes.
+     *
+     * @return the elapsed nanoseconds
+     */
+    private static long run(IntConsumer action) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long start = System.nanoTime();
+        IntStream.range(0, THREADS).forEach(thread -> executor.execute(() -> {
+            for (int id = thread; id < TIMERS; id += THREADS) {
+                action.accept(id);
+            }
+        }));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.MINUTES)).isTrue();
+        return System.nanoTime() - start;
+    }
+
+    private static long perSecond(int operations, long nanos) {
+        return operations * TimeUnit.SECONDS.toNanos(1) / Math.max(1, nanos);
+    }
+
+    private TimerJournal.Recovery open() {
+        return TimerJournal.open(directory, 64 * 1024 * 1024, 1024L * 1024 * 1024, getClass().getClassLoader());
+    }
+}
@@ -0,0 +1,131 @@
+package com.github.migration.timer.runtime;
+
+import com.github.migration.timer.ScheduleExpression;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimerJournalTest {
+
+    private static final long MB = 1024 * 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recoversLiveTimersOnly() {
+        TimerJournal journal = open(MB).getJournal();
+        journal.recordCreated(entry("a", "first"));
+        journal.recordCreated(new TimerJournal.Entry("b", "com.example.Reports", 2_000, 0,
+            new ScheduleExpression().hour("6"), null));
+        journal.recordCreated(entry("c", "third"));
+        journal.recordRemoved("a");
+        journal.close();
+
+        TimerJournal.Recovery recovery = open(MB);
+
+        assertThat(recovery.getEntries()).extracting(TimerJournal.Entry::getId).containsExactly("b", "c");
+        TimerJournal.Entry calendar = recovery.getEntries().get(0);
+        assertThat(calendar.getOwnerClassName()).isEqualTo("com.example.Reports");
+        assertThat(calendar.getSchedule().getHour()).isEqualTo("6");
+        assertThat(recovery.getEntries().get(1).getInfo()).isEqualTo("third");
+        recovery.getJournal().close();
+    }
+
+    @Test
+    void recoveryRewritesJournalWithoutDeadFrames() {
+        TimerJournal journal = open(MB).getJournal();
+        for (int i = 0; i < 100; i++) {
+            journal.recordCreated(entry("timer-" + i, i));
+        }
+        for (int i = 0; i < 90; i++) {
+            journal.recordRemoved("timer-" + i);
+        }
+        long before = journal.size();
+        journal.close();
+
+        TimerJournal reopened = open(MB).getJournal();
+
+        assertThat(reopened.liveTimers()).isEqualTo(10);
+        assertThat(reopened.size()).isLessThan(before / 10);
+        reopened.close();
+    }
+
+    @Test
+    void compactsOnceMostOfTheJournalIsDead() {
+        TimerJournal journal = open(4096).getJournal();
+        for (int i = 0; i < 200; i++) {
+            journal.recordCreated(entry("timer-" + i, i));
+            journal.recordRemoved("timer-" + i);
+        }
+        journal.recordCreated(entry("kept", "kept"));
+
+        assertThat(journal.size()).isLessThan(8192);
+        assertThat(journal.liveTimers()).isEqualTo(1);
+        journal.close();
+    }
+
+    @Test
+    void cutsOffTornTail() throws IOException {
+        TimerJournal journal = open(MB).getJournal();
+        journal.recordCreated(entry("a", "first"));
+        long end = journal.size();
+        journal.recordCreated(entry("b", "second"));
+        journal.close();
+        try (FileChannel channel = FileChannel.open(directory.resolve(TimerJournal.FILE_NAME),
+                StandardOpenOption.WRITE)) {
+            // Corrupt the payload of the last frame as a crash in the middle of the write would
+            channel.write(ByteBuffer.wrap(new byte[] {0x7f, 0x7f, 0x7f}), end + 12);
+        }
+
+        TimerJournal.Recovery recovery = open(MB);
+        assertThat(recovery.getEntries()).extracting(TimerJournal.Entry::getId).containsExactly("a");
+
+        recovery.getJournal().recordCreated(entry("c", "third"));
+        recovery.getJournal().close();
+        TimerJournal.Recovery again = open(MB);
+        assertThat(again.getEntries()).extracting(TimerJournal.Entry::getId).containsExactly("a", "c");
+        again.getJournal().close();
+    }
+
+    @Test
+    void rejectsInfoThatCannotBeSerialized() {
+        TimerJournal journal = open(MB).getJournal();
+
+        assertThatThrownBy(() -> journal.recordCreated(entry("a", new ArrayList<>(List.of(new Object())))))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(journal.liveTimers()).isZero();
+        journal.close();
+    }
+
+    @Test
+    void refusesDirectoryHeldByAnotherRuntime() {
+        TimerJournal journal = open(MB).getJournal();
+
+        assertThatThrownBy(() -> open(MB))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("in use by another timer runtime");
+
+        journal.close();
+        open(MB).getJournal().close();
+    }
+
+    private TimerJournal.Recovery open(long compactionThreshold) {
+        return TimerJournal.open(directory, 64 * 1024, compactionThreshold, getClass().getClassLoader());
+    }
+
+    private static TimerJournal.Entry entry(String id, Serializable info) {
+        return new TimerJournal.Entry(id, "com.example.Orders", 1_000, 0, null, info);
+    }
+}
@@ -0,0 +1,148 @@
+package com.github.migration.timer.runtime;
+
+import com.github.migration.timer.Timer;
+import com.github.migration.timer.TimerConfig;
+import com.github.migration.timer.TimerService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimingWheelTimerServiceTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final List<Serializable> fired = new CopyOnWriteArrayList<>();
+    private final HashedTimingWheel wheel =
+        new HashedTimingWheel(Duration.ofMillis(1), 4, 3, Runnable::run, nanos::get);
+    private final TimerRuntime runtime =
+        new TimerRuntime(List.of(wheel), (owner, timer) -> fired.add(timer.getInfo()), new TestClock());
+
+    @Test
+    void singleActionTimerFiresOnceAndIsRemoved() {
+        TimerService service = runtime.timerService(Orders.class);
+        Timer timer = service.createSingleActionTimer(10, new TimerConfig("once", false));
+
+        assertThat(timer.getTimeRemaining()).isEqualTo(10);
+        advanceMillis(9);
+        assertThat(fired).isEmpty();
+
+        advanceMillis(1);
+        assertThat(fired).containsExactly("once");
+        assertThat(service.getTimers()).isEmpty();
+        assertThatThrownBy(timer::getInfo).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void intervalTimerFiresUntilCancelled() {
+        TimerService service = runtime.timerService(Orders.class);
+        Timer timer = service.createIntervalTimer(5, 20, new TimerConfig("tick", false));
+
+        advanceMillis(45);
+        assertThat(fired).containsExactly("tick", "tick", "tick");
+
+        timer.cancel();
+        advanceMillis(100);
+        assertThat(fired).hasSize(3);
+        assertThat(service.getTimers()).isEmpty();
+    }
+
+    @Test
+    void timersAreListedPerOwner() {
+        TimerService orders = runtime.timerService(Orders.class);
+        TimerService invoices = runtime.timerService(Invoices.class);
+        Timer order = orders.createTimer(1_000, "order");
+        invoices.createTimer(1_000, "invoice");
+
+        assertThat(orders.getTimers()).containsExactly(order);
+        assertThat(orders.getAllTimers()).hasSize(2);
+        assertThat(order.isPersistent()).isTrue();
+    }
+
+    @Test
+    void rejectsInvalidDurations() {
+        TimerService service = runtime.timerService(Orders.class);
+
+        assertThatThrownBy(() -> service.createTimer(-1, null))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.createIntervalTimer(0, 0, null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void persistentTimerIsRestoredAfterRestart(@TempDir Path journalDirectory) {
+        TimerRuntime first = new TimerRuntime(List.of(wheel), (owner, timer) -> fired.add(timer.getInfo()),
+            new TestClock(), openJournal(journalDirectory));
+        Timer timer = first.timerService(Orders.class).createTimer(50, "durable");
+        first.timerService(Orders.class).createSingleActionTimer(50, new TimerConfig("volatile", false));
+        first.close();
+
+        HashedTimingWheel restartedWheel = new HashedTimingWheel(Duration.ofMillis(1), 4, 3, Runnable::run, nanos::get);
+        TimerRuntime restarted = new TimerRuntime(List.of(restartedWheel),
+            (owner, restoredTimer) -> fired.add(restoredTimer.getInfo()), new TestClock(), openJournal(journalDirectory));
+        restarted.restorePersistentTimers();
+
+        assertThat(restarted.getTimers(Orders.class)).containsExactly(timer);
+        for (int i = 0; i < 50; i++) {
+            nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+            restartedWheel.advance();
+        }
+        assertThat(fired).containsExactly("durable");
+        assertThat(restarted.getTimers(Orders.class)).isEmpty();
+        restarted.close();
+
+        TimerJournal.Recovery afterExpiry = openJournal(journalDirectory);
+        assertThat(afterExpiry.getEntries()).isEmpty();
+        afterExpiry.getJournal().close();
+    }
+
+    private TimerJournal.Recovery openJournal(Path directory) {
+        return TimerJournal.open(directory, 64 * 1024, 1024 * 1024, getClass().getClassLoader());
+    }
+
+    private void advanceMillis(int millis) {
+        for (int i = 0; i < millis; i++) {
+            nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+            wheel.advance();
+        }
+    }
+
+    private static class Orders {
+    }
+
+    private static class Invoices {
+    }
+
+    /**
+     * Wall clock following the same fake nano time as the wheel.
+     */
+    private class TestClock extends Clock {
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(TimeUnit.NANOSECONDS.toMillis(nanos.get()));
+        }
+    }
+}